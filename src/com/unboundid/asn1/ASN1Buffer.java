@@ -42,6 +42,7 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -76,42 +77,19 @@ public final class ASN1Buffer
 
 
   /**
-   * An array that will be inserted when completing a sequence whose
-   * multi-byte length should be encoded with one byte for the header and one
-   * byte for the number of value bytes.
+   * The number of bytes reserved for the length of each sequence or set when
+   * it is started.  This is enough to hold the largest possible length.
    */
-  @NotNull private static final byte[] MULTIBYTE_LENGTH_HEADER_PLUS_ONE =
-       { (byte) 0x81, (byte) 0x00 };
+  private static final int LENGTH_SLOT_SIZE = 5;
 
 
 
   /**
-   * An array that will be inserted when completing a sequence whose
-   * multi-byte length should be encoded with one byte for the header and two
-   * bytes for the number of value bytes.
+   * An array containing the placeholder bytes that will be appended to reserve
+   * space for the length of a sequence or set.
    */
-  @NotNull private static final byte[] MULTIBYTE_LENGTH_HEADER_PLUS_TWO =
-       { (byte) 0x82, (byte) 0x00, (byte) 0x00 };
-
-
-
-  /**
-   * An array that will be inserted when completing a sequence whose
-   * multi-byte length should be encoded with one byte for the header and three
-   * bytes for the number of value bytes.
-   */
-  @NotNull private static final byte[] MULTIBYTE_LENGTH_HEADER_PLUS_THREE =
-       { (byte) 0x83, (byte) 0x00, (byte) 0x00, (byte) 0x00 };
-
-
-
-  /**
-   * An array that will be inserted when completing a sequence whose
-   * multi-byte length should be encoded with one byte for the header and four
-   * bytes for the number of value bytes.
-   */
-  @NotNull private static final byte[] MULTIBYTE_LENGTH_HEADER_PLUS_FOUR =
-       { (byte) 0x84, (byte) 0x00, (byte) 0x00, (byte) 0x00, (byte) 0x00 };
+  @NotNull private static final byte[] RESERVED_LENGTH_SLOT =
+       new byte[LENGTH_SLOT_SIZE];
 
 
 
@@ -129,6 +107,25 @@ public final class ASN1Buffer
   // The buffer to which all data will be written.
   @NotNull private final ByteStringBuffer buffer;
 
+  // The unused portions of the length slots reserved for sequences and sets
+  // that have been ended but not yet compacted.  Each value holds the position
+  // of the unused bytes in the upper 32 bits and the number of unused bytes in
+  // the lower 32 bits.
+  @NotNull private long[] gaps;
+
+  // The value of totalGapBytes at the time each sequence or set that has not
+  // yet been ended was started, in the order in which they were started.
+  @NotNull private int[] openGapTotals;
+
+  // The number of gaps that have not yet been compacted.
+  private int numGaps;
+
+  // The number of sequences and sets that have been started but not yet ended.
+  private int numOpen;
+
+  // The total number of unused bytes in gaps that have not yet been compacted.
+  private int totalGapBytes;
+
   // The maximum buffer size that should be retained.
   private final int maxBufferSize;
 
@@ -161,6 +158,11 @@ public final class ASN1Buffer
 
     buffer            = new ByteStringBuffer();
     zeroBufferOnClear = new AtomicBoolean(false);
+    gaps              = new long[10];
+    openGapTotals     = new int[10];
+    numGaps           = 0;
+    numOpen           = 0;
+    totalGapBytes     = 0;
   }
 
 
@@ -199,6 +201,9 @@ public final class ASN1Buffer
   public void clear()
   {
     buffer.clear(zeroBufferOnClear.getAndSet(false));
+    numGaps       = 0;
+    numOpen       = 0;
+    totalGapBytes = 0;
 
     if ((maxBufferSize > 0) && (buffer.capacity() > maxBufferSize))
     {
@@ -209,7 +214,10 @@ public final class ASN1Buffer
 
 
   /**
-   * Retrieves the current length of this buffer in bytes.
+   * Retrieves the current length of this buffer in bytes.  If there are any
+   * sequences or sets that have been started but not yet ended, then the
+   * length may include space that has been reserved for encoding their
+   * lengths.
    *
    * @return  The current length of this buffer in bytes.
    */
@@ -220,6 +228,20 @@ public final class ASN1Buffer
 
 
 
+  /**
+   * Retrieves the number of bytes that this buffer can hold without needing to
+   * grow.
+   *
+   * @return  The number of bytes that this buffer can hold without needing to
+   *          grow.
+   */
+  public int capacity()
+  {
+    return buffer.capacity();
+  }
+
+
+
   /**
    * Adds the provided ASN.1 element to this ASN.1 buffer.
    *
@@ -916,6 +938,7 @@ public final class ASN1Buffer
   public ASN1BufferSequence beginSequence(final byte type)
   {
     buffer.append(type);
+    reserveLengthSlot();
     return new ASN1BufferSequence(this);
   }
 
@@ -951,64 +974,147 @@ public final class ASN1Buffer
   public ASN1BufferSet beginSet(final byte type)
   {
     buffer.append(type);
+    reserveLengthSlot();
     return new ASN1BufferSet(this);
   }
 
 
 
   /**
-   * Ensures that the appropriate length is inserted into the internal buffer
+   * Reserves space in the internal buffer for the length of a sequence or set
+   * that is being started.  Rather than inserting the length in front of the
+   * value once it is known (which would require shifting everything written
+   * after it, once for each level of nesting), the length will be written into
+   * the reserved space, and any unused reserved bytes will be removed in a
+   * single pass once all sequences and sets have been ended.
+   */
+  private void reserveLengthSlot()
+  {
+    if (numOpen == openGapTotals.length)
+    {
+      openGapTotals = Arrays.copyOf(openGapTotals, (numOpen * 2));
+    }
+
+    openGapTotals[numOpen++] = totalGapBytes;
+    buffer.append(RESERVED_LENGTH_SLOT);
+  }
+
+
+
+  /**
+   * Ensures that the appropriate length is written into the internal buffer
    * after all elements in a sequence or set have been added.
    *
    * @param  valueStartPos  The position in which the first value was added.
    */
   void endSequenceOrSet(final int valueStartPos)
   {
-    final int length = buffer.length() - valueStartPos;
-    if (length == 0)
-    {
-      buffer.append((byte) 0x00);
-      return;
-    }
-
+    // The gaps that have been added since this sequence or set was started
+    // will all be in its value, and will be removed when it is compacted.
+    numOpen--;
+    final int gapBytesInValue = totalGapBytes - openGapTotals[numOpen];
+    final int length = buffer.length() - valueStartPos - gapBytesInValue;
+
+    final byte[] backingArray = buffer.getBackingArray();
+    final int slotPos = valueStartPos - LENGTH_SLOT_SIZE;
+    final int lengthBytes;
     if ((length & 0x7F) == length)
     {
-      buffer.insert(valueStartPos, (byte) length);
+      backingArray[slotPos] = (byte) length;
+      lengthBytes = 1;
     }
     else if ((length & 0xFF) == length)
     {
-      buffer.insert(valueStartPos, MULTIBYTE_LENGTH_HEADER_PLUS_ONE);
-
-      final byte[] backingArray = buffer.getBackingArray();
-      backingArray[valueStartPos+1] = (byte) (length & 0xFF);
+      backingArray[slotPos]   = (byte) 0x81;
+      backingArray[slotPos+1] = (byte) (length & 0xFF);
+      lengthBytes = 2;
     }
     else if ((length & 0xFFFF) == length)
     {
-      buffer.insert(valueStartPos, MULTIBYTE_LENGTH_HEADER_PLUS_TWO);
-
-      final byte[] backingArray = buffer.getBackingArray();
-      backingArray[valueStartPos+1] = (byte) ((length >> 8) & 0xFF);
-      backingArray[valueStartPos+2] = (byte) (length & 0xFF);
+      backingArray[slotPos]   = (byte) 0x82;
+      backingArray[slotPos+1] = (byte) ((length >> 8) & 0xFF);
+      backingArray[slotPos+2] = (byte) (length & 0xFF);
+      lengthBytes = 3;
     }
     else if ((length & 0x00FF_FFFF) == length)
     {
-      buffer.insert(valueStartPos, MULTIBYTE_LENGTH_HEADER_PLUS_THREE);
-
-      final byte[] backingArray = buffer.getBackingArray();
-      backingArray[valueStartPos+1] = (byte) ((length >> 16) & 0xFF);
-      backingArray[valueStartPos+2] = (byte) ((length >> 8) & 0xFF);
-      backingArray[valueStartPos+3] = (byte) (length & 0xFF);
+      backingArray[slotPos]   = (byte) 0x83;
+      backingArray[slotPos+1] = (byte) ((length >> 16) & 0xFF);
+      backingArray[slotPos+2] = (byte) ((length >> 8) & 0xFF);
+      backingArray[slotPos+3] = (byte) (length & 0xFF);
+      lengthBytes = 4;
     }
     else
     {
-      buffer.insert(valueStartPos, MULTIBYTE_LENGTH_HEADER_PLUS_FOUR);
+      backingArray[slotPos]   = (byte) 0x84;
+      backingArray[slotPos+1] = (byte) ((length >> 24) & 0xFF);
+      backingArray[slotPos+2] = (byte) ((length >> 16) & 0xFF);
+      backingArray[slotPos+3] = (byte) ((length >> 8) & 0xFF);
+      backingArray[slotPos+4] = (byte) (length & 0xFF);
+      lengthBytes = 5;
+    }
+
+    final int gapSize = LENGTH_SLOT_SIZE - lengthBytes;
+    if (gapSize > 0)
+    {
+      if (numGaps == gaps.length)
+      {
+        gaps = Arrays.copyOf(gaps, (numGaps * 2));
+      }
+
+      gaps[numGaps++] = (((long) (slotPos + lengthBytes)) << 32) | gapSize;
+      totalGapBytes += gapSize;
+    }
+
+    if ((numOpen == 0) && (numGaps > 0))
+    {
+      compact();
+    }
+  }
+
+
+
+  /**
+   * Removes all of the unused bytes from the length slots of the sequences and
+   * sets that have been ended.  Each byte after the first gap will be moved at
+   * most once.  This must only be called when there are no open sequences or
+   * sets.
+   */
+  private void compact()
+  {
+    // Gaps are recorded as each sequence or set is ended, so an enclosing
+    // sequence's gap will be recorded after the gaps for the elements it
+    // contains.  Sort them so that they are in order of position.
+    Arrays.sort(gaps, 0, numGaps);
+
+    final byte[] backingArray = buffer.getBackingArray();
+    final int bufferLength = buffer.length();
+    int writePos = (int) (gaps[0] >>> 32);
+    for (int i=0; i < numGaps; i++)
+    {
+      final int gapPos = (int) (gaps[i] >>> 32);
+      final int gapSize = (int) (gaps[i] & 0xFFFF_FFFFL);
+      final int readPos = gapPos + gapSize;
+
+      final int readEndPos;
+      if ((i + 1) < numGaps)
+      {
+        readEndPos = (int) (gaps[i+1] >>> 32);
+      }
+      else
+      {
+        readEndPos = bufferLength;
+      }
 
-      final byte[] backingArray = buffer.getBackingArray();
-      backingArray[valueStartPos+1] = (byte) ((length >> 24) & 0xFF);
-      backingArray[valueStartPos+2] = (byte) ((length >> 16) & 0xFF);
-      backingArray[valueStartPos+3] = (byte) ((length >> 8) & 0xFF);
-      backingArray[valueStartPos+4] = (byte) (length & 0xFF);
+      final int bytesToMove = readEndPos - readPos;
+      System.arraycopy(backingArray, readPos, backingArray, writePos,
+           bytesToMove);
+      writePos += bytesToMove;
     }
+
+    buffer.setLength(writePos);
+    numGaps = 0;
+    totalGapBytes = 0;
   }
 
 
@@ -0,0 +1,479 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a bounded pool of {@link ASN1Buffer} instances that may
+ * be shared by any number of threads.  Buffers that are returned to the pool
+ * are grouped into size classes by capacity, where each size class holds
+ * buffers up to twice as large as the previous one.  When a buffer is
+ * borrowed, the smallest available buffer will be used, so that the large
+ * buffers needed for occasional large messages are only used when no smaller
+ * buffer is available.
+ * <BR><BR>
+ * The pool limits both the capacity of the individual buffers that it will
+ * retain and the total number of bytes held by all retained buffers.  A
+ * buffer that is returned to the pool will be released for garbage collection
+ * rather than retained if its capacity exceeds the maximum buffer size, or if
+ * retaining it would cause the total retained capacity to exceed the maximum
+ * retained size.  This ensures that the amount of memory held by the pool
+ * does not depend on the number of threads that use it.
+ * <BR><BR>
+ * Every buffer obtained with the {@link #borrow} method should be passed to
+ * the {@link #release} method once it is no longer needed, and must not be
+ * used after it has been released.  Buffers are cleared when they are
+ * released, so any data they contain that has been flagged for zeroing will
+ * be wiped before the buffer can be borrowed again.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class ASN1BufferPool
+       implements Serializable
+{
+  /**
+   * The default maximum capacity, in bytes, for buffers retained in the pool.
+   */
+  public static final int DEFAULT_MAX_BUFFER_SIZE = 1_048_576;
+
+
+
+  /**
+   * The default maximum total capacity, in bytes, of all buffers retained in
+   * the pool.
+   */
+  public static final long DEFAULT_MAX_RETAINED_BYTES = 8_388_608L;
+
+
+
+  /**
+   * The base-two logarithm of the capacity of the buffers in the smallest
+   * size class.
+   */
+  private static final int SMALLEST_SIZE_CLASS_SHIFT = 10;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 5567463171292638747L;
+
+
+
+  // The number of buffers that have been created because no pooled buffer was
+  // available.
+  @NotNull private final AtomicLong numBuffersCreated;
+
+  // The number of buffers that have been released for garbage collection
+  // because their capacity exceeded the maximum buffer size.
+  @NotNull private final AtomicLong numReleasedOversized;
+
+  // The number of buffers that have been released for garbage collection
+  // because retaining them would have exceeded the maximum retained size.
+  @NotNull private final AtomicLong numReleasedOverBudget;
+
+  // The number of buffers that have been returned to the pool for reuse.
+  @NotNull private final AtomicLong numReleasedToPool;
+
+  // The number of borrow requests satisfied with a pooled buffer.
+  @NotNull private final AtomicLong numReusedBuffers;
+
+  // The total capacity of all buffers currently retained in the pool.
+  @NotNull private final AtomicLong retainedBytes;
+
+  // The number of buffers currently retained in the pool.
+  @NotNull private final AtomicInteger numRetainedBuffers;
+
+  // The buffers retained in each size class, from smallest to largest.
+  @NotNull private final ConcurrentLinkedDeque<ASN1Buffer>[] sizeClasses;
+
+  // The maximum capacity for buffers retained in the pool.
+  private final int maxBufferSize;
+
+  // The maximum total capacity of all buffers retained in the pool.
+  private final long maxRetainedBytes;
+
+
+
+  /**
+   * Creates a new ASN.1 buffer pool with the default maximum buffer size and
+   * the default maximum retained size.
+   */
+  public ASN1BufferPool()
+  {
+    this(DEFAULT_MAX_BUFFER_SIZE, DEFAULT_MAX_RETAINED_BYTES);
+  }
+
+
+
+  /**
+   * Creates a new ASN.1 buffer pool with the provided settings.
+   *
+   * @param  maxBufferSize     The maximum capacity, in bytes, for buffers that
+   *                           will be retained in the pool.  Buffers may grow
+   *                           beyond this size while they are in use, but will
+   *                           not be retained when they are released.  It
+   *                           must be greater than zero.
+   * @param  maxRetainedBytes  The maximum total capacity, in bytes, of all
+   *                           buffers retained in the pool.  It must be
+   *                           greater than or equal to zero.  A value of zero
+   *                           indicates that no buffers should be retained.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public ASN1BufferPool(final int maxBufferSize, final long maxRetainedBytes)
+  {
+    Validator.ensureTrue((maxBufferSize > 0),
+         "ASN1BufferPool.maxBufferSize must be greater than zero.");
+    Validator.ensureTrue((maxRetainedBytes >= 0L),
+         "ASN1BufferPool.maxRetainedBytes must not be negative.");
+
+    this.maxBufferSize    = maxBufferSize;
+    this.maxRetainedBytes = maxRetainedBytes;
+
+    sizeClasses = new ConcurrentLinkedDeque[getSizeClass(maxBufferSize) + 1];
+    for (int i=0; i < sizeClasses.length; i++)
+    {
+      sizeClasses[i] = new ConcurrentLinkedDeque<>();
+    }
+
+    numBuffersCreated     = new AtomicLong(0L);
+    numReleasedOversized  = new AtomicLong(0L);
+    numReleasedOverBudget = new AtomicLong(0L);
+    numReleasedToPool     = new AtomicLong(0L);
+    numReusedBuffers      = new AtomicLong(0L);
+    retainedBytes         = new AtomicLong(0L);
+    numRetainedBuffers    = new AtomicInteger(0);
+  }
+
+
+
+  /**
+   * Retrieves an empty buffer from the pool, or creates a new buffer if the
+   * pool does not have one available.  The buffer should be passed to the
+   * {@link #release} method when it is no longer needed.
+   *
+   * @return  An empty buffer.
+   */
+  @NotNull()
+  public ASN1Buffer borrow()
+  {
+    for (final ConcurrentLinkedDeque<ASN1Buffer> sizeClass : sizeClasses)
+    {
+      final ASN1Buffer buffer = sizeClass.pollFirst();
+      if (buffer != null)
+      {
+        numRetainedBuffers.decrementAndGet();
+        retainedBytes.addAndGet(-buffer.capacity());
+        numReusedBuffers.incrementAndGet();
+        return buffer;
+      }
+    }
+
+    numBuffersCreated.incrementAndGet();
+    return new ASN1Buffer(0);
+  }
+
+
+
+  /**
+   * Clears the provided buffer and returns it to the pool, or releases it for
+   * garbage collection if it is too large or if retaining it would exceed the
+   * maximum retained size for the pool.  The buffer must not be used after it
+   * has been released.
+   *
+   * @param  buffer  The buffer to release.  It must not be {@code null}.
+   */
+  public void release(@NotNull final ASN1Buffer buffer)
+  {
+    buffer.clear();
+
+    final int capacity = buffer.capacity();
+    if (capacity > maxBufferSize)
+    {
+      numReleasedOversized.incrementAndGet();
+      return;
+    }
+
+    while (true)
+    {
+      final long currentRetainedBytes = retainedBytes.get();
+      final long newRetainedBytes = currentRetainedBytes + capacity;
+      if (newRetainedBytes > maxRetainedBytes)
+      {
+        numReleasedOverBudget.incrementAndGet();
+        return;
+      }
+
+      if (retainedBytes.compareAndSet(currentRetainedBytes, newRetainedBytes))
+      {
+        break;
+      }
+    }
+
+    numRetainedBuffers.incrementAndGet();
+    numReleasedToPool.incrementAndGet();
+    sizeClasses[getSizeClass(capacity)].offerFirst(buffer);
+  }
+
+
+
+  /**
+   * Releases all buffers currently retained in the pool for garbage
+   * collection.  Buffers that are currently borrowed are not affected, and may
+   * still be returned to the pool.
+   */
+  public void clear()
+  {
+    for (final ConcurrentLinkedDeque<ASN1Buffer> sizeClass : sizeClasses)
+    {
+      while (true)
+      {
+        final ASN1Buffer buffer = sizeClass.pollFirst();
+        if (buffer == null)
+        {
+          break;
+        }
+
+        numRetainedBuffers.decrementAndGet();
+        retainedBytes.addAndGet(-buffer.capacity());
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the index of the size class for buffers with the given capacity.
+   *
+   * @param  capacity  The buffer capacity for which to obtain the size class.
+   *
+   * @return  The index of the size class for buffers with the given capacity.
+   */
+  private static int getSizeClass(final int capacity)
+  {
+    if (capacity <= (1 << SMALLEST_SIZE_CLASS_SHIFT))
+    {
+      return 0;
+    }
+
+    return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) -
+         SMALLEST_SIZE_CLASS_SHIFT;
+  }
+
+
+
+  /**
+   * Retrieves the maximum capacity, in bytes, for buffers retained in the
+   * pool.
+   *
+   * @return  The maximum capacity, in bytes, for buffers retained in the pool.
+   */
+  public int getMaxBufferSize()
+  {
+    return maxBufferSize;
+  }
+
+
+
+  /**
+   * Retrieves the maximum total capacity, in bytes, of all buffers retained in
+   * the pool.
+   *
+   * @return  The maximum total capacity, in bytes, of all buffers retained in
+   *          the pool.
+   */
+  public long getMaxRetainedBytes()
+  {
+    return maxRetainedBytes;
+  }
+
+
+
+  /**
+   * Retrieves the total capacity, in bytes, of all buffers currently retained
+   * in the pool.
+   *
+   * @return  The total capacity, in bytes, of all buffers currently retained
+   *          in the pool.
+   */
+  public long getRetainedBytes()
+  {
+    return retainedBytes.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of buffers currently retained in the pool.
+   *
+   * @return  The number of buffers currently retained in the pool.
+   */
+  public int getNumRetainedBuffers()
+  {
+    return numRetainedBuffers.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of borrow requests that were satisfied with a buffer
+   * retained in the pool.
+   *
+   * @return  The number of borrow requests that were satisfied with a buffer
+   *          retained in the pool.
+   */
+  public long getNumReusedBuffers()
+  {
+    return numReusedBuffers.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of buffers that have been created because no buffer
+   * was available in the pool.
+   *
+   * @return  The number of buffers that have been created because no buffer
+   *          was available in the pool.
+   */
+  public long getNumBuffersCreated()
+  {
+    return numBuffersCreated.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of released buffers that have been retained in the
+   * pool for reuse.
+   *
+   * @return  The number of released buffers that have been retained in the
+   *          pool for reuse.
+   */
+  public long getNumReleasedToPool()
+  {
+    return numReleasedToPool.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of released buffers that were not retained because
+   * their capacity exceeded the maximum buffer size.
+   *
+   * @return  The number of released buffers that were not retained because
+   *          their capacity exceeded the maximum buffer size.
+   */
+  public long getNumReleasedOversized()
+  {
+    return numReleasedOversized.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of released buffers that were not retained because
+   * doing so would have exceeded the maximum retained size.
+   *
+   * @return  The number of released buffers that were not retained because
+   *          doing so would have exceeded the maximum retained size.
+   */
+  public long getNumReleasedOverBudget()
+  {
+    return numReleasedOverBudget.get();
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this ASN.1 buffer pool.
+   *
+   * @return  A string representation of this ASN.1 buffer pool.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this ASN.1 buffer pool to the provided
+   * buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("ASN1BufferPool(maxBufferSize=");
+    buffer.append(maxBufferSize);
+    buffer.append(", maxRetainedBytes=");
+    buffer.append(maxRetainedBytes);
+    buffer.append(", retainedBytes=");
+    buffer.append(retainedBytes.get());
+    buffer.append(", numRetainedBuffers=");
+    buffer.append(numRetainedBuffers.get());
+    buffer.append(", numReusedBuffers=");
+    buffer.append(numReusedBuffers.get());
+    buffer.append(", numBuffersCreated=");
+    buffer.append(numBuffersCreated.get());
+    buffer.append(", numReleasedToPool=");
+    buffer.append(numReleasedToPool.get());
+    buffer.append(", numReleasedOversized=");
+    buffer.append(numReleasedOversized.get());
+    buffer.append(", numReleasedOverBudget=");
+    buffer.append(numReleasedOverBudget.get());
+    buffer.append(')');
+  }
+}
@@ -37,15 +37,18 @@ package com.unboundid.asn1;
 
 
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.math.BigInteger;
 import java.net.SocketTimeoutException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.logging.Level;
+import javax.security.sasl.Sasl;
 import javax.security.sasl.SaslClient;
 
 import com.unboundid.ldap.sdk.LDAPConnectionOptions;
@@ -84,27 +87,81 @@ public final class ASN1StreamReader
 
 
 
+  /**
+   * The size of the buffer that will be used to hold data read from the
+   * underlying input stream.
+   */
+  private static final int WINDOW_SIZE = 8192;
+
+
+
+  /**
+   * The initial size to use for the buffer that holds SASL-wrapped data, and
+   * the size that will be assumed for the largest packet that may be received
+   * if the SASL client does not indicate a maximum buffer size.
+   */
+  private static final int DEFAULT_SASL_BUFFER_SIZE = 65_536;
+
+
+
+  /**
+   * The largest buffer for SASL-wrapped data that will be retained for reuse,
+   * regardless of the maximum buffer size negotiated by the SASL client.
+   */
+  private static final int MAX_RETAINED_SASL_BUFFER_SIZE = 1_048_576;
+
+
+
+  // Indicates whether this stream reader has been closed.  It may be closed by
+  // a thread other than the one reading from it, so all attempts to read data
+  // must check this flag rather than relying on the state of the window.
+  private volatile boolean closed;
+
   // Indicates whether socket timeout exceptions should be ignored for the
   // initial read of an element.
   private boolean ignoreInitialSocketTimeout;
 
+  // Indicates whether data is currently being unwrapped with the SASL client.
+  // This will only be accessed by the thread reading from this stream reader.
+  private boolean saslActive;
+
   // Indicates whether socket timeout exceptions should be ignored for
   // subsequent reads of an element.
   private boolean ignoreSubsequentSocketTimeout;
 
-  // The input stream that will be used for reading data after it has been
-  // unwrapped by SASL processing.
-  @Nullable private volatile ByteArrayInputStream saslInputStream;
+  // The buffer that will be used to hold SASL-wrapped data read from the
+  // input stream.  It will be reused for each packet that is no larger than
+  // the maximum retained buffer size.
+  @NotNull private byte[] saslWrappedBuffer;
+
+  // The buffer holding data that has been read but not yet consumed.  If a
+  // SASL security layer is in effect, then this will hold the data from the
+  // most recently unwrapped packet.
+  @NotNull private byte[] window;
 
-  // The input stream from which data will be read.
-  @NotNull private final InputStream inputStream;
+  // The input stream from which data will be read, or {@code null} if this
+  // stream reader only reads data from a provided byte array.
+  @Nullable private final InputStream inputStream;
+
+  // The input stream from which SASL-wrapped data will be read.
+  @Nullable private InputStream saslRawInputStream;
 
   // The maximum element size that will be allowed.
   private final int maxElementSize;
 
+  // The largest SASL-wrapped packet for which the wrapped buffer will be
+  // retained for reuse.
+  private int saslMaxRetainedBufferSize;
+
   // The total number of bytes read from the underlying input stream.
   private long totalBytesRead;
 
+  // The position of the next byte to consume from the window.
+  private int windowPos;
+
+  // The position immediately after the last byte of data in the window.
+  private int windowLimit;
+
   // The SASL client that will be used to unwrap any data read over this
   // stream reader.
   @Nullable private volatile SaslClient saslClient;
@@ -117,10 +174,10 @@ public final class ASN1StreamReader
    * value returned by the {@link LDAPConnectionOptions#getMaxMessageSize()}
    * method.
    *
-   * @param  inputStream  The input stream from which data should be read.  If
-   *                      the provided input stream does not support the use of
-   *                      the {@code mark} and {@code reset} methods, then it
-   *                      will be wrapped with a {@code BufferedInputStream}.
+   * @param  inputStream  The input stream from which data should be read.
+   *                      The stream reader maintains its own buffer, so it is
+   *                      not necessary for the provided input stream to be
+   *                      buffered.
    */
   public ASN1StreamReader(@NotNull final InputStream inputStream)
   {
@@ -135,10 +192,9 @@ public final class ASN1StreamReader
    * {@code Integer.MAX_VALUE}.
    *
    * @param  inputStream     The input stream from which data should be read.
-   *                         If the provided input stream does not support the
-   *                         use of the {@code mark} and {@code reset} methods,
-   *                         then it will be wrapped with a
-   *                         {@code BufferedInputStream}.
+   *                         The stream reader maintains its own buffer, so it
+   *                         is not necessary for the provided input stream to
+   *                         be buffered.
    * @param  maxElementSize  The maximum size in bytes of an ASN.1 element that
    *                         may be read.  A value less than or equal to zero
    *                         will be interpreted as {@code Integer.MAX_VALUE}.
@@ -146,14 +202,57 @@ public final class ASN1StreamReader
   public ASN1StreamReader(@NotNull final InputStream inputStream,
                           final int maxElementSize)
   {
-    if (inputStream.markSupported())
-    {
-      this.inputStream = inputStream;
-    }
-    else
-    {
-      this.inputStream = new BufferedInputStream(inputStream);
-    }
+    this(inputStream, new byte[WINDOW_SIZE], 0, 0, maxElementSize);
+  }
+
+
+
+  /**
+   * Creates a new ASN.1 stream reader that will read data from the provided
+   * byte array.  The data will be decoded directly from the array without
+   * being copied, so the contents of the array must not be altered while this
+   * stream reader is in use.
+   *
+   * @param  data            The byte array containing the data to read.
+   * @param  offset          The position in the array of the first byte of
+   *                         data to read.
+   * @param  length          The number of bytes of data to read.
+   * @param  maxElementSize  The maximum size in bytes of an ASN.1 element that
+   *                         may be read.  A value less than or equal to zero
+   *                         will be interpreted as {@code Integer.MAX_VALUE}.
+   */
+  public ASN1StreamReader(@NotNull final byte[] data, final int offset,
+                          final int length, final int maxElementSize)
+  {
+    this(null, data, offset, (offset + length), maxElementSize);
+  }
+
+
+
+  /**
+   * Creates a new ASN.1 stream reader with the provided information.
+   *
+   * @param  inputStream     The input stream from which data should be read,
+   *                         or {@code null} if data should only be read from
+   *                         the provided window.
+   * @param  window          The buffer to use to hold data that has been read
+   *                         but not yet consumed.
+   * @param  windowPos       The position of the first byte of data in the
+   *                         window.
+   * @param  windowLimit     The position immediately after the last byte of
+   *                         data in the window.
+   * @param  maxElementSize  The maximum size in bytes of an ASN.1 element that
+   *                         may be read.  A value less than or equal to zero
+   *                         will be interpreted as {@code Integer.MAX_VALUE}.
+   */
+  private ASN1StreamReader(@Nullable final InputStream inputStream,
+                           @NotNull final byte[] window, final int windowPos,
+                           final int windowLimit, final int maxElementSize)
+  {
+    this.inputStream = inputStream;
+    this.window      = window;
+    this.windowPos   = windowPos;
+    this.windowLimit = windowLimit;
 
     if (maxElementSize > 0)
     {
@@ -165,17 +264,23 @@ public final class ASN1StreamReader
     }
 
     totalBytesRead                = 0L;
+    closed                        = false;
     ignoreInitialSocketTimeout    = false;
     ignoreSubsequentSocketTimeout = false;
     saslClient                    = null;
-    saslInputStream               = null;
+    saslActive                    = false;
+    saslRawInputStream            = null;
+    saslWrappedBuffer             = StaticUtils.NO_BYTES;
+    saslMaxRetainedBufferSize     = 0;
   }
 
 
 
   /**
-   * Closes this ASN.1 stream reader and the underlying input stream.  This
-   * reader must not be used after it has been closed.
+   * Closes this ASN.1 stream reader and the underlying input stream.  Any
+   * subsequent attempt to read from this reader, including an attempt to read
+   * data that had already been buffered, will result in an
+   * {@code IOException}.
    *
    * @throws  IOException  If a problem occurs while closing the underlying
    *                       input stream.
@@ -184,7 +289,27 @@ public final class ASN1StreamReader
   public void close()
          throws IOException
   {
-    inputStream.close();
+    closed = true;
+    if (inputStream != null)
+    {
+      inputStream.close();
+    }
+  }
+
+
+
+  /**
+   * Ensures that this stream reader has not been closed.
+   *
+   * @throws  IOException  If this stream reader has been closed.
+   */
+  private void ensureOpen()
+          throws IOException
+  {
+    if (closed)
+    {
+      throw new IOException(ERR_READ_STREAM_READER_CLOSED.get());
+    }
   }
 
 
@@ -318,26 +443,18 @@ public final class ASN1StreamReader
   public int peek()
          throws IOException
   {
-    final InputStream is;
-    if (saslClient == null)
+    ensureOpen();
+    if ((! saslActive) && (saslClient != null))
     {
-      is = inputStream;
+      activateSASL();
     }
-    else
-    {
-      if ((saslInputStream == null) || (saslInputStream.available() <= 0))
-      {
-        readAndDecodeSASLData(-1);
-      }
 
-      is = saslInputStream;
+    if ((windowPos >= windowLimit) && (! fill(true)))
+    {
+      return -1;
     }
 
-    is.mark(1);
-    final int byteRead = read(true);
-    is.reset();
-
-    return byteRead;
+    return (window[windowPos] & 0xFF);
   }
 
 
@@ -357,10 +474,21 @@ public final class ASN1StreamReader
   private int readType()
           throws IOException
   {
+    if ((! saslActive) && (saslClient != null))
+    {
+      activateSASL();
+    }
+
     final int typeInt = read(true);
     if (typeInt < 0)
     {
-      close();
+      // The end of the input stream has been reached, so close it.  This
+      // reader is not marked closed, so subsequent reads will continue to
+      // indicate the end of the input.
+      if (inputStream != null)
+      {
+        inputStream.close();
+      }
     }
     else
     {
@@ -444,50 +572,34 @@ public final class ASN1StreamReader
       return;
     }
 
-    if (saslClient != null)
+    int bytesRemaining = numBytes;
+    while (bytesRemaining > 0)
     {
-      int skippedSoFar = 0;
-      final byte[] skipBuffer = new byte[numBytes];
-      while (true)
+      ensureOpen();
+      final int available = windowLimit - windowPos;
+      if (available > 0)
       {
-        final int bytesRead = read(skipBuffer, skippedSoFar,
-             (numBytes - skippedSoFar));
-        if (bytesRead < 0)
-        {
-          // We unexpectedly hit the end of the stream.  We'll just return since
-          // we clearly can't skip any more, and subsequent read attempts will
-          // fail.
-          return;
-        }
-
-        skippedSoFar += bytesRead;
-        totalBytesRead += bytesRead;
-        if (skippedSoFar >= numBytes)
-        {
-          return;
-        }
+        final int bytesSkipped = Math.min(available, bytesRemaining);
+        windowPos += bytesSkipped;
+        bytesRemaining -= bytesSkipped;
+        continue;
       }
-    }
 
-    long totalBytesSkipped = inputStream.skip(numBytes);
-    while (totalBytesSkipped < numBytes)
-    {
-      final long bytesSkipped = inputStream.skip(numBytes - totalBytesSkipped);
-      if (bytesSkipped <= 0)
+      // If the window is empty and there is no SASL security layer, then try
+      // to skip the data in the underlying input stream without reading it.
+      if ((! saslActive) && (saslClient == null) && (inputStream != null))
       {
-        while (totalBytesSkipped < numBytes)
+        final long bytesSkipped = inputStream.skip(bytesRemaining);
+        if (bytesSkipped > 0L)
         {
-          final int byteRead = read(false);
-          if (byteRead < 0)
-          {
-            throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
-          }
-          totalBytesSkipped++;
+          bytesRemaining -= (int) bytesSkipped;
+          continue;
         }
       }
-      else
+
+      if (! fill(false))
       {
-        totalBytesSkipped += bytesSkipped;
+        throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
       }
     }
 
@@ -986,6 +1098,59 @@ public final class ASN1StreamReader
 
 
 
+  /**
+   * Reads an ASN.1 element from the input stream and writes its value to the
+   * provided output stream.  The value will be written in pieces as it is
+   * read, without ever holding the entire value in memory, so this may be used
+   * to consume very large values.
+   *
+   * @param  outputStream  The output stream to which the value should be
+   *                       written.  It must not be {@code null}.
+   *
+   * @return  The number of bytes in the value that was read, or -1 if the end
+   *          of the input stream was reached before any data could be read.
+   *          If -1 is returned, then the input stream will have been closed.
+   *
+   * @throws  IOException  If a problem occurs while reading from the input
+   *                       stream or writing to the output stream, if the end
+   *                       of the input stream is reached in the middle of the
+   *                       element, or if an attempt is made to read an element
+   *                       larger than the maximum allowed size.
+   */
+  public int readBytes(@NotNull final OutputStream outputStream)
+         throws IOException
+  {
+    final int type = readType();
+    if (type < 0)
+    {
+      return -1;
+    }
+
+    final int length = readLength();
+
+    int bytesRemaining = length;
+    while (bytesRemaining > 0)
+    {
+      ensureOpen();
+      if ((windowPos >= windowLimit) && (! fill(false)))
+      {
+        throw new IOException(ERR_READ_END_BEFORE_VALUE_END.get());
+      }
+
+      final int bytesToWrite = Math.min((windowLimit - windowPos),
+           bytesRemaining);
+      outputStream.write(window, windowPos, bytesToWrite);
+      windowPos += bytesToWrite;
+      bytesRemaining -= bytesToWrite;
+    }
+
+    totalBytesRead += length;
+    Debug.debugASN1Read(Level.INFO, "byte[]", type, length, null);
+    return length;
+  }
+
+
+
   /**
    * Reads an ASN.1 octet string element from the input stream and returns the
    * value as a {@code String} using the UTF-8 encoding.
@@ -1013,6 +1178,18 @@ public final class ASN1StreamReader
 
     final int length = readLength();
 
+    // If the entire value is already in the window, then decode it from there
+    // without copying it into a separate array.
+    ensureOpen();
+    if ((windowLimit - windowPos) >= length)
+    {
+      final String s = StaticUtils.toUTF8String(window, windowPos, length);
+      windowPos += length;
+      totalBytesRead += length;
+      Debug.debugASN1Read(Level.INFO, "String", type, length, s);
+      return s;
+    }
+
     int valueBytesRead = 0;
     int bytesRemaining = length;
     final byte[] value = new byte[length];
@@ -1166,71 +1343,138 @@ public final class ASN1StreamReader
 
 
   /**
-   * Reads a byte of data from the underlying input stream, optionally ignoring
-   * socket timeout exceptions.
+   * Reads a byte of data, refilling the window from the underlying input
+   * stream if necessary.
    *
    * @param  initial  Indicates whether this is the initial read for an element.
    *
-   * @return  The byte read from the input stream, or -1 if the end of the
-   *          input stream was reached.
+   * @return  The byte read, or -1 if the end of the input stream was reached.
    *
    * @throws  IOException  If a problem occurs while reading data.
    */
   private int read(final boolean initial)
           throws IOException
   {
-    if (saslClient != null)
+    ensureOpen();
+    if (windowPos < windowLimit)
     {
-      if (saslInputStream != null)
-      {
-        final int b = saslInputStream.read();
-        if (b >= 0)
-        {
-          return b;
-        }
-      }
+      return (window[windowPos++] & 0xFF);
+    }
 
-      readAndDecodeSASLData(-1);
-      return saslInputStream.read();
+    if (! fill(initial))
+    {
+      return -1;
     }
 
-    try
+    return (window[windowPos++] & 0xFF);
+  }
+
+
+
+  /**
+   * Reads data into the provided buffer.  Any data already in the window will
+   * be copied directly into the buffer, and if the window is empty and the
+   * buffer is at least as large as the window, then data will be read from
+   * the underlying input stream directly into the buffer.
+   *
+   * @param  buffer   The buffer into which the data should be read.
+   * @param  offset   The position at which to start placing the data that was
+   *                  read.
+   * @param  length   The maximum number of bytes to read.
+   *
+   * @return  The number of bytes read, or -1 if the end of the input stream
+   *          was reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  private int read(@NotNull final byte[] buffer, final int offset,
+                   final int length)
+          throws IOException
+  {
+    ensureOpen();
+    if (length <= 0)
     {
-      final int b = inputStream.read();
-      if ((saslClient == null) || (b < 0))
+      return 0;
+    }
+
+    if (windowPos >= windowLimit)
+    {
+      if ((length >= WINDOW_SIZE) && (! saslActive) && (saslClient == null) &&
+          (inputStream != null))
       {
-        return b;
+        return readFromStream(inputStream, buffer, offset, length, false);
       }
-      else
+
+      if (! fill(false))
       {
-        // This should only happen the first time after the SASL client has been
-        // installed.
-        readAndDecodeSASLData(b);
-        return saslInputStream.read();
+        return -1;
       }
     }
-    catch (final SocketTimeoutException ste)
+
+    final int bytesRead = Math.min((windowLimit - windowPos), length);
+    System.arraycopy(window, windowPos, buffer, offset, bytesRead);
+    windowPos += bytesRead;
+    return bytesRead;
+  }
+
+
+
+  /**
+   * Refills the window with data from the underlying input stream, or with the
+   * unwrapped data from the next SASL packet if a SASL security layer is in
+   * effect.  This must only be called when the window is empty.
+   *
+   * @param  initial  Indicates whether this is the initial read for an element.
+   *
+   * @return  {@code true} if the window contains data, or {@code false} if the
+   *          end of the input stream was reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  private boolean fill(final boolean initial)
+          throws IOException
+  {
+    while (true)
     {
-      Debug.debugException(Level.FINEST, ste);
+      ensureOpen();
+      if ((! saslActive) && (saslClient != null))
+      {
+        activateSASL();
+      }
 
-      if ((initial && ignoreInitialSocketTimeout) ||
-          ((! initial) && ignoreSubsequentSocketTimeout))
+      if (saslActive)
       {
-        while (true)
-        {
-          try
-          {
-            return inputStream.read();
-          }
-          catch (final SocketTimeoutException ste2)
-          {
-            Debug.debugException(Level.FINEST, ste2);
-          }
-        }
+        return readAndDecodeSASLData(initial);
       }
-      else
+
+      if (inputStream == null)
+      {
+        return false;
+      }
+
+      if (window.length == 0)
+      {
+        window = new byte[WINDOW_SIZE];
+      }
+
+      final int bytesRead =
+           readFromStream(inputStream, window, 0, window.length, initial);
+      if (bytesRead < 0)
+      {
+        windowPos = 0;
+        windowLimit = 0;
+        return false;
+      }
+
+      windowPos = 0;
+      windowLimit = bytesRead;
+
+      // If a SASL client was installed while we were waiting for data, then
+      // the data that was just read is SASL-wrapped, so go back through the
+      // loop to unwrap it.
+      if ((bytesRead > 0) && (saslClient == null))
       {
-        throw ste;
+        return true;
       }
     }
   }
@@ -1238,62 +1482,80 @@ public final class ASN1StreamReader
 
 
   /**
-   * Reads data from the underlying input stream, optionally ignoring socket
+   * Reads data from the provided input stream, optionally ignoring socket
    * timeout exceptions.
    *
+   * @param  is       The input stream from which to read the data.
    * @param  buffer   The buffer into which the data should be read.
    * @param  offset   The position at which to start placing the data that was
    *                  read.
    * @param  length   The maximum number of bytes to read.
+   * @param  initial  Indicates whether this is the initial read for an element.
    *
    * @return  The number of bytes read, or -1 if the end of the input stream
    *          was reached.
    *
    * @throws  IOException  If a problem occurs while reading data.
    */
-  private int read(@NotNull final byte[] buffer, final int offset,
-                   final int length)
+  private int readFromStream(@NotNull final InputStream is,
+                             @NotNull final byte[] buffer, final int offset,
+                             final int length, final boolean initial)
           throws IOException
   {
-    if (saslClient != null)
+    while (true)
     {
-      if (saslInputStream != null)
+      try
       {
-        final int bytesRead = saslInputStream.read(buffer, offset, length);
-        if (bytesRead > 0)
+        return is.read(buffer, offset, length);
+      }
+      catch (final SocketTimeoutException ste)
+      {
+        Debug.debugException(Level.FINEST, ste);
+
+        if (! (initial
+             ? ignoreInitialSocketTimeout
+             : ignoreSubsequentSocketTimeout))
         {
-          return bytesRead;
+          throw ste;
         }
       }
-
-      readAndDecodeSASLData(-1);
-      return saslInputStream.read(buffer, offset, length);
     }
+  }
 
-    try
-    {
-      return inputStream.read(buffer, offset, length);
-    }
-    catch (final SocketTimeoutException ste)
+
+
+  /**
+   * Reads a single byte from the provided input stream, optionally ignoring
+   * socket timeout exceptions.
+   *
+   * @param  is       The input stream from which to read the byte.
+   * @param  initial  Indicates whether this is the initial read for an element.
+   *
+   * @return  The byte that was read, or -1 if the end of the input stream was
+   *          reached.
+   *
+   * @throws  IOException  If a problem occurs while reading data.
+   */
+  private int readFromStream(@NotNull final InputStream is,
+                             final boolean initial)
+          throws IOException
+  {
+    while (true)
     {
-      Debug.debugException(Level.FINEST, ste);
-      if (ignoreSubsequentSocketTimeout)
+      try
       {
-        while (true)
-        {
-          try
-          {
-            return inputStream.read(buffer, offset, length);
-          }
-          catch (final SocketTimeoutException ste2)
-          {
-            Debug.debugException(Level.FINEST, ste2);
-          }
-        }
+        return is.read();
       }
-      else
+      catch (final SocketTimeoutException ste)
       {
-        throw ste;
+        Debug.debugException(Level.FINEST, ste);
+
+        if (! (initial
+             ? ignoreInitialSocketTimeout
+             : ignoreSubsequentSocketTimeout))
+        {
+          throw ste;
+        }
       }
     }
   }
@@ -1309,90 +1571,169 @@ public final class ASN1StreamReader
    */
   void setSASLClient(@NotNull final SaslClient saslClient)
   {
+    // Size the buffer used to hold wrapped data based on the maximum packet
+    // size that the SASL client has indicated that it is willing to receive.
+    int maxBufferSize = DEFAULT_SASL_BUFFER_SIZE;
+    try
+    {
+      final Object maxBuffer =
+           saslClient.getNegotiatedProperty(Sasl.MAX_BUFFER);
+      if (maxBuffer != null)
+      {
+        final int size = Integer.parseInt(String.valueOf(maxBuffer).trim());
+        if (size > 0)
+        {
+          maxBufferSize = size;
+        }
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+
+    saslMaxRetainedBufferSize =
+         Math.min(maxBufferSize, MAX_RETAINED_SASL_BUFFER_SIZE);
+    saslWrappedBuffer = new byte[Math.min(saslMaxRetainedBufferSize,
+         DEFAULT_SASL_BUFFER_SIZE)];
     this.saslClient = saslClient;
   }
 
 
 
   /**
-   * Reads data from the underlying input stream, unwraps it using the
-   * configured SASL client, and makes the result available in a byte array
-   * input stream that will be used for subsequent reads.
+   * Begins unwrapping data with the SASL client.  Any data that has already
+   * been read into the window but not yet consumed must have been wrapped by
+   * the server, so it will be unwrapped before reading any more data from the
+   * underlying input stream.
+   */
+  private void activateSASL()
+  {
+    final InputStream is;
+    if (inputStream == null)
+    {
+      is = new ByteArrayInputStream(StaticUtils.NO_BYTES);
+    }
+    else
+    {
+      is = inputStream;
+    }
+
+    if (windowPos < windowLimit)
+    {
+      saslRawInputStream = new SequenceInputStream(
+           new ByteArrayInputStream(
+                Arrays.copyOfRange(window, windowPos, windowLimit)),
+           is);
+    }
+    else
+    {
+      saslRawInputStream = is;
+    }
+
+    window = StaticUtils.NO_BYTES;
+    windowPos = 0;
+    windowLimit = 0;
+    saslActive = true;
+  }
+
+
+
+  /**
+   * Reads the next SASL packet from the underlying input stream, unwraps it
+   * using the configured SASL client, and makes the unwrapped data available
+   * in the window.
+   *
+   * @param  initial  Indicates whether this is the initial read for an element.
    *
-   * @param  firstByte  The first byte that has already been read.  This should
-   *                    only be used if the value is greater than or equal to
-   *                    zero.
+   * @return  {@code true} if the window contains data, or {@code false} if the
+   *          end of the input stream was reached.
    *
    * @throws  IOException  If a problem is encountered while reading from the
    *                       underlying input stream or  decoding the data that
    *                       has been read.
    */
-  private void readAndDecodeSASLData(final int firstByte)
+  private boolean readAndDecodeSASLData(final boolean initial)
           throws IOException
   {
-    // The first four bytes must be the number of bytes of data to unwrap.
-    int numWrappedBytes = 0;
-    int numLengthBytes = 4;
-    if (firstByte >= 0)
-    {
-      numLengthBytes = 3;
-      numWrappedBytes = firstByte;
-    }
-
-    for (int i=0; i < numLengthBytes; i++)
+    final InputStream is = saslRawInputStream;
+    while (true)
     {
-      final int b = inputStream.read();
-      if (b < 0)
+      // The first four bytes must be the number of bytes of data to unwrap.
+      int numWrappedBytes = 0;
+      for (int i=0; i < 4; i++)
       {
-        if ((i == 0) && (firstByte < 0))
+        final int b = readFromStream(is, (initial && (i == 0)));
+        if (b < 0)
         {
-          // This means that we hit the end of the input stream without
-          // reading any data.  This is fine and just means that the end of
-          // the input stream has been reached.
-          saslInputStream = new ByteArrayInputStream(StaticUtils.NO_BYTES);
-        }
-        else
-        {
-          // This means that we hit the end of the input stream after having
-          // read a portion of the number of wrapped bytes.  This is an error.
-          throw new IOException(
-               ERR_STREAM_READER_EOS_READING_SASL_LENGTH.get(i));
+          if (i == 0)
+          {
+            // This means that we hit the end of the input stream without
+            // reading any data.  This is fine and just means that the end of
+            // the input stream has been reached.
+            return false;
+          }
+          else
+          {
+            // This means that we hit the end of the input stream after having
+            // read a portion of the number of wrapped bytes.  This is an
+            // error.
+            throw new IOException(
+                 ERR_STREAM_READER_EOS_READING_SASL_LENGTH.get(i));
+          }
         }
+
+        numWrappedBytes = (numWrappedBytes << 8) | (b & 0xFF);
       }
-      else
+
+      if ((numWrappedBytes < 0) ||
+          ((maxElementSize > 0) && (numWrappedBytes > maxElementSize)))
       {
-        numWrappedBytes = (numWrappedBytes << 8) | (b & 0xFF);
+        throw new IOException(ERR_READ_SASL_LENGTH_EXCEEDS_MAX.get(
+             numWrappedBytes, maxElementSize));
       }
-    }
 
-    if ((maxElementSize > 0) && (numWrappedBytes > maxElementSize))
-    {
-      throw new IOException(ERR_READ_SASL_LENGTH_EXCEEDS_MAX.get(
-           numWrappedBytes, maxElementSize));
-    }
+      // Reuse the existing buffer if it is large enough.  Otherwise, allocate
+      // a new one, but only keep it if it isn't excessively large.
+      final byte[] wrappedData;
+      if (numWrappedBytes <= saslWrappedBuffer.length)
+      {
+        wrappedData = saslWrappedBuffer;
+      }
+      else
+      {
+        wrappedData = new byte[numWrappedBytes];
+        if (numWrappedBytes <= saslMaxRetainedBufferSize)
+        {
+          saslWrappedBuffer = wrappedData;
+        }
+      }
 
-    int wrappedDataPos = 0;
-    final byte[] wrappedData = new byte[numWrappedBytes];
-    while (true)
-    {
-      final int numBytesRead = inputStream.read(wrappedData, wrappedDataPos,
-           (numWrappedBytes - wrappedDataPos));
-      if (numBytesRead < 0)
+      int wrappedDataPos = 0;
+      while (wrappedDataPos < numWrappedBytes)
       {
-        throw new IOException(ERR_STREAM_READER_EOS_READING_SASL_DATA.get(
-             wrappedDataPos, numWrappedBytes));
+        final int numBytesRead = readFromStream(is, wrappedData,
+             wrappedDataPos, (numWrappedBytes - wrappedDataPos), false);
+        if (numBytesRead < 0)
+        {
+          throw new IOException(ERR_STREAM_READER_EOS_READING_SASL_DATA.get(
+               wrappedDataPos, numWrappedBytes));
+        }
+
+        wrappedDataPos += numBytesRead;
       }
 
-      wrappedDataPos += numBytesRead;
-      if (wrappedDataPos >= numWrappedBytes)
+      // The unwrapped data will be used as the window, so it does not need to
+      // be copied.
+      final byte[] unwrappedData =
+           saslClient.unwrap(wrappedData, 0, numWrappedBytes);
+      if (unwrappedData.length > 0)
       {
-        break;
+        window = unwrappedData;
+        windowPos = 0;
+        windowLimit = unwrappedData.length;
+        return true;
       }
     }
-
-    final byte[] unwrappedData =
-         saslClient.unwrap(wrappedData, 0, numWrappedBytes);
-    saslInputStream = new ByteArrayInputStream(unwrappedData, 0,
-         unwrappedData.length);
   }
 }
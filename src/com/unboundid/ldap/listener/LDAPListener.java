@@ -60,6 +60,7 @@ import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.VirtualThreadSupport;
 
 import static com.unboundid.ldap.listener.ListenerMessages.*;
 
@@ -275,7 +276,7 @@ public final class LDAPListener
         }
 
         establishedConnections.put(c.getConnectionID(), c);
-        c.start();
+        VirtualThreadSupport.start(c, config.useVirtualThreads());
       }
     }
     finally
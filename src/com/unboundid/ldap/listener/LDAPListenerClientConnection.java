@@ -45,6 +45,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 
@@ -107,6 +108,11 @@ public final class LDAPListenerClientConnection
   // The buffer used to hold responses to be sent to the client.
   @NotNull private final ASN1Buffer asn1Buffer;
 
+  // The lock used to serialize writes to the client and changes to the
+  // underlying socket.  A lock is used rather than synchronization so that
+  // blocking on socket I/O will not pin the carrier of a virtual thread.
+  @NotNull private final ReentrantLock connectionLock;
+
   // The ASN.1 stream reader used to read requests from the client.
   @NotNull private volatile ASN1StreamReader asn1Reader;
 
@@ -189,6 +195,7 @@ public final class LDAPListenerClientConnection
     this.exceptionHandler = exceptionHandler;
 
     asn1Buffer           = new ASN1Buffer();
+    connectionLock       = new ReentrantLock();
     suppressNextResponse = new AtomicBoolean(false);
 
     intermediateResponseTransformers = new CopyOnWriteArrayList<>();
@@ -357,37 +364,45 @@ public final class LDAPListenerClientConnection
    * @throws  IOException  If a problem occurs while closing the socket.
    */
   @Override()
-  public synchronized void close()
+  public void close()
          throws IOException
   {
+    connectionLock.lock();
     try
     {
-      requestHandler.closeInstance();
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-    }
+      try
+      {
+        requestHandler.closeInstance();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
 
-    try
-    {
-      asn1Reader.close();
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-    }
+      try
+      {
+        asn1Reader.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
 
-    try
-    {
-      outputStream.close();
+      try
+      {
+        outputStream.close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      socket.close();
     }
-    catch (final Exception e)
+    finally
     {
-      Debug.debugException(e);
+      connectionLock.unlock();
     }
-
-    socket.close();
   }
 
 
@@ -698,48 +713,56 @@ public final class LDAPListenerClientConnection
    * @throws  LDAPException  If a problem occurs while attempting to send the
    *                         response to the client.
    */
-  private synchronized void sendMessage(@NotNull final LDAPMessage message)
+  private void sendMessage(@NotNull final LDAPMessage message)
           throws LDAPException
   {
-    // If we should suppress this response (which will only be because the
-    // response has already been sent through some other means, for example as
-    // part of StartTLS processing), then do so.
-    if (suppressNextResponse.compareAndSet(true, false))
+    connectionLock.lock();
+    try
     {
-      return;
-    }
+      // If we should suppress this response (which will only be because the
+      // response has already been sent through some other means, for example as
+      // part of StartTLS processing), then do so.
+      if (suppressNextResponse.compareAndSet(true, false))
+      {
+        return;
+      }
 
-    asn1Buffer.clear();
+      asn1Buffer.clear();
 
-    try
-    {
-      message.writeTo(asn1Buffer);
-    }
-    catch (final LDAPRuntimeException lre)
-    {
-      Debug.debugException(lre);
-      lre.throwLDAPException();
-    }
+      try
+      {
+        message.writeTo(asn1Buffer);
+      }
+      catch (final LDAPRuntimeException lre)
+      {
+        Debug.debugException(lre);
+        lre.throwLDAPException();
+      }
 
-    try
-    {
-      asn1Buffer.writeTo(outputStream);
-    }
-    catch (final IOException ioe)
-    {
-      Debug.debugException(ioe);
+      try
+      {
+        asn1Buffer.writeTo(outputStream);
+      }
+      catch (final IOException ioe)
+      {
+        Debug.debugException(ioe);
 
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_CONN_SEND_MESSAGE_EXCEPTION.get(
-                StaticUtils.getExceptionMessage(ioe)),
-           ioe);
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_CONN_SEND_MESSAGE_EXCEPTION.get(
+                  StaticUtils.getExceptionMessage(ioe)),
+             ioe);
+      }
+      finally
+      {
+        if (asn1Buffer.zeroBufferOnClear())
+        {
+          asn1Buffer.clear();
+        }
+      }
     }
     finally
     {
-      if (asn1Buffer.zeroBufferOnClear())
-      {
-        asn1Buffer.clear();
-      }
+      connectionLock.unlock();
     }
   }
 
@@ -1051,9 +1074,17 @@ public final class LDAPListenerClientConnection
    * @return  The socket used to communicate with the client.
    */
   @NotNull()
-  public synchronized Socket getSocket()
+  public Socket getSocket()
   {
-    return socket;
+    connectionLock.lock();
+    try
+    {
+      return socket;
+    }
+    finally
+    {
+      connectionLock.unlock();
+    }
   }
 
 
@@ -1078,7 +1109,7 @@ public final class LDAPListenerClientConnection
    *                         thrown, then the connection will have been closed.
    */
   @NotNull()
-  public synchronized OutputStream convertToTLS(
+  public OutputStream convertToTLS(
               @NotNull final SSLSocketFactory sslSocketFactory)
          throws LDAPException
   {
@@ -1120,63 +1151,71 @@ public final class LDAPListenerClientConnection
    *                         thrown, then the connection will have been closed.
    */
   @NotNull()
-  public synchronized OutputStream convertToTLS(
+  public OutputStream convertToTLS(
               @NotNull final SSLSocketFactory sslSocketFactory,
               final boolean requestClientCertificate,
               final boolean requireClientCertificate)
          throws LDAPException
   {
-    final OutputStream clearOutputStream = outputStream;
-
-    final Socket origSocket = socket;
-    final String hostname   = LDAPConnectionOptions.DEFAULT_NAME_RESOLVER.
-         getHostName(origSocket.getInetAddress());
-    final int port          = origSocket.getPort();
-
+    connectionLock.lock();
     try
     {
-      synchronized (sslSocketFactory)
-      {
-        socket = sslSocketFactory.createSocket(socket, hostname, port, true);
-      }
+      final OutputStream clearOutputStream = outputStream;
 
-      final SSLSocket sslSocket = (SSLSocket) socket;
-      sslSocket.setUseClientMode(false);
+      final Socket origSocket = socket;
+      final String hostname   = LDAPConnectionOptions.DEFAULT_NAME_RESOLVER.
+           getHostName(origSocket.getInetAddress());
+      final int port          = origSocket.getPort();
 
-      if (requestClientCertificate)
+      try
       {
-        if (requireClientCertificate)
+        synchronized (sslSocketFactory)
+        {
+          socket = sslSocketFactory.createSocket(socket, hostname, port, true);
+        }
+
+        final SSLSocket sslSocket = (SSLSocket) socket;
+        sslSocket.setUseClientMode(false);
+
+        if (requestClientCertificate)
         {
-          sslSocket.setNeedClientAuth(true);
+          if (requireClientCertificate)
+          {
+            sslSocket.setNeedClientAuth(true);
+          }
+          else
+          {
+            sslSocket.setWantClientAuth(true);
+          }
         }
         else
         {
-          sslSocket.setWantClientAuth(true);
+          sslSocket.setWantClientAuth(false);
         }
+
+
+        outputStream = socket.getOutputStream();
+        asn1Reader = new ASN1StreamReader(socket.getInputStream());
+        suppressNextResponse.set(true);
+        return clearOutputStream;
       }
-      else
+      catch (final Exception e)
       {
-        sslSocket.setWantClientAuth(false);
-      }
+        Debug.debugException(e);
 
+        final LDAPException le = new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_CONN_CONVERT_TO_TLS_FAILURE.get(
+                  StaticUtils.getExceptionMessage(e)),
+             e);
 
-      outputStream = socket.getOutputStream();
-      asn1Reader = new ASN1StreamReader(socket.getInputStream());
-      suppressNextResponse.set(true);
-      return clearOutputStream;
+        close(le);
+
+        throw le;
+      }
     }
-    catch (final Exception e)
+    finally
     {
-      Debug.debugException(e);
-
-      final LDAPException le = new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_CONN_CONVERT_TO_TLS_FAILURE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
-
-      close(le);
-
-      throw le;
+      connectionLock.unlock();
     }
   }
 
@@ -47,6 +47,7 @@ import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
+import com.unboundid.util.VirtualThreadSupport;
 
 
 
@@ -95,6 +96,10 @@ public final class LDAPListenerConfig
   // listener.
   private boolean useTCPNoDelay;
 
+  // Indicates whether to use virtual threads for client connections if the JVM
+  // supports them.
+  private boolean useVirtualThreads;
+
   // The address on which to listen for client connections.
   @Nullable private InetAddress listenAddress;
 
@@ -155,6 +160,8 @@ public final class LDAPListenerConfig
     useLinger                = true;
     useReuseAddress          = true;
     useTCPNoDelay            = true;
+    useVirtualThreads        =
+         VirtualThreadSupport.useVirtualThreadsByDefault();
     lingerTimeout            = 5;
     listenAddress            = null;
     maxConnections           = 0;
@@ -343,6 +350,45 @@ public final class LDAPListenerConfig
 
 
 
+  /**
+   * Indicates whether the threads used to process requests from clients
+   * accepted by the listener should be virtual threads rather than platform
+   * threads.  This will only have an effect if the JVM supports virtual
+   * threads (which requires Java 21 or later).  If virtual threads are used,
+   * then the {@link LDAPListenerClientConnection} objects for accepted
+   * connections will not themselves be started as threads, but their logic
+   * will instead be run in virtual threads.
+   * <BR><BR>
+   * The default value for this setting is determined by the
+   * {@link VirtualThreadSupport#PROPERTY_USE_VIRTUAL_THREADS} system property.
+   *
+   * @return  {@code true} if the threads for accepted client connections should
+   *          be virtual threads if the JVM supports them, or {@code false} if
+   *          they should always be platform threads.
+   */
+  public boolean useVirtualThreads()
+  {
+    return useVirtualThreads;
+  }
+
+
+
+  /**
+   * Specifies whether the threads used to process requests from clients
+   * accepted by the listener should be virtual threads rather than platform
+   * threads.  See the {@link #useVirtualThreads()} method for details.
+   *
+   * @param  useVirtualThreads  Indicates whether the threads for accepted
+   *                            client connections should be virtual threads if
+   *                            the JVM supports them.
+   */
+  public void setUseVirtualThreads(final boolean useVirtualThreads)
+  {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+
+
   /**
    * Retrieves the address on which to listen for client connections, if
    * defined.
@@ -719,6 +765,7 @@ public final class LDAPListenerConfig
     copy.useLinger                = useLinger;
     copy.useReuseAddress          = useReuseAddress;
     copy.useTCPNoDelay            = useTCPNoDelay;
+    copy.useVirtualThreads        = useVirtualThreads;
     copy.listenAddress            = listenAddress;
     copy.lingerTimeout            = lingerTimeout;
     copy.maxConnections           = maxConnections;
@@ -789,6 +836,8 @@ public final class LDAPListenerConfig
     buffer.append(useKeepAlive);
     buffer.append(", useTCPNoDelay=");
     buffer.append(useTCPNoDelay);
+    buffer.append(", useVirtualThreads=");
+    buffer.append(useVirtualThreads);
 
     if (useLinger)
     {
@@ -56,6 +56,7 @@ import com.unboundid.asn1.ASN1StreamReader;
 import com.unboundid.asn1.ASN1StreamReaderSequence;
 import com.unboundid.ldap.sdk.Control;
 import com.unboundid.ldap.sdk.InternalSDKHelper;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
 import com.unboundid.ldap.sdk.LDAPException;
 import com.unboundid.ldap.sdk.ResultCode;
 import com.unboundid.ldap.sdk.schema.Schema;
@@ -1190,6 +1191,139 @@ public final class LDAPMessage
                                   final boolean ignoreSocketTimeout,
                                   @Nullable final Schema schema)
          throws LDAPException
+  {
+    return readLDAPResponseFrom(reader, ignoreSocketTimeout, schema, false);
+  }
+
+
+
+  /**
+   * Reads {@link LDAPResponse} object from the provided ASN.1 stream reader.
+   *
+   * @param  reader                     The ASN.1 stream reader from which the
+   *                                    LDAP message should be read.
+   * @param  ignoreSocketTimeout        Indicates whether to ignore socket
+   *                                    timeout exceptions caught during
+   *                                    processing.  This should be
+   *                                    {@code true} when the associated
+   *                                    connection is operating in asynchronous
+   *                                    mode, and {@code false} when operating
+   *                                    in synchronous mode.  In either case,
+   *                                    exceptions will not be ignored for the
+   *                                    first read, since that will be handled
+   *                                    by the connection reader.
+   * @param  schema                     The schema to use to select the
+   *                                    appropriate matching rule for
+   *                                    attributes included in the response.
+   * @param  lazilyDecodeSearchEntries  Indicates whether the attributes of a
+   *                                    search result entry should be retained
+   *                                    in encoded form and only decoded when
+   *                                    they are first accessed.
+   *
+   * @return  The decoded LDAP message, or {@code null} if the end of the input
+   *          stream has been reached.
+   *
+   * @throws  LDAPException  If an error occurs while attempting to read or
+   *                         decode the LDAP message.
+   */
+  @Nullable()
+  public static LDAPResponse readLDAPResponseFrom(
+                                  @NotNull final ASN1StreamReader reader,
+                                  final boolean ignoreSocketTimeout,
+                                  @Nullable final Schema schema,
+                                  final boolean lazilyDecodeSearchEntries)
+         throws LDAPException
+  {
+    return readLDAPResponseFrom(reader, ignoreSocketTimeout, schema,
+         lazilyDecodeSearchEntries, null);
+  }
+
+
+
+  /**
+   * Reads {@link LDAPResponse} object from the provided ASN.1 stream reader,
+   * using the provided connection options to determine how search result
+   * entries should be decoded.
+   *
+   * @param  reader               The ASN.1 stream reader from which the LDAP
+   *                              message should be read.
+   * @param  ignoreSocketTimeout  Indicates whether to ignore socket timeout
+   *                              exceptions caught during processing.  This
+   *                              should be {@code true} when the associated
+   *                              connection is operating in asynchronous
+   *                              mode, and {@code false} when operating in
+   *                              synchronous mode.  In either case, exceptions
+   *                              will not be ignored for the first read, since
+   *                              that will be handled by the connection
+   *                              reader.
+   * @param  schema               The schema to use to select the appropriate
+   *                              matching rule for attributes included in the
+   *                              response.
+   * @param  connectionOptions    The connection options that indicate whether
+   *                              search result entries should be lazily
+   *                              decoded, which of their attributes should be
+   *                              streamed, and whether their attribute names
+   *                              should be interned.  It must not be
+   *                              {@code null}.
+   *
+   * @return  The decoded LDAP message, or {@code null} if the end of the input
+   *          stream has been reached.
+   *
+   * @throws  LDAPException  If an error occurs while attempting to read or
+   *                         decode the LDAP message.
+   */
+  @Nullable()
+  public static LDAPResponse readLDAPResponseFrom(
+                     @NotNull final ASN1StreamReader reader,
+                     final boolean ignoreSocketTimeout,
+                     @Nullable final Schema schema,
+                     @NotNull final LDAPConnectionOptions connectionOptions)
+         throws LDAPException
+  {
+    return readLDAPResponseFrom(reader, ignoreSocketTimeout, schema,
+         connectionOptions.lazilyDecodeSearchEntries(), connectionOptions);
+  }
+
+
+
+  /**
+   * Reads {@link LDAPResponse} object from the provided ASN.1 stream reader.
+   *
+   * @param  reader                     The ASN.1 stream reader from which the
+   *                                    LDAP message should be read.
+   * @param  ignoreSocketTimeout        Indicates whether to ignore socket
+   *                                    timeout exceptions caught during
+   *                                    processing.
+   * @param  schema                     The schema to use to select the
+   *                                    appropriate matching rule for
+   *                                    attributes included in the response.
+   * @param  lazilyDecodeSearchEntries  Indicates whether the attributes of a
+   *                                    search result entry should be retained
+   *                                    in encoded form and only decoded when
+   *                                    they are first accessed.
+   * @param  connectionOptions          The connection options that specify
+   *                                    how a search result entry should be
+   *                                    decoded, or {@code null} if the
+   *                                    default behavior should be used.  If
+   *                                    this is provided, then it will take
+   *                                    precedence over the
+   *                                    {@code lazilyDecodeSearchEntries}
+   *                                    argument.
+   *
+   * @return  The decoded LDAP message, or {@code null} if the end of the input
+   *          stream has been reached.
+   *
+   * @throws  LDAPException  If an error occurs while attempting to read or
+   *                         decode the LDAP message.
+   */
+  @Nullable()
+  private static LDAPResponse readLDAPResponseFrom(
+               @NotNull final ASN1StreamReader reader,
+               final boolean ignoreSocketTimeout,
+               @Nullable final Schema schema,
+               final boolean lazilyDecodeSearchEntries,
+               @Nullable final LDAPConnectionOptions connectionOptions)
+         throws LDAPException
   {
     final ASN1StreamReaderSequence messageSequence;
     try
@@ -1254,8 +1388,15 @@ public final class LDAPMessage
                       messageSequence, reader);
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_ENTRY:
+          if (connectionOptions != null)
+          {
+            return InternalSDKHelper.readSearchResultEntryFrom(messageID,
+                        messageSequence, reader, schema, connectionOptions);
+          }
+
           return InternalSDKHelper.readSearchResultEntryFrom(messageID,
-                      messageSequence, reader, schema);
+                      messageSequence, reader, schema,
+                      lazilyDecodeSearchEntries);
 
         case PROTOCOL_OP_TYPE_SEARCH_RESULT_REFERENCE:
           return InternalSDKHelper.readSearchResultReferenceFrom(messageID,
@@ -43,8 +43,10 @@ import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
@@ -119,6 +121,69 @@ public abstract class AbstractConnectionPool
 
 
 
+  /**
+   * Retrieves an LDAP connection from the pool that will not be used to
+   * process any other operations until it has been released.  This is used
+   * for operations like binds that alter the state of the connection.  By
+   * default, this is the same as the {@link #getConnection()} method, since
+   * most pools check out connections for exclusive use.
+   *
+   * @return  The LDAP connection taken from the pool.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  @NotNull()
+  LDAPConnection getDedicatedConnection()
+       throws LDAPException
+  {
+    return getConnection();
+  }
+
+
+
+  /**
+   * Retrieves an LDAP connection from the pool that should be used to process
+   * an operation that targets the specified entry.  By default, the target DN
+   * is not considered and this is the same as the {@link #getConnection()}
+   * method, but pools may use it to prefer a connection established to a
+   * particular server.
+   *
+   * @param  targetDN  The DN of the entry targeted by the operation (or the
+   *                   base DN for a search).  It may be {@code null} if the
+   *                   operation does not target any entry.
+   *
+   * @return  The LDAP connection taken from the pool.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  @NotNull()
+  LDAPConnection getConnectionForTargetDN(@Nullable final String targetDN)
+       throws LDAPException
+  {
+    return getConnection();
+  }
+
+
+
+  /**
+   * Retrieves the processor that should be used to send hedged requests for
+   * read operations processed by this pool.  By default, hedging is not
+   * supported.
+   *
+   * @return  The processor that should be used to send hedged requests for
+   *          read operations, or {@code null} if read operations should not
+   *          be hedged.
+   */
+  @Nullable()
+  HedgedReadProcessor getHedgedReadProcessor()
+  {
+    return null;
+  }
+
+
+
   /**
    * Releases the provided connection back to this pool.
    *
@@ -639,7 +704,13 @@ public abstract class AbstractConnectionPool
                                           @Nullable final String... attributes)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnectionForTargetDN(dn);
+
+    final HedgedReadProcessor hedgedReadProcessor = getHedgedReadProcessor();
+    if ((hedgedReadProcessor != null) && (! conn.synchronousMode()))
+    {
+      return hedgedReadProcessor.getEntry(conn, dn, attributes);
+    }
 
     try
     {
@@ -791,7 +862,7 @@ public abstract class AbstractConnectionPool
   public final LDAPResult add(@NotNull final AddRequest addRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getConnectionForTargetDN(addRequest.getDN());
 
     try
     {
@@ -899,7 +970,7 @@ public abstract class AbstractConnectionPool
   public final BindResult bind(@NotNull final BindRequest bindRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn = getDedicatedConnection();
 
     try
     {
@@ -981,7 +1052,14 @@ public abstract class AbstractConnectionPool
                                   @NotNull final CompareRequest compareRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn =
+         getConnectionForTargetDN(compareRequest.getDN());
+
+    final HedgedReadProcessor hedgedReadProcessor = getHedgedReadProcessor();
+    if ((hedgedReadProcessor != null) && (! conn.synchronousMode()))
+    {
+      return hedgedReadProcessor.compare(conn, compareRequest);
+    }
 
     try
     {
@@ -1079,7 +1157,8 @@ public abstract class AbstractConnectionPool
   public final LDAPResult delete(@NotNull final DeleteRequest deleteRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn =
+         getConnectionForTargetDN(deleteRequest.getDN());
 
     try
     {
@@ -1379,7 +1458,8 @@ public abstract class AbstractConnectionPool
   public final LDAPResult modify(@NotNull final ModifyRequest modifyRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn =
+         getConnectionForTargetDN(modifyRequest.getDN());
 
     try
     {
@@ -1519,7 +1599,8 @@ public abstract class AbstractConnectionPool
                     @NotNull final ModifyDNRequest modifyDNRequest)
          throws LDAPException
   {
-    final LDAPConnection conn = getConnection();
+    final LDAPConnection conn =
+         getConnectionForTargetDN(modifyDNRequest.getDN());
 
     try
     {
@@ -2129,7 +2210,7 @@ public abstract class AbstractConnectionPool
     final LDAPConnection conn;
     try
     {
-      conn = getConnection();
+      conn = getConnectionForTargetDN(searchRequest.getBaseDN());
     }
     catch (final LDAPException le)
     {
@@ -2137,6 +2218,13 @@ public abstract class AbstractConnectionPool
       throw new LDAPSearchException(le);
     }
 
+    final HedgedReadProcessor hedgedReadProcessor = getHedgedReadProcessor();
+    if ((hedgedReadProcessor != null) && (! conn.synchronousMode()) &&
+         (searchRequest.getSearchResultListener() == null))
+    {
+      return hedgedReadProcessor.search(conn, searchRequest);
+    }
+
     try
     {
       final SearchResult result = conn.search(searchRequest);
@@ -2508,7 +2596,7 @@ public abstract class AbstractConnectionPool
     final LDAPConnection conn;
     try
     {
-      conn = getConnection();
+      conn = getConnectionForTargetDN(searchRequest.getBaseDN());
     }
     catch (final LDAPException le)
     {
@@ -2636,6 +2724,11 @@ public abstract class AbstractConnectionPool
    * {@link #retryFailedOperationsDueToInvalidConnections()} setting will be
    * ignored when processing the provided operations, so that any failed
    * operations will not be retried.
+   * <BR><BR>
+   * If the list includes a bind request and this pool shares its connections
+   * among multiple threads (as with the {@link LDAPMultiplexedConnectionPool}),
+   * then the requests will be processed over a dedicated connection so that
+   * the bind does not alter the authentication state of a shared connection.
    *
    * @param  requests         The list of requests to be processed.  It must not
    *                          be {@code null} or empty.
@@ -2662,10 +2755,29 @@ public abstract class AbstractConnectionPool
     Validator.ensureFalse(requests.isEmpty(),
          "LDAPConnectionPool.processRequests.requests must not be empty.");
 
+    // A bind changes the authentication state of the connection on which it is
+    // processed, so it must not be processed on a shared connection.
+    boolean containsBind = false;
+    for (final LDAPRequest request : requests)
+    {
+      if (request.getOperationType() == OperationType.BIND)
+      {
+        containsBind = true;
+        break;
+      }
+    }
+
     final LDAPConnection conn;
     try
     {
-      conn = getConnection();
+      if (containsBind)
+      {
+        conn = getDedicatedConnection();
+      }
+      else
+      {
+        conn = getConnection();
+      }
     }
     catch (final LDAPException le)
     {
@@ -2986,6 +3098,371 @@ requestLoop:
 
 
 
+  /**
+   * Processes the provided requests over a single connection from this pool in
+   * a pipelined manner, so that each request may be sent without waiting for
+   * the responses to the requests before it.  See the
+   * {@link LDAPConnection#processRequestsPipelined} method for details about
+   * the requests that may be provided and the results that will be returned.
+   * Note that the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting will be ignored when processing the provided operations, so that
+   * any failed operations will not be retried.
+   *
+   * @param  requests        The list of requests to be processed.  It must not
+   *                         be {@code null} or empty, and it must contain only
+   *                         add, compare, delete, modify, modify DN, and search
+   *                         requests.
+   * @param  maxOutstanding  The maximum number of requests that may be
+   *                         outstanding at any time.  It must be greater than
+   *                         zero.
+   *
+   * @return  The results for the requests.  There will be exactly one result
+   *          for each request, and the order of the results will correspond to
+   *          the order of the requests.
+   *
+   * @throws  LDAPException  If a problem occurs while trying to obtain a
+   *                         connection to use for the requests, if any of the
+   *                         requests is not one of the supported types, if
+   *                         connections in the pool are configured to use
+   *                         synchronous mode, or if the thread is interrupted
+   *                         while processing the requests.
+   */
+  @NotNull()
+  public final List<LDAPResult> processRequestsPipelined(
+                    @NotNull final List<LDAPRequest> requests,
+                    final int maxOutstanding)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(requests);
+    Validator.ensureFalse(requests.isEmpty(),
+         "LDAPConnectionPool.processRequestsPipelined.requests must not be " +
+              "empty.");
+    Validator.ensureTrue((maxOutstanding > 0),
+         "LDAPConnectionPool.processRequestsPipelined.maxOutstanding must be " +
+              "greater than zero.");
+
+    final LDAPConnection conn = getConnection();
+
+    boolean isDefunct = false;
+    try
+    {
+      PipelinedRequestProcessor.validate(conn, requests);
+      final List<LDAPResult> results =
+           new PipelinedRequestProcessor(conn, requests, maxOutstanding).
+                process();
+
+      // See if we think that the connection may be defunct.
+      for (final LDAPResult result : results)
+      {
+        if (! ResultCode.isConnectionUsable(result.getResultCode()))
+        {
+          isDefunct = true;
+          break;
+        }
+      }
+
+      return results;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      isDefunct = (! ResultCode.isConnectionUsable(le.getResultCode()));
+      throw le;
+    }
+    finally
+    {
+      if (isDefunct)
+      {
+        releaseDefunctConnection(conn);
+      }
+      else
+      {
+        releaseConnection(conn);
+      }
+    }
+  }
+
+
+  /**
+   * Processes the provided add request as an asynchronous operation using a
+   * connection from this pool, and returns a {@code CompletableFuture} that
+   * will be completed when the response is received.  See the {@link
+   * LDAPConnection#addAsync} method for details about how the returned future
+   * will be completed.  The connection will be released back to the pool once
+   * the operation has completed (or the future has been cancelled), and that
+   * release will be performed asynchronously so that it does not delay the
+   * thread that completes the future.  Failed operations will not be retried,
+   * regardless of the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting.
+   *
+   * @param  addRequest  The add request to be processed.  It must not be {@code
+   *                     null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public final CompletableFuture<LDAPResult> addAsync(
+                    @NotNull final AddRequest addRequest)
+  {
+    Validator.ensureNotNull(addRequest);
+
+    return processAsync(addRequest, addRequest.getDN());
+  }
+
+
+
+  /**
+   * Processes the provided delete request as an asynchronous operation using a
+   * connection from this pool, and returns a {@code CompletableFuture} that
+   * will be completed when the response is received.  See the {@link
+   * LDAPConnection#deleteAsync} method for details about how the returned
+   * future will be completed.  The connection will be released back to the pool
+   * once the operation has completed (or the future has been cancelled), and
+   * that release will be performed asynchronously so that it does not delay the
+   * thread that completes the future.  Failed operations will not be retried,
+   * regardless of the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting.
+   *
+   * @param  deleteRequest  The delete request to be processed.  It must not be
+   *                        {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public final CompletableFuture<LDAPResult> deleteAsync(
+                    @NotNull final DeleteRequest deleteRequest)
+  {
+    Validator.ensureNotNull(deleteRequest);
+
+    return processAsync(deleteRequest, deleteRequest.getDN());
+  }
+
+
+
+  /**
+   * Processes the provided modify request as an asynchronous operation using a
+   * connection from this pool, and returns a {@code CompletableFuture} that
+   * will be completed when the response is received.  See the {@link
+   * LDAPConnection#modifyAsync} method for details about how the returned
+   * future will be completed.  The connection will be released back to the pool
+   * once the operation has completed (or the future has been cancelled), and
+   * that release will be performed asynchronously so that it does not delay the
+   * thread that completes the future.  Failed operations will not be retried,
+   * regardless of the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting.
+   *
+   * @param  modifyRequest  The modify request to be processed.  It must not be
+   *                        {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public final CompletableFuture<LDAPResult> modifyAsync(
+                    @NotNull final ModifyRequest modifyRequest)
+  {
+    Validator.ensureNotNull(modifyRequest);
+
+    return processAsync(modifyRequest, modifyRequest.getDN());
+  }
+
+
+
+  /**
+   * Processes the provided modify DN request as an asynchronous operation using
+   * a connection from this pool, and returns a {@code CompletableFuture} that
+   * will be completed when the response is received.  See the {@link
+   * LDAPConnection#modifyDNAsync} method for details about how the returned
+   * future will be completed.  The connection will be released back to the pool
+   * once the operation has completed (or the future has been cancelled), and
+   * that release will be performed asynchronously so that it does not delay the
+   * thread that completes the future.  Failed operations will not be retried,
+   * regardless of the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting.
+   *
+   * @param  modifyDNRequest  The modify DN request to be processed.  It must
+   *                          not be {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public final CompletableFuture<LDAPResult> modifyDNAsync(
+                    @NotNull final ModifyDNRequest modifyDNRequest)
+  {
+    Validator.ensureNotNull(modifyDNRequest);
+
+    return processAsync(modifyDNRequest, modifyDNRequest.getDN());
+  }
+
+
+
+  /**
+   * Processes the provided compare request as an asynchronous operation using a
+   * connection from this pool, and returns a {@code CompletableFuture} that
+   * will be completed when the response is received.  See the {@link
+   * LDAPConnection#compareAsync} method for details about how the returned
+   * future will be completed.  The connection will be released back to the pool
+   * once the operation has completed (or the future has been cancelled), and
+   * that release will be performed asynchronously so that it does not delay the
+   * thread that completes the future.  Failed operations will not be retried,
+   * regardless of the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting.
+   *
+   * @param  compareRequest  The compare request to be processed.  It must not
+   *                         be {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public final CompletableFuture<CompareResult> compareAsync(
+                    @NotNull final CompareRequest compareRequest)
+  {
+    Validator.ensureNotNull(compareRequest);
+
+    return processAsync(compareRequest, compareRequest.getDN());
+  }
+
+
+
+  /**
+   * Processes the provided search request as an asynchronous operation using a
+   * connection from this pool, and returns a {@code CompletableFuture} that
+   * will be completed when the response is received.  See the {@link
+   * LDAPConnection#searchAsync} method for details about how the returned
+   * future will be completed.  The connection will be released back to the pool
+   * once the operation has completed (or the future has been cancelled), and
+   * that release will be performed asynchronously so that it does not delay the
+   * thread that completes the future.  Failed operations will not be retried,
+   * regardless of the {@link #retryFailedOperationsDueToInvalidConnections()}
+   * setting.
+   *
+   * @param  searchRequest  The search request to be processed.  It must not be
+   *                        {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public final CompletableFuture<SearchResult> searchAsync(
+                    @NotNull final SearchRequest searchRequest)
+  {
+    Validator.ensureNotNull(searchRequest);
+
+    return processAsync(searchRequest, searchRequest.getBaseDN());
+  }
+
+
+
+  /**
+   * Processes the provided bind request using a connection from this pool and
+   * returns a {@code CompletableFuture} for its result.  The bind will be
+   * processed by the {@link #bind(BindRequest)} method in a separate thread,
+   * so the calling thread will not block while waiting for the response.
+   *
+   * @param  bindRequest  The bind request to be processed.  It must not be
+   *                      {@code null}.
+   *
+   * @return  A future that will be completed with the result of the bind
+   *          operation.
+   */
+  @NotNull()
+  public final CompletableFuture<BindResult> bindAsync(
+                    @NotNull final BindRequest bindRequest)
+  {
+    Validator.ensureNotNull(bindRequest);
+
+    return AsyncOperationFuture.processBind(this, bindRequest);
+  }
+
+
+
+  /**
+   * Sends the provided request as an asynchronous operation over a connection
+   * from this pool, and arranges for the connection to be released once the
+   * operation has completed.
+   *
+   * @param  <T>       The type of result that will be provided by the
+   *                    future.
+   * @param  request   The request to be sent.  It must be an add, compare,
+   *                   delete, modify, modify DN, or search request.
+   * @param  targetDN  The DN of the entry targeted by the request (or the base
+   *                   DN for a search request).
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  private <T extends LDAPResult> CompletableFuture<T> processAsync(
+               @NotNull final LDAPRequest request,
+               @NotNull final String targetDN)
+  {
+    final LDAPConnection conn;
+    try
+    {
+      conn = getConnectionForTargetDN(targetDN);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+
+      final CompletableFuture<T> future = new CompletableFuture<>();
+      if (request.getOperationType() == OperationType.SEARCH)
+      {
+        future.completeExceptionally(new LDAPSearchException(le));
+      }
+      else
+      {
+        future.completeExceptionally(le);
+      }
+
+      return future;
+    }
+
+    final AsyncOperationFuture<T> future =
+         AsyncOperationFuture.process(conn, request);
+    releaseConnectionWhenComplete(future, conn);
+    return future;
+  }
+
+
+
+  /**
+   * Arranges for the provided connection to be released back to this pool once
+   * the given future has been completed or cancelled.  The connection will be
+   * released as defunct if the future is completed with an exception that
+   * indicates the connection is no longer usable.  The release will be
+   * performed asynchronously so that it does not delay the thread that
+   * completes the future.
+   *
+   * @param  <T>     The type of result that will be provided by the future.
+   * @param  future  The future for the operation being processed on the
+   *                 connection.  It must not be {@code null}.
+   * @param  conn    The connection to release.  It must not be {@code null}.
+   */
+  <T extends LDAPResult> void releaseConnectionWhenComplete(
+       @NotNull final CompletableFuture<T> future,
+       @NotNull final LDAPConnection conn)
+  {
+    future.whenCompleteAsync(new BiConsumer<T,Throwable>()
+    {
+      @Override()
+      public void accept(@Nullable final T result,
+                         @Nullable final Throwable t)
+      {
+        if ((t instanceof LDAPException) &&
+             (! ResultCode.isConnectionUsable(
+                  ((LDAPException) t).getResultCode())))
+        {
+          releaseDefunctConnection(conn);
+        }
+        else
+        {
+          releaseConnection(conn);
+        }
+      }
+    });
+  }
+
+
+
+
   /**
    * Examines the provided {@code Throwable} object to determine whether it
    * represents an {@code LDAPException} that indicates the associated
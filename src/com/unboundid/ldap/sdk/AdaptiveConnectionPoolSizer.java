@@ -0,0 +1,435 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.VirtualThreadSupport;
+
+
+
+/**
+ * This class provides a controller that adjusts the number of connections in
+ * an {@link LDAPConnectionPool} based on demand.  The pool will be grown
+ * whenever a checkout fails, or whenever the time required to check out a
+ * connection exceeds a target wait time.  New connections will be established
+ * in parallel in a background thread so that the threads checking out
+ * connections are not delayed any further.
+ * <BR><BR>
+ * The pool will be shrunk during periodic health checking.  The sizer keeps
+ * track of the smallest number of connections that were available after any
+ * checkout.  If no checkout has needed to wait for a connection for a number
+ * of consecutive health check intervals, then that many connections were not
+ * needed at any point during those intervals, and they will be closed.
+ * <BR><BR>
+ * The pool will never be grown beyond its maximum number of connections, and
+ * will never be shrunk below the configured minimum number of connections.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class AdaptiveConnectionPoolSizer
+      implements Runnable
+{
+  /**
+   * The maximum number of threads that will be used to establish connections
+   * in parallel when growing the pool.
+   */
+  private static final int MAX_GROWTH_THREADS = 10;
+
+
+
+  // Indicates whether a background thread is currently growing the pool.
+  @NotNull private final AtomicBoolean growthInProgress;
+
+  // The smallest number of connections that were available after a checkout
+  // since the most recent health check.
+  @NotNull private final AtomicInteger minAvailableSinceHealthCheck;
+
+  // The number of connections that have been added to the pool.
+  @NotNull private final AtomicLong numConnectionsAdded;
+
+  // The number of idle connections that have been retired from the pool.
+  @NotNull private final AtomicLong numConnectionsRetired;
+
+  // The minimum number of connections to retain in the pool.
+  private final int minConnections;
+
+  // The number of health check intervals for which connections must have
+  // remained unused before they may be retired.
+  private final int idleHealthCheckIntervals;
+
+  // The smallest number of connections that were available after a checkout
+  // across the current run of health check intervals in which no checkout
+  // needed to wait.  This will only be accessed by the health check thread.
+  private int minAvailableAcrossIntervals;
+
+  // The number of consecutive health check intervals in which no checkout
+  // needed to wait.  This will only be accessed by the health check thread.
+  private int numQuietIntervals;
+
+  // The connection pool whose size is controlled by this sizer.
+  @NotNull private final LDAPConnectionPool pool;
+
+  // The checkout wait time in nanoseconds above which the pool will be grown.
+  private final long targetWaitTimeNanos;
+
+  // The number of checkouts that needed to wait for a connection, as of the
+  // most recent health check.  This will only be accessed by the health check
+  // thread.
+  private long lastNumCheckoutsUnderPressure;
+
+
+
+  /**
+   * Creates a new adaptive sizer for the provided pool.
+   *
+   * @param  pool                      The connection pool whose size is to be
+   *                                   controlled.
+   * @param  minConnections            The minimum number of connections to
+   *                                   retain in the pool.
+   * @param  targetWaitTimeMillis      The checkout wait time in milliseconds
+   *                                   above which the pool will be grown.
+   * @param  idleHealthCheckIntervals  The number of health check intervals for
+   *                                   which connections must have remained
+   *                                   unused before they may be retired.
+   */
+  AdaptiveConnectionPoolSizer(@NotNull final LDAPConnectionPool pool,
+                              final int minConnections,
+                              final long targetWaitTimeMillis,
+                              final int idleHealthCheckIntervals)
+  {
+    this.pool                     = pool;
+    this.minConnections           = minConnections;
+    this.idleHealthCheckIntervals = idleHealthCheckIntervals;
+
+    targetWaitTimeNanos = TimeUnit.MILLISECONDS.toNanos(targetWaitTimeMillis);
+    growthInProgress = new AtomicBoolean(false);
+    numConnectionsAdded = new AtomicLong(0L);
+    numConnectionsRetired = new AtomicLong(0L);
+    minAvailableSinceHealthCheck = new AtomicInteger(Integer.MAX_VALUE);
+    minAvailableAcrossIntervals = Integer.MAX_VALUE;
+    numQuietIntervals = 0;
+    lastNumCheckoutsUnderPressure =
+         getNumCheckoutsUnderPressure(pool.getConnectionPoolStatistics());
+  }
+
+
+
+  /**
+   * Retrieves the minimum number of connections to retain in the pool.
+   *
+   * @return  The minimum number of connections to retain in the pool.
+   */
+  int getMinConnections()
+  {
+    return minConnections;
+  }
+
+
+
+  /**
+   * Retrieves the checkout wait time in milliseconds above which the pool will
+   * be grown.
+   *
+   * @return  The checkout wait time in milliseconds above which the pool will
+   *          be grown.
+   */
+  long getTargetWaitTimeMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(targetWaitTimeNanos);
+  }
+
+
+
+  /**
+   * Retrieves the number of health check intervals for which connections must
+   * have remained unused before they may be retired.
+   *
+   * @return  The number of health check intervals for which connections must
+   *          have remained unused before they may be retired.
+   */
+  int getIdleHealthCheckIntervals()
+  {
+    return idleHealthCheckIntervals;
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that have been added to the pool by
+   * this sizer.
+   *
+   * @return  The number of connections that have been added to the pool by
+   *          this sizer.
+   */
+  long getNumConnectionsAdded()
+  {
+    return numConnectionsAdded.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of idle connections that have been retired from the
+   * pool by this sizer.
+   *
+   * @return  The number of idle connections that have been retired from the
+   *          pool by this sizer.
+   */
+  long getNumConnectionsRetired()
+  {
+    return numConnectionsRetired.get();
+  }
+
+
+
+  /**
+   * Indicates whether a background thread is currently growing the pool.
+   *
+   * @return  {@code true} if a background thread is currently growing the
+   *          pool, or {@code false} if not.
+   */
+  boolean growthInProgress()
+  {
+    return growthInProgress.get();
+  }
+
+
+
+  /**
+   * Indicates that a connection has been checked out of the pool.  If the
+   * checkout took longer than the target wait time, then the pool will be
+   * grown.
+   *
+   * @param  waitTimeNanos   The length of time in nanoseconds required to
+   *                         check out the connection.
+   * @param  numAvailable    The number of connections that remained available
+   *                         in the pool after the checkout.
+   */
+  void checkoutSucceeded(final long waitTimeNanos, final int numAvailable)
+  {
+    int currentMin = minAvailableSinceHealthCheck.get();
+    while (numAvailable < currentMin)
+    {
+      if (minAvailableSinceHealthCheck.compareAndSet(currentMin, numAvailable))
+      {
+        break;
+      }
+
+      currentMin = minAvailableSinceHealthCheck.get();
+    }
+
+    if (waitTimeNanos > targetWaitTimeNanos)
+    {
+      grow();
+    }
+  }
+
+
+
+  /**
+   * Indicates that an attempt to check out a connection from the pool has
+   * failed.  The pool will be grown if possible.
+   */
+  void checkoutFailed()
+  {
+    grow();
+  }
+
+
+
+  /**
+   * Starts a background thread to grow the pool, unless the pool is closed,
+   * already has its maximum number of connections, or is already being grown.
+   */
+  private void grow()
+  {
+    if (pool.isClosed() ||
+         (pool.getNumPooledConnections() >=
+              pool.getMaximumAvailableConnections()))
+    {
+      return;
+    }
+
+    if (growthInProgress.compareAndSet(false, true))
+    {
+      try
+      {
+        final Thread t = VirtualThreadSupport.newThread(this,
+             "Adaptive Sizing Thread for " + pool.toString(), true, null,
+             VirtualThreadSupport.useVirtualThreadsByDefault());
+        t.start();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        growthInProgress.set(false);
+      }
+    }
+  }
+
+
+
+  /**
+   * Establishes new connections for the pool.  The pool will be grown by half
+   * of its current size (or by one connection if it is very small), but not
+   * beyond its maximum number of connections.
+   */
+  @Override()
+  public void run()
+  {
+    try
+    {
+      final int currentSize = pool.getNumPooledConnections();
+      final int numToAdd = Math.min(Math.max(1, (currentSize / 2)),
+           (pool.getMaximumAvailableConnections() - currentSize));
+      if (numToAdd <= 0)
+      {
+        return;
+      }
+
+      final int numAdded =
+           pool.growPool(numToAdd, Math.min(numToAdd, MAX_GROWTH_THREADS));
+      numConnectionsAdded.addAndGet(numAdded);
+      Debug.debugConnectionPool(Level.INFO, pool, null,
+           "Adaptive sizing added " + numAdded + " of " + numToAdd +
+                " requested connections to the pool",
+           null);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+    finally
+    {
+      growthInProgress.set(false);
+    }
+  }
+
+
+
+  /**
+   * Retires connections that have not been needed for the configured number of
+   * health check intervals.  This should be invoked after each periodic health
+   * check.  If any checkout needed to wait for a connection since the previous
+   * health check, or if the pool is currently being grown, then no connections
+   * will be retired and the count of unused intervals will start over.
+   *
+   * @param  minAvailableConnections  The minimum number of connections that
+   *                                  should remain available in the pool.
+   */
+  void retireIdleConnections(final int minAvailableConnections)
+  {
+    final long numCheckoutsUnderPressure =
+         getNumCheckoutsUnderPressure(pool.getConnectionPoolStatistics());
+    final boolean underPressure =
+         (numCheckoutsUnderPressure != lastNumCheckoutsUnderPressure);
+    lastNumCheckoutsUnderPressure = numCheckoutsUnderPressure;
+
+    final int numAvailable = pool.getCurrentAvailableConnections();
+    final int intervalMin = Math.min(numAvailable,
+         minAvailableSinceHealthCheck.getAndSet(Integer.MAX_VALUE));
+
+    if (underPressure || growthInProgress.get())
+    {
+      numQuietIntervals = 0;
+      minAvailableAcrossIntervals = Integer.MAX_VALUE;
+      return;
+    }
+
+    numQuietIntervals++;
+    minAvailableAcrossIntervals =
+         Math.min(minAvailableAcrossIntervals, intervalMin);
+    if (numQuietIntervals < idleHealthCheckIntervals)
+    {
+      return;
+    }
+
+    final int numToRetire = Math.min(minAvailableAcrossIntervals,
+         Math.min((pool.getNumPooledConnections() - minConnections),
+              (numAvailable - minAvailableConnections)));
+    numQuietIntervals = 0;
+    minAvailableAcrossIntervals = Integer.MAX_VALUE;
+
+    int numRetired = 0;
+    while ((numRetired < numToRetire) && (! pool.isClosed()))
+    {
+      if (! pool.retireAvailableConnection())
+      {
+        break;
+      }
+
+      numConnectionsRetired.incrementAndGet();
+      numRetired++;
+    }
+
+    if (numRetired > 0)
+    {
+      Debug.debugConnectionPool(Level.INFO, pool, null,
+           "Adaptive sizing reduced the pool to " +
+                pool.getNumPooledConnections() + " connections",
+           null);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of checkouts that were not able to immediately obtain
+   * an existing connection, including checkouts that failed.
+   *
+   * @param  stats  The statistics for the pool.
+   *
+   * @return  The number of checkouts that were not able to immediately obtain
+   *          an existing connection.
+   */
+  private static long getNumCheckoutsUnderPressure(
+                           @NotNull final LDAPConnectionPoolStatistics stats)
+  {
+    return stats.getNumSuccessfulCheckoutsAfterWaiting() +
+         stats.getNumSuccessfulCheckoutsNewConnection() +
+         stats.getNumFailedCheckouts();
+  }
+}
@@ -43,9 +43,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
@@ -62,6 +59,8 @@ import com.unboundid.ldif.LDIFChangeRecord;
 import com.unboundid.ldif.LDIFException;
 import com.unboundid.ldif.LDIFReader;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -113,9 +112,9 @@ public final class AddRequest
 
 
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
   // The set of attributes to include in the entry to add.
   @NotNull private ArrayList<Attribute> attributes;
@@ -1066,7 +1065,19 @@ public final class AddRequest
     }
 
     final long requestTime = System.nanoTime();
-    processAsync(connection, null);
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    responseHandoff = handoff;
+    try
+    {
+      processAsync(connection, null);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      responseHandoff = null;
+      handoff.release();
+      throw le;
+    }
 
     try
     {
@@ -1075,14 +1086,7 @@ public final class AddRequest
       try
       {
         final long responseTimeout = getResponseTimeoutMillis(connection);
-        if (responseTimeout > 0)
-        {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(responseTimeout);
       }
       catch (final InterruptedException ie)
       {
@@ -1097,6 +1101,8 @@ public final class AddRequest
     finally
     {
       connection.deregisterResponseAcceptor(messageID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
@@ -1138,6 +1144,7 @@ public final class AddRequest
     if (resultListener == null)
     {
       asyncRequestID = null;
+      responseHandoff.expect(messageID);
       connection.registerResponseAcceptor(messageID, this);
     }
     else
@@ -1149,7 +1156,7 @@ public final class AddRequest
 
       if (timeout > 0L)
       {
-        final Timer timer = connection.getTimer();
+        final HashedWheelTimer timer = connection.getTimer();
         final AsyncTimeoutTimerTask timerTask =
              new AsyncTimeoutTimerTask(helper);
         timer.schedule(timerTask, timeout);
@@ -1328,6 +1335,7 @@ public final class AddRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -1517,23 +1525,11 @@ public final class AddRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
@@ -0,0 +1,527 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.VirtualThreadSupport;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a {@code CompletableFuture} implementation that also
+ * acts as the listener for an asynchronous operation, so that the future is
+ * completed directly by the thread that receives the response, without any
+ * additional thread hand-off.  The future will be completed normally if the
+ * operation completes with a result that the corresponding synchronous method
+ * would have returned, and it will be completed exceptionally with the
+ * {@code LDAPException} that the synchronous method would have thrown
+ * otherwise.  Cancelling the future will cause an abandon request to be sent
+ * for the operation.
+ *
+ * @param  <T>  The type of result that will be provided by the future.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class AsyncOperationFuture<T extends LDAPResult>
+      extends CompletableFuture<T>
+      implements AsyncResultListener, AsyncCompareResultListener,
+                 AsyncSearchResultListener
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 3325810484950512817L;
+
+
+
+  // Indicates whether an abandon request has been sent for the operation.
+  @NotNull private final AtomicBoolean abandonSent;
+
+  // The async request ID for the operation, once it has been sent.
+  @Nullable private volatile AsyncRequestID asyncRequestID;
+
+  // The entries collected for a search request without a listener.
+  @Nullable private final List<SearchResultEntry> entries;
+
+  // The references collected for a search request without a listener.
+  @Nullable private final List<SearchResultReference> references;
+
+  // The type of operation with which this future is associated.
+  @NotNull private final OperationType operationType;
+
+  // The search result listener from the original search request, if any.
+  @Nullable private final SearchResultListener searchResultListener;
+
+
+
+  /**
+   * Creates a new future for an operation of the specified type.
+   *
+   * @param  operationType         The type of operation with which this future
+   *                               is associated.  It must not be {@code null}.
+   * @param  searchResultListener  The search result listener from the original
+   *                               search request.  It may be {@code null} if
+   *                               the operation is not a search, or if entries
+   *                               and references should be collected in the
+   *                               search result.
+   */
+  AsyncOperationFuture(@NotNull final OperationType operationType,
+       @Nullable final SearchResultListener searchResultListener)
+  {
+    this.operationType = operationType;
+    this.searchResultListener = searchResultListener;
+
+    abandonSent = new AtomicBoolean(false);
+    asyncRequestID = null;
+
+    if ((operationType == OperationType.SEARCH) &&
+         (searchResultListener == null))
+    {
+      entries = new ArrayList<>(10);
+      references = new ArrayList<>(10);
+    }
+    else
+    {
+      entries = null;
+      references = null;
+    }
+  }
+
+
+
+  /**
+   * Sends the provided request as an asynchronous operation over the given
+   * connection and returns a future that will be completed when the response
+   * is received.  If a problem occurs while sending the request, then the
+   * returned future will have been completed exceptionally.
+   *
+   * @param  <T>         The type of result that will be provided by the
+   *                     future.
+   * @param  connection  The connection to use to send the request.  It must
+   *                     not be {@code null}.
+   * @param  request     The request to be sent.  It must not be {@code null},
+   *                     and it must be an add, compare, delete, modify, modify
+   *                     DN, or search request.
+   *
+   * @return  The future for the operation.
+   */
+  @NotNull()
+  static <T extends LDAPResult> AsyncOperationFuture<T> process(
+              @NotNull final LDAPConnection connection,
+              @NotNull final LDAPRequest request)
+  {
+    final OperationType operationType = request.getOperationType();
+    final AsyncOperationFuture<T> future;
+    if (operationType == OperationType.SEARCH)
+    {
+      future = new AsyncOperationFuture<>(operationType,
+           ((SearchRequest) request).getSearchResultListener());
+    }
+    else
+    {
+      future = new AsyncOperationFuture<>(operationType, null);
+    }
+
+    try
+    {
+      if (connection.synchronousMode())
+      {
+        throw new LDAPException(ResultCode.NOT_SUPPORTED,
+             ERR_ASYNC_NOT_SUPPORTED_IN_SYNCHRONOUS_MODE.get());
+      }
+
+      final AsyncRequestID requestID;
+      switch (operationType)
+      {
+        case ADD:
+          requestID = ((AddRequest) request).processAsync(connection, future);
+          break;
+        case COMPARE:
+          requestID =
+               ((CompareRequest) request).processAsync(connection, future);
+          break;
+        case DELETE:
+          requestID =
+               ((DeleteRequest) request).processAsync(connection, future);
+          break;
+        case MODIFY:
+          requestID =
+               ((ModifyRequest) request).processAsync(connection, future);
+          break;
+        case MODIFY_DN:
+          requestID =
+               ((ModifyDNRequest) request).processAsync(connection, future);
+          break;
+        case SEARCH:
+          requestID =
+               ((SearchRequest) request).processAsync(connection, future);
+          break;
+        default:
+          throw new LDAPException(ResultCode.PARAM_ERROR,
+               ERR_ASYNC_FUTURE_OP_NOT_SUPPORTED.get(
+                    String.valueOf(request)));
+      }
+
+      future.setAsyncRequestID(requestID);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      if (operationType == OperationType.SEARCH)
+      {
+        future.completeExceptionally(new LDAPSearchException(le));
+      }
+      else
+      {
+        future.completeExceptionally(le);
+      }
+    }
+
+    return future;
+  }
+
+
+
+  /**
+   * Processes the provided bind request in a separate thread and returns a
+   * future that will be completed with its result.  Binds cannot be processed
+   * through an asynchronous result listener because some bind types (e.g.,
+   * multi-stage SASL binds) require several request/response exchanges, so
+   * the blocking {@code bind} method is instead invoked by a new thread.
+   *
+   * @param  target       The connection or connection pool to use to process
+   *                      the bind.  It must not be {@code null}.
+   * @param  bindRequest  The bind request to be processed.  It must not be
+   *                      {@code null}.
+   *
+   * @return  A future that will be completed with the result of the bind.
+   */
+  @NotNull()
+  static CompletableFuture<BindResult> processBind(
+              @NotNull final FullLDAPInterface target,
+              @NotNull final BindRequest bindRequest)
+  {
+    final CompletableFuture<BindResult> future = new CompletableFuture<>();
+    final Runnable bindProcessor = () ->
+    {
+      try
+      {
+        future.complete(target.bind(bindRequest));
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        future.completeExceptionally(le);
+      }
+      catch (final Throwable t)
+      {
+        Debug.debugException(t);
+        future.completeExceptionally(new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_ASYNC_BIND_UNEXPECTED_EXCEPTION.get(
+                  StaticUtils.getExceptionMessage(t)),
+             t));
+      }
+    };
+
+    try
+    {
+      VirtualThreadSupport.newThread(bindProcessor,
+           "Asynchronous Bind Thread for " + target.toString(), true, null,
+           VirtualThreadSupport.useVirtualThreadsByDefault()).start();
+    }
+    catch (final Throwable t)
+    {
+      Debug.debugException(t);
+      future.completeExceptionally(new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_ASYNC_BIND_UNEXPECTED_EXCEPTION.get(
+                StaticUtils.getExceptionMessage(t)),
+           t));
+    }
+
+    return future;
+  }
+
+
+
+  /**
+   * Sets the async request ID for the operation once it has been sent.  If the
+   * future has already been cancelled, then the operation will be abandoned.
+   *
+   * @param  asyncRequestID  The async request ID for the operation.  It must
+   *                         not be {@code null}.
+   */
+  void setAsyncRequestID(@NotNull final AsyncRequestID asyncRequestID)
+  {
+    this.asyncRequestID = asyncRequestID;
+    if (isCancelled())
+    {
+      abandon();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the async request ID for the operation, if it has been sent.
+   *
+   * @return  The async request ID for the operation, or {@code null} if it has
+   *          not yet been sent.
+   */
+  @Nullable()
+  AsyncRequestID getAsyncRequestID()
+  {
+    return asyncRequestID;
+  }
+
+
+
+  /**
+   * Attempts to cancel the operation.  If the future has not already been
+   * completed, then it will be completed with a
+   * {@code CancellationException}, and an abandon request will be sent for the
+   * operation.
+   *
+   * @param  mayInterruptIfRunning  This will be ignored.
+   *
+   * @return  {@code true} if the future was cancelled, or {@code false} if it
+   *          had already been completed.
+   */
+  @Override()
+  public boolean cancel(final boolean mayInterruptIfRunning)
+  {
+    final boolean cancelled = super.cancel(mayInterruptIfRunning);
+    if (cancelled)
+    {
+      abandon();
+    }
+
+    return cancelled;
+  }
+
+
+
+  /**
+   * Sends an abandon request for the operation if it has been sent and no
+   * abandon request has yet been sent for it.
+   */
+  private void abandon()
+  {
+    final AsyncRequestID requestID = asyncRequestID;
+    if ((requestID != null) && abandonSent.compareAndSet(false, true))
+    {
+      try
+      {
+        requestID.cancel(false);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void ldapResultReceived(@NotNull final AsyncRequestID requestID,
+                                 @NotNull final LDAPResult ldapResult)
+  {
+    switch (ldapResult.getResultCode().intValue())
+    {
+      case ResultCode.SUCCESS_INT_VALUE:
+      case ResultCode.NO_OPERATION_INT_VALUE:
+        completeWithResult(ldapResult);
+        break;
+
+      default:
+        completeExceptionally(new LDAPException(ldapResult));
+        break;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void compareResultReceived(@NotNull final AsyncRequestID requestID,
+                                    @NotNull final CompareResult compareResult)
+  {
+    switch (compareResult.getResultCode().intValue())
+    {
+      case ResultCode.COMPARE_FALSE_INT_VALUE:
+      case ResultCode.COMPARE_TRUE_INT_VALUE:
+        completeWithResult(compareResult);
+        break;
+
+      default:
+        completeExceptionally(new LDAPException(compareResult));
+        break;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchEntryReturned(@NotNull final SearchResultEntry searchEntry)
+  {
+    if (searchResultListener == null)
+    {
+      entries.add(searchEntry);
+    }
+    else
+    {
+      searchResultListener.searchEntryReturned(searchEntry);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchReferenceReturned(
+                   @NotNull final SearchResultReference searchReference)
+  {
+    if (searchResultListener == null)
+    {
+      references.add(searchReference);
+    }
+    else
+    {
+      searchResultListener.searchReferenceReturned(searchReference);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchResultReceived(@NotNull final AsyncRequestID requestID,
+                                   @NotNull final SearchResult searchResult)
+  {
+    if (searchResultListener == null)
+    {
+      searchResult.setCounts(searchResult.getEntryCount(), entries,
+           searchResult.getReferenceCount(), references);
+    }
+    else if (searchResultListener instanceof AsyncSearchResultListener)
+    {
+      ((AsyncSearchResultListener) searchResultListener).
+           searchResultReceived(requestID, searchResult);
+    }
+
+    if (searchResult.getResultCode().equals(ResultCode.SUCCESS))
+    {
+      completeWithResult(searchResult);
+    }
+    else
+    {
+      completeExceptionally(new LDAPSearchException(searchResult));
+    }
+  }
+
+
+
+  /**
+   * Completes this future with the provided result.
+   *
+   * @param  result  The result with which to complete this future.
+   */
+  @SuppressWarnings("unchecked")
+  private void completeWithResult(@NotNull final LDAPResult result)
+  {
+    complete((T) result);
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this future.
+   *
+   * @return  A string representation of this future.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    buffer.append("AsyncOperationFuture(operationType=");
+    buffer.append(operationType.name());
+
+    final AsyncRequestID requestID = asyncRequestID;
+    if (requestID != null)
+    {
+      buffer.append(", messageID=");
+      buffer.append(requestID.getMessageID());
+    }
+
+    buffer.append(", state=");
+    buffer.append(super.toString());
+    buffer.append(')');
+    return buffer.toString();
+  }
+}
@@ -38,7 +38,6 @@ package com.unboundid.ldap.sdk;
 
 
 import java.io.Serializable;
-import java.util.Timer;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
@@ -366,13 +365,6 @@ public final class AsyncRequestID
     if (t != null)
     {
       t.cancel();
-
-      final Timer timer = connection.getTimerNullable();
-      if (timer != null)
-      {
-        timer.purge();
-      }
-
       timerTask = null;
     }
   }
@@ -37,10 +37,13 @@ package com.unboundid.ldap.sdk;
 
 
 
-import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimerTask;
+import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.StaticUtils;
 
@@ -50,11 +53,26 @@ import static com.unboundid.ldap.sdk.LDAPMessages.*;
 
 /**
  * This class provides a timer task that can be used to ensure that operation
- * timeouts for asynchronous operations are properly respected.
+ * timeouts for asynchronous operations are properly respected.  The task runs
+ * on the shared timer thread, so it only deregisters the operation there.  The
+ * timeout result is delivered to the operation's listener (and the operation
+ * is abandoned, if appropriate) by a separate thread so that a listener that
+ * takes a long time to complete cannot delay other timer tasks.
  */
 final class AsyncTimeoutTimerTask
-      extends TimerTask
+      extends HashedWheelTimerTask
 {
+  /**
+   * The executor that will be used to deliver timeout results.  Its threads
+   * will be created as needed and will exit after they have been idle for a
+   * minute.
+   */
+  @NotNull private static final ExecutorService RESULT_EXECUTOR =
+       Executors.newCachedThreadPool(
+            new LDAPSDKThreadFactory("Async Operation Timeout Handler", true));
+
+
+
   // The async helper with which this task is associated.
   @NotNull private final CommonAsyncHelper helper;
 
@@ -74,7 +92,9 @@ final class AsyncTimeoutTimerTask
 
 
   /**
-   * Generates a timeout response for the associated operation.
+   * Generates a timeout response for the associated operation, deregisters the
+   * operation from the connection, and hands the response off to be delivered
+   * by a separate thread.
    */
   @Override()
   public void run()
@@ -124,18 +144,53 @@ final class AsyncTimeoutTimerTask
 
     try
     {
-      try
-      {
-        final LDAPConnectionReader connectionReader =
-             conn.getConnectionInternals(true).getConnectionReader();
-        connectionReader.deregisterResponseAcceptor(messageID);
-      }
-      catch (final Exception e)
+      final LDAPConnectionReader connectionReader =
+           conn.getConnectionInternals(true).getConnectionReader();
+      connectionReader.deregisterResponseAcceptor(messageID);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+
+    final Runnable deliverResult = new Runnable()
+    {
+      @Override()
+      public void run()
       {
-        Debug.debugException(e);
+        deliverTimeout(response, abandon);
       }
+    };
+
+    try
+    {
+      RESULT_EXECUTOR.execute(deliverResult);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      deliverResult.run();
+    }
+  }
+
+
 
+  /**
+   * Provides the timeout response to the associated operation's listener,
+   * records the outcome with the connection, and abandons the operation if
+   * appropriate.
+   *
+   * @param  response  The timeout response to provide.
+   * @param  abandon   Indicates whether to abandon the operation.
+   */
+  private void deliverTimeout(@NotNull final LDAPResponse response,
+                              final boolean abandon)
+  {
+    final LDAPConnection conn = helper.getConnection();
+    try
+    {
       helper.responseReceived(response);
+      conn.recordOperationOutcome(ResultCode.TIMEOUT);
       if (abandon)
       {
         conn.abandon(helper.getAsyncRequestID());
@@ -1538,6 +1538,47 @@ public final class Attribute
       final String attrName = reader.readString();
       Validator.ensureNotNull(attrName);
 
+      return readValuesFrom(reader, attrName, schema);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw le;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_ATTR_CANNOT_DECODE.get(StaticUtils.getExceptionMessage(e)), e);
+    }
+  }
+
+
+
+  /**
+   * Reads the set of values for an attribute from the provided ASN.1 stream
+   * reader.  The attribute sequence and the attribute name must have already
+   * been read.
+   *
+   * @param  reader    The ASN.1 stream reader from which to read the values.
+   * @param  attrName  The name of the attribute that was read.
+   * @param  schema    The schema to use to select the appropriate matching rule
+   *                   for this attribute.  It may be {@code null} if the
+   *                   default matching rule should be selected.
+   *
+   * @return  The decoded attribute.
+   *
+   * @throws  LDAPException  If a problem occurs while trying to read or decode
+   *                         the attribute values.
+   */
+  @NotNull()
+  static Attribute readValuesFrom(@NotNull final ASN1StreamReader reader,
+                                  @NotNull final String attrName,
+                                  @Nullable final Schema schema)
+         throws LDAPException
+  {
+    try
+    {
       final MatchingRule matchingRule =
            MatchingRule.selectEqualityMatchingRule(attrName, schema);
 
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a mechanism for coalescing the requests that multiple
+ * threads send concurrently over the same connection.  Each thread encodes its
+ * own request and adds it to a queue of pending writes, and then attempts to
+ * obtain the write lock.  Whichever thread obtains the lock will write all of
+ * the requests in the queue (including those added by other threads) to the
+ * output stream and flush it once.  Any thread whose request was written by
+ * another thread while it was waiting for the lock does not need to do any
+ * further work.
+ * <BR><BR>
+ * Because a thread does not return until its request has been written, the
+ * thread performing the write can read directly from the buffer in which the
+ * other thread encoded its request without needing to copy it.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class CoalescingMessageWriter
+{
+  // The queue of requests that are waiting to be written.
+  @NotNull private final ConcurrentLinkedQueue<PendingWrite> pendingWrites;
+
+  // The requests being written by the thread that holds the write lock.  It
+  // must only be accessed while holding the write lock.
+  @NotNull private final List<PendingWrite> batch;
+
+  // The lock that must be held by the thread writing to the output stream.
+  @NotNull private final ReentrantLock writeLock;
+
+
+
+  /**
+   * Creates a new coalescing message writer.
+   */
+  CoalescingMessageWriter()
+  {
+    pendingWrites = new ConcurrentLinkedQueue<>();
+    batch = new ArrayList<>(10);
+    writeLock = new ReentrantLock();
+  }
+
+
+
+  /**
+   * Writes the encoded request in the provided buffer to the given output
+   * stream, potentially along with requests provided by other threads.  This
+   * method will not return until the request has been written and the output
+   * stream has been flushed, or until an error has occurred.
+   *
+   * @param  buffer        The buffer containing the encoded request to write.
+   *                       It must not be altered until this method returns.
+   * @param  outputStream  The output stream to which the request should be
+   *                       written.
+   * @param  saslWriter    The writer to use to wrap the request before
+   *                       writing it, or {@code null} if no SASL integrity or
+   *                       confidentiality protection is in effect.
+   *
+   * @throws  IOException  If a problem occurs while writing the request.
+   */
+  void write(@NotNull final ASN1Buffer buffer,
+             @NotNull final OutputStream outputStream,
+             @Nullable final SASLMessageWriter saslWriter)
+       throws IOException
+  {
+    final PendingWrite pendingWrite = new PendingWrite(buffer);
+    pendingWrites.add(pendingWrite);
+
+    writeLock.lock();
+    try
+    {
+      if (! pendingWrite.complete)
+      {
+        writePendingRequests(outputStream, saslWriter);
+      }
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
+
+    final IOException failure = pendingWrite.failure;
+    if (failure != null)
+    {
+      throw new IOException(failure.getMessage(), failure);
+    }
+  }
+
+
+
+  /**
+   * Writes all of the requests that are currently pending and flushes the
+   * output stream.  This must only be called while holding the write lock.
+   *
+   * @param  outputStream  The output stream to which the requests should be
+   *                       written.
+   * @param  saslWriter    The writer to use to wrap each request before
+   *                       writing it, or {@code null} if no SASL integrity or
+   *                       confidentiality protection is in effect.
+   */
+  private void writePendingRequests(
+                    @NotNull final OutputStream outputStream,
+                    @Nullable final SASLMessageWriter saslWriter)
+  {
+    // Requests will be written in the order in which they were added to the
+    // queue.  This is important when using SASL, since a mechanism may include
+    // a sequence number in each wrapped message.
+    IOException failure = null;
+    try
+    {
+      PendingWrite pendingWrite = pendingWrites.poll();
+      while (pendingWrite != null)
+      {
+        batch.add(pendingWrite);
+        writeRequest(pendingWrite.buffer, outputStream, saslWriter);
+        pendingWrite = pendingWrites.poll();
+      }
+
+      outputStream.flush();
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      failure = e;
+
+      // Make sure that the requests that have not yet been written are also
+      // marked as failed so that their threads do not attempt to write to the
+      // same output stream.
+      PendingWrite pendingWrite = pendingWrites.poll();
+      while (pendingWrite != null)
+      {
+        batch.add(pendingWrite);
+        pendingWrite = pendingWrites.poll();
+      }
+    }
+
+    for (final PendingWrite pendingWrite : batch)
+    {
+      pendingWrite.failure = failure;
+      pendingWrite.complete = true;
+    }
+
+    batch.clear();
+  }
+
+
+
+  /**
+   * Writes the encoded request in the provided buffer to the given output
+   * stream without flushing it.
+   *
+   * @param  buffer        The buffer containing the encoded request.
+   * @param  outputStream  The output stream to which the request should be
+   *                       written.
+   * @param  saslWriter    The writer to use to wrap the request before
+   *                       writing it, or {@code null} if no SASL integrity or
+   *                       confidentiality protection is in effect.
+   *
+   * @throws  IOException  If a problem occurs while writing the request.
+   */
+  private static void writeRequest(@NotNull final ASN1Buffer buffer,
+                                   @NotNull final OutputStream outputStream,
+                                   @Nullable final SASLMessageWriter saslWriter)
+          throws IOException
+  {
+    if (saslWriter == null)
+    {
+      buffer.writeTo(outputStream);
+    }
+    else
+    {
+      saslWriter.write(buffer, outputStream);
+    }
+  }
+
+
+
+  /**
+   * This class holds information about a request that is waiting to be
+   * written.  All fields other than the buffer must only be accessed while
+   * holding the write lock, or by the thread that provided the request after
+   * it has released the write lock.
+   */
+  private static final class PendingWrite
+  {
+    // The buffer containing the encoded request.
+    @NotNull private final ASN1Buffer buffer;
+
+    // Indicates whether processing for the request is complete.
+    private boolean complete;
+
+    // The exception caught while attempting to write the request, if any.
+    @Nullable private IOException failure;
+
+
+
+    /**
+     * Creates a new pending write for the provided buffer.
+     *
+     * @param  buffer  The buffer containing the encoded request.
+     */
+    private PendingWrite(@NotNull final ASN1Buffer buffer)
+    {
+      this.buffer = buffer;
+
+      complete = false;
+      failure = null;
+    }
+  }
+}
@@ -39,9 +39,6 @@ package com.unboundid.ldap.sdk;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
@@ -53,6 +50,8 @@ import com.unboundid.ldap.protocol.LDAPMessage;
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.protocol.ProtocolOp;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -128,9 +127,9 @@ public final class CompareRequest
 
 
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
   // The assertion value for this compare request.
   @NotNull private ASN1OctetString assertionValue;
@@ -144,6 +143,10 @@ public final class CompareRequest
   // The DN of the entry in which the comparison is to be performed.
   @NotNull private String dn;
 
+  // The pre-encoded representation of this request, if it was created from a
+  // template and has not been altered since.
+  @Nullable private transient PreEncodedProtocolOp preEncodedProtocolOp;
+
 
 
   /**
@@ -413,6 +416,8 @@ public final class CompareRequest
     Validator.ensureNotNull(dn);
 
     this.dn = dn;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -428,6 +433,8 @@ public final class CompareRequest
     Validator.ensureNotNull(dn);
 
     this.dn = dn.toString();
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -456,6 +463,8 @@ public final class CompareRequest
     Validator.ensureNotNull(attributeName);
 
     this.attributeName = attributeName;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -507,6 +516,8 @@ public final class CompareRequest
     Validator.ensureNotNull(assertionValue);
 
     this.assertionValue = new ASN1OctetString(assertionValue);
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -522,6 +533,8 @@ public final class CompareRequest
     Validator.ensureNotNull(assertionValue);
 
     this.assertionValue = new ASN1OctetString(assertionValue);
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -535,6 +548,8 @@ public final class CompareRequest
   public void setAssertionValue(@NotNull final ASN1OctetString assertionValue)
   {
     this.assertionValue = assertionValue;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -630,7 +645,19 @@ public final class CompareRequest
     }
 
     final long requestTime = System.nanoTime();
-    processAsync(connection, null);
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    responseHandoff = handoff;
+    try
+    {
+      processAsync(connection, null);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      responseHandoff = null;
+      handoff.release();
+      throw le;
+    }
 
     try
     {
@@ -639,14 +666,7 @@ public final class CompareRequest
       try
       {
         final long responseTimeout = getResponseTimeoutMillis(connection);
-        if (responseTimeout > 0)
-        {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(responseTimeout);
       }
       catch (final InterruptedException ie)
       {
@@ -661,11 +681,49 @@ public final class CompareRequest
     finally
     {
       connection.deregisterResponseAcceptor(messageID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
 
 
+  /**
+   * Specifies the pre-encoded representation of this request.  It will be
+   * sent in place of encoding this request for as long as this request is not
+   * altered.
+   *
+   * @param  preEncodedProtocolOp  The pre-encoded representation of this
+   *                               request.
+   */
+  void setPreEncodedProtocolOp(
+            @NotNull final PreEncodedProtocolOp preEncodedProtocolOp)
+  {
+    this.preEncodedProtocolOp = preEncodedProtocolOp;
+  }
+
+
+
+  /**
+   * Creates the LDAP message to send to the server for this request, using
+   * the pre-encoded representation of this request if one is available.
+   *
+   * @return  The LDAP message that was created.
+   */
+  @NotNull()
+  private LDAPMessage createRequestMessage()
+  {
+    final PreEncodedProtocolOp op = preEncodedProtocolOp;
+    if ((op != null) && (op.getControls() == getControls()))
+    {
+      return new LDAPMessage(messageID, op);
+    }
+
+    return new LDAPMessage(messageID, this, getControls());
+  }
+
+
+
   /**
    * Sends this compare request to the directory server over the provided
    * connection and returns the message ID for the request.
@@ -690,7 +748,7 @@ public final class CompareRequest
   {
     // Create the LDAP message.
     messageID = connection.nextMessageID();
-    final LDAPMessage message = new LDAPMessage(messageID, this, getControls());
+    final LDAPMessage message = createRequestMessage();
 
 
     // If the provided async result listener is {@code null}, then we'll use
@@ -701,6 +759,7 @@ public final class CompareRequest
     if (resultListener == null)
     {
       asyncRequestID = null;
+      responseHandoff.expect(messageID);
       connection.registerResponseAcceptor(messageID, this);
     }
     else
@@ -713,7 +772,7 @@ public final class CompareRequest
 
       if (timeout > 0L)
       {
-        final Timer timer = connection.getTimer();
+        final HashedWheelTimer timer = connection.getTimer();
         final AsyncTimeoutTimerTask timerTask =
              new AsyncTimeoutTimerTask(compareHelper);
         timer.schedule(timerTask, timeout);
@@ -776,8 +835,7 @@ public final class CompareRequest
   {
     // Create the LDAP message.
     messageID = connection.nextMessageID();
-    final LDAPMessage message =
-         new LDAPMessage(messageID,  this, getControls());
+    final LDAPMessage message = createRequestMessage();
 
 
     // Send the request to the server.
@@ -892,6 +950,7 @@ public final class CompareRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -1026,23 +1085,11 @@ public final class CompareRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
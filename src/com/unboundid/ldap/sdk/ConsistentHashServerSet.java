@@ -0,0 +1,1050 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.SocketFactory;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.PropertyManager;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a server set implementation that uses consistent hashing
+ * to associate each target DN with one of the servers in the set, so that
+ * operations targeting the same entry (or the same subtree) will consistently
+ * be sent to the same server.  This can substantially improve the
+ * effectiveness of server-side entry caches when the servers hold replicas of
+ * the same data.
+ * <BR><BR>
+ * Each server is placed at a number of pseudo-random points (called virtual
+ * nodes) on a hash ring, and a target DN is associated with the server whose
+ * point is the first one at or after the hash of the DN.  If a set of routing
+ * base DNs is configured, then a target DN at or below any of those base DNs
+ * will be hashed using the most specific of those base DNs rather than the
+ * target DN itself, so that all operations in that subtree will be sent to
+ * the same server.  If the server associated with a DN is unavailable, then
+ * the next server on the ring will be used instead.  As a result, the failure
+ * of a server will only change the server used for the DNs that had been
+ * associated with the failed server, and the load for those DNs will be spread
+ * across the remaining servers.
+ * <BR><BR>
+ * When this server set is used with an {@link LDAPConnectionPool}, the pool
+ * will use the target DN of each add, compare, delete, modify, modify DN, and
+ * search operation (and the base DN of a search) to select an available
+ * connection established to the associated server.  If no such connection is
+ * available, then any available connection will be used.  Connections created
+ * by this server set without a target DN (including all connections created
+ * by a connection pool) will be established to the servers in a round-robin
+ * order, so that the pool will have connections to each of the servers.  If
+ * a server becomes unavailable, then connections will not be re-established
+ * to it until the connections in the pool are replaced, so it is recommended
+ * that a maximum connection age be configured for the pool.
+ * <BR><BR>
+ * This server set implementation has the ability to maintain a temporary
+ * blacklist of servers that have been recently found to be unavailable or
+ * unsuitable for use.  If an attempt to establish or authenticate a
+ * connection fails, if post-connect processing fails for that connection, or if
+ * health checking indicates that the connection is not suitable, then that
+ * server may be placed on the blacklist so that it will only be tried as a last
+ * resort after all non-blacklisted servers have been attempted.  The blacklist
+ * will be checked at regular intervals to determine whether a server should be
+ * re-instated to availability.
+ * <BR><BR>
+ * Note that this server set implementation is primarily intended for use with
+ * connection pools, but is also suitable for cases in which standalone
+ * connections are created as long as there will not be any attempt to close the
+ * connections when they are re-established.  It is not suitable for use in
+ * connections that may be re-established one or more times after being closed.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for creating a consistent
+ * hash server set that will send all operations within each organizational
+ * unit below "dc=example,dc=com" to the same server.
+ * <PRE>
+ * // Create arrays with the addresses and ports of the directory server
+ * // instances.
+ * String[] addresses =
+ * {
+ *   server1Address,
+ *   server2Address,
+ *   server3Address
+ * };
+ * int[] ports =
+ * {
+ *   server1Port,
+ *   server2Port,
+ *   server3Port
+ * };
+ *
+ * // Create the server set using the address and port arrays and the set of
+ * // routing base DNs.
+ * List&lt;DN&gt; routingBaseDNs = Arrays.asList(
+ *      new DN("ou=People,dc=example,dc=com"),
+ *      new DN("ou=Groups,dc=example,dc=com"));
+ * ConsistentHashServerSet consistentHashSet = new ConsistentHashServerSet(
+ *      addresses, ports, routingBaseDNs,
+ *      ConsistentHashServerSet.DEFAULT_VIRTUAL_NODES_PER_SERVER, null, null,
+ *      null, null, 30_000L);
+ *
+ * // Create a connection pool using the server set.  Operations processed
+ * // through the pool will be sent to the server associated with their
+ * // target DN whenever possible.
+ * SimpleBindRequest bindRequest =
+ *      new SimpleBindRequest("uid=pool.user,dc=example,dc=com", "password");
+ * LDAPConnectionPool pool =
+ *      new LDAPConnectionPool(consistentHashSet, bindRequest, 30);
+ * pool.setMaxConnectionAgeMillis(600_000L);
+ * SearchResultEntry entry =
+ *      pool.getEntry("uid=john.doe,ou=People,dc=example,dc=com");
+ * pool.close();
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class ConsistentHashServerSet
+       extends ServerSet
+{
+  /**
+   * The default number of virtual nodes that will be placed on the hash ring
+   * for each server.
+   */
+  public static final int DEFAULT_VIRTUAL_NODES_PER_SERVER = 160;
+
+
+
+  /**
+   * The name of a system property that can be used to override the default
+   * blacklist check interval, in milliseconds.
+   */
+  @NotNull static final String
+       PROPERTY_DEFAULT_BLACKLIST_CHECK_INTERVAL_MILLIS =
+            ConsistentHashServerSet.class.getName() +
+                 ".defaultBlacklistCheckIntervalMillis";
+
+
+
+  // The counter used to select the server for connections created without a
+  // target DN.
+  @NotNull private final AtomicLong nextServerCounter;
+
+  // The bind request to use to authenticate connections created by this
+  // server set.
+  @Nullable private final BindRequest bindRequest;
+
+  // The index into the servers list of the server for each of the points on
+  // the hash ring, in the same order as the ringHashes array.
+  @NotNull private final int[] ringServers;
+
+  // The number of virtual nodes placed on the hash ring for each server.
+  private final int virtualNodesPerServer;
+
+  // The set of connection options to use for new connections.
+  @NotNull private final LDAPConnectionOptions connectionOptions;
+
+  // The routing base DNs, ordered from the most specific to the least
+  // specific.
+  @NotNull private final List<DN> routingBaseDNs;
+
+  // The addresses and ports of the servers, in the order they were provided.
+  @NotNull private final List<ObjectPair<String,Integer>> servers;
+
+  // The points on the hash ring, in ascending order.
+  @NotNull private final long[] ringHashes;
+
+  // The post-connect processor to invoke against connections created by this
+  // server set.
+  @Nullable private final PostConnectProcessor postConnectProcessor;
+
+  // The blacklist manager for this server set.
+  @Nullable private final ServerSetBlacklistManager blacklistManager;
+
+  // The socket factory to use to establish connections.
+  @NotNull private final SocketFactory socketFactory;
+
+
+
+  /**
+   * Creates a new consistent hash server set with the specified set of
+   * directory server addresses and port numbers.  It will use the default
+   * socket factory provided by the JVM to create the underlying sockets, and
+   * each target DN will be hashed individually.
+   *
+   * @param  addresses  The addresses of the directory servers to which the
+   *                    connections should be established.  It must not be
+   *                    {@code null} or empty.
+   * @param  ports      The ports of the directory servers to which the
+   *                    connections should be established.  It must not be
+   *                    {@code null}, and it must have the same number of
+   *                    elements as the {@code addresses} array.  The order of
+   *                    elements in the {@code addresses} array must correspond
+   *                    to the order of elements in the {@code ports} array.
+   */
+  public ConsistentHashServerSet(@NotNull final String[] addresses,
+                                 @NotNull final int[] ports)
+  {
+    this(addresses, ports, null, null);
+  }
+
+
+
+  /**
+   * Creates a new consistent hash server set with the specified set of
+   * directory server addresses and port numbers.  It will use the default
+   * socket factory provided by the JVM to create the underlying sockets, and
+   * each target DN will be hashed individually.
+   *
+   * @param  addresses          The addresses of the directory servers to which
+   *                            the connections should be established.  It must
+   *                            not be {@code null} or empty.
+   * @param  ports              The ports of the directory servers to which the
+   *                            connections should be established.  It must not
+   *                            be {@code null}, and it must have the same
+   *                            number of elements as the {@code addresses}
+   *                            array.  The order of elements in the
+   *                            {@code addresses} array must correspond to the
+   *                            order of elements in the {@code ports} array.
+   * @param  connectionOptions  The set of connection options to use for the
+   *                            underlying connections.
+   */
+  public ConsistentHashServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+  {
+    this(addresses, ports, null, connectionOptions);
+  }
+
+
+
+  /**
+   * Creates a new consistent hash server set with the specified set of
+   * directory server addresses and port numbers.  It will use the provided
+   * socket factory to create the underlying sockets, and each target DN will
+   * be hashed individually.
+   *
+   * @param  addresses          The addresses of the directory servers to which
+   *                            the connections should be established.  It must
+   *                            not be {@code null} or empty.
+   * @param  ports              The ports of the directory servers to which the
+   *                            connections should be established.  It must not
+   *                            be {@code null}, and it must have the same
+   *                            number of elements as the {@code addresses}
+   *                            array.  The order of elements in the
+   *                            {@code addresses} array must correspond to the
+   *                            order of elements in the {@code ports} array.
+   * @param  socketFactory      The socket factory to use to create the
+   *                            underlying connections.
+   * @param  connectionOptions  The set of connection options to use for the
+   *                            underlying connections.
+   */
+  public ConsistentHashServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+  {
+    this(addresses, ports, null, DEFAULT_VIRTUAL_NODES_PER_SERVER,
+         socketFactory, connectionOptions, null, null,
+         getDefaultBlacklistCheckIntervalMillis());
+  }
+
+
+
+  /**
+   * Creates a new consistent hash server set with the specified set of
+   * directory server addresses and port numbers.  It will use the provided
+   * socket factory to create the underlying sockets.
+   *
+   * @param  addresses                     The addresses of the directory
+   *                                       servers to which the connections
+   *                                       should be established.  It must not
+   *                                       be {@code null} or empty.
+   * @param  ports                         The ports of the directory servers to
+   *                                       which the connections should be
+   *                                       established.  It must not be
+   *                                       {@code null}, and it must have the
+   *                                       same number of elements as the
+   *                                       {@code addresses} array.  The order
+   *                                       of elements in the {@code addresses}
+   *                                       array must correspond to the order of
+   *                                       elements in the {@code ports} array.
+   * @param  routingBaseDNs                The base DNs of subtrees whose
+   *                                       entries should all be associated with
+   *                                       the same server.  A target DN at or
+   *                                       below any of these base DNs will be
+   *                                       hashed using the most specific
+   *                                       matching base DN rather than the
+   *                                       target DN itself.
+   *                                       It may be {@code null} or empty if
+   *                                       each target DN should be hashed
+   *                                       individually.
+   * @param  virtualNodesPerServer         The number of virtual nodes to place
+   *                                       on the hash ring for each server.
+   *                                       Larger values will spread DNs more
+   *                                       evenly across the servers.  It must
+   *                                       be greater than zero.
+   * @param  socketFactory                 The socket factory to use to create
+   *                                       the underlying connections.
+   * @param  connectionOptions             The set of connection options to use
+   *                                       for the underlying connections.
+   * @param  bindRequest                   The bind request that should be used
+   *                                       to authenticate newly established
+   *                                       connections. It may be {@code null}
+   *                                       if this server set should not perform
+   *                                       any authentication.
+   * @param  postConnectProcessor          The post-connect processor that
+   *                                       should be invoked on newly
+   *                                       established connections.  It may be
+   *                                       {@code null} if this server set
+   *                                       should not perform any post-connect
+   *                                       processing.
+   * @param  blacklistCheckIntervalMillis  The length of time in milliseconds
+   *                                       between checks of servers on the
+   *                                       blacklist to determine whether they
+   *                                       are once again suitable for use.  A
+   *                                       value that is less than or equal to
+   *                                       zero indicates that no blacklist
+   *                                       should be maintained.
+   */
+  public ConsistentHashServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final Collection<DN> routingBaseDNs,
+              final int virtualNodesPerServer,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions,
+              @Nullable final BindRequest bindRequest,
+              @Nullable final PostConnectProcessor postConnectProcessor,
+              final long blacklistCheckIntervalMillis)
+  {
+    Validator.ensureNotNull(addresses, ports);
+    Validator.ensureTrue(addresses.length > 0,
+         "ConsistentHashServerSet.addresses must not be empty.");
+    Validator.ensureTrue(addresses.length == ports.length,
+         "ConsistentHashServerSet addresses and ports arrays must be the " +
+              "same size.");
+    Validator.ensureTrue(virtualNodesPerServer > 0,
+         "ConsistentHashServerSet.virtualNodesPerServer must be greater " +
+              "than zero.");
+
+    final ArrayList<ObjectPair<String,Integer>> serverList =
+         new ArrayList<>(addresses.length);
+    for (int i=0; i < addresses.length; i++)
+    {
+      serverList.add(new ObjectPair<>(addresses[i], ports[i]));
+    }
+    servers = Collections.unmodifiableList(serverList);
+
+    if ((routingBaseDNs == null) || routingBaseDNs.isEmpty())
+    {
+      this.routingBaseDNs = Collections.emptyList();
+    }
+    else
+    {
+      final ArrayList<DN> baseDNList = new ArrayList<>(routingBaseDNs);
+      Collections.sort(baseDNList, new Comparator<DN>()
+      {
+        @Override()
+        public int compare(@NotNull final DN dn1, @NotNull final DN dn2)
+        {
+          return Integer.compare(dn2.getRDNs().length, dn1.getRDNs().length);
+        }
+      });
+      this.routingBaseDNs = Collections.unmodifiableList(baseDNList);
+    }
+
+    this.virtualNodesPerServer = virtualNodesPerServer;
+
+
+    // Place the virtual nodes for each server on the ring.  The points for a
+    // server depend only on its address and port, so adding or removing a
+    // server will not affect the points for any other server.
+    final int numPoints = addresses.length * virtualNodesPerServer;
+    final long[] hashes = new long[numPoints];
+    final Integer[] order = new Integer[numPoints];
+    for (int i=0; i < addresses.length; i++)
+    {
+      final String serverKey = addresses[i] + ':' + ports[i] + '#';
+      for (int j=0; j < virtualNodesPerServer; j++)
+      {
+        final int pointIndex = (i * virtualNodesPerServer) + j;
+        hashes[pointIndex] = hash(serverKey + j);
+        order[pointIndex] = pointIndex;
+      }
+    }
+
+    Arrays.sort(order, new Comparator<Integer>()
+    {
+      @Override()
+      public int compare(@NotNull final Integer i1, @NotNull final Integer i2)
+      {
+        return Long.compare(hashes[i1], hashes[i2]);
+      }
+    });
+
+    ringHashes = new long[numPoints];
+    ringServers = new int[numPoints];
+    for (int i=0; i < numPoints; i++)
+    {
+      ringHashes[i] = hashes[order[i]];
+      ringServers[i] = order[i] / virtualNodesPerServer;
+    }
+
+    nextServerCounter = new AtomicLong(0L);
+
+    this.bindRequest = bindRequest;
+    this.postConnectProcessor = postConnectProcessor;
+
+    if (socketFactory == null)
+    {
+      this.socketFactory = SocketFactory.getDefault();
+    }
+    else
+    {
+      this.socketFactory = socketFactory;
+    }
+
+    if (connectionOptions == null)
+    {
+      this.connectionOptions = new LDAPConnectionOptions();
+    }
+    else
+    {
+      this.connectionOptions = connectionOptions;
+    }
+
+    if (blacklistCheckIntervalMillis > 0L)
+    {
+      blacklistManager = new ServerSetBlacklistManager(this, socketFactory,
+           connectionOptions, bindRequest, postConnectProcessor,
+           blacklistCheckIntervalMillis);
+    }
+    else
+    {
+      blacklistManager = null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the default blacklist check interval (in milliseconds that should
+   * be used if it is not specified.
+   *
+   * @return  The default blacklist check interval (in milliseconds that should
+   *          be used if it is not specified.
+   */
+  private static long getDefaultBlacklistCheckIntervalMillis()
+  {
+    return PropertyManager.getLong(
+         PROPERTY_DEFAULT_BLACKLIST_CHECK_INTERVAL_MILLIS, 30_000L);
+  }
+
+
+
+  /**
+   * Retrieves the addresses of the directory servers to which the connections
+   * should be established.
+   *
+   * @return  The addresses of the directory servers to which the connections
+   *          should be established.
+   */
+  @NotNull()
+  public String[] getAddresses()
+  {
+    final String[] addresses = new String[servers.size()];
+    for (int i=0; i < addresses.length; i++)
+    {
+      addresses[i] = servers.get(i).getFirst();
+    }
+
+    return addresses;
+  }
+
+
+
+  /**
+   * Retrieves the ports of the directory servers to which the connections
+   * should be established.
+   *
+   * @return  The ports of the directory servers to which the connections should
+   *          be established.
+   */
+  @NotNull()
+  public int[] getPorts()
+  {
+    final int[] ports = new int[servers.size()];
+    for (int i=0; i < ports.length; i++)
+    {
+      ports[i] = servers.get(i).getSecond();
+    }
+
+    return ports;
+  }
+
+
+
+  /**
+   * Retrieves the socket factory that will be used to establish connections.
+   *
+   * @return  The socket factory that will be used to establish connections.
+   */
+  @NotNull()
+  public SocketFactory getSocketFactory()
+  {
+    return socketFactory;
+  }
+
+
+
+  /**
+   * Retrieves the set of connection options that will be used for underlying
+   * connections.
+   *
+   * @return  The set of connection options that will be used for underlying
+   *          connections.
+   */
+  @NotNull()
+  public LDAPConnectionOptions getConnectionOptions()
+  {
+    return connectionOptions;
+  }
+
+
+
+  /**
+   * Retrieves the base DNs of subtrees whose entries should all be associated
+   * with the same server.
+   *
+   * @return  The base DNs of subtrees whose entries should all be associated
+   *          with the same server, ordered from the most specific to the least
+   *          specific, or an empty list if each target DN will be hashed
+   *          individually.
+   */
+  @NotNull()
+  public List<DN> getRoutingBaseDNs()
+  {
+    return routingBaseDNs;
+  }
+
+
+
+  /**
+   * Retrieves the number of virtual nodes placed on the hash ring for each
+   * server.
+   *
+   * @return  The number of virtual nodes placed on the hash ring for each
+   *          server.
+   */
+  public int getVirtualNodesPerServer()
+  {
+    return virtualNodesPerServer;
+  }
+
+
+
+  /**
+   * Retrieves the key that will be hashed to select the server for the
+   * provided target DN.  If the DN is at or below any of the routing base DNs,
+   * then the key will be the normalized representation of the most specific of
+   * those base DNs.  Otherwise, it will be the normalized representation of
+   * the DN itself.
+   *
+   * @param  targetDN  The target DN for which to obtain the routing key.  It
+   *                   must not be {@code null}.
+   *
+   * @return  The key that will be hashed to select the server for the provided
+   *          target DN.
+   */
+  @NotNull()
+  public String getRoutingKey(@NotNull final String targetDN)
+  {
+    final DN parsedDN;
+    try
+    {
+      parsedDN = new DN(targetDN);
+    }
+    catch (final LDAPException le)
+    {
+      // The DN can't be parsed, so we can't normalize it or compare it against
+      // the routing base DNs.  Just use the lowercase representation.
+      Debug.debugException(le);
+      return StaticUtils.toLowerCase(targetDN);
+    }
+
+    for (final DN baseDN : routingBaseDNs)
+    {
+      if (parsedDN.isDescendantOf(baseDN, true))
+      {
+        return baseDN.toNormalizedString();
+      }
+    }
+
+    return parsedDN.toNormalizedString();
+  }
+
+
+
+  /**
+   * Retrieves the server that is associated with the provided target DN on the
+   * hash ring, regardless of whether that server is currently available.
+   *
+   * @param  targetDN  The target DN for which to obtain the associated server.
+   *                   It must not be {@code null}.
+   *
+   * @return  An object pair with the address and port of the server associated
+   *          with the provided target DN.
+   */
+  @NotNull()
+  public ObjectPair<String,Integer> getServerForDN(
+              @NotNull final String targetDN)
+  {
+    return servers.get(ringServers[getRingIndex(getRoutingKey(targetDN))]);
+  }
+
+
+
+  /**
+   * Retrieves a list of all of the servers in this server set in the order in
+   * which they appear on the hash ring starting at the point for the provided
+   * target DN, regardless of whether those servers are currently available.
+   * The first server in the list will be the server associated with the DN,
+   * and each subsequent server will be the one that would be used if all of
+   * the servers before it were unavailable.
+   *
+   * @param  targetDN  The target DN for which to obtain the list of servers.
+   *                   It must not be {@code null}.
+   *
+   * @return  A list of all of the servers in this server set in the order in
+   *          which they appear on the hash ring starting at the point for the
+   *          provided target DN.
+   */
+  @NotNull()
+  public List<ObjectPair<String,Integer>> getServersForDN(
+              @NotNull final String targetDN)
+  {
+    final int numServers = servers.size();
+    final ArrayList<ObjectPair<String,Integer>> serverList =
+         new ArrayList<>(numServers);
+    final boolean[] included = new boolean[numServers];
+
+    int ringIndex = getRingIndex(getRoutingKey(targetDN));
+    for (int i=0; i < ringServers.length; i++)
+    {
+      final int serverIndex = ringServers[ringIndex];
+      if (! included[serverIndex])
+      {
+        included[serverIndex] = true;
+        serverList.add(servers.get(serverIndex));
+        if (serverList.size() == numServers)
+        {
+          break;
+        }
+      }
+
+      ringIndex = (ringIndex + 1) % ringServers.length;
+    }
+
+    return Collections.unmodifiableList(serverList);
+  }
+
+
+
+  /**
+   * Retrieves a list of all of the servers in this server set in the order in
+   * which they should be used for the provided target DN.  This will be the
+   * same order as for the {@link #getServersForDN} method, except that any
+   * servers that are currently blacklisted or whose circuit is open will be
+   * moved to the end of the list.
+   *
+   * @param  targetDN  The target DN for which to obtain the list of servers.
+   *                   It must not be {@code null}.
+   *
+   * @return  A list of all of the servers in this server set in the order in
+   *          which they should be used for the provided target DN.
+   */
+  @NotNull()
+  List<ObjectPair<String,Integer>> getServersInPreferenceOrder(
+       @NotNull final String targetDN)
+  {
+    return moveUnavailableServersToEnd(getServersForDN(targetDN));
+  }
+
+
+
+  /**
+   * Retrieves the index of the point on the hash ring that is associated with
+   * the provided key.
+   *
+   * @param  key  The key for which to obtain the ring index.
+   *
+   * @return  The index of the point on the hash ring that is associated with
+   *          the provided key.
+   */
+  private int getRingIndex(@NotNull final String key)
+  {
+    final int index = Arrays.binarySearch(ringHashes, hash(key));
+    if (index >= 0)
+    {
+      return index;
+    }
+
+    final int insertionPoint = -(index + 1);
+    if (insertionPoint >= ringHashes.length)
+    {
+      return 0;
+    }
+    else
+    {
+      return insertionPoint;
+    }
+  }
+
+
+
+  /**
+   * Computes a 64-bit hash of the provided string.  This uses the FNV-1a
+   * algorithm followed by a finalization step that spreads the bits so that
+   * similar strings will be well-distributed around the ring.  It is used
+   * rather than {@code String.hashCode} so that the ring has 64 bits of
+   * resolution.
+   *
+   * @param  s  The string for which to compute the hash.
+   *
+   * @return  The 64-bit hash of the provided string.
+   */
+  static long hash(@NotNull final String s)
+  {
+    long h = 0xCBF29CE484222325L;
+    final int length = s.length();
+    for (int i=0; i < length; i++)
+    {
+      h ^= s.charAt(i);
+      h *= 0x100000001B3L;
+    }
+
+    h ^= (h >>> 33);
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= (h >>> 33);
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= (h >>> 33);
+    return h;
+  }
+
+
+
+  /**
+   * Creates a copy of the provided list of servers in which any servers that
+   * are currently blacklisted or whose circuit is open have been moved to the
+   * end of the list.  The relative order of the servers will otherwise be
+   * preserved.
+   *
+   * @param  serverList  The list of servers to be reordered.
+   *
+   * @return  The reordered list of servers.
+   */
+  @NotNull()
+  private List<ObjectPair<String,Integer>> moveUnavailableServersToEnd(
+               @NotNull final List<ObjectPair<String,Integer>> serverList)
+  {
+    final ArrayList<ObjectPair<String,Integer>> available =
+         new ArrayList<>(serverList.size());
+    ArrayList<ObjectPair<String,Integer>> unavailable = null;
+    for (final ObjectPair<String,Integer> hostPort : serverList)
+    {
+      if (((blacklistManager != null) &&
+           blacklistManager.isBlacklisted(hostPort)) ||
+           isCircuitOpen(hostPort.getFirst(), hostPort.getSecond()))
+      {
+        if (unavailable == null)
+        {
+          unavailable = new ArrayList<>(serverList.size());
+        }
+        unavailable.add(hostPort);
+      }
+      else
+      {
+        available.add(hostPort);
+      }
+    }
+
+    if (unavailable != null)
+    {
+      available.addAll(unavailable);
+    }
+
+    return available;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean includesAuthentication()
+  {
+    return (bindRequest != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean includesPostConnectProcessing()
+  {
+    return (postConnectProcessor != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * Because no target DN is available, the connection will be established to
+   * the servers in a round-robin order.
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection()
+         throws LDAPException
+  {
+    return getConnection(null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * Because no target DN is available, the connection will be established to
+   * the servers in a round-robin order.
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection(
+              @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
+         throws LDAPException
+  {
+    final int numServers = servers.size();
+    final int firstIndex =
+         (int) (nextServerCounter.getAndIncrement() % numServers);
+    final ArrayList<ObjectPair<String,Integer>> serverList =
+         new ArrayList<>(numServers);
+    for (int i=0; i < numServers; i++)
+    {
+      serverList.add(servers.get((firstIndex + i) % numServers));
+    }
+
+    return getConnection(moveUnavailableServersToEnd(serverList), healthCheck);
+  }
+
+
+
+  /**
+   * Attempts to establish a connection to the server associated with the
+   * provided target DN.  If that server is unavailable, then the connection
+   * will be established to the next available server on the hash ring.
+   *
+   * @param  targetDN     The target DN for which to establish the connection.
+   *                      It must not be {@code null}.
+   * @param  healthCheck  The health check to use to verify the health of the
+   *                      newly-created connection.  It may be {@code null} if
+   *                      no health check should be performed.
+   *
+   * @return  The newly-created connection.
+   *
+   * @throws  LDAPException  If it is not possible to establish a connection to
+   *                         any of the servers in this server set.
+   */
+  @NotNull()
+  public LDAPConnection getConnection(@NotNull final String targetDN,
+              @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
+         throws LDAPException
+  {
+    return getConnection(getServersInPreferenceOrder(targetDN), healthCheck);
+  }
+
+
+
+  /**
+   * Attempts to establish a connection to each of the provided servers in
+   * order until one succeeds.
+   *
+   * @param  serverList   The servers to try, in the order in which they should
+   *                      be tried.  Servers that are blacklisted or whose
+   *                      circuit is open are expected to be at the end of the
+   *                      list.
+   * @param  healthCheck  The health check to use to verify the health of the
+   *                      newly-created connection.  It may be {@code null} if
+   *                      no health check should be performed.
+   *
+   * @return  The newly-created connection.
+   *
+   * @throws  LDAPException  If it is not possible to establish a connection to
+   *                         any of the provided servers.
+   */
+  @NotNull()
+  private LDAPConnection getConnection(
+               @NotNull final List<ObjectPair<String,Integer>> serverList,
+               @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
+          throws LDAPException
+  {
+    LDAPException lastException = null;
+    for (final ObjectPair<String,Integer> hostPort : serverList)
+    {
+      final boolean wasBlacklisted = ((blacklistManager != null) &&
+           blacklistManager.isBlacklisted(hostPort));
+
+      try
+      {
+        final LDAPConnection conn = new LDAPConnection(socketFactory,
+             connectionOptions, hostPort.getFirst(), hostPort.getSecond());
+        doBindPostConnectAndHealthCheckProcessing(conn, bindRequest,
+             postConnectProcessor, healthCheck);
+        associateConnectionWithThisServerSet(conn);
+        if (wasBlacklisted)
+        {
+          blacklistManager.removeFromBlacklist(hostPort);
+        }
+        return conn;
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        lastException = le;
+        if ((blacklistManager != null) && (! wasBlacklisted))
+        {
+          blacklistManager.addToBlacklist(hostPort, healthCheck);
+        }
+      }
+    }
+
+
+    // If we've gotten here, then we've tried all servers without any success,
+    // so throw the last exception that was encountered.
+    throw lastException;
+  }
+
+
+
+  /**
+   * Retrieves the blacklist manager for this server set.
+   *
+   * @return  The blacklist manager for this server set, or {@code null} if no
+   *          blacklist will be maintained.
+   */
+  @Nullable()
+  public ServerSetBlacklistManager getBlacklistManager()
+  {
+    return blacklistManager;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void shutDown()
+  {
+    if (blacklistManager != null)
+    {
+      blacklistManager.shutDown();
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("ConsistentHashServerSet(servers={");
+
+    for (int i=0; i < servers.size(); i++)
+    {
+      if (i > 0)
+      {
+        buffer.append(", ");
+      }
+
+      buffer.append(servers.get(i).getFirst());
+      buffer.append(':');
+      buffer.append(servers.get(i).getSecond());
+    }
+
+    buffer.append("}, routingBaseDNs={");
+    for (int i=0; i < routingBaseDNs.size(); i++)
+    {
+      if (i > 0)
+      {
+        buffer.append(", ");
+      }
+
+      buffer.append('\'');
+      buffer.append(routingBaseDNs.get(i).toString());
+      buffer.append('\'');
+    }
+
+    buffer.append("}, virtualNodesPerServer=");
+    buffer.append(virtualNodesPerServer);
+    buffer.append(", includesAuthentication=");
+    buffer.append(bindRequest != null);
+    buffer.append(", includesPostConnectProcessing=");
+    buffer.append(postConnectProcessor != null);
+    buffer.append(')');
+  }
+}
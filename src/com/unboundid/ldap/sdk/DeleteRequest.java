@@ -38,9 +38,6 @@ package com.unboundid.ldap.sdk;
 
 
 import java.util.List;
-import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
@@ -51,6 +48,8 @@ import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.protocol.ProtocolOp;
 import com.unboundid.ldif.LDIFDeleteChangeRecord;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -112,9 +111,9 @@ public final class DeleteRequest
   // The message ID from the last LDAP message sent from this request.
   private int messageID = -1;
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
   // The DN of the entry to delete.
   @NotNull private String dn;
@@ -300,7 +299,19 @@ public final class DeleteRequest
     }
 
     final long requestTime = System.nanoTime();
-    processAsync(connection, null);
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    responseHandoff = handoff;
+    try
+    {
+      processAsync(connection, null);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      responseHandoff = null;
+      handoff.release();
+      throw le;
+    }
 
     try
     {
@@ -309,14 +320,7 @@ public final class DeleteRequest
       try
       {
         final long responseTimeout = getResponseTimeoutMillis(connection);
-        if (responseTimeout > 0)
-        {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(responseTimeout);
       }
       catch (final InterruptedException ie)
       {
@@ -331,6 +335,8 @@ public final class DeleteRequest
     finally
     {
       connection.deregisterResponseAcceptor(messageID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
@@ -371,6 +377,7 @@ public final class DeleteRequest
     if (resultListener == null)
     {
       asyncRequestID = null;
+      responseHandoff.expect(messageID);
       connection.registerResponseAcceptor(messageID, this);
     }
     else
@@ -383,7 +390,7 @@ public final class DeleteRequest
 
       if (timeout > 0L)
       {
-        final Timer timer = connection.getTimer();
+        final HashedWheelTimer timer = connection.getTimer();
         final AsyncTimeoutTimerTask timerTask =
              new AsyncTimeoutTimerTask(helper);
         timer.schedule(timerTask, timeout);
@@ -562,6 +569,7 @@ public final class DeleteRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -684,23 +692,11 @@ public final class DeleteRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
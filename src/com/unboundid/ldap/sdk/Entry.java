@@ -154,6 +154,29 @@ public class Entry
 
 
 
+  /**
+   * Creates a new entry with the provided DN that will use the given map to
+   * hold its attributes.  The map must be keyed on the lowercase name of each
+   * attribute.
+   *
+   * @param  dn          The DN for this entry.  It must not be {@code null}.
+   * @param  schema      The schema to use for operations involving this entry.
+   *                     It may be {@code null} if no schema is available.
+   * @param  attributes  The map to use to hold the attributes for this entry.
+   *                     It must not be {@code null}.
+   */
+  Entry(@NotNull final String dn, @Nullable final Schema schema,
+        @NotNull final LinkedHashMap<String,Attribute> attributes)
+  {
+    Validator.ensureNotNull(dn, attributes);
+
+    this.dn         = dn;
+    this.schema     = schema;
+    this.attributes = attributes;
+  }
+
+
+
   /**
    * Creates a new entry with the provided DN and no attributes.
    *
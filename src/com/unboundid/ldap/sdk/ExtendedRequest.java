@@ -39,8 +39,6 @@ package com.unboundid.ldap.sdk;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
@@ -53,6 +51,7 @@ import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.protocol.ProtocolOp;
 import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
 import com.unboundid.util.Extensible;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotMutable;
@@ -110,9 +109,9 @@ public class ExtendedRequest
   // The message ID from the last LDAP message sent from this request.
   private int messageID = -1;
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
   // The OID for this extended request.
   @NotNull private final String oid;
@@ -362,6 +361,9 @@ public class ExtendedRequest
     // request that we've created.
     connection.registerResponseAcceptor(messageID, this);
 
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    handoff.expect(messageID);
+    responseHandoff = handoff;
 
     try
     {
@@ -391,14 +393,7 @@ public class ExtendedRequest
       final LDAPResponse response;
       try
       {
-        if (responseTimeout > 0)
-        {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(responseTimeout);
       }
       catch (final InterruptedException ie)
       {
@@ -413,6 +408,8 @@ public class ExtendedRequest
     finally
     {
       connection.deregisterResponseAcceptor(messageID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
@@ -516,6 +513,7 @@ public class ExtendedRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -561,23 +559,11 @@ public class ExtendedRequest
   public final void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
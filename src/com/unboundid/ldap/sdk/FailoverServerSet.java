@@ -708,6 +708,29 @@ public final class FailoverServerSet
 
 
 
+  /**
+   * Specifies the circuit breaker that should apply to connections created by
+   * this server set.  Because connections are created by the server sets over
+   * which failover will occur, the circuit breaker will also be set for each
+   * of those server sets.
+   *
+   * @param  circuitBreaker  The circuit breaker that should apply to
+   *                         connections created by this server set.  It may be
+   *                         {@code null} if no circuit breaker should be used.
+   */
+  @Override()
+  public void setCircuitBreaker(
+                   @Nullable final ServerCircuitBreaker circuitBreaker)
+  {
+    super.setCircuitBreaker(circuitBreaker);
+    for (final ServerSet s : serverSets)
+    {
+      s.setCircuitBreaker(circuitBreaker);
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,1177 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.net.SocketFactory;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimer;
+import com.unboundid.util.HashedWheelTimerTask;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.PropertyManager;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a server set implementation that will establish a
+ * connection to the server that is expected to provide the fastest response
+ * times.  The expected response time for each server is estimated from the
+ * {@link LDAPConnectionStatistics} of the connections that this server set has
+ * established to that server, which are sampled at regular intervals.
+ * <BR><BR>
+ * The estimate for each server is a peak-sensitive, exponentially-weighted
+ * moving average of the response times observed for that server.  Whenever the
+ * average response time for a sampling interval is higher than the current
+ * estimate, the estimate immediately jumps up to that value.  Whenever it is
+ * lower, the estimate decays toward it with a configurable decay time.  As a
+ * result, a server that suddenly becomes slow (for example, because of a
+ * garbage collection pause or while catching up on replication) will be avoided
+ * within a sampling interval, but will only gradually be trusted again once it
+ * recovers.  If no new response times are observed for a server (for example,
+ * because its connections were closed while it was slow), then its estimate
+ * decays over the same decay time toward the lowest estimate of any server in
+ * the set, and it will eventually be treated the same as the fastest server so
+ * that new connections will be established to it again.  The estimate is
+ * multiplied by one more than the number of operations currently outstanding on
+ * connections to the server, so that a server that has stopped responding
+ * altogether will also be avoided.
+ * <BR><BR>
+ * Servers to which no connections have been established yet will have an
+ * estimate of zero, so they will be preferred until response times are known
+ * for them.  If multiple servers have the same expected response time, then
+ * the server with the fewest connections established by this server set will
+ * be chosen.  If a server is unavailable when an attempt is made to establish
+ * a connection to it, then the connection will be established to the
+ * available server with the next best expected response time.
+ * <BR><BR>
+ * This server set only affects the server to which new connections are
+ * established.  When it is used with a connection pool, it will be consulted
+ * whenever the pool creates a connection, including connections created to
+ * replace defunct or expired connections.  Setting a maximum connection age
+ * for the pool can be used to ensure that connections are regularly
+ * re-balanced across the servers.
+ * <BR><BR>
+ * This server set implementation has the ability to maintain a temporary
+ * blacklist of servers that have been recently found to be unavailable or
+ * unsuitable for use.  If an attempt to establish or authenticate a
+ * connection fails, if post-connect processing fails for that connection, or if
+ * health checking indicates that the connection is not suitable, then that
+ * server may be placed on the blacklist so that it will only be tried as a last
+ * resort after all non-blacklisted servers have been attempted.  The blacklist
+ * will be checked at regular intervals to determine whether a server should be
+ * re-instated to availability.
+ * <BR><BR>
+ * Note that this server set implementation is primarily intended for use with
+ * connection pools, but is also suitable for cases in which standalone
+ * connections are created as long as there will not be any attempt to close the
+ * connections when they are re-established.  It is not suitable for use in
+ * connections that may be re-established one or more times after being closed.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for creating a fastest
+ * response server set that may be used to establish connections to either of
+ * two servers.
+ * <PRE>
+ * // Create arrays with the addresses and ports of the directory server
+ * // instances.
+ * String[] addresses =
+ * {
+ *   server1Address,
+ *   server2Address
+ * };
+ * int[] ports =
+ * {
+ *   server1Port,
+ *   server2Port
+ * };
+ *
+ * // Create the server set using the address and port arrays.
+ * FastestResponseServerSet fastestResponseSet =
+ *      new FastestResponseServerSet(addresses, ports);
+ *
+ * // Verify that we can establish a connection pool using the server set.
+ * SimpleBindRequest bindRequest =
+ *      new SimpleBindRequest("uid=pool.user,dc=example,dc=com", "password");
+ * LDAPConnectionPool pool =
+ *      new LDAPConnectionPool(fastestResponseSet, bindRequest, 10);
+ * RootDSE rootDSEFromPool = pool.getRootDSE();
+ * pool.close();
+ * </PRE>
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class FastestResponseServerSet
+       extends ServerSet
+{
+  /**
+   * The default length of time in milliseconds over which the influence of an
+   * earlier response time sample will decay.
+   */
+  public static final long DEFAULT_DECAY_TIME_MILLIS = 10_000L;
+
+
+
+  /**
+   * The weight below which the remaining influence of an estimate that has not
+   * been updated will be ignored, so that the estimate is considered to have
+   * fully decayed.
+   */
+  private static final double MIN_DECAY_WEIGHT = 0.01d;
+
+
+
+  /**
+   * The name of a system property that can be used to override the default
+   * blacklist check interval, in milliseconds.
+   */
+  @NotNull static final String
+       PROPERTY_DEFAULT_BLACKLIST_CHECK_INTERVAL_MILLIS =
+            FastestResponseServerSet.class.getName() +
+                 ".defaultBlacklistCheckIntervalMillis";
+
+
+
+  /**
+   * The name of a system property that can be used to override the interval,
+   * in milliseconds, at which connection statistics will be sampled.
+   */
+  @NotNull static final String PROPERTY_SAMPLE_INTERVAL_MILLIS =
+       FastestResponseServerSet.class.getName() + ".sampleIntervalMillis";
+
+
+
+  // The bind request to use to authenticate connections created by this
+  // server set.
+  @Nullable private final BindRequest bindRequest;
+
+  // The set of connection options to use for new connections.
+  @NotNull private final LDAPConnectionOptions connectionOptions;
+
+  // The response time information for each server.
+  @NotNull private final Map<ObjectPair<String,Integer>,ServerResponseTimes>
+       responseTimesByServer;
+
+  // The timer task used to periodically sample connection statistics, if it is
+  // running.
+  @Nullable private ResponseTimeSamplerTask samplerTask;
+
+  // The length of time in nanoseconds over which the influence of an earlier
+  // response time sample will decay.
+  private final long decayTimeNanos;
+
+  // The interval in milliseconds at which connection statistics are sampled.
+  private final long sampleIntervalMillis;
+
+  // The post-connect processor to invoke against connections created by this
+  // server set.
+  @Nullable private final PostConnectProcessor postConnectProcessor;
+
+  // The blacklist manager for this server set.
+  @Nullable private final ServerSetBlacklistManager blacklistManager;
+
+  // The socket factory to use to establish connections.
+  @NotNull private final SocketFactory socketFactory;
+
+
+
+  /**
+   * Creates a new fastest response server set with the specified set of
+   * directory server addresses and port numbers.  It will use the default
+   * socket factory provided by the JVM to create the underlying sockets.
+   *
+   * @param  addresses  The addresses of the directory servers to which the
+   *                    connections should be established.  It must not be
+   *                    {@code null} or empty.
+   * @param  ports      The ports of the directory servers to which the
+   *                    connections should be established.  It must not be
+   *                    {@code null}, and it must have the same number of
+   *                    elements as the {@code addresses} array.  The order of
+   *                    elements in the {@code addresses} array must correspond
+   *                    to the order of elements in the {@code ports} array.
+   */
+  public FastestResponseServerSet(@NotNull final String[] addresses,
+                                  @NotNull final int[] ports)
+  {
+    this(addresses, ports, null, null);
+  }
+
+
+
+  /**
+   * Creates a new fastest response server set with the specified set of
+   * directory server addresses and port numbers.  It will use the default
+   * socket factory provided by the JVM to create the underlying sockets.
+   *
+   * @param  addresses          The addresses of the directory servers to which
+   *                            the connections should be established.  It must
+   *                            not be {@code null} or empty.
+   * @param  ports              The ports of the directory servers to which the
+   *                            connections should be established.  It must not
+   *                            be {@code null}, and it must have the same
+   *                            number of elements as the {@code addresses}
+   *                            array.  The order of elements in the
+   *                            {@code addresses} array must correspond to the
+   *                            order of elements in the {@code ports} array.
+   * @param  connectionOptions  The set of connection options to use for the
+   *                            underlying connections.
+   */
+  public FastestResponseServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+  {
+    this(addresses, ports, null, connectionOptions);
+  }
+
+
+
+  /**
+   * Creates a new fastest response server set with the specified set of
+   * directory server addresses and port numbers.  It will use the provided
+   * socket factory to create the underlying sockets.
+   *
+   * @param  addresses          The addresses of the directory servers to which
+   *                            the connections should be established.  It must
+   *                            not be {@code null} or empty.
+   * @param  ports              The ports of the directory servers to which the
+   *                            connections should be established.  It must not
+   *                            be {@code null}, and it must have the same
+   *                            number of elements as the {@code addresses}
+   *                            array.  The order of elements in the
+   *                            {@code addresses} array must correspond to the
+   *                            order of elements in the {@code ports} array.
+   * @param  socketFactory      The socket factory to use to create the
+   *                            underlying connections.
+   * @param  connectionOptions  The set of connection options to use for the
+   *                            underlying connections.
+   */
+  public FastestResponseServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions)
+  {
+    this(addresses, ports, socketFactory, connectionOptions, null, null);
+  }
+
+
+
+  /**
+   * Creates a new fastest response server set with the specified set of
+   * directory server addresses and port numbers.  It will use the provided
+   * socket factory to create the underlying sockets.
+   *
+   * @param  addresses             The addresses of the directory servers to
+   *                               which the connections should be established.
+   *                               It must not be {@code null} or empty.
+   * @param  ports                 The ports of the directory servers to which
+   *                               the connections should be established.  It
+   *                               must not be {@code null}, and it must have
+   *                               the same number of elements as the
+   *                               {@code addresses} array.  The order of
+   *                               elements in the {@code addresses} array must
+   *                               correspond to the order of elements in the
+   *                               {@code ports} array.
+   * @param  socketFactory         The socket factory to use to create the
+   *                               underlying connections.
+   * @param  connectionOptions     The set of connection options to use for the
+   *                               underlying connections.
+   * @param  bindRequest           The bind request that should be used to
+   *                               authenticate newly established connections.
+   *                               It may be {@code null} if this server set
+   *                               should not perform any authentication.
+   * @param  postConnectProcessor  The post-connect processor that should be
+   *                               invoked on newly established connections.  It
+   *                               may be {@code null} if this server set should
+   *                               not perform any post-connect processing.
+   */
+  public FastestResponseServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions,
+              @Nullable final BindRequest bindRequest,
+              @Nullable final PostConnectProcessor postConnectProcessor)
+  {
+    this(addresses, ports, socketFactory, connectionOptions, bindRequest,
+         postConnectProcessor, getDefaultBlacklistCheckIntervalMillis(),
+         DEFAULT_DECAY_TIME_MILLIS);
+  }
+
+
+
+  /**
+   * Creates a new fastest response server set with the specified set of
+   * directory server addresses and port numbers.  It will use the provided
+   * socket factory to create the underlying sockets.
+   *
+   * @param  addresses                     The addresses of the directory
+   *                                       servers to which the connections
+   *                                       should be established.  It must not
+   *                                       be {@code null} or empty.
+   * @param  ports                         The ports of the directory servers to
+   *                                       which the connections should be
+   *                                       established.  It must not be
+   *                                       {@code null}, and it must have the
+   *                                       same number of elements as the
+   *                                       {@code addresses} array.  The order
+   *                                       of elements in the {@code addresses}
+   *                                       array must correspond to the order of
+   *                                       elements in the {@code ports} array.
+   * @param  socketFactory                 The socket factory to use to create
+   *                                       the underlying connections.
+   * @param  connectionOptions             The set of connection options to use
+   *                                       for the underlying connections.
+   * @param  bindRequest                   The bind request that should be used
+   *                                       to authenticate newly established
+   *                                       connections. It may be {@code null}
+   *                                       if this server set should not perform
+   *                                       any authentication.
+   * @param  postConnectProcessor          The post-connect processor that
+   *                                       should be invoked on newly
+   *                                       established connections.  It may be
+   *                                       {@code null} if this server set
+   *                                       should not perform any post-connect
+   *                                       processing.
+   * @param  blacklistCheckIntervalMillis  The length of time in milliseconds
+   *                                       between checks of servers on the
+   *                                       blacklist to determine whether they
+   *                                       are once again suitable for use.  A
+   *                                       value that is less than or equal to
+   *                                       zero indicates that no blacklist
+   *                                       should be maintained.
+   * @param  decayTimeMillis               The length of time in milliseconds
+   *                                       over which the influence of an
+   *                                       earlier response time sample will
+   *                                       decay.  Smaller values allow a server
+   *                                       that has recovered from a slowdown to
+   *                                       be used again more quickly.  It must
+   *                                       be greater than zero.
+   */
+  public FastestResponseServerSet(@NotNull final String[] addresses,
+              @NotNull final int[] ports,
+              @Nullable final SocketFactory socketFactory,
+              @Nullable final LDAPConnectionOptions connectionOptions,
+              @Nullable final BindRequest bindRequest,
+              @Nullable final PostConnectProcessor postConnectProcessor,
+              final long blacklistCheckIntervalMillis,
+              final long decayTimeMillis)
+  {
+    Validator.ensureNotNull(addresses, ports);
+    Validator.ensureTrue(addresses.length > 0,
+         "FastestResponseServerSet.addresses must not be empty.");
+    Validator.ensureTrue(addresses.length == ports.length,
+         "FastestResponseServerSet addresses and ports arrays must be the " +
+              "same size.");
+    Validator.ensureTrue(decayTimeMillis > 0L,
+         "FastestResponseServerSet.decayTimeMillis must be greater than zero.");
+
+    final LinkedHashMap<ObjectPair<String,Integer>,ServerResponseTimes> m =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(ports.length));
+    for (int i=0; i < addresses.length; i++)
+    {
+      final ObjectPair<String,Integer> hostPort =
+           new ObjectPair<>(addresses[i], ports[i]);
+      m.put(hostPort, new ServerResponseTimes(hostPort));
+    }
+
+    responseTimesByServer = Collections.unmodifiableMap(m);
+
+    this.bindRequest = bindRequest;
+    this.postConnectProcessor = postConnectProcessor;
+
+    decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(decayTimeMillis);
+    sampleIntervalMillis = Math.max(1L,
+         PropertyManager.getLong(PROPERTY_SAMPLE_INTERVAL_MILLIS, 1_000L));
+    samplerTask = null;
+
+    if (socketFactory == null)
+    {
+      this.socketFactory = SocketFactory.getDefault();
+    }
+    else
+    {
+      this.socketFactory = socketFactory;
+    }
+
+    if (connectionOptions == null)
+    {
+      this.connectionOptions = new LDAPConnectionOptions();
+    }
+    else
+    {
+      this.connectionOptions = connectionOptions;
+    }
+
+    if (blacklistCheckIntervalMillis > 0L)
+    {
+      blacklistManager = new ServerSetBlacklistManager(this, socketFactory,
+           connectionOptions, bindRequest, postConnectProcessor,
+           blacklistCheckIntervalMillis);
+    }
+    else
+    {
+      blacklistManager = null;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the default blacklist check interval (in milliseconds that should
+   * be used if it is not specified.
+   *
+   * @return  The default blacklist check interval (in milliseconds that should
+   *          be used if it is not specified.
+   */
+  private static long getDefaultBlacklistCheckIntervalMillis()
+  {
+    return PropertyManager.getLong(
+         PROPERTY_DEFAULT_BLACKLIST_CHECK_INTERVAL_MILLIS, 30_000L);
+  }
+
+
+
+  /**
+   * Retrieves the addresses of the directory servers to which the connections
+   * should be established.
+   *
+   * @return  The addresses of the directory servers to which the connections
+   *          should be established.
+   */
+  @NotNull()
+  public String[] getAddresses()
+  {
+    int i = 0;
+    final String[] addresses = new String[responseTimesByServer.size()];
+    for (final ObjectPair<String,Integer> hostPort :
+         responseTimesByServer.keySet())
+    {
+      addresses[i++] = hostPort.getFirst();
+    }
+
+    return addresses;
+  }
+
+
+
+  /**
+   * Retrieves the ports of the directory servers to which the connections
+   * should be established.
+   *
+   * @return  The ports of the directory servers to which the connections should
+   *          be established.
+   */
+  @NotNull()
+  public int[] getPorts()
+  {
+    int i = 0;
+    final int[] ports = new int[responseTimesByServer.size()];
+    for (final ObjectPair<String,Integer> hostPort :
+         responseTimesByServer.keySet())
+    {
+      ports[i++] = hostPort.getSecond();
+    }
+
+    return ports;
+  }
+
+
+
+  /**
+   * Retrieves the socket factory that will be used to establish connections.
+   *
+   * @return  The socket factory that will be used to establish connections.
+   */
+  @NotNull()
+  public SocketFactory getSocketFactory()
+  {
+    return socketFactory;
+  }
+
+
+
+  /**
+   * Retrieves the set of connection options that will be used for underlying
+   * connections.
+   *
+   * @return  The set of connection options that will be used for underlying
+   *          connections.
+   */
+  @NotNull()
+  public LDAPConnectionOptions getConnectionOptions()
+  {
+    return connectionOptions;
+  }
+
+
+
+  /**
+   * Retrieves the length of time in milliseconds over which the influence of an
+   * earlier response time sample will decay.
+   *
+   * @return  The length of time in milliseconds over which the influence of an
+   *          earlier response time sample will decay.
+   */
+  public long getDecayTimeMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(decayTimeNanos);
+  }
+
+
+
+  /**
+   * Retrieves the current expected response time for each of the servers in
+   * this server set.  The expected response time is the estimated response
+   * time multiplied by one more than the number of operations currently
+   * outstanding on connections to the server.
+   *
+   * @return  A map of the current expected response time in milliseconds for
+   *          each of the servers in this server set, keyed by a string in the
+   *          form "address:port".
+   */
+  @NotNull()
+  public Map<String,Double> getExpectedResponseTimesMillis()
+  {
+    final LinkedHashMap<String,Double> m = new LinkedHashMap<>(
+         StaticUtils.computeMapCapacity(responseTimesByServer.size()));
+    final long currentTime = System.nanoTime();
+    final double floorNanos = getLowestEstimateNanos();
+    for (final ServerResponseTimes s : responseTimesByServer.values())
+    {
+      m.put(s.hostPort.getFirst() + ':' + s.hostPort.getSecond(),
+           (s.getExpectedResponseTimeNanos(currentTime, decayTimeNanos,
+                floorNanos) / 1_000_000.0d));
+    }
+
+    return Collections.unmodifiableMap(m);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean includesAuthentication()
+  {
+    return (bindRequest != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean includesPostConnectProcessing()
+  {
+    return (postConnectProcessor != null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection()
+         throws LDAPException
+  {
+    return getConnection(null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection(
+              @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
+         throws LDAPException
+  {
+    // Order the servers by increasing expected response time, and then by
+    // increasing numbers of connections.
+    final List<ServerResponseTimes> servers =
+         new ArrayList<>(responseTimesByServer.values());
+    final Map<ServerResponseTimes,Double> expectedTimes = new LinkedHashMap<>(
+         StaticUtils.computeMapCapacity(servers.size()));
+    final long currentTime = System.nanoTime();
+    final double floorNanos = getLowestEstimateNanos();
+    for (final ServerResponseTimes s : servers)
+    {
+      expectedTimes.put(s, s.getExpectedResponseTimeNanos(currentTime,
+           decayTimeNanos, floorNanos));
+    }
+
+    Collections.sort(servers, new Comparator<ServerResponseTimes>()
+    {
+      @Override()
+      public int compare(@NotNull final ServerResponseTimes s1,
+                         @NotNull final ServerResponseTimes s2)
+      {
+        final int timeComparison = Double.compare(expectedTimes.get(s1),
+             expectedTimes.get(s2));
+        if (timeComparison != 0)
+        {
+          return timeComparison;
+        }
+
+        return Integer.compare(s1.connections.size(), s2.connections.size());
+      }
+    });
+
+
+    // Try the servers in order.
+    LDAPException lastException = null;
+    List<ObjectPair<String,Integer>> blacklistedServers = null;
+    for (final ServerResponseTimes s : servers)
+    {
+      final ObjectPair<String,Integer> hostPort = s.hostPort;
+      if (((blacklistManager != null) &&
+            blacklistManager.isBlacklisted(hostPort)) ||
+           isCircuitOpen(hostPort.getFirst(), hostPort.getSecond()))
+      {
+        if (blacklistedServers == null)
+        {
+          blacklistedServers = new ArrayList<>(servers.size());
+        }
+        blacklistedServers.add(hostPort);
+        continue;
+      }
+
+      try
+      {
+        final LDAPConnection conn = new LDAPConnection(socketFactory,
+             connectionOptions, hostPort.getFirst(), hostPort.getSecond());
+        doBindPostConnectAndHealthCheckProcessing(conn, bindRequest,
+             postConnectProcessor, healthCheck);
+        associateConnectionWithThisServerSet(conn);
+        addConnection(s, conn);
+        return conn;
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        lastException = le;
+        if (blacklistManager != null)
+        {
+          blacklistManager.addToBlacklist(hostPort, healthCheck);
+        }
+      }
+    }
+
+
+    // If we've gotten here, then we couldn't get a connection from a
+    // non-blacklisted server.  If there were any blacklisted servers, then try
+    // them as a last resort.
+    if (blacklistedServers != null)
+    {
+      for (final ObjectPair<String,Integer> hostPort : blacklistedServers)
+      {
+        try
+        {
+          final LDAPConnection c = new LDAPConnection(socketFactory,
+               connectionOptions, hostPort.getFirst(), hostPort.getSecond());
+          doBindPostConnectAndHealthCheckProcessing(c, bindRequest,
+               postConnectProcessor, healthCheck);
+          associateConnectionWithThisServerSet(c);
+          addConnection(responseTimesByServer.get(hostPort), c);
+          if (blacklistManager != null)
+          {
+            blacklistManager.removeFromBlacklist(hostPort);
+          }
+          return c;
+        }
+        catch (final LDAPException e)
+        {
+          Debug.debugException(e);
+          lastException = e;
+        }
+      }
+    }
+
+
+    // If we've gotten here, then we've tried all servers without any success,
+    // so throw the last exception that was encountered.
+    throw lastException;
+  }
+
+
+
+  /**
+   * Starts tracking the response times for the provided connection, and
+   * ensures that connection statistics are being sampled.
+   *
+   * @param  s     The response time information for the server to which the
+   *               connection is established.
+   * @param  conn  The connection to track.
+   */
+  private void addConnection(@NotNull final ServerResponseTimes s,
+                             @NotNull final LDAPConnection conn)
+  {
+    s.connections.put(conn, new ConnectionSample(conn));
+    ensureSamplerIsRunning();
+  }
+
+
+
+  /**
+   * Ensures that there is a timer task to periodically sample connection
+   * statistics.
+   */
+  private synchronized void ensureSamplerIsRunning()
+  {
+    if (samplerTask == null)
+    {
+      samplerTask = new ResponseTimeSamplerTask(this);
+      HashedWheelTimer.getSharedTimer().scheduleAtFixedRate(samplerTask,
+           sampleIntervalMillis, sampleIntervalMillis);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the lowest estimated response time of any server for which an
+   * estimate is available.  This is the value toward which the estimates for
+   * servers without recent samples will decay.
+   *
+   * @return  The lowest estimated response time of any server, in
+   *          nanoseconds, or zero if there are no estimates.
+   */
+  private double getLowestEstimateNanos()
+  {
+    double lowest = Double.MAX_VALUE;
+    for (final ServerResponseTimes s : responseTimesByServer.values())
+    {
+      if (s.hasEstimate)
+      {
+        lowest = Math.min(lowest, s.estimateNanos);
+      }
+    }
+
+    if (lowest == Double.MAX_VALUE)
+    {
+      return 0.0d;
+    }
+    else
+    {
+      return lowest;
+    }
+  }
+
+
+
+  /**
+   * Samples the statistics for all of the connections established by this
+   * server set and updates the expected response time for each server.  If
+   * there are no longer any connections, then the timer task used to invoke
+   * this method will be cancelled.
+   */
+  synchronized void sampleResponseTimes()
+  {
+    final long currentTime = System.nanoTime();
+    boolean anyConnections = false;
+    for (final ServerResponseTimes s : responseTimesByServer.values())
+    {
+      s.sample(currentTime, decayTimeNanos);
+      if (! s.connections.isEmpty())
+      {
+        anyConnections = true;
+      }
+    }
+
+    if ((! anyConnections) && (samplerTask != null))
+    {
+      samplerTask.cancel();
+      samplerTask = null;
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  protected void handleConnectionClosed(
+                      @NotNull final LDAPConnection connection,
+                      @NotNull final String host, final int port,
+                      @NotNull final DisconnectType disconnectType,
+                      @Nullable final String message,
+                      @Nullable final Throwable cause)
+  {
+    final ServerResponseTimes s =
+         responseTimesByServer.get(new ObjectPair<>(host, port));
+    if (s != null)
+    {
+      s.connections.remove(connection);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the blacklist manager for this server set.
+   *
+   * @return  The blacklist manager for this server set, or {@code null} if no
+   *          blacklist will be maintained.
+   */
+  @Nullable()
+  public ServerSetBlacklistManager getBlacklistManager()
+  {
+    return blacklistManager;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void shutDown()
+  {
+    if (blacklistManager != null)
+    {
+      blacklistManager.shutDown();
+    }
+
+    synchronized (this)
+    {
+      if (samplerTask != null)
+      {
+        samplerTask.cancel();
+        samplerTask = null;
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("FastestResponseServerSet(servers={");
+
+    final Iterator<ServerResponseTimes> iterator =
+         responseTimesByServer.values().iterator();
+    while (iterator.hasNext())
+    {
+      final ServerResponseTimes s = iterator.next();
+      buffer.append('\'');
+      buffer.append(s.hostPort.getFirst());
+      buffer.append(':');
+      buffer.append(s.hostPort.getSecond());
+      buffer.append("':");
+      buffer.append(s.connections.size());
+
+      if (iterator.hasNext())
+      {
+        buffer.append(", ");
+      }
+    }
+
+    buffer.append("}, includesAuthentication=");
+    buffer.append(bindRequest != null);
+    buffer.append(", includesPostConnectProcessing=");
+    buffer.append(postConnectProcessor != null);
+    buffer.append(')');
+  }
+
+
+
+  /**
+   * This class holds the response time information for a single server.
+   */
+  private static final class ServerResponseTimes
+  {
+    // The connections currently established to the server, mapped to the most
+    // recent sample of their statistics.
+    @NotNull private final ConcurrentHashMap<LDAPConnection,ConnectionSample>
+         connections;
+
+    // Indicates whether any response time has been observed for the server.
+    private volatile boolean hasEstimate;
+
+    // The estimated response time for the server, in nanoseconds.
+    private volatile double estimateNanos;
+
+    // The number of operations outstanding on connections to the server as of
+    // the most recent sample.
+    private volatile int numOutstanding;
+
+    // The time that the estimate was last updated.
+    private volatile long lastUpdateTime;
+
+    // The address and port of the server.
+    @NotNull private final ObjectPair<String,Integer> hostPort;
+
+
+
+    /**
+     * Creates a new set of response time information for the specified
+     * server.
+     *
+     * @param  hostPort  The address and port of the server.
+     */
+    private ServerResponseTimes(
+                 @NotNull final ObjectPair<String,Integer> hostPort)
+    {
+      this.hostPort = hostPort;
+
+      connections = new ConcurrentHashMap<>();
+      hasEstimate = false;
+      estimateNanos = 0.0d;
+      numOutstanding = 0;
+      lastUpdateTime = 0L;
+    }
+
+
+
+    /**
+     * Retrieves the expected response time for the server, which is the
+     * estimated response time multiplied by one more than the number of
+     * outstanding operations.  The estimate will first be decayed toward the
+     * provided floor based on the time since it was last updated, so that a
+     * server that is no longer being sampled will not keep an old estimate
+     * indefinitely.
+     *
+     * @param  currentTime     The current value of {@code System.nanoTime()}.
+     * @param  decayTimeNanos  The length of time in nanoseconds over which the
+     *                         influence of an earlier sample will decay.
+     * @param  floorNanos      The value toward which the estimate should
+     *                         decay, in nanoseconds.
+     *
+     * @return  The expected response time for the server, in nanoseconds.
+     */
+    private double getExpectedResponseTimeNanos(final long currentTime,
+                                                final long decayTimeNanos,
+                                                final double floorNanos)
+    {
+      double estimate = estimateNanos;
+      if (hasEstimate && (estimate > floorNanos))
+      {
+        final long elapsedNanos = currentTime - lastUpdateTime;
+        if (elapsedNanos > 0L)
+        {
+          final double weight =
+               Math.exp(-((double) elapsedNanos) / decayTimeNanos);
+          if (weight < MIN_DECAY_WEIGHT)
+          {
+            estimate = floorNanos;
+          }
+          else
+          {
+            estimate = floorNanos + ((estimate - floorNanos) * weight);
+          }
+        }
+      }
+
+      return estimate * (numOutstanding + 1);
+    }
+
+
+
+    /**
+     * Samples the statistics for the connections to the server and updates the
+     * estimated response time.
+     *
+     * @param  currentTime     The value of {@code System.nanoTime()} for this
+     *                         sample.
+     * @param  decayTimeNanos  The length of time in nanoseconds over which the
+     *                         influence of an earlier sample will decay.
+     */
+    private void sample(final long currentTime, final long decayTimeNanos)
+    {
+      long numResponses = 0L;
+      long totalResponseTimeNanos = 0L;
+      int outstanding = 0;
+      for (final Map.Entry<LDAPConnection,ConnectionSample> e :
+           connections.entrySet())
+      {
+        final LDAPConnection conn = e.getKey();
+        final ConnectionSample previous = e.getValue();
+        final ConnectionSample current = new ConnectionSample(conn);
+
+        final long responses = current.numResponses - previous.numResponses;
+        final long time =
+             current.totalResponseTimeNanos - previous.totalResponseTimeNanos;
+        if ((responses > 0L) && (time >= 0L))
+        {
+          numResponses += responses;
+          totalResponseTimeNanos += time;
+        }
+
+        connections.replace(conn, previous, current);
+
+        final int active = conn.getActiveOperationCount();
+        if (active > 0)
+        {
+          outstanding += active;
+        }
+      }
+
+      numOutstanding = outstanding;
+
+      if (numResponses > 0L)
+      {
+        final double sampleNanos =
+             ((double) totalResponseTimeNanos) / numResponses;
+        if ((! hasEstimate) || (sampleNanos >= estimateNanos))
+        {
+          estimateNanos = sampleNanos;
+        }
+        else
+        {
+          final double weight =
+               Math.exp(-((double) (currentTime - lastUpdateTime)) /
+                    decayTimeNanos);
+          estimateNanos =
+               (estimateNanos * weight) + (sampleNanos * (1.0d - weight));
+        }
+
+        hasEstimate = true;
+        lastUpdateTime = currentTime;
+      }
+    }
+  }
+
+
+
+  /**
+   * This class holds a sample of the response time statistics for a single
+   * connection.
+   */
+  private static final class ConnectionSample
+  {
+    // The number of responses received on the connection.
+    private final long numResponses;
+
+    // The total response time for the connection, in nanoseconds.
+    private final long totalResponseTimeNanos;
+
+
+
+    /**
+     * Creates a new sample of the statistics for the provided connection.
+     * Bind operations will not be included, since the time required to
+     * process a bind may not be representative of other operations.
+     *
+     * @param  conn  The connection for which to sample the statistics.
+     */
+    private ConnectionSample(@NotNull final LDAPConnection conn)
+    {
+      final LDAPConnectionStatistics stats = conn.getConnectionStatistics();
+      numResponses = stats.getNumAddResponses() +
+           stats.getNumCompareResponses() + stats.getNumDeleteResponses() +
+           stats.getNumExtendedResponses() + stats.getNumModifyResponses() +
+           stats.getNumModifyDNResponses() + stats.getNumSearchDoneResponses();
+      totalResponseTimeNanos = stats.getTotalAddResponseTimeNanos() +
+           stats.getTotalCompareResponseTimeNanos() +
+           stats.getTotalDeleteResponseTimeNanos() +
+           stats.getTotalExtendedResponseTimeNanos() +
+           stats.getTotalModifyResponseTimeNanos() +
+           stats.getTotalModifyDNResponseTimeNanos() +
+           stats.getTotalSearchResponseTimeNanos();
+    }
+  }
+
+
+
+  /**
+   * This class provides a timer task that periodically samples connection
+   * statistics for a fastest response server set.
+   */
+  private static final class ResponseTimeSamplerTask
+          extends HashedWheelTimerTask
+  {
+    // The server set whose connections will be sampled.
+    @NotNull private final FastestResponseServerSet serverSet;
+
+
+
+    /**
+     * Creates a new instance of this timer task.
+     *
+     * @param  serverSet  The server set whose connections will be sampled.
+     */
+    private ResponseTimeSamplerTask(
+                 @NotNull final FastestResponseServerSet serverSet)
+    {
+      this.serverSet = serverSet;
+    }
+
+
+
+    /**
+     * Samples the connection statistics for the associated server set.
+     */
+    @Override()
+    public void run()
+    {
+      try
+      {
+        serverSet.sampleResponseTimes();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+}
@@ -576,8 +576,9 @@ public final class FewestConnectionsServerSet
 
       for (final ObjectPair<String,Integer> hostPort : l)
       {
-        if ((blacklistManager != null) &&
-             blacklistManager.isBlacklisted(hostPort))
+        if (((blacklistManager != null) &&
+              blacklistManager.isBlacklisted(hostPort)) ||
+             isCircuitOpen(hostPort.getFirst(), hostPort.getSecond()))
         {
           if (blacklistedServers == null)
           {
@@ -625,7 +626,10 @@ public final class FewestConnectionsServerSet
           doBindPostConnectAndHealthCheckProcessing(c, bindRequest,
                postConnectProcessor, healthCheck);
           associateConnectionWithThisServerSet(c);
-          blacklistManager.removeFromBlacklist(hostPort);
+          if (blacklistManager != null)
+          {
+            blacklistManager.removeFromBlacklist(hostPort);
+          }
           return c;
         }
         catch (final LDAPException e)
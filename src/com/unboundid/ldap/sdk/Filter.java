@@ -2817,6 +2817,192 @@ attrNameLoop:
 
 
 
+  /**
+   * Retrieves the number of assertion values, subInitial elements, subAny
+   * elements, and subFinal elements in this filter (including any nested
+   * components) whose value is exactly the provided value.
+   *
+   * @param  value  The value for which to make the determination.
+   *
+   * @return  The number of matching values in this filter.
+   */
+  int countMatchingValues(@NotNull final byte[] value)
+  {
+    switch (filterType)
+    {
+      case FILTER_TYPE_AND:
+      case FILTER_TYPE_OR:
+        int count = 0;
+        for (final Filter f : filterComps)
+        {
+          count += f.countMatchingValues(value);
+        }
+        return count;
+
+      case FILTER_TYPE_NOT:
+        return notComp.countMatchingValues(value);
+
+      case FILTER_TYPE_EQUALITY:
+      case FILTER_TYPE_GREATER_OR_EQUAL:
+      case FILTER_TYPE_LESS_OR_EQUAL:
+      case FILTER_TYPE_APPROXIMATE_MATCH:
+      case FILTER_TYPE_EXTENSIBLE_MATCH:
+        return (Arrays.equals(assertionValue.getValue(), value) ? 1 : 0);
+
+      case FILTER_TYPE_SUBSTRING:
+        int substringCount = 0;
+        if ((subInitial != null) &&
+             Arrays.equals(subInitial.getValue(), value))
+        {
+          substringCount++;
+        }
+
+        for (final ASN1OctetString s : subAny)
+        {
+          if (Arrays.equals(s.getValue(), value))
+          {
+            substringCount++;
+          }
+        }
+
+        if ((subFinal != null) && Arrays.equals(subFinal.getValue(), value))
+        {
+          substringCount++;
+        }
+        return substringCount;
+
+      case FILTER_TYPE_PRESENCE:
+      default:
+        return 0;
+    }
+  }
+
+
+
+  /**
+   * Creates a copy of this filter in which every assertion value, subInitial
+   * element, subAny element, and subFinal element whose value is exactly the
+   * provided placeholder is replaced with the given value.  Any components
+   * that do not contain a matching value will be reused rather than copied.
+   *
+   * @param  placeholder  The value to be replaced.
+   * @param  value        The value to use in place of the placeholder.
+   *
+   * @return  The resulting filter, or this filter if it does not contain any
+   *          values that match the placeholder.
+   */
+  @NotNull()
+  Filter replaceMatchingValues(@NotNull final byte[] placeholder,
+                               @NotNull final byte[] value)
+  {
+    switch (filterType)
+    {
+      case FILTER_TYPE_AND:
+      case FILTER_TYPE_OR:
+        Filter[] newComps = null;
+        for (int i=0; i < filterComps.length; i++)
+        {
+          final Filter f =
+               filterComps[i].replaceMatchingValues(placeholder, value);
+          if (f != filterComps[i])
+          {
+            if (newComps == null)
+            {
+              newComps = filterComps.clone();
+            }
+            newComps[i] = f;
+          }
+        }
+
+        if (newComps == null)
+        {
+          return this;
+        }
+        return new Filter(null, filterType, newComps, null, null, null, null,
+             NO_SUB_ANY, null, null, false);
+
+      case FILTER_TYPE_NOT:
+        final Filter newNOTComp =
+             notComp.replaceMatchingValues(placeholder, value);
+        if (newNOTComp == notComp)
+        {
+          return this;
+        }
+        return new Filter(null, filterType, NO_FILTERS, newNOTComp, null, null,
+             null, NO_SUB_ANY, null, null, false);
+
+      case FILTER_TYPE_EQUALITY:
+      case FILTER_TYPE_GREATER_OR_EQUAL:
+      case FILTER_TYPE_LESS_OR_EQUAL:
+      case FILTER_TYPE_APPROXIMATE_MATCH:
+      case FILTER_TYPE_EXTENSIBLE_MATCH:
+        if (! Arrays.equals(assertionValue.getValue(), placeholder))
+        {
+          return this;
+        }
+        return new Filter(null, filterType, NO_FILTERS, null, attrName,
+             new ASN1OctetString(assertionValue.getType(), value), null,
+             NO_SUB_ANY, null, matchingRuleID, dnAttributes);
+
+      case FILTER_TYPE_SUBSTRING:
+        final ASN1OctetString newSubInitial =
+             replaceMatchingValue(subInitial, placeholder, value);
+        final ASN1OctetString newSubFinal =
+             replaceMatchingValue(subFinal, placeholder, value);
+        boolean changed =
+             ((newSubInitial != subInitial) || (newSubFinal != subFinal));
+
+        final ASN1OctetString[] newSubAny = new ASN1OctetString[subAny.length];
+        for (int i=0; i < subAny.length; i++)
+        {
+          newSubAny[i] = replaceMatchingValue(subAny[i], placeholder, value);
+          changed |= (newSubAny[i] != subAny[i]);
+        }
+
+        if (! changed)
+        {
+          return this;
+        }
+        return new Filter(null, filterType, NO_FILTERS, null, attrName, null,
+             newSubInitial, newSubAny, newSubFinal, null, false);
+
+      case FILTER_TYPE_PRESENCE:
+      default:
+        return this;
+    }
+  }
+
+
+
+  /**
+   * Retrieves an octet string with the provided value if the given octet
+   * string has a value that matches the placeholder.
+   *
+   * @param  s            The octet string to examine.  It may be
+   *                      {@code null}.
+   * @param  placeholder  The value to be replaced.
+   * @param  value        The value to use in place of the placeholder.
+   *
+   * @return  A new octet string with the same BER type and the provided value
+   *          if the given octet string matches the placeholder, or the given
+   *          octet string if not.
+   */
+  @Nullable()
+  private static ASN1OctetString replaceMatchingValue(
+               @Nullable final ASN1OctetString s,
+               @NotNull final byte[] placeholder,
+               @NotNull final byte[] value)
+  {
+    if ((s == null) || (! Arrays.equals(s.getValue(), placeholder)))
+    {
+      return s;
+    }
+
+    return new ASN1OctetString(s.getType(), value);
+  }
+
+
+
   /**
    * Writes an ASN.1-encoded representation of this filter to the provided ASN.1
    * buffer.
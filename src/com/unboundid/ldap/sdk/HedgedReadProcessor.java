@@ -0,0 +1,714 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for processing read operations in an
+ * {@link LDAPConnectionPool} with hedged requests.  A read operation is first
+ * sent over the connection checked out for it.  If no response has been
+ * received within the hedge delay, then the same request is also sent over
+ * another available connection (preferably one established to a different
+ * server), and whichever response is received first is used.  The other
+ * request is abandoned.
+ * <BR><BR>
+ * The hedge delay may either be fixed, or it may follow the 95th percentile of
+ * recently observed response times.  The number of hedged requests is limited
+ * by a budget that accrues a configurable fraction of a hedged request for
+ * each read operation, so that hedging cannot multiply the load on the
+ * servers.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class HedgedReadProcessor
+{
+  /**
+   * The number of budget units that must be available to send a single hedged
+   * request.  Each read operation adds a number of units equal to the maximum
+   * hedge percentage.
+   */
+  private static final long UNITS_PER_HEDGED_REQUEST = 100L;
+
+
+
+  /**
+   * The maximum number of hedged requests that may be sent in a burst.
+   */
+  private static final long MAX_HEDGED_REQUEST_BURST = 10L;
+
+
+
+  /**
+   * The number of recent response times that will be retained for the
+   * purpose of computing the percentile-based hedge delay.
+   */
+  private static final int NUM_RESPONSE_TIME_SAMPLES = 1024;
+
+
+
+  /**
+   * The minimum number of response times that must have been observed before
+   * the percentile-based hedge delay will be used.
+   */
+  private static final int MIN_RESPONSE_TIME_SAMPLES = 100;
+
+
+
+  /**
+   * The number of response times that will be observed between updates to the
+   * percentile-based hedge delay.
+   */
+  private static final int PERCENTILE_UPDATE_INTERVAL = 64;
+
+
+
+  // The number of budget units currently available for hedged requests.
+  @NotNull private final AtomicLong hedgeBudgetUnits;
+
+  // The total number of response times that have been recorded.
+  @NotNull private final AtomicLong numResponseTimes;
+
+  // The most recently recorded response times, in nanoseconds.
+  @NotNull private final AtomicLongArray responseTimes;
+
+  // Indicates whether to use the 95th percentile of recent response times as
+  // the hedge delay.
+  private final boolean usePercentileDelay;
+
+  // The number of budget units to add for each read operation.
+  private final int maxHedgePercent;
+
+  // The connection pool with which this processor is associated.
+  @NotNull private final LDAPConnectionPool pool;
+
+  // The fixed or minimum hedge delay, in nanoseconds.
+  private final long minHedgeDelayNanos;
+
+  // The 95th percentile of recently observed response times, in nanoseconds.
+  private volatile long percentileResponseTimeNanos;
+
+
+
+  /**
+   * Creates a new hedged read processor with the provided settings.
+   *
+   * @param  pool                The connection pool with which this processor
+   *                             is associated.
+   * @param  hedgeDelayMillis    The fixed or minimum hedge delay, in
+   *                             milliseconds.
+   * @param  usePercentileDelay  Indicates whether to use the 95th percentile of
+   *                             recent response times as the hedge delay.
+   * @param  maxHedgePercent     The maximum number of hedged requests that may
+   *                             be sent, as a percentage of the number of read
+   *                             operations.
+   */
+  HedgedReadProcessor(@NotNull final LDAPConnectionPool pool,
+                      final long hedgeDelayMillis,
+                      final boolean usePercentileDelay,
+                      final int maxHedgePercent)
+  {
+    this.pool = pool;
+    this.usePercentileDelay = usePercentileDelay;
+    this.maxHedgePercent = maxHedgePercent;
+
+    minHedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(hedgeDelayMillis);
+    percentileResponseTimeNanos = 0L;
+
+    hedgeBudgetUnits =
+         new AtomicLong(MAX_HEDGED_REQUEST_BURST * UNITS_PER_HEDGED_REQUEST);
+    numResponseTimes = new AtomicLong(0L);
+    responseTimes = new AtomicLongArray(NUM_RESPONSE_TIME_SAMPLES);
+  }
+
+
+
+  /**
+   * Retrieves the length of time that should be allowed for a response before
+   * sending a hedged request.
+   *
+   * @return  The length of time in nanoseconds that should be allowed for a
+   *          response before sending a hedged request.
+   */
+  long getHedgeDelayNanos()
+  {
+    if (usePercentileDelay)
+    {
+      return Math.max(minHedgeDelayNanos, percentileResponseTimeNanos);
+    }
+    else
+    {
+      return minHedgeDelayNanos;
+    }
+  }
+
+
+
+  /**
+   * Processes the provided compare request with hedging.
+   *
+   * @param  conn            The connection that has been checked out for the
+   *                         operation.  It will be released by this method.
+   * @param  compareRequest  The compare request to process.
+   *
+   * @return  The result of processing the compare operation.
+   *
+   * @throws  LDAPException  If the server rejects the compare request, or if a
+   *                         problem is encountered while sending the request or
+   *                         reading the response.
+   */
+  @NotNull()
+  CompareResult compare(@NotNull final LDAPConnection conn,
+                        @NotNull final CompareRequest compareRequest)
+         throws LDAPException
+  {
+    return process(conn, compareRequest);
+  }
+
+
+
+  /**
+   * Processes the provided search request with hedging.  The search request
+   * must not have a search result listener.
+   *
+   * @param  conn           The connection that has been checked out for the
+   *                        operation.  It will be released by this method.
+   * @param  searchRequest  The search request to process.
+   *
+   * @return  The result of processing the search operation.
+   *
+   * @throws  LDAPSearchException  If the search does not complete
+   *                               successfully, or if a problem is encountered
+   *                               while sending the request or reading the
+   *                               response.
+   */
+  @NotNull()
+  SearchResult search(@NotNull final LDAPConnection conn,
+                      @NotNull final SearchRequest searchRequest)
+         throws LDAPSearchException
+  {
+    try
+    {
+      return process(conn, searchRequest);
+    }
+    catch (final LDAPSearchException lse)
+    {
+      Debug.debugException(lse);
+      throw lse;
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw new LDAPSearchException(le);
+    }
+  }
+
+
+
+  /**
+   * Retrieves the specified entry with hedging.
+   *
+   * @param  conn        The connection that has been checked out for the
+   *                     operation.  It will be released by this method.
+   * @param  dn          The DN of the entry to retrieve.
+   * @param  attributes  The set of attributes to request for the target entry.
+   *
+   * @return  The requested entry, or {@code null} if the target entry does not
+   *          exist or no entry was returned.
+   *
+   * @throws  LDAPException  If a problem occurs while sending the request or
+   *                         reading the response.
+   */
+  @Nullable()
+  SearchResultEntry getEntry(@NotNull final LDAPConnection conn,
+                             @NotNull final String dn,
+                             @Nullable final String... attributes)
+         throws LDAPException
+  {
+    final SearchRequest searchRequest = new SearchRequest(dn, SearchScope.BASE,
+         DereferencePolicy.NEVER, 1, 0, false,
+         Filter.createPresenceFilter("objectClass"), attributes);
+
+    final SearchResult result;
+    try
+    {
+      result = process(conn, searchRequest);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      if (le.getResultCode().equals(ResultCode.NO_SUCH_OBJECT))
+      {
+        return null;
+      }
+      else
+      {
+        throw le;
+      }
+    }
+
+    final List<SearchResultEntry> entryList = result.getSearchEntries();
+    if (entryList.isEmpty())
+    {
+      return null;
+    }
+    else
+    {
+      return entryList.get(0);
+    }
+  }
+
+
+
+  /**
+   * Processes the provided request with hedging.
+   *
+   * @param  <T>      The type of result that will be returned.
+   * @param  conn     The connection that has been checked out for the
+   *                  operation.  It will be released once the operation has
+   *                  completed.
+   * @param  request  The compare or search request to process.
+   *
+   * @return  The result of processing the operation.
+   *
+   * @throws  LDAPException  If the operation does not complete successfully,
+   *                         or if a problem is encountered while sending the
+   *                         request or reading the response.
+   */
+  @NotNull()
+  private <T extends LDAPResult> T process(@NotNull final LDAPConnection conn,
+                                           @NotNull final LDAPRequest request)
+          throws LDAPException
+  {
+    addToHedgeBudget();
+
+    final long startTime = System.nanoTime();
+    final AsyncOperationFuture<T> primaryFuture =
+         AsyncOperationFuture.process(conn, request);
+    pool.releaseConnectionWhenComplete(primaryFuture, conn);
+
+    AsyncOperationFuture<T> hedgeFuture = null;
+    try
+    {
+      // Wait for the response to the original request for up to the hedge
+      // delay.
+      try
+      {
+        final T result =
+             primaryFuture.get(getHedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        recordResponseTime(System.nanoTime() - startTime);
+        return result;
+      }
+      catch (final TimeoutException te)
+      {
+        Debug.debugException(te);
+      }
+      catch (final ExecutionException ee)
+      {
+        Debug.debugException(ee);
+        final LDAPException le = toLDAPException(ee.getCause());
+        if (ResultCode.isConnectionUsable(le.getResultCode()))
+        {
+          recordResponseTime(System.nanoTime() - startTime);
+          throw le;
+        }
+
+        return retryOnNewConnection(request, le);
+      }
+
+
+      // If we've gotten here, then the response has not yet been received, so
+      // send a hedged request if the budget allows it.
+      hedgeFuture = sendHedgedRequest(conn, request);
+      if (hedgeFuture == null)
+      {
+        final T result = getResult(primaryFuture);
+        recordResponseTime(System.nanoTime() - startTime);
+        return result;
+      }
+
+
+      // Wait for either of the operations to complete.  If the first one to
+      // complete failed because its connection is no longer usable, then wait
+      // for the other one.
+      try
+      {
+        CompletableFuture.anyOf(primaryFuture, hedgeFuture).get();
+      }
+      catch (final ExecutionException ee)
+      {
+        Debug.debugException(ee);
+      }
+
+      AsyncOperationFuture<T> winningFuture;
+      AsyncOperationFuture<T> losingFuture;
+      if (primaryFuture.isDone())
+      {
+        winningFuture = primaryFuture;
+        losingFuture = hedgeFuture;
+      }
+      else
+      {
+        winningFuture = hedgeFuture;
+        losingFuture = primaryFuture;
+      }
+
+      if (! completedWithServerResponse(winningFuture))
+      {
+        final AsyncOperationFuture<T> f = winningFuture;
+        winningFuture = losingFuture;
+        losingFuture = f;
+      }
+
+      losingFuture.cancel(false);
+      if (winningFuture == hedgeFuture)
+      {
+        pool.getConnectionPoolStatistics().incrementNumHedgedRequestsWon();
+      }
+
+      final T result = getResult(winningFuture);
+      recordResponseTime(System.nanoTime() - startTime);
+      return result;
+    }
+    catch (final InterruptedException ie)
+    {
+      Debug.debugException(ie);
+      Thread.currentThread().interrupt();
+
+      primaryFuture.cancel(false);
+      if (hedgeFuture != null)
+      {
+        hedgeFuture.cancel(false);
+      }
+
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_POOL_HEDGED_READ_INTERRUPTED.get(), ie);
+    }
+  }
+
+
+
+  /**
+   * Sends a hedged request if the hedge budget allows it and there is a
+   * connection available to use for it.
+   *
+   * @param  <T>      The type of result that will be returned.
+   * @param  conn     The connection used for the original request.
+   * @param  request  The original request.
+   *
+   * @return  The future for the hedged request, or {@code null} if no hedged
+   *          request was sent.
+   */
+  @Nullable()
+  private <T extends LDAPResult> AsyncOperationFuture<T> sendHedgedRequest(
+               @NotNull final LDAPConnection conn,
+               @NotNull final LDAPRequest request)
+  {
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    if (! takeFromHedgeBudget())
+    {
+      stats.incrementNumHedgedRequestsSuppressed();
+      return null;
+    }
+
+    final LDAPConnection hedgeConn = pool.getConnectionForHedgedRequest(
+         conn.getConnectedAddress(), conn.getConnectedPort());
+    if (hedgeConn == null)
+    {
+      hedgeBudgetUnits.addAndGet(UNITS_PER_HEDGED_REQUEST);
+      stats.incrementNumHedgedRequestsSuppressed();
+      return null;
+    }
+
+    final AsyncOperationFuture<T> hedgeFuture =
+         AsyncOperationFuture.process(hedgeConn, duplicate(request));
+    pool.releaseConnectionWhenComplete(hedgeFuture, hedgeConn);
+    stats.incrementNumHedgedRequests();
+    return hedgeFuture;
+  }
+
+
+
+  /**
+   * Sends the provided request over a newly checked-out connection after the
+   * original attempt failed because its connection was no longer usable, if
+   * the pool is configured to retry the operation in that case.
+   *
+   * @param  <T>      The type of result that will be returned.
+   * @param  request  The request to process.
+   * @param  le       The exception caught from the original attempt.
+   *
+   * @return  The result of processing the operation.
+   *
+   * @throws  LDAPException  If the operation should not be retried, or if the
+   *                         retry attempt does not complete successfully.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting
+   *                                for the response.
+   */
+  @NotNull()
+  private <T extends LDAPResult> T retryOnNewConnection(
+               @NotNull final LDAPRequest request,
+               @NotNull final LDAPException le)
+          throws LDAPException, InterruptedException
+  {
+    if (! pool.getOperationTypesToRetryDueToInvalidConnections().contains(
+         request.getOperationType()))
+    {
+      throw le;
+    }
+
+    final LDAPConnection newConn = pool.getConnection();
+    final AsyncOperationFuture<T> retryFuture =
+         AsyncOperationFuture.process(newConn, duplicate(request));
+    pool.releaseConnectionWhenComplete(retryFuture, newConn);
+    return getResult(retryFuture);
+  }
+
+
+
+  /**
+   * Adds the budget for a single read operation to the hedge budget, without
+   * exceeding the maximum burst size.
+   */
+  private void addToHedgeBudget()
+  {
+    final long maxUnits = MAX_HEDGED_REQUEST_BURST * UNITS_PER_HEDGED_REQUEST;
+    while (true)
+    {
+      final long currentUnits = hedgeBudgetUnits.get();
+      if (currentUnits >= maxUnits)
+      {
+        return;
+      }
+
+      final long newUnits = Math.min(maxUnits, currentUnits + maxHedgePercent);
+      if (hedgeBudgetUnits.compareAndSet(currentUnits, newUnits))
+      {
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Attempts to take the budget for a single hedged request.
+   *
+   * @return  {@code true} if a hedged request may be sent, or {@code false} if
+   *          the hedge budget has been exhausted.
+   */
+  private boolean takeFromHedgeBudget()
+  {
+    while (true)
+    {
+      final long currentUnits = hedgeBudgetUnits.get();
+      if (currentUnits < UNITS_PER_HEDGED_REQUEST)
+      {
+        return false;
+      }
+
+      if (hedgeBudgetUnits.compareAndSet(currentUnits,
+           (currentUnits - UNITS_PER_HEDGED_REQUEST)))
+      {
+        return true;
+      }
+    }
+  }
+
+
+
+  /**
+   * Records the response time for a read operation, and periodically updates
+   * the 95th percentile of recently observed response times.
+   *
+   * @param  responseTimeNanos  The response time, in nanoseconds.
+   */
+  private void recordResponseTime(final long responseTimeNanos)
+  {
+    if (! usePercentileDelay)
+    {
+      return;
+    }
+
+    final long count = numResponseTimes.incrementAndGet();
+    responseTimes.set((int) ((count - 1L) % NUM_RESPONSE_TIME_SAMPLES),
+         responseTimeNanos);
+
+    if ((count >= MIN_RESPONSE_TIME_SAMPLES) &&
+         ((count % PERCENTILE_UPDATE_INTERVAL) == 0L))
+    {
+      final int numSamples =
+           (int) Math.min(count, (long) NUM_RESPONSE_TIME_SAMPLES);
+      final long[] samples = new long[numSamples];
+      for (int i=0; i < numSamples; i++)
+      {
+        samples[i] = responseTimes.get(i);
+      }
+
+      Arrays.sort(samples);
+      final int index = (int) Math.ceil(numSamples * 0.95d) - 1;
+      percentileResponseTimeNanos = samples[index];
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the provided future has been completed with a result or
+   * an exception that represents a response from the server, rather than an
+   * exception indicating that its connection is no longer usable.
+   *
+   * @param  future  The future to examine.  It must have been completed.
+   *
+   * @return  {@code true} if the provided future has been completed with a
+   *          response from the server, or {@code false} if not.
+   */
+  private static boolean completedWithServerResponse(
+                              @NotNull final CompletableFuture<?> future)
+  {
+    try
+    {
+      future.getNow(null);
+      return true;
+    }
+    catch (final CompletionException | CancellationException e)
+    {
+      Debug.debugException(e);
+      final LDAPException le = toLDAPException(e.getCause());
+      return ResultCode.isConnectionUsable(le.getResultCode());
+    }
+  }
+
+
+
+  /**
+   * Waits for the provided future to be completed and retrieves its result.
+   *
+   * @param  <T>     The type of result that will be returned.
+   * @param  future  The future for which to wait.
+   *
+   * @return  The result with which the future was completed.
+   *
+   * @throws  LDAPException  If the future was completed exceptionally.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting
+   *                                for the future to be completed.
+   */
+  @NotNull()
+  private static <T extends LDAPResult> T getResult(
+                      @NotNull final CompletableFuture<T> future)
+          throws LDAPException, InterruptedException
+  {
+    try
+    {
+      return future.get();
+    }
+    catch (final ExecutionException ee)
+    {
+      Debug.debugException(ee);
+      throw toLDAPException(ee.getCause());
+    }
+  }
+
+
+
+  /**
+   * Converts the provided {@code Throwable} into an {@code LDAPException}.
+   *
+   * @param  t  The {@code Throwable} to convert.
+   *
+   * @return  The resulting {@code LDAPException}.
+   */
+  @NotNull()
+  private static LDAPException toLDAPException(@Nullable final Throwable t)
+  {
+    if (t instanceof LDAPException)
+    {
+      return (LDAPException) t;
+    }
+    else
+    {
+      return new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_POOL_OP_EXCEPTION.get(StaticUtils.getExceptionMessage(t)), t);
+    }
+  }
+
+
+
+  /**
+   * Creates a duplicate of the provided request so that it can be sent over
+   * another connection while the original request is still in progress.
+   *
+   * @param  request  The compare or search request to duplicate.
+   *
+   * @return  The duplicate request.
+   */
+  @NotNull()
+  private static LDAPRequest duplicate(@NotNull final LDAPRequest request)
+  {
+    if (request instanceof SearchRequest)
+    {
+      return ((SearchRequest) request).duplicate();
+    }
+    else
+    {
+      return ((CompareRequest) request).duplicate();
+    }
+  }
+}
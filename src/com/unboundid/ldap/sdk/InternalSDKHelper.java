@@ -160,7 +160,7 @@ public final class InternalSDKHelper
              connection.getConnectionInternals(false);
         if (internals != null)
         {
-          internals.getSocket().setSoTimeout(soTimeout);
+          internals.setSoTimeout(soTimeout);
         }
       }
     }
@@ -411,6 +411,83 @@ public final class InternalSDKHelper
 
 
 
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader, optionally deferring the decoding
+   * of its attributes until they are first accessed.
+   *
+   * @param  messageID        The LDAP message ID for the LDAP message that is
+   *                          associated with this search result entry.
+   * @param  messageSequence  The ASN.1 stream reader sequence used in the
+   *                          course of reading the LDAP message elements.
+   * @param  reader           The ASN.1 stream reader from which to read the
+   *                          protocol op and controls.
+   * @param  schema           The schema to use to select the appropriate
+   *                          matching rule to use for each attribute.  It may
+   *                          be {@code null} if the default matching rule
+   *                          should always be used.
+   * @param  lazilyDecode     Indicates whether to retain the attributes in
+   *                          encoded form and decode them only when they are
+   *                          first accessed.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  public static SearchResultEntry readSearchResultEntryFrom(final int messageID,
+                     @NotNull final ASN1StreamReaderSequence messageSequence,
+                     @NotNull final ASN1StreamReader reader,
+                     @Nullable final Schema schema,
+                     final boolean lazilyDecode)
+         throws LDAPException
+  {
+    return SearchResultEntry.readSearchEntryFrom(messageID, messageSequence,
+                                                 reader, schema, lazilyDecode);
+  }
+
+
+
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader, decoding it as indicated by the
+   * provided connection options.
+   *
+   * @param  messageID          The message ID for the LDAP message containing
+   *                            this response.
+   * @param  messageSequence    The ASN.1 stream reader sequence used in the
+   *                            course of reading the LDAP message elements.
+   * @param  reader             The ASN.1 stream reader from which to read the
+   *                            protocol op and controls.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule to use for each attribute.  It
+   *                            may be {@code null} if the default matching
+   *                            rule should always be used.
+   * @param  connectionOptions  The connection options that indicate how the
+   *                            entry should be decoded.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @InternalUseOnly()
+  @NotNull()
+  public static SearchResultEntry readSearchResultEntryFrom(final int messageID,
+                     @NotNull final ASN1StreamReaderSequence messageSequence,
+                     @NotNull final ASN1StreamReader reader,
+                     @Nullable final Schema schema,
+                     @NotNull final LDAPConnectionOptions connectionOptions)
+         throws LDAPException
+  {
+    return SearchResultEntry.readSearchEntryFrom(messageID, messageSequence,
+         reader, schema, connectionOptions);
+  }
+
+
+
   /**
    * Creates a new search result reference object with the protocol op and
    * controls read from the given ASN.1 stream reader.
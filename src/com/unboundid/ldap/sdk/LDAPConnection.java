@@ -46,7 +46,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -57,6 +57,7 @@ import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import javax.security.sasl.SaslClient;
 
+import com.unboundid.asn1.ASN1BufferPool;
 import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.protocol.AbandonRequestProtocolOp;
 import com.unboundid.ldap.protocol.LDAPMessage;
@@ -68,6 +69,7 @@ import com.unboundid.ldap.sdk.unboundidds.controls.RetainIdentityRequestControl;
 import com.unboundid.ldif.LDIFException;
 import com.unboundid.util.Debug;
 import com.unboundid.util.DebugType;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
@@ -292,6 +294,10 @@ public final class LDAPConnection
   // Indicates whether an unbind request has been sent over this connection.
   private volatile boolean unbindRequestSent;
 
+  // Indicates whether any request other than a bind, abandon, or unbind has
+  // been sent over this connection since it was established.
+  private volatile boolean nonBindRequestSent;
+
   // The extended request used to initiate StartTLS on this connection.
   @Nullable private volatile ExtendedRequest startTLSRequest;
 
@@ -358,8 +364,6 @@ public final class LDAPConnection
   // The address of the server to which a connection should be re-established.
   @Nullable private String reconnectAddress;
 
-  // A timer that may be used to enforce timeouts for asynchronous operations.
-  @Nullable private Timer timer;
 
 
 
@@ -467,7 +471,6 @@ public final class LDAPConnection
     connectionName       = null;
     connectionPoolName   = null;
     cachedSchema         = null;
-    timer                = null;
     serverSet            = null;
 
     referralConnector = this.connectionOptions.getReferralConnector();
@@ -923,6 +926,7 @@ public final class LDAPConnection
     cachedSchema          = null;
     closeRequested        = false;
     unbindRequestSent     = false;
+    nonBindRequestSent    = false;
 
     disconnectInfo.set(null);
 
@@ -1435,6 +1439,32 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Records the outcome of an operation processed on this connection with the
+   * circuit breaker for the server set that was used to create it, if any.
+   *
+   * @param  resultCode  The result code for the operation.  It should be
+   *                     {@code ResultCode.TIMEOUT} if no response was received
+   *                     within the response timeout.
+   */
+  void recordOperationOutcome(@NotNull final ResultCode resultCode)
+  {
+    final ServerSet s = serverSet;
+    if (s == null)
+    {
+      return;
+    }
+
+    final ServerCircuitBreaker circuitBreaker = s.getCircuitBreaker();
+    final String address = getConnectedAddress();
+    if ((circuitBreaker != null) && (address != null))
+    {
+      circuitBreaker.recordOutcome(address, getConnectedPort(), resultCode);
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -4548,6 +4578,271 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Processes the provided requests over this connection in a pipelined
+   * manner, so that each request may be sent without waiting for the responses
+   * to the requests before it.  This can dramatically improve throughput for
+   * bulk processing over high-latency networks, since the time required to
+   * process the requests is no longer dominated by the network round-trip
+   * time for each request.
+   * <BR><BR>
+   * The list of requests may only contain add, compare, delete, modify, modify
+   * DN, and search requests.  If a search request has a search result
+   * listener, then entries and references will be provided to that listener.
+   * Otherwise, they will be collected in the {@link SearchResult} for that
+   * request.  Each request will be subject to the response timeout that would
+   * apply if it were processed asynchronously.  If that timeout is zero for
+   * any of the requests, then this method will wait indefinitely for the
+   * server to respond to that request.
+   * <BR><BR>
+   * Note that the server may process pipelined requests concurrently, so the
+   * requests should not depend on each other.  For example, the list should
+   * not contain both a request to add an entry and a request to add a child
+   * of that entry.
+   *
+   * @param  requests        The list of requests to be processed.  It must not
+   *                         be {@code null} or empty.
+   * @param  maxOutstanding  The maximum number of requests that may be
+   *                         outstanding at any time.  It must be greater than
+   *                         zero.  When this many requests have been sent
+   *                         without a response, the next request will not be
+   *                         sent until a response is received for any of the
+   *                         outstanding requests.
+   *
+   * @return  The results for the requests.  There will be exactly one result
+   *          for each request, and the order of the results will correspond to
+   *          the order of the requests.  Any request that could not be
+   *          processed successfully (including requests that could not be
+   *          sent) will have a result with an appropriate non-success result
+   *          code.  The result for each search request will be a
+   *          {@code SearchResult}.
+   *
+   * @throws  LDAPException  If any of the requests is not one of the
+   *                         supported types, if this connection is operating
+   *                         in synchronous mode, or if the thread is
+   *                         interrupted while processing the requests.
+   */
+  @NotNull()
+  public List<LDAPResult> processRequestsPipelined(
+                               @NotNull final List<LDAPRequest> requests,
+                               final int maxOutstanding)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(requests);
+    Validator.ensureFalse(requests.isEmpty(),
+         "LDAPConnection.processRequestsPipelined.requests must not be empty.");
+    Validator.ensureTrue((maxOutstanding > 0),
+         "LDAPConnection.processRequestsPipelined.maxOutstanding must be " +
+              "greater than zero.");
+
+    PipelinedRequestProcessor.validate(this, requests);
+    return new PipelinedRequestProcessor(this, requests, maxOutstanding).
+         process();
+  }
+
+
+
+  /**
+   * Processes the provided add request as an asynchronous operation and returns
+   * a {@code CompletableFuture} that will be completed directly by the thread
+   * that reads the response from the server.  The future will be completed
+   * normally if the operation completes with a success or no operation result,
+   * and it will be completed exceptionally with an {@code LDAPException}
+   * otherwise (including if a problem occurs while sending the request).
+   * Cancelling the returned future will cause an abandon request to be sent for
+   * the operation.
+   * <BR><BR>
+   * This method may not be used for connections operating in synchronous mode.
+   *
+   * @param  addRequest  The add request to be processed.  It must not be {@code
+   *                     null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public CompletableFuture<LDAPResult> addAsync(
+              @NotNull final AddRequest addRequest)
+  {
+    Validator.ensureNotNull(addRequest);
+
+    return AsyncOperationFuture.process(this, addRequest);
+  }
+
+
+
+  /**
+   * Processes the provided delete request as an asynchronous operation and
+   * returns a {@code CompletableFuture} that will be completed directly by the
+   * thread that reads the response from the server.  The future will be
+   * completed normally if the operation completes with a success or no
+   * operation result, and it will be completed exceptionally with an {@code
+   * LDAPException} otherwise (including if a problem occurs while sending the
+   * request).  Cancelling the returned future will cause an abandon request to
+   * be sent for the operation.
+   * <BR><BR>
+   * This method may not be used for connections operating in synchronous mode.
+   *
+   * @param  deleteRequest  The delete request to be processed.  It must not be
+   *                        {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public CompletableFuture<LDAPResult> deleteAsync(
+              @NotNull final DeleteRequest deleteRequest)
+  {
+    Validator.ensureNotNull(deleteRequest);
+
+    return AsyncOperationFuture.process(this, deleteRequest);
+  }
+
+
+
+  /**
+   * Processes the provided modify request as an asynchronous operation and
+   * returns a {@code CompletableFuture} that will be completed directly by the
+   * thread that reads the response from the server.  The future will be
+   * completed normally if the operation completes with a success or no
+   * operation result, and it will be completed exceptionally with an {@code
+   * LDAPException} otherwise (including if a problem occurs while sending the
+   * request).  Cancelling the returned future will cause an abandon request to
+   * be sent for the operation.
+   * <BR><BR>
+   * This method may not be used for connections operating in synchronous mode.
+   *
+   * @param  modifyRequest  The modify request to be processed.  It must not be
+   *                        {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public CompletableFuture<LDAPResult> modifyAsync(
+              @NotNull final ModifyRequest modifyRequest)
+  {
+    Validator.ensureNotNull(modifyRequest);
+
+    return AsyncOperationFuture.process(this, modifyRequest);
+  }
+
+
+
+  /**
+   * Processes the provided modify DN request as an asynchronous operation and
+   * returns a {@code CompletableFuture} that will be completed directly by the
+   * thread that reads the response from the server.  The future will be
+   * completed normally if the operation completes with a success or no
+   * operation result, and it will be completed exceptionally with an {@code
+   * LDAPException} otherwise (including if a problem occurs while sending the
+   * request).  Cancelling the returned future will cause an abandon request to
+   * be sent for the operation.
+   * <BR><BR>
+   * This method may not be used for connections operating in synchronous mode.
+   *
+   * @param  modifyDNRequest  The modify DN request to be processed.  It must
+   *                          not be {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public CompletableFuture<LDAPResult> modifyDNAsync(
+              @NotNull final ModifyDNRequest modifyDNRequest)
+  {
+    Validator.ensureNotNull(modifyDNRequest);
+
+    return AsyncOperationFuture.process(this, modifyDNRequest);
+  }
+
+
+
+  /**
+   * Processes the provided compare request as an asynchronous operation and
+   * returns a {@code CompletableFuture} that will be completed directly by the
+   * thread that reads the response from the server.  The future will be
+   * completed normally if the operation completes with a compare true or
+   * compare false result, and it will be completed exceptionally with an {@code
+   * LDAPException} otherwise (including if a problem occurs while sending the
+   * request).  Cancelling the returned future will cause an abandon request to
+   * be sent for the operation.
+   * <BR><BR>
+   * This method may not be used for connections operating in synchronous mode.
+   *
+   * @param  compareRequest  The compare request to be processed.  It must not
+   *                         be {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public CompletableFuture<CompareResult> compareAsync(
+              @NotNull final CompareRequest compareRequest)
+  {
+    Validator.ensureNotNull(compareRequest);
+
+    return AsyncOperationFuture.process(this, compareRequest);
+  }
+
+
+
+  /**
+   * Processes the provided search request as an asynchronous operation and
+   * returns a {@code CompletableFuture} that will be completed directly by the
+   * thread that reads the response from the server.  The future will be
+   * completed normally if the operation completes with a success result, and it
+   * will be completed exceptionally with an {@code LDAPSearchException}
+   * otherwise (including if a problem occurs while sending the request).
+   * Cancelling the returned future will cause an abandon request to be sent for
+   * the operation.
+   * <BR><BR>
+   * If the search request has a search result listener, then that listener will
+   * be notified of any entries and references returned, and it does not need to
+   * be an {@code AsyncSearchResultListener}.  Otherwise, entries and references
+   * will be collected in the search result.
+   * <BR><BR>
+   * This method may not be used for connections operating in synchronous mode.
+   *
+   * @param  searchRequest  The search request to be processed.  It must not be
+   *                        {@code null}.
+   *
+   * @return  A future that will be completed with the result of the operation.
+   */
+  @NotNull()
+  public CompletableFuture<SearchResult> searchAsync(
+              @NotNull final SearchRequest searchRequest)
+  {
+    Validator.ensureNotNull(searchRequest);
+
+    return AsyncOperationFuture.process(this, searchRequest);
+  }
+
+
+
+  /**
+   * Processes the provided bind request and returns a {@code CompletableFuture}
+   * for its result.  The bind will be processed by the {@link
+   * #bind(BindRequest)} method in a separate thread, so the calling thread will
+   * not block while waiting for the response.  The future will be completed
+   * normally if the bind succeeds, and it will be completed exceptionally with
+   * the {@code LDAPException} that the {@code bind} method would have thrown
+   * otherwise.  Because bind operations alter the authentication state of the
+   * connection, no other operations should be requested on this connection
+   * until the future has been completed.
+   *
+   * @param  bindRequest  The bind request to be processed.  It must not be
+   *                      {@code null}.
+   *
+   * @return  A future that will be completed with the result of the bind
+   *          operation.
+   */
+  @NotNull()
+  public CompletableFuture<BindResult> bindAsync(
+              @NotNull final BindRequest bindRequest)
+  {
+    Validator.ensureNotNull(bindRequest);
+
+    return AsyncOperationFuture.processBind(this, bindRequest);
+  }
+
+
+
   /**
    * Processes the provided bind request and returns the result.  This will also
    * ensure that any appropriate updates are made to the last bind request and
@@ -4683,6 +4978,38 @@ public final class LDAPConnection
     }
     else
     {
+      final ServerSet s = serverSet;
+      if (s != null)
+      {
+        // Binds are not subject to the circuit breaker until some other
+        // request has been sent, so that a newly-established connection can
+        // still be authenticated.
+        final ServerCircuitBreaker circuitBreaker = s.getCircuitBreaker();
+        final byte opType = message.getProtocolOpType();
+        if ((circuitBreaker != null) &&
+             (opType != LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST) &&
+             (opType != LDAPMessage.PROTOCOL_OP_TYPE_UNBIND_REQUEST) &&
+             ((opType != LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST) ||
+                  nonBindRequestSent) &&
+             (! circuitBreaker.allowRequest(internals.getHost(),
+                  internals.getPort())))
+        {
+          throw new LDAPException(ResultCode.CIRCUIT_BREAKER_OPEN,
+               ERR_CONN_CIRCUIT_BREAKER_OPEN.get(getHostPort()));
+        }
+      }
+
+      switch (message.getProtocolOpType())
+      {
+        case LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST:
+        case LDAPMessage.PROTOCOL_OP_TYPE_ABANDON_REQUEST:
+        case LDAPMessage.PROTOCOL_OP_TYPE_UNBIND_REQUEST:
+          break;
+        default:
+          nonBindRequestSent = true;
+          break;
+      }
+
       @SuppressWarnings("deprecation")
       final boolean autoReconnect = connectionOptions.autoReconnect();
       internals.sendMessage(message, sendTimeoutMillis, autoReconnect);
@@ -4873,17 +5200,6 @@ public final class LDAPConnection
 
     cachedSchema = null;
     lastCommunicationTime = -1L;
-
-    synchronized (this)
-    {
-      final Timer t = timer;
-      timer = null;
-
-      if (t != null)
-      {
-        t.cancel();
-      }
-    }
   }
 
 
@@ -4939,51 +5255,24 @@ public final class LDAPConnection
 
 
   /**
-   * Retrieves a timer for use with this connection, creating one if necessary.
+   * Retrieves the timer that should be used to enforce timeouts for
+   * asynchronous operations on this connection.
    *
-   * @return  A timer for use with this connection.
+   * @return  The timer that should be used for this connection.
    *
    * @throws  LDAPException  If the connection has been closed.
    */
   @NotNull()
-  Timer getTimer()
+  HashedWheelTimer getTimer()
         throws LDAPException
   {
-    final Timer t = getTimerNullable();
-    if (t == null)
+    if (closeRequested || (connectionInternals == null))
     {
       throw new LDAPException(ResultCode.SERVER_DOWN,
            ERR_CONN_NOT_ESTABLISHED.get());
     }
-    else
-    {
-      return t;
-    }
-  }
-
-
-
-  /**
-   * Retrieves a timer for use with this connection, creating one if necessary
-   * and the connection is established.
-   *
-   * @return  A timer for use with this connection, or {@code null} if the
-   *          connection is not established.
-   */
-  @Nullable()
-  synchronized Timer getTimerNullable()
-  {
-    if (timer == null)
-    {
-      if (closeRequested || (connectionInternals == null))
-      {
-        return null;
-      }
-
-      timer = new Timer("Timer thread for " + toString(), true);
-    }
 
-    return timer;
+    return HashedWheelTimer.getSharedTimer();
   }
 
 
@@ -5013,10 +5302,95 @@ public final class LDAPConnection
       }
     }
 
+    return establishConnection(connection, connection.connectionOptions, host,
+         port, bindRequest);
+  }
+
+
+
+  /**
+   * Creates a new connection to the same server as this connection, with the
+   * same socket factory, StartTLS request, and authentication, but with its own
+   * reader thread rather than a shared selector reader.  It is intended for
+   * operations that may need to stop reading responses for a period of time,
+   * which must not delay responses for any other operations.
+   *
+   * @return  The new connection.
+   *
+   * @throws  LDAPException  If this connection is not established, if its
+   *                         authentication cannot be repeated, or if a
+   *                         problem occurs while establishing or
+   *                         authenticating the new connection.
+   */
+  @NotNull()
+  LDAPConnection createDedicatedConnection()
+         throws LDAPException
+  {
+    final String host = getConnectedAddress();
+    if (host == null)
+    {
+      throw new LDAPException(ResultCode.SERVER_DOWN,
+           ERR_CONN_NOT_ESTABLISHED.get());
+    }
+
+    final int port = getConnectedPort();
+
+    BindRequest bindRequest = null;
+    if (lastBindRequest != null)
+    {
+      bindRequest = lastBindRequest.getRebindRequest(host, port);
+      if (bindRequest == null)
+      {
+        throw new LDAPException(ResultCode.NOT_SUPPORTED,
+             ERR_CONN_CANNOT_AUTHENTICATE_DEDICATED_CONNECTION.get(host,
+                  port));
+      }
+    }
+
+    final LDAPConnectionOptions options = connectionOptions.duplicate();
+    options.setUseSelectorReader(false);
+
+    return establishConnection(this, options, host, port, bindRequest);
+  }
+
+
+
+  /**
+   * Establishes a new connection with the same socket factory and StartTLS
+   * request as the provided connection, and authenticates it with the given
+   * bind request.
+   *
+   * @param  connection   The connection whose socket factory and StartTLS
+   *                      request should be used.  It must not be
+   *                      {@code null}.
+   * @param  options      The connection options to use for the new
+   *                      connection.  It must not be {@code null}.
+   * @param  host         The address of the server to which the connection
+   *                      should be established.  It must not be
+   *                      {@code null}.
+   * @param  port         The port of the server to which the connection
+   *                      should be established.
+   * @param  bindRequest  The bind request to use to authenticate the new
+   *                      connection.  It may be {@code null} if the new
+   *                      connection should be unauthenticated.
+   *
+   * @return  The new connection.
+   *
+   * @throws  LDAPException  If a problem occurs while establishing or
+   *                         authenticating the connection.
+   */
+  @NotNull()
+  private static LDAPConnection establishConnection(
+                      @NotNull final LDAPConnection connection,
+                      @NotNull final LDAPConnectionOptions options,
+                      @NotNull final String host, final int port,
+                      @Nullable final BindRequest bindRequest)
+         throws LDAPException
+  {
     final ExtendedRequest connStartTLSRequest = connection.startTLSRequest;
 
     final LDAPConnection conn = new LDAPConnection(connection.socketFactory,
-         connection.connectionOptions, host, port);
+         options, host, port);
 
     if (connStartTLSRequest != null)
     {
@@ -5166,6 +5540,29 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Indicates whether responses for this connection are currently being read
+   * by a shared selector reader thread rather than a reader thread dedicated
+   * to this connection.
+   *
+   * @return  {@code true} if responses for this connection are being read by
+   *          a shared selector reader thread, or {@code false} if not (or if
+   *          the connection is not established).
+   */
+  boolean usesSelectorReader()
+  {
+    final LDAPConnectionInternals internals = connectionInternals;
+    if (internals == null)
+    {
+      return false;
+    }
+
+    final LDAPConnectionReader reader = internals.getConnectionReader();
+    return ((reader != null) && reader.usesSelectorReader());
+  }
+
+
+
   /**
    * Reads a response from the server, blocking if necessary until the response
    * has been received.  This should only be used for connections operating in
@@ -5192,6 +5589,10 @@ public final class LDAPConnection
            internals.getConnectionReader().readResponse(messageID);
       Debug.debugLDAPResult(response, this);
       internals.getConnectionReader().logResponse(response);
+      if (response instanceof LDAPResult)
+      {
+        recordOperationOutcome(((LDAPResult) response).getResultCode());
+      }
       return response;
     }
     else
@@ -5260,6 +5661,26 @@ public final class LDAPConnection
 
 
 
+  /**
+   * Retrieves the pool of ASN.1 buffers that all connections in this JVM share
+   * to encode requests to send to a server.  It may be used to obtain
+   * statistics about how the buffers are used.  The size of the buffers and the
+   * total amount of memory retained by the pool may be configured with the
+   * {@link LDAPConnectionOptions#PROPERTY_ASN1_BUFFER_POOL_MAX_BUFFER_SIZE} and
+   * {@link LDAPConnectionOptions#PROPERTY_ASN1_BUFFER_POOL_MAX_RETAINED_BYTES}
+   * system properties.
+   *
+   * @return  The pool of ASN.1 buffers that all connections in this JVM share
+   *          to encode requests.
+   */
+  @NotNull()
+  public static ASN1BufferPool getSharedASN1BufferPool()
+  {
+    return LDAPConnectionInternals.getASN1BufferPool();
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -42,22 +42,25 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import javax.security.sasl.SaslClient;
 
 import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1BufferPool;
 import com.unboundid.ldap.protocol.LDAPMessage;
 import com.unboundid.util.Debug;
 import com.unboundid.util.DebugType;
+import com.unboundid.util.HashedWheelTimerTask;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
+import com.unboundid.util.PropertyManager;
 import com.unboundid.util.StaticUtils;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
@@ -80,10 +83,20 @@ final class LDAPConnectionInternals
 
 
   /**
-   * A set of thread-local ASN.1 buffers used to prepare messages to be written.
+   * The pool of ASN.1 buffers used to prepare messages to be written.  It is
+   * shared by all connections and threads, and bounds both the size of the
+   * buffers that it retains and the total amount of memory that they use.
    */
-  @NotNull private static final AtomicReference<ThreadLocal<ASN1Buffer>>
-       ASN1_BUFFERS = new AtomicReference<>(new ThreadLocal<ASN1Buffer>());
+  @NotNull private static final ASN1BufferPool ASN1_BUFFER_POOL =
+       new ASN1BufferPool(
+            Math.max(1, PropertyManager.getInt(
+                 LDAPConnectionOptions.
+                      PROPERTY_ASN1_BUFFER_POOL_MAX_BUFFER_SIZE,
+                 ASN1BufferPool.DEFAULT_MAX_BUFFER_SIZE)),
+            Math.max(0L, PropertyManager.getLong(
+                 LDAPConnectionOptions.
+                      PROPERTY_ASN1_BUFFER_POOL_MAX_RETAINED_BYTES,
+                 ASN1BufferPool.DEFAULT_MAX_RETAINED_BYTES)));
 
 
 
@@ -110,15 +123,35 @@ final class LDAPConnectionInternals
   // associated.
   @Nullable private final LDAPConnectionReader connectionReader;
 
+  // The writer used to coalesce requests sent concurrently over this
+  // connection, if write coalescing is enabled.
+  @Nullable private final CoalescingMessageWriter coalescingWriter;
+
+  // The SO_TIMEOUT value most recently set on the socket, or -1 if it is not
+  // known.
+  private volatile int currentSoTimeout;
+
+  // The lock used to ensure that the SO_TIMEOUT value set on the socket is
+  // consistent with the value recorded in currentSoTimeout.
+  @NotNull private final Object soTimeoutLock;
+
   // The output stream used to send requests to the server.
   @Nullable private volatile OutputStream outputStream;
 
   // The SASL client used to provide communication security via QoP.
   @Nullable private volatile SaslClient saslClient;
 
+  // The writer used to wrap messages using the SASL client, if appropriate.
+  @Nullable private volatile SASLMessageWriter saslMessageWriter;
+
   // The socket used to communicate with the directory server.
   @Nullable private volatile Socket socket;
 
+  // The channel that will be used to read data from the server with a shared
+  // selector reader thread.  It will be null unless the connection is
+  // configured to use a selector reader and the socket is backed by a channel.
+  @Nullable private final SocketChannel selectorChannel;
+
   // The address of the server to which the connection is established.
   @NotNull private final String host;
 
@@ -174,13 +207,48 @@ final class LDAPConnectionInternals
     synchronousMode = options.useSynchronousMode();
     saslClient      = null;
     socket          = null;
+    soTimeoutLock   = new Object();
+
+    currentSoTimeout = -1;
+    saslMessageWriter = null;
+    if (options.useWriteCoalescing())
+    {
+      coalescingWriter = new CoalescingMessageWriter();
+    }
+    else
+    {
+      coalescingWriter = null;
+    }
 
     writeTimeoutHandler = new WriteTimeoutHandler(connection);
 
+    // If the connection should use a shared selector reader, then the socket
+    // must be backed by a channel.  Sockets created by the default JVM socket
+    // factory are not, so use an equivalent factory that creates them from a
+    // channel.  Sockets created by any other factory will be used as-is, and
+    // the connection will fall back to using a dedicated reader thread if they
+    // do not have a channel.  A selector reader must buffer each complete
+    // message before decoding it, which would defeat the purpose of streaming
+    // attribute values, so a connection that streams any attributes will also
+    // use a dedicated reader thread.
+    final boolean useSelectorReader =
+         options.useSelectorReader() && (! synchronousMode) &&
+         options.getStreamedAttributes().isEmpty();
+    final SocketFactory factory;
+    if (useSelectorReader &&
+        SocketChannelSocketFactory.isDefaultSocketFactory(socketFactory))
+    {
+      factory = SocketChannelSocketFactory.getInstance();
+    }
+    else
+    {
+      factory = socketFactory;
+    }
+
     try
     {
       final ConnectThread connectThread =
-           new ConnectThread(socketFactory, inetAddress, port, timeout);
+           new ConnectThread(factory, inetAddress, port, timeout);
       connectThread.start();
       socket = connectThread.getConnectedSocket();
 
@@ -235,10 +303,20 @@ final class LDAPConnectionInternals
       Debug.debug(Level.INFO, DebugType.CONNECT,
            "Setting the SO_TIMEOUT value for connection " + connection +
                 " to " + soTimeout + "ms.");
-      socket.setSoTimeout(soTimeout);
+      setSoTimeout(soTimeout);
 
-      outputStream     = new BufferedOutputStream(socket.getOutputStream());
       connectionReader = new LDAPConnectionReader(connection, this);
+      if (useSelectorReader && (socket.getChannel() != null))
+      {
+        selectorChannel = socket.getChannel();
+        outputStream = new BufferedOutputStream(
+             new SocketChannelOutputStream(selectorChannel));
+      }
+      else
+      {
+        selectorChannel = null;
+        outputStream = new BufferedOutputStream(socket.getOutputStream());
+      }
     }
     catch (final IOException ioe)
     {
@@ -264,13 +342,27 @@ final class LDAPConnectionInternals
 
   /**
    * Starts the connection reader for this connection internals.  This will
-   * have no effect if the connection is operating in synchronous mode.
+   * have no effect if the connection is operating in synchronous mode.  If the
+   * connection is configured to use a selector reader, then the connection
+   * will be registered with one of the shared selector reader threads rather
+   * than starting a dedicated thread.
+   *
+   * @throws  IOException  If a problem occurs while registering the connection
+   *                       with a shared selector reader thread.
    */
   void startConnectionReader()
+       throws IOException
   {
     if (! synchronousMode)
     {
-      connectionReader.start();
+      if (selectorChannel == null)
+      {
+        connectionReader.startReaderThread();
+      }
+      else
+      {
+        connectionReader.startSelectorReader(selectorChannel);
+      }
     }
   }
 
@@ -368,7 +460,48 @@ final class LDAPConnectionInternals
    */
   void setSocket(@NotNull final Socket socket)
   {
-    this.socket = socket;
+    synchronized (soTimeoutLock)
+    {
+      this.socket = socket;
+      currentSoTimeout = -1;
+    }
+  }
+
+
+
+  /**
+   * Sets the value of the SO_TIMEOUT socket option on the socket used to
+   * communicate with the directory server.
+   *
+   * @param  soTimeout  The SO_TIMEOUT value (in milliseconds) to use.  It must
+   *                    be greater than or equal to zero, with a value of zero
+   *                    indicating an unlimited timeout.
+   *
+   * @throws  IOException  If a problem occurs while setting the SO_TIMEOUT
+   *                       value.
+   */
+  void setSoTimeout(final int soTimeout)
+       throws IOException
+  {
+    synchronized (soTimeoutLock)
+    {
+      final Socket s = socket;
+      if (s == null)
+      {
+        throw new IOException(ERR_CONN_NOT_ESTABLISHED.get());
+      }
+
+      try
+      {
+        s.setSoTimeout(soTimeout);
+        currentSoTimeout = soTimeout;
+      }
+      catch (final IOException e)
+      {
+        currentSoTimeout = -1;
+        throw e;
+      }
+    }
   }
 
 
@@ -447,6 +580,7 @@ final class LDAPConnectionInternals
        throws LDAPException
   {
     this.saslClient = saslClient;
+    saslMessageWriter = new SASLMessageWriter(saslClient);
     connectionReader.applySASLQoP(saslClient);
   }
 
@@ -558,14 +692,7 @@ final class LDAPConnectionInternals
                               ERR_CONN_NOT_ESTABLISHED.get());
     }
 
-    ASN1Buffer buffer = ASN1_BUFFERS.get().get();
-    if (buffer == null)
-    {
-      buffer = new ASN1Buffer();
-      ASN1_BUFFERS.get().set(buffer);
-    }
-
-    buffer.clear();
+    final ASN1Buffer buffer = ASN1_BUFFER_POOL.borrow();
     try
     {
       message.writeTo(buffer);
@@ -573,35 +700,42 @@ final class LDAPConnectionInternals
     catch (final LDAPRuntimeException lre)
     {
       Debug.debugException(lre);
+      ASN1_BUFFER_POOL.release(buffer);
       lre.throwLDAPException();
     }
 
 
-    try
+    // Setting the SO_TIMEOUT value can require a system call and may require
+    // synchronization within the socket implementation, so only do it if the
+    // value has actually changed.
+    final int soTimeout = Math.max(0, (int) sendTimeoutMillis);
+    if (soTimeout != currentSoTimeout)
     {
-      final int soTimeout = Math.max(0, (int) sendTimeoutMillis);
-      if (Debug.debugEnabled())
+      try
       {
-        Debug.debug(Level.INFO, DebugType.CONNECT,
-             "Setting the SO_TIMEOUT value for connection " + connection +
-                  " to " + soTimeout + "ms.");
+        if (Debug.debugEnabled())
+        {
+          Debug.debug(Level.INFO, DebugType.CONNECT,
+               "Setting the SO_TIMEOUT value for connection " + connection +
+                    " to " + soTimeout + "ms.");
+        }
+        setSoTimeout(soTimeout);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
       }
-      socket.setSoTimeout(soTimeout);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
     }
 
 
-    final Long writeID;
+    final HashedWheelTimerTask writeTimeoutTask;
     if (sendTimeoutMillis > 0)
     {
-      writeID = writeTimeoutHandler.beginWrite(sendTimeoutMillis);
+      writeTimeoutTask = writeTimeoutHandler.beginWrite(sendTimeoutMillis);
     }
     else
     {
-      writeID = null;
+      writeTimeoutTask = null;
     }
 
     try
@@ -639,27 +773,21 @@ final class LDAPConnectionInternals
              ERR_CONN_SEND_ERROR_NOT_ESTABLISHED.get(host, port));
       }
 
-      if (saslClient == null)
+      final SASLMessageWriter saslWriter = saslMessageWriter;
+      if (coalescingWriter != null)
+      {
+        coalescingWriter.write(buffer, os, saslWriter);
+      }
+      else if (saslWriter == null)
       {
         buffer.writeTo(os);
+        os.flush();
       }
       else
       {
-        // We need to wrap the data that was read using the SASL client, but we
-        // also need to precede that wrapped data with four bytes that specify
-        // the number of bytes of wrapped data.
-        final byte[] clearBytes = buffer.toByteArray();
-        final byte[] saslBytes =
-             saslClient.wrap(clearBytes, 0, clearBytes.length);
-        final byte[] lengthBytes = new byte[4];
-        lengthBytes[0] = (byte) ((saslBytes.length >> 24) & 0xFF);
-        lengthBytes[1] = (byte) ((saslBytes.length >> 16) & 0xFF);
-        lengthBytes[2] = (byte) ((saslBytes.length >> 8) & 0xFF);
-        lengthBytes[3] = (byte) (saslBytes.length & 0xFF);
-        os.write(lengthBytes);
-        os.write(saslBytes);
-      }
-      os.flush();
+        saslWriter.write(buffer, os);
+        os.flush();
+      }
     }
     catch (final LDAPException e)
     {
@@ -710,15 +838,12 @@ final class LDAPConnectionInternals
     }
     finally
     {
-      if (writeID != null)
+      if (writeTimeoutTask != null)
       {
-        writeTimeoutHandler.writeCompleted(writeID);
+        writeTimeoutHandler.writeCompleted(writeTimeoutTask);
       }
 
-      if (buffer.zeroBufferOnClear())
-      {
-        buffer.clear();
-      }
+      ASN1_BUFFER_POOL.release(buffer);
     }
   }
 
@@ -802,6 +927,7 @@ final class LDAPConnectionInternals
       finally
       {
         saslClient = null;
+        saslMessageWriter = null;
       }
     }
 
@@ -831,7 +957,7 @@ final class LDAPConnectionInternals
          ACTIVE_CONNECTION_COUNT.decrementAndGet();
     if (remainingActiveConnections <= 0L)
     {
-      ASN1_BUFFERS.set(new ThreadLocal<ASN1Buffer>());
+      ASN1_BUFFER_POOL.clear();
 
       if (remainingActiveConnections < 0L)
       {
@@ -876,6 +1002,19 @@ final class LDAPConnectionInternals
 
 
 
+  /**
+   * Retrieves the pool of ASN.1 buffers used to prepare messages to be written.
+   *
+   * @return  The pool of ASN.1 buffers used to prepare messages to be written.
+   */
+  @NotNull()
+  static ASN1BufferPool getASN1BufferPool()
+  {
+    return ASN1_BUFFER_POOL;
+  }
+
+
+
   /**
    * Retrieves a string representation of this connection internals object.
    *
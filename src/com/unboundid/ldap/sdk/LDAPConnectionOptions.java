@@ -37,13 +37,17 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.io.File;
 import java.lang.reflect.Method;
 import java.net.InetAddress;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 
 import com.unboundid.ldap.sdk.extensions.PasswordModifyExtendedRequest;
@@ -76,8 +80,10 @@ import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.PropertyManager;
 import com.unboundid.util.StaticUtils;
+import com.unboundid.util.StringInternTable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.VirtualThreadSupport;
 import com.unboundid.util.Validator;
 import com.unboundid.util.ssl.HostNameSSLSocketVerifier;
 import com.unboundid.util.ssl.SSLSocketVerifier;
@@ -334,6 +340,47 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "lazily decode search entries" behavior.  If this
+   * property is set at the time that this class is loaded, then its value must
+   * be either "true" or "false".  If this property is not set, then a default
+   * value of "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.
+   * defaultLazilyDecodeSearchEntries".
+   */
+  @NotNull public static final String
+       PROPERTY_DEFAULT_LAZILY_DECODE_SEARCH_ENTRIES =
+            PROPERTY_PREFIX + "defaultLazilyDecodeSearchEntries";
+
+
+
+  /**
+   * The default value for the setting that controls whether the attributes of
+   * search result entries should be retained in encoded form and only decoded
+   * when they are first accessed.  If the
+   * {@link #PROPERTY_DEFAULT_LAZILY_DECODE_SEARCH_ENTRIES} system property is
+   * set at the time this class is loaded, then its value will be used.
+   * Otherwise, a default of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_LAZILY_DECODE_SEARCH_ENTRIES =
+       PropertyManager.getBoolean(PROPERTY_DEFAULT_LAZILY_DECODE_SEARCH_ENTRIES,
+            false);
+
+
+
+  /**
+   * The default maximum size, in bytes, of a streamed attribute value that will
+   * be held in memory rather than written to a temporary file (65536 bytes, or
+   * 64 kilobytes).
+   */
+  private static final int DEFAULT_STREAMED_ATTRIBUTE_VALUE_MAX_MEMORY_SIZE =
+       65_536;
+
+
+
   /**
    * The name of a system property that can be used to specify the maximum
    * number of hops to make when following a referral.  If this property is set
@@ -576,6 +623,87 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use selector reader" behavior.  If this property is
+   * set at the time that this class is loaded, then its value must be either
+   * "true" or "false".  If this property is not set, then a default value of
+   * "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseSelectorReader".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_SELECTOR_READER =
+       PROPERTY_PREFIX + "defaultUseSelectorReader";
+
+
+
+  /**
+   * The default value for the setting that controls whether connections that
+   * are not operating in synchronous mode should have their responses read by
+   * a small set of shared selector-based reader threads rather than a
+   * dedicated reader thread per connection.  If the
+   * {@link #PROPERTY_DEFAULT_USE_SELECTOR_READER} system property is set at the
+   * time this class is loaded, then its value will be used.  Otherwise, a
+   * default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_SELECTOR_READER =
+       PropertyManager.getBoolean(PROPERTY_DEFAULT_USE_SELECTOR_READER, false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the number of
+   * shared selector reader threads that will be used to read responses for
+   * connections configured to use a selector reader.  If this property is set
+   * at the time the first such connection is established, then its value must
+   * be a positive integer.  If this property is not set, then the number of
+   * threads will be the number of available processors, up to a maximum of
+   * four.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.selectorReaderThreadCount".
+   */
+  @NotNull public static final String PROPERTY_SELECTOR_READER_THREAD_COUNT =
+       PROPERTY_PREFIX + "selectorReaderThreadCount";
+
+
+
+  /**
+   * The name of a system property that can be used to specify the maximum
+   * capacity, in bytes, of the buffers that will be retained in the shared
+   * pool of buffers used to encode requests.  If this property is set at the
+   * time the first connection is established, then its value must be a
+   * positive integer.  If this property is not set, then a default value of
+   * 1048576 (one megabyte) will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.asn1BufferPoolMaxBufferSize".
+   */
+  @NotNull public static final String
+       PROPERTY_ASN1_BUFFER_POOL_MAX_BUFFER_SIZE =
+            PROPERTY_PREFIX + "asn1BufferPoolMaxBufferSize";
+
+
+
+  /**
+   * The name of a system property that can be used to specify the maximum
+   * total capacity, in bytes, of all buffers that will be retained in the
+   * shared pool of buffers used to encode requests.  If this property is set at
+   * the time the first connection is established, then its value must be an
+   * integer greater than or equal to zero.  If this property is not set, then
+   * a default value of 8388608 (eight megabytes) will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.
+   * asn1BufferPoolMaxRetainedBytes".
+   */
+  @NotNull public static final String
+       PROPERTY_ASN1_BUFFER_POOL_MAX_RETAINED_BYTES =
+            PROPERTY_PREFIX + "asn1BufferPoolMaxRetainedBytes";
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default value for the "use TCP nodelay" behavior.  If this property is set
@@ -603,6 +731,65 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use write coalescing" behavior.  If this property is
+   * set at the time that this class is loaded, then its value must be either
+   * "true" or "false".  If this property is not set, then a default value of
+   * "false" will be assumed.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseWriteCoalescing".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_WRITE_COALESCING =
+       PROPERTY_PREFIX + "defaultUseWriteCoalescing";
+
+
+
+  /**
+   * The default value for the setting that controls whether requests sent
+   * concurrently by multiple threads over the same connection should be
+   * coalesced so that they may be written to the server together.  If the
+   * {@link #PROPERTY_DEFAULT_USE_WRITE_COALESCING} system property is set at
+   * the time this class is loaded, then its value will be used.  Otherwise, a
+   * default value of {@code false} will be used.
+   */
+  private static final boolean DEFAULT_USE_WRITE_COALESCING =
+       PropertyManager.getBoolean(PROPERTY_DEFAULT_USE_WRITE_COALESCING,
+            false);
+
+
+
+  /**
+   * The name of a system property that can be used to specify the initial
+   * default value for the "use virtual threads" behavior.  If this property is
+   * set at the time that this class is loaded, then its value must be either
+   * "true" or "false".  If this property is not set, then the default value
+   * will be determined by the
+   * {@link VirtualThreadSupport#PROPERTY_USE_VIRTUAL_THREADS} system property.
+   * <BR><BR>
+   * The full name for this system property is
+   * "com.unboundid.ldap.sdk.LDAPConnectionOptions.defaultUseVirtualThreads".
+   */
+  @NotNull public static final String PROPERTY_DEFAULT_USE_VIRTUAL_THREADS =
+       PROPERTY_PREFIX + "defaultUseVirtualThreads";
+
+
+
+  /**
+   * The default value for the setting that controls whether connection reader
+   * threads should be virtual threads if the JVM supports them.  If the
+   * {@link #PROPERTY_DEFAULT_USE_VIRTUAL_THREADS} system property is set at
+   * the time this class is loaded, then its value will be used.  Otherwise,
+   * the value of the {@link VirtualThreadSupport#PROPERTY_USE_VIRTUAL_THREADS}
+   * system property will be used, with a default of {@code false}.
+   */
+  private static final boolean DEFAULT_USE_VIRTUAL_THREADS =
+       PropertyManager.getBoolean(PROPERTY_DEFAULT_USE_VIRTUAL_THREADS,
+            VirtualThreadSupport.useVirtualThreadsByDefault());
+
+
+
   /**
    * The name of a system property that can be used to specify the initial
    * default connect timeout, in milliseconds.  If this property is set at the
@@ -1230,6 +1417,10 @@ public final class LDAPConnectionOptions
   // Indicates whether to attempt to follow any referrals that are encountered.
   private boolean followReferrals;
 
+  // Indicates whether to defer decoding the attributes of search result
+  // entries until they are first accessed.
+  private boolean lazilyDecodeSearchEntries;
+
   // Indicates whether to use SO_KEEPALIVE for the underlying sockets.
   private boolean useKeepAlive;
 
@@ -1247,6 +1438,10 @@ public final class LDAPConnectionOptions
   // the server.
   private boolean useSchema;
 
+  // Indicates whether to use a shared selector reader thread rather than a
+  // dedicated reader thread for associated connections.
+  private boolean useSelectorReader;
+
   // Indicates whether to use synchronous mode in which only a single operation
   // may be in progress on associated connections at any given time.
   private boolean useSynchronousMode;
@@ -1254,6 +1449,14 @@ public final class LDAPConnectionOptions
   // Indicates whether to use TCP_NODELAY for the underlying sockets.
   private boolean useTCPNoDelay;
 
+  // Indicates whether to coalesce requests sent concurrently over the same
+  // connection into a single write.
+  private boolean useWriteCoalescing;
+
+  // Indicates whether to use virtual threads for connection readers if the JVM
+  // supports them.
+  private boolean useVirtualThreads;
+
   // The disconnect handler for associated connections.
   @Nullable private DisconnectHandler disconnectHandler;
 
@@ -1276,6 +1479,22 @@ public final class LDAPConnectionOptions
   // The socket send buffer size to request.
   private int sendBufferSizeBytes;
 
+  // The directory in which to create temporary files for streamed attribute
+  // values that are too large to hold in memory.
+  @Nullable private File streamedAttributeValueTempDirectory;
+
+  // The maximum size, in bytes, of a streamed attribute value that will be
+  // held in memory rather than written to a temporary file.
+  private int streamedAttributeValueMaxMemorySize;
+
+  // The lowercase base names of the attributes whose values should be
+  // streamed rather than decoded with the rest of a search result entry.
+  @NotNull private Set<String> streamedAttributes;
+
+  // The table used to intern attribute names decoded from search result
+  // entries, if any.
+  @Nullable private StringInternTable stringInternTable;
+
   // The connection logger that should be used to record information about
   // requests sent and responses received over connections with this set of
   // options.
@@ -1319,14 +1538,23 @@ public final class LDAPConnectionOptions
     bindWithDNRequiresPassword     = DEFAULT_BIND_WITH_DN_REQUIRES_PASSWORD;
     captureConnectStackTrace       = DEFAULT_CAPTURE_CONNECT_STACK_TRACE;
     followReferrals                = DEFAULT_FOLLOW_REFERRALS;
+    lazilyDecodeSearchEntries      = DEFAULT_LAZILY_DECODE_SEARCH_ENTRIES;
+    streamedAttributes             = Collections.emptySet();
+    streamedAttributeValueMaxMemorySize =
+         DEFAULT_STREAMED_ATTRIBUTE_VALUE_MAX_MEMORY_SIZE;
+    streamedAttributeValueTempDirectory = null;
+    stringInternTable              = null;
     nameResolver                   = DEFAULT_NAME_RESOLVER;
     useKeepAlive                   = DEFAULT_USE_KEEPALIVE;
     useLinger                      = DEFAULT_USE_LINGER;
     useReuseAddress                = DEFAULT_USE_REUSE_ADDRESS;
     usePooledSchema                = DEFAULT_USE_POOLED_SCHEMA;
     useSchema                      = DEFAULT_USE_SCHEMA;
+    useSelectorReader              = DEFAULT_USE_SELECTOR_READER;
     useSynchronousMode             = DEFAULT_USE_SYNCHRONOUS_MODE;
     useTCPNoDelay                  = DEFAULT_USE_TCP_NODELAY;
+    useWriteCoalescing             = DEFAULT_USE_WRITE_COALESCING;
+    useVirtualThreads              = DEFAULT_USE_VIRTUAL_THREADS;
     connectTimeoutMillis           = DEFAULT_CONNECT_TIMEOUT_MILLIS;
     lingerTimeoutSeconds           = DEFAULT_LINGER_TIMEOUT_SECONDS;
     maxMessageSizeBytes            = DEFAULT_MAX_MESSAGE_SIZE_BYTES;
@@ -1369,14 +1597,24 @@ public final class LDAPConnectionOptions
     o.bindWithDNRequiresPassword      = bindWithDNRequiresPassword;
     o.captureConnectStackTrace        = captureConnectStackTrace;
     o.followReferrals                 = followReferrals;
+    o.lazilyDecodeSearchEntries       = lazilyDecodeSearchEntries;
+    o.streamedAttributes              = streamedAttributes;
+    o.streamedAttributeValueMaxMemorySize =
+         streamedAttributeValueMaxMemorySize;
+    o.streamedAttributeValueTempDirectory =
+         streamedAttributeValueTempDirectory;
+    o.stringInternTable               = stringInternTable;
     o.nameResolver                    = nameResolver;
     o.useKeepAlive                    = useKeepAlive;
     o.useLinger                       = useLinger;
     o.useReuseAddress                 = useReuseAddress;
     o.usePooledSchema                 = usePooledSchema;
     o.useSchema                       = useSchema;
+    o.useSelectorReader               = useSelectorReader;
     o.useSynchronousMode              = useSynchronousMode;
     o.useTCPNoDelay                   = useTCPNoDelay;
+    o.useWriteCoalescing              = useWriteCoalescing;
+    o.useVirtualThreads               = useVirtualThreads;
     o.connectTimeoutMillis            = connectTimeoutMillis;
     o.lingerTimeoutSeconds            = lingerTimeoutSeconds;
     o.maxMessageSizeBytes             = maxMessageSizeBytes;
@@ -2122,6 +2360,67 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Indicates whether associated connections should have their responses read
+   * by one of a small, fixed set of shared selector-based reader threads rather
+   * than by a dedicated reader thread for each connection.  This can
+   * substantially reduce the number of threads needed by applications that
+   * maintain a large number of mostly-idle connections.  This setting will be
+   * ignored for connections operating in synchronous mode.
+   * <BR><BR>
+   * A connection will only use a shared selector reader if it is created with
+   * the default socket factory or with a socket factory that creates sockets
+   * backed by a {@code SocketChannel}.  Connections created with an SSL socket
+   * factory or any other socket factory will use a dedicated reader thread.  A
+   * connection that uses a selector reader will also switch to a dedicated
+   * reader thread if it is secured with StartTLS.  SASL integrity and
+   * confidentiality protection and unsolicited notifications are supported.
+   * <BR><BR>
+   * A selector reader buffers each complete message before decoding it, so a
+   * connection will also use a dedicated reader thread if any
+   * {@link #getStreamedAttributes() streamed attributes} are configured when
+   * it is established.
+   * <BR><BR>
+   * Because each selector reader thread handles responses for many
+   * connections, any search result listener, intermediate response listener,
+   * asynchronous result listener, or unsolicited notification handler invoked
+   * for a connection that uses a selector reader should avoid blocking, since
+   * that will delay the processing of responses for other connections.
+   * <BR><BR>
+   * Note that this connection option must be set before any attempt is made to
+   * establish the connection.
+   *
+   * @return  {@code true} if associated connections should use a shared
+   *          selector reader, or {@code false} if each connection should use a
+   *          dedicated reader thread.
+   */
+  public boolean useSelectorReader()
+  {
+    return useSelectorReader;
+  }
+
+
+
+  /**
+   * Specifies whether associated connections should have their responses read
+   * by one of a small, fixed set of shared selector-based reader threads rather
+   * than by a dedicated reader thread for each connection.  See the
+   * {@link #useSelectorReader()} method for details about the conditions under
+   * which a selector reader will be used.
+   * <BR><BR>
+   * Note that this connection option must be set before any attempt is made to
+   * establish the connection.
+   *
+   * @param  useSelectorReader  Indicates whether associated connections should
+   *                            use a shared selector reader.
+   */
+  public void setUseSelectorReader(final boolean useSelectorReader)
+  {
+    this.useSelectorReader = useSelectorReader;
+  }
+
+
+
   /**
    * Indicates whether to use the TCP_NODELAY option for the underlying sockets
    * used by associated connections.
@@ -2152,6 +2451,93 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Indicates whether requests sent concurrently by multiple threads over the
+   * same connection should be coalesced.  If write coalescing is enabled, then
+   * each thread will encode its own request, but the encoded requests will be
+   * placed in a queue so that a single thread can write all of the queued
+   * requests to the server and flush the output stream once.  This can reduce
+   * the number of system calls and increase throughput for connections that
+   * are shared by many threads issuing asynchronous requests, but it is
+   * unlikely to offer any benefit for connections used by a single thread or
+   * operating in synchronous mode.
+   * <BR><BR>
+   * Note that this connection option must be set before any attempt is made to
+   * establish the connection.
+   *
+   * @return  {@code true} if requests sent concurrently over associated
+   *          connections should be coalesced, or {@code false} if each
+   *          request should be written and flushed individually.
+   */
+  public boolean useWriteCoalescing()
+  {
+    return useWriteCoalescing;
+  }
+
+
+
+  /**
+   * Specifies whether requests sent concurrently by multiple threads over the
+   * same connection should be coalesced.  See the {@link #useWriteCoalescing()}
+   * method for details about the behavior when write coalescing is enabled.
+   * <BR><BR>
+   * Note that this connection option must be set before any attempt is made to
+   * establish the connection.
+   *
+   * @param  useWriteCoalescing  Indicates whether requests sent concurrently
+   *                             over associated connections should be
+   *                             coalesced.
+   */
+  public void setUseWriteCoalescing(final boolean useWriteCoalescing)
+  {
+    this.useWriteCoalescing = useWriteCoalescing;
+  }
+
+
+
+  /**
+   * Indicates whether the threads used to read responses for associated
+   * connections should be virtual threads rather than platform threads.  This
+   * will only have an effect if the JVM supports virtual threads (which
+   * requires Java 21 or later), and it will not have any effect for connections
+   * operating in synchronous mode or for connections using a shared selector
+   * reader.  Virtual threads are much cheaper to create and maintain than
+   * platform threads, so they may be beneficial for applications that need to
+   * maintain a very large number of concurrent connections.
+   * <BR><BR>
+   * Note that this connection option must be set before any attempt is made to
+   * establish the connection.
+   *
+   * @return  {@code true} if the reader threads for associated connections
+   *          should be virtual threads if the JVM supports them, or
+   *          {@code false} if they should always be platform threads.
+   */
+  public boolean useVirtualThreads()
+  {
+    return useVirtualThreads;
+  }
+
+
+
+  /**
+   * Specifies whether the threads used to read responses for associated
+   * connections should be virtual threads rather than platform threads.  See
+   * the {@link #useVirtualThreads()} method for details.
+   * <BR><BR>
+   * Note that this connection option must be set before any attempt is made to
+   * establish the connection.
+   *
+   * @param  useVirtualThreads  Indicates whether the reader threads for
+   *                            associated connections should be virtual
+   *                            threads if the JVM supports them.
+   */
+  public void setUseVirtualThreads(final boolean useVirtualThreads)
+  {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+
+
   /**
    * Indicates whether associated connections should attempt to follow any
    * referrals that they encounter.
@@ -2182,6 +2568,271 @@ public final class LDAPConnectionOptions
 
 
 
+  /**
+   * Indicates whether the attributes of search result entries read from the
+   * server should be lazily decoded.  If this is enabled, then the encoded
+   * attribute list for each entry will be read into a single byte array, and
+   * the attributes will not be decoded until any of them is first accessed.
+   * When the attributes are decoded, their values will reference the data in
+   * that array rather than being copied.  This can substantially reduce the
+   * amount of memory allocated for searches that return entries with many
+   * attributes or values when the application only examines some of the
+   * entries, or discards them without examining their attributes.
+   * <BR><BR>
+   * The API for the entries returned is the same regardless of this setting.
+   * Note, however, that a lazily-decoded entry will retain the entire encoded
+   * attribute list for as long as any of its attribute values is referenced.
+   *
+   * @return  {@code true} if the attributes of search result entries should be
+   *          lazily decoded, or {@code false} if they should be decoded as soon
+   *          as each entry is read.
+   */
+  public boolean lazilyDecodeSearchEntries()
+  {
+    return lazilyDecodeSearchEntries;
+  }
+
+
+
+  /**
+   * Specifies whether the attributes of search result entries read from the
+   * server should be lazily decoded.  See the
+   * {@link #lazilyDecodeSearchEntries()} method for details about this
+   * behavior.
+   *
+   * @param  lazilyDecodeSearchEntries  Indicates whether the attributes of
+   *                                    search result entries should be lazily
+   *                                    decoded.
+   */
+  public void setLazilyDecodeSearchEntries(
+                   final boolean lazilyDecodeSearchEntries)
+  {
+    this.lazilyDecodeSearchEntries = lazilyDecodeSearchEntries;
+  }
+
+
+
+  /**
+   * Retrieves the names of the attributes whose values should be streamed
+   * rather than decoded with the rest of each search result entry read from
+   * the server.  The values of these attributes will not be included in the
+   * attributes of the entry, but will instead be made available as
+   * {@link StreamedAttributeValue} objects through the
+   * {@link SearchResultEntry#getStreamedAttributeValues()} method.  Streamed
+   * values that are no larger than the
+   * {@link #getStreamedAttributeValueMaxMemorySize() maximum memory size} will
+   * be held in memory, while larger values will be written to temporary files
+   * as they are read, so that the amount of memory needed to read an entry
+   * does not depend on the size of its streamed values.  This can be used to
+   * bound memory usage when retrieving entries with very large values, like
+   * {@code jpegPhoto} or {@code userCertificate;binary}.
+   * <BR><BR>
+   * Attributes are matched by base name without regard to case, so that all
+   * variants of an attribute with different attribute options will be
+   * streamed.  If any attributes are to be streamed, then search result
+   * entries will not be lazily decoded, regardless of the
+   * {@link #lazilyDecodeSearchEntries()} setting.  Streamed values are still
+   * subject to the {@link #getMaxMessageSize() maximum message size}.
+   * <BR><BR>
+   * Values can only be streamed as they are read from the socket by a reader
+   * thread dedicated to the connection.  A connection that has streamed
+   * attributes configured when it is established will therefore not use a
+   * shared selector reader, even if {@link #useSelectorReader()} returns
+   * {@code true}.  If streamed attributes are configured for a connection that
+   * is already using a selector reader, then their values will still be
+   * provided as {@code StreamedAttributeValue} objects, but each message will
+   * have been read into memory in its entirety before they are extracted.
+   * <BR><BR>
+   * Any streamed value that has been written to a temporary file holds on to
+   * that file until the value is closed, so callers must close every value
+   * obtained from {@link SearchResultEntry#getStreamedAttributeValues()}.
+   *
+   * @return  The lowercase base names of the attributes whose values should be
+   *          streamed, or an empty set if no attributes should be streamed.
+   */
+  @NotNull()
+  public Set<String> getStreamedAttributes()
+  {
+    return streamedAttributes;
+  }
+
+
+
+  /**
+   * Specifies the names of the attributes whose values should be streamed
+   * rather than decoded with the rest of each search result entry read from
+   * the server.  See the {@link #getStreamedAttributes()} method for details
+   * about this behavior.
+   *
+   * @param  attributeNames  The names of the attributes whose values should be
+   *                         streamed.  It may be {@code null} or empty if no
+   *                         attributes should be streamed.
+   */
+  public void setStreamedAttributes(@Nullable final String... attributeNames)
+  {
+    if (attributeNames == null)
+    {
+      setStreamedAttributes((Collection<String>) null);
+    }
+    else
+    {
+      setStreamedAttributes(Arrays.asList(attributeNames));
+    }
+  }
+
+
+
+  /**
+   * Specifies the names of the attributes whose values should be streamed
+   * rather than decoded with the rest of each search result entry read from
+   * the server.  See the {@link #getStreamedAttributes()} method for details
+   * about this behavior.
+   *
+   * @param  attributeNames  The names of the attributes whose values should be
+   *                         streamed.  It may be {@code null} or empty if no
+   *                         attributes should be streamed.
+   */
+  public void setStreamedAttributes(
+                   @Nullable final Collection<String> attributeNames)
+  {
+    if ((attributeNames == null) || attributeNames.isEmpty())
+    {
+      streamedAttributes = Collections.emptySet();
+      return;
+    }
+
+    final LinkedHashSet<String> names =
+         new LinkedHashSet<>(StaticUtils.computeMapCapacity(
+              attributeNames.size()));
+    for (final String name : attributeNames)
+    {
+      names.add(StaticUtils.toLowerCase(Attribute.getBaseName(name)));
+    }
+
+    streamedAttributes = Collections.unmodifiableSet(names);
+  }
+
+
+
+  /**
+   * Retrieves the maximum size, in bytes, of a streamed attribute value that
+   * will be held in memory.  Streamed values larger than this will be written
+   * to a temporary file as they are read.  See the
+   * {@link #getStreamedAttributes()} method for details about streamed
+   * attributes.
+   *
+   * @return  The maximum size, in bytes, of a streamed attribute value that
+   *          will be held in memory.
+   */
+  public int getStreamedAttributeValueMaxMemorySize()
+  {
+    return streamedAttributeValueMaxMemorySize;
+  }
+
+
+
+  /**
+   * Specifies the maximum size, in bytes, of a streamed attribute value that
+   * will be held in memory.  Streamed values larger than this will be written
+   * to a temporary file as they are read.  See the
+   * {@link #getStreamedAttributes()} method for details about streamed
+   * attributes.
+   *
+   * @param  maxMemorySize  The maximum size, in bytes, of a streamed attribute
+   *                        value that will be held in memory.  A value that
+   *                        is less than zero will be treated as zero, which
+   *                        indicates that every non-empty streamed value
+   *                        should be written to a temporary file.
+   */
+  public void setStreamedAttributeValueMaxMemorySize(final int maxMemorySize)
+  {
+    streamedAttributeValueMaxMemorySize = Math.max(0, maxMemorySize);
+  }
+
+
+
+  /**
+   * Retrieves the directory in which temporary files will be created for
+   * streamed attribute values that are too large to hold in memory.  See the
+   * {@link #getStreamedAttributes()} method for details about streamed
+   * attributes.
+   *
+   * @return  The directory in which temporary files will be created for
+   *          streamed attribute values, or {@code null} if the default
+   *          temporary directory will be used.
+   */
+  @Nullable()
+  public File getStreamedAttributeValueTempDirectory()
+  {
+    return streamedAttributeValueTempDirectory;
+  }
+
+
+
+  /**
+   * Specifies the directory in which temporary files will be created for
+   * streamed attribute values that are too large to hold in memory.  See the
+   * {@link #getStreamedAttributes()} method for details about streamed
+   * attributes.
+   *
+   * @param  tempDirectory  The directory in which temporary files will be
+   *                        created for streamed attribute values.  It may be
+   *                        {@code null} if the default temporary directory
+   *                        should be used.
+   */
+  public void setStreamedAttributeValueTempDirectory(
+                   @Nullable final File tempDirectory)
+  {
+    streamedAttributeValueTempDirectory = tempDirectory;
+  }
+
+
+
+  /**
+   * Retrieves the table that will be used to intern the attribute names of
+   * search result entries read from the server, if any.  When decoding a large
+   * number of entries, the same attribute names (like {@code objectClass} or
+   * {@code cn}) will be read over and over, and without interning each entry
+   * would hold its own copy of each name, as well as its own copy of the
+   * lowercase form of that name used to look up the attribute in the entry.
+   * If an intern table is configured, then those names will instead be
+   * replaced with shared instances from the table, which can substantially
+   * reduce the amount of memory needed to hold a large set of entries.
+   * <BR><BR>
+   * By default, no intern table will be used.  The same table may be shared
+   * by any number of connections, and its hit ratio can be used to determine
+   * how effective interning is for a given workload.
+   *
+   * @return  The table that will be used to intern the attribute names of
+   *          search result entries, or {@code null} if attribute names should
+   *          not be interned.
+   */
+  @Nullable()
+  public StringInternTable getStringInternTable()
+  {
+    return stringInternTable;
+  }
+
+
+
+  /**
+   * Specifies the table that will be used to intern the attribute names of
+   * search result entries read from the server.  See the
+   * {@link #getStringInternTable()} method for details about this behavior.
+   *
+   * @param  stringInternTable  The table that will be used to intern the
+   *                            attribute names of search result entries.  It
+   *                            may be {@code null} if attribute names should
+   *                            not be interned.
+   */
+  public void setStringInternTable(
+                   @Nullable final StringInternTable stringInternTable)
+  {
+    this.stringInternTable = stringInternTable;
+  }
+
+
+
   /**
    * Retrieves the maximum number of hops that a connection should take when
    * trying to follow a referral.
@@ -2578,6 +3229,26 @@ public final class LDAPConnectionOptions
       buffer.append(", referralConnectorClass=");
       buffer.append(referralConnector.getClass().getName());
     }
+    buffer.append(", lazilyDecodeSearchEntries=");
+    buffer.append(lazilyDecodeSearchEntries);
+    if (! streamedAttributes.isEmpty())
+    {
+      buffer.append(", streamedAttributes=");
+      buffer.append(streamedAttributes);
+      buffer.append(", streamedAttributeValueMaxMemorySize=");
+      buffer.append(streamedAttributeValueMaxMemorySize);
+      if (streamedAttributeValueTempDirectory != null)
+      {
+        buffer.append(", streamedAttributeValueTempDirectory='");
+        buffer.append(streamedAttributeValueTempDirectory.getAbsolutePath());
+        buffer.append('\'');
+      }
+    }
+    if (stringInternTable != null)
+    {
+      buffer.append(", stringInternTableMaxSize=");
+      buffer.append(stringInternTable.getMaxSize());
+    }
     buffer.append(", useKeepAlive=");
     buffer.append(useKeepAlive);
     buffer.append(", useLinger=");
@@ -2600,8 +3271,14 @@ public final class LDAPConnectionOptions
     buffer.append(pooledSchemaTimeoutMillis);
     buffer.append(", useSynchronousMode=");
     buffer.append(useSynchronousMode);
+    buffer.append(", useSelectorReader=");
+    buffer.append(useSelectorReader);
     buffer.append(", useTCPNoDelay=");
     buffer.append(useTCPNoDelay);
+    buffer.append(", useWriteCoalescing=");
+    buffer.append(useWriteCoalescing);
+    buffer.append(", useVirtualThreads=");
+    buffer.append(useVirtualThreads);
     buffer.append(", captureConnectStackTrace=");
     buffer.append(captureConnectStackTrace);
     buffer.append(", connectTimeoutMillis=");
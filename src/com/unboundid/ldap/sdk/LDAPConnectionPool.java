@@ -41,11 +41,11 @@ import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -53,13 +53,16 @@ import java.util.concurrent.atomic.AtomicReference;
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.util.Debug;
+import com.unboundid.util.LDAPSDKThreadFactory;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.ObjectPair;
 import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadLocalRandom;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
+import com.unboundid.util.VirtualThreadSupport;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
 
@@ -266,6 +269,18 @@ public final class LDAPConnectionPool
   // try to keep available for immediate use.
   private volatile int minConnectionGoal;
 
+  // The controller used to adjust the number of connections in this pool based
+  // on demand, if adaptive sizing is enabled.
+  @Nullable private volatile AdaptiveConnectionPoolSizer adaptiveSizer;
+
+  // The processor used to send hedged requests for read operations, if hedging
+  // is enabled.
+  @Nullable private volatile HedgedReadProcessor hedgedReadProcessor;
+
+  // The maximum number of available connections that may be examined
+  // concurrently during health check processing.
+  private volatile int healthCheckParallelism;
+
   // The health check implementation that should be used for this connection
   // pool.
   @NotNull private LDAPConnectionPoolHealthCheck healthCheck;
@@ -274,17 +289,27 @@ public final class LDAPConnectionPool
   // for this connection pool.
   @NotNull private final LDAPConnectionPoolHealthCheckThread healthCheckThread;
 
+  // The executor that will be used to examine connections concurrently during
+  // health check processing when the health check parallelism is greater than
+  // one.  Its threads are created on demand and are retained until the pool is
+  // closed.
+  @NotNull private final ThreadPoolExecutor healthCheckExecutor;
+
   // The statistics for this connection pool.
   @NotNull private final LDAPConnectionPoolStatistics poolStatistics;
 
   // The set of connections that are currently available for use.
-  @NotNull private final LinkedBlockingQueue<LDAPConnection>
-       availableConnections;
+  @NotNull private final StripedConnectionQueue availableConnections;
 
   // The length of time in milliseconds between periodic health checks against
   // the available connections in this pool.
   private volatile long healthCheckInterval;
 
+  // The maximum length of time in milliseconds over which the checks for
+  // individual connections in a background health check will be randomly
+  // spread.
+  private volatile long healthCheckJitterMillis;
+
   // The time that the last expired connection was closed.
   private volatile long lastExpiredDisconnectTime;
 
@@ -647,6 +672,8 @@ public final class LDAPConnectionPool
 
     trySynchronousReadDuringHealthCheck = true;
     healthCheckInterval       = DEFAULT_HEALTH_CHECK_INTERVAL;
+    healthCheckJitterMillis   = 0L;
+    healthCheckParallelism    = 1;
     poolStatistics            = new LDAPConnectionPoolStatistics(this);
     pooledSchema              = null;
     connectionPoolName        = null;
@@ -654,7 +681,7 @@ public final class LDAPConnectionPool
          Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
     numConnections            = maxConnections;
     minConnectionGoal         = 0;
-    availableConnections      = new LinkedBlockingQueue<>(numConnections);
+    availableConnections      = new StripedConnectionQueue(numConnections);
 
     if (! connection.isConnected())
     {
@@ -768,8 +795,10 @@ public final class LDAPConnectionPool
     maxWaitTime                        = 0L;
     closed                             = false;
 
+    healthCheckExecutor = createHealthCheckExecutor();
     healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
-    healthCheckThread.start();
+    VirtualThreadSupport.start(healthCheckThread,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
   }
 
 
@@ -1171,6 +1200,8 @@ public final class LDAPConnectionPool
 
     trySynchronousReadDuringHealthCheck = false;
     healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+    healthCheckJitterMillis = 0L;
+    healthCheckParallelism = 1;
     poolStatistics      = new LDAPConnectionPoolStatistics(this);
     pooledSchema        = null;
     connectionPoolName  = null;
@@ -1178,7 +1209,7 @@ public final class LDAPConnectionPool
          Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
     minConnectionGoal   = 0;
     numConnections = maxConnections;
-    availableConnections = new LinkedBlockingQueue<>(numConnections);
+    availableConnections = new StripedConnectionQueue(numConnections);
 
     if (healthCheck == null)
     {
@@ -1246,8 +1277,10 @@ public final class LDAPConnectionPool
     maxWaitTime                        = 0L;
     closed                             = false;
 
+    healthCheckExecutor = createHealthCheckExecutor();
     healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
-    healthCheckThread.start();
+    VirtualThreadSupport.start(healthCheckThread,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
   }
 
 
@@ -1512,6 +1545,27 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Creates the executor that will be used to examine connections concurrently
+   * during health check processing.  No threads will be created until the
+   * health check parallelism is greater than one and a health check is
+   * invoked.
+   *
+   * @return  The executor that will be used to examine connections
+   *          concurrently during health check processing.
+   */
+  @NotNull()
+  private ThreadPoolExecutor createHealthCheckExecutor()
+  {
+    final int numWorkers = Math.max(1, (healthCheckParallelism - 1));
+    return new ThreadPoolExecutor(numWorkers, numWorkers, 0L,
+         TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+         new LDAPSDKThreadFactory("Health Check Worker for " + toString(),
+              true));
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -1534,6 +1588,7 @@ public final class LDAPConnectionPool
       final boolean healthCheckThreadAlreadySignaled = closed;
       closed = true;
       healthCheckThread.stopRunning(! healthCheckThreadAlreadySignaled);
+      healthCheckExecutor.shutdown();
 
       try
       {
@@ -1683,6 +1738,14 @@ public final class LDAPConnectionPool
       {
         final LDAPException le = (LDAPException) t;
 
+        // If the bind was rejected by a circuit breaker, then it was never
+        // sent, and the connection is still authenticated as it was before.
+        if (le.getResultCode() == ResultCode.CIRCUIT_BREAKER_OPEN)
+        {
+          releaseConnection(conn);
+          throw le;
+        }
+
         boolean shouldThrow;
         try
         {
@@ -1781,6 +1844,44 @@ public final class LDAPConnectionPool
   @NotNull()
   public LDAPConnection getConnection()
          throws LDAPException
+  {
+    final AdaptiveConnectionPoolSizer sizer = adaptiveSizer;
+    if (sizer == null)
+    {
+      return checkOutConnection();
+    }
+
+    final long startTime = System.nanoTime();
+    final LDAPConnection conn;
+    try
+    {
+      conn = checkOutConnection();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      sizer.checkoutFailed();
+      throw le;
+    }
+
+    sizer.checkoutSucceeded((System.nanoTime() - startTime),
+         availableConnections.size());
+    return conn;
+  }
+
+
+
+  /**
+   * Performs the real work of checking out a connection from this pool.
+   *
+   * @return  The connection that was checked out.
+   *
+   * @throws  LDAPException  If no connection is available, or a problem occurs
+   *                         while creating a new connection to return.
+   */
+  @NotNull()
+  private LDAPConnection checkOutConnection()
+          throws LDAPException
   {
     if (closed)
     {
@@ -1987,6 +2088,37 @@ public final class LDAPConnectionPool
   @Nullable()
   public LDAPConnection getConnection(@NotNull final String host,
                                                final int port)
+  {
+    return getConnection(host, port, true);
+  }
+
+
+
+  /**
+   * Attempts to retrieve a connection from the pool that is established to the
+   * specified server.  Note that this method will only attempt to return an
+   * existing connection that is currently available, and will not create a
+   * connection or wait for any checked-out connections to be returned.
+   *
+   * @param  host                   The address of the server to which the
+   *                                desired connection should be established.
+   * @param  port                   The port of the server to which the desired
+   *                                connection should be established.
+   * @param  countFailedCheckouts   Indicates whether a failure to find an
+   *                                available connection to the specified
+   *                                server should be counted as a failed
+   *                                checkout.  This should be {@code false} if
+   *                                the caller will fall back to another
+   *                                server.
+   *
+   * @return  A connection that is established to the specified server, or
+   *          {@code null} if there are no available connections established to
+   *          the specified server.
+   */
+  @Nullable()
+  private LDAPConnection getConnection(@NotNull final String host,
+                                       final int port,
+                                       final boolean countFailedCheckouts)
   {
     if (closed)
     {
@@ -1996,29 +2128,15 @@ public final class LDAPConnectionPool
       return null;
     }
 
-    final HashSet<LDAPConnection> examinedConnections =
-         new HashSet<>(StaticUtils.computeMapCapacity(numConnections));
     while (true)
     {
-      final LDAPConnection conn = availableConnections.poll();
+      final LDAPConnection conn = availableConnections.poll(host, port);
       if (conn == null)
       {
-        poolStatistics.incrementNumFailedCheckouts();
-        Debug.debugConnectionPool(Level.SEVERE, this, null,
-             "Failed to get an existing connection to " + host + ':' + port +
-                  " because no connections are immediately available",
-             null);
-        return null;
-      }
-
-      if (examinedConnections.contains(conn))
-      {
-        if (! availableConnections.offer(conn))
+        if (countFailedCheckouts)
         {
-          discardConnection(conn);
+          poolStatistics.incrementNumFailedCheckouts();
         }
-
-        poolStatistics.incrementNumFailedCheckouts();
         Debug.debugConnectionPool(Level.WARNING, this, null,
              "Failed to get an existing connection to " + host + ':' + port +
                   " because none of the available connections are " +
@@ -2027,42 +2145,126 @@ public final class LDAPConnectionPool
         return null;
       }
 
-      if (conn.getConnectedAddress().equals(host) &&
-          (port == conn.getConnectedPort()))
+      try
       {
-        try
+        healthCheck.ensureConnectionValidForCheckout(conn);
+        poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Successfully checked out an existing connection to requested " +
+                  "server " + host + ':' + port,
+             null);
+        return conn;
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        poolStatistics.incrementNumConnectionsClosedDefunct();
+        Debug.debugConnectionPool(Level.WARNING, this, conn,
+             "Closing an existing connection to requested server " + host +
+                  ':' + port + " because it failed the checkout health " +
+                  "check",
+             le);
+        handleDefunctConnection(conn);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   * <BR><BR>
+   * If this pool uses a {@link ConsistentHashServerSet}, then this will try to
+   * return an available connection established to the server associated with
+   * the target DN, or to the next server on the hash ring if there is no such
+   * connection.  If there are no available connections to any of the servers,
+   * or if the pool uses a different type of server set, then this is the same
+   * as the {@link #getConnection()} method.
+   */
+  @Override()
+  @NotNull()
+  LDAPConnection getConnectionForTargetDN(@Nullable final String targetDN)
+       throws LDAPException
+  {
+    final ServerSet s = serverSet;
+    if ((targetDN != null) && (s instanceof ConsistentHashServerSet))
+    {
+      final List<ObjectPair<String,Integer>> servers =
+           ((ConsistentHashServerSet) s).getServersInPreferenceOrder(targetDN);
+      for (final ObjectPair<String,Integer> hostPort : servers)
+      {
+        if (availableConnections.size() == 0)
         {
-          healthCheck.ensureConnectionValidForCheckout(conn);
-          poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
-          Debug.debugConnectionPool(Level.INFO, this, conn,
-               "Successfully checked out an existing connection to requested " +
-                    "server " + host + ':' + port,
-               null);
-          return conn;
+          break;
         }
-        catch (final LDAPException le)
+
+        final LDAPConnection conn =
+             getConnection(hostPort.getFirst(), hostPort.getSecond(), false);
+        if (conn != null)
         {
-          Debug.debugException(le);
-          poolStatistics.incrementNumConnectionsClosedDefunct();
-          Debug.debugConnectionPool(Level.WARNING, this, conn,
-               "Closing an existing connection to requested server " + host +
-                    ':' + port + " because it failed the checkout health " +
-                    "check",
-               le);
-          handleDefunctConnection(conn);
-          continue;
+          return conn;
         }
       }
+    }
+
+    return getConnection();
+  }
 
-      if (availableConnections.offer(conn))
+
+
+  /**
+   * Attempts to retrieve an available connection from the pool that will be
+   * used to send a hedged request.  A connection established to a server other
+   * than the specified server will be preferred, but if there is no such
+   * connection, then an available connection to the specified server may be
+   * returned.  This method will not create a connection or wait for any
+   * checked-out connections to be returned.
+   *
+   * @param  host  The address of the server to which the connection used for
+   *               the original request is established.  It must not be
+   *               {@code null}.
+   * @param  port  The port of the server to which the connection used for the
+   *               original request is established.
+   *
+   * @return  The connection to use for the hedged request, or {@code null} if
+   *          there are no connections immediately available.
+   */
+  @Nullable()
+  LDAPConnection getConnectionForHedgedRequest(@NotNull final String host,
+                                               final int port)
+  {
+    if (closed)
+    {
+      return null;
+    }
+
+    // Start with a randomly-selected server so that hedged requests are spread
+    // across all of the other servers.
+    final List<ObjectPair<String,Integer>> servers =
+         availableConnections.getServers();
+    final int numServers = servers.size();
+    final int offset =
+         (numServers > 1) ? ThreadLocalRandom.get().nextInt(numServers) : 0;
+    for (int i=0; i < numServers; i++)
+    {
+      final ObjectPair<String,Integer> hostPort =
+           servers.get((offset + i) % numServers);
+      final String serverHost = hostPort.getFirst();
+      final int serverPort = hostPort.getSecond();
+      if ((serverHost == null) ||
+           ((port == serverPort) && serverHost.equals(host)))
       {
-        examinedConnections.add(conn);
+        continue;
       }
-      else
+
+      final LDAPConnection conn = getConnection(serverHost, serverPort, false);
+      if (conn != null)
       {
-        discardConnection(conn);
+        return conn;
       }
     }
+
+    return getConnection(host, port, false);
   }
 
 
@@ -2897,6 +3099,105 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Retrieves the maximum number of available connections that may be examined
+   * concurrently during health check processing.  A value of one indicates
+   * that connections will be examined one at a time.
+   *
+   * @return  The maximum number of available connections that may be examined
+   *          concurrently during health check processing.
+   */
+  public int getHealthCheckParallelism()
+  {
+    return healthCheckParallelism;
+  }
+
+
+
+  /**
+   * Specifies the maximum number of available connections that may be examined
+   * concurrently during health check processing.  Using a value greater than
+   * one can substantially reduce the length of time required to check a large
+   * pool when the health check needs to communicate with the server.  Note
+   * that each connection being examined will be unavailable for use until its
+   * check has completed, so this should generally be small relative to the
+   * size of the pool.
+   *
+   * @param  healthCheckParallelism  The maximum number of available connections
+   *                                 that may be examined concurrently during
+   *                                 health check processing.  It must be
+   *                                 greater than zero.
+   */
+  public void setHealthCheckParallelism(final int healthCheckParallelism)
+  {
+    Validator.ensureTrue(healthCheckParallelism > 0,
+         "LDAPConnectionPool.healthCheckParallelism must be greater than 0.");
+    synchronized (healthCheckExecutor)
+    {
+      // The executor's core size may never exceed its maximum size, so the
+      // order in which they are updated depends on whether it is growing.
+      final int numWorkers = Math.max(1, (healthCheckParallelism - 1));
+      if (numWorkers > healthCheckExecutor.getMaximumPoolSize())
+      {
+        healthCheckExecutor.setMaximumPoolSize(numWorkers);
+        healthCheckExecutor.setCorePoolSize(numWorkers);
+      }
+      else
+      {
+        healthCheckExecutor.setCorePoolSize(numWorkers);
+        healthCheckExecutor.setMaximumPoolSize(numWorkers);
+      }
+
+      this.healthCheckParallelism = healthCheckParallelism;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds over which the checks
+   * for individual connections in a background health check will be randomly
+   * spread.
+   *
+   * @return  The maximum length of time in milliseconds over which the checks
+   *          for individual connections in a background health check will be
+   *          randomly spread, or zero if all connections will be checked as
+   *          quickly as possible.
+   */
+  public long getHealthCheckJitterMillis()
+  {
+    return healthCheckJitterMillis;
+  }
+
+
+
+  /**
+   * Specifies the maximum length of time in milliseconds over which the checks
+   * for individual connections in a background health check will be randomly
+   * spread.  If this is greater than zero, then each connection will be
+   * checked at a random point within that window rather than all connections
+   * being checked at the start of the health check, which can avoid periodic
+   * spikes in operation latency.  The window will never extend beyond the
+   * health check interval.  This will not apply to health checks invoked
+   * through the {@code invokeHealthCheck} methods.
+   *
+   * @param  healthCheckJitterMillis  The maximum length of time in milliseconds
+   *                                  over which the checks for individual
+   *                                  connections in a background health check
+   *                                  will be randomly spread.  It must not be
+   *                                  negative, and a value of zero indicates
+   *                                  that all connections should be checked
+   *                                  as quickly as possible.
+   */
+  public void setHealthCheckJitterMillis(final long healthCheckJitterMillis)
+  {
+    Validator.ensureTrue(healthCheckJitterMillis >= 0L,
+         "LDAPConnectionPool.healthCheckJitterMillis must not be negative.");
+    this.healthCheckJitterMillis = healthCheckJitterMillis;
+  }
+
+
+
   /**
    * Indicates whether health check processing for connections operating in
    * synchronous mode should include attempting to perform a read from each
@@ -2943,7 +3244,17 @@ public final class LDAPConnectionPool
   @Override()
   protected void doHealthCheck()
   {
-    invokeHealthCheck(null, true);
+    // Spread the checks for individual connections across the jitter window,
+    // but never beyond the interval between background health checks.
+    final long jitterMillis =
+         Math.min(healthCheckJitterMillis, healthCheckInterval);
+    invokeHealthCheck(null, true, true, jitterMillis);
+
+    final AdaptiveConnectionPoolSizer sizer = adaptiveSizer;
+    if (sizer != null)
+    {
+      sizer.retireIdleConnections(minConnectionGoal);
+    }
   }
 
 
@@ -3016,6 +3327,44 @@ public final class LDAPConnectionPool
               @Nullable final LDAPConnectionPoolHealthCheck healthCheck,
               final boolean checkForExpiration,
               final boolean checkMinConnectionGoal)
+  {
+    return invokeHealthCheck(healthCheck, checkForExpiration,
+         checkMinConnectionGoal, 0L);
+  }
+
+
+
+  /**
+   * Invokes a health check against the connections in this pool that are not
+   * currently in use.
+   *
+   * @param  healthCheck             The health check to use.  If this is
+   *                                 {@code null}, then the pool's
+   *                                 currently-configured health check (if any)
+   *                                 will be used.
+   * @param  checkForExpiration      Indicates whether to check to see if any
+   *                                 connections have been established for
+   *                                 longer than the maximum connection age.
+   * @param  checkMinConnectionGoal  Indicates whether to check to see if the
+   *                                 currently-available number of connections
+   *                                 is less than the minimum available
+   *                                 connection goal.
+   * @param  jitterMillis            The maximum length of time in milliseconds
+   *                                 over which the checks for individual
+   *                                 connections should be randomly spread.  A
+   *                                 value of zero indicates that all
+   *                                 connections should be checked as quickly
+   *                                 as possible.
+   *
+   * @return  An object with information about the result of the health check
+   *          processing.
+   */
+  @NotNull()
+  private LDAPConnectionPoolHealthCheckResult invokeHealthCheck(
+               @Nullable final LDAPConnectionPoolHealthCheck healthCheck,
+               final boolean checkForExpiration,
+               final boolean checkMinConnectionGoal,
+               final long jitterMillis)
   {
     // Determine which health check to use.
     final LDAPConnectionPoolHealthCheck hc;
@@ -3029,41 +3378,110 @@ public final class LDAPConnectionPool
     }
 
 
-    // Create a set used to hold connections that we've already examined.  If we
-    // encounter the same connection twice, then we know that we don't need to
-    // do any more work.
-    final HashSet<LDAPConnection> examinedConnections =
-         new HashSet<>(StaticUtils.computeMapCapacity(numConnections));
-    int numExamined = 0;
-    int numDefunct = 0;
-    int numExpired = 0;
+    // Examine the available connections.  Depending on the configured
+    // parallelism, multiple connections may be examined concurrently.
+    final ParallelPoolHealthChecker checker = new ParallelPoolHealthChecker(
+         this, hc, healthCheckExecutor, checkForExpiration, numConnections,
+         healthCheckParallelism, jitterMillis);
+    checker.checkConnections();
+
+    final int numExamined = checker.getNumExamined();
+    final int numDefunct = checker.getNumDefunct();
+    final int numExpired = checker.getNumExpired();
 
-    for (int i=0; i < numConnections; i++)
+    if (checkMinConnectionGoal)
     {
-      LDAPConnection conn = availableConnections.poll();
-      if (conn == null)
-      {
-        break;
-      }
-      else if (examinedConnections.contains(conn))
+      try
       {
-        if (! availableConnections.offer(conn))
+        final int neededConnections =
+             minConnectionGoal - availableConnections.size();
+        for (int i=0; i < neededConnections; i++)
         {
-          conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
-                                 null, null);
-          poolStatistics.incrementNumConnectionsClosedUnneeded();
-          Debug.debugConnectionPool(Level.INFO, this, conn,
-               "Closing a connection that had just been health checked " +
-                    "because the pool is now full", null);
-          conn.terminate(null);
+          final LDAPConnection conn = createConnection(hc);
+          if (! availableConnections.offer(conn))
+          {
+            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+                                   null, null);
+            poolStatistics.incrementNumConnectionsClosedUnneeded();
+            Debug.debugConnectionPool(Level.INFO, this, conn,
+                 "Closing a new connection that was created during health " +
+                      "check processing in achieve the minimum connection " +
+                      "goal, but the pool had already become full after the " +
+                      "connection was created",
+                 null);
+            conn.terminate(null);
+            break;
+          }
         }
-        break;
       }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
 
-      numExamined++;
+    return new LDAPConnectionPoolHealthCheckResult(numExamined, numExpired,
+         numDefunct);
+  }
+
+
+
+  /**
+   * Retrieves the oldest available connection from this pool and examines it
+   * as part of health check processing.  The connection will be returned to the
+   * pool if it is found to be valid, or it will be replaced if it is found to
+   * be defunct or expired.  This method may be called concurrently by multiple
+   * threads during the same health check pass.
+   *
+   * @param  hc                   The health check to use.
+   * @param  checkForExpiration   Indicates whether to check to see if the
+   *                              connection has been established for longer
+   *                              than the maximum connection age.
+   * @param  examinedConnections  The set of connections that have already been
+   *                              examined during the current health check
+   *                              pass.  It must be safe for concurrent use.
+   * @param  numDefunct           A counter that will be incremented if the
+   *                              connection is found to be defunct.
+   * @param  numExpired           A counter that will be incremented if the
+   *                              connection is found to be expired.
+   *
+   * @return  {@code true} if a connection was examined, or {@code false} if
+   *          there were no more connections to examine in the current health
+   *          check pass.
+   */
+  boolean healthCheckAvailableConnection(
+               @NotNull final LDAPConnectionPoolHealthCheck hc,
+               final boolean checkForExpiration,
+               @NotNull final Set<LDAPConnection> examinedConnections,
+               @NotNull final AtomicInteger numDefunct,
+               @NotNull final AtomicInteger numExpired)
+  {
+    LDAPConnection conn = availableConnections.pollOldest();
+    if (conn == null)
+    {
+      return false;
+    }
+    else if (examinedConnections.contains(conn))
+    {
+      if (! availableConnections.offer(conn))
+      {
+        conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+                               null, null);
+        poolStatistics.incrementNumConnectionsClosedUnneeded();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Closing a connection that had just been health checked " +
+                  "because the pool is now full", null);
+        conn.terminate(null);
+      }
+      return false;
+    }
+
+    final long startTime = System.nanoTime();
+    try
+    {
       if (! conn.isConnected())
       {
-        numDefunct++;
+        numDefunct.incrementAndGet();
         poolStatistics.incrementNumConnectionsClosedDefunct();
         Debug.debugConnectionPool(Level.WARNING, this, conn,
              "Closing a connection that was identified as not established " +
@@ -3079,7 +3497,7 @@ public final class LDAPConnectionPool
       {
         if (checkForExpiration && connectionIsExpired(conn))
         {
-          numExpired++;
+          numExpired.incrementAndGet();
 
           try
           {
@@ -3096,7 +3514,7 @@ public final class LDAPConnectionPool
                         "during health check processing",
                    null);
               lastExpiredDisconnectTime = System.currentTimeMillis();
-              continue;
+              return true;
             }
             else
             {
@@ -3136,7 +3554,7 @@ public final class LDAPConnectionPool
             final LDAPResponse response = conn.readResponse(0);
             if (response instanceof ConnectionClosedResponse)
             {
-              numDefunct++;
+              numDefunct.incrementAndGet();
               conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
                    ERR_POOL_HEALTH_CHECK_CONN_CLOSED.get(), null);
               poolStatistics.incrementNumConnectionsClosedDefunct();
@@ -3149,7 +3567,7 @@ public final class LDAPConnectionPool
               {
                 examinedConnections.add(conn);
               }
-              continue;
+              return true;
             }
             else if (response instanceof ExtendedResult)
             {
@@ -3170,7 +3588,7 @@ public final class LDAPConnectionPool
               final LDAPResult r = (LDAPResult) response;
               if (r.getResultCode() == ResultCode.SERVER_DOWN)
               {
-                numDefunct++;
+                numDefunct.incrementAndGet();
                 conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
                      ERR_POOL_HEALTH_CHECK_CONN_CLOSED.get(), null);
                 poolStatistics.incrementNumConnectionsClosedDefunct();
@@ -3184,7 +3602,7 @@ public final class LDAPConnectionPool
                 {
                   examinedConnections.add(conn);
                 }
-                continue;
+                return true;
               }
             }
           }
@@ -3197,7 +3615,7 @@ public final class LDAPConnectionPool
             else
             {
               Debug.debugException(le);
-              numDefunct++;
+              numDefunct.incrementAndGet();
               conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
                    ERR_POOL_HEALTH_CHECK_READ_FAILURE.get(
                         StaticUtils.getExceptionMessage(le)), le);
@@ -3211,13 +3629,13 @@ public final class LDAPConnectionPool
               {
                 examinedConnections.add(conn);
               }
-              continue;
+              return true;
             }
           }
           catch (final Exception e)
           {
             Debug.debugException(e);
-            numDefunct++;
+            numDefunct.incrementAndGet();
             conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
                  ERR_POOL_HEALTH_CHECK_READ_FAILURE.get(
                       StaticUtils.getExceptionMessage(e)),
@@ -3233,7 +3651,7 @@ public final class LDAPConnectionPool
             {
               examinedConnections.add(conn);
             }
-            continue;
+            return true;
           }
           finally
           {
@@ -3249,7 +3667,7 @@ public final class LDAPConnectionPool
               catch (final Exception e)
               {
                 Debug.debugException(e);
-                numDefunct++;
+                numDefunct.incrementAndGet();
                 conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
                      null, e);
                 poolStatistics.incrementNumConnectionsClosedDefunct();
@@ -3263,7 +3681,7 @@ public final class LDAPConnectionPool
                 {
                   examinedConnections.add(conn);
                 }
-                continue;
+                return true;
               }
             }
           }
@@ -3291,7 +3709,7 @@ public final class LDAPConnectionPool
         catch (final Exception e)
         {
           Debug.debugException(e);
-          numDefunct++;
+          numDefunct.incrementAndGet();
           poolStatistics.incrementNumConnectionsClosedDefunct();
           Debug.debugConnectionPool(Level.WARNING, this, conn,
                "Closing existing connection that failed health check " +
@@ -3305,40 +3723,13 @@ public final class LDAPConnectionPool
         }
       }
     }
-
-    if (checkMinConnectionGoal)
+    finally
     {
-      try
-      {
-        final int neededConnections =
-             minConnectionGoal - availableConnections.size();
-        for (int i=0; i < neededConnections; i++)
-        {
-          final LDAPConnection conn = createConnection(hc);
-          if (! availableConnections.offer(conn))
-          {
-            conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
-                                   null, null);
-            poolStatistics.incrementNumConnectionsClosedUnneeded();
-            Debug.debugConnectionPool(Level.INFO, this, conn,
-                 "Closing a new connection that was created during health " +
-                      "check processing in achieve the minimum connection " +
-                      "goal, but the pool had already become full after the " +
-                      "connection was created",
-                 null);
-            conn.terminate(null);
-            break;
-          }
-        }
-      }
-      catch (final Exception e)
-      {
-        Debug.debugException(e);
-      }
+      poolStatistics.recordHealthCheckDuration(
+           System.nanoTime() - startTime);
     }
 
-    return new LDAPConnectionPoolHealthCheckResult(numExamined, numExpired,
-         numDefunct);
+    return true;
   }
 
 
@@ -3411,6 +3802,326 @@ public final class LDAPConnectionPool
 
 
 
+  /**
+   * Indicates whether adaptive sizing is enabled for this connection pool.
+   *
+   * @return  {@code true} if adaptive sizing is enabled for this connection
+   *          pool, or {@code false} if not.
+   */
+  public boolean isAdaptiveSizingEnabled()
+  {
+    return (adaptiveSizer != null);
+  }
+
+
+
+  /**
+   * Enables adaptive sizing for this connection pool, which allows the number
+   * of connections in the pool to follow the demand placed on it.  When
+   * adaptive sizing is enabled:
+   * <UL>
+   *   <LI>
+   *     Whenever an attempt to check out a connection fails, or takes longer
+   *     than the target wait time, the pool will be grown by establishing new
+   *     connections in parallel in a background thread.  Each time, the pool
+   *     will be grown by half of its current size (or by at least one
+   *     connection), but never beyond the maximum number of connections for
+   *     the pool.
+   *   </LI>
+   *   <LI>
+   *     If no checkout has needed to wait for a connection for the specified
+   *     number of health check intervals, then the connections that remained
+   *     available throughout those intervals will be closed as part of
+   *     periodic health checking.  The pool will not be shrunk below the
+   *     specified minimum number of connections, nor below the
+   *     {@link #getMinimumAvailableConnectionGoal minimum available connection
+   *     goal}.
+   *   </LI>
+   * </UL>
+   * Any previous adaptive sizing configuration will be replaced.
+   *
+   * @param  minConnections            The minimum number of connections to
+   *                                   retain in the pool.  It must be greater
+   *                                   than or equal to zero, and it must not be
+   *                                   greater than the maximum number of
+   *                                   connections for the pool.
+   * @param  targetWaitTimeMillis      The length of time in milliseconds that
+   *                                   a checkout may take before the pool will
+   *                                   be grown.  It must be greater than or
+   *                                   equal to zero.
+   * @param  idleHealthCheckIntervals  The number of health check intervals for
+   *                                   which connections must have remained
+   *                                   unused before they may be closed.  It
+   *                                   must be greater than zero.
+   */
+  public void enableAdaptiveSizing(final int minConnections,
+                                   final long targetWaitTimeMillis,
+                                   final int idleHealthCheckIntervals)
+  {
+    Validator.ensureTrue(
+         ((minConnections >= 0) && (minConnections <= numConnections)),
+         "LDAPConnectionPool.enableAdaptiveSizing.minConnections must be " +
+              "between zero and the maximum number of connections.");
+    Validator.ensureTrue((targetWaitTimeMillis >= 0L),
+         "LDAPConnectionPool.enableAdaptiveSizing.targetWaitTimeMillis must " +
+              "be greater than or equal to zero.");
+    Validator.ensureTrue((idleHealthCheckIntervals > 0),
+         "LDAPConnectionPool.enableAdaptiveSizing.idleHealthCheckIntervals " +
+              "must be greater than zero.");
+
+    adaptiveSizer = new AdaptiveConnectionPoolSizer(this, minConnections,
+         targetWaitTimeMillis, idleHealthCheckIntervals);
+  }
+
+
+
+  /**
+   * Disables adaptive sizing for this connection pool.  The connections that
+   * are currently in the pool will be retained.
+   */
+  public void disableAdaptiveSizing()
+  {
+    adaptiveSizer = null;
+  }
+
+
+
+  /**
+   * Retrieves the adaptive sizing controller for this pool.
+   *
+   * @return  The adaptive sizing controller for this pool, or {@code null} if
+   *          adaptive sizing is not enabled.
+   */
+  @Nullable()
+  AdaptiveConnectionPoolSizer getAdaptiveSizer()
+  {
+    return adaptiveSizer;
+  }
+
+
+
+  /**
+   * Indicates whether hedged requests are enabled for read operations
+   * processed by this connection pool.
+   *
+   * @return  {@code true} if hedged requests are enabled for read operations,
+   *          or {@code false} if not.
+   */
+  public boolean isHedgedReadEnabled()
+  {
+    return (hedgedReadProcessor != null);
+  }
+
+
+
+  /**
+   * Enables hedged requests for read operations processed by this connection
+   * pool.  When hedging is enabled, if the response to a search, compare, or
+   * get entry operation has not been received within the hedge delay, then the
+   * same request will also be sent over an available connection, preferably one
+   * that is established to a different server.  The first response to be
+   * received will be returned, and the other request will be abandoned.  This
+   * can dramatically reduce the tail latency for read operations in
+   * environments in which a server occasionally stalls.
+   * <BR><BR>
+   * To ensure that hedging cannot multiply the load placed on the servers, the
+   * number of hedged requests is limited to a percentage of the number of read
+   * operations.  A small number of hedged requests may be sent in a burst, but
+   * once that allowance has been used, further hedged requests will only be
+   * permitted as additional read operations are processed.  Hedged requests
+   * will also only be sent over connections that are immediately available,
+   * so hedging will never cause the pool to create a new connection or wait
+   * for a connection to be released.
+   * <BR><BR>
+   * Hedging will only be used for operations processed through the
+   * {@link #search(SearchRequest)}, {@link #compare(CompareRequest)}, and
+   * {@link #getEntry(String,String...)} methods (and other methods that are
+   * implemented by invoking them), and only for searches that do not use a
+   * search result listener.  Read operations will not be hedged for
+   * connections operating in synchronous mode.  To use hedging with an
+   * {@link LDAPReadWriteConnectionPool}, enable it for the pool returned by
+   * {@link LDAPReadWriteConnectionPool#getReadPool()}.  The
+   * {@link LDAPConnectionPoolStatistics} for this pool will indicate how many
+   * hedged requests have been sent, how many of them were the first to
+   * receive a response, and how many could not be sent.
+   * <BR><BR>
+   * Any previous hedging configuration will be replaced.
+   *
+   * @param  hedgeDelayMillis    The length of time in milliseconds to wait
+   *                             for a response before sending a hedged
+   *                             request.  If {@code usePercentileDelay} is
+   *                             {@code true}, then this will be used until
+   *                             enough response times have been observed, and
+   *                             it will also serve as the minimum hedge
+   *                             delay.  It must be greater than zero.
+   * @param  usePercentileDelay  Indicates whether to hedge requests that have
+   *                             taken longer than the 95th percentile of
+   *                             recently observed response times for read
+   *                             operations.
+   * @param  maxHedgePercent     The maximum number of hedged requests that
+   *                             may be sent, as a percentage of the number of
+   *                             read operations.  It must be between 1 and
+   *                             100, inclusive.
+   */
+  public void enableHedgedReads(final long hedgeDelayMillis,
+                                final boolean usePercentileDelay,
+                                final int maxHedgePercent)
+  {
+    Validator.ensureTrue((hedgeDelayMillis > 0L),
+         "LDAPConnectionPool.enableHedgedReads.hedgeDelayMillis must be " +
+              "greater than zero.");
+    Validator.ensureTrue(((maxHedgePercent >= 1) && (maxHedgePercent <= 100)),
+         "LDAPConnectionPool.enableHedgedReads.maxHedgePercent must be " +
+              "between 1 and 100.");
+
+    hedgedReadProcessor = new HedgedReadProcessor(this, hedgeDelayMillis,
+         usePercentileDelay, maxHedgePercent);
+  }
+
+
+
+  /**
+   * Disables hedged requests for read operations processed by this connection
+   * pool.  Any hedged requests that are already in progress will be allowed to
+   * complete.
+   */
+  public void disableHedgedReads()
+  {
+    hedgedReadProcessor = null;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  HedgedReadProcessor getHedgedReadProcessor()
+  {
+    return hedgedReadProcessor;
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that this pool currently believes it
+   * holds, including connections that are checked out.  It does not include
+   * any connections that were created beyond the maximum number of
+   * connections because the pool was empty and new connections could be
+   * created if necessary.
+   *
+   * @return  The number of connections that this pool currently believes it
+   *          holds.
+   */
+  int getNumPooledConnections()
+  {
+    return Math.max(0, (numConnections - failedReplaceCount.get()));
+  }
+
+
+
+  /**
+   * Attempts to grow this pool by establishing new connections in parallel and
+   * making them available for use.
+   *
+   * @param  numToAdd    The number of connections to add.
+   * @param  numThreads  The number of threads to use to establish the
+   *                     connections.
+   *
+   * @return  The number of connections that were actually added to the pool.
+   */
+  int growPool(final int numToAdd, final int numThreads)
+  {
+    // Claim the connections to create from the set of connections that the
+    // pool is missing, so that they will not also be created by threads
+    // checking out connections.
+    int numReserved;
+    while (true)
+    {
+      final int missing = failedReplaceCount.get();
+      numReserved = Math.min(numToAdd, missing);
+      if (numReserved <= 0)
+      {
+        return 0;
+      }
+
+      if (failedReplaceCount.compareAndSet(missing, (missing - numReserved)))
+      {
+        break;
+      }
+    }
+
+    final List<LDAPConnection> connList = Collections.synchronizedList(
+         new ArrayList<LDAPConnection>(numReserved));
+    try
+    {
+      final ParallelPoolConnector connector = new ParallelPoolConnector(this,
+           connList, numReserved, Math.max(1, numThreads), false);
+      connector.establishConnections();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+    }
+
+    int numAdded = 0;
+    for (final LDAPConnection conn : connList)
+    {
+      if ((! closed) && availableConnections.offer(conn))
+      {
+        numAdded++;
+      }
+      else
+      {
+        conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+             null, null);
+        poolStatistics.incrementNumConnectionsClosedUnneeded();
+        Debug.debugConnectionPool(Level.INFO, this, conn,
+             "Closing a connection created to grow the pool because the " +
+                  "pool is already full or has been closed",
+             null);
+        conn.terminate(null);
+      }
+    }
+
+    // Any connections that could not be established are still missing.
+    final int numFailed = numReserved - connList.size();
+    if (numFailed > 0)
+    {
+      failedReplaceCount.addAndGet(numFailed);
+    }
+
+    return numAdded;
+  }
+
+
+
+  /**
+   * Closes the connection that has been available in this pool for the longest
+   * length of time.  No new connection will be created to take its place.
+   *
+   * @return  {@code true} if a connection was closed, or {@code false} if no
+   *          connection was available.
+   */
+  boolean retireAvailableConnection()
+  {
+    final LDAPConnection conn = availableConnections.pollOldest();
+    if (conn == null)
+    {
+      return false;
+    }
+
+    Debug.debugConnectionPool(Level.INFO, this, conn,
+         "Retiring a connection that has not been needed for several health " +
+              "check intervals",
+         null);
+    discardConnection(conn);
+    return true;
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -111,6 +111,30 @@ public final class LDAPConnectionPoolStatistics
   // The number of failed attempts to create a connection for use in the pool.
   @NotNull private final AtomicLong numFailedConnectionAttempts;
 
+  // The number of connections that have been examined by health check
+  // processing.
+  @NotNull private final AtomicLong numHealthCheckedConnections;
+
+  // The maximum length of time in nanoseconds that a connection has been
+  // unavailable while being examined by health check processing.
+  @NotNull private final AtomicLong maxHealthCheckDurationNanos;
+
+  // The total length of time in nanoseconds that connections have been
+  // unavailable while being examined by health check processing.
+  @NotNull private final AtomicLong totalHealthCheckDurationNanos;
+
+  // The number of hedged requests that were sent for read operations.
+  @NotNull private final AtomicLong numHedgedRequests;
+
+  // The number of hedged requests whose response was received before the
+  // response to the original request.
+  @NotNull private final AtomicLong numHedgedRequestsWon;
+
+  // The number of times that a hedged request would have been sent but was not
+  // because the hedge budget was exhausted or because no other connection was
+  // available.
+  @NotNull private final AtomicLong numHedgedRequestsSuppressed;
+
   // The number of valid connections released back to the pool.
   @NotNull private final AtomicLong numReleasedValid;
 
@@ -160,6 +184,12 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait   = new AtomicLong(0L);
     numFailedCheckouts                  = new AtomicLong(0L);
     numReleasedValid                    = new AtomicLong(0L);
+    numHedgedRequests                   = new AtomicLong(0L);
+    numHedgedRequestsWon                = new AtomicLong(0L);
+    numHedgedRequestsSuppressed         = new AtomicLong(0L);
+    numHealthCheckedConnections         = new AtomicLong(0L);
+    maxHealthCheckDurationNanos         = new AtomicLong(0L);
+    totalHealthCheckDurationNanos       = new AtomicLong(0L);
   }
 
 
@@ -180,6 +210,12 @@ public final class LDAPConnectionPoolStatistics
     numSuccessfulCheckoutsWithoutWait.set(0L);
     numFailedCheckouts.set(0L);
     numReleasedValid.set(0L);
+    numHedgedRequests.set(0L);
+    numHedgedRequestsWon.set(0L);
+    numHedgedRequestsSuppressed.set(0L);
+    numHealthCheckedConnections.set(0L);
+    maxHealthCheckDurationNanos.set(0L);
+    totalHealthCheckDurationNanos.set(0L);
   }
 
 
@@ -453,6 +489,155 @@ public final class LDAPConnectionPoolStatistics
 
 
 
+  /**
+   * Retrieves the number of hedged requests that have been sent for read
+   * operations because the response to the original request was not received
+   * within the hedge delay.
+   *
+   * @return  The number of hedged requests that have been sent for read
+   *          operations.
+   */
+  public long getNumHedgedRequests()
+  {
+    return numHedgedRequests.get();
+  }
+
+
+
+  /**
+   * Increments the number of hedged requests that have been sent for read
+   * operations.
+   */
+  void incrementNumHedgedRequests()
+  {
+   numHedgedRequests.incrementAndGet();
+  }
+
+
+
+  /**
+   * Retrieves the number of hedged requests whose response was received before
+   * the response to the original request, so that the hedged result was the
+   * one returned to the caller.
+   *
+   * @return  The number of hedged requests whose response was received before
+   *          the response to the original request.
+   */
+  public long getNumHedgedRequestsWon()
+  {
+    return numHedgedRequestsWon.get();
+  }
+
+
+
+  /**
+   * Increments the number of hedged requests whose response was received
+   * before the response to the original request.
+   */
+  void incrementNumHedgedRequestsWon()
+  {
+   numHedgedRequestsWon.incrementAndGet();
+  }
+
+
+
+  /**
+   * Retrieves the number of times that a hedged request would have been sent
+   * for a read operation, but was not because the hedge budget had been
+   * exhausted or because no other connection was immediately available.
+   *
+   * @return  The number of times that a hedged request was suppressed.
+   */
+  public long getNumHedgedRequestsSuppressed()
+  {
+    return numHedgedRequestsSuppressed.get();
+  }
+
+
+
+  /**
+   * Increments the number of times that a hedged request was suppressed.
+   */
+  void incrementNumHedgedRequestsSuppressed()
+  {
+   numHedgedRequestsSuppressed.incrementAndGet();
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that have been examined by health
+   * check processing.
+   *
+   * @return  The number of connections that have been examined by health check
+   *          processing.
+   */
+  public long getNumHealthCheckedConnections()
+  {
+    return numHealthCheckedConnections.get();
+  }
+
+
+
+  /**
+   * Retrieves the average length of time in milliseconds that a connection has
+   * been unavailable for use while being examined by health check processing.
+   *
+   * @return  The average length of time in milliseconds that a connection has
+   *          been unavailable for use while being examined by health check
+   *          processing, or zero if no connections have been examined.
+   */
+  public double getAverageHealthCheckDurationMillis()
+  {
+    final long numChecked = numHealthCheckedConnections.get();
+    if (numChecked <= 0L)
+    {
+      return 0.0d;
+    }
+
+    return totalHealthCheckDurationNanos.get() / 1_000_000.0d / numChecked;
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds that a connection has
+   * been unavailable for use while being examined by health check processing.
+   *
+   * @return  The maximum length of time in milliseconds that a connection has
+   *          been unavailable for use while being examined by health check
+   *          processing, or zero if no connections have been examined.
+   */
+  public double getMaximumHealthCheckDurationMillis()
+  {
+    return maxHealthCheckDurationNanos.get() / 1_000_000.0d;
+  }
+
+
+
+  /**
+   * Records that a connection has been examined by health check processing.
+   *
+   * @param  durationNanos  The length of time in nanoseconds that the
+   *                        connection was unavailable for use while being
+   *                        examined.
+   */
+  void recordHealthCheckDuration(final long durationNanos)
+  {
+    numHealthCheckedConnections.incrementAndGet();
+    totalHealthCheckDurationNanos.addAndGet(durationNanos);
+
+    long currentMax = maxHealthCheckDurationNanos.get();
+    while ((durationNanos > currentMax) &&
+         (! maxHealthCheckDurationNanos.compareAndSet(currentMax,
+              durationNanos)))
+    {
+      currentMax = maxHealthCheckDurationNanos.get();
+    }
+  }
+
+
+
   /**
    * Retrieves the number of connections currently available for use in the
    * pool, if that information is available.
@@ -520,6 +705,10 @@ public final class LDAPConnectionPoolStatistics
     final long successfulCheckouts = numSuccessfulCheckouts.get();
     final long failedCheckouts     = numFailedCheckouts.get();
     final long releasedValid       = numReleasedValid.get();
+    final long hedgedRequests      = numHedgedRequests.get();
+    final long hedgedRequestsWon   = numHedgedRequestsWon.get();
+    final long hedgesSuppressed    = numHedgedRequestsSuppressed.get();
+    final long healthChecked       = numHealthCheckedConnections.get();
 
     buffer.append("LDAPConnectionPoolStatistics(numAvailableConnections=");
     buffer.append(availableConns);
@@ -541,6 +730,18 @@ public final class LDAPConnectionPoolStatistics
     buffer.append(failedCheckouts);
     buffer.append(", numReleasedValid=");
     buffer.append(releasedValid);
+    buffer.append(", numHedgedRequests=");
+    buffer.append(hedgedRequests);
+    buffer.append(", numHedgedRequestsWon=");
+    buffer.append(hedgedRequestsWon);
+    buffer.append(", numHedgedRequestsSuppressed=");
+    buffer.append(hedgesSuppressed);
+    buffer.append(", numHealthCheckedConnections=");
+    buffer.append(healthChecked);
+    buffer.append(", averageHealthCheckDurationMillis=");
+    buffer.append(getAverageHealthCheckDurationMillis());
+    buffer.append(", maxHealthCheckDurationMillis=");
+    buffer.append(getMaximumHealthCheckDurationMillis());
     buffer.append(')');
   }
 }
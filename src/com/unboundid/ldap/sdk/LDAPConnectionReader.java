@@ -44,8 +44,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
@@ -63,6 +62,7 @@ import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
+import com.unboundid.util.VirtualThreadSupport;
 import com.unboundid.util.WakeableSleeper;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
@@ -93,8 +93,7 @@ final class LDAPConnectionReader
 
   // The map that will be used to associate message IDs with the corresponding
   // response acceptors.
-  @NotNull private final ConcurrentHashMap<Integer,ResponseAcceptor>
-       acceptorMap;
+  @NotNull private final ResponseAcceptorMap acceptorMap;
 
   // The exception encountered during StartTLS processing.
   @Nullable private volatile Exception startTLSException;
@@ -102,6 +101,11 @@ final class LDAPConnectionReader
   // The input stream used to read data from the socket.
   @Nullable private volatile InputStream inputStream;
 
+  // The registration with the shared selector reader thread that is used to
+  // read data for this connection instead of a dedicated thread.  It will be
+  // null unless the connection is configured to use a selector reader.
+  @Nullable private volatile SelectorReaderRegistration selectorRegistration;
+
   // The SSL-enabled output stream resulting from StartTLS negotiation.  It will
   // be non-null only immediately after StartTLS negotiation has completed and
   // this output stream is ready to be handed back to the connection.
@@ -153,12 +157,69 @@ final class LDAPConnectionReader
     asn1StreamReader = new ASN1StreamReader(inputStream,
          connection.getConnectionOptions().getMaxMessageSize());
 
-    acceptorMap = new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(10));
+    acceptorMap = new ResponseAcceptorMap();
     closeRequested = false;
     sslSocketFactory = null;
     startTLSException = null;
     startTLSOutputStream = null;
     startTLSSleeper = new WakeableSleeper();
+    selectorRegistration = null;
+  }
+
+
+
+  /**
+   * Starts a dedicated thread to read data for this connection.  If the
+   * connection is configured to use virtual threads and the JVM supports them,
+   * then this reader's logic will be run in a virtual thread rather than by
+   * starting this thread itself.
+   */
+  void startReaderThread()
+  {
+    VirtualThreadSupport.start(this,
+         connection.getConnectionOptions().useVirtualThreads());
+  }
+
+
+
+  /**
+   * Begins reading data from the provided channel using one of the shared
+   * selector reader threads rather than a dedicated thread for this
+   * connection.  The channel will be placed in non-blocking mode.  This must
+   * be called instead of starting this thread.
+   *
+   * @param  channel  The channel from which data should be read.  It must be
+   *                  the channel associated with this reader's socket.
+   *
+   * @throws  IOException  If a problem occurs while registering the channel.
+   */
+  void startSelectorReader(@NotNull final SocketChannel channel)
+       throws IOException
+  {
+    channel.configureBlocking(false);
+
+    final SelectorReaderThread selectorThread =
+         SelectorReaderThread.getLeastLoadedThread();
+    final SelectorReaderRegistration registration =
+         new SelectorReaderRegistration(connection, this, channel,
+              connection.getConnectionOptions().getMaxMessageSize(),
+              selectorThread);
+    selectorRegistration = registration;
+    selectorThread.register(registration);
+  }
+
+
+
+  /**
+   * Indicates whether this reader is currently using a shared selector reader
+   * thread rather than a dedicated thread.
+   *
+   * @return  {@code true} if this reader is currently using a shared selector
+   *          reader thread, or {@code false} if not.
+   */
+  boolean usesSelectorReader()
+  {
+    return (selectorRegistration != null);
   }
 
 
@@ -240,7 +301,8 @@ final class LDAPConnectionReader
         try
         {
           response = LDAPMessage.readLDAPResponseFrom(asn1StreamReader, true,
-               connection.getCachedSchema());
+               connection.getCachedSchema(),
+               connection.getConnectionOptions());
         }
         catch (final LDAPException le)
         {
@@ -423,126 +485,7 @@ final class LDAPConnectionReader
           }
         }
 
-        connection.setLastCommunicationTime();
-        Debug.debugLDAPResult(response, connection);
-        logResponse(response);
-
-        final ResponseAcceptor responseAcceptor;
-        if ((response instanceof SearchResultEntry) ||
-            (response instanceof SearchResultReference))
-        {
-          responseAcceptor = acceptorMap.get(response.getMessageID());
-        }
-        else if (response instanceof IntermediateResponse)
-        {
-          final IntermediateResponse ir = (IntermediateResponse) response;
-          responseAcceptor = acceptorMap.get(response.getMessageID());
-           IntermediateResponseListener l = null;
-          if (responseAcceptor instanceof LDAPRequest)
-          {
-            final LDAPRequest r = (LDAPRequest) responseAcceptor;
-            l = r.getIntermediateResponseListener();
-
-          }
-          else if (responseAcceptor instanceof IntermediateResponseListener)
-          {
-            l = (IntermediateResponseListener) responseAcceptor;
-          }
-
-          if (l == null)
-          {
-            Debug.debug(Level.WARNING, DebugType.LDAP,
-                 WARN_INTERMEDIATE_RESPONSE_WITH_NO_LISTENER.get(
-                      String.valueOf(ir)));
-          }
-          else
-          {
-            try
-            {
-              l.intermediateResponseReturned(ir);
-            }
-            catch (final Exception e)
-            {
-              Debug.debugException(e);
-            }
-          }
-          continue;
-        }
-        else
-        {
-          responseAcceptor = acceptorMap.remove(response.getMessageID());
-        }
-
-
-        if (responseAcceptor == null)
-        {
-          if ((response instanceof ExtendedResult) &&
-              (response.getMessageID() == 0))
-          {
-            // This is an intermediate response message, so handle it
-            // appropriately.
-            ExtendedResult extendedResult = (ExtendedResult) response;
-
-            final String oid = extendedResult.getOID();
-            if (NoticeOfDisconnectionExtendedResult.
-                     NOTICE_OF_DISCONNECTION_RESULT_OID.equals(oid))
-            {
-              extendedResult = new NoticeOfDisconnectionExtendedResult(
-                                        extendedResult);
-              connection.setDisconnectInfo(
-                   DisconnectType.SERVER_CLOSED_WITH_NOTICE,
-                   extendedResult.getDiagnosticMessage(), null);
-            }
-            else if (com.unboundid.ldap.sdk.unboundidds.extensions.
-                 InteractiveTransactionAbortedExtendedResult.
-                      INTERACTIVE_TRANSACTION_ABORTED_RESULT_OID.equals(oid))
-            {
-              extendedResult = new com.unboundid.ldap.sdk.unboundidds.
-                   extensions.InteractiveTransactionAbortedExtendedResult(
-                        extendedResult);
-            }
-
-            final UnsolicitedNotificationHandler handler =
-                 connection.getConnectionOptions().
-                      getUnsolicitedNotificationHandler();
-            if (handler == null)
-            {
-              if (Debug.debugEnabled(DebugType.LDAP))
-              {
-                Debug.debug(Level.WARNING, DebugType.LDAP,
-                     WARN_READER_UNHANDLED_UNSOLICITED_NOTIFICATION.get(
-                          response));
-              }
-            }
-            else
-            {
-              handler.handleUnsolicitedNotification(connection,
-                                                    extendedResult);
-            }
-            continue;
-          }
-
-          if (Debug.debugEnabled(DebugType.LDAP))
-          {
-            Debug.debug(Level.WARNING, DebugType.LDAP,
-                  WARN_READER_NO_ACCEPTOR.get(response));
-          }
-          continue;
-        }
-
-        try
-        {
-          responseAcceptor.responseReceived(response);
-        }
-        catch (final LDAPException le)
-        {
-          Debug.debugException(le);
-          Debug.debug(Level.WARNING, DebugType.LDAP,
-                ERR_READER_ACCEPTOR_ERROR.get(String.valueOf(response),
-                     connection.getHostPort(),
-                     StaticUtils.getExceptionMessage(le)),
-               le);
-        }
+        processResponse(response);
       }
       catch (final Exception e)
       {
@@ -624,6 +567,264 @@ final class LDAPConnectionReader
 
 
 
+  /**
+   * Handles the case in which the shared selector reader thread has reached the
+   * end of the input stream for this connection, which indicates that the
+   * server has closed the connection.
+   *
+   * @param  partialMessage  Indicates whether the end of the input stream was
+   *                         reached in the middle of a message.
+   */
+  @SuppressWarnings("deprecation")
+  void selectorEndOfInput(final boolean partialMessage)
+  {
+    selectorRegistration = null;
+
+    final String message;
+    if (partialMessage)
+    {
+      message = ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
+           connection.getHostPort(),
+           ERR_SELECTOR_READER_EOS_MID_MESSAGE.get());
+      connection.setDisconnectInfo(DisconnectType.IO_ERROR, message, null);
+    }
+    else
+    {
+      message = null;
+      connection.setDisconnectInfo(DisconnectType.SERVER_CLOSED_WITHOUT_NOTICE,
+           null, null);
+    }
+
+    if ((! closeRequested) && (! connection.unbindRequestSent()) &&
+        connection.getConnectionOptions().autoReconnect())
+    {
+      connection.setNeedsReconnect();
+    }
+    else
+    {
+      closeRequested = true;
+      closeInternal(true, message);
+    }
+  }
+
+
+
+  /**
+   * Handles an error encountered by the shared selector reader thread while
+   * reading or decoding data for this connection.
+   *
+   * @param  e  The exception that was caught.
+   */
+  @SuppressWarnings("deprecation")
+  void selectorReadFailed(@NotNull final Exception e)
+  {
+    selectorRegistration = null;
+
+    Throwable t = e;
+    if ((e instanceof LDAPException) && (e.getCause() != null))
+    {
+      t = e.getCause();
+    }
+
+    if (closeRequested || connection.closeRequested() ||
+        (connection.getDisconnectType() != null))
+    {
+      closeRequested = true;
+      Debug.debugException(Level.FINEST, e);
+    }
+    else
+    {
+      Debug.debugException(e);
+    }
+
+    final String message;
+    Level debugLevel = Level.SEVERE;
+    if (t instanceof IOException)
+    {
+      connection.setDisconnectInfo(DisconnectType.IO_ERROR, e.getMessage(), t);
+      message = ERR_READER_CLOSING_DUE_TO_IO_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(t));
+      debugLevel = Level.WARNING;
+    }
+    else if ((t instanceof ASN1Exception) || (t instanceof LDAPException))
+    {
+      connection.setDisconnectInfo(DisconnectType.DECODE_ERROR, e.getMessage(),
+           t);
+      message = ERR_READER_CLOSING_DUE_TO_ASN1_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(t));
+    }
+    else
+    {
+      connection.setDisconnectInfo(DisconnectType.LOCAL_ERROR, e.getMessage(),
+           t);
+      message = ERR_READER_CLOSING_DUE_TO_EXCEPTION.get(
+           connection.getHostPort(), StaticUtils.getExceptionMessage(t));
+    }
+
+    Debug.debug(debugLevel, DebugType.LDAP, message, t);
+
+    if ((! closeRequested) && connection.getConnectionOptions().autoReconnect())
+    {
+      connection.setNeedsReconnect();
+    }
+    else
+    {
+      closeRequested = true;
+      closeInternal(true, message);
+    }
+  }
+
+
+
+  /**
+   * Processes the provided response that has been read from the server.  It
+   * will be logged if appropriate and handed off to the response acceptor
+   * registered for its message ID, or to the unsolicited notification handler
+   * if it is an unsolicited notification.
+   *
+   * @param  response  The response to be processed.  It must not be
+   *                   {@code null}.
+   */
+  @SuppressWarnings("deprecation")
+  void processResponse(@NotNull final LDAPResponse response)
+  {
+    connection.setLastCommunicationTime();
+    Debug.debugLDAPResult(response, connection);
+    logResponse(response);
+    if ((response instanceof LDAPResult) && (response.getMessageID() > 0))
+    {
+      connection.recordOperationOutcome(
+           ((LDAPResult) response).getResultCode());
+    }
+
+    final ResponseAcceptor responseAcceptor;
+    if ((response instanceof SearchResultEntry) ||
+        (response instanceof SearchResultReference))
+    {
+      responseAcceptor = acceptorMap.get(response.getMessageID());
+    }
+    else if (response instanceof IntermediateResponse)
+    {
+      final IntermediateResponse ir = (IntermediateResponse) response;
+      responseAcceptor = acceptorMap.get(response.getMessageID());
+      IntermediateResponseListener l = null;
+      if (responseAcceptor instanceof LDAPRequest)
+      {
+        final LDAPRequest r = (LDAPRequest) responseAcceptor;
+        l = r.getIntermediateResponseListener();
+
+      }
+      else if (responseAcceptor instanceof IntermediateResponseListener)
+      {
+        l = (IntermediateResponseListener) responseAcceptor;
+      }
+
+      if (l == null)
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+             WARN_INTERMEDIATE_RESPONSE_WITH_NO_LISTENER.get(
+                  String.valueOf(ir)));
+      }
+      else
+      {
+        try
+        {
+          l.intermediateResponseReturned(ir);
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+      }
+      return;
+    }
+    else
+    {
+      responseAcceptor = acceptorMap.remove(response.getMessageID());
+    }
+
+
+    if (responseAcceptor == null)
+    {
+      if ((response instanceof ExtendedResult) &&
+          (response.getMessageID() == 0))
+      {
+        // This is an intermediate response message, so handle it
+        // appropriately.
+        ExtendedResult extendedResult = (ExtendedResult) response;
+
+        final String oid = extendedResult.getOID();
+        if (NoticeOfDisconnectionExtendedResult.
+                 NOTICE_OF_DISCONNECTION_RESULT_OID.equals(oid))
+        {
+          extendedResult = new NoticeOfDisconnectionExtendedResult(
+                                    extendedResult);
+          connection.setDisconnectInfo(
+               DisconnectType.SERVER_CLOSED_WITH_NOTICE,
+               extendedResult.getDiagnosticMessage(), null);
+        }
+        else if (com.unboundid.ldap.sdk.unboundidds.extensions.
+             InteractiveTransactionAbortedExtendedResult.
+                  INTERACTIVE_TRANSACTION_ABORTED_RESULT_OID.equals(oid))
+        {
+          extendedResult = new com.unboundid.ldap.sdk.unboundidds.
+               extensions.InteractiveTransactionAbortedExtendedResult(
+                    extendedResult);
+        }
+
+        final UnsolicitedNotificationHandler handler =
+             connection.getConnectionOptions().
+                  getUnsolicitedNotificationHandler();
+        if (handler == null)
+        {
+          if (Debug.debugEnabled(DebugType.LDAP))
+          {
+            Debug.debug(Level.WARNING, DebugType.LDAP,
+                 WARN_READER_UNHANDLED_UNSOLICITED_NOTIFICATION.get(
+                      response));
+          }
+        }
+        else
+        {
+          handler.handleUnsolicitedNotification(connection,
+                                                extendedResult);
+        }
+        return;
+      }
+
+      if (Debug.debugEnabled(DebugType.LDAP))
+      {
+        Debug.debug(Level.WARNING, DebugType.LDAP,
+              WARN_READER_NO_ACCEPTOR.get(response));
+      }
+
+      // Nothing else will have a chance to close any streamed values for an
+      // entry that is discarded (e.g., because its search was abandoned), so
+      // close them here to remove any temporary files.
+      if (response instanceof SearchResultEntry)
+      {
+        ((SearchResultEntry) response).closeStreamedAttributeValues();
+      }
+      return;
+    }
+
+    try
+    {
+      responseAcceptor.responseReceived(response);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+            ERR_READER_ACCEPTOR_ERROR.get(String.valueOf(response),
+                 connection.getHostPort(),
+                 StaticUtils.getExceptionMessage(le)),
+           le);
+    }
+  }
+
+
+
   /**
    * Reads a response from the server, blocking if necessary until the response
    * has been received.  This should only be used for connections operating in
@@ -649,7 +850,8 @@ final class LDAPConnectionReader
       try
       {
         final LDAPResponse response = LDAPMessage.readLDAPResponseFrom(
-             asn1StreamReader, false, connection.getCachedSchema());
+             asn1StreamReader, false, connection.getCachedSchema(),
+             connection.getConnectionOptions());
         if (response == null)
         {
           return new ConnectionClosedResponse(ResultCode.SERVER_DOWN, null);
@@ -712,6 +914,11 @@ final class LDAPConnectionReader
                WARN_READER_DISCARDING_UNEXPECTED_RESPONSE.get(response,
                     messageID));
         }
+
+        if (response instanceof SearchResultEntry)
+        {
+          ((SearchResultEntry) response).closeStreamedAttributeValues();
+        }
       }
       catch (final LDAPException le)
       {
@@ -913,10 +1120,22 @@ final class LDAPConnectionReader
   {
     final LDAPConnectionOptions connectionOptions =
          connection.getConnectionOptions();
-    if (connection.synchronousMode())
+    final SelectorReaderRegistration registration = selectorRegistration;
+    if (connection.synchronousMode() || (registration != null))
     {
       try
       {
+        // If the connection is being read by a shared selector reader thread,
+        // then detach it from that thread so that the TLS negotiation can be
+        // performed on the underlying socket in blocking mode.  Once the
+        // negotiation is complete, this reader will use a dedicated thread to
+        // read from the TLS-protected socket.
+        if (registration != null)
+        {
+          registration.detach();
+          selectorRegistration = null;
+        }
+
         final int connectTimeout = connectionOptions.getConnectTimeoutMillis();
         if (connectTimeout > 0)
         {
@@ -946,6 +1165,15 @@ final class LDAPConnectionReader
         connection.getConnectionInternals(true).setSocket(sslSocket);
         final OutputStream outputStream = startTLSOutputStream;
         startTLSOutputStream = null;
+
+        if (registration != null)
+        {
+          InternalSDKHelper.setSoTimeout(connection,
+               (int) Math.max(0L,
+                    connectionOptions.getResponseTimeoutMillis()));
+          startReaderThread();
+        }
+
         return outputStream;
       }
       catch (final Exception e)
@@ -1030,7 +1258,15 @@ final class LDAPConnectionReader
    */
   void applySASLQoP(@NotNull final SaslClient saslClient)
   {
-    InternalASN1Helper.setSASLClient(asn1StreamReader, saslClient);
+    final SelectorReaderRegistration registration = selectorRegistration;
+    if (registration == null)
+    {
+      InternalASN1Helper.setSASLClient(asn1StreamReader, saslClient);
+    }
+    else
+    {
+      registration.setSASLClient(saslClient);
+    }
   }
 
 
@@ -1125,6 +1361,13 @@ final class LDAPConnectionReader
    private void closeInternal(final boolean notifyConnection,
                               @Nullable final String message)
    {
+     final SelectorReaderRegistration registration = selectorRegistration;
+     selectorRegistration = null;
+     if (registration != null)
+     {
+       registration.close();
+     }
+
      final InputStream is = inputStream;
      inputStream = null;
 
@@ -1145,12 +1388,8 @@ final class LDAPConnectionReader
        connection.setClosed();
      }
 
-     final Iterator<Integer> iterator = acceptorMap.keySet().iterator();
-     while (iterator.hasNext())
+     for (final ResponseAcceptor acceptor : acceptorMap.removeAll())
      {
-       final int messageID = iterator.next();
-       final ResponseAcceptor acceptor = acceptorMap.get(messageID);
-
        try
        {
          if (message == null)
@@ -1178,8 +1417,6 @@ final class LDAPConnectionReader
        {
          Debug.debugException(e);
        }
-
-       iterator.remove();
      }
    }
 
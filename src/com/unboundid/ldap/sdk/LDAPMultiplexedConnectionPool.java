@@ -0,0 +1,1936 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+import com.unboundid.util.VirtualThreadSupport;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides an implementation of an LDAP connection pool in which a
+ * fixed number of connections are shared by all of the threads using the pool.
+ * LDAP allows any number of operations to be outstanding on a connection at
+ * the same time, and this pool takes advantage of that by routing each
+ * operation to the established connection with the fewest outstanding
+ * operations, as long as that connection does not already have the maximum
+ * number of outstanding operations allowed for a connection.  This makes it
+ * possible to process a large number of concurrent operations with a small
+ * number of connections, which can be important when the directory server
+ * limits the number of connections that a client may establish.
+ * <BR><BR>
+ * Connections in this pool must operate in asynchronous mode (which is the
+ * default), since a connection in synchronous mode cannot have more than one
+ * outstanding operation at a time.  Any attempt to create a pool with
+ * connections that use synchronous mode will fail.
+ * <BR><BR>
+ * The capabilities offered by this class are generally the same as those
+ * provided by the {@link LDAPConnectionPool} class, as is the manner in which
+ * applications should interact with it, but there are some important
+ * differences:
+ * <UL>
+ *   <LI>
+ *     A connection returned by the {@link #getConnection()} method may be
+ *     used to process operations for other threads at the same time, so it
+ *     must not be used for any processing that alters the state of the
+ *     connection, like binds or the StartTLS extended operation.  It must
+ *     still be released back to the pool once the caller is done with it so
+ *     that the pool can accurately track the number of outstanding
+ *     operations.
+ *   </LI>
+ *   <LI>
+ *     Bind operations processed with the {@code bind} methods of this pool
+ *     are processed on a dedicated connection that is established for that
+ *     purpose and closed once the bind has completed.  Binds therefore have
+ *     no effect on the authentication state of the shared connections.
+ *   </LI>
+ *   <LI>
+ *     If a shared connection is found to be defunct, then it will be replaced
+ *     and no new operations will be sent over it.  Unless it has already been
+ *     disconnected, it will not be closed until the operations already in
+ *     progress on it have completed, so a single operation that fails with a
+ *     result like a timeout will not cause the other operations on the same
+ *     connection to fail.
+ *   </LI>
+ * </UL>
+ * <BR>
+ * If all of the connections already have the maximum number of outstanding
+ * operations, then an attempt to get a connection will wait for up to the
+ * {@link #getMaxWaitTimeMillis() maximum wait time} for an operation to
+ * complete.  By default, there is no wait, and the attempt will fail
+ * immediately.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class LDAPMultiplexedConnectionPool
+       extends AbstractConnectionPool
+{
+  /**
+   * The default maximum number of operations that may be outstanding on each
+   * connection at any given time.
+   */
+  public static final int DEFAULT_MAX_OUTSTANDING_OPERATIONS_PER_CONNECTION =
+       100;
+
+
+
+  /**
+   * The default health check interval for this connection pool, which is set to
+   * 60000 milliseconds (60 seconds).
+   */
+  private static final long DEFAULT_HEALTH_CHECK_INTERVAL = 60_000L;
+
+
+
+  // The number of threads waiting for an outstanding operation slot to become
+  // available.
+  @NotNull private final AtomicInteger numWaiters;
+
+  // The index of the slot at which to start looking for the least-loaded
+  // connection, which is rotated to spread operations across connections with
+  // the same load.
+  @NotNull private final AtomicInteger nextSlot;
+
+  // The types of operations that should be retried if they fail in a manner
+  // that may be the result of a connection that is no longer valid.
+  @NotNull private final AtomicReference<Set<OperationType>>
+       retryOperationTypes;
+
+  // The shared connections in this pool.  An element will be null if the
+  // corresponding connection has not been established or has been closed.
+  @NotNull private final AtomicReferenceArray<SharedConnection> slots;
+
+  // Indicates whether this connection pool has been closed.
+  private volatile boolean closed;
+
+  // The bind request to use to perform authentication whenever a new connection
+  // is established.
+  @Nullable private volatile BindRequest bindRequest;
+
+  // A map of the shared connections in this pool, including connections that
+  // have been replaced but still have outstanding operations.
+  @NotNull private final ConcurrentHashMap<LDAPConnection,SharedConnection>
+       sharedConnections;
+
+  // The set of dedicated connections that have been checked out for binds.
+  @NotNull private final Set<LDAPConnection> dedicatedConnections;
+
+  // The maximum number of operations that may be outstanding on a connection.
+  private final int maxOutstandingOperationsPerConnection;
+
+  // The health check implementation that should be used for this connection
+  // pool.
+  @NotNull private volatile LDAPConnectionPoolHealthCheck healthCheck;
+
+  // The thread that will be used to perform periodic background health checks
+  // for this connection pool.
+  @NotNull private final LDAPConnectionPoolHealthCheckThread healthCheckThread;
+
+  // The statistics for this connection pool.
+  @NotNull private final LDAPConnectionPoolStatistics poolStatistics;
+
+  // The length of time in milliseconds between periodic health checks against
+  // the connections in this pool.
+  private volatile long healthCheckInterval;
+
+  // The maximum length of time in milliseconds to wait for an outstanding
+  // operation slot to become available.
+  private volatile long maxWaitTime;
+
+  // The objects used to synchronize the establishment of each connection.
+  @NotNull private final Object[] slotLocks;
+
+  // The object used to wait for an outstanding operation slot to become
+  // available.
+  @NotNull private final Object waitMonitor;
+
+  // The post-connect processor for this connection pool, if any.
+  @Nullable private final PostConnectProcessor postConnectProcessor;
+
+  // The server set to use for establishing connections for use by this pool.
+  @NotNull private volatile ServerSet serverSet;
+
+  // The user-friendly name assigned to this connection pool.
+  @Nullable private volatile String connectionPoolName;
+
+
+
+  /**
+   * Creates a new multiplexed connection pool in which the provided connection
+   * will be used as the first shared connection, and any other connections
+   * will be established to the same server with the same authentication.
+   *
+   * @param  connection      The connection to use to provide the template for
+   *                         the other connections to be created.  This
+   *                         connection will be included in the pool.  It must
+   *                         not be {@code null}, it must be established to the
+   *                         target server, and it must not be operating in
+   *                         synchronous mode.
+   * @param  numConnections  The number of shared connections to maintain.  It
+   *                         must be greater than zero.
+   * @param  maxOutstandingOperationsPerConnection
+   *              The maximum number of operations that may be outstanding on
+   *              each connection at any given time.  It must be greater than
+   *              zero.
+   *
+   * @throws  LDAPException  If a problem occurs while establishing the
+   *                         connections for the pool.  If this is thrown,
+   *                         then all connections associated with the pool
+   *                         (including the one provided as an argument) will be
+   *                         closed.
+   */
+  public LDAPMultiplexedConnectionPool(@NotNull final LDAPConnection connection,
+              final int numConnections,
+              final int maxOutstandingOperationsPerConnection)
+         throws LDAPException
+  {
+    this(connection, numConnections, maxOutstandingOperationsPerConnection,
+         createServerSet(connection), connection.getLastBindRequest(), null);
+  }
+
+
+
+  /**
+   * Creates a new multiplexed connection pool that will use the provided
+   * server set and bind request for creating new connections.
+   *
+   * @param  serverSet       The server set to use to create the connections.
+   *                         It is acceptable for the server set to create the
+   *                         connections across multiple servers.
+   * @param  bindRequest     The bind request to use to authenticate the
+   *                         connections that are established.  It may be
+   *                         {@code null} if no authentication should be
+   *                         performed on the connections.  Note that if the
+   *                         server set is configured to perform
+   *                         authentication, this bind request should be the
+   *                         same bind request used by the server set.
+   * @param  numConnections  The number of shared connections to maintain.  It
+   *                         must be greater than zero.
+   * @param  maxOutstandingOperationsPerConnection
+   *              The maximum number of operations that may be outstanding on
+   *              each connection at any given time.  It must be greater than
+   *              zero.
+   *
+   * @throws  LDAPException  If a problem occurs while establishing the
+   *                         connections for the pool.  If this is thrown,
+   *                         then any connections that had been established
+   *                         will be closed.
+   */
+  public LDAPMultiplexedConnectionPool(@NotNull final ServerSet serverSet,
+              @Nullable final BindRequest bindRequest,
+              final int numConnections,
+              final int maxOutstandingOperationsPerConnection)
+         throws LDAPException
+  {
+    this(serverSet, bindRequest, numConnections,
+         maxOutstandingOperationsPerConnection, null);
+  }
+
+
+
+  /**
+   * Creates a new multiplexed connection pool that will use the provided
+   * server set and bind request for creating new connections.
+   *
+   * @param  serverSet             The server set to use to create the
+   *                               connections.  It is acceptable for the server
+   *                               set to create the connections across multiple
+   *                               servers.
+   * @param  bindRequest           The bind request to use to authenticate the
+   *                               connections that are established.  It may be
+   *                               {@code null} if no authentication should be
+   *                               performed on the connections.  Note that if
+   *                               the server set is configured to perform
+   *                               authentication, this bind request should be
+   *                               the same bind request used by the server set.
+   * @param  numConnections        The number of shared connections to
+   *                               maintain.  It must be greater than zero.
+   * @param  maxOutstandingOperationsPerConnection
+   *              The maximum number of operations that may be outstanding on
+   *              each connection at any given time.  It must be greater than
+   *              zero.
+   * @param  postConnectProcessor  A processor that should be used to perform
+   *                               any post-connect processing for connections
+   *                               in this pool.  It may be {@code null} if no
+   *                               special processing is needed.  Note that if
+   *                               the server set is configured with a
+   *                               non-{@code null} post-connect processor, then
+   *                               the post-connect processor provided to the
+   *                               pool must be {@code null}.
+   *
+   * @throws  LDAPException  If a problem occurs while establishing the
+   *                         connections for the pool.  If this is thrown,
+   *                         then any connections that had been established
+   *                         will be closed.
+   */
+  public LDAPMultiplexedConnectionPool(@NotNull final ServerSet serverSet,
+              @Nullable final BindRequest bindRequest,
+              final int numConnections,
+              final int maxOutstandingOperationsPerConnection,
+              @Nullable final PostConnectProcessor postConnectProcessor)
+         throws LDAPException
+  {
+    this(null, numConnections, maxOutstandingOperationsPerConnection,
+         serverSet, bindRequest, postConnectProcessor);
+  }
+
+
+
+  /**
+   * Creates a new multiplexed connection pool with the provided information.
+   *
+   * @param  connection            An established connection to include as the
+   *                               first shared connection in the pool.  It may
+   *                               be {@code null} if all connections should be
+   *                               created from the server set.
+   * @param  numConnections        The number of shared connections to
+   *                               maintain.
+   * @param  maxOutstandingOperationsPerConnection
+   *              The maximum number of operations that may be outstanding on
+   *              each connection at any given time.
+   * @param  serverSet             The server set to use to create the
+   *                               connections.
+   * @param  bindRequest           The bind request to use to authenticate the
+   *                               connections that are established.
+   * @param  postConnectProcessor  A processor that should be used to perform
+   *                               any post-connect processing for connections
+   *                               in this pool.
+   *
+   * @throws  LDAPException  If a problem occurs while establishing the
+   *                         connections for the pool.
+   */
+  private LDAPMultiplexedConnectionPool(
+               @Nullable final LDAPConnection connection,
+               final int numConnections,
+               final int maxOutstandingOperationsPerConnection,
+               @NotNull final ServerSet serverSet,
+               @Nullable final BindRequest bindRequest,
+               @Nullable final PostConnectProcessor postConnectProcessor)
+          throws LDAPException
+  {
+    Validator.ensureNotNull(serverSet);
+    Validator.ensureTrue((numConnections > 0),
+         "LDAPMultiplexedConnectionPool.numConnections must be greater " +
+              "than zero.");
+    Validator.ensureTrue((maxOutstandingOperationsPerConnection > 0),
+         "LDAPMultiplexedConnectionPool." +
+              "maxOutstandingOperationsPerConnection must be greater than " +
+              "zero.");
+
+    if (serverSet.includesAuthentication())
+    {
+      Validator.ensureTrue((bindRequest != null),
+           "LDAPMultiplexedConnectionPool.bindRequest must not be null if " +
+                "serverSet.includesAuthentication returns true");
+    }
+
+    if (serverSet.includesPostConnectProcessing())
+    {
+      Validator.ensureTrue((postConnectProcessor == null),
+           "LDAPMultiplexedConnectionPool.postConnectProcessor must be null " +
+                "if serverSet.includesPostConnectProcessing returns true.");
+    }
+
+    this.serverSet            = serverSet;
+    this.bindRequest          = bindRequest;
+    this.postConnectProcessor = postConnectProcessor;
+    this.maxOutstandingOperationsPerConnection =
+         maxOutstandingOperationsPerConnection;
+
+    healthCheck          = new LDAPConnectionPoolHealthCheck();
+    healthCheckInterval  = DEFAULT_HEALTH_CHECK_INTERVAL;
+    poolStatistics       = new LDAPConnectionPoolStatistics(this);
+    connectionPoolName   = null;
+    retryOperationTypes  = new AtomicReference<>(
+         Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
+    maxWaitTime          = 0L;
+    closed               = false;
+    numWaiters           = new AtomicInteger(0);
+    nextSlot             = new AtomicInteger(0);
+    waitMonitor          = new Object();
+    slots                = new AtomicReferenceArray<>(numConnections);
+    sharedConnections    = new ConcurrentHashMap<>(
+         StaticUtils.computeMapCapacity(numConnections));
+    dedicatedConnections = Collections.newSetFromMap(
+         new ConcurrentHashMap<LDAPConnection,Boolean>(
+              StaticUtils.computeMapCapacity(10)));
+
+    slotLocks = new Object[numConnections];
+    for (int i=0; i < numConnections; i++)
+    {
+      slotLocks[i] = new Object();
+    }
+
+    try
+    {
+      int firstIndex = 0;
+      if (connection != null)
+      {
+        ensureAsynchronousMode(connection);
+        connection.setConnectionPool(this);
+        connection.setConnectionPoolName(connectionPoolName);
+        setSlot(0, new SharedConnection(connection, 0));
+        firstIndex = 1;
+      }
+
+      for (int i=firstIndex; i < numConnections; i++)
+      {
+        setSlot(i, new SharedConnection(createConnection(), 0));
+      }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+
+      for (int i=0; i < numConnections; i++)
+      {
+        final SharedConnection s = slots.get(i);
+        if (s != null)
+        {
+          s.connection.setDisconnectInfo(DisconnectType.POOL_CREATION_FAILURE,
+               null, le);
+          s.connection.terminate(null);
+        }
+      }
+
+      if ((connection != null) && (slots.get(0) == null))
+      {
+        connection.setDisconnectInfo(DisconnectType.POOL_CREATION_FAILURE,
+             null, le);
+        connection.terminate(null);
+      }
+
+      throw le;
+    }
+
+    healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
+    VirtualThreadSupport.start(healthCheckThread,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
+  }
+
+
+
+  /**
+   * Creates a server set that may be used to establish connections to the same
+   * server as the provided connection.
+   *
+   * @param  connection  The connection for which to create the server set.  It
+   *                     must not be {@code null}.
+   *
+   * @return  The server set that was created.
+   *
+   * @throws  LDAPException  If the provided connection is not established.
+   */
+  @NotNull()
+  private static ServerSet createServerSet(
+                                @NotNull final LDAPConnection connection)
+          throws LDAPException
+  {
+    Validator.ensureNotNull(connection);
+
+    if (! connection.isConnected())
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+                              ERR_POOL_CONN_NOT_ESTABLISHED.get());
+    }
+
+    return new SingleServerSet(connection.getConnectedAddress(),
+         connection.getConnectedPort(), connection.getLastUsedSocketFactory(),
+         connection.getConnectionOptions());
+  }
+
+
+
+  /**
+   * Ensures that the provided connection is not operating in synchronous mode.
+   *
+   * @param  connection  The connection to examine.
+   *
+   * @throws  LDAPException  If the connection is operating in synchronous
+   *                         mode.
+   */
+  private static void ensureAsynchronousMode(
+                           @NotNull final LDAPConnection connection)
+          throws LDAPException
+  {
+    if (connection.synchronousMode())
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_MULTIPLEXED_POOL_SYNCHRONOUS_MODE.get());
+    }
+  }
+
+
+
+  /**
+   * Creates a new LDAP connection for use in this pool.
+   *
+   * @return  A new connection created for use in this pool.
+   *
+   * @throws  LDAPException  If a problem occurs while attempting to establish
+   *                         the connection.  If a connection had been created,
+   *                         it will be closed.
+   */
+  @SuppressWarnings("deprecation")
+  @NotNull()
+  private LDAPConnection createConnection()
+          throws LDAPException
+  {
+    final LDAPConnection c;
+    try
+    {
+      c = serverSet.getConnection(healthCheck);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      poolStatistics.incrementNumFailedConnectionAttempts();
+      Debug.debugConnectionPool(Level.SEVERE, this, null,
+           "Unable to create a new pooled connection", le);
+      throw le;
+    }
+    c.setConnectionPool(this);
+
+    try
+    {
+      ensureAsynchronousMode(c);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      poolStatistics.incrementNumFailedConnectionAttempts();
+      c.setDisconnectInfo(DisconnectType.POOL_CREATION_FAILURE, null, le);
+      c.setClosed();
+      throw le;
+    }
+
+
+    // Auto-reconnect must be disabled for pooled connections, so turn it off
+    // if the associated connection options have it enabled for some reason.
+    LDAPConnectionOptions opts = c.getConnectionOptions();
+    if (opts.autoReconnect())
+    {
+      opts = opts.duplicate();
+      opts.setAutoReconnect(false);
+      c.setConnectionOptions(opts);
+    }
+
+
+    // Invoke pre-authentication post-connect processing.
+    if (postConnectProcessor != null)
+    {
+      try
+      {
+        postConnectProcessor.processPreAuthenticatedConnection(c);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        handlePostConnectFailure(c, e,
+             "Exception in pre-authentication post-connect processing");
+      }
+    }
+
+
+    // Authenticate the connection if appropriate.
+    if ((bindRequest != null) && (! serverSet.includesAuthentication()))
+    {
+      BindResult bindResult;
+      try
+      {
+        bindResult = c.bind(bindRequest.duplicate());
+      }
+      catch (final LDAPBindException lbe)
+      {
+        Debug.debugException(lbe);
+        bindResult = lbe.getBindResult();
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        bindResult = new BindResult(le);
+      }
+
+      try
+      {
+        healthCheck.ensureConnectionValidAfterAuthentication(c, bindResult);
+        if (bindResult.getResultCode() != ResultCode.SUCCESS)
+        {
+          throw new LDAPBindException(bindResult);
+        }
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+        poolStatistics.incrementNumFailedConnectionAttempts();
+        Debug.debugConnectionPool(Level.SEVERE, this, c,
+             "Failed to authenticate a new pooled connection", le);
+        c.setDisconnectInfo(DisconnectType.BIND_FAILED, null, le);
+        c.setClosed();
+        throw le;
+      }
+    }
+
+
+    // Invoke post-authentication post-connect processing.
+    if (postConnectProcessor != null)
+    {
+      try
+      {
+        postConnectProcessor.processPostAuthenticatedConnection(c);
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+        handlePostConnectFailure(c, e,
+             "Exception in post-authentication post-connect processing");
+      }
+    }
+
+
+    // Finish setting up the connection.
+    c.setConnectionPoolName(connectionPoolName);
+    poolStatistics.incrementNumSuccessfulConnectionAttempts();
+    Debug.debugConnectionPool(Level.INFO, this, c,
+         "Successfully created a new pooled connection", null);
+
+    return c;
+  }
+
+
+
+  /**
+   * Closes the provided connection after a failure in post-connect processing
+   * and throws an appropriate exception.
+   *
+   * @param  c        The connection to be closed.
+   * @param  e        The exception caught during post-connect processing.
+   * @param  message  A message describing the failure for debugging purposes.
+   *
+   * @throws  LDAPException  Always, to indicate the failure.
+   */
+  private void handlePostConnectFailure(@NotNull final LDAPConnection c,
+                                        @NotNull final Exception e,
+                                        @NotNull final String message)
+          throws LDAPException
+  {
+    poolStatistics.incrementNumFailedConnectionAttempts();
+    Debug.debugConnectionPool(Level.SEVERE, this, c, message, e);
+    c.setDisconnectInfo(DisconnectType.POOL_CREATION_FAILURE, null, e);
+    c.setClosed();
+
+    if (e instanceof LDAPException)
+    {
+      throw ((LDAPException) e);
+    }
+    else
+    {
+      throw new LDAPException(ResultCode.CONNECT_ERROR,
+           ERR_POOL_POST_CONNECT_ERROR.get(StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void close()
+  {
+    close(true, 1);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void close(final boolean unbind, final int numThreads)
+  {
+    try
+    {
+      final boolean healthCheckThreadAlreadySignaled = closed;
+      closed = true;
+      healthCheckThread.stopRunning(! healthCheckThreadAlreadySignaled);
+
+      try
+      {
+        serverSet.shutDown();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      final ArrayList<LDAPConnection> connList =
+           new ArrayList<>(slots.length() + dedicatedConnections.size());
+      for (int i=0; i < slots.length(); i++)
+      {
+        final SharedConnection s = slots.getAndSet(i, null);
+        if (s != null)
+        {
+          connList.add(s.connection);
+        }
+      }
+
+      // Also close any retired connections that are still waiting for their
+      // outstanding operations to complete.
+      for (final SharedConnection s : sharedConnections.values())
+      {
+        if (s.retired && s.terminated.compareAndSet(false, true))
+        {
+          connList.add(s.connection);
+        }
+      }
+      sharedConnections.clear();
+
+      connList.addAll(dedicatedConnections);
+      dedicatedConnections.clear();
+
+      if ((numThreads > 1) && (! connList.isEmpty()))
+      {
+        final ParallelPoolCloser closer =
+             new ParallelPoolCloser(connList, unbind, numThreads);
+        closer.closeConnections();
+      }
+      else
+      {
+        for (final LDAPConnection conn : connList)
+        {
+          poolStatistics.incrementNumConnectionsClosedUnneeded();
+          Debug.debugConnectionPool(Level.INFO, this, conn,
+               "Closed a connection as part of closing the connection pool",
+               null);
+          conn.setDisconnectInfo(DisconnectType.POOL_CLOSED, null, null);
+          if (unbind)
+          {
+            conn.terminate(null);
+          }
+          else
+          {
+            conn.setClosed();
+          }
+        }
+      }
+
+      signalWaiters();
+    }
+    finally
+    {
+      Debug.debugConnectionPool(Level.INFO, this, null,
+           "Closed the connection pool", null);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean isClosed()
+  {
+    return closed;
+  }
+
+
+
+  /**
+   * Retrieves a connection from this pool.  The connection returned will be the
+   * established connection with the fewest outstanding operations, and it may
+   * be used to process operations for other threads at the same time.  It must
+   * not be used for any processing that alters the state of the connection,
+   * like binds or the StartTLS extended operation, and it must be released
+   * back to the pool once the caller is done with it.
+   *
+   * @return  A connection from this pool.
+   *
+   * @throws  LDAPException  If the pool has been closed, if all connections
+   *                         already have the maximum number of outstanding
+   *                         operations and none completed within the maximum
+   *                         wait time, or if a problem occurs while
+   *                         establishing a connection.
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection getConnection()
+         throws LDAPException
+  {
+    if (closed)
+    {
+      poolStatistics.incrementNumFailedCheckouts();
+      Debug.debugConnectionPool(Level.SEVERE, this, null,
+           "Failed to get a connection to a closed connection pool", null);
+      throw new LDAPException(ResultCode.CONNECT_ERROR, ERR_POOL_CLOSED.get());
+    }
+
+    final boolean[] created = new boolean[1];
+    SharedConnection s = reserveSlot(created);
+    boolean waited = false;
+    if (s == null)
+    {
+      waited = true;
+      s = waitForSlot(created);
+    }
+
+    LDAPConnection conn = s.connection;
+    try
+    {
+      healthCheck.ensureConnectionValidForCheckout(conn);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      Debug.debugConnectionPool(Level.WARNING, this, conn,
+           "A shared connection failed the checkout health check", le);
+
+      try
+      {
+        conn = replaceDefunctConnection(conn);
+        healthCheck.ensureConnectionValidForCheckout(conn);
+        created[0] = true;
+      }
+      catch (final LDAPException le2)
+      {
+        Debug.debugException(le2);
+        if (conn != s.connection)
+        {
+          releaseDefunctConnection(conn);
+        }
+
+        poolStatistics.incrementNumFailedCheckouts();
+        Debug.debugConnectionPool(Level.SEVERE, this, null,
+             "Unable to check out a connection because a replacement " +
+                  "connection could not be established or was not valid",
+             le2);
+        throw le2;
+      }
+    }
+
+    if (created[0])
+    {
+      poolStatistics.incrementNumSuccessfulCheckoutsNewConnection();
+      Debug.debugConnectionPool(Level.INFO, this, conn,
+           "Checked out a newly created shared connection", null);
+    }
+    else if (waited)
+    {
+      poolStatistics.incrementNumSuccessfulCheckoutsAfterWaiting();
+      Debug.debugConnectionPool(Level.INFO, this, conn,
+           "Checked out a shared connection after waiting for an " +
+                "outstanding operation to complete",
+           null);
+    }
+    else
+    {
+      poolStatistics.incrementNumSuccessfulCheckoutsWithoutWaiting();
+      Debug.debugConnectionPool(Level.INFO, this, conn,
+           "Checked out a shared connection", null);
+    }
+
+    return conn;
+  }
+
+
+
+  /**
+   * Waits for up to the maximum wait time for an outstanding operation slot to
+   * become available on any of the connections.
+   *
+   * @param  created  An array whose first element will be set to
+   *                  {@code true} if a new connection was established.
+   *
+   * @return  The shared connection for which a slot was reserved.
+   *
+   * @throws  LDAPException  If no slot became available before the maximum
+   *                         wait time elapsed, if the pool was closed, or if
+   *                         the thread was interrupted while waiting.
+   */
+  @NotNull()
+  private SharedConnection waitForSlot(@NotNull final boolean[] created)
+          throws LDAPException
+  {
+    final long stopWaitingTime = System.currentTimeMillis() + maxWaitTime;
+    while (true)
+    {
+      final long remainingWaitTime =
+           stopWaitingTime - System.currentTimeMillis();
+      if (closed || (remainingWaitTime <= 0L))
+      {
+        poolStatistics.incrementNumFailedCheckouts();
+        Debug.debugConnectionPool(Level.SEVERE, this, null,
+             "Failed to get a connection because all shared connections " +
+                  "already have the maximum number of outstanding operations",
+             null);
+        if (closed)
+        {
+          throw new LDAPException(ResultCode.CONNECT_ERROR,
+               ERR_POOL_CLOSED.get());
+        }
+        else
+        {
+          throw new LDAPException(ResultCode.CONNECT_ERROR,
+               ERR_POOL_NO_CONNECTIONS.get());
+        }
+      }
+
+      // The waiter count must be incremented before checking again so that a
+      // slot released after this check will result in a notification.
+      numWaiters.incrementAndGet();
+      try
+      {
+        synchronized (waitMonitor)
+        {
+          final SharedConnection s = reserveSlot(created);
+          if (s != null)
+          {
+            return s;
+          }
+
+          waitMonitor.wait(remainingWaitTime);
+        }
+      }
+      catch (final InterruptedException ie)
+      {
+        Debug.debugException(ie);
+        Thread.currentThread().interrupt();
+        poolStatistics.incrementNumFailedCheckouts();
+        throw new LDAPException(ResultCode.LOCAL_ERROR,
+             ERR_POOL_CHECKOUT_INTERRUPTED.get(), ie);
+      }
+      finally
+      {
+        numWaiters.decrementAndGet();
+      }
+
+      final SharedConnection s = reserveSlot(created);
+      if (s != null)
+      {
+        return s;
+      }
+    }
+  }
+
+
+
+  /**
+   * Attempts to reserve an outstanding operation slot on the least-loaded
+   * established connection.  If there is no established connection with an
+   * available slot, but there is a connection that needs to be established,
+   * then that connection will be established.
+   *
+   * @param  created  An array whose first element will be set to
+   *                  {@code true} if a new connection was established.
+   *
+   * @return  The shared connection for which a slot was reserved, or
+   *          {@code null} if all connections already have the maximum number
+   *          of outstanding operations.
+   *
+   * @throws  LDAPException  If a problem occurs while establishing a
+   *                         connection.
+   */
+  @Nullable()
+  private SharedConnection reserveSlot(@NotNull final boolean[] created)
+          throws LDAPException
+  {
+    final int numSlots = slots.length();
+    while (true)
+    {
+      final int startIndex = (nextSlot.getAndIncrement() & Integer.MAX_VALUE) %
+           numSlots;
+
+      SharedConnection best = null;
+      int bestLoad = maxOutstandingOperationsPerConnection;
+      int emptyIndex = -1;
+      for (int i=0; i < numSlots; i++)
+      {
+        final int index = (startIndex + i) % numSlots;
+        final SharedConnection s = slots.get(index);
+        if ((s == null) || (! s.connection.isConnected()))
+        {
+          if (emptyIndex < 0)
+          {
+            emptyIndex = index;
+          }
+          continue;
+        }
+
+        final int load = s.outstanding.get();
+        if (load < bestLoad)
+        {
+          best = s;
+          bestLoad = load;
+        }
+      }
+
+      if (best != null)
+      {
+        if (best.outstanding.compareAndSet(bestLoad, (bestLoad + 1)))
+        {
+          return best;
+        }
+
+        // Another thread changed the load on the connection, so try again.
+        continue;
+      }
+
+      if (emptyIndex < 0)
+      {
+        return null;
+      }
+
+      final SharedConnection s = establishSlot(emptyIndex, 1);
+      if (s != null)
+      {
+        created[0] = true;
+        return s;
+      }
+    }
+  }
+
+
+
+  /**
+   * Establishes a new connection for the specified slot if it does not
+   * already hold a usable connection.  Any existing connection in the slot
+   * will be retired.
+   *
+   * @param  index        The index of the slot to establish.
+   * @param  outstanding  The initial number of outstanding operations to
+   *                      reserve on the new connection.
+   *
+   * @return  The newly established shared connection, or {@code null} if the
+   *          slot already held a usable connection.
+   *
+   * @throws  LDAPException  If the pool has been closed or a problem occurs
+   *                         while establishing the connection.
+   */
+  @Nullable()
+  private SharedConnection establishSlot(final int index,
+                                         final int outstanding)
+          throws LDAPException
+  {
+    synchronized (slotLocks[index])
+    {
+      final SharedConnection existing = slots.get(index);
+      if ((existing != null) && existing.connection.isConnected())
+      {
+        return null;
+      }
+
+      if (closed)
+      {
+        throw new LDAPException(ResultCode.CONNECT_ERROR,
+             ERR_POOL_CLOSED.get());
+      }
+
+      if (existing != null)
+      {
+        slots.set(index, null);
+        retire(existing, DisconnectType.POOLED_CONNECTION_DEFUNCT);
+      }
+
+      final SharedConnection s =
+           new SharedConnection(createConnection(), outstanding);
+      setSlot(index, s);
+      return s;
+    }
+  }
+
+
+
+  /**
+   * Stores the provided shared connection in the specified slot.
+   *
+   * @param  index  The index of the slot in which to store the connection.
+   * @param  s      The shared connection to store.
+   */
+  private void setSlot(final int index, @NotNull final SharedConnection s)
+  {
+    sharedConnections.put(s.connection, s);
+    slots.set(index, s);
+  }
+
+
+
+  /**
+   * Retrieves the index of the slot that currently holds the provided shared
+   * connection.
+   *
+   * @param  s  The shared connection for which to retrieve the slot index.
+   *
+   * @return  The index of the slot that holds the provided shared connection,
+   *          or -1 if it is not held in any slot.
+   */
+  private int getSlotIndex(@NotNull final SharedConnection s)
+  {
+    for (int i=0; i < slots.length(); i++)
+    {
+      if (slots.get(i) == s)
+      {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+
+
+  /**
+   * Marks the provided shared connection as retired.  The caller must have
+   * already removed it from its slot, so no new operations will be sent over
+   * it.  If the connection is no longer established, or if there are no
+   * operations outstanding on it, then it will be terminated immediately.
+   * Otherwise, it will be terminated once the last of the outstanding
+   * operations has released its slot.
+   *
+   * @param  s     The shared connection to retire.
+   * @param  type  The disconnect type to use for the connection.
+   */
+  private void retire(@NotNull final SharedConnection s,
+                      @NotNull final DisconnectType type)
+  {
+    s.disconnectType = type;
+    s.retired = true;
+
+    if (type == DisconnectType.POOLED_CONNECTION_DEFUNCT)
+    {
+      poolStatistics.incrementNumConnectionsClosedDefunct();
+    }
+    else
+    {
+      poolStatistics.incrementNumConnectionsClosedUnneeded();
+    }
+
+    if ((s.outstanding.get() <= 0) || (! s.connection.isConnected()))
+    {
+      terminate(s);
+    }
+    else
+    {
+      Debug.debugConnectionPool(Level.INFO, this, s.connection,
+           "Retired a shared connection that will be closed once its " +
+                "outstanding operations have completed",
+           null);
+    }
+  }
+
+
+
+  /**
+   * Terminates the provided retired shared connection, if that has not
+   * already been done.
+   *
+   * @param  s  The retired shared connection to terminate.
+   */
+  private void terminate(@NotNull final SharedConnection s)
+  {
+    if (! s.terminated.compareAndSet(false, true))
+    {
+      return;
+    }
+
+    sharedConnections.remove(s.connection);
+    Debug.debugConnectionPool(Level.WARNING, this, s.connection,
+         "Closing a shared connection", null);
+    s.connection.setDisconnectInfo(s.disconnectType, null, null);
+    s.connection.terminate(null);
+  }
+
+
+
+  /**
+   * Releases an outstanding operation slot for the provided shared connection
+   * and notifies any threads waiting for a slot to become available.  If the
+   * connection has been retired and this was its last outstanding operation,
+   * then it will be terminated.
+   *
+   * @param  s  The shared connection for which to release a slot.
+   */
+  private void releaseSlot(@NotNull final SharedConnection s)
+  {
+    if ((s.outstanding.decrementAndGet() <= 0) && s.retired)
+    {
+      terminate(s);
+    }
+
+    signalWaiters();
+  }
+
+
+
+  /**
+   * Notifies any threads waiting for an outstanding operation slot to become
+   * available.
+   */
+  private void signalWaiters()
+  {
+    if (numWaiters.get() > 0)
+    {
+      synchronized (waitMonitor)
+      {
+        waitMonitor.notifyAll();
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves a dedicated connection that will not be shared with any other
+   * operations.  The connection will be established for this purpose, and it
+   * will be closed when it is released.
+   *
+   * @return  The dedicated connection.
+   *
+   * @throws  LDAPException  If the pool has been closed or a problem occurs
+   *                         while establishing the connection.
+   */
+  @Override()
+  @NotNull()
+  LDAPConnection getDedicatedConnection()
+       throws LDAPException
+  {
+    if (closed)
+    {
+      poolStatistics.incrementNumFailedCheckouts();
+      Debug.debugConnectionPool(Level.SEVERE, this, null,
+           "Failed to get a connection to a closed connection pool", null);
+      throw new LDAPException(ResultCode.CONNECT_ERROR, ERR_POOL_CLOSED.get());
+    }
+
+    final LDAPConnection conn;
+    try
+    {
+      conn = createConnection();
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      poolStatistics.incrementNumFailedCheckouts();
+      throw le;
+    }
+
+    try
+    {
+      healthCheck.ensureConnectionValidForCheckout(conn);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      poolStatistics.incrementNumFailedCheckouts();
+      conn.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT, null,
+           le);
+      conn.setClosed();
+      throw le;
+    }
+
+    dedicatedConnections.add(conn);
+    poolStatistics.incrementNumSuccessfulCheckoutsNewConnection();
+    Debug.debugConnectionPool(Level.INFO, this, conn,
+         "Checked out a newly created dedicated connection", null);
+    return conn;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void releaseConnection(@NotNull final LDAPConnection connection)
+  {
+    if (connection == null)
+    {
+      return;
+    }
+
+    connection.setConnectionPoolName(connectionPoolName);
+    if (dedicatedConnections.remove(connection))
+    {
+      poolStatistics.incrementNumReleasedValid();
+      poolStatistics.incrementNumConnectionsClosedUnneeded();
+      Debug.debugConnectionPool(Level.INFO, this, connection,
+           "Closing a released dedicated connection", null);
+      connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+           null, null);
+      connection.terminate(null);
+      return;
+    }
+
+    final SharedConnection s = sharedConnections.get(connection);
+    if (s == null)
+    {
+      Debug.debugConnectionPool(Level.WARNING, this, connection,
+           "Closing a released connection that is not part of the pool",
+           null);
+      connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_UNNEEDED,
+           null, null);
+      connection.terminate(null);
+      return;
+    }
+
+    try
+    {
+      healthCheck.ensureConnectionValidForRelease(connection);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      releaseDefunctConnection(connection);
+      return;
+    }
+
+    releaseSlot(s);
+    poolStatistics.incrementNumReleasedValid();
+    Debug.debugConnectionPool(Level.INFO, this, connection,
+         "Released a shared connection back to the pool", null);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void releaseDefunctConnection(@NotNull final LDAPConnection connection)
+  {
+    if (connection == null)
+    {
+      return;
+    }
+
+    connection.setConnectionPoolName(connectionPoolName);
+    if (dedicatedConnections.remove(connection))
+    {
+      poolStatistics.incrementNumConnectionsClosedDefunct();
+      Debug.debugConnectionPool(Level.WARNING, this, connection,
+           "Releasing a defunct dedicated connection", null);
+      connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
+           null, null);
+      connection.setClosed();
+      return;
+    }
+
+    final SharedConnection s = sharedConnections.get(connection);
+    if (s == null)
+    {
+      connection.setDisconnectInfo(DisconnectType.POOLED_CONNECTION_DEFUNCT,
+           null, null);
+      connection.setClosed();
+      return;
+    }
+
+    final int index = getSlotIndex(s);
+    if (index >= 0)
+    {
+      synchronized (slotLocks[index])
+      {
+        if (slots.compareAndSet(index, s, null))
+        {
+          retire(s, DisconnectType.POOLED_CONNECTION_DEFUNCT);
+        }
+      }
+    }
+
+    releaseSlot(s);
+
+    if ((index >= 0) && (! closed))
+    {
+      try
+      {
+        establishSlot(index, 0);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnection replaceDefunctConnection(
+                             @NotNull final LDAPConnection connection)
+         throws LDAPException
+  {
+    if (dedicatedConnections.contains(connection))
+    {
+      releaseDefunctConnection(connection);
+      return getDedicatedConnection();
+    }
+
+    final SharedConnection s = sharedConnections.get(connection);
+    if (s == null)
+    {
+      releaseDefunctConnection(connection);
+      return getConnection();
+    }
+
+    // Transfer the reservation held for the defunct connection to the
+    // connection that replaces it in the same slot.
+    SharedConnection replacement = null;
+    final int index = getSlotIndex(s);
+    try
+    {
+      if (index >= 0)
+      {
+        synchronized (slotLocks[index])
+        {
+          if (slots.compareAndSet(index, s, null))
+          {
+            retire(s, DisconnectType.POOLED_CONNECTION_DEFUNCT);
+          }
+
+          replacement = slots.get(index);
+          if ((replacement != null) && replacement.connection.isConnected())
+          {
+            replacement.outstanding.incrementAndGet();
+          }
+          else
+          {
+            replacement = establishSlot(index, 1);
+          }
+        }
+      }
+    }
+    finally
+    {
+      releaseSlot(s);
+    }
+
+    if (replacement == null)
+    {
+      return getConnection();
+    }
+
+    return replacement.connection;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<OperationType> getOperationTypesToRetryDueToInvalidConnections()
+  {
+    return retryOperationTypes.get();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void setRetryFailedOperationsDueToInvalidConnections(
+                   @Nullable final Set<OperationType> operationTypes)
+  {
+    if ((operationTypes == null) || operationTypes.isEmpty())
+    {
+      retryOperationTypes.set(
+           Collections.unmodifiableSet(EnumSet.noneOf(OperationType.class)));
+    }
+    else
+    {
+      final EnumSet<OperationType> s = EnumSet.noneOf(OperationType.class);
+      s.addAll(operationTypes);
+      retryOperationTypes.set(Collections.unmodifiableSet(s));
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of operations that may be outstanding on each
+   * connection in this pool at any given time.
+   *
+   * @return  The maximum number of operations that may be outstanding on each
+   *          connection in this pool at any given time.
+   */
+  public int getMaxOutstandingOperationsPerConnection()
+  {
+    return maxOutstandingOperationsPerConnection;
+  }
+
+
+
+  /**
+   * Retrieves the total number of operations currently outstanding on the
+   * shared connections in this pool.
+   *
+   * @return  The total number of operations currently outstanding on the
+   *          shared connections in this pool.
+   */
+  public int getNumOutstandingOperations()
+  {
+    int total = 0;
+    for (int i=0; i < slots.length(); i++)
+    {
+      final SharedConnection s = slots.get(i);
+      if (s != null)
+      {
+        total += Math.max(0, s.outstanding.get());
+      }
+    }
+
+    return total;
+  }
+
+
+
+  /**
+   * Retrieves the number of outstanding operations on each of the shared
+   * connections in this pool.  The value for a connection that is not
+   * currently established will be -1.
+   *
+   * @return  The number of outstanding operations on each of the shared
+   *          connections in this pool.
+   */
+  @NotNull()
+  public List<Integer> getOutstandingOperationsPerConnection()
+  {
+    final ArrayList<Integer> counts = new ArrayList<>(slots.length());
+    for (int i=0; i < slots.length(); i++)
+    {
+      final SharedConnection s = slots.get(i);
+      if (s == null)
+      {
+        counts.add(-1);
+      }
+      else
+      {
+        counts.add(Math.max(0, s.outstanding.get()));
+      }
+    }
+
+    return Collections.unmodifiableList(counts);
+  }
+
+
+
+  /**
+   * Retrieves the maximum length of time in milliseconds to wait for an
+   * outstanding operation slot to become available if all connections already
+   * have the maximum number of outstanding operations.
+   *
+   * @return  The maximum length of time in milliseconds to wait for an
+   *          outstanding operation slot to become available, or zero if an
+   *          attempt to get a connection should fail immediately.
+   */
+  public long getMaxWaitTimeMillis()
+  {
+    return maxWaitTime;
+  }
+
+
+
+  /**
+   * Specifies the maximum length of time in milliseconds to wait for an
+   * outstanding operation slot to become available if all connections already
+   * have the maximum number of outstanding operations.
+   *
+   * @param  maxWaitTime  The maximum length of time in milliseconds to wait for
+   *                      an outstanding operation slot to become available.  A
+   *                      value less than or equal to zero indicates that an
+   *                      attempt to get a connection should fail immediately.
+   */
+  public void setMaxWaitTimeMillis(final long maxWaitTime)
+  {
+    if (maxWaitTime > 0L)
+    {
+      this.maxWaitTime = maxWaitTime;
+    }
+    else
+    {
+      this.maxWaitTime = 0L;
+    }
+  }
+
+
+
+  /**
+   * Specifies the bind request that will be used to authenticate subsequent new
+   * connections that are established by this connection pool.  The
+   * authentication state for existing connections will not be altered.
+   *
+   * @param  bindRequest  The bind request that will be used to authenticate new
+   *                      connections that are established by this pool.  It
+   *                      may be {@code null} if new connections should be
+   *                      unauthenticated.
+   */
+  public void setBindRequest(@Nullable final BindRequest bindRequest)
+  {
+    this.bindRequest = bindRequest;
+  }
+
+
+
+  /**
+   * Retrieves the server set that should be used to establish new connections
+   * for use in this connection pool.
+   *
+   * @return  The server set that should be used to establish new connections
+   *          for use in this connection pool.
+   */
+  @NotNull()
+  public ServerSet getServerSet()
+  {
+    return serverSet;
+  }
+
+
+
+  /**
+   * Specifies the server set that should be used to establish new connections
+   * for use in this connection pool.  Existing connections will not be
+   * affected.
+   *
+   * @param  serverSet  The server set that should be used to establish new
+   *                    connections for use in this connection pool.  It must
+   *                    not be {@code null}.
+   */
+  public void setServerSet(@NotNull final ServerSet serverSet)
+  {
+    Validator.ensureNotNull(serverSet);
+    this.serverSet = serverSet;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public String getConnectionPoolName()
+  {
+    return connectionPoolName;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void setConnectionPoolName(@Nullable final String connectionPoolName)
+  {
+    this.connectionPoolName = connectionPoolName;
+    for (int i=0; i < slots.length(); i++)
+    {
+      final SharedConnection s = slots.get(i);
+      if (s != null)
+      {
+        s.connection.setConnectionPoolName(connectionPoolName);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnectionPoolHealthCheck getHealthCheck()
+  {
+    return healthCheck;
+  }
+
+
+
+  /**
+   * Sets the health check implementation for this connection pool.
+   *
+   * @param  healthCheck  The health check implementation for this connection
+   *                      pool.  It must not be {@code null}.
+   */
+  public void setHealthCheck(
+                   @NotNull final LDAPConnectionPoolHealthCheck healthCheck)
+  {
+    Validator.ensureNotNull(healthCheck);
+    this.healthCheck = healthCheck;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public long getHealthCheckIntervalMillis()
+  {
+    return healthCheckInterval;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void setHealthCheckIntervalMillis(final long healthCheckInterval)
+  {
+    Validator.ensureTrue(healthCheckInterval > 0L,
+         "LDAPMultiplexedConnectionPool.healthCheckInterval must be greater " +
+              "than 0.");
+    this.healthCheckInterval = healthCheckInterval;
+    healthCheckThread.wakeUp();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  protected void doHealthCheck()
+  {
+    for (int i=0; i < slots.length(); i++)
+    {
+      if (closed)
+      {
+        return;
+      }
+
+      final SharedConnection s = slots.get(i);
+      if ((s != null) && s.connection.isConnected())
+      {
+        try
+        {
+          healthCheck.ensureConnectionValidForContinuedUse(s.connection);
+          continue;
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          Debug.debugConnectionPool(Level.WARNING, this, s.connection,
+               "A shared connection failed health check processing", e);
+        }
+      }
+
+      try
+      {
+        synchronized (slotLocks[i])
+        {
+          if ((s != null) && slots.compareAndSet(i, s, null))
+          {
+            retire(s, DisconnectType.POOLED_CONNECTION_DEFUNCT);
+          }
+        }
+
+        establishSlot(i, 0);
+      }
+      catch (final LDAPException le)
+      {
+        Debug.debugException(le);
+      }
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of shared connections that are currently established
+   * and have fewer than the maximum number of outstanding operations.
+   *
+   * @return  The number of shared connections that can currently accept
+   *          another operation.
+   */
+  @Override()
+  public int getCurrentAvailableConnections()
+  {
+    int available = 0;
+    for (int i=0; i < slots.length(); i++)
+    {
+      final SharedConnection s = slots.get(i);
+      if ((s != null) &&
+           (s.outstanding.get() < maxOutstandingOperationsPerConnection))
+      {
+        available++;
+      }
+    }
+
+    return available;
+  }
+
+
+
+  /**
+   * Retrieves the number of shared connections maintained by this pool.
+   *
+   * @return  The number of shared connections maintained by this pool.
+   */
+  @Override()
+  public int getMaximumAvailableConnections()
+  {
+    return slots.length();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public LDAPConnectionPoolStatistics getConnectionPoolStatistics()
+  {
+    return poolStatistics;
+  }
+
+
+
+  /**
+   * Closes this connection pool in the event that it becomes unreferenced.
+   *
+   * @throws  Throwable  If an unexpected problem occurs.
+   */
+  @Override()
+  protected void finalize()
+            throws Throwable
+  {
+    super.finalize();
+
+    close();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("LDAPMultiplexedConnectionPool(");
+
+    final String name = connectionPoolName;
+    if (name != null)
+    {
+      buffer.append("name='");
+      buffer.append(name);
+      buffer.append("', ");
+    }
+
+    buffer.append("serverSet=");
+    serverSet.toString(buffer);
+    buffer.append(", numConnections=");
+    buffer.append(slots.length());
+    buffer.append(", maxOutstandingOperationsPerConnection=");
+    buffer.append(maxOutstandingOperationsPerConnection);
+    buffer.append(", numOutstandingOperations=");
+    buffer.append(getNumOutstandingOperations());
+    buffer.append(')');
+  }
+
+
+
+  /**
+   * This class holds a shared connection along with the number of operations
+   * currently outstanding on it.
+   */
+  private static final class SharedConnection
+  {
+    // The number of operations currently outstanding on the connection.
+    @NotNull private final AtomicInteger outstanding;
+
+    // Indicates whether the connection has been removed from its slot.
+    private volatile boolean retired;
+
+    // Indicates whether the connection has been terminated.
+    @NotNull private final AtomicBoolean terminated;
+
+    // The disconnect type to use when the connection is terminated.
+    @NotNull private volatile DisconnectType disconnectType;
+
+    // The connection.
+    @NotNull private final LDAPConnection connection;
+
+
+
+    /**
+     * Creates a new shared connection with the provided information.
+     *
+     * @param  connection   The connection.
+     * @param  outstanding  The initial number of outstanding operations.
+     */
+    private SharedConnection(@NotNull final LDAPConnection connection,
+                             final int outstanding)
+    {
+      this.connection = connection;
+      this.outstanding = new AtomicInteger(outstanding);
+
+      retired = false;
+      terminated = new AtomicBoolean(false);
+      disconnectType = DisconnectType.POOLED_CONNECTION_DEFUNCT;
+    }
+  }
+}
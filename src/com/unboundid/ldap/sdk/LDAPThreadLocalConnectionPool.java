@@ -56,6 +56,7 @@ import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
+import com.unboundid.util.VirtualThreadSupport;
 
 import static com.unboundid.ldap.sdk.LDAPMessages.*;
 
@@ -251,7 +252,8 @@ public final class LDAPThreadLocalConnectionPool
     minDisconnectInterval     = 0L;
 
     healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
-    healthCheckThread.start();
+    VirtualThreadSupport.start(healthCheckThread,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
 
     final LDAPConnectionOptions opts = connection.getConnectionOptions();
     if (opts.usePooledSchema())
@@ -381,7 +383,8 @@ public final class LDAPThreadLocalConnectionPool
     closed                    = false;
 
     healthCheckThread = new LDAPConnectionPoolHealthCheckThread(this);
-    healthCheckThread.start();
+    VirtualThreadSupport.start(healthCheckThread,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
   }
 
 
@@ -791,6 +794,14 @@ public final class LDAPThreadLocalConnectionPool
       {
         final LDAPException le = (LDAPException) t;
 
+        // If the bind was rejected by a circuit breaker, then it was never
+        // sent, and the connection is still authenticated as it was before.
+        if (le.getResultCode() == ResultCode.CIRCUIT_BREAKER_OPEN)
+        {
+          releaseConnection(conn);
+          throw le;
+        }
+
         boolean shouldThrow;
         try
         {
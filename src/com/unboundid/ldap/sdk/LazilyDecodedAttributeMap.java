@@ -0,0 +1,764 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.matchingrules.MatchingRule;
+import com.unboundid.ldap.sdk.schema.Schema;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.StringInternTable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a map of attributes for an entry that retains the raw
+ * BER encoding of the attribute list from a search result entry and does not
+ * decode it until the first time any of the attributes is accessed.  When the
+ * attributes are decoded, their values will be created as views into the same
+ * backing array rather than as copies of the encoded data.
+ * <BR><BR>
+ * The structure of the encoded attribute list is validated when the map is
+ * created, so decoding the attributes at a later time will not fail.  Every
+ * method inherited from {@code LinkedHashMap} will ensure that the attributes
+ * have been decoded before accessing the map content.
+ * <BR><BR>
+ * As with {@code LinkedHashMap}, this class is not threadsafe, and it must not
+ * be altered while other threads may be accessing it.  The only exception is
+ * that the decoding itself is synchronized, so a map that is never altered
+ * (for example, one held by a read-only entry) may be read by multiple
+ * threads concurrently, and the attributes will be decoded only once.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class LazilyDecodedAttributeMap
+      extends LinkedHashMap<String,Attribute>
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -1629066478719545632L;
+
+
+
+  // Indicates whether the attributes have been decoded.
+  private volatile boolean decoded;
+
+  // The encoded attribute list.  It will be null after the attributes have
+  // been decoded.
+  @Nullable private transient byte[] encodedAttributes;
+
+  // The schema to use to select the matching rule for each attribute.
+  @Nullable private final transient Schema schema;
+
+  // The table to use to intern attribute names.
+  @Nullable private final transient StringInternTable internTable;
+
+
+
+  /**
+   * Creates a new lazily-decoded attribute map for the provided encoded
+   * attribute list.
+   *
+   * @param  encodedAttributes  The value of the BER sequence containing the
+   *                            encoded attributes.  It must not be
+   *                            {@code null}, and it must not be altered after
+   *                            creating this map.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule for each attribute.  It may be
+   *                            {@code null} if the default matching rule should
+   *                            always be used.
+   *
+   * @throws  LDAPException  If the provided data is not a valid encoding of a
+   *                         list of attributes.
+   */
+  LazilyDecodedAttributeMap(@NotNull final byte[] encodedAttributes,
+                            @Nullable final Schema schema)
+       throws LDAPException
+  {
+    this(encodedAttributes, schema, null);
+  }
+
+
+
+  /**
+   * Creates a new lazily-decoded attribute map for the provided encoded
+   * attribute list.
+   *
+   * @param  encodedAttributes  The value of the BER sequence containing the
+   *                            encoded attributes.  It must not be
+   *                            {@code null}, and it must not be altered after
+   *                            creating this map.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule for each attribute.  It may be
+   *                            {@code null} if the default matching rule should
+   *                            always be used.
+   * @param  internTable        The table to use to intern attribute names when
+   *                            the attributes are decoded.  It may be
+   *                            {@code null} if attribute names should not be
+   *                            interned.
+   *
+   * @throws  LDAPException  If the provided data is not a valid encoding of a
+   *                         list of attributes.
+   */
+  LazilyDecodedAttributeMap(@NotNull final byte[] encodedAttributes,
+                            @Nullable final Schema schema,
+                            @Nullable final StringInternTable internTable)
+       throws LDAPException
+  {
+    super(StaticUtils.computeMapCapacity(10));
+
+    decode(encodedAttributes, null, null, null);
+
+    this.encodedAttributes = encodedAttributes;
+    this.schema = schema;
+    this.internTable = internTable;
+
+    decoded = false;
+  }
+
+
+
+  /**
+   * Ensures that the attributes have been decoded.
+   */
+  private void ensureDecoded()
+  {
+    if (decoded)
+    {
+      return;
+    }
+
+    synchronized (this)
+    {
+      if (decoded)
+      {
+        return;
+      }
+
+      final List<Attribute> attributeList = new ArrayList<>(10);
+      try
+      {
+        decode(encodedAttributes, schema, internTable, attributeList);
+      }
+      catch (final LDAPException le)
+      {
+        // This should never happen, since the encoding was validated when the
+        // map was created.
+        Debug.debugException(le);
+        throw new LDAPRuntimeException(le);
+      }
+
+      for (final Attribute a : attributeList)
+      {
+        String name = StaticUtils.toLowerCase(a.getName());
+        if (internTable != null)
+        {
+          name = internTable.intern(name);
+        }
+
+        final Attribute existingAttr = super.get(name);
+        if (existingAttr == null)
+        {
+          super.put(name, a);
+        }
+        else
+        {
+          super.put(name, Attribute.mergeAttributes(existingAttr, a));
+        }
+      }
+
+      encodedAttributes = null;
+      decoded = true;
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the attributes in this map have been decoded.  This is
+   * intended for testing purposes.
+   *
+   * @return  {@code true} if the attributes have been decoded, or
+   *          {@code false} if not.
+   */
+  boolean isDecoded()
+  {
+    return decoded;
+  }
+
+
+
+  /**
+   * Walks through the provided encoded attribute list, optionally decoding
+   * each attribute.
+   *
+   * @param  encoded      The value of the BER sequence containing the
+   *                      encoded attributes.
+   * @param  schema       The schema to use to select the matching rule for
+   *                      each attribute.
+   * @param  internTable  The table to use to intern attribute names.  It may
+   *                      be {@code null} if attribute names should not be
+   *                      interned.
+   * @param  attributes   The list to which the decoded attributes should be
+   *                      added.  It may be {@code null} if the encoding
+   *                      should only be validated.
+   *
+   * @throws  LDAPException  If the provided data is not a valid encoding of a
+   *                         list of attributes.
+   */
+  private static void decode(@NotNull final byte[] encoded,
+                             @Nullable final Schema schema,
+                             @Nullable final StringInternTable internTable,
+                             @Nullable final List<Attribute> attributes)
+          throws LDAPException
+  {
+    final int[] header = new int[2];
+    int pos = 0;
+    while (pos < encoded.length)
+    {
+      // Each attribute is a sequence containing the attribute description and
+      // a set of values.
+      readHeader(encoded, pos, encoded.length, header);
+      final int attrEnd = header[0] + header[1];
+
+      readHeader(encoded, header[0], attrEnd, header);
+      final int nameOffset = header[0];
+      final int nameLength = header[1];
+
+      readHeader(encoded, (nameOffset + nameLength), attrEnd, header);
+      final int valueSetEnd = header[0] + header[1];
+      if (valueSetEnd != attrEnd)
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_LAZY_ATTRS_ELEMENT_TRUNCATED.get(pos));
+      }
+
+      final List<ASN1OctetString> values;
+      if (attributes == null)
+      {
+        values = null;
+      }
+      else
+      {
+        values = new ArrayList<>(5);
+      }
+
+      int valuePos = header[0];
+      while (valuePos < valueSetEnd)
+      {
+        readHeader(encoded, valuePos, valueSetEnd, header);
+        if (values != null)
+        {
+          values.add(new ASN1OctetString(encoded, header[0], header[1]));
+        }
+
+        valuePos = header[0] + header[1];
+      }
+
+      if (attributes != null)
+      {
+        String name =
+             StaticUtils.toUTF8String(encoded, nameOffset, nameLength);
+        if (internTable != null)
+        {
+          name = internTable.intern(name);
+        }
+
+        attributes.add(new Attribute(name,
+             MatchingRule.selectEqualityMatchingRule(name, schema),
+             values.toArray(new ASN1OctetString[values.size()])));
+      }
+
+      pos = attrEnd;
+    }
+  }
+
+
+
+  /**
+   * Reads the BER type and length of the element at the specified position.
+   *
+   * @param  encoded  The array containing the encoded data.
+   * @param  pos      The position at which the element starts.
+   * @param  end      The position just past the end of the enclosing element.
+   * @param  header   An array that will be updated so that the first element
+   *                  holds the position at which the value begins and the
+   *                  second holds the length of the value.
+   *
+   * @throws  LDAPException  If the element is malformed or extends beyond the
+   *                         end of the enclosing element.
+   */
+  private static void readHeader(@NotNull final byte[] encoded, final int pos,
+                                 final int end, @NotNull final int[] header)
+          throws LDAPException
+  {
+    // Skip over the BER type, which must be a single byte.
+    int p = pos + 1;
+    if (p >= end)
+    {
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_LAZY_ATTRS_ELEMENT_TRUNCATED.get(pos));
+    }
+
+    int length = (encoded[p++] & 0xFF);
+    if ((length & 0x80) != 0)
+    {
+      final int numLengthBytes = (length & 0x7F);
+      if ((numLengthBytes < 1) || (numLengthBytes > 4))
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_LAZY_ATTRS_INVALID_LENGTH.get(pos));
+      }
+
+      if ((p + numLengthBytes) > end)
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_LAZY_ATTRS_ELEMENT_TRUNCATED.get(pos));
+      }
+
+      length = 0;
+      for (int i=0; i < numLengthBytes; i++)
+      {
+        length = (length << 8) | (encoded[p++] & 0xFF);
+      }
+
+      if (length < 0)
+      {
+        throw new LDAPException(ResultCode.DECODING_ERROR,
+             ERR_LAZY_ATTRS_INVALID_LENGTH.get(pos));
+      }
+    }
+
+    if (length > (end - p))
+    {
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_LAZY_ATTRS_ELEMENT_TRUNCATED.get(pos));
+    }
+
+    header[0] = p;
+    header[1] = length;
+  }
+
+
+
+  /**
+   * Retrieves a fully-decoded copy of this map to be serialized in place of
+   * this map.
+   *
+   * @return  A fully-decoded copy of this map.
+   */
+  @NotNull()
+  private Object writeReplace()
+  {
+    ensureDecoded();
+    return super.clone();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int size()
+  {
+    ensureDecoded();
+    return super.size();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean isEmpty()
+  {
+    ensureDecoded();
+    return super.isEmpty();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute get(@Nullable final Object key)
+  {
+    ensureDecoded();
+    return super.get(key);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute getOrDefault(@Nullable final Object key,
+                                @Nullable final Attribute defaultValue)
+  {
+    ensureDecoded();
+    return super.getOrDefault(key, defaultValue);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean containsKey(@Nullable final Object key)
+  {
+    ensureDecoded();
+    return super.containsKey(key);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean containsValue(@Nullable final Object value)
+  {
+    ensureDecoded();
+    return super.containsValue(value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute put(@NotNull final String key,
+                       @NotNull final Attribute value)
+  {
+    ensureDecoded();
+    return super.put(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void putAll(
+       @NotNull final Map<? extends String,? extends Attribute> m)
+  {
+    ensureDecoded();
+    super.putAll(m);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute putIfAbsent(@NotNull final String key,
+                               @NotNull final Attribute value)
+  {
+    ensureDecoded();
+    return super.putIfAbsent(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute remove(@Nullable final Object key)
+  {
+    ensureDecoded();
+    return super.remove(key);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean remove(@Nullable final Object key,
+                        @Nullable final Object value)
+  {
+    ensureDecoded();
+    return super.remove(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute replace(@NotNull final String key,
+                           @NotNull final Attribute value)
+  {
+    ensureDecoded();
+    return super.replace(key, value);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean replace(@NotNull final String key,
+                         @NotNull final Attribute oldValue,
+                         @NotNull final Attribute newValue)
+  {
+    ensureDecoded();
+    return super.replace(key, oldValue, newValue);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void replaceAll(@NotNull final BiFunction<? super String,
+       ? super Attribute,? extends Attribute> function)
+  {
+    ensureDecoded();
+    super.replaceAll(function);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute computeIfAbsent(@NotNull final String key,
+       @NotNull final Function<? super String,? extends Attribute> function)
+  {
+    ensureDecoded();
+    return super.computeIfAbsent(key, function);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute computeIfPresent(@NotNull final String key,
+       @NotNull final BiFunction<? super String,? super Attribute,
+            ? extends Attribute> function)
+  {
+    ensureDecoded();
+    return super.computeIfPresent(key, function);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute compute(@NotNull final String key,
+       @NotNull final BiFunction<? super String,? super Attribute,
+            ? extends Attribute> function)
+  {
+    ensureDecoded();
+    return super.compute(key, function);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @Nullable()
+  public Attribute merge(@NotNull final String key,
+       @NotNull final Attribute value,
+       @NotNull final BiFunction<? super Attribute,? super Attribute,
+            ? extends Attribute> function)
+  {
+    ensureDecoded();
+    return super.merge(key, value, function);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void clear()
+  {
+    ensureDecoded();
+    super.clear();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<String> keySet()
+  {
+    ensureDecoded();
+    return super.keySet();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Collection<Attribute> values()
+  {
+    ensureDecoded();
+    return super.values();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Set<Map.Entry<String,Attribute>> entrySet()
+  {
+    ensureDecoded();
+    return super.entrySet();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void forEach(
+       @NotNull final BiConsumer<? super String,? super Attribute> action)
+  {
+    ensureDecoded();
+    super.forEach(action);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public Object clone()
+  {
+    ensureDecoded();
+    return super.clone();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public boolean equals(@Nullable final Object o)
+  {
+    ensureDecoded();
+    return super.equals(o);
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public int hashCode()
+  {
+    ensureDecoded();
+    return super.hashCode();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    ensureDecoded();
+    return super.toString();
+  }
+}
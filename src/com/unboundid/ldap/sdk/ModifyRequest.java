@@ -41,9 +41,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Timer;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
@@ -59,6 +56,8 @@ import com.unboundid.ldif.LDIFException;
 import com.unboundid.ldif.LDIFModifyChangeRecord;
 import com.unboundid.ldif.LDIFReader;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -112,9 +111,9 @@ public final class ModifyRequest
 
 
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
   // The set of modifications to perform.
   @NotNull private final ArrayList<Modification> modifications;
@@ -686,7 +685,19 @@ public final class ModifyRequest
     }
 
     final long requestTime = System.nanoTime();
-    processAsync(connection, null);
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    responseHandoff = handoff;
+    try
+    {
+      processAsync(connection, null);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      responseHandoff = null;
+      handoff.release();
+      throw le;
+    }
 
     try
     {
@@ -695,14 +706,7 @@ public final class ModifyRequest
       try
       {
         final long responseTimeout = getResponseTimeoutMillis(connection);
-        if (responseTimeout > 0)
-        {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(responseTimeout);
       }
       catch (final InterruptedException ie)
       {
@@ -717,6 +721,8 @@ public final class ModifyRequest
     finally
     {
       connection.deregisterResponseAcceptor(messageID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
@@ -757,6 +763,7 @@ public final class ModifyRequest
     if (resultListener == null)
     {
       asyncRequestID = null;
+      responseHandoff.expect(messageID);
       connection.registerResponseAcceptor(messageID, this);
     }
     else
@@ -769,7 +776,7 @@ public final class ModifyRequest
 
       if (timeout > 0L)
       {
-        final Timer timer = connection.getTimer();
+        final HashedWheelTimer timer = connection.getTimer();
         final AsyncTimeoutTimerTask timerTask =
              new AsyncTimeoutTimerTask(helper);
         timer.schedule(timerTask, timeout);
@@ -948,6 +955,7 @@ public final class ModifyRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       if (connection.getConnectionOptions().abandonOnTimeout())
       {
         connection.abandon(messageID);
@@ -1070,23 +1078,11 @@ public final class ModifyRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
-    {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimer;
+import com.unboundid.util.HashedWheelTimerTask;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+
+
+
+/**
+ * This class provides a mechanism for examining the available connections in
+ * a connection pool during health check processing.  Up to a configurable
+ * number of connections may be examined concurrently, so that a health check
+ * that needs to communicate with the server does not require a full round trip
+ * for each connection in turn.  The checks for individual connections may also
+ * be randomly spread across a jitter window, so that connections are not all
+ * removed from the pool at the same time.
+ * <BR><BR>
+ * Each worker repeatedly takes the oldest available connection from the pool
+ * and examines it, so no more than the configured number of connections will
+ * be unavailable because of health checking at any time.  The thread that
+ * invokes the {@link #checkConnections} method acts as one of the workers, and
+ * the remaining workers run in an executor that is owned by the pool and
+ * reused across health checks.
+ * <BR><BR>
+ * If the checks are spread across a jitter window, then the start of each
+ * check is scheduled on the shared {@link HashedWheelTimer}, and the check is
+ * submitted to the executor when that timer fires, so no thread is occupied
+ * while waiting for a check to start.  In that case, the number of checks that
+ * may run concurrently is limited by the size of the executor.
+ */
+final class ParallelPoolHealthChecker
+{
+  // The maximum length of time in milliseconds that the thread invoking
+  // checkConnections will wait at once for scheduled checks to complete, so
+  // that it can notice if the pool has been closed.
+  private static final long MAX_WAIT_MILLIS = 100L;
+
+
+
+  // Indicates whether to check to see if connections have been established for
+  // longer than the maximum connection age.
+  private final boolean checkForExpiration;
+
+  // Indicates whether a check has found that there are no more connections to
+  // examine.
+  private volatile boolean noMoreConnections;
+
+  // The number of connections that were found to be defunct.
+  @NotNull private final AtomicInteger numDefunct;
+
+  // The number of connections that have been examined.
+  @NotNull private final AtomicInteger numExamined;
+
+  // The number of connections that were found to be expired.
+  @NotNull private final AtomicInteger numExpired;
+
+  // The index of the next connection check to perform.
+  @NotNull private final AtomicInteger nextCheckIndex;
+
+  // The maximum number of connections to examine.
+  private final int maxConnections;
+
+  // The number of connections to examine concurrently.
+  private final int parallelism;
+
+  // The health check to use.
+  @NotNull private final LDAPConnectionPoolHealthCheck healthCheck;
+
+  // The connection pool whose connections will be examined.
+  @NotNull private final LDAPConnectionPool pool;
+
+  // The executor in which the additional workers will run.
+  @NotNull private final ThreadPoolExecutor executor;
+
+  // The values of System.nanoTime() at which each of the connection checks
+  // should start, in ascending order, or null if there is no jitter.
+  @Nullable private final long[] checkStartTimes;
+
+  // The set of connections that have already been examined, or that were
+  // created to replace a connection that was examined.
+  @NotNull private final Set<LDAPConnection> examinedConnections;
+
+
+
+  /**
+   * Creates a new parallel pool health checker with the provided settings.
+   *
+   * @param  pool                The connection pool whose connections will be
+   *                             examined.
+   * @param  healthCheck         The health check to use.
+   * @param  executor            The executor in which the workers other than
+   *                             the one running in the thread that invokes
+   *                             {@link #checkConnections} will run.
+   * @param  checkForExpiration  Indicates whether to check to see if
+   *                             connections have been established for longer
+   *                             than the maximum connection age.
+   * @param  maxConnections      The maximum number of connections to examine.
+   * @param  parallelism         The maximum number of connections to examine
+   *                             concurrently.
+   * @param  jitterMillis        The maximum length of time in milliseconds over
+   *                             which the connection checks should be randomly
+   *                             spread.  A value of zero indicates that the
+   *                             connections should be checked as quickly as
+   *                             possible.
+   */
+  ParallelPoolHealthChecker(@NotNull final LDAPConnectionPool pool,
+                            @NotNull final LDAPConnectionPoolHealthCheck
+                                 healthCheck,
+                            @NotNull final ThreadPoolExecutor executor,
+                            final boolean checkForExpiration,
+                            final int maxConnections, final int parallelism,
+                            final long jitterMillis)
+  {
+    this.pool               = pool;
+    this.healthCheck        = healthCheck;
+    this.executor           = executor;
+    this.checkForExpiration = checkForExpiration;
+    this.maxConnections     = maxConnections;
+    this.parallelism        = Math.max(1, Math.min(parallelism,
+                                                   maxConnections));
+
+    noMoreConnections   = false;
+    numDefunct          = new AtomicInteger(0);
+    numExamined         = new AtomicInteger(0);
+    numExpired          = new AtomicInteger(0);
+    nextCheckIndex      = new AtomicInteger(0);
+    examinedConnections = ConcurrentHashMap.newKeySet();
+
+    if ((jitterMillis > 0L) && (maxConnections > 0))
+    {
+      final ThreadLocalRandom random = ThreadLocalRandom.current();
+      final long startTime = System.nanoTime();
+      final long jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMillis);
+      checkStartTimes = new long[maxConnections];
+      for (int i=0; i < maxConnections; i++)
+      {
+        checkStartTimes[i] = startTime + random.nextLong(jitterNanos);
+      }
+      Arrays.sort(checkStartTimes);
+    }
+    else
+    {
+      checkStartTimes = null;
+    }
+  }
+
+
+
+  /**
+   * Examines the available connections in the pool.  This method will not
+   * return until all of the connections have been examined, until there are
+   * no more connections to examine, or until the pool has been closed.
+   */
+  void checkConnections()
+  {
+    if (checkStartTimes != null)
+    {
+      checkConnectionsWithJitter(checkStartTimes);
+      return;
+    }
+
+    if (parallelism <= 1)
+    {
+      checkConnectionsInCurrentThread();
+      return;
+    }
+
+    final List<Future<?>> results = new ArrayList<>(parallelism - 1);
+    for (int i=1; i < parallelism; i++)
+    {
+      try
+      {
+        results.add(executor.submit(new Runnable()
+        {
+          @Override()
+          public void run()
+          {
+            checkConnectionsInCurrentThread();
+          }
+        }));
+      }
+      catch (final RejectedExecutionException e)
+      {
+        // The pool has been closed, so the remaining connections will only be
+        // examined in the current thread.
+        Debug.debugException(e);
+        break;
+      }
+    }
+
+    checkConnectionsInCurrentThread();
+
+    for (final Future<?> f : results)
+    {
+      try
+      {
+        f.get();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+
+        if (e instanceof InterruptedException)
+        {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Schedules each connection check to start at its randomly-selected time and
+   * waits for all of them to complete.  This method will return early if the
+   * pool is closed, if there are no more connections to examine, or if the
+   * current thread is interrupted.
+   *
+   * @param  startTimes  The values of {@code System.nanoTime()} at which each
+   *                     of the connection checks should start.
+   */
+  private void checkConnectionsWithJitter(@NotNull final long[] startTimes)
+  {
+    final CountDownLatch remainingChecks =
+         new CountDownLatch(startTimes.length);
+    final List<HashedWheelTimerTask> timerTasks =
+         new ArrayList<>(startTimes.length);
+    final HashedWheelTimer timer = HashedWheelTimer.getSharedTimer();
+
+    final long currentTime = System.nanoTime();
+    for (final long startTime : startTimes)
+    {
+      final HashedWheelTimerTask task = new HashedWheelTimerTask()
+      {
+        @Override()
+        public void run()
+        {
+          submitCheck(remainingChecks);
+        }
+      };
+
+      try
+      {
+        timer.schedule(task, Math.max(0L,
+             TimeUnit.NANOSECONDS.toMillis(startTime - currentTime)));
+        timerTasks.add(task);
+      }
+      catch (final IllegalStateException e)
+      {
+        Debug.debugException(e);
+        submitCheck(remainingChecks);
+      }
+    }
+
+    try
+    {
+      while (! remainingChecks.await(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS))
+      {
+        if (pool.isClosed() || noMoreConnections)
+        {
+          break;
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Debug.debugException(e);
+      Thread.currentThread().interrupt();
+    }
+
+    for (final HashedWheelTimerTask task : timerTasks)
+    {
+      task.cancel();
+    }
+  }
+
+
+
+  /**
+   * Submits a single connection check to the executor.
+   *
+   * @param  remainingChecks  The latch to count down when the check has
+   *                          completed.
+   */
+  private void submitCheck(@NotNull final CountDownLatch remainingChecks)
+  {
+    try
+    {
+      executor.execute(new Runnable()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            checkConnection();
+          }
+          finally
+          {
+            remainingChecks.countDown();
+          }
+        }
+      });
+    }
+    catch (final RejectedExecutionException e)
+    {
+      // The pool has been closed, so the connection will not be examined.
+      Debug.debugException(e);
+      remainingChecks.countDown();
+    }
+  }
+
+
+
+  /**
+   * Repeatedly examines connections in the current thread until there are no
+   * more connections to examine.
+   */
+  private void checkConnectionsInCurrentThread()
+  {
+    while (true)
+    {
+      final int checkIndex = nextCheckIndex.getAndIncrement();
+      if ((checkIndex >= maxConnections) || (! checkConnection()))
+      {
+        return;
+      }
+    }
+  }
+
+
+
+  /**
+   * Examines the oldest available connection that has not yet been examined.
+   *
+   * @return  {@code true} if a connection was examined, or {@code false} if
+   *          there are no more connections to examine or the pool has been
+   *          closed.
+   */
+  private boolean checkConnection()
+  {
+    if (noMoreConnections || pool.isClosed())
+    {
+      return false;
+    }
+
+    try
+    {
+      if (pool.healthCheckAvailableConnection(healthCheck, checkForExpiration,
+           examinedConnections, numDefunct, numExpired))
+      {
+        numExamined.incrementAndGet();
+      }
+      else
+      {
+        noMoreConnections = true;
+        return false;
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that were examined.
+   *
+   * @return  The number of connections that were examined.
+   */
+  int getNumExamined()
+  {
+    return numExamined.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that were found to be defunct.
+   *
+   * @return  The number of connections that were found to be defunct.
+   */
+  int getNumDefunct()
+  {
+    return numDefunct.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of connections that were found to be expired.
+   *
+   * @return  The number of connections that were found to be expired.
+   */
+  int getNumExpired()
+  {
+    return numExpired.get();
+  }
+}
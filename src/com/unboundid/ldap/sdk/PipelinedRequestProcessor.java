@@ -0,0 +1,461 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for processing a list of requests over a
+ * single connection without waiting for the response to one request before
+ * sending the next.  Up to a specified maximum number of requests may be
+ * outstanding at any time, and the results will be returned in the same order
+ * as the requests.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class PipelinedRequestProcessor
+{
+  // The async request IDs for the requests that have been sent, indexed by
+  // request position.
+  @NotNull private final AtomicReferenceArray<AsyncRequestID> requestIDs;
+
+  // The results obtained for the requests, indexed by request position.
+  @NotNull private final AtomicReferenceArray<LDAPResult> results;
+
+  // The latch that will be used to wait for all of the results to be received.
+  @NotNull private final CountDownLatch completionLatch;
+
+  // The connection over which the requests will be sent.
+  @NotNull private final LDAPConnection connection;
+
+  // The requests to be processed.
+  @NotNull private final List<LDAPRequest> requests;
+
+  // The semaphore used to limit the number of outstanding requests.
+  @NotNull private final Semaphore outstandingRequests;
+
+
+
+  /**
+   * Creates a new pipelined request processor with the provided information.
+   *
+   * @param  connection      The connection over which the requests will be
+   *                         sent.  It must not be {@code null}.
+   * @param  requests        The requests to be processed.  It must not be
+   *                         {@code null}.
+   * @param  maxOutstanding  The maximum number of requests that may be
+   *                         outstanding at any time.  It must be greater than
+   *                         zero.
+   */
+  PipelinedRequestProcessor(@NotNull final LDAPConnection connection,
+                            @NotNull final List<LDAPRequest> requests,
+                            final int maxOutstanding)
+  {
+    this.connection = connection;
+    this.requests = requests;
+
+    requestIDs = new AtomicReferenceArray<>(requests.size());
+    results = new AtomicReferenceArray<>(requests.size());
+    completionLatch = new CountDownLatch(requests.size());
+    outstandingRequests = new Semaphore(maxOutstanding);
+  }
+
+
+
+  /**
+   * Ensures that all of the provided requests may be processed in a pipeline,
+   * and that the connection is capable of processing them.
+   *
+   * @param  connection  The connection over which the requests will be sent.
+   * @param  requests    The requests to be validated.
+   *
+   * @throws  LDAPException  If any of the requests is not an add, compare,
+   *                         delete, modify, modify DN, or search request, or
+   *                         if the connection is operating in synchronous
+   *                         mode.
+   */
+  static void validate(@NotNull final LDAPConnection connection,
+                       @NotNull final List<LDAPRequest> requests)
+         throws LDAPException
+  {
+    for (final LDAPRequest r : requests)
+    {
+      switch (r.getOperationType())
+      {
+        case ADD:
+        case COMPARE:
+        case DELETE:
+        case MODIFY:
+        case MODIFY_DN:
+        case SEARCH:
+          break;
+
+        case ABANDON:
+        case BIND:
+        case EXTENDED:
+        case UNBIND:
+        default:
+          throw new LDAPException(ResultCode.PARAM_ERROR,
+               ERR_PIPELINED_REQUEST_OP_NOT_SUPPORTED.get(String.valueOf(r)));
+      }
+    }
+
+    if (connection.synchronousMode())
+    {
+      throw new LDAPException(ResultCode.NOT_SUPPORTED,
+           ERR_ASYNC_NOT_SUPPORTED_IN_SYNCHRONOUS_MODE.get());
+    }
+  }
+
+
+
+  /**
+   * Sends all of the requests and waits for their results.  Each request is
+   * subject to the connection's response timeout for its operation type.  If
+   * that timeout is zero for any of the requests, then this will wait
+   * indefinitely for the server to respond to that request.
+   *
+   * @return  The results for the requests, in the same order as the requests.
+   *
+   * @throws  LDAPException  If the thread is interrupted while sending the
+   *                         requests or waiting for the results.  In that
+   *                         case, any request that has been sent but has not
+   *                         yet completed will have been abandoned.
+   */
+  @NotNull()
+  List<LDAPResult> process()
+       throws LDAPException
+  {
+    try
+    {
+      for (int i=0; i < requests.size(); i++)
+      {
+        outstandingRequests.acquire();
+        sendRequest(i, requests.get(i));
+      }
+
+      completionLatch.await();
+    }
+    catch (final InterruptedException e)
+    {
+      Debug.debugException(e);
+      abandonOutstandingRequests();
+      Thread.currentThread().interrupt();
+      throw new LDAPException(ResultCode.LOCAL_ERROR,
+           ERR_PIPELINED_REQUESTS_INTERRUPTED.get(String.valueOf(connection)),
+           e);
+    }
+
+    final ArrayList<LDAPResult> resultList = new ArrayList<>(results.length());
+    for (int i=0; i < results.length(); i++)
+    {
+      resultList.add(results.get(i));
+    }
+
+    return Collections.unmodifiableList(resultList);
+  }
+
+
+
+  /**
+   * Abandons any request that has been sent but for which no result has been
+   * received, so that its response acceptor does not remain registered with
+   * the connection.
+   */
+  private void abandonOutstandingRequests()
+  {
+    for (int i=0; i < requestIDs.length(); i++)
+    {
+      final AsyncRequestID requestID = requestIDs.get(i);
+      if ((requestID != null) && (results.get(i) == null))
+      {
+        requestID.cancel(false);
+      }
+    }
+  }
+
+
+
+  /**
+   * Sends the provided request without waiting for its result.  If a problem
+   * occurs while sending the request, then a failure result will be recorded
+   * for it.
+   *
+   * @param  index    The position of the request in the list of requests.
+   * @param  request  The request to send.
+   */
+  private void sendRequest(final int index,
+                           @NotNull final LDAPRequest request)
+  {
+    try
+    {
+      final AsyncRequestID requestID;
+      switch (request.getOperationType())
+      {
+        case ADD:
+          requestID = ((AddRequest) request).processAsync(connection,
+               new PipelinedResultListener(index, null));
+          break;
+        case COMPARE:
+          requestID = ((CompareRequest) request).processAsync(connection,
+               new PipelinedResultListener(index, null));
+          break;
+        case DELETE:
+          requestID = ((DeleteRequest) request).processAsync(connection,
+               new PipelinedResultListener(index, null));
+          break;
+        case MODIFY:
+          requestID = ((ModifyRequest) request).processAsync(connection,
+               new PipelinedResultListener(index, null));
+          break;
+        case MODIFY_DN:
+          requestID = ((ModifyDNRequest) request).processAsync(connection,
+               new PipelinedResultListener(index, null));
+          break;
+        case SEARCH:
+          final SearchRequest searchRequest = (SearchRequest) request;
+          requestID = searchRequest.processAsync(connection,
+               new PipelinedResultListener(index,
+                    searchRequest.getSearchResultListener()));
+          break;
+        default:
+          return;
+      }
+
+      requestIDs.set(index, requestID);
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+
+      final LDAPResult result;
+      if (request.getOperationType() == OperationType.SEARCH)
+      {
+        result = new SearchResult(le);
+      }
+      else
+      {
+        result = le.toLDAPResult();
+      }
+
+      resultReceived(index, result);
+    }
+  }
+
+
+
+  /**
+   * Records the result for the request at the specified position and allows
+   * another request to be sent.  If a result has already been recorded for
+   * the request, then the new result will be ignored.
+   *
+   * @param  index   The position of the request in the list of requests.
+   * @param  result  The result for the request.
+   */
+  private void resultReceived(final int index,
+                              @NotNull final LDAPResult result)
+  {
+    if (results.compareAndSet(index, null, result))
+    {
+      outstandingRequests.release();
+      completionLatch.countDown();
+    }
+  }
+
+
+
+  /**
+   * This class provides an asynchronous result listener that will record the
+   * result for a single request in the pipeline.  For search requests, it will
+   * forward entries and references to the search result listener from the
+   * original request, or collect them in the search result if the request did
+   * not have a listener.
+   */
+  private final class PipelinedResultListener
+          implements AsyncResultListener, AsyncCompareResultListener,
+                     AsyncSearchResultListener
+  {
+    /**
+     * The serial version UID for this serializable class.
+     */
+    private static final long serialVersionUID = 4105873632196312750L;
+
+
+
+    // The position of the associated request in the list of requests.
+    private final int index;
+
+    // The entries collected for a search request without a listener.
+    @Nullable private final List<SearchResultEntry> entries;
+
+    // The references collected for a search request without a listener.
+    @Nullable private final List<SearchResultReference> references;
+
+    // The search result listener from the original search request, if any.
+    @Nullable private final SearchResultListener searchResultListener;
+
+
+
+    /**
+     * Creates a new pipelined result listener for the request at the
+     * specified position.
+     *
+     * @param  index                 The position of the associated request in
+     *                               the list of requests.
+     * @param  searchResultListener  The search result listener from the
+     *                               original search request, if any.
+     */
+    private PipelinedResultListener(final int index,
+                 @Nullable final SearchResultListener searchResultListener)
+    {
+      this.index = index;
+      this.searchResultListener = searchResultListener;
+
+      if (searchResultListener == null)
+      {
+        entries = new ArrayList<>(10);
+        references = new ArrayList<>(10);
+      }
+      else
+      {
+        entries = null;
+        references = null;
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void ldapResultReceived(@NotNull final AsyncRequestID requestID,
+                                   @NotNull final LDAPResult ldapResult)
+    {
+      resultReceived(index, ldapResult);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void compareResultReceived(
+                     @NotNull final AsyncRequestID requestID,
+                     @NotNull final CompareResult compareResult)
+    {
+      resultReceived(index, compareResult);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchEntryReturned(
+                     @NotNull final SearchResultEntry searchEntry)
+    {
+      if (searchResultListener == null)
+      {
+        entries.add(searchEntry);
+      }
+      else
+      {
+        searchResultListener.searchEntryReturned(searchEntry);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchReferenceReturned(
+                     @NotNull final SearchResultReference searchReference)
+    {
+      if (searchResultListener == null)
+      {
+        references.add(searchReference);
+      }
+      else
+      {
+        searchResultListener.searchReferenceReturned(searchReference);
+      }
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void searchResultReceived(@NotNull final AsyncRequestID requestID,
+                                     @NotNull final SearchResult searchResult)
+    {
+      if (searchResultListener == null)
+      {
+        searchResult.setCounts(searchResult.getEntryCount(), entries,
+             searchResult.getReferenceCount(), references);
+      }
+      else if (searchResultListener instanceof AsyncSearchResultListener)
+      {
+        ((AsyncSearchResultListener) searchResultListener).
+             searchResultReceived(requestID, searchResult);
+      }
+
+      resultReceived(index, searchResult);
+    }
+  }
+}
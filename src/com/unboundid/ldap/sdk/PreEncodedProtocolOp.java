@@ -0,0 +1,458 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1BufferSequence;
+import com.unboundid.asn1.ASN1Constants;
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1Exception;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.ProtocolOp;
+import com.unboundid.util.Debug;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a protocol op that holds the encoded representation of
+ * a request protocol op and its controls, so that they can be written to an
+ * ASN.1 buffer without being re-encoded for every request.  It may optionally
+ * contain a parameter, which is a single primitive element in the encoded
+ * request whose value may be changed for each request.  Only the elements that
+ * enclose the parameter (and whose lengths therefore depend on it) are
+ * re-encoded when a parameter is used.
+ * <BR><BR>
+ * Note that this protocol op writes both the protocol op and the encoded
+ * controls, so any LDAP message that contains it must not include any
+ * controls of its own.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class PreEncodedProtocolOp
+       implements ProtocolOp
+{
+  /**
+   * An empty array of ASN.1 elements.
+   */
+  @NotNull private static final ASN1Element[] NO_ELEMENTS = new ASN1Element[0];
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 1826153427738470129L;
+
+
+
+  // The encoded elements that appear before the element on the path to the
+  // parameter at each level.  If there is no parameter, then this will contain
+  // a single array with the encoded protocol op and controls.
+  @NotNull private final ASN1Element[][] elementsBefore;
+
+  // The encoded elements that appear after the element on the path to the
+  // parameter at each level.
+  @NotNull private final ASN1Element[][] elementsAfter;
+
+  // The BER types of the constructed elements that enclose the parameter,
+  // starting with the outermost.
+  @NotNull private final byte[] enclosingTypes;
+
+  // The BER type for the parameter.
+  private final byte parameterType;
+
+  // The BER type for the protocol op.
+  private final byte protocolOpType;
+
+  // The value for the parameter, or null if there is no parameter.
+  @Nullable private final byte[] parameterValue;
+
+  // The controls that were encoded along with the protocol op.
+  @NotNull private final Control[] controls;
+
+
+
+  /**
+   * Creates a new pre-encoded protocol op from the provided protocol op and
+   * controls.
+   *
+   * @param  protocolOp   The protocol op to be encoded.
+   * @param  controls     The controls to be encoded along with the protocol op.
+   * @param  placeholder  The value of the primitive element in the encoded
+   *                      protocol op and controls that should be used as the
+   *                      parameter.  It may be {@code null} if there should
+   *                      not be a parameter.
+   *
+   * @throws  LDAPException  If a placeholder was provided, but the encoded
+   *                         request does not contain exactly one primitive
+   *                         element with that value.
+   */
+  PreEncodedProtocolOp(@NotNull final ProtocolOp protocolOp,
+                       @NotNull final Control[] controls,
+                       @Nullable final byte[] placeholder)
+       throws LDAPException
+  {
+    this.controls = controls;
+    protocolOpType = protocolOp.getProtocolOpType();
+
+    final ASN1Element opElement = protocolOp.encodeProtocolOp();
+    final ASN1Element[] topLevelElements;
+    if (controls.length == 0)
+    {
+      topLevelElements = new ASN1Element[]
+      {
+        new ASN1Element(opElement.getType(), opElement.getValue())
+      };
+    }
+    else
+    {
+      final ASN1Element controlsElement = Control.encodeControls(controls);
+      topLevelElements = new ASN1Element[]
+      {
+        new ASN1Element(opElement.getType(), opElement.getValue()),
+        new ASN1Element(controlsElement.getType(), controlsElement.getValue())
+      };
+    }
+
+    if (placeholder == null)
+    {
+      elementsBefore = new ASN1Element[][] { topLevelElements };
+      elementsAfter  = new ASN1Element[][] { NO_ELEMENTS };
+      enclosingTypes = StaticUtils.NO_BYTES;
+      parameterType  = 0x00;
+      parameterValue = null;
+      return;
+    }
+
+    final List<Integer> currentPath = new ArrayList<>(10);
+    final List<Integer> placeholderPath = new ArrayList<>(10);
+    final int numMatches = findPlaceholder(topLevelElements, placeholder,
+         currentPath, placeholderPath);
+    if (numMatches != 1)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_PRE_ENCODED_REQUEST_PLACEHOLDER_NOT_UNIQUE.get(numMatches));
+    }
+
+    final int depth = placeholderPath.size() - 1;
+    elementsBefore = new ASN1Element[depth+1][];
+    elementsAfter = new ASN1Element[depth+1][];
+    enclosingTypes = new byte[depth];
+
+    ASN1Element[] elements = topLevelElements;
+    for (int i=0; i <= depth; i++)
+    {
+      final int pos = placeholderPath.get(i);
+      elementsBefore[i] = Arrays.copyOfRange(elements, 0, pos);
+      elementsAfter[i] =
+           Arrays.copyOfRange(elements, (pos + 1), elements.length);
+
+      if (i < depth)
+      {
+        enclosingTypes[i] = elements[pos].getType();
+        elements = decodeChildren(elements[pos]);
+      }
+    }
+
+    parameterType = elements[placeholderPath.get(depth)].getType();
+    parameterValue = placeholder;
+  }
+
+
+
+  /**
+   * Creates a new pre-encoded protocol op that is a copy of the provided op,
+   * but with the given parameter value.
+   *
+   * @param  template        The pre-encoded protocol op to copy.
+   * @param  parameterValue  The value to use for the parameter.
+   */
+  private PreEncodedProtocolOp(@NotNull final PreEncodedProtocolOp template,
+                               @NotNull final byte[] parameterValue)
+  {
+    this.parameterValue = parameterValue;
+
+    elementsBefore = template.elementsBefore;
+    elementsAfter  = template.elementsAfter;
+    enclosingTypes = template.enclosingTypes;
+    parameterType  = template.parameterType;
+    protocolOpType = template.protocolOpType;
+    controls       = template.controls;
+  }
+
+
+
+  /**
+   * Recursively searches the provided elements for primitive elements with
+   * the given value.
+   *
+   * @param  elements         The elements to search.
+   * @param  placeholder      The value for which to search.
+   * @param  currentPath      The positions of the elements that enclose the
+   *                          provided elements.  It will be updated during
+   *                          processing, but restored before returning.
+   * @param  placeholderPath  The list that will be updated with the positions
+   *                          of the elements on the path to the first
+   *                          matching element, including the position of the
+   *                          element itself.
+   *
+   * @return  The number of matching elements that were found.
+   */
+  private static int findPlaceholder(@NotNull final ASN1Element[] elements,
+                          @NotNull final byte[] placeholder,
+                          @NotNull final List<Integer> currentPath,
+                          @NotNull final List<Integer> placeholderPath)
+  {
+    int numMatches = 0;
+    for (int i=0; i < elements.length; i++)
+    {
+      final ASN1Element e = elements[i];
+      currentPath.add(i);
+      if ((e.getType() & 0x20) == 0x20)
+      {
+        numMatches += findPlaceholder(decodeChildren(e), placeholder,
+             currentPath, placeholderPath);
+      }
+      else if (Arrays.equals(e.getValue(), placeholder))
+      {
+        if (placeholderPath.isEmpty())
+        {
+          placeholderPath.addAll(currentPath);
+        }
+
+        numMatches++;
+      }
+      currentPath.remove(currentPath.size() - 1);
+    }
+
+    return numMatches;
+  }
+
+
+
+  /**
+   * Decodes the value of the provided constructed element as a set of
+   * elements.
+   *
+   * @param  element  The element to decode.
+   *
+   * @return  The elements contained in the value of the provided element, or
+   *          an empty array if the value cannot be decoded.
+   */
+  @NotNull()
+  private static ASN1Element[] decodeChildren(
+                                    @NotNull final ASN1Element element)
+  {
+    try
+    {
+      return ASN1Sequence.decodeAsSequence(element).elements();
+    }
+    catch (final ASN1Exception e)
+    {
+      Debug.debugException(e);
+      return NO_ELEMENTS;
+    }
+  }
+
+
+
+  /**
+   * Creates a copy of this pre-encoded protocol op with the provided
+   * parameter value.
+   *
+   * @param  value  The value to use for the parameter.
+   *
+   * @return  The pre-encoded protocol op that was created.
+   */
+  @NotNull()
+  PreEncodedProtocolOp withParameterValue(@NotNull final byte[] value)
+  {
+    return new PreEncodedProtocolOp(this, value);
+  }
+
+
+
+  /**
+   * Indicates whether this pre-encoded protocol op has a parameter.
+   *
+   * @return  {@code true} if this pre-encoded protocol op has a parameter, or
+   *          {@code false} if not.
+   */
+  boolean hasParameter()
+  {
+    return (parameterValue != null);
+  }
+
+
+
+  /**
+   * Retrieves the controls that were encoded along with the protocol op.  This
+   * will be the same array that was provided when the protocol op was
+   * created, so that a request can cheaply determine whether its controls have
+   * changed.
+   *
+   * @return  The controls that were encoded along with the protocol op.
+   */
+  @NotNull()
+  Control[] getControls()
+  {
+    return controls;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public byte getProtocolOpType()
+  {
+    return protocolOpType;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  @NotNull()
+  public ASN1Element encodeProtocolOp()
+  {
+    final ASN1Buffer buffer = new ASN1Buffer();
+    writeTo(buffer);
+
+    try
+    {
+      return ASN1Sequence.decodeAsSequence(
+           new ASN1Element(ASN1Constants.UNIVERSAL_SEQUENCE_TYPE,
+                buffer.toByteArray())).elements()[0];
+    }
+    catch (final ASN1Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPRuntimeException(new LDAPException(
+           ResultCode.DECODING_ERROR,
+           ERR_PRE_ENCODED_REQUEST_CANNOT_DECODE.get(
+                StaticUtils.getExceptionMessage(e)),
+           e));
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void writeTo(@NotNull final ASN1Buffer buffer)
+  {
+    if (protocolOpType == LDAPMessage.PROTOCOL_OP_TYPE_BIND_REQUEST)
+    {
+      buffer.setZeroBufferOnClear();
+    }
+
+    final int depth = enclosingTypes.length;
+    final ASN1BufferSequence[] sequences = new ASN1BufferSequence[depth];
+    for (int i=0; i < depth; i++)
+    {
+      addElements(buffer, elementsBefore[i]);
+      sequences[i] = buffer.beginSequence(enclosingTypes[i]);
+    }
+
+    addElements(buffer, elementsBefore[depth]);
+    if (parameterValue != null)
+    {
+      buffer.addOctetString(parameterType, parameterValue);
+    }
+    addElements(buffer, elementsAfter[depth]);
+
+    for (int i=(depth - 1); i >= 0; i--)
+    {
+      sequences[i].end();
+      addElements(buffer, elementsAfter[i]);
+    }
+  }
+
+
+
+  /**
+   * Adds the provided elements to the given buffer.
+   *
+   * @param  buffer    The buffer to which the elements should be added.
+   * @param  elements  The elements to add.
+   */
+  private static void addElements(@NotNull final ASN1Buffer buffer,
+                                  @NotNull final ASN1Element[] elements)
+  {
+    for (final ASN1Element e : elements)
+    {
+      buffer.addElement(e);
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("PreEncodedProtocolOp(protocolOpType=0x");
+    StaticUtils.toHex(protocolOpType, buffer);
+    buffer.append(", numControls=");
+    buffer.append(controls.length);
+    buffer.append(", hasParameter=");
+    buffer.append(parameterValue != null);
+    buffer.append(')');
+  }
+}
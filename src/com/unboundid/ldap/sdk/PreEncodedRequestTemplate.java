@@ -0,0 +1,604 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.unboundid.ldap.protocol.ProtocolOp;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a template that may be used to repeatedly send the same
+ * search, compare, or simple bind request without encoding it each time.  The
+ * protocol op and controls for the request are encoded once when the template
+ * is prepared, and each request created from the template will send that
+ * encoded representation, with only the message ID (and the parameter value,
+ * if there is one) being encoded for each request.
+ * <BR><BR>
+ * A template may optionally be prepared with a placeholder value to define a
+ * parameter that may have a different value for each request created from the
+ * template.  For a search request, the placeholder must be an assertion value
+ * or substring element in exactly one filter component.  For a compare
+ * request, it must be the assertion value.  For a simple bind request, it must
+ * be the password.  In each case, the placeholder must not appear anywhere
+ * else in the encoded request.
+ * <BR><BR>
+ * Requests created from a template are complete, independent copies of the
+ * request used to prepare it (with the parameter value in place of the
+ * placeholder), so they may be used with any connection or connection pool,
+ * and they may be safely processed concurrently.  If a request created from a
+ * template is altered, then it will be encoded in the usual way.  Note,
+ * however, that the array returned by {@link SearchRequest#getAttributes()}
+ * must not be altered in place.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for preparing a template for
+ * a search request that will be used to find users by their user ID:
+ * <PRE>
+ * SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+ *      SearchScope.SUB, Filter.createEqualityFilter("uid", "placeholder"),
+ *      "cn", "mail");
+ * PreEncodedRequestTemplate&lt;SearchRequest&gt; template =
+ *      PreEncodedRequestTemplate.prepare(searchRequest, "placeholder");
+ *
+ * SearchResult searchResult =
+ *      connection.search(template.createRequest("jdoe"));
+ * </PRE>
+ *
+ * @param  <T>  The type of request that will be created from this template.
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class PreEncodedRequestTemplate<T extends LDAPRequest>
+       implements Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 5082679134426513307L;
+
+
+
+  // The pre-encoded representation of the request.
+  @NotNull private final PreEncodedProtocolOp protocolOp;
+
+  // The request from which this template was prepared.  It will not be
+  // altered.
+  @NotNull private final T request;
+
+  // The placeholder for the parameter, if any.
+  @Nullable private final byte[] placeholder;
+
+
+
+  /**
+   * Creates a new template with the provided information.
+   *
+   * @param  request      The request from which the template was prepared.
+   * @param  placeholder  The placeholder for the parameter, if any.
+   *
+   * @throws  LDAPException  If a problem is encountered while encoding the
+   *                         request.
+   */
+  private PreEncodedRequestTemplate(@NotNull final T request,
+                                    @Nullable final byte[] placeholder)
+          throws LDAPException
+  {
+    this.request     = request;
+    this.placeholder = placeholder;
+
+    protocolOp = new PreEncodedProtocolOp((ProtocolOp) request,
+         request.getControls(), placeholder);
+  }
+
+
+
+  /**
+   * Prepares a template for the provided search request.
+   *
+   * @param  request  The search request for which to prepare the template.
+   *                  It must not be {@code null}.  Subsequent changes to it
+   *                  will not affect the template.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If a problem is encountered while encoding the
+   *                         request.
+   */
+  @NotNull()
+  public static PreEncodedRequestTemplate<SearchRequest> prepare(
+                     @NotNull final ReadOnlySearchRequest request)
+         throws LDAPException
+  {
+    return prepareSearch(request, null);
+  }
+
+
+
+  /**
+   * Prepares a template for the provided search request with a parameter
+   * whose value may be replaced for each request created from the template.
+   *
+   * @param  request      The search request for which to prepare the
+   *                      template.  It must not be {@code null}.  Subsequent
+   *                      changes to it will not affect the template.
+   * @param  placeholder  The placeholder value that defines the parameter.  It
+   *                      must not be {@code null}, and it must be the value of
+   *                      exactly one assertion value or substring element in
+   *                      the search filter.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If the placeholder does not appear exactly once in
+   *                         the filter and the encoded request, or if some
+   *                         other problem is encountered while encoding the
+   *                         request.
+   */
+  @NotNull()
+  public static PreEncodedRequestTemplate<SearchRequest> prepare(
+                     @NotNull final ReadOnlySearchRequest request,
+                     @NotNull final String placeholder)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(placeholder);
+    return prepareSearch(request, StaticUtils.getBytes(placeholder));
+  }
+
+
+
+  /**
+   * Prepares a template for the provided search request.
+   *
+   * @param  request      The search request for which to prepare the
+   *                      template.  It must not be {@code null}.
+   * @param  placeholder  The placeholder value that defines the parameter, if
+   *                      any.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If a problem is encountered while preparing the
+   *                         template.
+   */
+  @NotNull()
+  private static PreEncodedRequestTemplate<SearchRequest> prepareSearch(
+                      @NotNull final ReadOnlySearchRequest request,
+                      @Nullable final byte[] placeholder)
+          throws LDAPException
+  {
+    Validator.ensureNotNull(request);
+
+    final SearchRequest r = request.duplicate(request.getControls().clone());
+    r.setAttributes(r.getAttributes().clone());
+
+    if (placeholder != null)
+    {
+      final int numMatches = r.getFilter().countMatchingValues(placeholder);
+      if (numMatches != 1)
+      {
+        throw new LDAPException(ResultCode.PARAM_ERROR,
+             ERR_PRE_ENCODED_REQUEST_FILTER_PLACEHOLDER_NOT_UNIQUE.get(
+                  numMatches));
+      }
+    }
+
+    return new PreEncodedRequestTemplate<>(r, placeholder);
+  }
+
+
+
+  /**
+   * Prepares a template for the provided compare request.
+   *
+   * @param  request  The compare request for which to prepare the template.
+   *                  It must not be {@code null}.  Subsequent changes to it
+   *                  will not affect the template.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If a problem is encountered while encoding the
+   *                         request.
+   */
+  @NotNull()
+  public static PreEncodedRequestTemplate<CompareRequest> prepare(
+                     @NotNull final ReadOnlyCompareRequest request)
+         throws LDAPException
+  {
+    return prepareCompare(request, null);
+  }
+
+
+
+  /**
+   * Prepares a template for the provided compare request with a parameter
+   * whose value may be replaced for each request created from the template.
+   *
+   * @param  request      The compare request for which to prepare the
+   *                      template.  It must not be {@code null}.  Subsequent
+   *                      changes to it will not affect the template.
+   * @param  placeholder  The placeholder value that defines the parameter.  It
+   *                      must not be {@code null}, and it must be the
+   *                      assertion value for the compare request.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If the placeholder is not the assertion value or
+   *                         it appears elsewhere in the encoded request, or if
+   *                         some other problem is encountered while encoding
+   *                         the request.
+   */
+  @NotNull()
+  public static PreEncodedRequestTemplate<CompareRequest> prepare(
+                     @NotNull final ReadOnlyCompareRequest request,
+                     @NotNull final String placeholder)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(placeholder);
+    return prepareCompare(request, StaticUtils.getBytes(placeholder));
+  }
+
+
+
+  /**
+   * Prepares a template for the provided compare request.
+   *
+   * @param  request      The compare request for which to prepare the
+   *                      template.  It must not be {@code null}.
+   * @param  placeholder  The placeholder value that defines the parameter, if
+   *                      any.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If a problem is encountered while preparing the
+   *                         template.
+   */
+  @NotNull()
+  private static PreEncodedRequestTemplate<CompareRequest> prepareCompare(
+                      @NotNull final ReadOnlyCompareRequest request,
+                      @Nullable final byte[] placeholder)
+          throws LDAPException
+  {
+    Validator.ensureNotNull(request);
+
+    final CompareRequest r = request.duplicate(request.getControls().clone());
+    if ((placeholder != null) &&
+         (! Arrays.equals(r.getAssertionValueBytes(), placeholder)))
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_PRE_ENCODED_REQUEST_COMPARE_PLACEHOLDER_MISMATCH.get());
+    }
+
+    return new PreEncodedRequestTemplate<>(r, placeholder);
+  }
+
+
+
+  /**
+   * Prepares a template for the provided simple bind request.
+   *
+   * @param  request  The simple bind request for which to prepare the
+   *                  template.  It must not be {@code null}, and it must have
+   *                  been created with a static password rather than a
+   *                  password provider.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If the bind request uses a password provider, or
+   *                         if some other problem is encountered while
+   *                         encoding the request.
+   */
+  @NotNull()
+  public static PreEncodedRequestTemplate<SimpleBindRequest> prepare(
+                     @NotNull final SimpleBindRequest request)
+         throws LDAPException
+  {
+    return prepareBind(request, null);
+  }
+
+
+
+  /**
+   * Prepares a template for the provided simple bind request with a parameter
+   * whose value may be replaced for each request created from the template.
+   *
+   * @param  request      The simple bind request for which to prepare the
+   *                      template.  It must not be {@code null}, and it must
+   *                      have been created with a static password rather than
+   *                      a password provider.
+   * @param  placeholder  The placeholder value that defines the parameter.  It
+   *                      must not be {@code null}, and it must be the password
+   *                      for the bind request.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If the bind request uses a password provider, if
+   *                         the placeholder is not the password or it appears
+   *                         elsewhere in the encoded request, or if some other
+   *                         problem is encountered while encoding the
+   *                         request.
+   */
+  @NotNull()
+  public static PreEncodedRequestTemplate<SimpleBindRequest> prepare(
+                     @NotNull final SimpleBindRequest request,
+                     @NotNull final String placeholder)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(placeholder);
+    return prepareBind(request, StaticUtils.getBytes(placeholder));
+  }
+
+
+
+  /**
+   * Prepares a template for the provided simple bind request.
+   *
+   * @param  request      The simple bind request for which to prepare the
+   *                      template.  It must not be {@code null}.
+   * @param  placeholder  The placeholder value that defines the parameter, if
+   *                      any.
+   *
+   * @return  The template that was prepared.
+   *
+   * @throws  LDAPException  If a problem is encountered while preparing the
+   *                         template.
+   */
+  @NotNull()
+  private static PreEncodedRequestTemplate<SimpleBindRequest> prepareBind(
+                      @NotNull final SimpleBindRequest request,
+                      @Nullable final byte[] placeholder)
+          throws LDAPException
+  {
+    Validator.ensureNotNull(request);
+
+    if (request.getPasswordProvider() != null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_PRE_ENCODED_REQUEST_BIND_WITH_PROVIDER.get());
+    }
+
+    if ((placeholder != null) &&
+         (! Arrays.equals(request.getPassword().getValue(), placeholder)))
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_PRE_ENCODED_REQUEST_BIND_PLACEHOLDER_MISMATCH.get());
+    }
+
+    return new PreEncodedRequestTemplate<>(request.duplicate(), placeholder);
+  }
+
+
+
+  /**
+   * Indicates whether this template has a parameter whose value may be
+   * provided when creating a request.
+   *
+   * @return  {@code true} if this template has a parameter, or {@code false}
+   *          if not.
+   */
+  public boolean hasParameter()
+  {
+    return (placeholder != null);
+  }
+
+
+
+  /**
+   * Retrieves the pre-encoded representation of the request.
+   *
+   * @return  The pre-encoded representation of the request.
+   */
+  @NotNull()
+  PreEncodedProtocolOp getProtocolOp()
+  {
+    return protocolOp;
+  }
+
+
+
+  /**
+   * Creates a new request from this template.  If the template has a
+   * parameter, then the request will use the placeholder value.
+   *
+   * @return  The request that was created.
+   */
+  @NotNull()
+  public T createRequest()
+  {
+    return create(null);
+  }
+
+
+
+  /**
+   * Creates a new request from this template with the provided parameter
+   * value.
+   *
+   * @param  parameterValue  The value to use in place of the placeholder.  It
+   *                         must not be {@code null}.
+   *
+   * @return  The request that was created.
+   *
+   * @throws  LDAPSDKUsageException  If this template does not have a
+   *                                 parameter.
+   */
+  @NotNull()
+  public T createRequest(@NotNull final String parameterValue)
+         throws LDAPSDKUsageException
+  {
+    Validator.ensureNotNull(parameterValue);
+    return createRequest(StaticUtils.getBytes(parameterValue));
+  }
+
+
+
+  /**
+   * Creates a new request from this template with the provided parameter
+   * value.
+   *
+   * @param  parameterValue  The value to use in place of the placeholder.  It
+   *                         must not be {@code null}.
+   *
+   * @return  The request that was created.
+   *
+   * @throws  LDAPSDKUsageException  If this template does not have a
+   *                                 parameter.
+   */
+  @NotNull()
+  public T createRequest(@NotNull final byte[] parameterValue)
+         throws LDAPSDKUsageException
+  {
+    Validator.ensureNotNull(parameterValue);
+
+    if (placeholder == null)
+    {
+      throw new LDAPSDKUsageException(
+           ERR_PRE_ENCODED_REQUEST_NO_PLACEHOLDER.get());
+    }
+
+    return create(parameterValue);
+  }
+
+
+
+  /**
+   * Creates a new request from this template.
+   *
+   * @param  parameterValue  The value to use in place of the placeholder, or
+   *                         {@code null} if the request should be created
+   *                         without replacing the placeholder.
+   *
+   * @return  The request that was created.
+   */
+  @SuppressWarnings("unchecked")
+  @NotNull()
+  private T create(@Nullable final byte[] parameterValue)
+  {
+    final PreEncodedProtocolOp op;
+    if (parameterValue == null)
+    {
+      op = protocolOp;
+    }
+    else
+    {
+      op = protocolOp.withParameterValue(parameterValue);
+    }
+
+    if (request instanceof SearchRequest)
+    {
+      final SearchRequest r = ((SearchRequest) request).duplicate();
+      if (parameterValue != null)
+      {
+        r.setFilter(r.getFilter().replaceMatchingValues(placeholder,
+             parameterValue));
+      }
+
+      r.setPreEncodedProtocolOp(op);
+      return (T) r;
+    }
+    else if (request instanceof CompareRequest)
+    {
+      final CompareRequest r = ((CompareRequest) request).duplicate();
+      if (parameterValue != null)
+      {
+        r.setAssertionValue(parameterValue);
+      }
+
+      r.setPreEncodedProtocolOp(op);
+      return (T) r;
+    }
+    else
+    {
+      final SimpleBindRequest r;
+      if (parameterValue == null)
+      {
+        r = ((SimpleBindRequest) request).duplicate();
+      }
+      else
+      {
+        r = ((SimpleBindRequest) request).duplicateWithPassword(
+             parameterValue);
+      }
+
+      r.setPreEncodedProtocolOp(op);
+      return (T) r;
+    }
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this template.
+   *
+   * @return  A string representation of this template.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this template to the provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("PreEncodedRequestTemplate(request=");
+    request.toString(buffer);
+    buffer.append(", hasParameter=");
+    buffer.append(placeholder != null);
+    buffer.append(')');
+  }
+}
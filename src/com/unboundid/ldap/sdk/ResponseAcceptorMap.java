@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a lock-free map that associates the message IDs of
+ * outstanding operations with the response acceptors that should be notified
+ * of the responses to those operations.  It uses an open-addressing table with
+ * primitive int keys, so registering and looking up an acceptor does not box
+ * the message ID or allocate any memory.
+ * <BR><BR>
+ * Because message IDs are assigned sequentially for each connection, each
+ * message ID will usually map to its own slot in the table as long as the
+ * number of outstanding operations does not exceed the size of the table.  If
+ * an acceptor cannot be placed within a small number of slots of its preferred
+ * position (for example, because there are a large number of outstanding
+ * operations or a long-running operation like a persistent search is occupying
+ * the slot), then it will be held in an overflow map instead.
+ * <BR><BR>
+ * Message IDs that are not greater than zero are always held in the overflow
+ * map.  A message ID must not be removed from the map while it is still being
+ * registered, which is always true for the way that the LDAP SDK uses message
+ * IDs.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class ResponseAcceptorMap
+       implements Serializable
+{
+  /**
+   * The default number of slots to use for the table.
+   */
+  static final int DEFAULT_TABLE_SIZE = 64;
+
+
+
+  /**
+   * The maximum number of slots that will be examined when attempting to find
+   * a message ID in the table.
+   */
+  private static final int MAX_PROBES = 8;
+
+
+
+  /**
+   * The key value used for a slot that has never been used.
+   */
+  private static final int KEY_EMPTY = 0;
+
+
+
+  /**
+   * The key value used for a slot that previously held an acceptor that has
+   * since been removed.
+   */
+  private static final int KEY_REMOVED = -1;
+
+
+
+  /**
+   * The key value used for a slot whose acceptor is in the process of being
+   * removed.
+   */
+  private static final int KEY_REMOVING = -2;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -4618063250419837274L;
+
+
+
+  // The number of acceptors held in the overflow map.
+  @NotNull private final AtomicInteger overflowSize;
+
+  // The total number of acceptors held in this map.
+  @NotNull private final AtomicInteger size;
+
+  // The message IDs for the slots in the table.
+  @NotNull private final AtomicIntegerArray keys;
+
+  // The acceptors for the slots in the table.
+  @NotNull private final AtomicReferenceArray<ResponseAcceptor> acceptors;
+
+  // The map used to hold acceptors that could not be placed in the table.
+  @NotNull private final ConcurrentHashMap<Integer,ResponseAcceptor> overflow;
+
+  // The mask used to determine the preferred slot for a message ID.
+  private final int mask;
+
+
+
+  /**
+   * Creates a new response acceptor map with the default table size.
+   */
+  ResponseAcceptorMap()
+  {
+    this(DEFAULT_TABLE_SIZE);
+  }
+
+
+
+  /**
+   * Creates a new response acceptor map with the provided table size.
+   *
+   * @param  tableSize  The number of slots to use for the table.  It will be
+   *                    rounded up to the next power of two if necessary.
+   */
+  ResponseAcceptorMap(final int tableSize)
+  {
+    int n = 1;
+    while (n < tableSize)
+    {
+      n <<= 1;
+    }
+
+    mask = n - 1;
+    keys = new AtomicIntegerArray(n);
+    acceptors = new AtomicReferenceArray<>(n);
+    overflow = new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(10));
+    overflowSize = new AtomicInteger(0);
+    size = new AtomicInteger(0);
+  }
+
+
+
+  /**
+   * Associates the provided acceptor with the given message ID if there is not
+   * already an acceptor for that message ID.
+   *
+   * @param  messageID  The message ID for the acceptor.  It must be greater
+   *                    than zero.
+   * @param  acceptor   The acceptor to register.
+   *
+   * @return  The acceptor that was already registered for the message ID, or
+   *          {@code null} if the provided acceptor was registered.
+   */
+  @Nullable()
+  ResponseAcceptor putIfAbsent(final int messageID,
+                               @NotNull final ResponseAcceptor acceptor)
+  {
+    final ResponseAcceptor existingAcceptor = get(messageID);
+    if (existingAcceptor != null)
+    {
+      return existingAcceptor;
+    }
+
+    int index = messageID & mask;
+    for (int i=0; (i < MAX_PROBES) && (messageID > 0); i++)
+    {
+      final int key = keys.get(index);
+      if (((key == KEY_EMPTY) || (key == KEY_REMOVED)) &&
+          keys.compareAndSet(index, key, messageID))
+      {
+        acceptors.set(index, acceptor);
+        size.incrementAndGet();
+        return null;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    overflowSize.incrementAndGet();
+    final ResponseAcceptor existingOverflowAcceptor =
+         overflow.putIfAbsent(messageID, acceptor);
+    if (existingOverflowAcceptor == null)
+    {
+      size.incrementAndGet();
+    }
+    else
+    {
+      overflowSize.decrementAndGet();
+    }
+
+    return existingOverflowAcceptor;
+  }
+
+
+
+  /**
+   * Retrieves the acceptor registered for the specified message ID.
+   *
+   * @param  messageID  The message ID for the acceptor to retrieve.
+   *
+   * @return  The acceptor registered for the specified message ID, or
+   *          {@code null} if there is none.
+   */
+  @Nullable()
+  ResponseAcceptor get(final int messageID)
+  {
+    int index = messageID & mask;
+    for (int i=0; (i < MAX_PROBES) && (messageID > 0); i++)
+    {
+      final int key = keys.get(index);
+      if (key == messageID)
+      {
+        final ResponseAcceptor acceptor = acceptors.get(index);
+
+        // Make sure that the slot was not reused between reading the key and
+        // reading the acceptor.
+        if (keys.get(index) == messageID)
+        {
+          return acceptor;
+        }
+        break;
+      }
+      else if (key == KEY_EMPTY)
+      {
+        break;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    if (overflowSize.get() > 0)
+    {
+      return overflow.get(messageID);
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Removes the acceptor registered for the specified message ID.
+   *
+   * @param  messageID  The message ID for the acceptor to remove.
+   *
+   * @return  The acceptor that was removed, or {@code null} if there was no
+   *          acceptor registered for the specified message ID.
+   */
+  @Nullable()
+  ResponseAcceptor remove(final int messageID)
+  {
+    int index = messageID & mask;
+    for (int i=0; (i < MAX_PROBES) && (messageID > 0); i++)
+    {
+      final int key = keys.get(index);
+      if (key == messageID)
+      {
+        if (keys.compareAndSet(index, messageID, KEY_REMOVING))
+        {
+          final ResponseAcceptor acceptor = acceptors.getAndSet(index, null);
+          keys.set(index, KEY_REMOVED);
+          size.decrementAndGet();
+          return acceptor;
+        }
+
+        // Another thread removed it first.
+        return null;
+      }
+      else if (key == KEY_EMPTY)
+      {
+        break;
+      }
+
+      index = (index + 1) & mask;
+    }
+
+    if (overflowSize.get() > 0)
+    {
+      final ResponseAcceptor acceptor = overflow.remove(messageID);
+      if (acceptor != null)
+      {
+        overflowSize.decrementAndGet();
+        size.decrementAndGet();
+      }
+
+      return acceptor;
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Removes all acceptors from this map.
+   *
+   * @return  A list of the acceptors that were removed.
+   */
+  @NotNull()
+  List<ResponseAcceptor> removeAll()
+  {
+    final List<ResponseAcceptor> removed = new ArrayList<>(size.get());
+    for (int index=0; index <= mask; index++)
+    {
+      final int key = keys.get(index);
+      if ((key > 0) && keys.compareAndSet(index, key, KEY_REMOVING))
+      {
+        final ResponseAcceptor acceptor = acceptors.getAndSet(index, null);
+        keys.set(index, KEY_REMOVED);
+        size.decrementAndGet();
+        if (acceptor != null)
+        {
+          removed.add(acceptor);
+        }
+      }
+    }
+
+    final Iterator<Integer> iterator = overflow.keySet().iterator();
+    while (iterator.hasNext())
+    {
+      final ResponseAcceptor acceptor = overflow.remove(iterator.next());
+      if (acceptor != null)
+      {
+        overflowSize.decrementAndGet();
+        size.decrementAndGet();
+        removed.add(acceptor);
+      }
+    }
+
+    return removed;
+  }
+
+
+
+  /**
+   * Retrieves the number of acceptors held in this map.
+   *
+   * @return  The number of acceptors held in this map.
+   */
+  int size()
+  {
+    return size.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of slots in the table.
+   *
+   * @return  The number of slots in the table.
+   */
+  int getTableSize()
+  {
+    return mask + 1;
+  }
+
+
+
+  /**
+   * Retrieves the number of acceptors currently held in the overflow map
+   * rather than in the table.
+   *
+   * @return  The number of acceptors currently held in the overflow map.
+   */
+  int getOverflowSize()
+  {
+    return overflowSize.get();
+  }
+}
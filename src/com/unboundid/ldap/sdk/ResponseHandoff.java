@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.TimeUnit;
+
+import com.unboundid.ldap.protocol.LDAPResponse;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a reusable slot that may be used to hand off the
+ * response to a synchronous operation from the connection reader to the thread
+ * that is waiting for it.  Each thread has its own handoff that it reuses for
+ * every operation, so processing a request that expects a single response does
+ * not require allocating a queue or any queue nodes.
+ * <BR><BR>
+ * A handoff only accepts a response with the message ID that it is currently
+ * expecting (or a response indicating that the connection has been closed),
+ * so a late response to an earlier operation that timed out will not be
+ * mistaken for the response to a later operation.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class ResponseHandoff
+{
+  /**
+   * The handoffs that have been created for each thread.
+   */
+  @NotNull private static final ThreadLocal<ResponseHandoff> HANDOFFS =
+       new ThreadLocal<>();
+
+
+
+  // Indicates whether this handoff is currently in use.  This is only accessed
+  // by the thread that owns the handoff.
+  private boolean inUse;
+
+  // The message ID for the response that this handoff will accept, or zero if
+  // it is not expecting a response.
+  private int expectedMessageID;
+
+  // The response that has been received.
+  @Nullable private LDAPResponse response;
+
+
+
+  /**
+   * Creates a new response handoff.
+   */
+  private ResponseHandoff()
+  {
+    inUse = false;
+    expectedMessageID = 0;
+    response = null;
+  }
+
+
+
+  /**
+   * Obtains a response handoff for use by the current thread.  The handoff for
+   * the current thread will be reused if it is available.  If it is already in
+   * use (for example, because a synchronous operation was needed while
+   * processing another one), then a new handoff will be created.  The
+   * {@link #release} method must be called when the handoff is no longer
+   * needed.
+   *
+   * @return  The response handoff to use.
+   */
+  @NotNull()
+  static ResponseHandoff acquire()
+  {
+    ResponseHandoff handoff = HANDOFFS.get();
+    if (handoff == null)
+    {
+      handoff = new ResponseHandoff();
+      HANDOFFS.set(handoff);
+    }
+    else if (handoff.inUse)
+    {
+      handoff = new ResponseHandoff();
+    }
+
+    handoff.inUse = true;
+    return handoff;
+  }
+
+
+
+  /**
+   * Releases this handoff so that it may be reused by the thread that
+   * acquired it.
+   */
+  void release()
+  {
+    synchronized (this)
+    {
+      expectedMessageID = 0;
+      response = null;
+    }
+
+    inUse = false;
+  }
+
+
+
+  /**
+   * Indicates that this handoff should accept the response with the specified
+   * message ID.  Any previously-received response will be discarded.
+   *
+   * @param  messageID  The message ID for the response to accept.
+   */
+  synchronized void expect(final int messageID)
+  {
+    expectedMessageID = messageID;
+    response = null;
+  }
+
+
+
+  /**
+   * Provides a response to this handoff.  The response will be ignored if it
+   * does not have the expected message ID, or if a response has already been
+   * received.
+   *
+   * @param  response  The response that has been received.
+   *
+   * @return  {@code true} if the response was accepted, or {@code false} if it
+   *          was ignored.
+   */
+  synchronized boolean offer(@NotNull final LDAPResponse response)
+  {
+    if ((this.response != null) || (expectedMessageID == 0))
+    {
+      return false;
+    }
+
+    if ((response.getMessageID() != expectedMessageID) &&
+        (! (response instanceof ConnectionClosedResponse)))
+    {
+      return false;
+    }
+
+    this.response = response;
+    notifyAll();
+    return true;
+  }
+
+
+
+  /**
+   * Waits for the expected response to be received.
+   *
+   * @param  timeoutMillis  The maximum length of time in milliseconds to wait
+   *                        for the response.  A value that is less than or
+   *                        equal to zero indicates that it should wait
+   *                        indefinitely.
+   *
+   * @return  The response that was received, or {@code null} if the timeout
+   *          elapsed before the response was received.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting
+   *                                for the response.
+   */
+  @Nullable()
+  synchronized LDAPResponse await(final long timeoutMillis)
+               throws InterruptedException
+  {
+    if (timeoutMillis <= 0L)
+    {
+      while (response == null)
+      {
+        wait();
+      }
+    }
+    else
+    {
+      final long stopWaitingTime =
+           System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+      while (response == null)
+      {
+        final long remainingNanos = stopWaitingTime - System.nanoTime();
+        if (remainingNanos <= 0L)
+        {
+          break;
+        }
+
+        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      }
+    }
+
+    final LDAPResponse r = response;
+    response = null;
+    expectedMessageID = 0;
+    return r;
+  }
+}
@@ -1458,6 +1458,25 @@ public final class ResultCode
 
 
 
+  /**
+   * The integer value (98) for the "CIRCUIT_BREAKER_OPEN" result code.
+   */
+  public static final int CIRCUIT_BREAKER_OPEN_INT_VALUE = 98;
+
+
+
+  /**
+   * The client-side result code (98) that will be used if a request was not
+   * sent to a server because the circuit breaker for that server is open.  The
+   * connection on which the request was attempted is still usable.  This
+   * result code is specific to the LDAP SDK.
+   */
+  @NotNull public static final ResultCode CIRCUIT_BREAKER_OPEN =
+       new ResultCode(INFO_RC_CIRCUIT_BREAKER_OPEN.get(),
+                      "CIRCUIT_BREAKER_OPEN", CIRCUIT_BREAKER_OPEN_INT_VALUE);
+
+
+
   /**
    * The integer value (118) for the "CANCELED" result code.
    */
@@ -2141,6 +2160,8 @@ public final class ResultCode
         return CLIENT_LOOP;
       case REFERRAL_LIMIT_EXCEEDED_INT_VALUE:
         return REFERRAL_LIMIT_EXCEEDED;
+      case CIRCUIT_BREAKER_OPEN_INT_VALUE:
+        return CIRCUIT_BREAKER_OPEN;
       case CANCELED_INT_VALUE:
         return CANCELED;
       case NO_SUCH_OPERATION_INT_VALUE:
@@ -2273,6 +2294,7 @@ public final class ResultCode
       MORE_RESULTS_TO_RETURN,
       CLIENT_LOOP,
       REFERRAL_LIMIT_EXCEEDED,
+      CIRCUIT_BREAKER_OPEN,
       CANCELED,
       NO_SUCH_OPERATION,
       TOO_LATE,
@@ -2339,6 +2361,7 @@ public final class ResultCode
       case MORE_RESULTS_TO_RETURN_INT_VALUE:
       case CLIENT_LOOP_INT_VALUE:
       case REFERRAL_LIMIT_EXCEEDED_INT_VALUE:
+      case CIRCUIT_BREAKER_OPEN_INT_VALUE:
         return true;
       default:
         return false;
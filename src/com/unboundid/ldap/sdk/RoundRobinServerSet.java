@@ -38,6 +38,8 @@ package com.unboundid.ldap.sdk;
 
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -518,12 +520,25 @@ public final class RoundRobinServerSet
               @Nullable final LDAPConnectionPoolHealthCheck healthCheck)
          throws LDAPException
   {
-    // Create arrays of blacklisted and non-blacklisted servers.
+    // Create arrays of blacklisted and non-blacklisted servers.  Servers whose
+    // circuits are open will be treated as if they were blacklisted.
+    final ServerCircuitBreaker circuitBreaker = getCircuitBreaker();
+    final Set<ObjectPair<String,Integer>> openCircuitHostPorts;
+    if (circuitBreaker == null)
+    {
+      openCircuitHostPorts = Collections.emptySet();
+    }
+    else
+    {
+      openCircuitHostPorts = circuitBreaker.getOpenServers();
+    }
+
     final int[] blacklistedPorts;
     final int[] nonBlacklistedPorts;
     final String[] blacklistedAddresses;
     final String[] nonBlacklistedAddresses;
-    if ((blacklistManager == null) || blacklistManager.isEmpty())
+    if (((blacklistManager == null) || blacklistManager.isEmpty()) &&
+         openCircuitHostPorts.isEmpty())
     {
       nonBlacklistedAddresses = addresses;
       nonBlacklistedPorts = ports;
@@ -534,7 +549,12 @@ public final class RoundRobinServerSet
     else
     {
       final Set<ObjectPair<String,Integer>> blacklistedHostPorts =
-           blacklistManager.getBlacklistedServers();
+           new HashSet<>(openCircuitHostPorts);
+      if (blacklistManager != null)
+      {
+        blacklistedHostPorts.addAll(blacklistManager.getBlacklistedServers());
+      }
+
       final List<String> nonBLAddresses = new ArrayList<>(addresses.length);
       final List<Integer> nonBLPorts = new ArrayList<>(addresses.length);
 
@@ -625,8 +645,11 @@ public final class RoundRobinServerSet
         doBindPostConnectAndHealthCheckProcessing(conn, bindRequest,
              postConnectProcessor, healthCheck);
         associateConnectionWithThisServerSet(conn);
-        blacklistManager.removeFromBlacklist(new ObjectPair<>(
-             conn.getConnectedAddress(), conn.getConnectedPort()));
+        if (blacklistManager != null)
+        {
+          blacklistManager.removeFromBlacklist(new ObjectPair<>(
+               conn.getConnectedAddress(), conn.getConnectedPort()));
+        }
         return conn;
       }
       catch (final LDAPException e)
@@ -40,8 +40,6 @@ package com.unboundid.ldap.sdk;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1OctetString;
@@ -49,6 +47,7 @@ import com.unboundid.ldap.protocol.BindRequestProtocolOp;
 import com.unboundid.ldap.protocol.LDAPMessage;
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
 import com.unboundid.util.Extensible;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.NotNull;
@@ -93,8 +92,9 @@ public abstract class SASLBindRequest
   // The message ID to use for LDAP messages used in bind processing.
   private int messageID;
 
-  // The queue used to receive responses from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue;
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
 
 
@@ -107,8 +107,8 @@ public abstract class SASLBindRequest
   {
     super(controls);
 
-    messageID     = -1;
-    responseQueue = new LinkedBlockingQueue<>();
+    messageID       = -1;
+    responseHandoff = null;
   }
 
 
@@ -216,6 +216,11 @@ public abstract class SASLBindRequest
 
     final int msgID = requestMessage.getMessageID();
     connection.registerResponseAcceptor(msgID, this);
+
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    handoff.expect(msgID);
+    responseHandoff = handoff;
+
     try
     {
       Debug.debugLDAPRequest(Level.INFO, this, msgID, connection);
@@ -235,14 +240,7 @@ public abstract class SASLBindRequest
       final LDAPResponse response;
       try
       {
-        if (timeoutMillis > 0)
-        {
-          response = responseQueue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(timeoutMillis);
       }
       catch (final InterruptedException ie)
       {
@@ -257,6 +255,8 @@ public abstract class SASLBindRequest
     finally
     {
       connection.deregisterResponseAcceptor(msgID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
@@ -341,6 +341,7 @@ public abstract class SASLBindRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       throw new LDAPException(ResultCode.TIMEOUT,
            ERR_SASL_BIND_CLIENT_TIMEOUT.get(waitTime, getSASLMechanismName(),
                 messageID, connection.getHostPort()));
@@ -381,23 +382,11 @@ public abstract class SASLBindRequest
   public final void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
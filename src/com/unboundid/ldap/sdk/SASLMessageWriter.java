@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.security.sasl.Sasl;
+import javax.security.sasl.SaslClient;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a mechanism for writing encoded LDAP messages over a
+ * connection that has a SASL integrity or confidentiality layer in effect.
+ * The clear-text data is passed to the SASL client directly from the buffer in
+ * which the message was encoded, so it does not need to be copied before it is
+ * wrapped.  If the SASL client has negotiated a maximum amount of data that
+ * may be wrapped at once, then a message that is larger than that will be
+ * split across multiple wrapped packets.
+ * <BR><BR>
+ * All of the packets for a message are wrapped and written while holding a lock
+ * that is specific to this writer, so packets for messages sent concurrently by
+ * different threads will not be interleaved, and they will be written in the
+ * same order in which they were wrapped (which is important for mechanisms that
+ * include a sequence number in each packet).  The four-byte length that
+ * precedes each packet is written into the same buffered output stream as the
+ * packet itself, so both will normally be sent to the server together when the
+ * stream is flushed.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class SASLMessageWriter
+{
+  // The maximum number of bytes of clear-text data that will be wrapped in a
+  // single packet, or zero if there is no limit.
+  private final int maxRawSendSize;
+
+  // The lock used to ensure that all of the packets for a message are wrapped
+  // and written together.  This is used instead of a monitor so that a virtual
+  // thread that blocks while writing will not pin its carrier thread.
+  @NotNull private final ReentrantLock writeLock;
+
+  // The SASL client that will be used to wrap the data.
+  @NotNull private final SaslClient saslClient;
+
+
+
+  /**
+   * Creates a new SASL message writer that will use the provided SASL client.
+   *
+   * @param  saslClient  The SASL client to use to wrap messages.  It must
+   *                     have completed authentication.
+   */
+  SASLMessageWriter(@NotNull final SaslClient saslClient)
+  {
+    this.saslClient = saslClient;
+
+    maxRawSendSize = getMaxRawSendSize(saslClient);
+    writeLock = new ReentrantLock();
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of bytes of clear-text data that the provided
+   * SASL client has indicated it can wrap at once.
+   *
+   * @param  saslClient  The SASL client for which to make the determination.
+   *
+   * @return  The maximum number of bytes of clear-text data that the provided
+   *          SASL client can wrap at once, or zero if it does not specify a
+   *          limit.
+   */
+  static int getMaxRawSendSize(@NotNull final SaslClient saslClient)
+  {
+    try
+    {
+      final Object rawSendSize =
+           saslClient.getNegotiatedProperty(Sasl.RAW_SEND_SIZE);
+      if (rawSendSize != null)
+      {
+        final int size = Integer.parseInt(String.valueOf(rawSendSize).trim());
+        if (size > 0)
+        {
+          return size;
+        }
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+
+    return 0;
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of bytes of clear-text data that will be
+   * wrapped in a single packet.
+   *
+   * @return  The maximum number of bytes of clear-text data that will be
+   *          wrapped in a single packet, or zero if there is no limit.
+   */
+  int getMaxRawSendSize()
+  {
+    return maxRawSendSize;
+  }
+
+
+
+  /**
+   * Wraps the encoded message in the provided buffer and writes it to the
+   * given output stream.  The output stream will not be flushed.
+   *
+   * @param  buffer        The buffer containing the encoded message to write.
+   * @param  outputStream  The output stream to which the wrapped data should be
+   *                       written.
+   *
+   * @throws  IOException  If a problem occurs while wrapping or writing the
+   *                       data.
+   */
+  void write(@NotNull final ASN1Buffer buffer,
+             @NotNull final OutputStream outputStream)
+       throws IOException
+  {
+    if (Debug.debugEnabled(DebugType.ASN1))
+    {
+      Debug.debugASN1Write(buffer);
+    }
+
+    final ByteBuffer clearData = buffer.asByteBuffer();
+    final byte[] clearBytes = clearData.array();
+    final int endPos = clearData.arrayOffset() + clearData.limit();
+
+    writeLock.lock();
+    try
+    {
+      int pos = clearData.arrayOffset() + clearData.position();
+      while (pos < endPos)
+      {
+        int length = endPos - pos;
+        if ((maxRawSendSize > 0) && (length > maxRawSendSize))
+        {
+          length = maxRawSendSize;
+        }
+
+        final byte[] wrappedBytes = saslClient.wrap(clearBytes, pos, length);
+        outputStream.write((wrappedBytes.length >> 24) & 0xFF);
+        outputStream.write((wrappedBytes.length >> 16) & 0xFF);
+        outputStream.write((wrappedBytes.length >> 8) & 0xFF);
+        outputStream.write(wrappedBytes.length & 0xFF);
+        outputStream.write(wrappedBytes);
+
+        pos += length;
+      }
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
+  }
+}
@@ -41,7 +41,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Timer;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -58,6 +57,7 @@ import com.unboundid.ldap.protocol.LDAPMessage;
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.protocol.ProtocolOp;
 import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
@@ -291,6 +291,10 @@ public final class SearchRequest
   // The base DN for this search request.
   @NotNull private String baseDN;
 
+  // The pre-encoded representation of this request, if it was created from a
+  // template and has not been altered since.
+  @Nullable private transient PreEncodedProtocolOp preEncodedProtocolOp;
+
 
 
   /**
@@ -972,6 +976,8 @@ public final class SearchRequest
     Validator.ensureNotNull(baseDN);
 
     this.baseDN = baseDN;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -987,6 +993,8 @@ public final class SearchRequest
     Validator.ensureNotNull(baseDN);
 
     this.baseDN = baseDN.toString();
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1011,6 +1019,8 @@ public final class SearchRequest
   public void setScope(@NotNull final SearchScope scope)
   {
     this.scope = scope;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1038,6 +1048,8 @@ public final class SearchRequest
   public void setDerefPolicy(@NotNull final DereferencePolicy derefPolicy)
   {
     this.derefPolicy = derefPolicy;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1082,6 +1094,8 @@ public final class SearchRequest
     {
       this.sizeLimit = sizeLimit;
     }
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1126,6 +1140,8 @@ public final class SearchRequest
     {
       this.timeLimit = timeLimit;
     }
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1152,6 +1168,8 @@ public final class SearchRequest
   public void setTypesOnly(final boolean typesOnly)
   {
     this.typesOnly = typesOnly;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1184,6 +1202,8 @@ public final class SearchRequest
     Validator.ensureNotNull(filter);
 
     this.filter = Filter.create(filter);
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1199,6 +1219,8 @@ public final class SearchRequest
     Validator.ensureNotNull(filter);
 
     this.filter = filter;
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1249,6 +1271,8 @@ public final class SearchRequest
     {
       this.attributes = attributes;
     }
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1275,6 +1299,8 @@ public final class SearchRequest
         this.attributes[i] = attributes.get(i);
       }
     }
+
+    preEncodedProtocolOp = null;
   }
 
 
@@ -1449,6 +1475,7 @@ public final class SearchRequest
 
         if (response == null)
         {
+          connection.recordOperationOutcome(ResultCode.TIMEOUT);
           if (connection.getConnectionOptions().abandonOnTimeout())
           {
             connection.abandon(messageID);
@@ -1608,6 +1635,42 @@ public final class SearchRequest
 
 
 
+  /**
+   * Specifies the pre-encoded representation of this request.  It will be
+   * sent in place of encoding this request for as long as this request is not
+   * altered.
+   *
+   * @param  preEncodedProtocolOp  The pre-encoded representation of this
+   *                               request.
+   */
+  void setPreEncodedProtocolOp(
+            @NotNull final PreEncodedProtocolOp preEncodedProtocolOp)
+  {
+    this.preEncodedProtocolOp = preEncodedProtocolOp;
+  }
+
+
+
+  /**
+   * Creates the LDAP message to send to the server for this request, using
+   * the pre-encoded representation of this request if one is available.
+   *
+   * @return  The LDAP message that was created.
+   */
+  @NotNull()
+  private LDAPMessage createRequestMessage()
+  {
+    final PreEncodedProtocolOp op = preEncodedProtocolOp;
+    if ((op != null) && (op.getControls() == getControls()))
+    {
+      return new LDAPMessage(messageID, op);
+    }
+
+    return new LDAPMessage(messageID, this, getControls());
+  }
+
+
+
   /**
    * Sends this search request to the directory server over the provided
    * connection and returns the message ID for the request.
@@ -1632,7 +1695,7 @@ public final class SearchRequest
   {
     // Create the LDAP message.
     messageID = connection.nextMessageID();
-    final LDAPMessage message = new LDAPMessage(messageID, this, getControls());
+    final LDAPMessage message = createRequestMessage();
 
 
     // If the provided async result listener is {@code null}, then we'll use
@@ -1654,7 +1717,7 @@ public final class SearchRequest
 
       if (timeout > 0L)
       {
-        final Timer timer = connection.getTimer();
+        final HashedWheelTimer timer = connection.getTimer();
         final AsyncTimeoutTimerTask timerTask =
              new AsyncTimeoutTimerTask(helper);
         timer.schedule(timerTask, timeout);
@@ -1717,8 +1780,7 @@ public final class SearchRequest
   {
     // Create the LDAP message.
     messageID = connection.nextMessageID();
-    final LDAPMessage message =
-         new LDAPMessage(messageID,  this, getControls());
+    final LDAPMessage message = createRequestMessage();
 
 
     // Send the request to the server.
@@ -1803,6 +1865,7 @@ public final class SearchRequest
 
       if (response == null)
       {
+        connection.recordOperationOutcome(ResultCode.TIMEOUT);
         if (connection.getConnectionOptions().abandonOnTimeout())
         {
           connection.abandon(messageID);
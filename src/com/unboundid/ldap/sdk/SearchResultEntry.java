@@ -37,12 +37,18 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
 
 import com.unboundid.asn1.ASN1StreamReader;
 import com.unboundid.asn1.ASN1StreamReaderSequence;
+import com.unboundid.asn1.ASN1StreamReaderSet;
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.sdk.schema.Schema;
 import com.unboundid.util.Debug;
@@ -50,6 +56,7 @@ import com.unboundid.util.NotMutable;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
 import com.unboundid.util.StaticUtils;
+import com.unboundid.util.StringInternTable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.Validator;
@@ -79,6 +86,10 @@ public final class SearchResultEntry
   // The set of controls returned with this search result entry.
   @NotNull private final Control[] controls;
 
+  // The values of any attributes that were streamed rather than decoded with
+  // the rest of the entry.
+  @Nullable private final List<StreamedAttributeValue> streamedValues;
+
   // The message ID for the LDAP message containing this response.
   private final int messageID;
 
@@ -149,6 +160,8 @@ public final class SearchResultEntry
 
     this.messageID = messageID;
     this.controls  = controls;
+
+    streamedValues = Collections.emptyList();
   }
 
 
@@ -218,6 +231,36 @@ public final class SearchResultEntry
 
     this.messageID = messageID;
     this.controls  = controls;
+
+    streamedValues = Collections.emptyList();
+  }
+
+
+
+  /**
+   * Creates a new search result entry with the provided information.
+   *
+   * @param  messageID       The message ID for the LDAP message containing
+   *                         this response.
+   * @param  entry           The entry to use to create this search result
+   *                         entry.  It must not be {@code null}.
+   * @param  streamedValues  The values of any attributes that were streamed
+   *                         rather than decoded with the rest of the entry.
+   *                         It must not be {@code null}.
+   * @param  controls        The set of controls for this search result entry.
+   *                         It must not be {@code null}.
+   */
+  SearchResultEntry(final int messageID, @NotNull final Entry entry,
+                    @NotNull final List<StreamedAttributeValue> streamedValues,
+                    @NotNull final Control... controls)
+  {
+    super(entry);
+
+    Validator.ensureNotNull(streamedValues, controls);
+
+    this.messageID      = messageID;
+    this.controls       = controls;
+    this.streamedValues = Collections.unmodifiableList(streamedValues);
   }
 
 
@@ -257,6 +300,8 @@ public final class SearchResultEntry
 
     this.messageID = messageID;
     this.controls  = controls;
+
+    streamedValues = Collections.emptyList();
   }
 
 
@@ -287,43 +332,265 @@ public final class SearchResultEntry
               @NotNull final ASN1StreamReader reader,
               @Nullable final Schema schema)
          throws LDAPException
+  {
+    return readSearchEntryFrom(messageID, messageSequence, reader, schema,
+         false);
+  }
+
+
+
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader.  If the attributes are to be
+   * lazily decoded, then the encoded attribute list will be read into a single
+   * array and the attributes will not be decoded until they are first
+   * accessed, at which point their values will be created as views into that
+   * array.
+   *
+   * @param  messageID        The message ID for the LDAP message containing
+   *                          this response.
+   * @param  messageSequence  The ASN.1 stream reader sequence used in the
+   *                          course of reading the LDAP message elements.
+   * @param  reader           The ASN.1 stream reader from which to read the
+   *                          protocol op and controls.
+   * @param  schema           The schema to use to select the appropriate
+   *                          matching rule to use for each attribute.  It may
+   *                          be {@code null} if the default matching rule
+   *                          should always be used.
+   * @param  lazilyDecode     Indicates whether to retain the attributes in
+   *                          encoded form and decode them only when they are
+   *                          first accessed.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @NotNull()
+  static SearchResultEntry readSearchEntryFrom(final int messageID,
+              @NotNull final ASN1StreamReaderSequence messageSequence,
+              @NotNull final ASN1StreamReader reader,
+              @Nullable final Schema schema,
+              final boolean lazilyDecode)
+         throws LDAPException
+  {
+    return readSearchEntryFrom(messageID, messageSequence, reader, schema,
+         lazilyDecode, null);
+  }
+
+
+
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader, optionally lazily decoding its
+   * attributes and interning their names.
+   *
+   * @param  messageID          The message ID for the LDAP message containing
+   *                            this response.
+   * @param  messageSequence    The ASN.1 stream reader sequence used in the
+   *                            course of reading the LDAP message elements.
+   * @param  reader             The ASN.1 stream reader from which to read the
+   *                            protocol op and controls.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule to use for each attribute.  It
+   *                            may be {@code null} if the default matching
+   *                            rule should always be used.
+   * @param  lazilyDecode       Indicates whether to retain the attributes in
+   *                            encoded form and decode them only when they are
+   *                            first accessed.
+   * @param  internTable        The table to use to intern attribute names.  It
+   *                            may be {@code null} if attribute names should
+   *                            not be interned.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @NotNull()
+  private static SearchResultEntry readSearchEntryFrom(final int messageID,
+               @NotNull final ASN1StreamReaderSequence messageSequence,
+               @NotNull final ASN1StreamReader reader,
+               @Nullable final Schema schema,
+               final boolean lazilyDecode,
+               @Nullable final StringInternTable internTable)
+          throws LDAPException
   {
     try
     {
       reader.beginSequence();
       final String dn = reader.readString();
 
+      final ArrayList<Attribute> attrList;
+      final LazilyDecodedAttributeMap lazyAttributes;
+      if (lazilyDecode)
+      {
+        attrList = null;
+        lazyAttributes = new LazilyDecodedAttributeMap(reader.readBytes(),
+             schema, internTable);
+      }
+      else
+      {
+        lazyAttributes = null;
+        attrList = new ArrayList<>(10);
+        final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
+        while (attrSequence.hasMoreElements())
+        {
+          if (internTable == null)
+          {
+            attrList.add(Attribute.readFrom(reader, schema));
+          }
+          else
+          {
+            reader.beginSequence();
+            final String attrName = internTable.intern(reader.readString());
+            Validator.ensureNotNull(attrName);
+            attrList.add(Attribute.readValuesFrom(reader, attrName, schema));
+          }
+        }
+      }
+
+      final Control[] controls = readControls(messageSequence, reader);
+      if (lazyAttributes != null)
+      {
+        return new SearchResultEntry(messageID,
+             new Entry(dn, schema, lazyAttributes), controls);
+      }
+      else if (internTable != null)
+      {
+        return new SearchResultEntry(messageID,
+             new Entry(dn, schema, toAttributeMap(attrList, internTable)),
+             controls);
+      }
+      else
+      {
+        return new SearchResultEntry(messageID, dn, schema, attrList, controls);
+      }
+    }
+    catch (final LDAPException le)
+    {
+      Debug.debugException(le);
+      throw le;
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      throw new LDAPException(ResultCode.DECODING_ERROR,
+           ERR_SEARCH_ENTRY_CANNOT_DECODE.get(
+                StaticUtils.getExceptionMessage(e)),
+           e);
+    }
+  }
+
+
+
+  /**
+   * Creates a new search result entry object with the protocol op and controls
+   * read from the given ASN.1 stream reader.  The values of any attributes
+   * that the provided connection options indicate should be streamed will be
+   * read as {@link StreamedAttributeValue} objects rather than being included
+   * in the attributes of the entry.
+   *
+   * @param  messageID          The message ID for the LDAP message containing
+   *                            this response.
+   * @param  messageSequence    The ASN.1 stream reader sequence used in the
+   *                            course of reading the LDAP message elements.
+   * @param  reader             The ASN.1 stream reader from which to read the
+   *                            protocol op and controls.
+   * @param  schema             The schema to use to select the appropriate
+   *                            matching rule to use for each attribute.  It
+   *                            may be {@code null} if the default matching
+   *                            rule should always be used.
+   * @param  connectionOptions  The connection options that indicate which
+   *                            attributes should be streamed and how their
+   *                            values should be held.
+   *
+   * @return  The decoded search result entry object.
+   *
+   * @throws  LDAPException  If a problem occurs while reading or decoding data
+   *                         from the ASN.1 stream reader.
+   */
+  @NotNull()
+  static SearchResultEntry readSearchEntryFrom(final int messageID,
+              @NotNull final ASN1StreamReaderSequence messageSequence,
+              @NotNull final ASN1StreamReader reader,
+              @Nullable final Schema schema,
+              @NotNull final LDAPConnectionOptions connectionOptions)
+         throws LDAPException
+  {
+    final Set<String> streamedAttributes =
+         connectionOptions.getStreamedAttributes();
+    final StringInternTable internTable =
+         connectionOptions.getStringInternTable();
+    if (streamedAttributes.isEmpty())
+    {
+      return readSearchEntryFrom(messageID, messageSequence, reader, schema,
+           connectionOptions.lazilyDecodeSearchEntries(), internTable);
+    }
+
+    final int maxMemorySize =
+         connectionOptions.getStreamedAttributeValueMaxMemorySize();
+    final File tempDirectory =
+         connectionOptions.getStreamedAttributeValueTempDirectory();
+
+    final ArrayList<StreamedAttributeValue> streamedValues =
+         new ArrayList<>(5);
+    try
+    {
+      reader.beginSequence();
+      final String dn = reader.readString();
+
       final ArrayList<Attribute> attrList = new ArrayList<>(10);
       final ASN1StreamReaderSequence attrSequence = reader.beginSequence();
       while (attrSequence.hasMoreElements())
       {
-        attrList.add(Attribute.readFrom(reader, schema));
-      }
+        reader.beginSequence();
+        String attrName = reader.readString();
+        Validator.ensureNotNull(attrName);
+        if (internTable != null)
+        {
+          attrName = internTable.intern(attrName);
+        }
 
-      Control[] controls = NO_CONTROLS;
-      if (messageSequence.hasMoreElements())
-      {
-        final ArrayList<Control> controlList = new ArrayList<>(5);
-        final ASN1StreamReaderSequence controlSequence = reader.beginSequence();
-        while (controlSequence.hasMoreElements())
+        if (streamedAttributes.contains(
+             StaticUtils.toLowerCase(Attribute.getBaseName(attrName))))
         {
-          controlList.add(Control.readFrom(reader));
+          final ASN1StreamReaderSet valueSet = reader.beginSet();
+          while (valueSet.hasMoreElements())
+          {
+            streamedValues.add(StreamedAttributeValue.readFrom(reader,
+                 attrName, maxMemorySize, tempDirectory));
+          }
         }
+        else
+        {
+          attrList.add(Attribute.readValuesFrom(reader, attrName, schema));
+        }
+      }
 
-        controls = new Control[controlList.size()];
-        controlList.toArray(controls);
+      final Control[] controls = readControls(messageSequence, reader);
+      final Entry entry;
+      if (internTable == null)
+      {
+        entry = new Entry(dn, schema, attrList);
+      }
+      else
+      {
+        entry = new Entry(dn, schema, toAttributeMap(attrList, internTable));
       }
 
-      return new SearchResultEntry(messageID, dn, schema, attrList, controls);
+      return new SearchResultEntry(messageID, entry, streamedValues, controls);
     }
     catch (final LDAPException le)
     {
       Debug.debugException(le);
+      closeStreamedValues(streamedValues);
       throw le;
     }
     catch (final Exception e)
     {
       Debug.debugException(e);
+      closeStreamedValues(streamedValues);
       throw new LDAPException(ResultCode.DECODING_ERROR,
            ERR_SEARCH_ENTRY_CANNOT_DECODE.get(
                 StaticUtils.getExceptionMessage(e)),
@@ -333,6 +600,99 @@ public final class SearchResultEntry
 
 
 
+  /**
+   * Reads the set of controls, if any, that follow the protocol op in the
+   * LDAP message containing a search result entry.
+   *
+   * @param  messageSequence  The ASN.1 stream reader sequence used in the
+   *                          course of reading the LDAP message elements.
+   * @param  reader           The ASN.1 stream reader from which to read the
+   *                          controls.
+   *
+   * @return  The controls that were read, or an empty array if there were no
+   *          controls.
+   *
+   * @throws  Exception  If a problem occurs while reading or decoding the
+   *                     controls.
+   */
+  @NotNull()
+  private static Control[] readControls(
+               @NotNull final ASN1StreamReaderSequence messageSequence,
+               @NotNull final ASN1StreamReader reader)
+          throws Exception
+  {
+    if (! messageSequence.hasMoreElements())
+    {
+      return NO_CONTROLS;
+    }
+
+    final ArrayList<Control> controlList = new ArrayList<>(5);
+    final ASN1StreamReaderSequence controlSequence = reader.beginSequence();
+    while (controlSequence.hasMoreElements())
+    {
+      controlList.add(Control.readFrom(reader));
+    }
+
+    final Control[] controls = new Control[controlList.size()];
+    controlList.toArray(controls);
+    return controls;
+  }
+
+
+
+  /**
+   * Creates a map of the provided attributes that is keyed on the lowercase
+   * name of each attribute, using the given table to intern those names.
+   *
+   * @param  attributes   The attributes to include in the map.
+   * @param  internTable  The table to use to intern the lowercase attribute
+   *                      names.
+   *
+   * @return  The map that was created.
+   */
+  @NotNull()
+  private static LinkedHashMap<String,Attribute> toAttributeMap(
+               @NotNull final List<Attribute> attributes,
+               @NotNull final StringInternTable internTable)
+  {
+    final LinkedHashMap<String,Attribute> attributeMap =
+         new LinkedHashMap<>(StaticUtils.computeMapCapacity(attributes.size()));
+    for (final Attribute a : attributes)
+    {
+      final String name =
+           internTable.intern(StaticUtils.toLowerCase(a.getName()));
+      final Attribute existingAttr = attributeMap.get(name);
+      if (existingAttr == null)
+      {
+        attributeMap.put(name, a);
+      }
+      else
+      {
+        attributeMap.put(name, Attribute.mergeAttributes(existingAttr, a));
+      }
+    }
+
+    return attributeMap;
+  }
+
+
+
+  /**
+   * Closes all of the provided streamed attribute values.
+   *
+   * @param  values  The values to close.
+   */
+  private static void closeStreamedValues(
+               @NotNull final Collection<StreamedAttributeValue> values)
+  {
+    for (final StreamedAttributeValue v : values)
+    {
+      v.close();
+    }
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -384,6 +744,95 @@ public final class SearchResultEntry
 
 
 
+  /**
+   * Retrieves the values of any attributes that were configured to be streamed
+   * rather than decoded with the rest of this entry.  Attributes may be
+   * configured to be streamed with the
+   * {@link LDAPConnectionOptions#setStreamedAttributes(String...)} method, and
+   * their values will not be included in the attributes of this entry.
+   * <BR><BR>
+   * The caller is responsible for closing each value (or calling the
+   * {@link #closeStreamedAttributeValues()} method) once it is no longer
+   * needed.  Any temporary file used to hold a value will not be deleted until
+   * the value is closed, and this is not done automatically when the entry is
+   * no longer referenced, including for entries collected in a
+   * {@link SearchResult}.  The LDAP SDK will only close the values of entries
+   * that it discards itself, such as entries received for a search that has
+   * already been abandoned.
+   *
+   * @return  The values of any streamed attributes, in the order in which they
+   *          were read, or an empty list if there are no streamed values.
+   */
+  @NotNull()
+  public List<StreamedAttributeValue> getStreamedAttributeValues()
+  {
+    if (streamedValues == null)
+    {
+      return Collections.emptyList();
+    }
+
+    return streamedValues;
+  }
+
+
+
+  /**
+   * Retrieves the values of the specified streamed attribute.  A value will be
+   * included if the name of the attribute with which it is associated matches
+   * the provided name without regard to case, or if the provided name does not
+   * include any attribute options and it matches the base name of that
+   * attribute.
+   *
+   * @param  attributeName  The name of the streamed attribute for which to
+   *                        retrieve the values.  It must not be {@code null}.
+   *
+   * @return  The values of the specified streamed attribute, or an empty list
+   *          if there are no streamed values for that attribute.
+   */
+  @NotNull()
+  public List<StreamedAttributeValue> getStreamedAttributeValues(
+              @NotNull final String attributeName)
+  {
+    Validator.ensureNotNull(attributeName);
+
+    final List<StreamedAttributeValue> allValues =
+         getStreamedAttributeValues();
+    if (allValues.isEmpty())
+    {
+      return Collections.emptyList();
+    }
+
+    final boolean hasOptions = Attribute.hasOptions(attributeName);
+    final ArrayList<StreamedAttributeValue> values =
+         new ArrayList<>(allValues.size());
+    for (final StreamedAttributeValue v : allValues)
+    {
+      final String valueAttrName = v.getAttributeName();
+      if (valueAttrName.equalsIgnoreCase(attributeName) ||
+           ((! hasOptions) && Attribute.getBaseName(valueAttrName).
+                equalsIgnoreCase(attributeName)))
+      {
+        values.add(v);
+      }
+    }
+
+    return Collections.unmodifiableList(values);
+  }
+
+
+
+  /**
+   * Closes all of the streamed attribute values for this entry, deleting any
+   * temporary files used to hold them.  The streamed values must not be
+   * accessed after they have been closed.
+   */
+  public void closeStreamedAttributeValues()
+  {
+    closeStreamedValues(getStreamedAttributeValues());
+  }
+
+
+
   /**
    * Generates a hash code for this entry.
    *
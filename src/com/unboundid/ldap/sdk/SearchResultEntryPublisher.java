@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a mechanism for streaming the entries returned by a
+ * search to a {@link SearchResultEntrySubscriber} in a manner that allows the
+ * subscriber to control how quickly those entries are retrieved.  Entries are
+ * only read from the server in response to demand signalled through the
+ * {@link SearchResultEntrySubscription}, so the amount of memory required to
+ * process the search is bounded regardless of the number of entries that it
+ * returns.
+ * <BR><BR>
+ * By default, the publisher will use the simple paged results control (as
+ * described in <A HREF="http://www.ietf.org/rfc/rfc2696.txt">RFC 2696</A>) to
+ * retrieve the entries, and the next page will not be requested until all of
+ * the entries in the previous page have been delivered and the subscriber has
+ * requested more.  This does not impact any other operations that may be in
+ * progress on the same connection.
+ * <BR><BR>
+ * If the server does not support the simple paged results control, then the
+ * publisher may be configured to process the search as a single operation.
+ * In that case, once the configured number of entries has been buffered, the
+ * thread reading responses for the connection will block until the
+ * subscriber requests more entries, which will cause the server to stop
+ * sending additional data over the connection.  So that this does not delay
+ * responses to any other operations, each such search will be processed on a
+ * dedicated connection to the same server as the provided connection, which
+ * will be established with the same socket factory, StartTLS request, and
+ * authentication, and which will always have its own reader thread rather
+ * than a shared selector reader (even if
+ * {@link LDAPConnectionOptions#useSelectorReader()} is enabled).  That
+ * connection will be closed when the search completes or the subscription is
+ * cancelled.  The search will fail if the provided connection is not
+ * established or if it was authenticated with a bind request that does not
+ * support rebinding.
+ * <BR><BR>
+ * Each call to the {@link #subscribe} method will cause a separate search to
+ * be processed.  The search will not be sent to the server until the
+ * subscriber first requests entries.
+ * <BR><BR>
+ * The subscriber interfaces mirror those in the
+ * {@code java.util.concurrent.Flow} API, which is not available in Java 8.
+ * <H2>Example</H2>
+ * The following example demonstrates the process that may be used to stream
+ * all entries containing the {@code person} object class, requesting entries
+ * one at a time:
+ * <PRE>
+ * SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+ *      SearchScope.SUB, Filter.createEqualityFilter("objectClass", "person"));
+ * SearchResultEntryPublisher publisher =
+ *      new SearchResultEntryPublisher(connection, searchRequest);
+ *
+ * publisher.subscribe(new SearchResultEntrySubscriber()
+ * {
+ *   private SearchResultEntrySubscription subscription;
+ *
+ *   public void onSubscribe(SearchResultEntrySubscription subscription)
+ *   {
+ *     this.subscription = subscription;
+ *     subscription.request(1L);
+ *   }
+ *
+ *   public void onNext(SearchResultEntry entry)
+ *   {
+ *     // Do something with the entry here.
+ *     subscription.request(1L);
+ *   }
+ *
+ *   public void onError(Throwable error)
+ *   {
+ *     // The search failed.
+ *   }
+ *
+ *   public void onComplete(SearchResult searchResult)
+ *   {
+ *     // All entries have been processed.
+ *   }
+ * });
+ * </PRE>
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class SearchResultEntryPublisher
+{
+  /**
+   * The default page size that will be used if none is specified.
+   */
+  public static final int DEFAULT_PAGE_SIZE = 100;
+
+
+
+  // Indicates whether to use the simple paged results control.
+  private final boolean usePagedResults;
+
+  // The page size, or the maximum number of entries to buffer if paging is not
+  // used.
+  private final int pageSize;
+
+  // The connection that will be used to process the searches.
+  @NotNull private final LDAPConnection connection;
+
+  // The search request to process.
+  @NotNull private final SearchRequest searchRequest;
+
+
+
+  /**
+   * Creates a new search result entry publisher that will use the simple paged
+   * results control with the default page size.
+   *
+   * @param  connection     The connection that will be used to process the
+   *                        search.  It must not be {@code null}.
+   * @param  searchRequest  The search request to process.  It must not be
+   *                        {@code null}, it must not be configured with a
+   *                        {@link SearchResultListener}, and it must not
+   *                        include a simple paged results control.
+   *
+   * @throws  LDAPException  If there is a problem with the provided search
+   *                         request.
+   */
+  public SearchResultEntryPublisher(@NotNull final LDAPConnection connection,
+                                    @NotNull final SearchRequest searchRequest)
+         throws LDAPException
+  {
+    this(connection, searchRequest, true, DEFAULT_PAGE_SIZE);
+  }
+
+
+
+  /**
+   * Creates a new search result entry publisher with the provided information.
+   *
+   * @param  connection       The connection that will be used to process the
+   *                          search.  It must not be {@code null}.
+   * @param  searchRequest    The search request to process.  It must not be
+   *                          {@code null}, and it must not be configured with
+   *                          a {@link SearchResultListener}.  If the simple
+   *                          paged results control is to be used, then the
+   *                          request must not already include that control.
+   * @param  usePagedResults  Indicates whether to use the simple paged results
+   *                          control to retrieve entries as they are
+   *                          requested.  If this is {@code false}, then the
+   *                          search will be processed as a single operation
+   *                          on a dedicated connection to the same server,
+   *                          which will stop reading responses whenever the
+   *                          buffer is full.
+   * @param  pageSize         The number of entries to request in each page if
+   *                          the simple paged results control is used, or the
+   *                          maximum number of entries to buffer otherwise.
+   *                          It must be greater than zero.
+   *
+   * @throws  LDAPException  If there is a problem with the provided search
+   *                         request.
+   */
+  public SearchResultEntryPublisher(@NotNull final LDAPConnection connection,
+                                    @NotNull final SearchRequest searchRequest,
+                                    final boolean usePagedResults,
+                                    final int pageSize)
+         throws LDAPException
+  {
+    Validator.ensureNotNull(connection, searchRequest);
+    Validator.ensureTrue(pageSize > 0,
+         "SearchResultEntryPublisher.pageSize must be greater than 0.");
+
+    if (searchRequest.getSearchResultListener() != null)
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_SEARCH_PUBLISHER_REQUEST_HAS_LISTENER.get());
+    }
+
+    if (usePagedResults && searchRequest.hasControl(
+         SimplePagedResultsControl.PAGED_RESULTS_OID))
+    {
+      throw new LDAPException(ResultCode.PARAM_ERROR,
+           ERR_SEARCH_PUBLISHER_REQUEST_HAS_PAGED_CONTROL.get());
+    }
+
+    this.connection      = connection;
+    this.searchRequest   = searchRequest.duplicate();
+    this.usePagedResults = usePagedResults;
+    this.pageSize        = pageSize;
+  }
+
+
+
+  /**
+   * Retrieves the connection that will be used to process searches.
+   *
+   * @return  The connection that will be used to process searches.
+   */
+  @NotNull()
+  public LDAPConnection getConnection()
+  {
+    return connection;
+  }
+
+
+
+  /**
+   * Retrieves the search request that will be processed for each subscriber.
+   *
+   * @return  The search request that will be processed for each subscriber.
+   */
+  @NotNull()
+  public SearchRequest getSearchRequest()
+  {
+    return searchRequest;
+  }
+
+
+
+  /**
+   * Indicates whether the simple paged results control will be used to
+   * retrieve entries.
+   *
+   * @return  {@code true} if the simple paged results control will be used, or
+   *          {@code false} if each search will be processed as a single
+   *          operation.
+   */
+  public boolean usePagedResults()
+  {
+    return usePagedResults;
+  }
+
+
+
+  /**
+   * Retrieves the page size that will be used if the simple paged results
+   * control is enabled, or the maximum number of entries to buffer if it is
+   * not.
+   *
+   * @return  The page size or the maximum number of entries to buffer.
+   */
+  public int getPageSize()
+  {
+    return pageSize;
+  }
+
+
+
+  /**
+   * Registers the provided subscriber with this publisher.  The subscriber's
+   * {@link SearchResultEntrySubscriber#onSubscribe} method will be invoked
+   * before this method returns, and a new search will be processed once the
+   * subscriber requests entries.
+   *
+   * @param  subscriber  The subscriber to register.  It must not be
+   *                     {@code null}.
+   */
+  public void subscribe(@NotNull final SearchResultEntrySubscriber subscriber)
+  {
+    Validator.ensureNotNull(subscriber);
+
+    final SearchResultEntryPublisherSubscription subscription =
+         new SearchResultEntryPublisherSubscription(connection, searchRequest,
+              usePagedResults, pageSize, subscriber);
+    subscriber.onSubscribe(subscription);
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this search result entry publisher.
+   *
+   * @return  A string representation of this search result entry publisher.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this search result entry publisher to
+   * the provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("SearchResultEntryPublisher(connection=");
+    connection.toString(buffer);
+    buffer.append(", searchRequest=");
+    searchRequest.toString(buffer);
+    buffer.append(", usePagedResults=");
+    buffer.append(usePagedResults);
+    buffer.append(", pageSize=");
+    buffer.append(pageSize);
+    buffer.append(')');
+  }
+}
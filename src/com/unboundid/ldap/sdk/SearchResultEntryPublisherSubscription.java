@@ -0,0 +1,668 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides the subscription used by a
+ * {@link SearchResultEntryPublisher} to process a search on behalf of a single
+ * subscriber.  Entries received from the server are held in a bounded buffer
+ * and delivered to the subscriber only as it requests them.  All subscriber
+ * methods are invoked serially by whichever thread is responsible for draining
+ * the buffer at the time.
+ * <BR><BR>
+ * If the simple paged results control is not used, then the search is
+ * processed on a dedicated connection that is established for this
+ * subscription and closed when it terminates or is cancelled, since the reader
+ * thread for that connection will be blocked whenever the buffer is full.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class SearchResultEntryPublisherSubscription
+      implements SearchResultEntrySubscription, AsyncSearchResultListener
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -2934711085163027615L;
+
+
+
+  // The entries that have been received but not yet delivered.
+  @NotNull private final ArrayDeque<SearchResultEntry> buffer;
+
+  // The async request ID for the most recent search request.
+  @Nullable private volatile AsyncRequestID asyncRequestID;
+
+  // The cookie to include in the next simple paged results request.
+  @Nullable private ASN1OctetString cookie;
+
+  // Indicates whether the subscription has been cancelled.
+  private boolean cancelled;
+
+  // Indicates whether a thread is currently delivering to the subscriber.
+  private boolean draining;
+
+  // Indicates whether a search request is currently outstanding.
+  private boolean requestOutstanding;
+
+  // Indicates whether all results have been received from the server.
+  private boolean searchDone;
+
+  // Indicates whether the subscriber has been notified of completion.
+  private boolean terminated;
+
+  // Indicates whether to use the simple paged results control.
+  private final boolean usePagedResults;
+
+  // The page size, or the maximum number of entries to buffer.
+  private final int pageSize;
+
+  // The total number of entries received from the server.
+  private int numEntries;
+
+  // The outstanding demand from the subscriber.
+  private long demand;
+
+  // The connection provided to the publisher.
+  @NotNull private final LDAPConnection connection;
+
+  // The connection used to process the search.  If paged results are not
+  // used, then it will be a dedicated connection established for this
+  // subscription.
+  @Nullable private volatile LDAPConnection searchConnection;
+
+  // The references returned by the server.
+  @NotNull private final List<SearchResultReference> references;
+
+  // The lock used to protect the state of this subscription.
+  @NotNull private final Object lock;
+
+  // The search request to process.
+  @NotNull private final SearchRequest searchRequest;
+
+  // The subscriber to which entries will be delivered.
+  @NotNull private final SearchResultEntrySubscriber subscriber;
+
+  // The search result to provide when all entries have been delivered.
+  @Nullable private SearchResult finalResult;
+
+  // The error to provide when all entries have been delivered.
+  @Nullable private Throwable error;
+
+
+
+  /**
+   * Creates a new subscription with the provided information.
+   *
+   * @param  connection       The connection provided to the publisher.  If
+   *                          paged results are not used, then the search will
+   *                          be processed on a new connection to the same
+   *                          server.
+   * @param  searchRequest    The search request to process.
+   * @param  usePagedResults  Indicates whether to use the simple paged results
+   *                          control.
+   * @param  pageSize         The page size, or the maximum number of entries
+   *                          to buffer if paging is not used.
+   * @param  subscriber       The subscriber to which entries will be
+   *                          delivered.
+   */
+  SearchResultEntryPublisherSubscription(
+       @NotNull final LDAPConnection connection,
+       @NotNull final SearchRequest searchRequest,
+       final boolean usePagedResults, final int pageSize,
+       @NotNull final SearchResultEntrySubscriber subscriber)
+  {
+    this.connection      = connection;
+    this.searchRequest   = searchRequest;
+    this.usePagedResults = usePagedResults;
+    this.pageSize        = pageSize;
+    this.subscriber      = subscriber;
+
+    buffer     = new ArrayDeque<>(pageSize);
+    references = new ArrayList<>(1);
+    lock       = new Object();
+
+    asyncRequestID     = null;
+    searchConnection   = null;
+    cookie             = null;
+    cancelled          = false;
+    draining           = false;
+    requestOutstanding = false;
+    searchDone         = false;
+    terminated         = false;
+    numEntries         = 0;
+    demand             = 0L;
+    finalResult        = null;
+    error              = null;
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void request(final long n)
+  {
+    synchronized (lock)
+    {
+      if (cancelled || terminated)
+      {
+        return;
+      }
+
+      if (n <= 0L)
+      {
+        buffer.clear();
+        searchDone = true;
+        error = new IllegalArgumentException(
+             ERR_SEARCH_PUBLISHER_INVALID_DEMAND.get(n));
+      }
+      else
+      {
+        demand += n;
+        if (demand < 0L)
+        {
+          demand = Long.MAX_VALUE;
+        }
+      }
+
+      lock.notifyAll();
+    }
+
+    if (n <= 0L)
+    {
+      abandonSearch();
+    }
+
+    drain();
+  }
+
+
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override()
+  public void cancel()
+  {
+    final boolean releaseCookie;
+    synchronized (lock)
+    {
+      if (cancelled || terminated)
+      {
+        return;
+      }
+
+      cancelled = true;
+      buffer.clear();
+      lock.notifyAll();
+
+      releaseCookie = usePagedResults && (! requestOutstanding) &&
+           (! searchDone) && (cookie != null) &&
+           (cookie.getValueLength() > 0);
+    }
+
+    abandonSearch();
+    closeDedicatedConnection();
+
+    // If the server is holding state for a partially-retrieved paged search,
+    // then send a request with a page size of zero to let it be released.
+    if (releaseCookie)
+    {
+      try
+      {
+        connection.asyncSearch(createRequest(0));
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This is intended for internal use only and should not be
+   * called by anything outside of the LDAP SDK itself.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchEntryReturned(@NotNull final SearchResultEntry searchEntry)
+  {
+    synchronized (lock)
+    {
+      // If the server is not paging the results, then block the connection
+      // reader until the subscriber makes room in the buffer.  This only
+      // blocks the reader thread for the dedicated connection established for
+      // this subscription.
+      while ((! usePagedResults) && (buffer.size() >= pageSize) &&
+           (! cancelled) && (! searchDone))
+      {
+        try
+        {
+          lock.wait();
+        }
+        catch (final InterruptedException e)
+        {
+          Debug.debugException(e);
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+
+      if (cancelled || searchDone)
+      {
+        return;
+      }
+
+      buffer.add(searchEntry);
+      numEntries++;
+    }
+
+    drain();
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This is intended for internal use only and should not be
+   * called by anything outside of the LDAP SDK itself.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchReferenceReturned(
+                   @NotNull final SearchResultReference searchReference)
+  {
+    synchronized (lock)
+    {
+      if (! (cancelled || searchDone))
+      {
+        references.add(searchReference);
+      }
+    }
+  }
+
+
+
+  /**
+   * {@inheritDoc}  This is intended for internal use only and should not be
+   * called by anything outside of the LDAP SDK itself.
+   */
+  @InternalUseOnly()
+  @Override()
+  public void searchResultReceived(@NotNull final AsyncRequestID requestID,
+                                   @NotNull final SearchResult searchResult)
+  {
+    SimplePagedResultsControl responseControl = null;
+    LDAPException controlException = null;
+    if (usePagedResults)
+    {
+      try
+      {
+        responseControl = SimplePagedResultsControl.get(searchResult);
+      }
+      catch (final LDAPException e)
+      {
+        Debug.debugException(e);
+        controlException = e;
+      }
+    }
+
+    synchronized (lock)
+    {
+      if (cancelled || searchDone)
+      {
+        return;
+      }
+
+      requestOutstanding = false;
+
+      final ResultCode resultCode = searchResult.getResultCode();
+      if (resultCode.equals(ResultCode.SUCCESS) && (controlException == null) &&
+           (responseControl != null) && responseControl.moreResultsToReturn())
+      {
+        cookie = responseControl.getCookie();
+      }
+      else
+      {
+        searchDone = true;
+
+        final SearchResult aggregateResult = new SearchResult(
+             searchResult.getMessageID(), resultCode,
+             searchResult.getDiagnosticMessage(), searchResult.getMatchedDN(),
+             searchResult.getReferralURLs(), null, references, numEntries,
+             references.size(), searchResult.getResponseControls());
+        if (controlException != null)
+        {
+          error = new LDAPSearchException(controlException.getResultCode(),
+               controlException.getMessage(), controlException);
+        }
+        else if (resultCode.equals(ResultCode.SUCCESS))
+        {
+          finalResult = aggregateResult;
+        }
+        else
+        {
+          error = new LDAPSearchException(aggregateResult);
+        }
+      }
+    }
+
+    drain();
+  }
+
+
+
+  /**
+   * Delivers as many buffered entries to the subscriber as it has requested,
+   * notifies it if the search is complete, and sends the next search request
+   * if more entries are needed.  Only a single thread may deliver to the
+   * subscriber at any time.  If another thread is already doing so, then this
+   * method will return immediately and that thread will observe any updated
+   * state before it stops.
+   */
+  private void drain()
+  {
+    synchronized (lock)
+    {
+      if (draining)
+      {
+        return;
+      }
+
+      draining = true;
+    }
+
+    boolean sendRequest = false;
+    while (true)
+    {
+      SearchResultEntry entry = null;
+      boolean notifyTerminated = false;
+      synchronized (lock)
+      {
+        if (cancelled || terminated)
+        {
+          draining = false;
+          break;
+        }
+
+        if ((demand > 0L) && (! buffer.isEmpty()))
+        {
+          entry = buffer.poll();
+          if (demand != Long.MAX_VALUE)
+          {
+            demand--;
+          }
+          lock.notifyAll();
+        }
+        else if (buffer.isEmpty() && searchDone)
+        {
+          terminated = true;
+          notifyTerminated = true;
+        }
+        else
+        {
+          if ((demand > 0L) && buffer.isEmpty() && (! requestOutstanding))
+          {
+            requestOutstanding = true;
+            sendRequest = true;
+          }
+
+          draining = false;
+          break;
+        }
+      }
+
+      if (entry != null)
+      {
+        try
+        {
+          subscriber.onNext(entry);
+        }
+        catch (final RuntimeException e)
+        {
+          Debug.debugException(e);
+          synchronized (lock)
+          {
+            draining = false;
+          }
+          cancel();
+          return;
+        }
+      }
+      else if (notifyTerminated)
+      {
+        closeDedicatedConnection();
+        if (error == null)
+        {
+          subscriber.onComplete(finalResult);
+        }
+        else
+        {
+          subscriber.onError(error);
+        }
+      }
+    }
+
+    if (sendRequest)
+    {
+      sendRequest();
+    }
+  }
+
+
+
+  /**
+   * Sends the next search request to the server.  If a problem occurs, then the
+   * subscriber will be notified of the failure.
+   */
+  private void sendRequest()
+  {
+    try
+    {
+      // An unpaged search blocks the reader thread for the connection whenever
+      // the buffer is full, so it is processed on a dedicated connection to
+      // avoid delaying responses to any other operations.
+      LDAPConnection conn = searchConnection;
+      if (conn == null)
+      {
+        if (usePagedResults)
+        {
+          conn = connection;
+        }
+        else
+        {
+          conn = connection.createDedicatedConnection();
+        }
+
+        searchConnection = conn;
+      }
+
+      asyncRequestID = conn.asyncSearch(createRequest(pageSize));
+
+      final boolean abandon;
+      synchronized (lock)
+      {
+        abandon = cancelled;
+      }
+
+      if (abandon)
+      {
+        abandonSearch();
+        closeDedicatedConnection();
+      }
+    }
+    catch (final LDAPException e)
+    {
+      Debug.debugException(e);
+      synchronized (lock)
+      {
+        requestOutstanding = false;
+        searchDone = true;
+        if (e instanceof LDAPSearchException)
+        {
+          error = e;
+        }
+        else
+        {
+          error = new LDAPSearchException(e);
+        }
+      }
+
+      drain();
+    }
+  }
+
+
+
+  /**
+   * Creates the search request to send to the server, using this subscription
+   * as the listener.
+   *
+   * @param  size  The page size to request if the simple paged results
+   *               control is to be used.
+   *
+   * @return  The search request to send to the server.
+   */
+  @NotNull()
+  private SearchRequest createRequest(final int size)
+  {
+    final List<Control> controls =
+         new ArrayList<>(Arrays.asList(searchRequest.getControls()));
+    if (usePagedResults)
+    {
+      final ASN1OctetString c;
+      synchronized (lock)
+      {
+        c = cookie;
+      }
+
+      controls.add(new SimplePagedResultsControl(size, c, true));
+    }
+
+    final SearchRequest r = new SearchRequest(this,
+         controls.toArray(StaticUtils.NO_CONTROLS), searchRequest.getBaseDN(),
+         searchRequest.getScope(), searchRequest.getDereferencePolicy(),
+         searchRequest.getSizeLimit(), searchRequest.getTimeLimitSeconds(),
+         searchRequest.typesOnly(), searchRequest.getFilter(),
+         searchRequest.getAttributes());
+    r.setResponseTimeoutMillis(searchRequest.getResponseTimeoutMillis(null));
+    return r;
+  }
+
+
+
+  /**
+   * Abandons the outstanding search request, if there is one.
+   */
+  private void abandonSearch()
+  {
+    final AsyncRequestID requestID = asyncRequestID;
+    if (requestID != null)
+    {
+      final LDAPConnection conn = searchConnection;
+      try
+      {
+        if (conn != null)
+        {
+          conn.abandon(requestID);
+        }
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+    }
+  }
+
+
+
+  /**
+   * Closes the dedicated connection established for an unpaged search, if
+   * there is one.
+   */
+  private void closeDedicatedConnection()
+  {
+    final LDAPConnection conn = searchConnection;
+    if ((conn != null) && (conn != connection))
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this subscription.
+   *
+   * @return  A string representation of this subscription.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    synchronized (lock)
+    {
+      return "SearchResultEntryPublisherSubscription(usePagedResults=" +
+           usePagedResults + ", pageSize=" + pageSize + ", demand=" + demand +
+           ", buffered=" + buffer.size() + ", entriesReturned=" + numEntries +
+           ", cancelled=" + cancelled + ", searchDone=" + searchDone + ')';
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.Extensible;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This interface defines a set of methods that will be used to deliver search
+ * result entries from a {@link SearchResultEntryPublisher} to a consumer that
+ * controls the rate at which those entries are delivered.  The methods in
+ * this interface mirror those in the {@code java.util.concurrent.Flow}
+ * subscriber API that is available in Java 9 and later, so that it is
+ * straightforward to adapt a subscriber between the two APIs.
+ * <BR><BR>
+ * The methods of a subscriber will never be invoked concurrently, but they may
+ * be invoked by different threads, including the thread used to read responses
+ * from the directory server.  Implementations should not block for extended
+ * periods of time, and should not invoke synchronous operations on the
+ * connection used to process the search.
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.INTERFACE_NOT_THREADSAFE)
+public interface SearchResultEntrySubscriber
+{
+  /**
+   * Indicates that this subscriber has been registered with a publisher.  No
+   * entries will be delivered until the subscriber requests them using the
+   * provided subscription.
+   *
+   * @param  subscription  The subscription that may be used to request entries
+   *                       or to cancel the search.
+   */
+  void onSubscribe(@NotNull SearchResultEntrySubscription subscription);
+
+
+
+  /**
+   * Indicates that a search result entry has been returned.  This will only be
+   * invoked in response to demand signalled through the subscription.
+   *
+   * @param  entry  The search result entry that has been returned.
+   */
+  void onNext(@NotNull SearchResultEntry entry);
+
+
+
+  /**
+   * Indicates that the search has failed.  No further methods will be invoked
+   * on this subscriber.
+   *
+   * @param  error  The error that caused the search to fail.  If the failure
+   *                was the result of a problem processing the search, then
+   *                this will be an {@link LDAPSearchException}.
+   */
+  void onError(@NotNull Throwable error);
+
+
+
+  /**
+   * Indicates that all entries have been delivered and that the search has
+   * completed successfully.  No further methods will be invoked on this
+   * subscriber.
+   *
+   * @param  searchResult  The result of the search operation.  It will include
+   *                       the total number of entries returned, and any
+   *                       search result references returned by the server.
+   */
+  void onComplete(@NotNull SearchResult searchResult);
+}
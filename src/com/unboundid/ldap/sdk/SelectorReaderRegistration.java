@@ -0,0 +1,603 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.security.sasl.SaslClient;
+
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.LDAPResponse;
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class holds the state associated with a single LDAP connection that is
+ * being read by a {@link SelectorReaderThread}.  It accumulates data read from
+ * the non-blocking socket channel until one or more complete LDAP messages are
+ * available, decodes them, and hands them to the associated
+ * {@link LDAPConnectionReader} for processing.  If a SASL security layer is in
+ * effect, then the wrapped packets are also framed and unwrapped here before
+ * the LDAP messages they contain are decoded.
+ * <BR><BR>
+ * All reading and decoding is performed on the selector reader thread.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class SelectorReaderRegistration
+{
+  /**
+   * The initial size to use for the read buffers.
+   */
+  private static final int INITIAL_BUFFER_SIZE = 4096;
+
+
+
+  /**
+   * The maximum size of a buffer that will be retained once all of the data it
+   * contains has been processed.  Larger buffers will be replaced with a new
+   * buffer of the initial size so that an occasional large response does not
+   * cause a large amount of memory to be held by an idle connection.
+   */
+  private static final int MAX_RETAINED_BUFFER_SIZE = 65_536;
+
+
+
+  // Indicates whether this registration has been removed from its selector.
+  @NotNull private final AtomicBoolean deregistered;
+
+  // Indicates whether this registration has been closed.
+  private volatile boolean closed;
+
+  // The buffer holding clear-text data that has been read but not yet decoded.
+  @NotNull private byte[] messageBuffer;
+
+  // The buffer holding SASL-wrapped data that has been read but not yet
+  // unwrapped.  It will only be used if a SASL security layer is in effect.
+  @NotNull private byte[] saslBuffer;
+
+  // The positions of the first unprocessed byte and the first unused byte in
+  // the message buffer.
+  private int messageBufferStart;
+  private int messageBufferEnd;
+
+  // The positions of the first unprocessed byte and the first unused byte in
+  // the SASL buffer.
+  private int saslBufferStart;
+  private int saslBufferEnd;
+
+  // The maximum size in bytes of an LDAP message that will be accepted.
+  private final int maxMessageSize;
+
+  // The connection with which this registration is associated.
+  @NotNull private final LDAPConnection connection;
+
+  // The connection reader to which decoded responses will be provided.
+  @NotNull private final LDAPConnectionReader connectionReader;
+
+  // The SASL client that will be used to unwrap data, if a SASL security layer
+  // is in effect.
+  @Nullable private volatile SaslClient saslClient;
+
+  // The selection key for the channel, once it has been registered.
+  @Nullable private volatile SelectionKey selectionKey;
+
+  // The selector reader thread with which this registration is associated.
+  @NotNull private final SelectorReaderThread selectorThread;
+
+  // The channel from which data will be read.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new registration for the provided channel.  The channel must
+   * already be in non-blocking mode.
+   *
+   * @param  connection        The connection with which this registration is
+   *                           associated.
+   * @param  connectionReader  The connection reader to which decoded responses
+   *                           will be provided.
+   * @param  channel           The channel from which data will be read.
+   * @param  maxMessageSize    The maximum size in bytes of an LDAP message that
+   *                           will be accepted.  A value that is less than or
+   *                           equal to zero indicates that no maximum should
+   *                           be enforced.
+   * @param  selectorThread    The selector reader thread with which this
+   *                           registration will be associated.
+   */
+  SelectorReaderRegistration(@NotNull final LDAPConnection connection,
+       @NotNull final LDAPConnectionReader connectionReader,
+       @NotNull final SocketChannel channel, final int maxMessageSize,
+       @NotNull final SelectorReaderThread selectorThread)
+  {
+    this.connection = connection;
+    this.connectionReader = connectionReader;
+    this.channel = channel;
+    this.selectorThread = selectorThread;
+
+    if (maxMessageSize > 0)
+    {
+      this.maxMessageSize = maxMessageSize;
+    }
+    else
+    {
+      this.maxMessageSize = Integer.MAX_VALUE;
+    }
+
+    deregistered = new AtomicBoolean(false);
+    closed = false;
+    messageBuffer = new byte[INITIAL_BUFFER_SIZE];
+    messageBufferStart = 0;
+    messageBufferEnd = 0;
+    saslBuffer = StaticUtils.NO_BYTES;
+    saslBufferStart = 0;
+    saslBufferEnd = 0;
+    saslClient = null;
+    selectionKey = null;
+  }
+
+
+
+  /**
+   * Retrieves the channel from which data will be read.
+   *
+   * @return  The channel from which data will be read.
+   */
+  @NotNull()
+  SocketChannel getChannel()
+  {
+    return channel;
+  }
+
+
+
+  /**
+   * Retrieves the selection key for the channel.
+   *
+   * @return  The selection key for the channel, or {@code null} if the channel
+   *          has not yet been registered.
+   */
+  @Nullable()
+  SelectionKey getSelectionKey()
+  {
+    return selectionKey;
+  }
+
+
+
+  /**
+   * Specifies the selection key for the channel.  If this registration has
+   * already been closed, then the key will be cancelled immediately.
+   *
+   * @param  selectionKey  The selection key for the channel.
+   */
+  void setSelectionKey(@NotNull final SelectionKey selectionKey)
+  {
+    this.selectionKey = selectionKey;
+    if (closed)
+    {
+      selectorThread.deregister(this, false);
+    }
+  }
+
+
+
+  /**
+   * Indicates that this registration has been removed from its selector.
+   *
+   * @return  {@code true} if this is the first time this method has been
+   *          called, or {@code false} if it had already been marked
+   *          deregistered.
+   */
+  boolean markDeregistered()
+  {
+    return deregistered.compareAndSet(false, true);
+  }
+
+
+
+  /**
+   * Specifies the SASL client that should be used to unwrap any subsequent
+   * data read from the channel.
+   *
+   * @param  saslClient  The SASL client that should be used to unwrap data.
+   */
+  void setSASLClient(@NotNull final SaslClient saslClient)
+  {
+    saslBuffer = new byte[INITIAL_BUFFER_SIZE];
+    this.saslClient = saslClient;
+  }
+
+
+
+  /**
+   * Removes this registration from its selector so that the channel can be
+   * returned to blocking mode and read by a dedicated thread.  This must not
+   * be called on the selector reader thread.
+   *
+   * @throws  IOException  If the channel could not be detached, or if data was
+   *                       read from the channel that has not yet been
+   *                       processed.
+   */
+  void detach()
+       throws IOException
+  {
+    closed = true;
+    if (! selectorThread.deregister(this, true))
+    {
+      throw new IOException(ERR_SELECTOR_READER_CANNOT_DETACH.get());
+    }
+
+    if ((messageBufferEnd > messageBufferStart) ||
+        (saslBufferEnd > saslBufferStart))
+    {
+      throw new IOException(ERR_SELECTOR_READER_DETACH_UNREAD_DATA.get());
+    }
+
+    channel.configureBlocking(true);
+  }
+
+
+
+  /**
+   * Closes this registration so that no more data will be read from the
+   * channel.  This will not close the channel itself.
+   */
+  void close()
+  {
+    closed = true;
+    selectorThread.deregister(this, false);
+  }
+
+
+
+  /**
+   * Reads data that is available on the channel, and decodes and processes any
+   * complete messages.  This will only be called by the selector reader thread
+   * when the channel has been selected for reading.
+   */
+  void readAvailableData()
+  {
+    if (closed)
+    {
+      return;
+    }
+
+    try
+    {
+      final SaslClient sc = saslClient;
+      final int bytesRead;
+      if (sc == null)
+      {
+        ensureMessageBufferSpace(1);
+        bytesRead = channel.read(ByteBuffer.wrap(messageBuffer,
+             messageBufferEnd, (messageBuffer.length - messageBufferEnd)));
+        if (bytesRead > 0)
+        {
+          messageBufferEnd += bytesRead;
+        }
+      }
+      else
+      {
+        ensureSASLBufferSpace(1);
+        bytesRead = channel.read(ByteBuffer.wrap(saslBuffer, saslBufferEnd,
+             (saslBuffer.length - saslBufferEnd)));
+        if (bytesRead > 0)
+        {
+          saslBufferEnd += bytesRead;
+          unwrapAvailableSASLData(sc);
+        }
+      }
+
+      if (bytesRead < 0)
+      {
+        closed = true;
+        selectorThread.deregister(this, false);
+        connectionReader.selectorEndOfInput(
+             (messageBufferEnd > messageBufferStart) ||
+                  (saslBufferEnd > saslBufferStart));
+        return;
+      }
+
+      processAvailableMessages();
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      readFailed(e);
+    }
+  }
+
+
+
+  /**
+   * Indicates that an error has occurred that prevents any more data from being
+   * read from the channel.
+   *
+   * @param  e  The exception that was caught.
+   */
+  void readFailed(@NotNull final Exception e)
+  {
+    if (closed)
+    {
+      return;
+    }
+
+    closed = true;
+    selectorThread.deregister(this, false);
+    connectionReader.selectorReadFailed(e);
+  }
+
+
+
+  /**
+   * Decodes and processes all complete LDAP messages that are available in the
+   * message buffer.
+   *
+   * @throws  Exception  If a problem is encountered while decoding a message.
+   */
+  private void processAvailableMessages()
+          throws Exception
+  {
+    while (! closed)
+    {
+      final int available = messageBufferEnd - messageBufferStart;
+      if (available < 2)
+      {
+        break;
+      }
+
+      // Determine the length of the next message.  The first byte is the BER
+      // type and the next one or more bytes hold the length.
+      int pos = messageBufferStart + 1;
+      int length = messageBuffer[pos++] & 0xFF;
+      if ((length & 0x80) != 0)
+      {
+        final int numLengthBytes = length & 0x7F;
+        if ((numLengthBytes < 1) || (numLengthBytes > 4))
+        {
+          throw new IOException(ERR_SELECTOR_READER_INVALID_LENGTH.get(
+               numLengthBytes));
+        }
+
+        if ((messageBufferEnd - pos) < numLengthBytes)
+        {
+          break;
+        }
+
+        length = 0;
+        for (int i=0; i < numLengthBytes; i++)
+        {
+          length = (length << 8) | (messageBuffer[pos++] & 0xFF);
+        }
+      }
+
+      if ((length < 0) || (length > maxMessageSize))
+      {
+        throw new IOException(ERR_SELECTOR_READER_MESSAGE_TOO_LARGE.get(
+             (length & 0xFFFFFFFFL), maxMessageSize));
+      }
+
+      final int totalLength = (pos - messageBufferStart) + length;
+      if (available < totalLength)
+      {
+        ensureMessageBufferSpace(totalLength - available);
+        break;
+      }
+
+      final ASN1StreamReader asn1Reader = new ASN1StreamReader(
+           messageBuffer, messageBufferStart, totalLength, maxMessageSize);
+      messageBufferStart += totalLength;
+
+      final LDAPResponse response = LDAPMessage.readLDAPResponseFrom(
+           asn1Reader, true, connection.getCachedSchema(),
+           connection.getConnectionOptions());
+      if (response != null)
+      {
+        connectionReader.processResponse(response);
+      }
+    }
+
+    if (messageBufferStart == messageBufferEnd)
+    {
+      messageBufferStart = 0;
+      messageBufferEnd = 0;
+      if (messageBuffer.length > MAX_RETAINED_BUFFER_SIZE)
+      {
+        messageBuffer = new byte[INITIAL_BUFFER_SIZE];
+      }
+    }
+  }
+
+
+
+  /**
+   * Unwraps all complete SASL packets that are available in the SASL buffer
+   * and appends the clear-text data to the message buffer.
+   *
+   * @param  sc  The SASL client to use to unwrap the data.
+   *
+   * @throws  IOException  If a problem is encountered while unwrapping the
+   *                       data.
+   */
+  private void unwrapAvailableSASLData(@NotNull final SaslClient sc)
+          throws IOException
+  {
+    while ((saslBufferEnd - saslBufferStart) >= 4)
+    {
+      final int wrappedLength =
+           ((saslBuffer[saslBufferStart] & 0xFF) << 24) |
+           ((saslBuffer[saslBufferStart+1] & 0xFF) << 16) |
+           ((saslBuffer[saslBufferStart+2] & 0xFF) << 8) |
+           (saslBuffer[saslBufferStart+3] & 0xFF);
+      if ((wrappedLength < 0) || (wrappedLength > maxMessageSize))
+      {
+        throw new IOException(ERR_SELECTOR_READER_MESSAGE_TOO_LARGE.get(
+             (wrappedLength & 0xFFFFFFFFL), maxMessageSize));
+      }
+
+      final int available = saslBufferEnd - saslBufferStart;
+      if (available < (wrappedLength + 4))
+      {
+        ensureSASLBufferSpace(wrappedLength + 4 - available);
+        break;
+      }
+
+      final byte[] clearBytes =
+           sc.unwrap(saslBuffer, (saslBufferStart + 4), wrappedLength);
+      saslBufferStart += (wrappedLength + 4);
+
+      ensureMessageBufferSpace(clearBytes.length);
+      System.arraycopy(clearBytes, 0, messageBuffer, messageBufferEnd,
+           clearBytes.length);
+      messageBufferEnd += clearBytes.length;
+    }
+
+    if (saslBufferStart == saslBufferEnd)
+    {
+      saslBufferStart = 0;
+      saslBufferEnd = 0;
+      if (saslBuffer.length > MAX_RETAINED_BUFFER_SIZE)
+      {
+        saslBuffer = new byte[INITIAL_BUFFER_SIZE];
+      }
+    }
+  }
+
+
+
+  /**
+   * Ensures that the message buffer has room for at least the specified number
+   * of additional bytes, compacting or expanding it as necessary.
+   *
+   * @param  needed  The number of additional bytes that must fit in the
+   *                 buffer.
+   */
+  private void ensureMessageBufferSpace(final int needed)
+  {
+    if ((messageBuffer.length - messageBufferEnd) >= needed)
+    {
+      return;
+    }
+
+    final int used = messageBufferEnd - messageBufferStart;
+    final byte[] target;
+    if ((messageBuffer.length - used) >= needed)
+    {
+      target = messageBuffer;
+    }
+    else
+    {
+      target = new byte[computeNewSize(messageBuffer.length, used + needed)];
+    }
+
+    System.arraycopy(messageBuffer, messageBufferStart, target, 0, used);
+    messageBuffer = target;
+    messageBufferStart = 0;
+    messageBufferEnd = used;
+  }
+
+
+
+  /**
+   * Ensures that the SASL buffer has room for at least the specified number of
+   * additional bytes, compacting or expanding it as necessary.
+   *
+   * @param  needed  The number of additional bytes that must fit in the
+   *                 buffer.
+   */
+  private void ensureSASLBufferSpace(final int needed)
+  {
+    if ((saslBuffer.length - saslBufferEnd) >= needed)
+    {
+      return;
+    }
+
+    final int used = saslBufferEnd - saslBufferStart;
+    final byte[] target;
+    if ((saslBuffer.length - used) >= needed)
+    {
+      target = saslBuffer;
+    }
+    else
+    {
+      target = new byte[computeNewSize(saslBuffer.length, used + needed)];
+    }
+
+    System.arraycopy(saslBuffer, saslBufferStart, target, 0, used);
+    saslBuffer = target;
+    saslBufferStart = 0;
+    saslBufferEnd = used;
+  }
+
+
+
+  /**
+   * Computes the size to use when expanding a buffer.
+   *
+   * @param  currentSize   The current size of the buffer.
+   * @param  requiredSize  The minimum size that the buffer must have.
+   *
+   * @return  The size to use for the expanded buffer.
+   */
+  private static int computeNewSize(final int currentSize,
+                                    final int requiredSize)
+  {
+    long newSize = Math.max(INITIAL_BUFFER_SIZE, currentSize);
+    while (newSize < requiredSize)
+    {
+      newSize <<= 1;
+    }
+
+    return (int) Math.min(newSize, Integer.MAX_VALUE - 8);
+  }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.PropertyManager;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a thread that uses a {@code Selector} to read data from
+ * any number of LDAP connections configured to use the shared selector-based
+ * reader.  A small, fixed set of these threads is shared by all such
+ * connections in the JVM, with each connection assigned to the thread that is
+ * servicing the fewest connections at the time it is registered.  The number of
+ * threads is determined by the
+ * {@link LDAPConnectionOptions#PROPERTY_SELECTOR_READER_THREAD_COUNT} system
+ * property, and defaults to the number of available processors, up to a
+ * maximum of four.
+ * <BR><BR>
+ * All operations that alter the set of channels registered with a selector are
+ * performed on the thread that owns that selector, since attempting to register
+ * a channel while another thread is blocked in a select can block
+ * indefinitely.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class SelectorReaderThread
+      extends Thread
+{
+  /**
+   * The number of selector reader threads that will be used.
+   */
+  private static final int NUM_THREADS = Math.max(1, PropertyManager.getInt(
+       LDAPConnectionOptions.PROPERTY_SELECTOR_READER_THREAD_COUNT,
+       Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+
+
+  /**
+   * The maximum length of time, in milliseconds, to wait for a selector reader
+   * thread to detach a channel before giving up.
+   */
+  private static final long MAX_DETACH_WAIT_MILLIS = 10_000L;
+
+
+
+  /**
+   * The set of selector reader threads that have been created.  Elements will
+   * be {@code null} until they are needed.
+   */
+  @NotNull private static final SelectorReaderThread[] THREADS =
+       new SelectorReaderThread[NUM_THREADS];
+
+
+
+  // The number of channels currently assigned to this thread.
+  @NotNull private final AtomicInteger numRegistrations;
+
+  // A queue of tasks that must be performed on this thread before the next
+  // select.
+  @NotNull private final ConcurrentLinkedQueue<Runnable> pendingTasks;
+
+  // The selector used by this thread.
+  @NotNull private final Selector selector;
+
+
+
+  /**
+   * Creates a new selector reader thread.
+   *
+   * @param  threadNumber  The number to use for this thread in its name.
+   *
+   * @throws  IOException  If a problem occurs while creating the selector.
+   */
+  private SelectorReaderThread(final int threadNumber)
+          throws IOException
+  {
+    setName("LDAP SDK Selector Reader Thread " + threadNumber);
+    setDaemon(true);
+
+    selector = Selector.open();
+    numRegistrations = new AtomicInteger(0);
+    pendingTasks = new ConcurrentLinkedQueue<>();
+  }
+
+
+
+  /**
+   * Retrieves the selector reader thread that should be used for a newly
+   * registered connection.  This will be the thread servicing the fewest
+   * connections, creating and starting that thread if necessary.
+   *
+   * @return  The selector reader thread that should be used for a newly
+   *          registered connection.
+   *
+   * @throws  IOException  If a problem occurs while creating a new thread.
+   */
+  @NotNull()
+  static SelectorReaderThread getLeastLoadedThread()
+         throws IOException
+  {
+    synchronized (THREADS)
+    {
+      SelectorReaderThread leastLoaded = null;
+      for (int i=0; i < THREADS.length; i++)
+      {
+        SelectorReaderThread t = THREADS[i];
+        if ((t == null) || (! t.isAlive()))
+        {
+          t = new SelectorReaderThread(i+1);
+          t.start();
+          THREADS[i] = t;
+          return t;
+        }
+
+        if ((leastLoaded == null) ||
+            (t.numRegistrations.get() < leastLoaded.numRegistrations.get()))
+        {
+          leastLoaded = t;
+        }
+      }
+
+      return leastLoaded;
+    }
+  }
+
+
+
+  /**
+   * Registers the provided channel with this thread so that data will be read
+   * from it as it becomes available.  The registration will be completed
+   * asynchronously.
+   *
+   * @param  registration  The registration to be added.
+   */
+  void register(@NotNull final SelectorReaderRegistration registration)
+  {
+    numRegistrations.incrementAndGet();
+    runOnSelectorThread(new Runnable()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          registration.setSelectionKey(registration.getChannel().register(
+               selector, SelectionKey.OP_READ, registration));
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+          numRegistrations.decrementAndGet();
+          registration.readFailed(e);
+        }
+      }
+    });
+  }
+
+
+
+  /**
+   * Removes the provided registration from this thread.  If this method is
+   * called from this selector reader thread, or if {@code waitForCompletion} is
+   * {@code false}, then the key will be cancelled but the channel may not yet
+   * be fully deregistered from the selector when this method returns.
+   * Otherwise, this method will wait until the channel has been deregistered so
+   * that it may be placed back into blocking mode.
+   *
+   * @param  registration       The registration to be removed.
+   * @param  waitForCompletion  Indicates whether to wait for the channel to
+   *                            be fully deregistered before returning.
+   *
+   * @return  {@code true} if the channel has been deregistered, or
+   *          {@code false} if the attempt was not confirmed within a reasonable
+   *          length of time.
+   */
+  boolean deregister(@NotNull final SelectorReaderRegistration registration,
+                     final boolean waitForCompletion)
+  {
+    if (Thread.currentThread() == this)
+    {
+      cancelKey(registration);
+      return (! waitForCompletion);
+    }
+
+    final CountDownLatch latch = new CountDownLatch(1);
+    runOnSelectorThread(new Runnable()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          cancelKey(registration);
+
+          // Performing a non-blocking select will remove the cancelled key
+          // from the selector.
+          selector.selectNow();
+        }
+        catch (final Exception e)
+        {
+          Debug.debugException(e);
+        }
+        finally
+        {
+          latch.countDown();
+        }
+      }
+    });
+
+    if (! waitForCompletion)
+    {
+      return false;
+    }
+
+    try
+    {
+      return latch.await(MAX_DETACH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    catch (final InterruptedException e)
+    {
+      Debug.debugException(e);
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Cancels the selection key for the provided registration, if it is still
+   * valid.
+   *
+   * @param  registration  The registration for which to cancel the key.
+   */
+  private void cancelKey(@NotNull final SelectorReaderRegistration registration)
+  {
+    final SelectionKey key = registration.getSelectionKey();
+    if ((key != null) && key.isValid())
+    {
+      key.cancel();
+    }
+
+    if (registration.markDeregistered())
+    {
+      numRegistrations.decrementAndGet();
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of connections currently assigned to this thread.
+   *
+   * @return  The number of connections currently assigned to this thread.
+   */
+  int getNumRegistrations()
+  {
+    return numRegistrations.get();
+  }
+
+
+
+  /**
+   * Queues the provided task to be run on this thread and wakes up the
+   * selector so that it will be processed promptly.
+   *
+   * @param  task  The task to be run.
+   */
+  private void runOnSelectorThread(@NotNull final Runnable task)
+  {
+    pendingTasks.add(task);
+    selector.wakeup();
+  }
+
+
+
+  /**
+   * Operates in a loop, waiting for registered channels to become readable and
+   * reading and dispatching any complete messages that are available.
+   */
+  @Override()
+  public void run()
+  {
+    while (true)
+    {
+      try
+      {
+        Runnable task = pendingTasks.poll();
+        while (task != null)
+        {
+          task.run();
+          task = pendingTasks.poll();
+        }
+
+        if (selector.select() == 0)
+        {
+          continue;
+        }
+
+        final Iterator<SelectionKey> iterator =
+             selector.selectedKeys().iterator();
+        while (iterator.hasNext())
+        {
+          final SelectionKey key = iterator.next();
+          iterator.remove();
+
+          final SelectorReaderRegistration registration =
+               (SelectorReaderRegistration) key.attachment();
+          if (key.isValid() && key.isReadable())
+          {
+            registration.readAvailableData();
+          }
+
+          if (! key.isValid())
+          {
+            if (registration.markDeregistered())
+            {
+              numRegistrations.decrementAndGet();
+            }
+          }
+        }
+      }
+      catch (final ClosedSelectorException e)
+      {
+        Debug.debugException(e);
+        return;
+      }
+      catch (final Throwable t)
+      {
+        // This should never happen, since registrations handle their own
+        // errors.  Log it and continue so that the remaining connections
+        // handled by this thread will not be affected.
+        Debug.debugException(t);
+        Debug.debug(Level.SEVERE, DebugType.LDAP,
+             ERR_SELECTOR_READER_UNEXPECTED_ERROR.get(getName()), t);
+      }
+    }
+  }
+}
@@ -0,0 +1,755 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.unboundid.util.NotNull;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.StaticUtils;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a circuit breaker that tracks the outcomes of recent
+ * operations processed by each server and stops sending requests to servers
+ * that appear to be failing.  It may be used with any {@link ServerSet} through
+ * the {@link ServerSet#setCircuitBreaker} method, and it will then apply to all
+ * connections created by that server set.
+ * <BR><BR>
+ * For each server, the circuit breaker maintains the outcomes of the most
+ * recent operations in a window of a configurable size.  An operation is
+ * considered to have failed if it completed with one of the failure result
+ * codes (by default, {@link ResultCode#BUSY}, {@link ResultCode#UNAVAILABLE},
+ * {@link ResultCode#OTHER}, and {@link ResultCode#TIMEOUT}, which is used for
+ * operations for which no response was received within the response timeout).
+ * The circuit for a server may be in one of the following states:
+ * <UL>
+ *   <LI>
+ *     {@link CircuitBreakerState#CLOSED} -- Requests may be freely sent to the
+ *     server.  Once the window is full, if the fraction of the operations in
+ *     the window that failed is greater than or equal to the failure rate
+ *     threshold, then the circuit will be opened.
+ *   </LI>
+ *   <LI>
+ *     {@link CircuitBreakerState#OPEN} -- Any attempt to send a request to the
+ *     server will immediately fail with a result code of
+ *     {@link ResultCode#CIRCUIT_BREAKER_OPEN} rather than waiting for the
+ *     server to respond.  That result code does not indicate that the
+ *     connection is unusable, so connection pools will not replace the
+ *     connection, but server sets that maintain a blacklist will only try to
+ *     establish connections to the server as a last resort.  Once the open
+ *     duration has elapsed, the circuit will become half-open.
+ *   </LI>
+ *   <LI>
+ *     {@link CircuitBreakerState#HALF_OPEN} -- A limited number of trial
+ *     requests will be sent to the server, and any other requests will be
+ *     rejected.  If all of the trial operations succeed, then the circuit
+ *     will be closed.  If any of them fails, then the circuit will be opened
+ *     again.  If the outcomes of the trial operations are not known within
+ *     the open duration, then another set of trial requests will be allowed.
+ *   </LI>
+ * </UL>
+ * Abandon and unbind requests are never rejected, since no response is
+ * expected for them.  Bind requests are not rejected on a connection until some
+ * other type of request has been sent on it, so that newly-established
+ * connections can still be authenticated.
+ * <BR><BR>
+ * <H2>Example</H2>
+ * The following example demonstrates the process for using a circuit breaker
+ * with a round-robin server set in a connection pool:
+ * <PRE>
+ * RoundRobinServerSet serverSet = new RoundRobinServerSet(addresses, ports);
+ *
+ * // Open the circuit for a server if at least half of the last 20 operations
+ * // failed, and allow three trial requests after 10 seconds.
+ * serverSet.setCircuitBreaker(new ServerCircuitBreaker(20, 0.5d, 10_000L, 3));
+ *
+ * LDAPConnectionPool pool =
+ *      new LDAPConnectionPool(serverSet, bindRequest, 10);
+ * </PRE>
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class ServerCircuitBreaker
+{
+  /**
+   * The default number of operation outcomes that will be held in the window
+   * for each server.
+   */
+  public static final int DEFAULT_WINDOW_SIZE = 20;
+
+
+
+  /**
+   * The default failure rate threshold.
+   */
+  public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5d;
+
+
+
+  /**
+   * The default length of time in milliseconds that a circuit will remain open
+   * before trial requests are allowed.
+   */
+  public static final long DEFAULT_OPEN_DURATION_MILLIS = 10_000L;
+
+
+
+  /**
+   * The default number of trial requests that will be allowed while a circuit
+   * is half-open.
+   */
+  public static final int DEFAULT_HALF_OPEN_MAX_REQUESTS = 3;
+
+
+
+  /**
+   * The default set of result codes that indicate that an operation failed.
+   */
+  @NotNull private static final Set<ResultCode> DEFAULT_FAILURE_RESULT_CODES =
+       StaticUtils.setOf(ResultCode.BUSY, ResultCode.UNAVAILABLE,
+            ResultCode.OTHER, ResultCode.TIMEOUT);
+
+
+
+  // The failure rate threshold at which a circuit will be opened.
+  private final double failureRateThreshold;
+
+  // The number of trial requests that will be allowed while a circuit is
+  // half-open.
+  private final int halfOpenMaxRequests;
+
+  // The number of operation outcomes that will be held in the window for each
+  // server.
+  private final int windowSize;
+
+  // The length of time in nanoseconds that a circuit will remain open before
+  // trial requests are allowed.
+  private final long openDurationNanos;
+
+  // The circuit for each server for which an outcome has been recorded.
+  @NotNull private final Map<ObjectPair<String,Integer>,ServerCircuit>
+       circuits;
+
+  // The set of result codes that indicate that an operation failed.
+  @NotNull private final Set<ResultCode> failureResultCodes;
+
+
+
+  /**
+   * Creates a new server circuit breaker with the default settings.
+   */
+  public ServerCircuitBreaker()
+  {
+    this(DEFAULT_WINDOW_SIZE, DEFAULT_FAILURE_RATE_THRESHOLD,
+         DEFAULT_OPEN_DURATION_MILLIS, DEFAULT_HALF_OPEN_MAX_REQUESTS);
+  }
+
+
+
+  /**
+   * Creates a new server circuit breaker with the provided settings and the
+   * default set of failure result codes.
+   *
+   * @param  windowSize            The number of operation outcomes that will be
+   *                               held in the window for each server.  It must
+   *                               be greater than zero.
+   * @param  failureRateThreshold  The fraction of the operations in a full
+   *                               window that must have failed for the circuit
+   *                               to be opened.  It must be greater than zero
+   *                               and less than or equal to one.
+   * @param  openDurationMillis    The length of time in milliseconds that a
+   *                               circuit will remain open before trial
+   *                               requests are allowed.  It must be greater
+   *                               than zero.
+   * @param  halfOpenMaxRequests   The number of trial requests that will be
+   *                               allowed while a circuit is half-open, all of
+   *                               which must succeed for the circuit to be
+   *                               closed.  It must be greater than zero.
+   */
+  public ServerCircuitBreaker(final int windowSize,
+                              final double failureRateThreshold,
+                              final long openDurationMillis,
+                              final int halfOpenMaxRequests)
+  {
+    this(windowSize, failureRateThreshold, openDurationMillis,
+         halfOpenMaxRequests, DEFAULT_FAILURE_RESULT_CODES);
+  }
+
+
+
+  /**
+   * Creates a new server circuit breaker with the provided settings.
+   *
+   * @param  windowSize            The number of operation outcomes that will be
+   *                               held in the window for each server.  It must
+   *                               be greater than zero.
+   * @param  failureRateThreshold  The fraction of the operations in a full
+   *                               window that must have failed for the circuit
+   *                               to be opened.  It must be greater than zero
+   *                               and less than or equal to one.
+   * @param  openDurationMillis    The length of time in milliseconds that a
+   *                               circuit will remain open before trial
+   *                               requests are allowed.  It must be greater
+   *                               than zero.
+   * @param  halfOpenMaxRequests   The number of trial requests that will be
+   *                               allowed while a circuit is half-open, all of
+   *                               which must succeed for the circuit to be
+   *                               closed.  It must be greater than zero.
+   * @param  failureResultCodes    The set of result codes that indicate that
+   *                               an operation failed.  It must not be
+   *                               {@code null} or empty.
+   */
+  public ServerCircuitBreaker(final int windowSize,
+              final double failureRateThreshold,
+              final long openDurationMillis,
+              final int halfOpenMaxRequests,
+              @NotNull final Collection<ResultCode> failureResultCodes)
+  {
+    Validator.ensureTrue((windowSize > 0),
+         "ServerCircuitBreaker.windowSize must be greater than zero.");
+    Validator.ensureTrue(
+         ((failureRateThreshold > 0.0d) && (failureRateThreshold <= 1.0d)),
+         "ServerCircuitBreaker.failureRateThreshold must be greater than " +
+              "zero and less than or equal to one.");
+    Validator.ensureTrue((openDurationMillis > 0L),
+         "ServerCircuitBreaker.openDurationMillis must be greater than zero.");
+    Validator.ensureTrue((halfOpenMaxRequests > 0),
+         "ServerCircuitBreaker.halfOpenMaxRequests must be greater than " +
+              "zero.");
+    Validator.ensureNotNull(failureResultCodes);
+    Validator.ensureFalse(failureResultCodes.isEmpty(),
+         "ServerCircuitBreaker.failureResultCodes must not be empty.");
+
+    this.windowSize = windowSize;
+    this.failureRateThreshold = failureRateThreshold;
+    this.halfOpenMaxRequests = halfOpenMaxRequests;
+    this.failureResultCodes =
+         Collections.unmodifiableSet(new LinkedHashSet<>(failureResultCodes));
+
+    openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+    circuits = new ConcurrentHashMap<>(StaticUtils.computeMapCapacity(10));
+  }
+
+
+
+  /**
+   * Retrieves the number of operation outcomes that will be held in the window
+   * for each server.
+   *
+   * @return  The number of operation outcomes that will be held in the window
+   *          for each server.
+   */
+  public int getWindowSize()
+  {
+    return windowSize;
+  }
+
+
+
+  /**
+   * Retrieves the fraction of the operations in a full window that must have
+   * failed for the circuit to be opened.
+   *
+   * @return  The fraction of the operations in a full window that must have
+   *          failed for the circuit to be opened.
+   */
+  public double getFailureRateThreshold()
+  {
+    return failureRateThreshold;
+  }
+
+
+
+  /**
+   * Retrieves the length of time in milliseconds that a circuit will remain
+   * open before trial requests are allowed.
+   *
+   * @return  The length of time in milliseconds that a circuit will remain
+   *          open before trial requests are allowed.
+   */
+  public long getOpenDurationMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(openDurationNanos);
+  }
+
+
+
+  /**
+   * Retrieves the number of trial requests that will be allowed while a
+   * circuit is half-open.
+   *
+   * @return  The number of trial requests that will be allowed while a circuit
+   *          is half-open.
+   */
+  public int getHalfOpenMaxRequests()
+  {
+    return halfOpenMaxRequests;
+  }
+
+
+
+  /**
+   * Retrieves the set of result codes that indicate that an operation failed.
+   *
+   * @return  The set of result codes that indicate that an operation failed.
+   */
+  @NotNull()
+  public Set<ResultCode> getFailureResultCodes()
+  {
+    return failureResultCodes;
+  }
+
+
+
+  /**
+   * Retrieves the current state of the circuit for the specified server.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   *
+   * @return  The current state of the circuit for the specified server.
+   */
+  @NotNull()
+  public CircuitBreakerState getState(@NotNull final String host,
+                                      final int port)
+  {
+    final ServerCircuit circuit = circuits.get(new ObjectPair<>(host, port));
+    if (circuit == null)
+    {
+      return CircuitBreakerState.CLOSED;
+    }
+    else
+    {
+      return circuit.getState(System.nanoTime());
+    }
+  }
+
+
+
+  /**
+   * Indicates whether the circuit for the specified server is open and its
+   * open duration has not yet elapsed, so that no requests would currently be
+   * allowed to the server.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   *
+   * @return  {@code true} if the circuit for the specified server is open, or
+   *          {@code false} if not.
+   */
+  public boolean isOpen(@NotNull final String host, final int port)
+  {
+    return (getState(host, port) == CircuitBreakerState.OPEN);
+  }
+
+
+
+  /**
+   * Retrieves the set of servers whose circuits are currently open.
+   *
+   * @return  The set of servers whose circuits are currently open.
+   */
+  @NotNull()
+  public Set<ObjectPair<String,Integer>> getOpenServers()
+  {
+    final long currentTime = System.nanoTime();
+    final LinkedHashSet<ObjectPair<String,Integer>> openServers =
+         new LinkedHashSet<>(StaticUtils.computeMapCapacity(circuits.size()));
+    for (final Map.Entry<ObjectPair<String,Integer>,ServerCircuit> e :
+         circuits.entrySet())
+    {
+      if (e.getValue().getState(currentTime) == CircuitBreakerState.OPEN)
+      {
+        openServers.add(e.getKey());
+      }
+    }
+
+    return Collections.unmodifiableSet(openServers);
+  }
+
+
+
+  /**
+   * Closes the circuits for all servers and discards all recorded outcomes.
+   */
+  public void reset()
+  {
+    circuits.clear();
+  }
+
+
+
+  /**
+   * Indicates whether a request may be sent to the specified server.  If the
+   * circuit for the server is half-open, then a trial request will be allowed
+   * if the maximum number of trial requests has not yet been reached.
+   *
+   * @param  host  The address of the server.
+   * @param  port  The port of the server.
+   *
+   * @return  {@code true} if a request may be sent to the specified server, or
+   *          {@code false} if not.
+   */
+  boolean allowRequest(@NotNull final String host, final int port)
+  {
+    final ServerCircuit circuit = circuits.get(new ObjectPair<>(host, port));
+    if (circuit == null)
+    {
+      return true;
+    }
+    else
+    {
+      return circuit.allowRequest(System.nanoTime());
+    }
+  }
+
+
+
+  /**
+   * Records the outcome of an operation processed by the specified server.
+   *
+   * @param  host        The address of the server.
+   * @param  port        The port of the server.
+   * @param  resultCode  The result code for the operation.
+   */
+  void recordOutcome(@NotNull final String host, final int port,
+                     @NotNull final ResultCode resultCode)
+  {
+    final boolean failed = failureResultCodes.contains(resultCode);
+    final ObjectPair<String,Integer> hostPort = new ObjectPair<>(host, port);
+    ServerCircuit circuit = circuits.get(hostPort);
+    if (circuit == null)
+    {
+      if (! failed)
+      {
+        // There is no need to track a server until it has a failure.
+        return;
+      }
+
+      final ServerCircuit newCircuit = new ServerCircuit();
+      circuit = circuits.putIfAbsent(hostPort, newCircuit);
+      if (circuit == null)
+      {
+        circuit = newCircuit;
+      }
+    }
+
+    circuit.recordOutcome(failed, System.nanoTime());
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this server circuit breaker.
+   *
+   * @return  A string representation of this server circuit breaker.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this server circuit breaker to the
+   * provided buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("ServerCircuitBreaker(windowSize=");
+    buffer.append(windowSize);
+    buffer.append(", failureRateThreshold=");
+    buffer.append(failureRateThreshold);
+    buffer.append(", openDurationMillis=");
+    buffer.append(getOpenDurationMillis());
+    buffer.append(", halfOpenMaxRequests=");
+    buffer.append(halfOpenMaxRequests);
+    buffer.append(", openServers={");
+
+    final Iterator<ObjectPair<String,Integer>> iterator =
+         getOpenServers().iterator();
+    while (iterator.hasNext())
+    {
+      final ObjectPair<String,Integer> hostPort = iterator.next();
+      buffer.append('\'');
+      buffer.append(hostPort.getFirst());
+      buffer.append(':');
+      buffer.append(hostPort.getSecond());
+      buffer.append('\'');
+
+      if (iterator.hasNext())
+      {
+        buffer.append(", ");
+      }
+    }
+
+    buffer.append("})");
+  }
+
+
+
+  /**
+   * This class holds the circuit state and recent operation outcomes for a
+   * single server.
+   */
+  private final class ServerCircuit
+  {
+    // The outcomes of the most recent operations, where true indicates that
+    // the operation failed.
+    @NotNull private final boolean[] outcomes;
+
+    // The state of the circuit.
+    @NotNull private CircuitBreakerState state;
+
+    // The number of failed operations in the window.
+    private int numFailures;
+
+    // The number of outcomes in the window.
+    private int numOutcomes;
+
+    // The position in the window at which the next outcome will be recorded.
+    private int nextOutcomeIndex;
+
+    // The number of trial requests that have been allowed since the circuit
+    // became half-open.
+    private int numTrialRequests;
+
+    // The number of trial operations that have succeeded since the circuit
+    // became half-open.
+    private int numTrialSuccesses;
+
+    // The time that the circuit last changed state.
+    private long stateChangeTime;
+
+
+
+    /**
+     * Creates a new closed circuit with an empty window.
+     */
+    private ServerCircuit()
+    {
+      outcomes = new boolean[windowSize];
+      state = CircuitBreakerState.CLOSED;
+      stateChangeTime = System.nanoTime();
+      clearWindow();
+    }
+
+
+
+    /**
+     * Retrieves the state of this circuit, which will be reported as
+     * half-open if it is open but its open duration has elapsed.
+     *
+     * @param  currentTime  The current value of {@code System.nanoTime()}.
+     *
+     * @return  The state of this circuit.
+     */
+    @NotNull()
+    private synchronized CircuitBreakerState getState(final long currentTime)
+    {
+      if ((state == CircuitBreakerState.OPEN) &&
+           ((currentTime - stateChangeTime) >= openDurationNanos))
+      {
+        return CircuitBreakerState.HALF_OPEN;
+      }
+
+      return state;
+    }
+
+
+
+    /**
+     * Indicates whether a request may be sent through this circuit.
+     *
+     * @param  currentTime  The current value of {@code System.nanoTime()}.
+     *
+     * @return  {@code true} if a request may be sent through this circuit, or
+     *          {@code false} if not.
+     */
+    private synchronized boolean allowRequest(final long currentTime)
+    {
+      switch (state)
+      {
+        case CLOSED:
+          return true;
+
+        case OPEN:
+          if ((currentTime - stateChangeTime) < openDurationNanos)
+          {
+            return false;
+          }
+
+          setState(CircuitBreakerState.HALF_OPEN, currentTime);
+          numTrialRequests = 1;
+          return true;
+
+        case HALF_OPEN:
+        default:
+          if (numTrialRequests < halfOpenMaxRequests)
+          {
+            numTrialRequests++;
+            return true;
+          }
+
+          if ((currentTime - stateChangeTime) >= openDurationNanos)
+          {
+            // The outcomes of the earlier trial requests were never recorded,
+            // so allow another set of trial requests.
+            setState(CircuitBreakerState.HALF_OPEN, currentTime);
+            numTrialRequests = 1;
+            return true;
+          }
+
+          return false;
+      }
+    }
+
+
+
+    /**
+     * Records the outcome of an operation processed through this circuit.
+     *
+     * @param  failed       Indicates whether the operation failed.
+     * @param  currentTime  The current value of {@code System.nanoTime()}.
+     */
+    private synchronized void recordOutcome(final boolean failed,
+                                            final long currentTime)
+    {
+      switch (state)
+      {
+        case CLOSED:
+          if (outcomes[nextOutcomeIndex])
+          {
+            numFailures--;
+          }
+
+          outcomes[nextOutcomeIndex] = failed;
+          nextOutcomeIndex = (nextOutcomeIndex + 1) % windowSize;
+          if (failed)
+          {
+            numFailures++;
+          }
+
+          if (numOutcomes < windowSize)
+          {
+            numOutcomes++;
+          }
+
+          if ((numOutcomes >= windowSize) &&
+               (numFailures >= (failureRateThreshold * windowSize)))
+          {
+            setState(CircuitBreakerState.OPEN, currentTime);
+          }
+          break;
+
+        case HALF_OPEN:
+          if (failed)
+          {
+            setState(CircuitBreakerState.OPEN, currentTime);
+          }
+          else
+          {
+            numTrialSuccesses++;
+            if (numTrialSuccesses >= halfOpenMaxRequests)
+            {
+              setState(CircuitBreakerState.CLOSED, currentTime);
+            }
+          }
+          break;
+
+        case OPEN:
+        default:
+          // Outcomes of operations that were sent before the circuit was
+          // opened will be ignored.
+          break;
+      }
+    }
+
+
+
+    /**
+     * Updates the state of this circuit, and resets the window and trial
+     * request counters.
+     *
+     * @param  newState     The new state for this circuit.
+     * @param  currentTime  The current value of {@code System.nanoTime()}.
+     */
+    private void setState(@NotNull final CircuitBreakerState newState,
+                          final long currentTime)
+    {
+      state = newState;
+      stateChangeTime = currentTime;
+      clearWindow();
+    }
+
+
+
+    /**
+     * Clears the window of recent outcomes and the trial request counters.
+     */
+    private void clearWindow()
+    {
+      Arrays.fill(outcomes, false);
+      numFailures = 0;
+      numOutcomes = 0;
+      nextOutcomeIndex = 0;
+      numTrialRequests = 0;
+      numTrialSuccesses = 0;
+    }
+  }
+}
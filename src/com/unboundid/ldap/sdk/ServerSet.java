@@ -61,12 +61,18 @@ import com.unboundid.util.ThreadSafetyLevel;
 @ThreadSafety(level=ThreadSafetyLevel.INTERFACE_THREADSAFE)
 public abstract class ServerSet
 {
+  // The circuit breaker that applies to connections created by this server
+  // set, if any.
+  @Nullable private volatile ServerCircuitBreaker circuitBreaker;
+
+
+
   /**
    * Creates a new instance of this server set.
    */
   protected ServerSet()
   {
-    // No implementation is required.
+    circuitBreaker = null;
   }
 
 
@@ -320,6 +326,67 @@ public abstract class ServerSet
 
 
 
+  /**
+   * Retrieves the circuit breaker that applies to connections created by this
+   * server set.
+   *
+   * @return  The circuit breaker that applies to connections created by this
+   *          server set, or {@code null} if no circuit breaker is in use.
+   */
+  @Nullable()
+  public ServerCircuitBreaker getCircuitBreaker()
+  {
+    return circuitBreaker;
+  }
+
+
+
+  /**
+   * Specifies the circuit breaker that should apply to connections created by
+   * this server set.  The outcomes of operations processed on those
+   * connections will be recorded with the circuit breaker, and requests will
+   * be rejected without being sent while the circuit for the server to which a
+   * connection is established is open.  Server sets that maintain a blacklist
+   * will also only try servers whose circuits are open as a last resort.
+   * <BR><BR>
+   * The circuit breaker will only apply to connections that have been
+   * associated with a server set through the
+   * {@link #associateConnectionWithThisServerSet} method.
+   *
+   * @param  circuitBreaker  The circuit breaker that should apply to
+   *                         connections created by this server set.  It may be
+   *                         {@code null} if no circuit breaker should be used.
+   */
+  public void setCircuitBreaker(
+                   @Nullable final ServerCircuitBreaker circuitBreaker)
+  {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+
+
+  /**
+   * Indicates whether the circuit for the specified server is currently open
+   * in the circuit breaker for this server set, so that requests would not be
+   * sent to it.  Server sets may use this to avoid establishing connections to
+   * servers that are known to be failing.
+   *
+   * @param  host  The address of the server.  It must not be {@code null}.
+   * @param  port  The port of the server.
+   *
+   * @return  {@code true} if there is a circuit breaker for this server set and
+   *          the circuit for the specified server is open, or {@code false} if
+   *          not.
+   */
+  protected final boolean isCircuitOpen(@NotNull final String host,
+                                        final int port)
+  {
+    final ServerCircuitBreaker cb = circuitBreaker;
+    return ((cb != null) && cb.isOpen(host, port));
+  }
+
+
+
   /**
    * Performs any processing that may be required when the provided connection
    * is closed.  This will only be invoked for connections created by this
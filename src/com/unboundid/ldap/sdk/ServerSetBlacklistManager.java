@@ -42,12 +42,12 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
-import java.util.Timer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.net.SocketFactory;
 
 import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimer;
 import com.unboundid.util.Mutable;
 import com.unboundid.util.NotNull;
 import com.unboundid.util.Nullable;
@@ -69,9 +69,10 @@ import com.unboundid.util.Validator;
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 public final class ServerSetBlacklistManager
 {
-  // A reference to a timer that is used to periodically check the status of
-  // blacklisted servers.
-  @NotNull private final AtomicReference<Timer> timerReference;
+  // A reference to a timer task that is used to periodically check the status
+  // of blacklisted servers.
+  @NotNull private final AtomicReference<ServerSetBlacklistManagerTimerTask>
+       timerReference;
 
   // The bind request to use to authenticate newly created connections.
   @Nullable private final BindRequest bindRequest;
@@ -370,14 +371,14 @@ public final class ServerSetBlacklistManager
    */
   private synchronized void ensureTimerIsRunning()
   {
-    Timer timer = timerReference.get();
-    if (timer == null)
+    if (timerReference.get() == null)
     {
-      timer = new Timer(
-           "ServerSet Blacklist Manager Timer for " + serverSetString, true);
-      timerReference.set(timer);
+      final ServerSetBlacklistManagerTimerTask timerTask =
+           new ServerSetBlacklistManagerTimerTask(this,
+                "ServerSet Blacklist Manager Check for " + serverSetString);
+      timerReference.set(timerTask);
 
-      timer.scheduleAtFixedRate(new ServerSetBlacklistManagerTimerTask(this),
+      HashedWheelTimer.getSharedTimer().scheduleAtFixedRate(timerTask,
            checkIntervalMillis, checkIntervalMillis);
     }
   }
@@ -423,11 +424,11 @@ public final class ServerSetBlacklistManager
       {
         if (blacklistedServers.isEmpty())
         {
-          final Timer timer = timerReference.getAndSet(null);
-          if (timer != null)
+          final ServerSetBlacklistManagerTimerTask timerTask =
+               timerReference.getAndSet(null);
+          if (timerTask != null)
           {
-            timer.cancel();
-            timer.purge();
+            timerTask.cancel();
           }
 
           return;
@@ -443,11 +444,11 @@ public final class ServerSetBlacklistManager
    */
   public synchronized void shutDown()
   {
-    final Timer timer = timerReference.getAndSet(null);
-    if (timer != null)
+    final ServerSetBlacklistManagerTimerTask timerTask =
+         timerReference.getAndSet(null);
+    if (timerTask != null)
     {
-      timer.cancel();
-      timer.purge();
+      timerTask.cancel();
     }
 
     blacklistedServers.clear();
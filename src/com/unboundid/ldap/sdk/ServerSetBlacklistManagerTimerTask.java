@@ -37,23 +37,33 @@ package com.unboundid.ldap.sdk;
 
 
 
-import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.unboundid.util.HashedWheelTimerTask;
 import com.unboundid.util.NotNull;
+import com.unboundid.util.VirtualThreadSupport;
 
 
 
 /**
  * This class implements a timer task that will be used to periodically check
  * the availability of any servers on the blacklist of an associated
- * {@link ServerSetBlacklistManager}.
+ * {@link ServerSetBlacklistManager}.  Because checking a server requires
+ * establishing a connection to it, the check is performed in a separate thread
+ * so that it does not delay other tasks scheduled with the same timer.
  */
 final class ServerSetBlacklistManagerTimerTask
-      extends TimerTask
+      extends HashedWheelTimerTask
 {
+  // Indicates whether a check is currently in progress.
+  @NotNull private final AtomicBoolean checkInProgress;
+
   // The server set blacklist manager with which this timer task is associated.
   @NotNull private final ServerSetBlacklistManager blacklistManager;
 
+  // The name to use for the thread that performs the check.
+  @NotNull private final String threadName;
+
 
 
   /**
@@ -61,21 +71,49 @@ final class ServerSetBlacklistManagerTimerTask
    *
    * @param  blacklistManager  The blacklist manager with which this timer task
    *                           is associated.  It must not be {@code null}.
+   * @param  threadName        The name to use for the thread that performs
+   *                           the check.  It must not be {@code null}.
    */
   ServerSetBlacklistManagerTimerTask(
-       @NotNull final ServerSetBlacklistManager blacklistManager)
+       @NotNull final ServerSetBlacklistManager blacklistManager,
+       @NotNull final String threadName)
   {
     this.blacklistManager = blacklistManager;
+    this.threadName = threadName;
+
+    checkInProgress = new AtomicBoolean(false);
   }
 
 
 
   /**
-   * Checks the availability of the servers on the associated blacklist.
+   * Starts a thread to check the availability of the servers on the associated
+   * blacklist, unless a previous check is still in progress.
    */
   @Override()
   public void run()
   {
-    blacklistManager.checkBlacklistedServers();
+    if (! checkInProgress.compareAndSet(false, true))
+    {
+      return;
+    }
+
+    final Thread checkThread = VirtualThreadSupport.newThread(new Runnable()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          blacklistManager.checkBlacklistedServers();
+        }
+        finally
+        {
+          checkInProgress.set(false);
+        }
+      }
+    }, threadName, true, null,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
+    checkThread.start();
   }
 }
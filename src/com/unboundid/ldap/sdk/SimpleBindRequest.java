@@ -40,8 +40,6 @@ package com.unboundid.ldap.sdk;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.unboundid.asn1.ASN1Buffer;
@@ -54,6 +52,7 @@ import com.unboundid.ldap.protocol.LDAPMessage;
 import com.unboundid.ldap.protocol.LDAPResponse;
 import com.unboundid.ldap.protocol.ProtocolOp;
 import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
 import com.unboundid.util.InternalUseOnly;
 import com.unboundid.util.LDAPSDKUsageException;
 import com.unboundid.util.NotMutable;
@@ -119,14 +118,18 @@ public final class SimpleBindRequest
   // The password for this simple bind request.
   @Nullable private final ASN1OctetString password;
 
-  // The queue that will be used to receive response messages from the server.
-  @NotNull private final LinkedBlockingQueue<LDAPResponse> responseQueue =
-       new LinkedBlockingQueue<>();
+  // The handoff that will be used to receive the response message from the
+  // server while a synchronous operation is in progress.
+  @Nullable private transient volatile ResponseHandoff responseHandoff;
 
   // The password provider that should be used to obtain the password for this
   // simple bind request.
   @Nullable private final PasswordProvider passwordProvider;
 
+  // The pre-encoded representation of this request, if it was created from a
+  // template.
+  @Nullable private transient PreEncodedProtocolOp preEncodedProtocolOp;
+
 
 
   /**
@@ -536,6 +539,41 @@ public final class SimpleBindRequest
 
 
 
+  /**
+   * Specifies the pre-encoded representation of this request.  It will be
+   * sent in place of encoding this request.
+   *
+   * @param  preEncodedProtocolOp  The pre-encoded representation of this
+   *                               request.
+   */
+  void setPreEncodedProtocolOp(
+            @NotNull final PreEncodedProtocolOp preEncodedProtocolOp)
+  {
+    this.preEncodedProtocolOp = preEncodedProtocolOp;
+  }
+
+
+
+  /**
+   * Creates the LDAP message to send to the server for this request, using
+   * the pre-encoded representation of this request if one is available.
+   *
+   * @return  The LDAP message that was created.
+   */
+  @NotNull()
+  private LDAPMessage createRequestMessage()
+  {
+    final PreEncodedProtocolOp op = preEncodedProtocolOp;
+    if (op != null)
+    {
+      return new LDAPMessage(messageID, op);
+    }
+
+    return new LDAPMessage(messageID, this, getControls());
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -572,13 +610,16 @@ public final class SimpleBindRequest
 
     // Create the LDAP message.
     messageID = connection.nextMessageID();
-    final LDAPMessage message = new LDAPMessage(messageID, this, getControls());
+    final LDAPMessage message = createRequestMessage();
 
 
     // Register with the connection reader to be notified of responses for the
     // request that we've created.
     connection.registerResponseAcceptor(messageID, this);
 
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    handoff.expect(messageID);
+    responseHandoff = handoff;
 
     try
     {
@@ -601,14 +642,7 @@ public final class SimpleBindRequest
       final LDAPResponse response;
       try
       {
-        if (responseTimeout > 0)
-        {
-          response = responseQueue.poll(responseTimeout, TimeUnit.MILLISECONDS);
-        }
-        else
-        {
-          response = responseQueue.take();
-        }
+        response = handoff.await(responseTimeout);
       }
       catch (final InterruptedException ie)
       {
@@ -623,6 +657,8 @@ public final class SimpleBindRequest
     finally
     {
       connection.deregisterResponseAcceptor(messageID);
+      responseHandoff = null;
+      handoff.release();
     }
   }
 
@@ -652,8 +688,7 @@ public final class SimpleBindRequest
   {
     // Create the LDAP message.
     messageID = connection.nextMessageID();
-    final LDAPMessage message =
-         new LDAPMessage(messageID, this, getControls());
+    final LDAPMessage message = createRequestMessage();
 
 
     // Send the request to the server.
@@ -737,6 +772,7 @@ public final class SimpleBindRequest
     {
       final long waitTime =
            StaticUtils.nanosToMillis(System.nanoTime() - requestTime);
+      connection.recordOperationOutcome(ResultCode.TIMEOUT);
       throw new LDAPException(ResultCode.TIMEOUT,
            ERR_SIMPLE_BIND_CLIENT_TIMEOUT.get(waitTime, messageID,
                 bindDN.stringValue(), connection.getHostPort()));
@@ -848,23 +884,11 @@ public final class SimpleBindRequest
   public void responseReceived(@NotNull final LDAPResponse response)
          throws LDAPException
   {
-    try
+    final ResponseHandoff handoff = responseHandoff;
+    if ((handoff == null) || (! handoff.offer(response)))
     {
-      responseQueue.put(response);
-    }
-    catch (final Exception e)
-    {
-      Debug.debugException(e);
-
-      if (e instanceof InterruptedException)
-      {
-        Thread.currentThread().interrupt();
-      }
-
-      throw new LDAPException(ResultCode.LOCAL_ERROR,
-           ERR_EXCEPTION_HANDLING_RESPONSE.get(
-                StaticUtils.getExceptionMessage(e)),
-           e);
+      Debug.debug(Level.WARNING, DebugType.LDAP,
+           WARN_READER_NO_ACCEPTOR.get(response));
     }
   }
 
@@ -924,6 +948,29 @@ public final class SimpleBindRequest
 
 
 
+  /**
+   * Creates a copy of this simple bind request with the provided password.
+   *
+   * @param  password  The password to use for the new bind request.
+   *
+   * @return  The simple bind request that was created.
+   */
+  @NotNull()
+  SimpleBindRequest duplicateWithPassword(@NotNull final byte[] password)
+  {
+    final SimpleBindRequest bindRequest = new SimpleBindRequest(bindDN,
+         new ASN1OctetString(CRED_TYPE_SIMPLE, password), null,
+         getControls());
+    bindRequest.setResponseTimeoutMillis(getResponseTimeoutMillis(null));
+    bindRequest.setIntermediateResponseListener(
+         getIntermediateResponseListener());
+    bindRequest.setReferralDepth(getReferralDepth());
+    bindRequest.setReferralConnector(getReferralConnectorInternal());
+    return bindRequest;
+  }
+
+
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides an output stream that can be used to write data to a
+ * socket channel that has been placed in non-blocking mode so that it can be
+ * used with the shared selector-based connection reader.  Writes will block
+ * until all of the data has been accepted by the channel.  Write timeouts are
+ * enforced in the same way as for regular sockets, by closing the channel if a
+ * write stays blocked for too long.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.NOT_THREADSAFE)
+final class SocketChannelOutputStream
+      extends OutputStream
+{
+  /**
+   * The maximum length of time, in milliseconds, that a write attempt should
+   * block while waiting for the channel to become writable before checking to
+   * see whether the channel has been closed.
+   */
+  private static final long WRITE_SELECT_TIMEOUT_MILLIS = 100L;
+
+
+
+  // A selector that will be used to wait for the channel to become writable.
+  // It will only be created if it is needed.
+  @Nullable private Selector writeSelector;
+
+  // The channel to which data will be written.
+  @NotNull private final SocketChannel channel;
+
+
+
+  /**
+   * Creates a new output stream that will write to the provided channel.
+   *
+   * @param  channel  The channel to which data will be written.
+   */
+  SocketChannelOutputStream(@NotNull final SocketChannel channel)
+  {
+    this.channel = channel;
+
+    writeSelector = null;
+  }
+
+
+
+  /**
+   * Writes the provided byte to the channel.
+   *
+   * @param  b  The byte to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  @Override()
+  public void write(final int b)
+         throws IOException
+  {
+    write(new byte[] { (byte) (b & 0xFF) }, 0, 1);
+  }
+
+
+
+  /**
+   * Writes the specified portion of the provided array to the channel.
+   *
+   * @param  b    The array containing the data to be written.
+   * @param  off  The position in the array at which the data to write starts.
+   * @param  len  The number of bytes to be written.
+   *
+   * @throws  IOException  If a problem occurs while writing the data.
+   */
+  @Override()
+  public void write(@NotNull final byte[] b, final int off, final int len)
+         throws IOException
+  {
+    final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+    while (buffer.hasRemaining())
+    {
+      if (channel.write(buffer) == 0)
+      {
+        awaitWritable();
+      }
+    }
+  }
+
+
+
+  /**
+   * Waits for the channel to become writable.
+   *
+   * @throws  IOException  If the channel is closed while waiting, or if some
+   *                       other problem occurs.
+   */
+  private void awaitWritable()
+          throws IOException
+  {
+    if (writeSelector == null)
+    {
+      writeSelector = Selector.open();
+    }
+
+    final SelectionKey key = channel.register(writeSelector,
+         SelectionKey.OP_WRITE);
+    try
+    {
+      while (writeSelector.select(WRITE_SELECT_TIMEOUT_MILLIS) == 0)
+      {
+        if (! channel.isOpen())
+        {
+          throw new ClosedChannelException();
+        }
+      }
+    }
+    finally
+    {
+      key.cancel();
+      writeSelector.selectNow();
+      writeSelector.selectedKeys().clear();
+    }
+  }
+
+
+
+  /**
+   * Closes this output stream and the underlying channel.
+   *
+   * @throws  IOException  If a problem occurs while closing the channel.
+   */
+  @Override()
+  public void close()
+         throws IOException
+  {
+    try
+    {
+      if (writeSelector != null)
+      {
+        writeSelector.close();
+      }
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+    finally
+    {
+      writeSelector = null;
+    }
+
+    channel.close();
+  }
+}
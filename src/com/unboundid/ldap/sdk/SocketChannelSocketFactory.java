@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+import javax.net.SocketFactory;
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.InternalUseOnly;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+
+
+
+/**
+ * This class provides a socket factory that creates sockets backed by a
+ * {@code SocketChannel}.  It is used in place of the default JVM socket factory
+ * for connections that are configured to use the shared selector-based reader,
+ * since the socket associated with such a connection must have a channel that
+ * can be registered with a {@code Selector}.
+ */
+@InternalUseOnly()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class SocketChannelSocketFactory
+      extends SocketFactory
+{
+  /**
+   * The singleton instance of this socket factory.
+   */
+  @NotNull private static final SocketChannelSocketFactory INSTANCE =
+       new SocketChannelSocketFactory();
+
+
+
+  /**
+   * Creates a new instance of this socket factory.
+   */
+  private SocketChannelSocketFactory()
+  {
+    // No implementation is required.
+  }
+
+
+
+  /**
+   * Retrieves the singleton instance of this socket factory.
+   *
+   * @return  The singleton instance of this socket factory.
+   */
+  @NotNull()
+  static SocketChannelSocketFactory getInstance()
+  {
+    return INSTANCE;
+  }
+
+
+
+  /**
+   * Indicates whether the provided socket factory is the default JVM socket
+   * factory (optionally wrapped in a {@code SynchronizedSocketFactory}), and
+   * therefore may be replaced with this socket factory without any change in
+   * behavior.
+   *
+   * @param  socketFactory  The socket factory to examine.
+   *
+   * @return  {@code true} if the provided socket factory is the default JVM
+   *          socket factory, or {@code false} if not.
+   */
+  static boolean isDefaultSocketFactory(
+                      @NotNull final SocketFactory socketFactory)
+  {
+    SocketFactory f = socketFactory;
+    if (f instanceof com.unboundid.util.SynchronizedSocketFactory)
+    {
+      f = ((com.unboundid.util.SynchronizedSocketFactory) f).
+           getWrappedSocketFactory();
+    }
+
+    return (f.getClass() == SocketFactory.getDefault().getClass());
+  }
+
+
+
+  /**
+   * Creates a new unconnected socket that is backed by a socket channel.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If a problem occurs while creating the socket.
+   */
+  @Override()
+  @NotNull()
+  public Socket createSocket()
+         throws IOException
+  {
+    return SocketChannel.open().socket();
+  }
+
+
+
+  /**
+   * Creates a new socket to the specified server.
+   *
+   * @param  host  The host to which the connection should be established.
+   * @param  port  The port to which the connection should be established.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If a problem occurs while creating the socket.
+   */
+  @Override()
+  @NotNull()
+  public Socket createSocket(@NotNull final String host, final int port)
+         throws IOException
+  {
+    return connect(new InetSocketAddress(host, port), null);
+  }
+
+
+
+  /**
+   * Creates a new socket to the specified server.
+   *
+   * @param  host          The host to which the connection should be
+   *                       established.
+   * @param  port          The port to which the connection should be
+   *                       established.
+   * @param  localAddress  The local address to use for the connection.  This
+   *                       will be ignored.
+   * @param  localPort     The local port to use for the connection.  This will
+   *                       be ignored.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If a problem occurs while creating the socket.
+   */
+  @Override()
+  @NotNull()
+  public Socket createSocket(@NotNull final String host, final int port,
+                             @NotNull final InetAddress localAddress,
+                             final int localPort)
+         throws IOException
+  {
+    return connect(new InetSocketAddress(host, port),
+         new InetSocketAddress(localAddress, localPort));
+  }
+
+
+
+  /**
+   * Creates a new socket to the specified server.
+   *
+   * @param  address  The address to which the connection should be
+   *                  established.
+   * @param  port     The port to which the connection should be established.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If a problem occurs while creating the socket.
+   */
+  @Override()
+  @NotNull()
+  public Socket createSocket(@NotNull final InetAddress address, final int port)
+         throws IOException
+  {
+    return connect(new InetSocketAddress(address, port), null);
+  }
+
+
+
+  /**
+   * Creates a new socket to the specified server.
+   *
+   * @param  address       The address to which the connection should be
+   *                       established.
+   * @param  port          The port to which the connection should be
+   *                       established.
+   * @param  localAddress  The local address to use for the connection.
+   * @param  localPort     The local port to use for the connection.
+   *
+   * @return  The socket that was created.
+   *
+   * @throws  IOException  If a problem occurs while creating the socket.
+   */
+  @Override()
+  @NotNull()
+  public Socket createSocket(@NotNull final InetAddress address, final int port,
+                             @NotNull final InetAddress localAddress,
+                             final int localPort)
+         throws IOException
+  {
+    return connect(new InetSocketAddress(address, port),
+         new InetSocketAddress(localAddress, localPort));
+  }
+
+
+
+  /**
+   * Creates a socket channel and uses it to establish a connection to the
+   * specified address.
+   *
+   * @param  remoteAddress  The remote address to which the connection should
+   *                        be established.
+   * @param  localAddress   The local address to which the socket should be
+   *                        bound, or {@code null} if it should not be bound to
+   *                        any specific local address.
+   *
+   * @return  The connected socket.
+   *
+   * @throws  IOException  If a problem occurs while establishing the
+   *                       connection.
+   */
+  @NotNull()
+  private static Socket connect(@NotNull final InetSocketAddress remoteAddress,
+                                @Nullable final InetSocketAddress localAddress)
+          throws IOException
+  {
+    final SocketChannel channel = SocketChannel.open();
+    try
+    {
+      if (localAddress != null)
+      {
+        channel.socket().bind(localAddress);
+      }
+
+      channel.connect(remoteAddress);
+      return channel.socket();
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+
+      try
+      {
+        channel.close();
+      }
+      catch (final Exception e2)
+      {
+        Debug.debugException(e2);
+      }
+
+      throw e;
+    }
+  }
+}
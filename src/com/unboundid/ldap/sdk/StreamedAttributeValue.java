@@ -0,0 +1,528 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.logging.Level;
+
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.util.ByteStringBuffer;
+import com.unboundid.util.Debug;
+import com.unboundid.util.DebugType;
+import com.unboundid.util.NotMutable;
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+import static com.unboundid.ldap.sdk.LDAPMessages.*;
+
+
+
+/**
+ * This class provides a data structure for holding a single value of an
+ * attribute that was configured to be streamed rather than decoded into
+ * memory with the rest of a search result entry.  Values no larger than a
+ * configurable threshold are held in memory, while larger values are written
+ * to a temporary file as they are read from the server, so that the amount of
+ * memory needed to read an entry does not depend on the size of its streamed
+ * values.  In either case, the value may be accessed through the
+ * {@link #getInputStream} method.
+ * <BR><BR>
+ * Attributes may be configured to be streamed with the
+ * {@link LDAPConnectionOptions#setStreamedAttributes(String...)} method, and
+ * their values may be retrieved from search result entries with the
+ * {@link SearchResultEntry#getStreamedAttributeValues()} method.  Any
+ * temporary file used to hold a value will only be deleted when the value is
+ * closed, so the {@link #close} method must be called once the value is no
+ * longer needed.
+ *
+ * @see  LDAPConnectionOptions#setStreamedAttributes(String...)
+ * @see  SearchResultEntry#getStreamedAttributeValues()
+ */
+@NotMutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class StreamedAttributeValue
+       implements Closeable, Serializable
+{
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = 8031275612043287129L;
+
+
+
+  // The value, if it is held in memory.
+  @Nullable private final byte[] value;
+
+  // The temporary file holding the value, if it is not held in memory.
+  @Nullable private final File file;
+
+  // The length of the value in bytes.
+  private final long length;
+
+  // The name of the attribute with which the value is associated.
+  @NotNull private final String attributeName;
+
+
+
+  /**
+   * Creates a new streamed attribute value that is held in memory.
+   *
+   * @param  attributeName  The name of the attribute with which the value is
+   *                        associated.  It must not be {@code null}.
+   * @param  value          The value.  It must not be {@code null}.
+   */
+  public StreamedAttributeValue(@NotNull final String attributeName,
+                                @NotNull final byte[] value)
+  {
+    Validator.ensureNotNull(attributeName, value);
+
+    this.attributeName = attributeName;
+    this.value         = value;
+
+    file   = null;
+    length = value.length;
+  }
+
+
+
+  /**
+   * Creates a new streamed attribute value that is held in the provided
+   * temporary file.
+   *
+   * @param  attributeName  The name of the attribute with which the value is
+   *                        associated.  It must not be {@code null}.
+   * @param  file           The temporary file holding the value.  It must not
+   *                        be {@code null}.
+   * @param  length         The length of the value in bytes.
+   */
+  private StreamedAttributeValue(@NotNull final String attributeName,
+                                 @NotNull final File file, final long length)
+  {
+    this.attributeName = attributeName;
+    this.file          = file;
+    this.length        = length;
+
+    value = null;
+  }
+
+
+
+  /**
+   * Reads an attribute value from the provided ASN.1 stream reader.  If the
+   * value is larger than the given threshold, then it will be written to a
+   * temporary file as it is read.
+   *
+   * @param  reader           The ASN.1 stream reader from which to read the
+   *                          value.  It must not be {@code null}.
+   * @param  attributeName    The name of the attribute with which the value is
+   *                          associated.  It must not be {@code null}.
+   * @param  maxMemorySize    The maximum size, in bytes, of a value that will
+   *                          be held in memory.
+   * @param  tempDirectory    The directory in which to create the temporary
+   *                          file for a value that is too large to hold in
+   *                          memory.  It may be {@code null} if the default
+   *                          temporary directory should be used.
+   *
+   * @return  The attribute value that was read.
+   *
+   * @throws  IOException  If a problem occurs while reading the value or
+   *                       writing it to a temporary file.
+   */
+  @NotNull()
+  static StreamedAttributeValue readFrom(@NotNull final ASN1StreamReader reader,
+                                         @NotNull final String attributeName,
+                                         final int maxMemorySize,
+                                         @Nullable final File tempDirectory)
+         throws IOException
+  {
+    final SpillingOutputStream outputStream =
+         new SpillingOutputStream(maxMemorySize, tempDirectory);
+    try
+    {
+      if (reader.readBytes(outputStream) < 0)
+      {
+        throw new IOException(ERR_STREAMED_VALUE_END_OF_STREAM.get(
+             attributeName));
+      }
+
+      outputStream.close();
+    }
+    catch (final IOException e)
+    {
+      Debug.debugException(e);
+      outputStream.discard();
+      throw e;
+    }
+
+    final File file = outputStream.getFile();
+    if (file == null)
+    {
+      return new StreamedAttributeValue(attributeName,
+           outputStream.getBuffer().toByteArray());
+    }
+    else
+    {
+      return new StreamedAttributeValue(attributeName, file,
+           outputStream.getLength());
+    }
+  }
+
+
+
+  /**
+   * Retrieves the name of the attribute with which this value is associated,
+   * including any attribute options.
+   *
+   * @return  The name of the attribute with which this value is associated.
+   */
+  @NotNull()
+  public String getAttributeName()
+  {
+    return attributeName;
+  }
+
+
+
+  /**
+   * Retrieves the length of this value in bytes.
+   *
+   * @return  The length of this value in bytes.
+   */
+  public long getLength()
+  {
+    return length;
+  }
+
+
+
+  /**
+   * Indicates whether this value is held in a temporary file rather than in
+   * memory.
+   *
+   * @return  {@code true} if this value is held in a temporary file, or
+   *          {@code false} if it is held in memory.
+   */
+  public boolean isInFile()
+  {
+    return (file != null);
+  }
+
+
+
+  /**
+   * Retrieves the temporary file that holds this value, if it is not held in
+   * memory.  The file will be deleted when this value is closed.
+   *
+   * @return  The temporary file that holds this value, or {@code null} if the
+   *          value is held in memory.
+   */
+  @Nullable()
+  public File getFile()
+  {
+    return file;
+  }
+
+
+
+  /**
+   * Retrieves an input stream that may be used to read this value.  Each call
+   * to this method returns a new input stream positioned at the start of the
+   * value, and the caller is responsible for closing it.
+   *
+   * @return  An input stream that may be used to read this value.
+   *
+   * @throws  IOException  If this value is held in a temporary file that can
+   *                       no longer be read (for example, because this value
+   *                       has been closed).
+   */
+  @NotNull()
+  public InputStream getInputStream()
+         throws IOException
+  {
+    if (file == null)
+    {
+      return new ByteArrayInputStream(value);
+    }
+    else
+    {
+      return new FileInputStream(file);
+    }
+  }
+
+
+
+  /**
+   * Deletes the temporary file that holds this value, if there is one.  This
+   * value must not be accessed after it has been closed.
+   */
+  @Override()
+  public void close()
+  {
+    if ((file != null) && file.exists() && (! file.delete()))
+    {
+      Debug.debug(Level.WARNING, DebugType.OTHER,
+           "Unable to delete streamed attribute value file " +
+                file.getAbsolutePath());
+    }
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this streamed attribute value.
+   *
+   * @return  A string representation of this streamed attribute value.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this streamed attribute value to the
+   * provided buffer.
+   *
+   * @param  buffer  The buffer to which the string representation should be
+   *                 appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("StreamedAttributeValue(attributeName='");
+    buffer.append(attributeName);
+    buffer.append("', length=");
+    buffer.append(length);
+
+    if (file != null)
+    {
+      buffer.append(", file='");
+      buffer.append(file.getAbsolutePath());
+      buffer.append('\'');
+    }
+
+    buffer.append(')');
+  }
+
+
+
+  /**
+   * This class provides an output stream that holds data in memory until it
+   * exceeds a given size, and then writes it to a temporary file.
+   */
+  private static final class SpillingOutputStream
+          extends OutputStream
+  {
+    // The buffer holding the data written so far, if it has not yet been
+    // written to a temporary file.
+    @Nullable private ByteStringBuffer buffer;
+
+    // The temporary file to which the data is written, if any.
+    @Nullable private File file;
+
+    // The directory in which to create the temporary file.
+    @Nullable private final File tempDirectory;
+
+    // The stream used to write to the temporary file, if any.
+    @Nullable private OutputStream fileStream;
+
+    // The maximum amount of data to hold in memory.
+    private final int maxMemorySize;
+
+    // The total number of bytes written.
+    private long length;
+
+
+
+    /**
+     * Creates a new spilling output stream with the provided settings.
+     *
+     * @param  maxMemorySize  The maximum amount of data to hold in memory.
+     * @param  tempDirectory  The directory in which to create the temporary
+     *                        file.  It may be {@code null} if the default
+     *                        temporary directory should be used.
+     */
+    private SpillingOutputStream(final int maxMemorySize,
+                                 @Nullable final File tempDirectory)
+    {
+      this.maxMemorySize = maxMemorySize;
+      this.tempDirectory = tempDirectory;
+
+      buffer     = new ByteStringBuffer();
+      file       = null;
+      fileStream = null;
+      length     = 0L;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void write(final int b)
+           throws IOException
+    {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void write(@NotNull final byte[] b, final int off, final int len)
+           throws IOException
+    {
+      if ((fileStream == null) && ((length + len) > maxMemorySize))
+      {
+        file = File.createTempFile("ldapsdk-streamed-value-", ".tmp",
+             tempDirectory);
+        fileStream = new BufferedOutputStream(new FileOutputStream(file));
+        buffer.write(fileStream);
+        buffer = null;
+      }
+
+      if (fileStream == null)
+      {
+        buffer.append(b, off, len);
+      }
+      else
+      {
+        fileStream.write(b, off, len);
+      }
+
+      length += len;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void close()
+           throws IOException
+    {
+      if (fileStream != null)
+      {
+        fileStream.close();
+      }
+    }
+
+
+
+    /**
+     * Closes this stream and deletes the temporary file, if one was created.
+     */
+    private void discard()
+    {
+      try
+      {
+        close();
+      }
+      catch (final Exception e)
+      {
+        Debug.debugException(e);
+      }
+
+      if (file != null)
+      {
+        file.delete();
+      }
+    }
+
+
+
+    /**
+     * Retrieves the buffer holding the data, if it was not written to a
+     * temporary file.
+     *
+     * @return  The buffer holding the data, or {@code null} if the data was
+     *          written to a temporary file.
+     */
+    @Nullable()
+    private ByteStringBuffer getBuffer()
+    {
+      return buffer;
+    }
+
+
+
+    /**
+     * Retrieves the temporary file to which the data was written, if any.
+     *
+     * @return  The temporary file to which the data was written, or
+     *          {@code null} if the data is held in memory.
+     */
+    @Nullable()
+    private File getFile()
+    {
+      return file;
+    }
+
+
+
+    /**
+     * Retrieves the total number of bytes written to this stream.
+     *
+     * @return  The total number of bytes written to this stream.
+     */
+    private long getLength()
+    {
+      return length;
+    }
+  }
+}
@@ -0,0 +1,748 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.unboundid.util.NotNull;
+import com.unboundid.util.Nullable;
+import com.unboundid.util.ObjectPair;
+import com.unboundid.util.ThreadSafety;
+import com.unboundid.util.ThreadSafetyLevel;
+import com.unboundid.util.Validator;
+
+
+
+/**
+ * This class provides a bounded structure for holding the connections that
+ * are available for use in an {@link LDAPConnectionPool}.  It is intended to
+ * replace a single blocking queue, whose locks can become a point of
+ * contention when a large number of threads are checking out and releasing
+ * connections at the same time.
+ * <BR><BR>
+ * Connections are held in a number of lock-free stripes, and each thread is
+ * associated with one of those stripes.  A connection that is released is
+ * added to the head of the releasing thread's stripe, and a thread checking
+ * out a connection will first take the most recently released connection from
+ * the head of its own stripe.  This last-in-first-out ordering means that the
+ * same thread will tend to get the same connection back, and that connections
+ * which are not needed will remain idle rather than being kept in rotation.
+ * If a thread's own stripe is empty, then it will steal the least recently
+ * released connection from one of the other stripes.
+ * <BR><BR>
+ * Each server to which the pool has connections has its own set of stripes,
+ * so the {@link #poll(String,int)} method can retrieve an available connection
+ * to a specific server without examining the connections to any other server.
+ * Connections are never moved from one stripe to another, so this does not
+ * affect the ordering described above.
+ * <BR><BR>
+ * The {@link #pollOldest} method may be used to retrieve the connection that
+ * has been available for the longest time across all stripes.  Repeatedly
+ * retrieving the oldest connection and releasing it again will cycle through
+ * all of the available connections, which is needed for processing like
+ * health checks.
+ * <BR><BR>
+ * Only threads that need to wait for a connection to become available will
+ * acquire a lock, and threads releasing connections will only acquire that
+ * lock if there are any waiting threads.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+final class StripedConnectionQueue
+      implements Iterable<LDAPConnection>
+{
+  /**
+   * The maximum number of stripes that will be used.
+   */
+  private static final int MAX_STRIPES = 64;
+
+
+
+  // The number of connections held in this queue, including any connections
+  // that are in the process of being added.
+  @NotNull private final AtomicInteger size;
+
+  // The number of threads waiting for a connection to become available.
+  @NotNull private final AtomicInteger numWaiters;
+
+  // The condition used to notify waiting threads that a connection has been
+  // added.
+  @NotNull private final Condition notEmpty;
+
+  // The stripes used to hold the available connections for each server.  This
+  // will be replaced rather than modified when a server is added.
+  @NotNull private volatile ServerStripes[] servers;
+
+  // The maximum number of connections that may be held in this queue.
+  private final int capacity;
+
+  // The number of stripes used for each server.
+  private final int numStripes;
+
+  // The mask used to select a stripe for a thread.
+  private final int stripeMask;
+
+  // The lock used by threads waiting for a connection to become available.
+  @NotNull private final ReentrantLock lock;
+
+  // The lock used when adding the stripes for a new server.
+  @NotNull private final Object serversLock;
+
+
+
+  /**
+   * Creates a new striped connection queue with the specified capacity and a
+   * number of stripes based on the number of available processors.
+   *
+   * @param  capacity  The maximum number of connections that may be held in
+   *                   this queue.  It must be greater than zero.
+   */
+  StripedConnectionQueue(final int capacity)
+  {
+    this(capacity, Runtime.getRuntime().availableProcessors());
+  }
+
+
+
+  /**
+   * Creates a new striped connection queue with the specified capacity and
+   * number of stripes.
+   *
+   * @param  capacity    The maximum number of connections that may be held in
+   *                     this queue.  It must be greater than zero.
+   * @param  numStripes  The minimum number of stripes to use.  It will be
+   *                     rounded up to a power of two, and will be limited to
+   *                     at most 64 stripes.
+   */
+  StripedConnectionQueue(final int capacity, final int numStripes)
+  {
+    Validator.ensureTrue((capacity > 0),
+         "StripedConnectionQueue.capacity must be greater than zero.");
+
+    this.capacity = capacity;
+
+    int n = 1;
+    while ((n < numStripes) && (n < MAX_STRIPES))
+    {
+      n <<= 1;
+    }
+
+    this.numStripes = n;
+    servers = new ServerStripes[0];
+    stripeMask = n - 1;
+    size = new AtomicInteger(0);
+    numWaiters = new AtomicInteger(0);
+    lock = new ReentrantLock();
+    notEmpty = lock.newCondition();
+    serversLock = new Object();
+  }
+
+
+
+  /**
+   * Adds the provided connection to the head of the current thread's stripe
+   * for the server to which it is established, if this queue is not already
+   * full.
+   *
+   * @param  connection  The connection to add.  It must not be {@code null}.
+   *
+   * @return  {@code true} if the connection was added, or {@code false} if
+   *          this queue is already full.
+   */
+  boolean offer(@NotNull final LDAPConnection connection)
+  {
+    Validator.ensureNotNull(connection);
+
+    while (true)
+    {
+      final int currentSize = size.get();
+      if (currentSize >= capacity)
+      {
+        return false;
+      }
+
+      if (size.compareAndSet(currentSize, (currentSize + 1)))
+      {
+        break;
+      }
+    }
+
+    final ServerStripes serverStripes = getServerStripes(
+         connection.getConnectedAddress(), connection.getConnectedPort(), true);
+    serverStripes.stripes[getStripeIndex()].offerFirst(
+         new IdleConnection(connection, System.nanoTime()));
+
+    if (numWaiters.get() > 0)
+    {
+      lock.lock();
+      try
+      {
+        notEmpty.signal();
+      }
+      finally
+      {
+        lock.unlock();
+      }
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Adds all of the provided connections to this queue, as long as it does not
+   * become full.
+   *
+   * @param  connections  The connections to add.  It must not be
+   *                      {@code null}.
+   *
+   * @return  {@code true} if all of the connections were added, or
+   *          {@code false} if this queue became full before all of them could
+   *          be added.
+   */
+  boolean addAll(@NotNull final Collection<LDAPConnection> connections)
+  {
+    for (final LDAPConnection connection : connections)
+    {
+      if (! offer(connection))
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+
+
+  /**
+   * Retrieves and removes the most recently released connection from the
+   * current thread's stripe, or the least recently released connection from
+   * another stripe if the current thread's stripe is empty.
+   *
+   * @return  The connection that was removed, or {@code null} if no
+   *          connection is immediately available.
+   */
+  @Nullable()
+  LDAPConnection poll()
+  {
+    final int homeIndex = getStripeIndex();
+    final ServerStripes[] s = servers;
+    while (true)
+    {
+      // Find the most recently released connection in the current thread's
+      // stripe for any server.
+      IdleConnection newest = null;
+      ConcurrentLinkedDeque<IdleConnection> newestStripe = null;
+      for (final ServerStripes serverStripes : s)
+      {
+        final ConcurrentLinkedDeque<IdleConnection> stripe =
+             serverStripes.stripes[homeIndex];
+        final IdleConnection c = stripe.peekFirst();
+        if ((c != null) &&
+             ((newest == null) || ((c.releaseTime - newest.releaseTime) > 0L)))
+        {
+          newest = c;
+          newestStripe = stripe;
+        }
+      }
+
+      if (newestStripe == null)
+      {
+        break;
+      }
+
+      // Another thread may have taken the connection since it was examined,
+      // in which case we will try again.
+      final IdleConnection c = newestStripe.pollFirst();
+      if (c != null)
+      {
+        size.decrementAndGet();
+        return c.connection;
+      }
+    }
+
+    for (int i=1; i < numStripes; i++)
+    {
+      final int stripeIndex = (homeIndex + i) & stripeMask;
+      for (final ServerStripes serverStripes : s)
+      {
+        final IdleConnection c = serverStripes.stripes[stripeIndex].pollLast();
+        if (c != null)
+        {
+          size.decrementAndGet();
+          return c.connection;
+        }
+      }
+    }
+
+    return null;
+  }
+
+
+
+  /**
+   * Retrieves and removes a connection established to the specified server.
+   * This will be the most recently released connection to that server from
+   * the current thread's stripe, or the least recently released connection to
+   * that server from another stripe if the current thread's stripe does not
+   * have any.
+   *
+   * @param  host  The address of the server to which the connection should be
+   *               established.
+   * @param  port  The port of the server to which the connection should be
+   *               established.
+   *
+   * @return  The connection that was removed, or {@code null} if no
+   *          connection to the specified server is immediately available.
+   */
+  @Nullable()
+  LDAPConnection poll(@Nullable final String host, final int port)
+  {
+    final ServerStripes serverStripes = getServerStripes(host, port, false);
+    if (serverStripes == null)
+    {
+      return null;
+    }
+
+    final int homeIndex = getStripeIndex();
+    IdleConnection c = serverStripes.stripes[homeIndex].pollFirst();
+    if (c == null)
+    {
+      for (int i=1; i < numStripes; i++)
+      {
+        c = serverStripes.stripes[(homeIndex + i) & stripeMask].pollLast();
+        if (c != null)
+        {
+          break;
+        }
+      }
+
+      if (c == null)
+      {
+        return null;
+      }
+    }
+
+    size.decrementAndGet();
+    return c.connection;
+  }
+
+
+
+  /**
+   * Retrieves and removes a connection from this queue, waiting up to the
+   * specified length of time for one to become available if necessary.
+   *
+   * @param  timeout  The maximum length of time to wait for a connection.
+   * @param  unit     The time unit for the provided timeout.  It must not be
+   *                  {@code null}.
+   *
+   * @return  The connection that was removed, or {@code null} if no
+   *          connection became available before the timeout elapsed.
+   *
+   * @throws  InterruptedException  If the thread is interrupted while waiting
+   *                                for a connection.
+   */
+  @Nullable()
+  LDAPConnection poll(final long timeout, @NotNull final TimeUnit unit)
+                 throws InterruptedException
+  {
+    LDAPConnection connection = poll();
+    if (connection != null)
+    {
+      return connection;
+    }
+
+    long remainingNanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    numWaiters.incrementAndGet();
+    try
+    {
+      while (true)
+      {
+        // The waiter count must be incremented before checking again so that
+        // a connection added after this check will result in a signal.
+        connection = poll();
+        if (connection != null)
+        {
+          return connection;
+        }
+
+        if (remainingNanos <= 0L)
+        {
+          return null;
+        }
+
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+    }
+    finally
+    {
+      numWaiters.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+
+
+  /**
+   * Retrieves and removes the connection that has been held in this queue for
+   * the longest length of time, regardless of the stripe that holds it.
+   *
+   * @return  The connection that was removed, or {@code null} if this queue
+   *          is empty.
+   */
+  @Nullable()
+  LDAPConnection pollOldest()
+  {
+    while (true)
+    {
+      IdleConnection oldest = null;
+      ConcurrentLinkedDeque<IdleConnection> oldestStripe = null;
+      for (final ServerStripes serverStripes : servers)
+      {
+        for (final ConcurrentLinkedDeque<IdleConnection> stripe :
+             serverStripes.stripes)
+        {
+          final IdleConnection c = stripe.peekLast();
+          if ((c != null) && ((oldest == null) ||
+               ((c.releaseTime - oldest.releaseTime) < 0L)))
+          {
+            oldest = c;
+            oldestStripe = stripe;
+          }
+        }
+      }
+
+      if (oldest == null)
+      {
+        return null;
+      }
+
+      // Another thread may have taken the connection since it was examined,
+      // in which case we will try again.
+      if (oldestStripe.removeLastOccurrence(oldest))
+      {
+        size.decrementAndGet();
+        return oldest.connection;
+      }
+    }
+  }
+
+
+
+  /**
+   * Removes all of the connections from this queue and adds them to the
+   * provided collection.
+   *
+   * @param  collection  The collection to which the connections should be
+   *                     added.  It must not be {@code null}.
+   *
+   * @return  The number of connections that were removed.
+   */
+  int drainTo(@NotNull final Collection<? super LDAPConnection> collection)
+  {
+    int numDrained = 0;
+    while (true)
+    {
+      final LDAPConnection connection = pollOldest();
+      if (connection == null)
+      {
+        return numDrained;
+      }
+
+      collection.add(connection);
+      numDrained++;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the number of connections held in this queue.
+   *
+   * @return  The number of connections held in this queue.
+   */
+  int size()
+  {
+    return size.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of additional connections that may be added to this
+   * queue before it becomes full.
+   *
+   * @return  The number of additional connections that may be added to this
+   *          queue.
+   */
+  int remainingCapacity()
+  {
+    return Math.max(0, (capacity - size.get()));
+  }
+
+
+
+  /**
+   * Retrieves the addresses and ports of the servers for which this queue has
+   * held connections.  Some of those servers may not have any connections
+   * that are currently available.
+   *
+   * @return  The addresses and ports of the servers for which this queue has
+   *          held connections.
+   */
+  @NotNull()
+  List<ObjectPair<String,Integer>> getServers()
+  {
+    final ServerStripes[] s = servers;
+    final List<ObjectPair<String,Integer>> serverList =
+         new ArrayList<>(s.length);
+    for (final ServerStripes serverStripes : s)
+    {
+      serverList.add(new ObjectPair<>(serverStripes.host, serverStripes.port));
+    }
+
+    return serverList;
+  }
+
+
+
+  /**
+   * Retrieves the number of stripes used for each server by this queue.
+   *
+   * @return  The number of stripes used for each server by this queue.
+   */
+  int getNumStripes()
+  {
+    return numStripes;
+  }
+
+
+
+  /**
+   * Retrieves an iterator over a snapshot of the connections held in this
+   * queue.  The iterator does not support removal.
+   *
+   * @return  An iterator over a snapshot of the connections held in this
+   *          queue.
+   */
+  @Override()
+  @NotNull()
+  public Iterator<LDAPConnection> iterator()
+  {
+    final List<LDAPConnection> connections = new ArrayList<>(size.get());
+    for (final ServerStripes serverStripes : servers)
+    {
+      for (final ConcurrentLinkedDeque<IdleConnection> stripe :
+           serverStripes.stripes)
+      {
+        for (final IdleConnection c : stripe)
+        {
+          connections.add(c.connection);
+        }
+      }
+    }
+
+    return Collections.unmodifiableList(connections).iterator();
+  }
+
+
+
+  /**
+   * Retrieves the index of the stripe associated with the current thread.
+   *
+   * @return  The index of the stripe associated with the current thread.
+   */
+  private int getStripeIndex()
+  {
+    final int h = System.identityHashCode(Thread.currentThread()) * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & stripeMask;
+  }
+
+
+
+  /**
+   * Retrieves the stripes used to hold the available connections for the
+   * specified server.
+   *
+   * @param  host    The address of the server.
+   * @param  port    The port of the server.
+   * @param  create  Indicates whether to create the stripes for the server if
+   *                 they do not already exist.
+   *
+   * @return  The stripes for the specified server, or {@code null} if there
+   *          are none and {@code create} is {@code false}.
+   */
+  @Nullable()
+  private ServerStripes getServerStripes(@Nullable final String host,
+                                         final int port, final boolean create)
+  {
+    for (final ServerStripes serverStripes : servers)
+    {
+      if (serverStripes.matches(host, port))
+      {
+        return serverStripes;
+      }
+    }
+
+    if (! create)
+    {
+      return null;
+    }
+
+    synchronized (serversLock)
+    {
+      final ServerStripes[] s = servers;
+      for (final ServerStripes serverStripes : s)
+      {
+        if (serverStripes.matches(host, port))
+        {
+          return serverStripes;
+        }
+      }
+
+      final ServerStripes serverStripes =
+           new ServerStripes(host, port, numStripes);
+      final ServerStripes[] newServers = Arrays.copyOf(s, (s.length + 1));
+      newServers[s.length] = serverStripes;
+      servers = newServers;
+      return serverStripes;
+    }
+  }
+
+
+
+  /**
+   * This class holds the stripes used for the available connections that are
+   * established to a single server.
+   */
+  private static final class ServerStripes
+  {
+    // The address of the server.
+    @Nullable private final String host;
+
+    // The port of the server.
+    private final int port;
+
+    // The stripes used to hold the available connections to the server.
+    @NotNull private final ConcurrentLinkedDeque<IdleConnection>[] stripes;
+
+
+
+    /**
+     * Creates a new set of stripes for the specified server.
+     *
+     * @param  host        The address of the server.
+     * @param  port        The port of the server.
+     * @param  numStripes  The number of stripes to create.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ServerStripes(@Nullable final String host, final int port,
+                          final int numStripes)
+    {
+      this.host = host;
+      this.port = port;
+
+      stripes = new ConcurrentLinkedDeque[numStripes];
+      for (int i=0; i < numStripes; i++)
+      {
+        stripes[i] = new ConcurrentLinkedDeque<>();
+      }
+    }
+
+
+
+    /**
+     * Indicates whether these stripes are used for the specified server.
+     *
+     * @param  host  The address of the server.
+     * @param  port  The port of the server.
+     *
+     * @return  {@code true} if these stripes are used for the specified
+     *          server, or {@code false} if not.
+     */
+    private boolean matches(@Nullable final String host, final int port)
+    {
+      return (this.port == port) && Objects.equals(this.host, host);
+    }
+  }
+
+
+
+  /**
+   * This class holds a connection along with the time that it was added to
+   * the queue.
+   */
+  private static final class IdleConnection
+  {
+    // The connection.
+    @NotNull private final LDAPConnection connection;
+
+    // The value of System.nanoTime() when the connection was added.
+    private final long releaseTime;
+
+
+
+    /**
+     * Creates a new idle connection with the provided information.
+     *
+     * @param  connection   The connection.
+     * @param  releaseTime  The value of System.nanoTime() when the connection
+     *                      was added.
+     */
+    private IdleConnection(@NotNull final LDAPConnection connection,
+                           final long releaseTime)
+    {
+      this.connection  = connection;
+      this.releaseTime = releaseTime;
+    }
+  }
+}
@@ -37,18 +37,12 @@ package com.unboundid.ldap.sdk;
 
 
 
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 
-import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimer;
+import com.unboundid.util.HashedWheelTimerTask;
 import com.unboundid.util.NotNull;
-import com.unboundid.util.ObjectPair;
+import com.unboundid.util.Nullable;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 
@@ -60,49 +54,25 @@ import com.unboundid.util.ThreadSafetyLevel;
  * does not provide this capability for regular socket I/O (SO_TIMEOUT only
  * applies to reads and has no effect for writes), so the only way to interrupt
  * a blocked socket write attempt is to close the socket.
+ * <BR><BR>
+ * Each write is associated with a task scheduled with the shared
+ * {@link HashedWheelTimer}, which will close the socket if the write has not
+ * completed before the timeout elapses.  Scheduling and cancelling these tasks
+ * are constant-time operations, so this adds very little overhead to each
+ * write.
  */
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
 final class WriteTimeoutHandler
-      extends TimerTask
 {
-  /**
-   * The timer that will be used to identify and close connections on which
-   * write attempts have been blocked for too long.
-   */
-  @NotNull private static final AtomicReference<ObjectPair<Timer,AtomicLong>>
-       TIMER_REFERENCE = new AtomicReference<>();
-
-
-
-  /**
-   * The interval, in milliseconds, at which the timer should examine
-   * connections to determine whether to close of them because of a blocked
-   * write.
-   */
-  private static final long TIMER_INTERVAL_MILLIS = 100L;
-
-
-
   // Indicates whether this instance has been destroyed.
   @NotNull private final AtomicBoolean destroyed;
 
-  // A counter used to keep track of the number of connections using the
-  // associated timer.
-  @NotNull private final AtomicLong connectionsUsingTimer;
-
-  // A counter that will be used to create a unique identifier for each write.
-  @NotNull private final AtomicLong counter;
-
-  // A map that associates a unique identifier for each write with the timeout
-  // for that write.
-  @NotNull private final ConcurrentHashMap<Long,Long> writeTimeouts;
+  // The timer that will be used to schedule the write timeout tasks.
+  @NotNull private final HashedWheelTimer timer;
 
   // A handle to the connection with which this handler is associated.
   @NotNull private final LDAPConnection connection;
 
-  // The timer with which this task is associated.
-  @NotNull private final Timer timer;
-
 
 
   /**
@@ -116,114 +86,27 @@ final class WriteTimeoutHandler
     this.connection = connection;
 
     destroyed = new AtomicBoolean(false);
-    counter = new AtomicLong(0L);
-    writeTimeouts = new ConcurrentHashMap<>(10);
-
-    synchronized (TIMER_REFERENCE)
-    {
-      final ObjectPair<Timer,AtomicLong> timerPair = TIMER_REFERENCE.get();
-      if (timerPair == null)
-      {
-        timer = new Timer("Write Timeout Handler Timer", true);
-        connectionsUsingTimer = new AtomicLong(1L);
-        TIMER_REFERENCE.set(new ObjectPair<>(timer, connectionsUsingTimer));
-      }
-      else
-      {
-        timer = timerPair.getFirst();
-        connectionsUsingTimer = timerPair.getSecond();
-        connectionsUsingTimer.incrementAndGet();
-      }
-
-      timer.schedule(this, TIMER_INTERVAL_MILLIS, TIMER_INTERVAL_MILLIS);
-    }
-  }
-
-
-
-  /**
-   * Examines all entries in the map to see if any of them indicate that a write
-   * attempt has been blocked for longer than the maximum acceptable length of
-   * time.  If so, then the connection will be closed.
-   */
-  @Override()
-  public void run()
-  {
-    final long currentTime = System.currentTimeMillis();
-
-    final Iterator<Map.Entry<Long,Long>> iterator =
-         writeTimeouts.entrySet().iterator();
-    while (iterator.hasNext())
-    {
-      final long closeTime = iterator.next().getValue();
-      if (currentTime > closeTime)
-      {
-        try
-        {
-          connection.getConnectionInternals(true).getSocket().close();
-        }
-        catch (final Exception e)
-        {
-          Debug.debugException(e);
-          return;
-        }
-      }
-    }
-  }
-
-
-
-  /**
-   * Cancels this timer task so that it will no longer be active for this
-   * connection.
-   *
-   * @return  {@code true} if the task was successfully cancelled, or
-   *          {@code false} if it could not be cancelled for some reason (for
-   *          example, because it has already been canceled).
-   */
-  @Override()
-  public boolean cancel()
-  {
-    final boolean result = super.cancel();
-    timer.purge();
-    return result;
+    timer = HashedWheelTimer.getSharedTimer();
   }
 
 
 
   /**
-   * Destroys this timer task (by canceling it) when a connection is closed.
-   * If no more connections are using the timer, then the timer itself will be
-   * canceled (to shut down its associated thread background).
+   * Destroys this write timeout handler when a connection is closed.  No
+   * further write timeouts will be scheduled after it has been destroyed.
    */
   void destroy()
   {
-    cancel();
-
-    if (destroyed.getAndSet(true))
-    {
-      // This instance has already been destroyed.  Don't do it again.
-      return;
-    }
-
-    synchronized (TIMER_REFERENCE)
-    {
-      final long remainingConnectionsUsingTimer =
-           connectionsUsingTimer.decrementAndGet();
-      if (remainingConnectionsUsingTimer <= 0L)
-      {
-        TIMER_REFERENCE.set(null);
-        timer.cancel();
-      }
-    }
+    destroyed.set(true);
   }
 
 
 
   /**
    * Indicates that the connection is going to attempt to write data, and that
-   * the connection should be closed if the {@link #writeCompleted(long)} method
-   * is not called within the specified timeout period.
+   * the connection should be closed if the
+   * {@link #writeCompleted(HashedWheelTimerTask)} method is not called within
+   * the specified timeout period.
    *
    * @param  timeoutMillis  The maximum length of time, in milliseconds, that
    *                        the write attempt should be allowed to block.  If
@@ -231,16 +114,22 @@ final class WriteTimeoutHandler
    *                        completed after this length of time, then the
    *                        connection will be closed.
    *
-   * @return  A unique identifier that has been assigned to the write operation.
-   *          When the write completes, the {@link #writeCompleted(long)} method
-   *          must be called with this value as the argument.
+   * @return  The task that has been scheduled for the write operation, or
+   *          {@code null} if this handler has been destroyed.  When the write
+   *          completes, the {@link #writeCompleted(HashedWheelTimerTask)}
+   *          method must be called with this value as the argument.
    */
-  long beginWrite(final long timeoutMillis)
+  @Nullable()
+  HashedWheelTimerTask beginWrite(final long timeoutMillis)
   {
-    final long id = counter.getAndIncrement();
-    final long writeExpirationTime = System.currentTimeMillis() + timeoutMillis;
-    writeTimeouts.put(id, writeExpirationTime);
-    return id;
+    if (destroyed.get())
+    {
+      return null;
+    }
+
+    final WriteTimeoutTimerTask task = new WriteTimeoutTimerTask(connection);
+    timer.schedule(task, timeoutMillis);
+    return task;
   }
 
 
@@ -248,10 +137,11 @@ final class WriteTimeoutHandler
   /**
    * Indicates that the specified write has completed.
    *
-   * @param  writeID  The
+   * @param  writeTask  The task that was returned by the
+   *                    {@link #beginWrite(long)} method for the write.
    */
-  void writeCompleted(final long writeID)
+  void writeCompleted(@NotNull final HashedWheelTimerTask writeTask)
   {
-    writeTimeouts.remove(writeID);
+    writeTask.cancel();
   }
 }
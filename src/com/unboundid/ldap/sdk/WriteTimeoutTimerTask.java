@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import com.unboundid.util.Debug;
+import com.unboundid.util.HashedWheelTimerTask;
+import com.unboundid.util.NotNull;
+
+
+
+/**
+ * This class provides a timer task that will close the socket for a connection
+ * on which a write attempt has been blocked for longer than the maximum
+ * acceptable length of time.
+ */
+final class WriteTimeoutTimerTask
+      extends HashedWheelTimerTask
+{
+  // The connection with which this task is associated.
+  @NotNull private final LDAPConnection connection;
+
+
+
+  /**
+   * Creates a new write timeout timer task for the provided connection.
+   *
+   * @param  connection  The connection with which this task is associated.
+   */
+  WriteTimeoutTimerTask(@NotNull final LDAPConnection connection)
+  {
+    this.connection = connection;
+  }
+
+
+
+  /**
+   * Closes the socket for the associated connection, which will cause the
+   * blocked write attempt to fail.
+   */
+  @Override()
+  public void run()
+  {
+    try
+    {
+      connection.getConnectionInternals(true).getSocket().close();
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+    }
+  }
+}
@@ -76,6 +76,7 @@ import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.ValuePattern;
+import com.unboundid.util.VirtualThreadSupport;
 import com.unboundid.util.WakeableSleeper;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
@@ -1022,7 +1023,8 @@ public final class AuthRate
            searchControl.getValues(), bindControls, runningThreads, barrier,
            authCounter, authDurations, errorCounter, rcCounter,
            fixedRateBarrier);
-      threads[i].start();
+      VirtualThreadSupport.start(threads[i],
+           VirtualThreadSupport.useVirtualThreadsByDefault());
     }
 
 
@@ -78,6 +78,7 @@ import com.unboundid.util.StaticUtils;
 import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.ValuePattern;
+import com.unboundid.util.VirtualThreadSupport;
 import com.unboundid.util.WakeableSleeper;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
@@ -1204,7 +1205,8 @@ public final class SearchAndModRate
            iterationsBeforeReconnect.getValue(), random.nextLong(),
            runningThreads, barrier, searchCounter, modCounter, searchDurations,
            modDurations, errorCounter, rcCounter, fixedRateBarrier);
-      threads[i].start();
+      VirtualThreadSupport.start(threads[i],
+           VirtualThreadSupport.useVirtualThreadsByDefault());
     }
 
 
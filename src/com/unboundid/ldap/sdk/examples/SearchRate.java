@@ -80,6 +80,7 @@ import com.unboundid.util.ThreadSafety;
 import com.unboundid.util.ThreadSafetyLevel;
 import com.unboundid.util.WakeableSleeper;
 import com.unboundid.util.ValuePattern;
+import com.unboundid.util.VirtualThreadSupport;
 import com.unboundid.util.args.ArgumentException;
 import com.unboundid.util.args.ArgumentParser;
 import com.unboundid.util.args.BooleanArgument;
@@ -1283,7 +1284,8 @@ public final class SearchRate
            iterationsBeforeReconnect.getValue(), runningThreads, barrier,
            searchCounter, entryCounter, searchDurations, errorCounter,
            rcCounter, fixedRateBarrier, asyncSemaphore);
-      threads[i].start();
+      VirtualThreadSupport.start(threads[i],
+           VirtualThreadSupport.useVirtualThreadsByDefault());
     }
 
 
@@ -0,0 +1,748 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.unboundid.util.UtilityMessages.*;
+
+
+
+/**
+ * This class provides a timer that uses a hashed timing wheel to schedule
+ * tasks for execution after a delay.  Scheduling and cancelling a task are
+ * both constant-time operations that do not require any locking, which makes
+ * it well suited to very large numbers of short-lived timeouts that are
+ * usually cancelled before they expire (for example, timeouts for individual
+ * requests).  The trade-off is that tasks are executed with a precision of one
+ * tick rather than at an exact time, although they will never be executed
+ * before their requested delay has elapsed.
+ * <BR><BR>
+ * All tasks are executed by a single daemon thread, which is only started
+ * when the first task is scheduled and which does not consume any processor
+ * time while there are no scheduled tasks.  A single timer shared by all
+ * components of the LDAP SDK is available through the {@link #getSharedTimer}
+ * method.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class HashedWheelTimer
+{
+  /**
+   * The default duration, in milliseconds, for each tick of the wheel.
+   */
+  public static final long DEFAULT_TICK_DURATION_MILLIS = 10L;
+
+
+
+  /**
+   * The default number of buckets in the wheel.
+   */
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+
+
+  /**
+   * The timer that is shared by all components of the LDAP SDK.
+   */
+  @NotNull private static final HashedWheelTimer SHARED_TIMER =
+       new HashedWheelTimer("LDAP SDK Shared Timer",
+            DEFAULT_TICK_DURATION_MILLIS, DEFAULT_WHEEL_SIZE);
+
+
+
+  // The number of tasks that have been cancelled.
+  @NotNull private final AtomicLong numCancelled;
+
+  // The number of times that a task has been executed.
+  @NotNull private final AtomicLong numExecuted;
+
+  // The number of tasks that are currently waiting to be executed.
+  @NotNull private final AtomicLong numPending;
+
+  // The number of times that a task has been scheduled.
+  @NotNull private final AtomicLong numScheduled;
+
+  // Tasks that have been cancelled and need to be removed from the wheel.
+  @NotNull private final ConcurrentLinkedQueue<HashedWheelTimerTask>
+       cancelledTasks;
+
+  // Tasks that have been scheduled but not yet added to the wheel.
+  @NotNull private final ConcurrentLinkedQueue<HashedWheelTimerTask>
+       newTasks;
+
+  // The buckets that make up the wheel.  Each is the head of a doubly-linked
+  // list of tasks, and is only accessed by the timer thread.
+  @NotNull private final HashedWheelTimerTask[] wheel;
+
+  // Indicates whether the timer thread is waiting for a task to be scheduled.
+  private boolean idle;
+
+  // Indicates whether this timer has been stopped.
+  private volatile boolean stopped;
+
+  // The mask used to map a tick to a bucket in the wheel.
+  private final int wheelMask;
+
+  // The time that this timer was created, used as the basis for task
+  // deadlines.
+  private final long startTimeNanos;
+
+  // The duration of each tick, in nanoseconds.
+  private final long tickDurationNanos;
+
+  // The lock used to coordinate waking the timer thread when it is idle.
+  @NotNull private final Object idleLock;
+
+  // The name to use for the timer thread.
+  @NotNull private final String threadName;
+
+  // The thread used to execute tasks.
+  @Nullable private Thread timerThread;
+
+
+
+  /**
+   * Creates a new hashed wheel timer with the provided settings.
+   *
+   * @param  threadName          The name to use for the timer thread.  It must
+   *                             not be {@code null}.
+   * @param  tickDurationMillis  The duration, in milliseconds, for each tick
+   *                             of the wheel.  This is the precision with which
+   *                             tasks will be executed.  It must be greater
+   *                             than zero.
+   * @param  wheelSize           The number of buckets in the wheel.  It must be
+   *                             greater than zero, and it will be rounded up to
+   *                             the next power of two if necessary.
+   */
+  public HashedWheelTimer(@NotNull final String threadName,
+                          final long tickDurationMillis, final int wheelSize)
+  {
+    Validator.ensureNotNull(threadName);
+    Validator.ensureTrue((tickDurationMillis > 0L),
+         "HashedWheelTimer.tickDurationMillis must be greater than zero.");
+    Validator.ensureTrue(((wheelSize > 0) && (wheelSize <= (1 << 20))),
+         "HashedWheelTimer.wheelSize must be between 1 and 1048576.");
+
+    this.threadName = threadName;
+
+    int size = 1;
+    while (size < wheelSize)
+    {
+      size <<= 1;
+    }
+
+    wheel = new HashedWheelTimerTask[size];
+    wheelMask = size - 1;
+    tickDurationNanos = TimeUnit.MILLISECONDS.toNanos(tickDurationMillis);
+    startTimeNanos = System.nanoTime();
+
+    numCancelled = new AtomicLong(0L);
+    numExecuted = new AtomicLong(0L);
+    numPending = new AtomicLong(0L);
+    numScheduled = new AtomicLong(0L);
+    cancelledTasks = new ConcurrentLinkedQueue<>();
+    newTasks = new ConcurrentLinkedQueue<>();
+    idleLock = new Object();
+    idle = false;
+    stopped = false;
+    timerThread = null;
+  }
+
+
+
+  /**
+   * Retrieves the timer that is shared by all components of the LDAP SDK.
+   * This timer should only be used for tasks that complete quickly, and it
+   * cannot be stopped.
+   *
+   * @return  The timer that is shared by all components of the LDAP SDK.
+   */
+  @NotNull()
+  public static HashedWheelTimer getSharedTimer()
+  {
+    return SHARED_TIMER;
+  }
+
+
+
+  /**
+   * Schedules the provided task to be executed once after the specified delay.
+   *
+   * @param  task         The task to be executed.  It must not be
+   *                      {@code null}, and it must not have been scheduled
+   *                      before.
+   * @param  delayMillis  The length of time, in milliseconds, to wait before
+   *                      executing the task.
+   *
+   * @throws  IllegalStateException  If the task has already been scheduled or
+   *                                 cancelled, or if this timer has been
+   *                                 stopped.
+   */
+  public void schedule(@NotNull final HashedWheelTimerTask task,
+                       final long delayMillis)
+         throws IllegalStateException
+  {
+    schedule(task, delayMillis, 0L);
+  }
+
+
+
+  /**
+   * Schedules the provided task to be executed repeatedly, starting after the
+   * specified delay and then at a fixed rate until it is cancelled.
+   *
+   * @param  task          The task to be executed.  It must not be
+   *                       {@code null}, and it must not have been scheduled
+   *                       before.
+   * @param  delayMillis   The length of time, in milliseconds, to wait before
+   *                       the first execution of the task.
+   * @param  periodMillis  The length of time, in milliseconds, between the
+   *                       start of each execution of the task.  It must be
+   *                       greater than zero.
+   *
+   * @throws  IllegalStateException  If the task has already been scheduled or
+   *                                 cancelled, or if this timer has been
+   *                                 stopped.
+   */
+  public void scheduleAtFixedRate(@NotNull final HashedWheelTimerTask task,
+                                  final long delayMillis,
+                                  final long periodMillis)
+         throws IllegalStateException
+  {
+    Validator.ensureTrue((periodMillis > 0L),
+         "HashedWheelTimer.periodMillis must be greater than zero.");
+    schedule(task, delayMillis, periodMillis);
+  }
+
+
+
+  /**
+   * Schedules the provided task for execution.
+   *
+   * @param  task          The task to be executed.
+   * @param  delayMillis   The length of time, in milliseconds, to wait before
+   *                       the first execution of the task.
+   * @param  periodMillis  The length of time, in milliseconds, between
+   *                       executions of the task, or zero if it should only be
+   *                       executed once.
+   *
+   * @throws  IllegalStateException  If the task has already been scheduled or
+   *                                 cancelled, or if this timer has been
+   *                                 stopped.
+   */
+  private void schedule(@NotNull final HashedWheelTimerTask task,
+                        final long delayMillis, final long periodMillis)
+          throws IllegalStateException
+  {
+    Validator.ensureNotNull(task);
+
+    if (stopped)
+    {
+      throw new IllegalStateException(ERR_HASHED_WHEEL_TIMER_STOPPED.get());
+    }
+
+    task.setTimer(this);
+    task.setPeriodNanos(TimeUnit.MILLISECONDS.toNanos(periodMillis));
+    task.setDeadlineNanos((System.nanoTime() - startTimeNanos) +
+         TimeUnit.MILLISECONDS.toNanos(Math.max(0L, delayMillis)));
+    if (! task.compareAndSetState(HashedWheelTimerTask.STATE_INITIALIZED,
+         HashedWheelTimerTask.STATE_PENDING))
+    {
+      throw new IllegalStateException(
+           ERR_HASHED_WHEEL_TIMER_TASK_ALREADY_SCHEDULED.get());
+    }
+
+    numScheduled.incrementAndGet();
+    enqueue(task);
+  }
+
+
+
+  /**
+   * Adds the provided pending task to the queue of tasks to be added to the
+   * wheel, and ensures that the timer thread is running.
+   *
+   * @param  task  The task to enqueue.
+   */
+  private void enqueue(@NotNull final HashedWheelTimerTask task)
+  {
+    newTasks.add(task);
+    if (numPending.getAndIncrement() == 0L)
+    {
+      synchronized (idleLock)
+      {
+        if (timerThread == null)
+        {
+          timerThread = new HashedWheelTimerThread(threadName, this);
+          timerThread.start();
+        }
+        else if (idle)
+        {
+          idleLock.notifyAll();
+        }
+      }
+    }
+  }
+
+
+
+  /**
+   * Indicates that the provided task has been cancelled.
+   *
+   * @param  task       The task that has been cancelled.
+   * @param  wasPending  Indicates whether the task was waiting to be executed,
+   *                     and may therefore need to be removed from the wheel.
+   */
+  void taskCancelled(@NotNull final HashedWheelTimerTask task,
+                     final boolean wasPending)
+  {
+    numCancelled.incrementAndGet();
+    if (wasPending)
+    {
+      numPending.decrementAndGet();
+      cancelledTasks.add(task);
+    }
+  }
+
+
+
+  /**
+   * Stops this timer.  Any tasks that have not yet been executed will be
+   * discarded, and no further tasks may be scheduled.  The shared timer cannot
+   * be stopped.
+   */
+  public void stop()
+  {
+    if (this == SHARED_TIMER)
+    {
+      return;
+    }
+
+    stopped = true;
+    synchronized (idleLock)
+    {
+      idleLock.notifyAll();
+    }
+  }
+
+
+
+  /**
+   * Performs the processing for the timer thread.  This is intended for
+   * internal use only, and should only be invoked by the timer thread.
+   */
+  void runTimerThread()
+  {
+    long tick = 0L;
+    while (! stopped)
+    {
+      synchronized (idleLock)
+      {
+        if (numPending.get() == 0L)
+        {
+          idle = true;
+          while ((numPending.get() == 0L) && (! stopped))
+          {
+            try
+            {
+              idleLock.wait();
+            }
+            catch (final InterruptedException e)
+            {
+              Debug.debugException(e);
+            }
+          }
+          idle = false;
+
+          // Any tasks still in the wheel have been cancelled, so it is safe to
+          // advance the wheel to the current time.
+          tick = Math.max(tick, getElapsedNanos() / tickDurationNanos);
+        }
+      }
+
+      if (stopped)
+      {
+        break;
+      }
+
+      final long tickEndNanos = (tick + 1L) * tickDurationNanos;
+      while (true)
+      {
+        final long sleepNanos = tickEndNanos - getElapsedNanos();
+        if (sleepNanos <= 0L)
+        {
+          break;
+        }
+
+        try
+        {
+          Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos),
+               (int) (sleepNanos % 1_000_000L));
+        }
+        catch (final InterruptedException e)
+        {
+          Debug.debugException(e);
+        }
+      }
+
+      removeCancelledTasks();
+      addNewTasks(tick);
+      expireTasks(tick);
+      tick++;
+    }
+
+    newTasks.clear();
+    cancelledTasks.clear();
+  }
+
+
+
+  /**
+   * Removes any cancelled tasks from the wheel.
+   */
+  private void removeCancelledTasks()
+  {
+    while (true)
+    {
+      final HashedWheelTimerTask task = cancelledTasks.poll();
+      if (task == null)
+      {
+        return;
+      }
+
+      removeFromBucket(task);
+    }
+  }
+
+
+
+  /**
+   * Adds newly-scheduled tasks to the appropriate buckets in the wheel.
+   *
+   * @param  tick  The current tick.
+   */
+  private void addNewTasks(final long tick)
+  {
+    while (true)
+    {
+      final HashedWheelTimerTask task = newTasks.poll();
+      if (task == null)
+      {
+        return;
+      }
+
+      if (task.isCancelled())
+      {
+        continue;
+      }
+
+      final long taskTick = task.getDeadlineNanos() / tickDurationNanos;
+      task.setRemainingRounds(
+           Math.max(0L, (taskTick - tick) / wheel.length));
+
+      final int index = (int) (Math.max(taskTick, tick) & wheelMask);
+      final HashedWheelTimerTask head = wheel[index];
+      task.setBucketIndex(index);
+      task.setPrevious(null);
+      task.setNext(head);
+      if (head != null)
+      {
+        head.setPrevious(task);
+      }
+      wheel[index] = task;
+    }
+  }
+
+
+
+  /**
+   * Executes all tasks in the bucket for the current tick whose deadline has
+   * been reached.
+   *
+   * @param  tick  The current tick.
+   */
+  private void expireTasks(final long tick)
+  {
+    HashedWheelTimerTask task = wheel[(int) (tick & wheelMask)];
+    while (task != null)
+    {
+      final HashedWheelTimerTask nextTask = task.getNext();
+      if (task.isCancelled())
+      {
+        removeFromBucket(task);
+      }
+      else if (task.getRemainingRounds() <= 0L)
+      {
+        removeFromBucket(task);
+        if (task.compareAndSetState(HashedWheelTimerTask.STATE_PENDING,
+             HashedWheelTimerTask.STATE_EXPIRED))
+        {
+          numPending.decrementAndGet();
+          execute(task);
+        }
+      }
+      else
+      {
+        task.setRemainingRounds(task.getRemainingRounds() - 1L);
+      }
+
+      task = nextTask;
+    }
+  }
+
+
+
+  /**
+   * Executes the provided task and reschedules it if it is periodic.
+   *
+   * @param  task  The task to execute.
+   */
+  private void execute(@NotNull final HashedWheelTimerTask task)
+  {
+    numExecuted.incrementAndGet();
+
+    try
+    {
+      task.run();
+    }
+    catch (final Throwable t)
+    {
+      Debug.debugException(t);
+    }
+
+    if ((task.getPeriodNanos() > 0L) && (! stopped))
+    {
+      // Use a fixed rate, but don't try to catch up on executions that were
+      // missed because the task took too long.
+      task.setDeadlineNanos(Math.max(
+           (task.getDeadlineNanos() + task.getPeriodNanos()),
+           getElapsedNanos()));
+      if (task.compareAndSetState(HashedWheelTimerTask.STATE_EXPIRED,
+           HashedWheelTimerTask.STATE_PENDING))
+      {
+        enqueue(task);
+      }
+    }
+  }
+
+
+
+  /**
+   * Removes the provided task from the bucket that holds it, if any.
+   *
+   * @param  task  The task to remove.
+   */
+  private void removeFromBucket(@NotNull final HashedWheelTimerTask task)
+  {
+    final int index = task.getBucketIndex();
+    if (index < 0)
+    {
+      return;
+    }
+
+    final HashedWheelTimerTask previous = task.getPrevious();
+    final HashedWheelTimerTask next = task.getNext();
+    if (previous == null)
+    {
+      wheel[index] = next;
+    }
+    else
+    {
+      previous.setNext(next);
+    }
+
+    if (next != null)
+    {
+      next.setPrevious(previous);
+    }
+
+    task.setNext(null);
+    task.setPrevious(null);
+    task.setBucketIndex(-1);
+  }
+
+
+
+  /**
+   * Retrieves the number of nanoseconds that have elapsed since this timer was
+   * created.
+   *
+   * @return  The number of nanoseconds that have elapsed since this timer was
+   *          created.
+   */
+  private long getElapsedNanos()
+  {
+    return System.nanoTime() - startTimeNanos;
+  }
+
+
+
+  /**
+   * Retrieves the duration, in milliseconds, of each tick of the wheel.
+   *
+   * @return  The duration, in milliseconds, of each tick of the wheel.
+   */
+  public long getTickDurationMillis()
+  {
+    return TimeUnit.NANOSECONDS.toMillis(tickDurationNanos);
+  }
+
+
+
+  /**
+   * Retrieves the number of buckets in the wheel.
+   *
+   * @return  The number of buckets in the wheel.
+   */
+  public int getWheelSize()
+  {
+    return wheel.length;
+  }
+
+
+
+  /**
+   * Retrieves the total number of times that a task has been scheduled with
+   * this timer.
+   *
+   * @return  The total number of times that a task has been scheduled with
+   *          this timer.
+   */
+  public long getNumScheduled()
+  {
+    return numScheduled.get();
+  }
+
+
+
+  /**
+   * Retrieves the total number of task executions performed by this timer.
+   * Each execution of a periodic task is counted separately.
+   *
+   * @return  The total number of task executions performed by this timer.
+   */
+  public long getNumExecuted()
+  {
+    return numExecuted.get();
+  }
+
+
+
+  /**
+   * Retrieves the total number of tasks scheduled with this timer that have
+   * been cancelled.
+   *
+   * @return  The total number of tasks scheduled with this timer that have
+   *          been cancelled.
+   */
+  public long getNumCancelled()
+  {
+    return numCancelled.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of tasks that are currently waiting to be executed.
+   *
+   * @return  The number of tasks that are currently waiting to be executed.
+   */
+  public long getNumPending()
+  {
+    return numPending.get();
+  }
+
+
+
+  /**
+   * Indicates whether this timer has been stopped.
+   *
+   * @return  {@code true} if this timer has been stopped, or {@code false} if
+   *          not.
+   */
+  public boolean isStopped()
+  {
+    return stopped;
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this timer.
+   *
+   * @return  A string representation of this timer.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this timer to the provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("HashedWheelTimer(threadName='");
+    buffer.append(threadName);
+    buffer.append("', tickDurationMillis=");
+    buffer.append(getTickDurationMillis());
+    buffer.append(", wheelSize=");
+    buffer.append(wheel.length);
+    buffer.append(", numScheduled=");
+    buffer.append(numScheduled.get());
+    buffer.append(", numExecuted=");
+    buffer.append(numExecuted.get());
+    buffer.append(", numCancelled=");
+    buffer.append(numCancelled.get());
+    buffer.append(", numPending=");
+    buffer.append(numPending.get());
+    buffer.append(", stopped=");
+    buffer.append(stopped);
+    buffer.append(')');
+  }
+}
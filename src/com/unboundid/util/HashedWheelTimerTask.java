@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+
+/**
+ * This class defines a task that may be scheduled for execution by a
+ * {@link HashedWheelTimer}.  It is analogous to {@code java.util.TimerTask},
+ * but it may be cancelled in constant time.  A task may only be scheduled
+ * once.
+ * <BR><BR>
+ * Tasks are invoked by the timer thread, and they should complete quickly so
+ * that they do not delay the execution of other tasks.  Any task that needs to
+ * perform blocking processing should hand that work off to another thread.
+ */
+@Extensible()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public abstract class HashedWheelTimerTask
+       implements Runnable
+{
+  /**
+   * The state used for a task that has not yet been scheduled.
+   */
+  static final int STATE_INITIALIZED = 0;
+
+
+
+  /**
+   * The state used for a task that is waiting to be executed.
+   */
+  static final int STATE_PENDING = 1;
+
+
+
+  /**
+   * The state used for a task that has been executed or is currently being
+   * executed.
+   */
+  static final int STATE_EXPIRED = 2;
+
+
+
+  /**
+   * The state used for a task that has been cancelled.
+   */
+  static final int STATE_CANCELLED = 3;
+
+
+
+  // The current state for this task.
+  @NotNull private final AtomicInteger state;
+
+  // The index of the wheel bucket that currently holds this task, or -1 if it
+  // is not in a bucket.  This is only accessed by the timer thread.
+  private int bucketIndex;
+
+  // The time, relative to the start time for the timer, at which this task
+  // should be executed.
+  private long deadlineNanos;
+
+  // The interval between executions for a periodic task, or zero for a task
+  // that should only be executed once.
+  private long periodNanos;
+
+  // The number of complete rotations of the wheel that must occur before this
+  // task should be executed.  This is only accessed by the timer thread.
+  private long remainingRounds;
+
+  // The next task in the bucket that holds this task.  This is only accessed
+  // by the timer thread.
+  @Nullable private HashedWheelTimerTask next;
+
+  // The previous task in the bucket that holds this task.  This is only
+  // accessed by the timer thread.
+  @Nullable private HashedWheelTimerTask previous;
+
+  // The timer with which this task has been scheduled.
+  @Nullable private volatile HashedWheelTimer timer;
+
+
+
+  /**
+   * Creates a new instance of this timer task.
+   */
+  protected HashedWheelTimerTask()
+  {
+    state = new AtomicInteger(STATE_INITIALIZED);
+    bucketIndex = -1;
+    deadlineNanos = 0L;
+    periodNanos = 0L;
+    remainingRounds = 0L;
+    next = null;
+    previous = null;
+    timer = null;
+  }
+
+
+
+  /**
+   * Performs the processing for this task.
+   */
+  @Override()
+  public abstract void run();
+
+
+
+  /**
+   * Cancels this task.  If the task has not yet been executed, then it will
+   * not be.  If it is a periodic task, then it will not be executed again.
+   *
+   * @return  {@code true} if this call prevented one or more executions of
+   *          this task, or {@code false} if the task had already been
+   *          cancelled, had never been scheduled, or was a one-time task that
+   *          has already been executed.
+   */
+  public boolean cancel()
+  {
+    while (true)
+    {
+      final int currentState = state.get();
+      switch (currentState)
+      {
+        case STATE_PENDING:
+          if (state.compareAndSet(STATE_PENDING, STATE_CANCELLED))
+          {
+            timer.taskCancelled(this, true);
+            return true;
+          }
+          break;
+
+        case STATE_EXPIRED:
+          if (periodNanos <= 0L)
+          {
+            return false;
+          }
+          else if (state.compareAndSet(STATE_EXPIRED, STATE_CANCELLED))
+          {
+            timer.taskCancelled(this, false);
+            return true;
+          }
+          break;
+
+        default:
+          return false;
+      }
+    }
+  }
+
+
+
+  /**
+   * Indicates whether this task has been cancelled.
+   *
+   * @return  {@code true} if this task has been cancelled, or {@code false} if
+   *          not.
+   */
+  public final boolean isCancelled()
+  {
+    return (state.get() == STATE_CANCELLED);
+  }
+
+
+
+  /**
+   * Retrieves the index of the wheel bucket that currently holds this task.
+   *
+   * @return  The index of the wheel bucket that currently holds this task,
+   *          or -1 if it is not in a bucket.
+   */
+  final int getBucketIndex()
+  {
+    return bucketIndex;
+  }
+
+
+
+  /**
+   * Specifies the index of the wheel bucket that currently holds this task.
+   *
+   * @param  bucketIndex  The index of the wheel bucket that holds this task, or
+   *                      -1 if it is not in a bucket.
+   */
+  final void setBucketIndex(final int bucketIndex)
+  {
+    this.bucketIndex = bucketIndex;
+  }
+
+
+
+  /**
+   * Retrieves the time, relative to the start time for the timer, at which this
+   * task should be executed.
+   *
+   * @return  The time, relative to the start time for the timer, at which
+   *          this task should be executed.
+   */
+  final long getDeadlineNanos()
+  {
+    return deadlineNanos;
+  }
+
+
+
+  /**
+   * Specifies the time, relative to the start time for the timer, at which this
+   * task should be executed.
+   *
+   * @param  deadlineNanos  The time, relative to the start time for the timer,
+   *                        at which this task should be executed.
+   */
+  final void setDeadlineNanos(final long deadlineNanos)
+  {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+
+
+  /**
+   * Retrieves the interval between executions for this task.
+   *
+   * @return  The interval between executions for this task, or zero if it
+   *          should only be executed once.
+   */
+  final long getPeriodNanos()
+  {
+    return periodNanos;
+  }
+
+
+
+  /**
+   * Specifies the interval between executions for this task.
+   *
+   * @param  periodNanos  The interval between executions for this task, or zero
+   *                      if it should only be executed once.
+   */
+  final void setPeriodNanos(final long periodNanos)
+  {
+    this.periodNanos = periodNanos;
+  }
+
+
+
+  /**
+   * Retrieves the number of complete rotations of the wheel that must occur
+   * before this task should be executed.
+   *
+   * @return  The number of complete rotations of the wheel that must occur
+   *          before this task should be executed.
+   */
+  final long getRemainingRounds()
+  {
+    return remainingRounds;
+  }
+
+
+
+  /**
+   * Specifies the number of complete rotations of the wheel that must occur
+   * before this task should be executed.
+   *
+   * @param  remainingRounds  The number of complete rotations of the wheel that
+   *                          must occur before this task should be executed.
+   */
+  final void setRemainingRounds(final long remainingRounds)
+  {
+    this.remainingRounds = remainingRounds;
+  }
+
+
+
+  /**
+   * Retrieves the next task in the bucket that holds this task.
+   *
+   * @return  The next task in the bucket that holds this task, or
+   *          {@code null} if there is none.
+   */
+  @Nullable()
+  final HashedWheelTimerTask getNext()
+  {
+    return next;
+  }
+
+
+
+  /**
+   * Specifies the next task in the bucket that holds this task.
+   *
+   * @param  next  The next task in the bucket that holds this task, or
+   *               {@code null} if there is none.
+   */
+  final void setNext(@Nullable final HashedWheelTimerTask next)
+  {
+    this.next = next;
+  }
+
+
+
+  /**
+   * Retrieves the previous task in the bucket that holds this task.
+   *
+   * @return  The previous task in the bucket that holds this task, or
+   *          {@code null} if there is none.
+   */
+  @Nullable()
+  final HashedWheelTimerTask getPrevious()
+  {
+    return previous;
+  }
+
+
+
+  /**
+   * Specifies the previous task in the bucket that holds this task.
+   *
+   * @param  previous  The previous task in the bucket that holds this task, or
+   *                   {@code null} if there is none.
+   */
+  final void setPrevious(@Nullable final HashedWheelTimerTask previous)
+  {
+    this.previous = previous;
+  }
+
+
+
+  /**
+   * Retrieves the timer with which this task has been scheduled.
+   *
+   * @return  The timer with which this task has been scheduled, or
+   *          {@code null} if it has not been scheduled.
+   */
+  @Nullable()
+  final HashedWheelTimer getTimer()
+  {
+    return timer;
+  }
+
+
+
+  /**
+   * Specifies the timer with which this task has been scheduled.
+   *
+   * @param  timer  The timer with which this task has been scheduled.
+   */
+  final void setTimer(@Nullable final HashedWheelTimer timer)
+  {
+    this.timer = timer;
+  }
+
+
+
+  /**
+   * Attempts to update the state of this task.
+   *
+   * @param  expectedState  The state that the task is expected to have.
+   * @param  newState       The state to which the task should be updated.
+   *
+   * @return  {@code true} if the state was updated, or {@code false} if the
+   *          task did not have the expected state.
+   */
+  final boolean compareAndSetState(final int expectedState,
+                                   final int newState)
+  {
+    return state.compareAndSet(expectedState, newState);
+  }
+}
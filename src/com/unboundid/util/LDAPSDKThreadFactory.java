@@ -46,7 +46,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * This class provides a thread factory implementation that may be used to
  * create threads with a number of basic settings.  The name of each thread will
  * be followed by a counter indicating the order in which the thread was
- * created.
+ * created.  Threads may optionally be created as virtual threads if the JVM
+ * supports them (see the {@link VirtualThreadSupport} class for details).
  */
 @Mutable()
 @ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
@@ -59,6 +60,10 @@ public final class LDAPSDKThreadFactory
   // Indicates whether the threads should be created as daemon threads.
   private final boolean daemon;
 
+  // Indicates whether the threads should be created as virtual threads if the
+  // JVM supports them.
+  private final boolean virtual;
+
   // The base name to use for newly-created threads.
   @NotNull private final String baseName;
 
@@ -97,10 +102,39 @@ public final class LDAPSDKThreadFactory
   public LDAPSDKThreadFactory(@NotNull final String baseName,
                               final boolean daemon,
                               @Nullable final ThreadGroup threadGroup)
+  {
+    this(baseName, daemon, threadGroup,
+         VirtualThreadSupport.useVirtualThreadsByDefault());
+  }
+
+
+
+  /**
+   * Creates a new instance of this thread factory with the provided settings.
+   *
+   * @param  baseName     The base name to use for threads created by this
+   *                      factory.  It must not be {@code null}.
+   * @param  daemon       Indicates whether the threads should be created as
+   *                      daemon threads.  This will be ignored for virtual
+   *                      threads, which are always daemon threads.
+   * @param  threadGroup  The thread group to use for threads created by this
+   *                      factory.  It may be {@code null} if the default thread
+   *                      group should be used.  It will be ignored for virtual
+   *                      threads.
+   * @param  virtual      Indicates whether the threads should be created as
+   *                      virtual threads if the JVM supports them.  If the JVM
+   *                      does not support virtual threads, then platform
+   *                      threads will be created instead.
+   */
+  public LDAPSDKThreadFactory(@NotNull final String baseName,
+                              final boolean daemon,
+                              @Nullable final ThreadGroup threadGroup,
+                              final boolean virtual)
   {
     this.baseName     = baseName;
     this.daemon       = daemon;
     this.threadGroup  = threadGroup;
+    this.virtual      = virtual;
 
     threadCounter = new AtomicLong(1L);
   }
@@ -121,8 +155,7 @@ public final class LDAPSDKThreadFactory
   public Thread newThread(@NotNull final Runnable r)
   {
     final String name = baseName + ' ' + threadCounter.getAndIncrement();
-    final Thread t = new Thread(threadGroup, r, name);
-    t.setDaemon(daemon);
-    return t;
+    return VirtualThreadSupport.newThread(r, name, daemon, threadGroup,
+         virtual);
   }
 }
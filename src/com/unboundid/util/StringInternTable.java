@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+
+/**
+ * This class provides a bounded, thread-safe table that may be used to intern
+ * strings, so that equal strings decoded from different sources can share a
+ * single instance.  It is primarily intended for strings like attribute names
+ * that are repeated many times across the entries in a large search result,
+ * and that would otherwise be held as separate copies for every entry.
+ * <BR><BR>
+ * Unlike {@link String#intern()}, the strings held in this table are not
+ * shared with the rest of the JVM, and the table will hold at most a
+ * configurable number of strings.  Once the table is full, strings that are
+ * not already present will be returned as-is without being added, so that the
+ * table cannot grow without bound if it is used with data that has a large
+ * number of distinct values.  The table keeps track of how often a string
+ * could be replaced with an existing instance, which can be used to determine
+ * whether interning is worthwhile for a given workload.
+ *
+ * @see  com.unboundid.ldap.sdk.LDAPConnectionOptions#setStringInternTable
+ */
+@Mutable()
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class StringInternTable
+       implements Serializable
+{
+  /**
+   * The default maximum number of strings that will be held in the table.
+   */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+
+
+  /**
+   * The serial version UID for this serializable class.
+   */
+  private static final long serialVersionUID = -3081574562389510764L;
+
+
+
+  // The number of times a string was found in the table.
+  @NotNull private final AtomicLong hitCount;
+
+  // The number of times a string was not found in the table.
+  @NotNull private final AtomicLong missCount;
+
+  // The map used to hold the interned strings.
+  @NotNull private final ConcurrentHashMap<String,String> strings;
+
+  // The maximum number of strings that will be held in the table.
+  private final int maxSize;
+
+
+
+  /**
+   * Creates a new string intern table with the default maximum size.
+   */
+  public StringInternTable()
+  {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+
+
+  /**
+   * Creates a new string intern table with the specified maximum size.
+   *
+   * @param  maxSize  The maximum number of strings that will be held in the
+   *                  table.  It must be greater than zero.
+   */
+  public StringInternTable(final int maxSize)
+  {
+    Validator.ensureTrue((maxSize > 0),
+         "StringInternTable.maxSize must be greater than zero.");
+
+    this.maxSize = maxSize;
+
+    strings = new ConcurrentHashMap<>(
+         StaticUtils.computeMapCapacity(Math.min(maxSize, 100)));
+    hitCount = new AtomicLong(0L);
+    missCount = new AtomicLong(0L);
+  }
+
+
+
+  /**
+   * Retrieves an instance of the provided string from this table.  If an equal
+   * string is already held in the table, then that instance will be returned.
+   * Otherwise, the provided string will be added to the table if it is not
+   * full, and the provided string will be returned.
+   *
+   * @param  s  The string to intern.  It may be {@code null}.
+   *
+   * @return  A string that is equal to the provided string, or {@code null} if
+   *          the provided string was {@code null}.
+   */
+  @Nullable()
+  public String intern(@Nullable final String s)
+  {
+    if (s == null)
+    {
+      return null;
+    }
+
+    final String existing = strings.get(s);
+    if (existing != null)
+    {
+      hitCount.incrementAndGet();
+      return existing;
+    }
+
+    missCount.incrementAndGet();
+    if (strings.size() >= maxSize)
+    {
+      return s;
+    }
+
+    final String raced = strings.putIfAbsent(s, s);
+    if (raced == null)
+    {
+      return s;
+    }
+    else
+    {
+      return raced;
+    }
+  }
+
+
+
+  /**
+   * Retrieves the maximum number of strings that will be held in this table.
+   * The table may briefly hold slightly more than this number of strings if
+   * several threads add strings at the same time.
+   *
+   * @return  The maximum number of strings that will be held in this table.
+   */
+  public int getMaxSize()
+  {
+    return maxSize;
+  }
+
+
+
+  /**
+   * Retrieves the number of strings currently held in this table.
+   *
+   * @return  The number of strings currently held in this table.
+   */
+  public int size()
+  {
+    return strings.size();
+  }
+
+
+
+  /**
+   * Retrieves the number of times that a string provided to the
+   * {@link #intern} method was already held in this table.
+   *
+   * @return  The number of times that a string was already held in this table.
+   */
+  public long getHitCount()
+  {
+    return hitCount.get();
+  }
+
+
+
+  /**
+   * Retrieves the number of times that a string provided to the
+   * {@link #intern} method was not already held in this table.
+   *
+   * @return  The number of times that a string was not already held in this
+   *          table.
+   */
+  public long getMissCount()
+  {
+    return missCount.get();
+  }
+
+
+
+  /**
+   * Retrieves the fraction of calls to the {@link #intern} method for which
+   * the string was already held in this table.
+   *
+   * @return  The fraction of calls to the {@link #intern} method for which the
+   *          string was already held in this table, as a value between zero
+   *          and one, or zero if the method has not yet been called.
+   */
+  public double getHitRatio()
+  {
+    final long hits = hitCount.get();
+    final long total = hits + missCount.get();
+    if (total == 0L)
+    {
+      return 0.0d;
+    }
+
+    return ((double) hits) / total;
+  }
+
+
+
+  /**
+   * Removes all strings from this table and resets the hit and miss counts.
+   */
+  public void clear()
+  {
+    strings.clear();
+    hitCount.set(0L);
+    missCount.set(0L);
+  }
+
+
+
+  /**
+   * Retrieves a string representation of this string intern table.
+   *
+   * @return  A string representation of this string intern table.
+   */
+  @Override()
+  @NotNull()
+  public String toString()
+  {
+    final StringBuilder buffer = new StringBuilder();
+    toString(buffer);
+    return buffer.toString();
+  }
+
+
+
+  /**
+   * Appends a string representation of this string intern table to the
+   * provided buffer.
+   *
+   * @param  buffer  The buffer to which the information should be appended.
+   */
+  public void toString(@NotNull final StringBuilder buffer)
+  {
+    buffer.append("StringInternTable(maxSize=");
+    buffer.append(maxSize);
+    buffer.append(", size=");
+    buffer.append(strings.size());
+    buffer.append(", hitCount=");
+    buffer.append(hitCount.get());
+    buffer.append(", missCount=");
+    buffer.append(missCount.get());
+    buffer.append(')');
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.lang.reflect.Method;
+
+
+
+/**
+ * This class provides support for running LDAP SDK threads as virtual threads
+ * when the underlying JVM supports them (as is the case for Java 21 and
+ * later).  The LDAP SDK itself targets older Java versions, so virtual threads
+ * are accessed through reflection, and any attempt to use them on a JVM that
+ * does not support them will fall back to using platform threads.
+ * <BR><BR>
+ * Virtual threads may be used for connection reader threads (as controlled by
+ * the {@code LDAPConnectionOptions.setUseVirtualThreads} method), for client
+ * connection threads in the {@code LDAPListener} (as controlled by the
+ * {@code LDAPListenerConfig.setUseVirtualThreads} method), and for other
+ * background and worker threads created by the LDAP SDK and its tools (as
+ * controlled by the {@link #PROPERTY_USE_VIRTUAL_THREADS} system property).
+ * <BR><BR>
+ * Note that virtual threads are always daemon threads, and that they do not
+ * support thread groups.
+ */
+@ThreadSafety(level=ThreadSafetyLevel.COMPLETELY_THREADSAFE)
+public final class VirtualThreadSupport
+{
+  /**
+   * The name of the system property
+   * (com.unboundid.util.VirtualThreadSupport.useVirtualThreads) that may be
+   * used to indicate whether the LDAP SDK should use virtual threads by
+   * default when the JVM supports them.  If this property is set, then it
+   * must have a value of either "true" or "false".  If it is not set, then
+   * platform threads will be used by default.
+   */
+  @NotNull public static final String PROPERTY_USE_VIRTUAL_THREADS =
+       VirtualThreadSupport.class.getName() + ".useVirtualThreads";
+
+
+
+  /**
+   * Indicates whether virtual threads should be used by default.
+   */
+  private static final boolean USE_VIRTUAL_THREADS_BY_DEFAULT =
+       PropertyManager.getBoolean(PROPERTY_USE_VIRTUAL_THREADS, false);
+
+
+
+  // The Thread.ofVirtual method, or null if virtual threads are not supported.
+  @Nullable private static final Method OF_VIRTUAL_METHOD;
+
+  // The Thread.Builder.name(String) method, or null if virtual threads are not
+  // supported.
+  @Nullable private static final Method BUILDER_NAME_METHOD;
+
+  // The Thread.Builder.unstarted(Runnable) method, or null if virtual threads
+  // are not supported.
+  @Nullable private static final Method BUILDER_UNSTARTED_METHOD;
+
+  // The Thread.isVirtual method, or null if virtual threads are not supported.
+  @Nullable private static final Method IS_VIRTUAL_METHOD;
+
+
+
+  static
+  {
+    Method ofVirtualMethod = null;
+    Method builderNameMethod = null;
+    Method builderUnstartedMethod = null;
+    Method isVirtualMethod = null;
+
+    try
+    {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+      builderNameMethod = builderClass.getMethod("name", String.class);
+      builderUnstartedMethod =
+           builderClass.getMethod("unstarted", Runnable.class);
+      isVirtualMethod = Thread.class.getMethod("isVirtual");
+
+      // On some Java versions, virtual threads are a preview feature, and
+      // attempting to use them without enabling preview features will throw
+      // an exception.  Create (but don't start) a thread to make sure that
+      // they are actually available.
+      builderUnstartedMethod.invoke(ofVirtualMethod.invoke(null),
+           new Runnable()
+           {
+             @Override()
+             public void run()
+             {
+               // No implementation is required.
+             }
+           });
+    }
+    catch (final Throwable t)
+    {
+      // This is expected on JVMs that do not support virtual threads.
+      Debug.debugException(t);
+      ofVirtualMethod = null;
+      builderNameMethod = null;
+      builderUnstartedMethod = null;
+      isVirtualMethod = null;
+    }
+
+    OF_VIRTUAL_METHOD = ofVirtualMethod;
+    BUILDER_NAME_METHOD = builderNameMethod;
+    BUILDER_UNSTARTED_METHOD = builderUnstartedMethod;
+    IS_VIRTUAL_METHOD = isVirtualMethod;
+  }
+
+
+
+  /**
+   * Prevents this utility class from being instantiated.
+   */
+  private VirtualThreadSupport()
+  {
+    // No implementation is required.
+  }
+
+
+
+  /**
+   * Indicates whether the JVM in which the LDAP SDK is running supports
+   * virtual threads.
+   *
+   * @return  {@code true} if the JVM supports virtual threads, or
+   *          {@code false} if not.
+   */
+  public static boolean isSupported()
+  {
+    return (OF_VIRTUAL_METHOD != null);
+  }
+
+
+
+  /**
+   * Indicates whether the LDAP SDK should use virtual threads by default, as
+   * specified by the {@link #PROPERTY_USE_VIRTUAL_THREADS} system property.
+   * Note that even if this method returns {@code true}, platform threads will
+   * still be used if the JVM does not support virtual threads.
+   *
+   * @return  {@code true} if the LDAP SDK should use virtual threads by
+   *          default, or {@code false} if not.
+   */
+  public static boolean useVirtualThreadsByDefault()
+  {
+    return USE_VIRTUAL_THREADS_BY_DEFAULT;
+  }
+
+
+
+  /**
+   * Indicates whether the provided thread is a virtual thread.
+   *
+   * @param  thread  The thread for which to make the determination.  It must
+   *                 not be {@code null}.
+   *
+   * @return  {@code true} if the provided thread is a virtual thread, or
+   *          {@code false} if not.
+   */
+  public static boolean isVirtual(@NotNull final Thread thread)
+  {
+    if (IS_VIRTUAL_METHOD == null)
+    {
+      return false;
+    }
+
+    try
+    {
+      return (Boolean) IS_VIRTUAL_METHOD.invoke(thread);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      return false;
+    }
+  }
+
+
+
+  /**
+   * Creates a new thread with the provided settings.  The thread will not be
+   * started.
+   *
+   * @param  runnable     The {@code Runnable} target for the thread.  It must
+   *                      not be {@code null}.
+   * @param  name         The name to use for the thread.  It must not be
+   *                      {@code null}.
+   * @param  daemon       Indicates whether a platform thread should be created
+   *                      as a daemon thread.  Virtual threads are always daemon
+   *                      threads.
+   * @param  threadGroup  The thread group to use for a platform thread.  It
+   *                      may be {@code null} if the default thread group should
+   *                      be used.  It will be ignored for virtual threads.
+   * @param  virtual      Indicates whether to create a virtual thread if the
+   *                      JVM supports them.
+   *
+   * @return  The newly-created (but not yet started) thread.
+   */
+  @NotNull()
+  public static Thread newThread(@NotNull final Runnable runnable,
+                                 @NotNull final String name,
+                                 final boolean daemon,
+                                 @Nullable final ThreadGroup threadGroup,
+                                 final boolean virtual)
+  {
+    if (virtual)
+    {
+      final Thread virtualThread = newVirtualThread(runnable, name);
+      if (virtualThread != null)
+      {
+        return virtualThread;
+      }
+    }
+
+    final Thread t = new Thread(threadGroup, runnable, name);
+    t.setDaemon(daemon);
+    return t;
+  }
+
+
+
+  /**
+   * Starts the provided thread.  If a virtual thread is requested and the JVM
+   * supports them, then the provided thread object itself will not be started,
+   * but its {@code run} method will instead be invoked by a new virtual thread
+   * with the same name.  In that case, the provided thread object will never
+   * be alive, so the thread's {@code run} method should use
+   * {@code Thread.currentThread()} to obtain a reference to the thread that is
+   * actually running it (e.g., for the purpose of interrupting or joining it).
+   *
+   * @param  thread   The thread to start.  It must not be {@code null}, and it
+   *                  must not have already been started.
+   * @param  virtual  Indicates whether to run the thread's logic in a virtual
+   *                  thread if the JVM supports them.
+   *
+   * @return  The thread that was started, which may be either the provided
+   *          thread or a new virtual thread.
+   */
+  @NotNull()
+  public static Thread start(@NotNull final Thread thread,
+                             final boolean virtual)
+  {
+    if (virtual)
+    {
+      final Thread virtualThread = newVirtualThread(thread, thread.getName());
+      if (virtualThread != null)
+      {
+        virtualThread.start();
+        return virtualThread;
+      }
+    }
+
+    thread.start();
+    return thread;
+  }
+
+
+
+  /**
+   * Creates a new virtual thread with the provided settings.  The thread will
+   * not be started.
+   *
+   * @param  runnable  The {@code Runnable} target for the thread.  It must not
+   *                   be {@code null}.
+   * @param  name      The name to use for the thread.  It must not be
+   *                   {@code null}.
+   *
+   * @return  The newly-created virtual thread, or {@code null} if the JVM does
+   *          not support virtual threads or if a problem occurred while
+   *          creating it.
+   */
+  @Nullable()
+  private static Thread newVirtualThread(@NotNull final Runnable runnable,
+                                         @NotNull final String name)
+  {
+    if (OF_VIRTUAL_METHOD == null)
+    {
+      return null;
+    }
+
+    try
+    {
+      final Object builder = BUILDER_NAME_METHOD.invoke(
+           OF_VIRTUAL_METHOD.invoke(null), name);
+      return (Thread) BUILDER_UNSTARTED_METHOD.invoke(builder, runnable);
+    }
+    catch (final Exception e)
+    {
+      Debug.debugException(e);
+      return null;
+    }
+  }
+}
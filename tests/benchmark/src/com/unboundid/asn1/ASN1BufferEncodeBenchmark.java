@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.sdk.AddRequest;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.ModifyRequest;
+import com.unboundid.ldap.sdk.SearchRequest;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a JMH benchmark that measures the time required to
+ * encode add and modify requests of increasing size, and search requests with
+ * increasingly deeply nested filters, with an {@link ASN1Buffer}.  The time
+ * per encoded byte should remain roughly constant as the number of
+ * attributes, modifications, or filter nesting levels grows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ASN1BufferEncodeBenchmark
+{
+  /**
+   * The number of attributes or modifications to include in add and modify
+   * requests, and the filter nesting depth to use for search requests.
+   */
+  @Param({ "10", "100", "1000" })
+  public int numElements;
+
+
+
+  // The buffer that will be used to encode the messages.
+  private ASN1Buffer buffer;
+
+  // The messages to encode.
+  private LDAPMessage addMessage;
+  private LDAPMessage modifyMessage;
+  private LDAPMessage searchMessage;
+
+
+
+  /**
+   * Creates the messages to be encoded.
+   */
+  @Setup()
+  public void setUp()
+  {
+    buffer = new ASN1Buffer();
+    addMessage = new LDAPMessage(1, createAddRequest(numElements));
+    modifyMessage = new LDAPMessage(1, createModifyRequest(numElements));
+    searchMessage = new LDAPMessage(1, createSearchRequest(numElements));
+  }
+
+
+
+  /**
+   * Encodes an add request message.
+   *
+   * @return  The number of bytes in the encoded message.
+   */
+  @Benchmark()
+  public int encodeAddRequest()
+  {
+    return encode(addMessage);
+  }
+
+
+
+  /**
+   * Encodes a modify request message.
+   *
+   * @return  The number of bytes in the encoded message.
+   */
+  @Benchmark()
+  public int encodeModifyRequest()
+  {
+    return encode(modifyMessage);
+  }
+
+
+
+  /**
+   * Encodes a search request message with a nested filter.
+   *
+   * @return  The number of bytes in the encoded message.
+   */
+  @Benchmark()
+  public int encodeSearchRequest()
+  {
+    return encode(searchMessage);
+  }
+
+
+
+  /**
+   * Encodes the provided message into the buffer, clearing it first.
+   *
+   * @param  message  The message to encode.
+   *
+   * @return  The number of bytes in the encoded message.
+   */
+  private int encode(final LDAPMessage message)
+  {
+    buffer.clear();
+    message.writeTo(buffer);
+    return buffer.length();
+  }
+
+
+
+  /**
+   * Creates an add request with the specified number of attributes, each of
+   * which has three values.
+   *
+   * @param  numAttributes  The number of attributes to include.
+   *
+   * @return  The add request that was created.
+   */
+  private static AddRequest createAddRequest(final int numAttributes)
+  {
+    final ArrayList<Attribute> attributes = new ArrayList<>(numAttributes);
+    for (int i=0; i < numAttributes; i++)
+    {
+      attributes.add(new Attribute("attribute-" + i, "first value " + i,
+           "second value " + i, "third value " + i));
+    }
+
+    return new AddRequest("uid=benchmark,ou=People,dc=example,dc=com",
+         attributes);
+  }
+
+
+
+  /**
+   * Creates a modify request with the specified number of modifications, each
+   * of which replaces an attribute with two values.
+   *
+   * @param  numModifications  The number of modifications to include.
+   *
+   * @return  The modify request that was created.
+   */
+  private static ModifyRequest createModifyRequest(final int numModifications)
+  {
+    final ArrayList<Modification> mods = new ArrayList<>(numModifications);
+    for (int i=0; i < numModifications; i++)
+    {
+      mods.add(new Modification(ModificationType.REPLACE, "attribute-" + i,
+           "first value " + i, "second value " + i));
+    }
+
+    return new ModifyRequest("uid=benchmark,ou=People,dc=example,dc=com",
+         mods);
+  }
+
+
+
+  /**
+   * Creates a search request with a filter that contains the specified number
+   * of nested AND components, each of which also contains an equality
+   * component.
+   *
+   * @param  depth  The number of nested AND components to include.
+   *
+   * @return  The search request that was created.
+   */
+  private static SearchRequest createSearchRequest(final int depth)
+  {
+    Filter filter = Filter.createEqualityFilter("uid", "benchmark");
+    for (int i=0; i < depth; i++)
+    {
+      filter = Filter.createANDFilter(filter,
+           Filter.createEqualityFilter("attribute-" + i, "value " + i));
+    }
+
+    return new SearchRequest("dc=example,dc=com", SearchScope.SUB, filter);
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a JMH benchmark that measures the time required to
+ * encode a representative sequence of ASN.1 elements with an
+ * {@link ASN1Buffer}, and to decode that sequence with an
+ * {@link ASN1StreamReader} (both directly from a byte array and from an input
+ * stream) and with the {@link ASN1Element} decode methods.  Each record in the
+ * sequence contains an octet string, an integer, a long, a Boolean, an
+ * enumerated value, and a set of three octet strings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ASN1CodecBenchmark
+{
+  /**
+   * The number of records to include in the encoded sequence.
+   */
+  @Param({ "1", "10", "100", "1000" })
+  public int numRecords;
+
+
+
+  // The buffer that will be used to encode the records.
+  private ASN1Buffer buffer;
+
+  // The encoded representation of the records.
+  private byte[] encodedRecords;
+
+  // The pre-computed values that will be included in each record.
+  private byte[][] setValues;
+  private String[] names;
+
+
+
+  /**
+   * Creates the values to be encoded, and encodes them once so that there is
+   * data to decode.
+   */
+  @Setup()
+  public void setUp()
+  {
+    names = new String[numRecords];
+    for (int i=0; i < numRecords; i++)
+    {
+      names[i] = "uid=user." + i + ",ou=People,dc=example,dc=com";
+    }
+
+    setValues = new byte[][]
+    {
+      StaticUtils.getBytes("first value"),
+      StaticUtils.getBytes("second value"),
+      StaticUtils.getBytes("third value")
+    };
+
+    buffer = new ASN1Buffer();
+    encodedRecords = encode();
+  }
+
+
+
+  /**
+   * Encodes the records into an {@code ASN1Buffer}.
+   *
+   * @return  The number of bytes in the encoded representation.
+   */
+  @Benchmark()
+  public int encodeWithBuffer()
+  {
+    buffer.clear();
+    writeRecords(buffer);
+    return buffer.length();
+  }
+
+
+
+  /**
+   * Decodes the records with a stream reader that reads directly from the
+   * encoded byte array.
+   *
+   * @param  blackhole  The blackhole that will consume the decoded values.
+   *
+   * @throws  IOException  If a problem occurs while reading the data.
+   *
+   * @throws  ASN1Exception  If a problem occurs while decoding the data.
+   */
+  @Benchmark()
+  public void decodeFromByteArray(final Blackhole blackhole)
+         throws IOException, ASN1Exception
+  {
+    readRecords(new ASN1StreamReader(encodedRecords, 0, encodedRecords.length,
+         0), blackhole);
+  }
+
+
+
+  /**
+   * Decodes the records with a stream reader that reads from an input stream.
+   *
+   * @param  blackhole  The blackhole that will consume the decoded values.
+   *
+   * @throws  IOException  If a problem occurs while reading the data.
+   *
+   * @throws  ASN1Exception  If a problem occurs while decoding the data.
+   */
+  @Benchmark()
+  public void decodeFromInputStream(final Blackhole blackhole)
+         throws IOException, ASN1Exception
+  {
+    readRecords(new ASN1StreamReader(
+         new ByteArrayInputStream(encodedRecords)), blackhole);
+  }
+
+
+
+  /**
+   * Decodes the records with the {@code ASN1Element} decode methods.
+   *
+   * @param  blackhole  The blackhole that will consume the decoded values.
+   *
+   * @throws  ASN1Exception  If a problem occurs while decoding the data.
+   */
+  @Benchmark()
+  public void decodeAsElements(final Blackhole blackhole)
+         throws ASN1Exception
+  {
+    final ASN1Sequence sequence = ASN1Sequence.decodeAsSequence(
+         ASN1Element.decode(encodedRecords));
+    for (final ASN1Element e : sequence.elements())
+    {
+      final ASN1Element[] recordElements =
+           ASN1Sequence.decodeAsSequence(e).elements();
+      blackhole.consume(
+           ASN1OctetString.decodeAsOctetString(recordElements[0]).
+                stringValue());
+      blackhole.consume(
+           ASN1Integer.decodeAsInteger(recordElements[1]).intValue());
+      blackhole.consume(ASN1Long.decodeAsLong(recordElements[2]).longValue());
+      blackhole.consume(
+           ASN1Boolean.decodeAsBoolean(recordElements[3]).booleanValue());
+      blackhole.consume(
+           ASN1Enumerated.decodeAsEnumerated(recordElements[4]).intValue());
+      for (final ASN1Element v :
+           ASN1Set.decodeAsSet(recordElements[5]).elements())
+      {
+        blackhole.consume(v.getValue());
+      }
+    }
+  }
+
+
+
+  /**
+   * Encodes the records and returns the encoded representation.
+   *
+   * @return  The encoded representation of the records.
+   */
+  private byte[] encode()
+  {
+    buffer.clear();
+    writeRecords(buffer);
+    return buffer.toByteArray();
+  }
+
+
+
+  /**
+   * Writes the records to the provided buffer.
+   *
+   * @param  b  The buffer to which the records should be written.
+   */
+  private void writeRecords(final ASN1Buffer b)
+  {
+    final ASN1BufferSequence outerSequence = b.beginSequence();
+    for (int i=0; i < numRecords; i++)
+    {
+      final ASN1BufferSequence recordSequence = b.beginSequence();
+      b.addOctetString(names[i]);
+      b.addInteger(i);
+      b.addInteger(i * 1_000_000_000L);
+      b.addBoolean((i & 1) == 0);
+      b.addEnumerated(i & 0x7F);
+
+      final ASN1BufferSet valueSet = b.beginSet();
+      for (final byte[] value : setValues)
+      {
+        b.addOctetString(value);
+      }
+      valueSet.end();
+
+      recordSequence.end();
+    }
+    outerSequence.end();
+  }
+
+
+
+  /**
+   * Reads the records from the provided stream reader.
+   *
+   * @param  reader     The stream reader from which to read the records.
+   * @param  blackhole  The blackhole that will consume the decoded values.
+   *
+   * @throws  IOException  If a problem occurs while reading the data.
+   *
+   * @throws  ASN1Exception  If a problem occurs while decoding the data.
+   */
+  private static void readRecords(final ASN1StreamReader reader,
+                                  final Blackhole blackhole)
+          throws IOException, ASN1Exception
+  {
+    final ASN1StreamReaderSequence outerSequence = reader.beginSequence();
+    while (outerSequence.hasMoreElements())
+    {
+      reader.beginSequence();
+      blackhole.consume(reader.readString());
+      blackhole.consume(reader.readInteger());
+      blackhole.consume(reader.readLong());
+      blackhole.consume(reader.readBoolean());
+      blackhole.consume(reader.readEnumerated());
+
+      final ASN1StreamReaderSet valueSet = reader.beginSet();
+      while (valueSet.hasMoreElements())
+      {
+        blackhole.consume(reader.readBytes());
+      }
+    }
+
+    reader.close();
+  }
+}
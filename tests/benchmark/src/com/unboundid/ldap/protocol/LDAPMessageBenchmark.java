@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.protocol;
+
+
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.DereferencePolicy;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a JMH benchmark that measures the time required to
+ * write an {@link LDAPMessage} to an {@link ASN1Buffer} and to read it back
+ * with an {@link ASN1StreamReader}, for each type of protocol op defined in
+ * this package.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LDAPMessageBenchmark
+{
+  /**
+   * The DN to use for requests and entries.
+   */
+  private static final String DN = "uid=jdoe,ou=People,dc=example,dc=com";
+
+
+
+  /**
+   * The type of protocol op to include in the message.
+   */
+  @Param({
+    "abandonRequest",
+    "addRequest",
+    "addResponse",
+    "bindRequest",
+    "bindResponse",
+    "compareRequest",
+    "compareResponse",
+    "deleteRequest",
+    "deleteResponse",
+    "extendedRequest",
+    "extendedResponse",
+    "intermediateResponse",
+    "modifyRequest",
+    "modifyResponse",
+    "modifyDNRequest",
+    "modifyDNResponse",
+    "searchRequest",
+    "searchResultEntry",
+    "searchResultReference",
+    "searchResultDone",
+    "unbindRequest"
+  })
+  public String protocolOp;
+
+
+
+  // The buffer that will be used to encode the message.
+  private ASN1Buffer buffer;
+
+  // The encoded representation of the message.
+  private byte[] encodedMessage;
+
+  // The message to encode.
+  private LDAPMessage message;
+
+
+
+  /**
+   * Creates the message to be written, and encodes it once so that there is
+   * data to read.
+   */
+  @Setup()
+  public void setUp()
+  {
+    message = new LDAPMessage(1, createProtocolOp(protocolOp));
+
+    buffer = new ASN1Buffer();
+    message.writeTo(buffer);
+    encodedMessage = buffer.toByteArray();
+  }
+
+
+
+  /**
+   * Writes the message to an {@code ASN1Buffer}.
+   *
+   * @return  The number of bytes in the encoded message.
+   */
+  @Benchmark()
+  public int write()
+  {
+    buffer.clear();
+    message.writeTo(buffer);
+    return buffer.length();
+  }
+
+
+
+  /**
+   * Reads the message from its encoded representation.
+   *
+   * @return  The message that was read.
+   *
+   * @throws  LDAPException  If a problem occurs while reading the message.
+   */
+  @Benchmark()
+  public LDAPMessage read()
+         throws LDAPException
+  {
+    final ASN1StreamReader reader = new ASN1StreamReader(encodedMessage, 0,
+         encodedMessage.length, 0);
+    return LDAPMessage.readFrom(reader, true);
+  }
+
+
+
+  /**
+   * Creates a representative protocol op of the specified type.
+   *
+   * @param  type  The name of the type of protocol op to create.
+   *
+   * @return  The protocol op that was created.
+   */
+  private static ProtocolOp createProtocolOp(final String type)
+  {
+    final List<String> referralURLs = Collections.singletonList(
+         "ldap://ds.example.com:389/dc=example,dc=com");
+    final List<Attribute> attributes = Arrays.asList(
+         new Attribute("objectClass", "top", "person", "organizationalPerson",
+              "inetOrgPerson"),
+         new Attribute("uid", "jdoe"),
+         new Attribute("givenName", "John"),
+         new Attribute("sn", "Doe"),
+         new Attribute("cn", "John Doe"),
+         new Attribute("mail", "jdoe@example.com"));
+    final int resultCode = ResultCode.SUCCESS_INT_VALUE;
+    final String diagnosticMessage = "The operation completed successfully";
+
+    switch (type)
+    {
+      case "abandonRequest":
+        return new AbandonRequestProtocolOp(12345);
+      case "addRequest":
+        return new AddRequestProtocolOp(DN, attributes);
+      case "addResponse":
+        return new AddResponseProtocolOp(resultCode, null, diagnosticMessage,
+             null);
+      case "bindRequest":
+        return new BindRequestProtocolOp(DN, "password");
+      case "bindResponse":
+        return new BindResponseProtocolOp(resultCode, null, diagnosticMessage,
+             null, null);
+      case "compareRequest":
+        return new CompareRequestProtocolOp(DN, "mail",
+             new ASN1OctetString("jdoe@example.com"));
+      case "compareResponse":
+        return new CompareResponseProtocolOp(
+             ResultCode.COMPARE_TRUE_INT_VALUE, null, null, null);
+      case "deleteRequest":
+        return new DeleteRequestProtocolOp(DN);
+      case "deleteResponse":
+        return new DeleteResponseProtocolOp(resultCode, null,
+             diagnosticMessage, null);
+      case "extendedRequest":
+        return new ExtendedRequestProtocolOp("1.3.6.1.4.1.4203.1.11.1",
+             new ASN1OctetString("extended request value"));
+      case "extendedResponse":
+        return new ExtendedResponseProtocolOp(resultCode, null,
+             diagnosticMessage, null, "1.3.6.1.4.1.4203.1.11.1",
+             new ASN1OctetString("extended response value"));
+      case "intermediateResponse":
+        return new IntermediateResponseProtocolOp("1.3.6.1.4.1.4203.1.9.1.4",
+             new ASN1OctetString("intermediate response value"));
+      case "modifyRequest":
+        return new ModifyRequestProtocolOp(DN, Arrays.asList(
+             new Modification(ModificationType.REPLACE, "description",
+                  "new description"),
+             new Modification(ModificationType.ADD, "mail",
+                  "john.doe@example.com"),
+             new Modification(ModificationType.DELETE, "telephoneNumber")));
+      case "modifyResponse":
+        return new ModifyResponseProtocolOp(resultCode, null,
+             diagnosticMessage, null);
+      case "modifyDNRequest":
+        return new ModifyDNRequestProtocolOp(DN, "uid=john.doe", true,
+             "ou=Users,dc=example,dc=com");
+      case "modifyDNResponse":
+        return new ModifyDNResponseProtocolOp(resultCode, null,
+             diagnosticMessage, null);
+      case "searchRequest":
+        return new SearchRequestProtocolOp("dc=example,dc=com",
+             SearchScope.SUB, DereferencePolicy.NEVER, 100, 30, false,
+             Filter.createANDFilter(
+                  Filter.createEqualityFilter("objectClass", "person"),
+                  Filter.createORFilter(
+                       Filter.createEqualityFilter("uid", "jdoe"),
+                       Filter.createSubstringFilter("cn", "John", null,
+                            null))),
+             Arrays.asList("uid", "cn", "mail"));
+      case "searchResultEntry":
+        return new SearchResultEntryProtocolOp(DN, attributes);
+      case "searchResultReference":
+        return new SearchResultReferenceProtocolOp(referralURLs);
+      case "searchResultDone":
+        return new SearchResultDoneProtocolOp(resultCode, null,
+             diagnosticMessage, null);
+      case "unbindRequest":
+        return new UnbindRequestProtocolOp();
+      default:
+        throw new IllegalArgumentException("Unsupported protocol op " + type);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk.controls;
+
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.Filter;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.ReadOnlyEntry;
+import com.unboundid.ldap.sdk.ResultCode;
+
+
+
+/**
+ * This class provides a JMH benchmark that measures the time required to
+ * create commonly-used request and response controls (which includes encoding
+ * the control value), to write those controls to an {@link ASN1Buffer}, and
+ * to decode them from their ASN.1 representation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlEncodingBenchmark
+{
+  /**
+   * The entry to include in post-read response controls.
+   */
+  private static final ReadOnlyEntry ENTRY = new ReadOnlyEntry(
+       "uid=jdoe,ou=People,dc=example,dc=com",
+       new Attribute("objectClass", "top", "person", "organizationalPerson",
+            "inetOrgPerson"),
+       new Attribute("uid", "jdoe"),
+       new Attribute("givenName", "John"),
+       new Attribute("sn", "Doe"),
+       new Attribute("cn", "John Doe"),
+       new Attribute("mail", "jdoe@example.com"));
+
+
+
+  /**
+   * The type of control to process.
+   */
+  @Param({
+    "simplePagedResults",
+    "serverSideSortRequest",
+    "serverSideSortResponse",
+    "virtualListViewRequest",
+    "proxiedAuthorizationV2Request",
+    "assertionRequest",
+    "postReadRequest",
+    "postReadResponse"
+  })
+  public String controlType;
+
+
+
+  // The buffer that will be used to encode the control.
+  private ASN1Buffer buffer;
+
+  // The encoded representation of the control.
+  private ASN1Sequence encodedControl;
+
+  // The control to write.
+  private Control control;
+
+
+
+  /**
+   * Creates the control to be written, and encodes it once so that there is
+   * data to decode.
+   */
+  @Setup()
+  public void setUp()
+  {
+    buffer = new ASN1Buffer();
+    control = createControl(controlType);
+    encodedControl = control.encode();
+  }
+
+
+
+  /**
+   * Creates a new instance of the control, which includes encoding its value.
+   *
+   * @return  The control that was created.
+   */
+  @Benchmark()
+  public Control create()
+  {
+    return createControl(controlType);
+  }
+
+
+
+  /**
+   * Writes the control to an {@code ASN1Buffer}.
+   *
+   * @return  The number of bytes in the encoded control.
+   */
+  @Benchmark()
+  public int write()
+  {
+    buffer.clear();
+    control.writeTo(buffer);
+    return buffer.length();
+  }
+
+
+
+  /**
+   * Decodes the control from its ASN.1 representation.  Response controls
+   * will be decoded with the decoder registered for their OID, while request
+   * controls will be decoded as generic controls.
+   *
+   * @return  The control that was decoded.
+   *
+   * @throws  LDAPException  If a problem occurs while decoding the control.
+   */
+  @Benchmark()
+  public Control decode()
+         throws LDAPException
+  {
+    return Control.decode(encodedControl);
+  }
+
+
+
+  /**
+   * Creates a representative control of the specified type.
+   *
+   * @param  type  The name of the type of control to create.
+   *
+   * @return  The control that was created.
+   */
+  private static Control createControl(final String type)
+  {
+    switch (type)
+    {
+      case "simplePagedResults":
+        return new SimplePagedResultsControl(100,
+             new ASN1OctetString("paged results cookie"));
+      case "serverSideSortRequest":
+        return new ServerSideSortRequestControl(new SortKey("sn"),
+             new SortKey("givenName"), new SortKey("uid", true));
+      case "serverSideSortResponse":
+        return new ServerSideSortResponseControl(ResultCode.SUCCESS, null);
+      case "virtualListViewRequest":
+        return new VirtualListViewRequestControl(1, 0, 19, 0,
+             new ASN1OctetString("vlv context ID"));
+      case "proxiedAuthorizationV2Request":
+        return new ProxiedAuthorizationV2RequestControl(
+             "dn:uid=jdoe,ou=People,dc=example,dc=com");
+      case "assertionRequest":
+        return new AssertionRequestControl(Filter.createANDFilter(
+             Filter.createEqualityFilter("objectClass", "person"),
+             Filter.createGreaterOrEqualFilter("employeeNumber", "1000")));
+      case "postReadRequest":
+        return new PostReadRequestControl("uid", "cn", "mail",
+             "entryUUID");
+      case "postReadResponse":
+        return new PostReadResponseControl(ENTRY);
+      default:
+        throw new IllegalArgumentException("Unsupported control " + type);
+    }
+  }
+}
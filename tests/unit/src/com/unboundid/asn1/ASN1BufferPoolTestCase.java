@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.asn1;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code ASN1BufferPool}
+ * class.
+ */
+public class ASN1BufferPoolTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a pool created with the default settings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultSettings()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool();
+
+    assertEquals(pool.getMaxBufferSize(),
+         ASN1BufferPool.DEFAULT_MAX_BUFFER_SIZE);
+    assertEquals(pool.getMaxRetainedBytes(),
+         ASN1BufferPool.DEFAULT_MAX_RETAINED_BYTES);
+    assertEquals(pool.getRetainedBytes(), 0L);
+    assertEquals(pool.getNumRetainedBuffers(), 0);
+    assertEquals(pool.getNumReusedBuffers(), 0L);
+    assertEquals(pool.getNumBuffersCreated(), 0L);
+    assertEquals(pool.getNumReleasedToPool(), 0L);
+    assertEquals(pool.getNumReleasedOversized(), 0L);
+    assertEquals(pool.getNumReleasedOverBudget(), 0L);
+
+    assertNotNull(pool.toString());
+  }
+
+
+
+  /**
+   * Tests that a released buffer is cleared and reused by a subsequent borrow.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReuse()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool();
+
+    final ASN1Buffer b1 = pool.borrow();
+    assertEquals(pool.getNumBuffersCreated(), 1L);
+    b1.addOctetString("foo");
+    assertTrue(b1.length() > 0);
+
+    pool.release(b1);
+    assertEquals(b1.length(), 0);
+    assertEquals(pool.getNumRetainedBuffers(), 1);
+    assertEquals(pool.getRetainedBytes(), b1.capacity());
+    assertEquals(pool.getNumReleasedToPool(), 1L);
+
+    final ASN1Buffer b2 = pool.borrow();
+    assertSame(b2, b1);
+    assertEquals(b2.length(), 0);
+    assertEquals(pool.getNumReusedBuffers(), 1L);
+    assertEquals(pool.getNumBuffersCreated(), 1L);
+    assertEquals(pool.getNumRetainedBuffers(), 0);
+    assertEquals(pool.getRetainedBytes(), 0L);
+
+    final ASN1Buffer b3 = pool.borrow();
+    assertNotSame(b3, b1);
+    assertEquals(pool.getNumBuffersCreated(), 2L);
+  }
+
+
+
+  /**
+   * Tests that the smallest retained buffer is used to satisfy a borrow
+   * request.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSmallestBufferBorrowedFirst()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool();
+
+    final ASN1Buffer large = pool.borrow();
+    large.addOctetString(new byte[100_000]);
+
+    final ASN1Buffer medium = pool.borrow();
+    medium.addOctetString(new byte[5_000]);
+
+    final ASN1Buffer small = pool.borrow();
+    small.addOctetString("foo");
+
+    pool.release(large);
+    pool.release(medium);
+    pool.release(small);
+    assertEquals(pool.getNumRetainedBuffers(), 3);
+    assertEquals(pool.getRetainedBytes(),
+         (long) large.capacity() + medium.capacity() + small.capacity());
+
+    assertSame(pool.borrow(), small);
+    assertSame(pool.borrow(), medium);
+    assertSame(pool.borrow(), large);
+    assertEquals(pool.getNumRetainedBuffers(), 0);
+    assertEquals(pool.getRetainedBytes(), 0L);
+  }
+
+
+
+  /**
+   * Tests that a buffer larger than the maximum buffer size is not retained.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOversizedBufferNotRetained()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool(1024, 1_048_576L);
+
+    final ASN1Buffer b = pool.borrow();
+    b.addOctetString(new byte[2048]);
+    assertTrue(b.capacity() > 1024);
+
+    pool.release(b);
+    assertEquals(b.length(), 0);
+    assertEquals(pool.getNumReleasedOversized(), 1L);
+    assertEquals(pool.getNumReleasedToPool(), 0L);
+    assertEquals(pool.getNumRetainedBuffers(), 0);
+    assertEquals(pool.getRetainedBytes(), 0L);
+
+    assertNotSame(pool.borrow(), b);
+  }
+
+
+
+  /**
+   * Tests that the pool will not retain more than the maximum number of bytes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRetainedBytesLimit()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool(65_536, 10_000L);
+
+    final List<ASN1Buffer> buffers = new ArrayList<>(10);
+    for (int i=0; i < 10; i++)
+    {
+      final ASN1Buffer b = pool.borrow();
+      b.addOctetString(new byte[3_000]);
+      buffers.add(b);
+    }
+
+    for (final ASN1Buffer b : buffers)
+    {
+      pool.release(b);
+      assertTrue(pool.getRetainedBytes() <= 10_000L);
+    }
+
+    assertTrue(pool.getNumRetainedBuffers() > 0);
+    assertTrue(pool.getNumRetainedBuffers() < 10);
+    assertEquals(
+         pool.getNumReleasedToPool() + pool.getNumReleasedOverBudget(), 10L);
+
+    pool.clear();
+    assertEquals(pool.getNumRetainedBuffers(), 0);
+    assertEquals(pool.getRetainedBytes(), 0L);
+  }
+
+
+
+  /**
+   * Tests that a pool with a maximum retained size of zero never retains any
+   * buffers.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNoRetainedBytes()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool(1024, 0L);
+
+    final ASN1Buffer b = pool.borrow();
+    pool.release(b);
+    assertEquals(pool.getNumReleasedOverBudget(), 1L);
+    assertEquals(pool.getNumRetainedBuffers(), 0);
+
+    assertNotSame(pool.borrow(), b);
+  }
+
+
+
+  /**
+   * Tests that sensitive data is zeroed out when a buffer is released.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testZeroBufferOnRelease()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool();
+
+    final ASN1Buffer b = pool.borrow();
+    b.addOctetString("password");
+    b.setZeroBufferOnClear();
+
+    pool.release(b);
+    assertFalse(b.zeroBufferOnClear());
+    assertEquals(b.length(), 0);
+  }
+
+
+
+  /**
+   * Tests that the pool can be used concurrently by multiple threads without
+   * exceeding its limits.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentUse()
+         throws Exception
+  {
+    final ASN1BufferPool pool = new ASN1BufferPool(16_384, 65_536L);
+
+    final Thread[] threads = new Thread[8];
+    for (int i=0; i < threads.length; i++)
+    {
+      final int threadNumber = i;
+      threads[i] = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          for (int j=0; j < 1_000; j++)
+          {
+            final ASN1Buffer b = pool.borrow();
+            b.addOctetString(new byte[(threadNumber * 1_000) + j]);
+            pool.release(b);
+          }
+        }
+      };
+      threads[i].start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertTrue(pool.getRetainedBytes() <= 65_536L);
+    assertEquals(
+         (pool.getNumReleasedToPool() + pool.getNumReleasedOversized() +
+              pool.getNumReleasedOverBudget()),
+         8_000L);
+    assertEquals(
+         (pool.getNumBuffersCreated() + pool.getNumReusedBuffers()), 8_000L);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a pool with invalid settings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidMaxBufferSize()
+         throws Exception
+  {
+    new ASN1BufferPool(0, 1024L);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a pool with a negative maximum
+   * retained size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidMaxRetainedBytes()
+         throws Exception
+  {
+    new ASN1BufferPool(1024, -1L);
+  }
+
+
+
+  /**
+   * Tests that the pool shared by all connections is available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSharedPool()
+         throws Exception
+  {
+    final ASN1BufferPool pool = LDAPConnection.getSharedASN1BufferPool();
+    assertNotNull(pool);
+    assertSame(LDAPConnection.getSharedASN1BufferPool(), pool);
+    assertTrue(pool.getRetainedBytes() <= pool.getMaxRetainedBytes());
+  }
+}
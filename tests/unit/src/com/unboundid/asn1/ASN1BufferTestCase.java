@@ -901,6 +901,130 @@ public class ASN1BufferTestCase
 
 
 
+  /**
+   * Tests the behavior when encoding deeply nested sequences and sets with
+   * values whose lengths require a variety of length encodings.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNestedSequencesAndSets()
+         throws Exception
+  {
+    final int[] valueSizes = { 0, 1, 127, 128, 255, 256, 65_535, 65_536 };
+
+    final ASN1Buffer b = new ASN1Buffer();
+    for (final int valueSize : valueSizes)
+    {
+      final byte[] value = new byte[valueSize];
+      Arrays.fill(value, (byte) 0x5A);
+
+      b.clear();
+      final ArrayList<Object> openElements = new ArrayList<>(20);
+      for (int i=0; i < 20; i++)
+      {
+        if ((i % 2) == 0)
+        {
+          openElements.add(b.beginSequence());
+        }
+        else
+        {
+          openElements.add(b.beginSet());
+        }
+      }
+
+      // Add an integer after ending each sequence or set, so that it will be
+      // included in the value of the enclosing element.
+      b.addOctetString(value);
+      ASN1Element expected = new ASN1OctetString(value);
+      ASN1Element trailingInteger = null;
+      for (int i=19; i >= 0; i--)
+      {
+        final Object o = openElements.remove(i);
+        final ASN1Element[] valueElements;
+        if (trailingInteger == null)
+        {
+          valueElements = new ASN1Element[] { expected };
+        }
+        else
+        {
+          valueElements = new ASN1Element[] { expected, trailingInteger };
+        }
+
+        if (o instanceof ASN1BufferSequence)
+        {
+          ((ASN1BufferSequence) o).end();
+          expected = new ASN1Sequence(valueElements);
+        }
+        else
+        {
+          ((ASN1BufferSet) o).end();
+          expected = new ASN1Set(valueElements);
+        }
+
+        b.addInteger(i);
+        trailingInteger = new ASN1Integer(i);
+      }
+
+      final ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+      expectedBytes.write(expected.encode());
+      expectedBytes.write(trailingInteger.encode());
+
+      assertEquals(b.length(), expectedBytes.size());
+      assertTrue(Arrays.equals(b.toByteArray(),
+           expectedBytes.toByteArray()));
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when encoding a large number of sibling sequences
+   * inside of a single enclosing sequence, and when reusing the buffer after
+   * it has been cleared with sequences still open.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testManySiblingSequences()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+
+    // Start a sequence and clear the buffer without ending it.
+    b.beginSequence();
+    b.addOctetString("abandoned");
+    b.clear();
+    assertEquals(b.length(), 0);
+
+    final ASN1Element[] expectedElements = new ASN1Element[1000];
+    final ASN1BufferSequence outerSequence = b.beginSequence((byte) 0xA3);
+    for (int i=0; i < expectedElements.length; i++)
+    {
+      final byte[] value = new byte[i];
+      Arrays.fill(value, (byte) 'x');
+
+      final ASN1BufferSequence innerSequence = b.beginSequence();
+      b.addOctetString("attribute-" + i);
+      final ASN1BufferSet valueSet = b.beginSet();
+      b.addOctetString(value);
+      valueSet.end();
+      innerSequence.end();
+
+      expectedElements[i] = new ASN1Sequence(
+           new ASN1OctetString("attribute-" + i),
+           new ASN1Set(new ASN1OctetString(value)));
+    }
+    outerSequence.end();
+
+    final byte[] expectedBytes =
+         new ASN1Sequence((byte) 0xA3, expectedElements).encode();
+    assertEquals(b.length(), expectedBytes.length);
+    assertTrue(Arrays.equals(b.toByteArray(), expectedBytes));
+  }
+
+
+
   /**
    * Performs a set of tests with set elements.
    *
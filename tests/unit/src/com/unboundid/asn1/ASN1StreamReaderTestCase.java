@@ -38,15 +38,19 @@ package com.unboundid.asn1;
 
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import javax.security.sasl.SaslClient;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -1048,6 +1052,94 @@ public class ASN1StreamReaderTestCase
 
 
 
+  /**
+   * Tests the ability to read valid octet string elements by writing their
+   * values to an output stream.
+   *
+   * @param  element  The element to use for testing.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="genericElements")
+  public void readValidOctetStringBytesToOutputStream(
+                   final ASN1Element element)
+         throws Exception
+  {
+    ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString(element.getValue());
+    b.addOctetString(element.getType(), element.getValue());
+
+    ByteArrayInputStream inputStream =
+         new ByteArrayInputStream(b.toByteArray());
+    ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    assertEquals(reader.readBytes(outputStream), element.getValue().length);
+    assertTrue(Arrays.equals(outputStream.toByteArray(), element.getValue()));
+
+    outputStream = new ByteArrayOutputStream();
+    assertEquals(reader.readBytes(outputStream), element.getValue().length);
+    assertTrue(Arrays.equals(outputStream.toByteArray(), element.getValue()));
+
+    outputStream = new ByteArrayOutputStream();
+    assertEquals(reader.readBytes(outputStream), -1);
+    assertEquals(outputStream.size(), 0);
+
+    assertEquals(reader.getTotalBytesRead(), b.toByteArray().length);
+  }
+
+
+
+  /**
+   * Tests the ability to read an octet string whose value is much larger than
+   * the reader's internal buffer by writing it to an output stream.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadLargeOctetStringBytesToOutputStream()
+         throws Exception
+  {
+    final byte[] value = new byte[1_000_000];
+    for (int i=0; i < value.length; i++)
+    {
+      value[i] = (byte) (i % 251);
+    }
+
+    ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString(value);
+
+    ByteArrayInputStream inputStream =
+         new ByteArrayInputStream(b.toByteArray());
+    ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    assertEquals(reader.readBytes(outputStream), value.length);
+    assertTrue(Arrays.equals(outputStream.toByteArray(), value));
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to write the value of an octet string to an
+   * output stream when there are not enough bytes for the indicated value.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IOException.class })
+  public void testReadOctetStringBytesToOutputStreamNotEnoughValueBytes()
+         throws Exception
+  {
+    byte[] elementBytes = { (byte) 0x04, 0x01 };
+
+    ByteArrayInputStream inputStream = new ByteArrayInputStream(elementBytes);
+    ASN1StreamReader reader = new ASN1StreamReader(inputStream);
+
+    reader.readBytes(new ByteArrayOutputStream());
+  }
+
+
+
   /**
    * Tests the ability to read valid octet string elements as strings.
    *
@@ -1600,4 +1692,518 @@ public class ASN1StreamReaderTestCase
 
     reader.readUTCTime();
   }
+
+
+
+  /**
+   * Tests the behavior when reading data from a byte array rather than an
+   * input stream.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadFromByteArray()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString("foo");
+    b.addInteger(12345);
+    b.addBoolean(true);
+    final byte[] encoded = b.toByteArray();
+
+    final byte[] data = new byte[encoded.length + 10];
+    Arrays.fill(data, (byte) 0xFF);
+    System.arraycopy(encoded, 0, data, 5, encoded.length);
+
+    final ASN1StreamReader reader =
+         new ASN1StreamReader(data, 5, encoded.length, 0);
+    assertEquals(reader.peek(), 0x04);
+    assertEquals(reader.readString(), "foo");
+    assertEquals(reader.readInteger(), Integer.valueOf(12345));
+    assertEquals(reader.readBoolean(), Boolean.TRUE);
+    assertEquals(reader.peek(), -1);
+    assertNull(reader.readElement());
+    reader.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when reading elements whose headers and values span
+   * multiple reads from the underlying input stream, including values that are
+   * larger than the stream reader's internal buffer.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testElementsSpanningMultipleReads()
+         throws Exception
+  {
+    final int[] sizes = { 0, 1, 127, 128, 255, 256, 8191, 8192, 8193, 50_000 };
+
+    final ASN1Buffer b = new ASN1Buffer();
+    for (final int size : sizes)
+    {
+      final byte[] value = new byte[size];
+      for (int i=0; i < size; i++)
+      {
+        value[i] = (byte) ('a' + (i % 26));
+      }
+
+      b.addOctetString(value);
+      b.addOctetString(value);
+      b.addOctetString(value);
+      b.addInteger(size);
+      b.addInteger(-size * 1_000_000L);
+      b.addOctetString((byte) 0x01, value);
+    }
+    b.addNull();
+
+    for (final int maxBytesPerRead : new int[] { 1, 3, 100, 10_000 })
+    {
+      final ASN1StreamReader reader = new ASN1StreamReader(
+           new LimitedInputStream(b.toByteArray(), maxBytesPerRead, false));
+      for (final int size : sizes)
+      {
+        final byte[] value = new byte[size];
+        for (int i=0; i < size; i++)
+        {
+          value[i] = (byte) ('a' + (i % 26));
+        }
+
+        assertEquals(reader.peek(), 0x04);
+        assertTrue(Arrays.equals(reader.readBytes(), value));
+        assertEquals(reader.readString(), StaticUtils.toUTF8String(value));
+        assertEquals(reader.readElement(), new ASN1OctetString(value));
+        assertEquals(reader.readInteger(), Integer.valueOf(size));
+        assertEquals(reader.readLong(), Long.valueOf(-size * 1_000_000L));
+
+        // Reading a Boolean from a multi-byte element will cause it to be
+        // skipped.
+        if (size == 1)
+        {
+          assertNotNull(reader.readBoolean());
+        }
+        else
+        {
+          try
+          {
+            reader.readBoolean();
+            fail("Expected an exception when reading an invalid Boolean");
+          }
+          catch (final ASN1Exception e)
+          {
+            // This was expected.
+          }
+        }
+      }
+
+      reader.readNull();
+      assertEquals(reader.peek(), -1);
+      assertNull(reader.readElement());
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when socket timeouts are encountered while reading
+   * elements.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSocketTimeouts()
+         throws Exception
+  {
+    final byte[] value = new byte[20_000];
+    Arrays.fill(value, (byte) 'x');
+
+    final ASN1Buffer b = new ASN1Buffer();
+    for (int i=0; i < 10; i++)
+    {
+      b.addOctetString(value);
+    }
+
+    // If all timeouts are ignored, then all of the elements should be read
+    // without any exceptions.
+    ASN1StreamReader reader = new ASN1StreamReader(
+         new LimitedInputStream(b.toByteArray(), 1000, true));
+    reader.setIgnoreSocketTimeout(true, true);
+    for (int i=0; i < 10; i++)
+    {
+      assertTrue(Arrays.equals(reader.readBytes(), value));
+    }
+    assertNull(reader.readBytes());
+
+    // If only timeouts in the middle of an element are ignored, then a
+    // timeout while reading the first byte of an element should be thrown,
+    // but it should be possible to try again.
+    reader = new ASN1StreamReader(
+         new LimitedInputStream(b.toByteArray(), 1000, true));
+    reader.setIgnoreSocketTimeout(false, true);
+    int elementsRead = 0;
+    int timeoutsCaught = 0;
+    while (elementsRead < 10)
+    {
+      try
+      {
+        assertTrue(Arrays.equals(reader.readBytes(), value));
+        elementsRead++;
+      }
+      catch (final SocketTimeoutException e)
+      {
+        timeoutsCaught++;
+        assertTrue(timeoutsCaught < 100);
+      }
+    }
+    assertTrue(timeoutsCaught > 0);
+  }
+
+
+
+  /**
+   * Tests the behavior when a SASL client is installed after some
+   * SASL-wrapped data has already been read from the underlying input stream.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSASLDataAlreadyBuffered()
+         throws Exception
+  {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    new ASN1OctetString("clear").writeTo(outputStream);
+
+    // Write a couple of wrapped packets, including an empty packet and one that
+    // contains multiple elements.
+    final ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString("first");
+    b.addOctetString("second");
+    writeXORPacket(StaticUtils.NO_BYTES, outputStream);
+    writeXORPacket(b.toByteArray(), outputStream);
+    writeXORPacket(new ASN1OctetString("third").encode(), outputStream);
+
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(outputStream.toByteArray()));
+    assertEquals(reader.readString(), "clear");
+
+    InternalASN1Helper.setSASLClient(reader, new XORSaslClient());
+    assertEquals(reader.peek(), 0x04);
+    assertEquals(reader.readString(), "first");
+    assertEquals(reader.readString(), "second");
+    assertEquals(reader.readString(), "third");
+    assertEquals(reader.peek(), -1);
+    assertNull(reader.readString());
+  }
+
+
+
+  /**
+   * Tests that data that has already been buffered cannot be read after the
+   * stream reader has been closed by another thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testReadBufferedDataAfterClose()
+         throws Exception
+  {
+    final ASN1Buffer b = new ASN1Buffer();
+    b.addOctetString("first");
+    b.addOctetString("second");
+    b.addInteger(12345);
+    final byte[] encoded = b.toByteArray();
+
+    final ASN1StreamReader streamReader =
+         new ASN1StreamReader(new ByteArrayInputStream(encoded));
+    final ASN1StreamReader arrayReader =
+         new ASN1StreamReader(encoded, 0, encoded.length, 0);
+    for (final ASN1StreamReader reader :
+         new ASN1StreamReader[] { streamReader, arrayReader })
+    {
+      assertEquals(reader.readString(), "first");
+
+      // The remaining elements are in the reader's buffer, but closing the
+      // reader from another thread must prevent them from being read.
+      final Thread closeThread = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            reader.close();
+          }
+          catch (final IOException e)
+          {
+            // This will cause the test to fail below.
+          }
+        }
+      };
+      closeThread.start();
+      closeThread.join(10_000L);
+      assertFalse(closeThread.isAlive());
+
+      try
+      {
+        reader.peek();
+        fail("Expected an exception when peeking at a closed reader");
+      }
+      catch (final IOException e)
+      {
+        // This was expected.
+      }
+
+      try
+      {
+        reader.readString();
+        fail("Expected an exception when reading from a closed reader");
+      }
+      catch (final IOException e)
+      {
+        // This was expected.
+      }
+
+      try
+      {
+        reader.readElement();
+        fail("Expected an exception when reading from a closed reader");
+      }
+      catch (final IOException e)
+      {
+        // This was expected.
+      }
+
+      try
+      {
+        reader.readBytes(new ByteArrayOutputStream());
+        fail("Expected an exception when reading from a closed reader");
+      }
+      catch (final IOException e)
+      {
+        // This was expected.
+      }
+    }
+  }
+
+
+
+  /**
+   * Writes a packet of data that has been "wrapped" by XORing each byte, as
+   * expected by the {@code XORSaslClient} class.
+   *
+   * @param  data          The clear-text data to wrap.
+   * @param  outputStream  The output stream to which the packet should be
+   *                       written.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void writeXORPacket(final byte[] data,
+                                     final ByteArrayOutputStream outputStream)
+          throws Exception
+  {
+    outputStream.write((data.length >> 24) & 0xFF);
+    outputStream.write((data.length >> 16) & 0xFF);
+    outputStream.write((data.length >> 8) & 0xFF);
+    outputStream.write(data.length & 0xFF);
+    for (final byte dataByte : data)
+    {
+      outputStream.write(dataByte ^ 0x5A);
+    }
+  }
+
+
+
+  /**
+   * This class provides an input stream that returns no more than a specified
+   * number of bytes for each read, and that can optionally throw a socket
+   * timeout exception on every other read.
+   */
+  private static final class LimitedInputStream
+          extends InputStream
+  {
+    // Indicates whether to alternate between throwing timeouts and reading
+    // data.
+    private final boolean throwTimeouts;
+
+    // The data to return.
+    private final byte[] data;
+
+    // The maximum number of bytes to return for each read.
+    private final int maxBytesPerRead;
+
+    // The number of read attempts that have been made.
+    private int readAttempts;
+
+    // The position of the next byte to return.
+    private int pos;
+
+
+
+    /**
+     * Creates a new instance of this input stream.
+     *
+     * @param  data             The data to return.
+     * @param  maxBytesPerRead  The maximum number of bytes to return for each
+     *                          read.
+     * @param  throwTimeouts    Indicates whether to throw a socket timeout
+     *                          exception on every other read.
+     */
+    private LimitedInputStream(final byte[] data, final int maxBytesPerRead,
+                               final boolean throwTimeouts)
+    {
+      this.data = data;
+      this.maxBytesPerRead = maxBytesPerRead;
+      this.throwTimeouts = throwTimeouts;
+
+      readAttempts = 0;
+      pos = 0;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int read()
+           throws IOException
+    {
+      final byte[] b = new byte[1];
+      final int bytesRead = read(b, 0, 1);
+      if (bytesRead < 0)
+      {
+        return -1;
+      }
+
+      return (b[0] & 0xFF);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public int read(final byte[] b, final int off, final int len)
+           throws IOException
+    {
+      if (throwTimeouts && ((readAttempts++ % 2) == 0))
+      {
+        throw new SocketTimeoutException();
+      }
+
+      if (pos >= data.length)
+      {
+        return -1;
+      }
+
+      final int bytesRead =
+           Math.min(Math.min(len, maxBytesPerRead), (data.length - pos));
+      System.arraycopy(data, pos, b, off, bytesRead);
+      pos += bytesRead;
+      return bytesRead;
+    }
+  }
+
+
+
+  /**
+   * This class provides a SASL client that "unwraps" data by XORing each byte.
+   */
+  private static final class XORSaslClient
+          implements SaslClient
+  {
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public String getMechanismName()
+    {
+      return "XOR";
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean hasInitialResponse()
+    {
+      return false;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public byte[] evaluateChallenge(final byte[] challenge)
+    {
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean isComplete()
+    {
+      return true;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public byte[] wrap(final byte[] outgoing, final int offset, final int len)
+    {
+      return unwrap(outgoing, offset, len);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public byte[] unwrap(final byte[] incoming, final int offset, final int len)
+    {
+      final byte[] b = new byte[len];
+      for (int i=0; i < len; i++)
+      {
+        b[i] = (byte) (incoming[offset+i] ^ 0x5A);
+      }
+      return b;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public Object getNegotiatedProperty(final String propName)
+    {
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void dispose()
+    {
+      // No implementation required.
+    }
+  }
 }
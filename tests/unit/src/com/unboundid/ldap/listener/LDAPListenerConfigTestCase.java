@@ -330,6 +330,40 @@ public final class LDAPListenerConfigTestCase
 
 
 
+  /**
+   * Provides test coverage for the useVirtualThreads configuration.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testUseVirtualThreads()
+         throws Exception
+  {
+    LDAPListenerConfig c = new LDAPListenerConfig(1234,
+         new CannedResponseRequestHandler());
+    assertFalse(c.useVirtualThreads());
+    c = c.duplicate();
+    assertFalse(c.useVirtualThreads());
+
+    assertNotNull(c.toString());
+
+    c.setUseVirtualThreads(true);
+    assertTrue(c.useVirtualThreads());
+    c = c.duplicate();
+    assertTrue(c.useVirtualThreads());
+
+    assertTrue(c.toString().contains("useVirtualThreads=true"));
+
+    c.setUseVirtualThreads(false);
+    assertFalse(c.useVirtualThreads());
+    c = c.duplicate();
+    assertFalse(c.useVirtualThreads());
+
+    assertNotNull(c.toString());
+  }
+
+
+
   /**
    * Provides test coverage for the listen address configuration.
    *
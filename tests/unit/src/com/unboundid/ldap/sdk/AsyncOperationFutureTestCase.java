@@ -0,0 +1,431 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.
+            InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code CompletableFuture}
+ * based asynchronous operation API.
+ */
+public class AsyncOperationFutureTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of the connection methods for operations that succeed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionSuccessfulOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      LDAPResult result = conn.addAsync(new AddRequest(
+           "dn: ou=Async,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: Async")).get(10L, TimeUnit.SECONDS);
+      assertResultCodeEquals(result, ResultCode.SUCCESS);
+      assertEntryExists(conn, "ou=Async,dc=example,dc=com");
+
+      result = conn.modifyAsync(new ModifyRequest(
+           "dn: ou=Async,dc=example,dc=com",
+           "changetype: modify",
+           "replace: description",
+           "description: foo")).get(10L, TimeUnit.SECONDS);
+      assertResultCodeEquals(result, ResultCode.SUCCESS);
+      assertAttributeExists(conn, "ou=Async,dc=example,dc=com",
+           "description");
+
+      final CompareResult compareResult = conn.compareAsync(
+           new CompareRequest("ou=Async,dc=example,dc=com", "description",
+                "bar")).get(10L, TimeUnit.SECONDS);
+      assertFalse(compareResult.compareMatched());
+
+      final SearchResult searchResult = conn.searchAsync(new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)")).get(
+           10L, TimeUnit.SECONDS);
+      assertEquals(searchResult.getEntryCount(), 2);
+      assertEquals(searchResult.getSearchEntries().size(), 2);
+
+      result = conn.modifyDNAsync(new ModifyDNRequest(
+           "ou=Async,dc=example,dc=com", "ou=Renamed", true)).get(10L,
+           TimeUnit.SECONDS);
+      assertResultCodeEquals(result, ResultCode.SUCCESS);
+      assertEntryMissing(conn, "ou=Async,dc=example,dc=com");
+
+      result = conn.deleteAsync(new DeleteRequest(
+           "ou=Renamed,dc=example,dc=com")).get(10L, TimeUnit.SECONDS);
+      assertResultCodeEquals(result, ResultCode.SUCCESS);
+      assertEntryMissing(conn, "ou=Renamed,dc=example,dc=com");
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the connection methods for operations that do not
+   * succeed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionFailedOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      try
+      {
+        conn.addAsync(new AddRequest(
+             "dn: dc=example,dc=com",
+             "objectClass: top",
+             "objectClass: domain",
+             "dc: example")).get(10L, TimeUnit.SECONDS);
+        fail("Expected an exception when adding an existing entry");
+      }
+      catch (final ExecutionException e)
+      {
+        assertTrue(e.getCause() instanceof LDAPException);
+        assertEquals(((LDAPException) e.getCause()).getResultCode(),
+             ResultCode.ENTRY_ALREADY_EXISTS);
+      }
+
+      try
+      {
+        conn.searchAsync(new SearchRequest("ou=missing,dc=example,dc=com",
+             SearchScope.BASE, "(objectClass=*)")).get(10L, TimeUnit.SECONDS);
+        fail("Expected an exception when searching a missing entry");
+      }
+      catch (final ExecutionException e)
+      {
+        assertTrue(e.getCause() instanceof LDAPSearchException);
+        assertEquals(((LDAPSearchException) e.getCause()).getResultCode(),
+             ResultCode.NO_SUCH_OBJECT);
+      }
+
+      try
+      {
+        conn.compareAsync(new CompareRequest("ou=missing,dc=example,dc=com",
+             "ou", "missing")).get(10L, TimeUnit.SECONDS);
+        fail("Expected an exception when comparing a missing entry");
+      }
+      catch (final ExecutionException e)
+      {
+        assertTrue(e.getCause() instanceof LDAPException);
+        assertEquals(((LDAPException) e.getCause()).getResultCode(),
+             ResultCode.NO_SUCH_OBJECT);
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests the ability to compose futures and to use a search result listener.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testComposition()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final TestSearchResultListener listener =
+           new TestSearchResultListener();
+      final SearchRequest searchRequest = new SearchRequest(listener,
+           "dc=example,dc=com", SearchScope.SUB, "(objectClass=person)");
+
+      final CompletableFuture<CompareResult> composed =
+           conn.searchAsync(searchRequest).thenCompose(
+                new Function<SearchResult,CompletableFuture<CompareResult>>()
+                {
+                  @Override()
+                  public CompletableFuture<CompareResult> apply(
+                              final SearchResult searchResult)
+                  {
+                    assertEquals(searchResult.getEntryCount(), 1);
+                    assertNull(searchResult.getSearchEntries());
+                    return conn.compareAsync(new CompareRequest(
+                         "uid=test.user,ou=People,dc=example,dc=com",
+                         "objectClass", "person"));
+                  }
+                });
+
+      assertTrue(composed.get(10L, TimeUnit.SECONDS).compareMatched());
+      assertEquals(listener.getNumEntries(), 1);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the bindAsync method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBind()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final CompletableFuture<BindResult> successFuture = conn.bindAsync(
+           new SimpleBindRequest("cn=Directory Manager", "password"));
+      assertResultCodeEquals(successFuture.get(), ResultCode.SUCCESS);
+
+      final CompletableFuture<BindResult> failureFuture = conn.bindAsync(
+           new SimpleBindRequest("cn=Directory Manager", "wrong"));
+
+      try
+      {
+        failureFuture.get();
+        fail("Expected an exception for a failed bind");
+      }
+      catch (final ExecutionException e)
+      {
+        assertTrue(failureFuture.isCompletedExceptionally());
+        assertTrue(e.getCause() instanceof LDAPBindException);
+        assertEquals(((LDAPException) e.getCause()).getResultCode(),
+             ResultCode.INVALID_CREDENTIALS);
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to use a connection operating in
+   * synchronous mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSynchronousMode()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, false);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSynchronousMode(true);
+
+    try (LDAPConnection conn = ds.getConnection(options))
+    {
+      final CompletableFuture<SearchResult> future = conn.searchAsync(
+           new SearchRequest("dc=example,dc=com", SearchScope.BASE,
+                "(objectClass=*)"));
+      assertTrue(future.isCompletedExceptionally());
+
+      try
+      {
+        future.get();
+        fail("Expected an exception in synchronous mode");
+      }
+      catch (final ExecutionException e)
+      {
+        assertEquals(((LDAPException) e.getCause()).getResultCode(),
+             ResultCode.NOT_SUPPORTED);
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that cancelling a future causes the operation to be
+   * abandoned.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCancel()
+         throws Exception
+  {
+    final CountDownLatch searchReceived = new CountDownLatch(1);
+    final CountDownLatch releaseSearch = new CountDownLatch(1);
+
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor()
+    {
+      @Override()
+      public void processSearchRequest(
+                       final InMemoryInterceptedSearchRequest request)
+      {
+        if (request.getRequest().getBaseDN().equals("cn=slow"))
+        {
+          searchReceived.countDown();
+          try
+          {
+            releaseSearch.await(10L, TimeUnit.SECONDS);
+          }
+          catch (final InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    });
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final CompletableFuture<SearchResult> future = conn.searchAsync(
+           new SearchRequest("cn=slow", SearchScope.BASE, "(objectClass=*)"));
+      assertTrue(searchReceived.await(10L, TimeUnit.SECONDS));
+      assertFalse(future.isDone());
+
+      assertTrue(future.cancel(true));
+      assertTrue(future.isCancelled());
+      future.cancel(true);
+      assertEquals(conn.getConnectionStatistics().getNumAbandonRequests(),
+           1L);
+
+      try
+      {
+        future.get();
+        fail("Expected a cancellation exception");
+      }
+      catch (final CancellationException e)
+      {
+        // This was expected.
+      }
+
+      releaseSearch.countDown();
+      assertNotNull(conn.getRootDSE());
+      assertEquals(conn.getActiveOperationCount(), 0);
+    }
+    finally
+    {
+      releaseSearch.countDown();
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the connection pool methods.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    try (LDAPConnectionPool pool = ds.getConnectionPool(2))
+    {
+      final CompletableFuture<SearchResult> searchFuture =
+           pool.searchAsync(new SearchRequest("dc=example,dc=com",
+                SearchScope.SUB, "(objectClass=*)"));
+      final CompletableFuture<LDAPResult> modifyFuture =
+           pool.modifyAsync(new ModifyRequest(
+                "dn: dc=example,dc=com",
+                "changetype: modify",
+                "replace: description",
+                "description: pooled"));
+      final CompletableFuture<CompareResult> compareFuture =
+           pool.compareAsync(new CompareRequest("dc=example,dc=com", "dc",
+                "example"));
+
+      assertEquals(searchFuture.get(10L, TimeUnit.SECONDS).getEntryCount(), 3);
+      assertResultCodeEquals(modifyFuture.get(10L, TimeUnit.SECONDS),
+           ResultCode.SUCCESS);
+      assertTrue(compareFuture.get(10L, TimeUnit.SECONDS).compareMatched());
+
+      try
+      {
+        pool.deleteAsync(new DeleteRequest("ou=missing,dc=example,dc=com")).
+             get(10L, TimeUnit.SECONDS);
+        fail("Expected an exception when deleting a missing entry");
+      }
+      catch (final ExecutionException e)
+      {
+        assertEquals(((LDAPException) e.getCause()).getResultCode(),
+             ResultCode.NO_SUCH_OBJECT);
+      }
+
+      assertResultCodeEquals(pool.bindAsync(new SimpleBindRequest(
+           "cn=Directory Manager", "password")).get(), ResultCode.SUCCESS);
+
+      // Connections are released asynchronously, so wait for all of them to
+      // be returned to the pool.
+      final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+      while ((pool.getCurrentAvailableConnections() < 2) &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(10L);
+      }
+
+      assertEquals(pool.getCurrentAvailableConnections(), 2);
+      assertEquals(
+           pool.getConnectionPoolStatistics().getNumConnectionsClosedDefunct(),
+           0L);
+    }
+  }
+}
@@ -37,6 +37,9 @@ package com.unboundid.ldap.sdk;
 
 
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.testng.annotations.Test;
 
 import com.unboundid.ldap.listener.InMemoryDirectoryServer;
@@ -200,4 +203,70 @@ public final class AsyncTimeoutTestCase
     conn.close();
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Tests to ensure that a listener that blocks while handling a timeout
+   * result does not prevent other operations from timing out.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBlockingListenerDoesNotDelayOtherTimeouts()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+    final CountDownLatch listenerInvoked = new CountDownLatch(1);
+    final CountDownLatch releaseListener = new CountDownLatch(1);
+
+    try
+    {
+      ds.setProcessingDelayMillis(5000L);
+
+      final DeleteRequest blockedRequest =
+           new DeleteRequest("ou=missing 1,dc=example,dc=com");
+      blockedRequest.setResponseTimeoutMillis(50L);
+      conn.asyncDelete(blockedRequest, new AsyncResultListener()
+      {
+        private static final long serialVersionUID = 1L;
+
+        @Override()
+        public void ldapResultReceived(final AsyncRequestID requestID,
+                                       final LDAPResult ldapResult)
+        {
+          listenerInvoked.countDown();
+          try
+          {
+            releaseListener.await(30L, TimeUnit.SECONDS);
+          }
+          catch (final InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      });
+
+      assertTrue(listenerInvoked.await(10L, TimeUnit.SECONDS));
+
+      final DeleteRequest otherRequest =
+           new DeleteRequest("ou=missing 2,dc=example,dc=com");
+      otherRequest.setResponseTimeoutMillis(50L);
+
+      final long startTime = System.currentTimeMillis();
+      final AsyncRequestID asyncID =
+           conn.asyncDelete(otherRequest, new TestAsyncListener());
+      final LDAPResult result = asyncID.get(10L, TimeUnit.SECONDS);
+      assertTrue((System.currentTimeMillis() - startTime) < 5000L);
+      assertResultCodeEquals(result, ResultCode.TIMEOUT);
+      assertEquals(listenerInvoked.getCount(), 0L);
+    }
+    finally
+    {
+      releaseListener.countDown();
+      ds.setProcessingDelayMillis(0L);
+      conn.close();
+    }
+  }
 }
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.asn1.ASN1StreamReader;
+
+
+
+/**
+ * This class provides a set of test cases for the coalescing message writer.
+ */
+public class CoalescingMessageWriterTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when writing messages from a single thread.  Each
+   * message should be written and flushed individually.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSingleThread()
+         throws Exception
+  {
+    final CoalescingMessageWriter writer = new CoalescingMessageWriter();
+    final FlushCountingOutputStream outputStream =
+         new FlushCountingOutputStream();
+
+    for (int i=0; i < 10; i++)
+    {
+      final ASN1Buffer buffer = new ASN1Buffer();
+      buffer.addElement(new ASN1OctetString("message " + i));
+      writer.write(buffer, outputStream, null);
+      assertEquals(outputStream.flushCount.get(), (i+1));
+    }
+
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(outputStream.toByteArray()));
+    for (int i=0; i < 10; i++)
+    {
+      assertEquals(reader.readString(), "message " + i);
+    }
+    assertNull(reader.readElement());
+  }
+
+
+
+  /**
+   * Tests the behavior when writing messages concurrently from multiple
+   * threads.  All messages should be written intact, and the number of flushes
+   * must not exceed the number of messages.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMultipleThreads()
+         throws Exception
+  {
+    final CoalescingMessageWriter writer = new CoalescingMessageWriter();
+    final FlushCountingOutputStream outputStream =
+         new FlushCountingOutputStream();
+
+    final int numThreads = 10;
+    final int messagesPerThread = 500;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    for (int t=0; t < numThreads; t++)
+    {
+      final int threadNumber = t;
+      final Thread thread = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+
+            final ASN1Buffer buffer = new ASN1Buffer();
+            for (int i=0; i < messagesPerThread; i++)
+            {
+              buffer.clear();
+              buffer.addElement(new ASN1Sequence(
+                   new ASN1OctetString(threadNumber + "-" + i),
+                   new ASN1OctetString(new byte[i])));
+              writer.write(buffer, outputStream, null);
+            }
+          }
+          catch (final Throwable t)
+          {
+            failure.compareAndSet(null, t);
+          }
+        }
+      };
+
+      thread.start();
+      threads.add(thread);
+    }
+
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertNull(failure.get());
+    assertTrue(outputStream.flushCount.get() <=
+         (numThreads * messagesPerThread));
+
+    final Set<String> messages = new HashSet<>(numThreads * messagesPerThread);
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(outputStream.toByteArray()));
+    while (true)
+    {
+      final ASN1Element element = reader.readElement();
+      if (element == null)
+      {
+        break;
+      }
+
+      final ASN1Sequence s = ASN1Sequence.decodeAsSequence(element);
+      final String id =
+           ASN1OctetString.decodeAsOctetString(s.elements()[0]).stringValue();
+      final int length = ASN1OctetString.decodeAsOctetString(
+           s.elements()[1]).getValue().length;
+      assertEquals(id.substring(id.indexOf('-') + 1), String.valueOf(length));
+      assertTrue(messages.add(id));
+    }
+
+    assertEquals(messages.size(), (numThreads * messagesPerThread));
+  }
+
+
+
+  /**
+   * Tests the behavior when an error occurs while writing a message.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { IOException.class })
+  public void testWriteFailure()
+         throws Exception
+  {
+    final CoalescingMessageWriter writer = new CoalescingMessageWriter();
+    final OutputStream outputStream = new OutputStream()
+    {
+      @Override()
+      public void write(final int b)
+             throws IOException
+      {
+        throw new IOException("write failed");
+      }
+    };
+
+    final ASN1Buffer buffer = new ASN1Buffer();
+    buffer.addElement(new ASN1OctetString("message"));
+    writer.write(buffer, outputStream, null);
+  }
+
+
+
+  /**
+   * Tests the behavior when processing a number of concurrent asynchronous
+   * operations from multiple threads over a connection with write coalescing
+   * enabled.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionWithWriteCoalescing()
+         throws Exception
+  {
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseWriteCoalescing(true);
+
+    final LDAPConnection conn = getTestDS(true, true).getConnection(options);
+
+    final int numThreads = 10;
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final List<Thread> threads = new ArrayList<>(numThreads);
+    for (int t=0; t < numThreads; t++)
+    {
+      final Thread thread = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            final List<AsyncRequestID> requestIDs = new ArrayList<>(100);
+            for (int i=0; i < 100; i++)
+            {
+              requestIDs.add(conn.asyncCompare(new CompareRequest(
+                   "uid=test.user,ou=People,dc=example,dc=com", "sn", "User"),
+                   null));
+            }
+
+            for (final AsyncRequestID requestID : requestIDs)
+            {
+              assertResultCodeEquals(requestID.get(),
+                   ResultCode.COMPARE_TRUE);
+            }
+
+            assertNotNull(conn.getEntry("dc=example,dc=com"));
+          }
+          catch (final Throwable t)
+          {
+            failure.compareAndSet(null, t);
+          }
+        }
+      };
+
+      thread.start();
+      threads.add(thread);
+    }
+
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertNull(failure.get());
+    conn.close();
+  }
+
+
+
+  /**
+   * An output stream that keeps track of the number of times it has been
+   * flushed.
+   */
+  private static final class FlushCountingOutputStream
+          extends ByteArrayOutputStream
+  {
+    // The number of times the output stream has been flushed.
+    private final AtomicInteger flushCount = new AtomicInteger(0);
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void flush()
+    {
+      flushCount.incrementAndGet();
+    }
+  }
+}
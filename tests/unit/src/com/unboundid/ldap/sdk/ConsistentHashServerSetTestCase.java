@@ -0,0 +1,412 @@
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2013-2025 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.ObjectPair;
+
+
+
+/**
+ * This class provides a set of test cases for the consistent hash server set.
+ */
+public final class ConsistentHashServerSetTestCase
+       extends LDAPSDKTestCase
+{
+  // The directory server instances to use in the testing.
+  private final InMemoryDirectoryServer[] servers =
+       new InMemoryDirectoryServer[3];
+
+  // The ports of the directory server instances.
+  private final int[] ports = new int[3];
+
+  // The addresses of the directory server instances.
+  private final String[] addresses = new String[3];
+
+
+
+  /**
+   * Prepares a set of directory server instances to use in the testing.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+       throws Exception
+  {
+    for (int i=0; i < servers.length; i++)
+    {
+      servers[i] = new InMemoryDirectoryServer("dc=example,dc=com");
+      servers[i].add(
+           "dn: dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: domain",
+           "dc: example");
+      servers[i].add(
+           "dn: ou=People,dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: People");
+      servers[i].startListening();
+
+      addresses[i] = "localhost";
+      ports[i] = servers[i].getListenPort();
+    }
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+       throws Exception
+  {
+    for (final InMemoryDirectoryServer ds : servers)
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of a consistent hash server set created with the
+   * default settings.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultSettings()
+       throws Exception
+  {
+    final ConsistentHashServerSet set =
+         new ConsistentHashServerSet(addresses, ports);
+
+    assertTrue(Arrays.equals(set.getAddresses(), addresses));
+    assertTrue(Arrays.equals(set.getPorts(), ports));
+    assertNotNull(set.getSocketFactory());
+    assertNotNull(set.getConnectionOptions());
+    assertNotNull(set.getBlacklistManager());
+    assertTrue(set.getRoutingBaseDNs().isEmpty());
+    assertEquals(set.getVirtualNodesPerServer(),
+         ConsistentHashServerSet.DEFAULT_VIRTUAL_NODES_PER_SERVER);
+    assertFalse(set.includesAuthentication());
+    assertFalse(set.includesPostConnectProcessing());
+    assertNotNull(set.toString());
+
+    // Connections created without a target DN should be spread across all of
+    // the servers.
+    final HashSet<Integer> connectedPorts = new HashSet<>();
+    for (int i=0; i < ports.length; i++)
+    {
+      final LDAPConnection conn = set.getConnection();
+      assertNotNull(conn.getRootDSE());
+      connectedPorts.add(conn.getConnectedPort());
+      conn.close();
+    }
+    assertEquals(connectedPorts.size(), ports.length);
+
+    set.shutDown();
+  }
+
+
+
+  /**
+   * Tests to ensure that invalid settings are rejected.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testEmptyServers()
+       throws Exception
+  {
+    new ConsistentHashServerSet(new String[0], new int[0]);
+  }
+
+
+
+  /**
+   * Tests to ensure that a virtual node count of zero is rejected.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testZeroVirtualNodes()
+       throws Exception
+  {
+    new ConsistentHashServerSet(addresses, ports, null, 0, null, null, null,
+         null, 0L);
+  }
+
+
+
+  /**
+   * Tests the process of determining the routing key for a target DN.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRoutingKeys()
+       throws Exception
+  {
+    final ConsistentHashServerSet set = new ConsistentHashServerSet(addresses,
+         ports,
+         Arrays.asList(new DN("dc=example,dc=com"),
+              new DN("ou=People,dc=example,dc=com")),
+         10, null, null, null, null, 0L);
+
+    final List<DN> baseDNs = set.getRoutingBaseDNs();
+    assertEquals(baseDNs.size(), 2);
+    assertEquals(baseDNs.get(0), new DN("ou=People,dc=example,dc=com"));
+    assertEquals(baseDNs.get(1), new DN("dc=example,dc=com"));
+
+    assertEquals(set.getRoutingKey("uid=test,ou=People,dc=example,dc=com"),
+         "ou=people,dc=example,dc=com");
+    assertEquals(set.getRoutingKey("OU=People, DC=Example, DC=Com"),
+         "ou=people,dc=example,dc=com");
+    assertEquals(set.getRoutingKey("cn=test,ou=Groups,dc=example,dc=com"),
+         "dc=example,dc=com");
+    assertEquals(set.getRoutingKey("O=Example.Com"), "o=example.com");
+    assertEquals(set.getRoutingKey("Not A Valid DN"), "not a valid dn");
+
+    assertEquals(set.getServerForDN("uid=a,ou=People,dc=example,dc=com"),
+         set.getServerForDN("uid=b,ou=People,dc=example,dc=com"));
+  }
+
+
+
+  /**
+   * Tests the ordering of servers for a target DN, and ensures that removing a
+   * server only changes the server used for the DNs that had been associated
+   * with the removed server.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMinimalRemapping()
+       throws Exception
+  {
+    final String[] allAddresses = { "a.example.com", "b.example.com",
+         "c.example.com", "d.example.com" };
+    final int[] allPorts = { 389, 389, 389, 389 };
+    final ConsistentHashServerSet fullSet =
+         new ConsistentHashServerSet(allAddresses, allPorts, null, null);
+
+    final String[] reducedAddresses =
+         { "a.example.com", "b.example.com", "d.example.com" };
+    final int[] reducedPorts = { 389, 389, 389 };
+    final ConsistentHashServerSet reducedSet =
+         new ConsistentHashServerSet(reducedAddresses, reducedPorts, null,
+              null);
+
+    final ObjectPair<String,Integer> removedServer =
+         new ObjectPair<>("c.example.com", 389);
+    final Map<ObjectPair<String,Integer>,Integer> counts = new HashMap<>();
+    for (int i=0; i < 4000; i++)
+    {
+      final String dn = "uid=user." + i + ",ou=People,dc=example,dc=com";
+
+      final List<ObjectPair<String,Integer>> fullServers =
+           fullSet.getServersForDN(dn);
+      assertEquals(fullServers.size(), 4);
+      assertEquals(new HashSet<>(fullServers).size(), 4);
+      assertEquals(fullServers.get(0), fullSet.getServerForDN(dn));
+
+      final ObjectPair<String,Integer> fullServer = fullServers.get(0);
+      final ObjectPair<String,Integer> reducedServer =
+           reducedSet.getServerForDN(dn);
+      if (fullServer.equals(removedServer))
+      {
+        // The DN should move to the next server on the ring.
+        assertEquals(reducedServer, fullServers.get(1));
+      }
+      else
+      {
+        assertEquals(reducedServer, fullServer);
+      }
+
+      final Integer count = counts.get(fullServer);
+      counts.put(fullServer, (count == null) ? 1 : (count + 1));
+    }
+
+    // Each server should have a reasonable share of the DNs.
+    assertEquals(counts.size(), 4);
+    for (final int count : counts.values())
+    {
+      assertTrue(count > 600, "Unbalanced distribution:  " + counts);
+    }
+  }
+
+
+
+  /**
+   * Tests that a connection for a target DN is established to the associated
+   * server, and to the next server on the ring if that server is unavailable.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testGetConnectionForTargetDN()
+       throws Exception
+  {
+    final InMemoryDirectoryServer downDS =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    downDS.startListening();
+    final int downPort = downDS.getListenPort();
+    downDS.shutDown(true);
+
+    final String[] setAddresses = { "localhost", "localhost", "localhost" };
+    final int[] setPorts = { ports[0], ports[1], downPort };
+    final ConsistentHashServerSet set = new ConsistentHashServerSet(
+         setAddresses, setPorts, null, 100, null, null, null, null, 0L);
+
+    boolean foundDownPrimary = false;
+    boolean foundUpPrimary = false;
+    for (int i=0; i < 100; i++)
+    {
+      final String dn = "uid=user." + i + ",ou=People,dc=example,dc=com";
+      final List<ObjectPair<String,Integer>> serverList =
+           set.getServersForDN(dn);
+
+      final LDAPConnection conn = set.getConnection(dn, null);
+      if (serverList.get(0).getSecond() == downPort)
+      {
+        foundDownPrimary = true;
+        assertEquals(conn.getConnectedPort(),
+             serverList.get(1).getSecond().intValue());
+      }
+      else
+      {
+        foundUpPrimary = true;
+        assertEquals(conn.getConnectedPort(),
+             serverList.get(0).getSecond().intValue());
+      }
+      conn.close();
+    }
+
+    assertTrue(foundDownPrimary);
+    assertTrue(foundUpPrimary);
+  }
+
+
+
+  /**
+   * Tests that a connection pool using a consistent hash server set will route
+   * operations to the server associated with their target DN.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPoolRouting()
+       throws Exception
+  {
+    final ConsistentHashServerSet set = new ConsistentHashServerSet(addresses,
+         ports, Arrays.asList(new DN("ou=People,dc=example,dc=com")),
+         ConsistentHashServerSet.DEFAULT_VIRTUAL_NODES_PER_SERVER, null, null,
+         null, null, 0L);
+    final LDAPConnectionPool pool = new LDAPConnectionPool(set, null, 12, 12);
+
+    for (int i=0; i < 20; i++)
+    {
+      final String dn = "cn=entry." + i + ",dc=example,dc=com";
+      final LDAPConnection conn = pool.getConnectionForTargetDN(dn);
+      assertEquals(conn.getConnectedPort(),
+           set.getServerForDN(dn).getSecond().intValue());
+      pool.releaseConnection(conn);
+
+      // The connection that was just released should be the one returned for
+      // the next operation routed to the same server.
+      assertSame(pool.getConnectionForTargetDN(dn), conn);
+      pool.releaseConnection(conn);
+    }
+
+    // Since the servers do not replicate with each other, an entry added
+    // through the pool will only be found if subsequent operations targeting
+    // it are sent to the same server.
+    for (int i=0; i < 10; i++)
+    {
+      final String dn = "cn=entry." + i + ",dc=example,dc=com";
+      pool.add(
+           "dn: " + dn,
+           "objectClass: top",
+           "objectClass: device",
+           "cn: entry." + i);
+
+      assertNotNull(pool.getEntry(dn));
+      assertTrue(pool.compare(dn, "cn", "entry." + i).compareMatched());
+      assertEquals(pool.search(dn, SearchScope.BASE, "(objectClass=*)").
+           getEntryCount(), 1);
+      assertNotNull(pool.modifyAsync(new ModifyRequest(
+           "dn: " + dn,
+           "changetype: modify",
+           "replace: description",
+           "description: foo")).get());
+      assertResultCodeEquals(pool.delete(dn), ResultCode.SUCCESS);
+    }
+
+    // All entries below the routing base DN should go to the same server.
+    final int peoplePort =
+         set.getServerForDN("ou=People,dc=example,dc=com").getSecond();
+    for (int i=0; i < 10; i++)
+    {
+      final LDAPConnection conn = pool.getConnectionForTargetDN(
+           "uid=user." + i + ",ou=People,dc=example,dc=com");
+      assertEquals(conn.getConnectedPort(), peoplePort);
+      pool.releaseConnection(conn);
+    }
+
+    assertEquals(pool.getConnectionPoolStatistics().getNumFailedCheckouts(),
+         0L);
+    pool.close();
+  }
+}
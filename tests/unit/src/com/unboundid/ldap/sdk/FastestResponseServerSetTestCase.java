@@ -0,0 +1,372 @@
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2013-2025 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+import java.util.Map;
+import javax.net.SocketFactory;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.
+            InMemoryInterceptedCompareRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for the fastest response server set.
+ */
+public final class FastestResponseServerSetTestCase
+       extends LDAPSDKTestCase
+{
+  // A directory server instance that will be slow to respond to compare
+  // requests.
+  private InMemoryDirectoryServer slowDS = null;
+
+  // A directory server instance that will respond normally.
+  private InMemoryDirectoryServer fastDS = null;
+
+  // The ports of the directory server instances.
+  private final int[] ports = new int[2];
+
+  // The addresses of the directory server instances.
+  private final String[] addresses = new String[2];
+
+
+
+  /**
+   * Prepares a couple of directory server instances to use in the testing.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+       throws Exception
+  {
+    final InMemoryDirectoryServerConfig slowConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    slowConfig.addInMemoryOperationInterceptor(
+         new InMemoryOperationInterceptor()
+         {
+           @Override()
+           public void processCompareRequest(
+                            final InMemoryInterceptedCompareRequest request)
+           {
+             try
+             {
+               Thread.sleep(20L);
+             }
+             catch (final InterruptedException e)
+             {
+               Thread.currentThread().interrupt();
+             }
+           }
+         });
+
+    slowDS = new InMemoryDirectoryServer(slowConfig);
+    slowDS.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    slowDS.startListening();
+
+    fastDS = new InMemoryDirectoryServer("dc=example,dc=com");
+    fastDS.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    fastDS.startListening();
+
+    addresses[0] = "localhost";
+    addresses[1] = "localhost";
+
+    ports[0] = slowDS.getListenPort();
+    ports[1] = fastDS.getListenPort();
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+       throws Exception
+  {
+    slowDS.shutDown(true);
+    fastDS.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the behavior of the fastest response server set using the first
+   * constructor.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConstructor1()
+       throws Exception
+  {
+    final FastestResponseServerSet set =
+         new FastestResponseServerSet(addresses, ports);
+    assertNotNull(set.getBlacklistManager());
+
+    assertNotNull(set.getAddresses());
+    assertTrue(Arrays.equals(set.getAddresses(), addresses));
+
+    assertNotNull(set.getPorts());
+    assertTrue(Arrays.equals(set.getPorts(), ports));
+
+    assertNotNull(set.getSocketFactory());
+
+    assertNotNull(set.getConnectionOptions());
+
+    assertEquals(set.getDecayTimeMillis(),
+         FastestResponseServerSet.DEFAULT_DECAY_TIME_MILLIS);
+
+    assertFalse(set.includesAuthentication());
+
+    assertFalse(set.includesPostConnectProcessing());
+
+    final Map<String,Double> expectedTimes =
+         set.getExpectedResponseTimesMillis();
+    assertEquals(expectedTimes.size(), 2);
+    for (final Double d : expectedTimes.values())
+    {
+      assertEquals(d.doubleValue(), 0.0d);
+    }
+
+    assertNotNull(set.toString());
+
+    set.shutDown();
+  }
+
+
+
+  /**
+   * Tests the behavior of the fastest response server set using the full
+   * constructor with a non-default decay time and no blacklist.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFullConstructor()
+       throws Exception
+  {
+    final FastestResponseServerSet set = new FastestResponseServerSet(
+         addresses, ports, SocketFactory.getDefault(),
+         new LDAPConnectionOptions(), new SimpleBindRequest(), null, 0L,
+         1234L);
+    assertNull(set.getBlacklistManager());
+
+    assertEquals(set.getDecayTimeMillis(), 1234L);
+
+    assertTrue(set.includesAuthentication());
+
+    assertFalse(set.includesPostConnectProcessing());
+
+    final LDAPConnection conn = set.getConnection();
+    assertTrue(conn.isConnected());
+    conn.close();
+
+    set.shutDown();
+  }
+
+
+
+  /**
+   * Tests to ensure that the constructor rejects a decay time that is not
+   * greater than zero.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidDecayTime()
+       throws Exception
+  {
+    new FastestResponseServerSet(addresses, ports, null, null, null, null,
+         0L, 0L);
+  }
+
+
+
+  /**
+   * Tests to ensure that once response times have been sampled, new
+   * connections are established to the server with the lowest response time.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPrefersFastestServer()
+       throws Exception
+  {
+    final FastestResponseServerSet set =
+         new FastestResponseServerSet(addresses, ports);
+
+    // Before any response times are known, connections should be distributed
+    // across the servers.
+    final LDAPConnection slowConn = set.getConnection();
+    assertEquals(slowConn.getConnectedPort(), ports[0]);
+
+    final LDAPConnection fastConn = set.getConnection();
+    assertEquals(fastConn.getConnectedPort(), ports[1]);
+
+    final CompareRequest compareRequest =
+         new CompareRequest("dc=example,dc=com", "dc", "example");
+    for (int i=0; i < 5; i++)
+    {
+      assertTrue(slowConn.compare(compareRequest).compareMatched());
+      assertTrue(fastConn.compare(compareRequest).compareMatched());
+    }
+
+    set.sampleResponseTimes();
+
+    final Map<String,Double> expectedTimes =
+         set.getExpectedResponseTimesMillis();
+    final double slowTime = expectedTimes.get("localhost:" + ports[0]);
+    final double fastTime = expectedTimes.get("localhost:" + ports[1]);
+    assertTrue(slowTime >= 20.0d, "slowTime=" + slowTime);
+    assertTrue(fastTime < slowTime,
+         "fastTime=" + fastTime + ", slowTime=" + slowTime);
+
+    // All new connections should now go to the fast server, even though it
+    // already has more connections.
+    final LDAPConnection[] conns = new LDAPConnection[3];
+    for (int i=0; i < conns.length; i++)
+    {
+      conns[i] = set.getConnection();
+      assertEquals(conns[i].getConnectedPort(), ports[1]);
+    }
+
+    // A sample with no new responses should not change the estimate for the
+    // fastest server, and may only cause the estimate for the slower server to
+    // decay toward it.
+    set.sampleResponseTimes();
+    final Map<String,Double> newExpectedTimes =
+         set.getExpectedResponseTimesMillis();
+    assertEquals(newExpectedTimes.get("localhost:" + ports[1]).doubleValue(),
+         fastTime);
+    assertTrue(newExpectedTimes.get("localhost:" + ports[0]) <= slowTime);
+    assertTrue(newExpectedTimes.get("localhost:" + ports[0]) >= fastTime);
+
+    for (final LDAPConnection c : conns)
+    {
+      c.close();
+    }
+
+    slowConn.close();
+    fastConn.close();
+    set.shutDown();
+  }
+
+
+
+  /**
+   * Tests to ensure that a server that was slow while it had connections, but
+   * then lost all of them, will be used again once its estimate has decayed,
+   * even though no new response times are observed for it.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRecoveryAfterSlowPeriod()
+       throws Exception
+  {
+    final FastestResponseServerSet set = new FastestResponseServerSet(
+         addresses, ports, null, null, null, null, 0L, 100L);
+
+    final LDAPConnection slowConn = set.getConnection();
+    assertEquals(slowConn.getConnectedPort(), ports[0]);
+
+    final LDAPConnection fastConn = set.getConnection();
+    assertEquals(fastConn.getConnectedPort(), ports[1]);
+
+    final CompareRequest compareRequest =
+         new CompareRequest("dc=example,dc=com", "dc", "example");
+    for (int i=0; i < 5; i++)
+    {
+      assertTrue(slowConn.compare(compareRequest).compareMatched());
+      assertTrue(fastConn.compare(compareRequest).compareMatched());
+    }
+
+    set.sampleResponseTimes();
+    slowConn.close();
+
+    final LDAPConnection conn1 = set.getConnection();
+    assertEquals(conn1.getConnectedPort(), ports[1]);
+    conn1.close();
+
+    // Without any new samples, the slow server's estimate should decay until
+    // it is no worse than the fast server, and since it has fewer connections,
+    // it should be chosen for the next connection.
+    final long stopTime = System.currentTimeMillis() + 10_000L;
+    while (true)
+    {
+      final Map<String,Double> expectedTimes =
+           set.getExpectedResponseTimesMillis();
+      if (expectedTimes.get("localhost:" + ports[0]).equals(
+           expectedTimes.get("localhost:" + ports[1])))
+      {
+        break;
+      }
+
+      assertTrue(System.currentTimeMillis() < stopTime,
+           "expectedTimes=" + expectedTimes);
+      Thread.sleep(50L);
+    }
+
+    final LDAPConnection conn2 = set.getConnection();
+    assertEquals(conn2.getConnectedPort(), ports[0]);
+
+    conn2.close();
+    fastConn.close();
+    set.shutDown();
+  }
+}
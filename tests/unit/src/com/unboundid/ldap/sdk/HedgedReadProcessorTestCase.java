@@ -0,0 +1,387 @@
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2013-2025 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.
+            InMemoryInterceptedCompareRequest;
+import com.unboundid.ldap.listener.interceptor.
+            InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.util.LDAPSDKUsageException;
+
+
+
+/**
+ * This class provides a set of test cases for hedged read operations in the
+ * LDAP connection pool.
+ */
+public final class HedgedReadProcessorTestCase
+       extends LDAPSDKTestCase
+{
+  // A directory server instance that will be slow to respond to read
+  // operations.
+  private InMemoryDirectoryServer slowDS = null;
+
+  // A directory server instance that will respond normally.
+  private InMemoryDirectoryServer fastDS = null;
+
+
+
+  /**
+   * Prepares a couple of directory server instances to use in the testing.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+       throws Exception
+  {
+    slowDS = createDS(200L);
+    fastDS = createDS(0L);
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+       throws Exception
+  {
+    slowDS.shutDown(true);
+    fastDS.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the methods used to enable and disable hedged reads.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEnableAndDisable()
+       throws Exception
+  {
+    final LDAPConnectionPool pool = fastDS.getConnectionPool(1);
+    assertFalse(pool.isHedgedReadEnabled());
+    assertNull(pool.getHedgedReadProcessor());
+
+    pool.enableHedgedReads(50L, false, 10);
+    assertTrue(pool.isHedgedReadEnabled());
+    assertNotNull(pool.getHedgedReadProcessor());
+    assertEquals(pool.getHedgedReadProcessor().getHedgeDelayNanos(),
+         50_000_000L);
+
+    pool.disableHedgedReads();
+    assertFalse(pool.isHedgedReadEnabled());
+    assertNull(pool.getHedgedReadProcessor());
+
+    try
+    {
+      pool.enableHedgedReads(0L, false, 10);
+      fail("Expected an exception for a hedge delay of zero");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      pool.enableHedgedReads(50L, false, 0);
+      fail("Expected an exception for a maximum hedge percent of zero");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      pool.enableHedgedReads(50L, false, 101);
+      fail("Expected an exception for a maximum hedge percent over 100");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    assertFalse(pool.isHedgedReadEnabled());
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that read operations sent to a slow server are hedged to
+   * a faster server, and that the hedged results are returned.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHedgeToFasterServer()
+       throws Exception
+  {
+    final LDAPConnection slowConn = slowDS.getConnection();
+    final LDAPConnection fastConn = fastDS.getConnection();
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(slowConn, 1, 2);
+    pool.releaseConnection(fastConn);
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+
+    pool.enableHedgedReads(20L, false, 100);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    stats.reset();
+
+    for (int i=0; i < 3; i++)
+    {
+      // Make sure that the next checkout will get the slow connection.
+      final LDAPConnection conn = pool.getConnection(
+           slowConn.getConnectedAddress(), slowConn.getConnectedPort());
+      assertNotNull(conn);
+      pool.releaseConnection(conn);
+
+      final long startTime = System.nanoTime();
+      switch (i)
+      {
+        case 0:
+          assertTrue(pool.compare("dc=example,dc=com", "dc", "example").
+               compareMatched());
+          break;
+        case 1:
+          assertEquals(pool.search("dc=example,dc=com", SearchScope.BASE,
+               "(objectClass=*)").getEntryCount(), 1);
+          break;
+        case 2:
+          assertNotNull(pool.getEntry("dc=example,dc=com"));
+          break;
+      }
+
+      final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000L;
+      assertTrue(elapsedMillis < 200L, "elapsedMillis=" + elapsedMillis);
+
+      // Wait for the connections to be released.
+      waitForAvailableConnections(pool, 2);
+    }
+
+    assertEquals(stats.getNumHedgedRequests(), 3L);
+    assertEquals(stats.getNumHedgedRequestsWon(), 3L);
+    assertEquals(stats.getNumHedgedRequestsSuppressed(), 0L);
+    assertTrue(stats.toString().contains("numHedgedRequests=3"));
+
+    // A request for an entry that does not exist should not be hedged, and
+    // should return null.
+    assertNull(pool.getEntry("ou=missing,dc=example,dc=com"));
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that the hedge budget limits the number of hedged requests
+   * that may be sent.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHedgeBudget()
+       throws Exception
+  {
+    final LDAPConnectionPool pool =
+         slowDS.getConnectionPool(null, null, 2, 2);
+    pool.enableHedgedReads(1L, false, 1);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    stats.reset();
+
+    for (int i=0; i < 15; i++)
+    {
+      assertTrue(pool.compare("dc=example,dc=com", "dc", "example").
+           compareMatched());
+      waitForAvailableConnections(pool, 2);
+    }
+
+    // The initial burst should allow ten hedged requests, and the rest should
+    // be suppressed because of the budget.
+    assertEquals(stats.getNumHedgedRequests(), 10L);
+    assertEquals(stats.getNumHedgedRequestsSuppressed(), 5L);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that the hedge delay follows the response time
+   * percentile when configured to do so.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPercentileDelay()
+       throws Exception
+  {
+    final InMemoryDirectoryServer ds = createDS(5L);
+    final LDAPConnectionPool pool = ds.getConnectionPool(null, null, 2, 2);
+    pool.enableHedgedReads(1L, true, 1);
+
+    final HedgedReadProcessor processor = pool.getHedgedReadProcessor();
+    assertEquals(processor.getHedgeDelayNanos(), 1_000_000L);
+
+    for (int i=0; i < 128; i++)
+    {
+      assertTrue(pool.compare("dc=example,dc=com", "dc", "example").
+           compareMatched());
+    }
+
+    assertTrue(processor.getHedgeDelayNanos() >= 5_000_000L,
+         "delay=" + processor.getHedgeDelayNanos());
+
+    pool.close();
+    ds.shutDown(true);
+  }
+
+
+
+  /**
+   * Creates an in-memory directory server instance with a base entry, which
+   * will sleep for the specified length of time before processing each
+   * compare or search request.
+   *
+   * @param  delayMillis  The length of time in milliseconds to sleep before
+   *                      processing each compare or search request.
+   *
+   * @return  The in-memory directory server instance that was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static InMemoryDirectoryServer createDS(final long delayMillis)
+          throws Exception
+  {
+    final InMemoryDirectoryServerConfig config =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    if (delayMillis > 0L)
+    {
+      config.addInMemoryOperationInterceptor(
+           new InMemoryOperationInterceptor()
+           {
+             @Override()
+             public void processCompareRequest(
+                              final InMemoryInterceptedCompareRequest request)
+             {
+               sleep(delayMillis);
+             }
+
+             @Override()
+             public void processSearchRequest(
+                              final InMemoryInterceptedSearchRequest request)
+             {
+               sleep(delayMillis);
+             }
+           });
+    }
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(config);
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    ds.startListening();
+    return ds;
+  }
+
+
+
+  /**
+   * Sleeps for the specified length of time.
+   *
+   * @param  millis  The length of time in milliseconds to sleep.
+   */
+  private static void sleep(final long millis)
+  {
+    try
+    {
+      Thread.sleep(millis);
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+
+
+  /**
+   * Waits for the specified number of connections to be available in the
+   * provided pool, since connections used for hedged reads are released
+   * asynchronously.
+   *
+   * @param  pool  The pool to examine.
+   * @param  n     The number of connections that should be available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForAvailableConnections(
+                           final LDAPConnectionPool pool, final int n)
+          throws Exception
+  {
+    final long stopTime = System.currentTimeMillis() + 10_000L;
+    while ((pool.getCurrentAvailableConnections() < n) &&
+         (System.currentTimeMillis() < stopTime))
+    {
+      Thread.sleep(1L);
+    }
+
+    assertEquals(pool.getCurrentAvailableConnections(), n);
+  }
+}
@@ -40,6 +40,7 @@ package com.unboundid.ldap.sdk;
 import java.io.File;
 import java.net.InetAddress;
 import java.util.Arrays;
+import java.util.Collection;
 import javax.net.ssl.SSLSocketFactory;
 
 import org.testng.annotations.Test;
@@ -72,6 +73,7 @@ import com.unboundid.ldap.sdk.unboundidds.extensions.
 import com.unboundid.ldap.sdk.unboundidds.extensions.
             ValidateTOTPPasswordExtendedRequest;
 import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.StaticUtils;
 import com.unboundid.util.SynchronizedSocketFactory;
 import com.unboundid.util.SynchronizedSSLSocketFactory;
 import com.unboundid.util.ssl.HostNameSSLSocketVerifier;
@@ -103,12 +105,16 @@ public class LDAPConnectionOptionsTestCase
     assertFalse(opts.followReferrals());
     assertEquals(opts.getReferralHopLimit(), 5);
     assertNull(opts.getReferralConnector());
+    assertFalse(opts.lazilyDecodeSearchEntries());
+    assertFalse(opts.useVirtualThreads());
     assertTrue(opts.useKeepAlive());
     assertTrue(opts.useLinger());
     assertEquals(opts.getLingerTimeoutSeconds(), 5);
     assertTrue(opts.useReuseAddress());
     assertFalse(opts.useSynchronousMode());
+    assertFalse(opts.useSelectorReader());
     assertTrue(opts.useTCPNoDelay());
+    assertFalse(opts.useWriteCoalescing());
     assertEquals(opts.getConnectTimeoutMillis(), 10_000L);
     assertEquals(opts.getResponseTimeoutMillis(), 300_000L);
     assertFalse(opts.abandonOnTimeout());
@@ -208,6 +214,10 @@ public class LDAPConnectionOptionsTestCase
     opts.setReceiveBufferSize(1234);
     opts.setSendBufferSize(1234);
     opts.setUseSynchronousMode(true);
+    opts.setUseSelectorReader(true);
+    opts.setUseWriteCoalescing(true);
+    opts.setLazilyDecodeSearchEntries(true);
+    opts.setUseVirtualThreads(true);
     opts.setUseSchema(true);
     opts.setAllowConcurrentSocketFactoryUse(false);
     opts.setSSLSocketVerifier(new HostNameSSLSocketVerifier(true));
@@ -239,6 +249,11 @@ public class LDAPConnectionOptionsTestCase
     assertEquals(dup.getReceiveBufferSize(), 1234);
     assertEquals(dup.getSendBufferSize(), 1234);
     assertEquals(dup.useSynchronousMode(), opts.useSynchronousMode());
+    assertEquals(dup.useSelectorReader(), opts.useSelectorReader());
+    assertEquals(dup.useWriteCoalescing(), opts.useWriteCoalescing());
+    assertEquals(dup.lazilyDecodeSearchEntries(),
+         opts.lazilyDecodeSearchEntries());
+    assertEquals(dup.useVirtualThreads(), opts.useVirtualThreads());
     assertEquals(dup.useSchema(), opts.useSchema());
     assertEquals(dup.usePooledSchema(), opts.usePooledSchema());
     assertEquals(dup.allowConcurrentSocketFactoryUse(),
@@ -1013,6 +1028,152 @@ public class LDAPConnectionOptionsTestCase
 
 
 
+  /**
+   * Tests the ability to get and set the flag that controls whether to use a
+   * shared selector-based reader.
+   */
+  @Test()
+  public void testUseSelectorReader()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useSelectorReader());
+    assertNotNull(opts.toString());
+
+    opts.setUseSelectorReader(true);
+    assertTrue(opts.useSelectorReader());
+    assertTrue(opts.toString().contains("useSelectorReader=true"));
+
+    opts.setUseSelectorReader(false);
+    assertFalse(opts.useSelectorReader());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to use
+   * write coalescing.
+   */
+  @Test()
+  public void testUseWriteCoalescing()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useWriteCoalescing());
+    assertNotNull(opts.toString());
+
+    opts.setUseWriteCoalescing(true);
+    assertTrue(opts.useWriteCoalescing());
+    assertTrue(opts.toString().contains("useWriteCoalescing=true"));
+
+    opts.setUseWriteCoalescing(false);
+    assertFalse(opts.useWriteCoalescing());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to use
+   * virtual threads for connection readers.
+   */
+  @Test()
+  public void testUseVirtualThreads()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.useVirtualThreads());
+    assertNotNull(opts.toString());
+
+    opts.setUseVirtualThreads(true);
+    assertTrue(opts.useVirtualThreads());
+    assertTrue(opts.toString().contains("useVirtualThreads=true"));
+
+    opts.setUseVirtualThreads(false);
+    assertFalse(opts.useVirtualThreads());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the flag that controls whether to lazily
+   * decode search result entries.
+   */
+  @Test()
+  public void testLazilyDecodeSearchEntries()
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertFalse(opts.lazilyDecodeSearchEntries());
+    assertNotNull(opts.toString());
+
+    opts.setLazilyDecodeSearchEntries(true);
+    assertTrue(opts.lazilyDecodeSearchEntries());
+    assertTrue(opts.toString().contains("lazilyDecodeSearchEntries=true"));
+
+    opts.setLazilyDecodeSearchEntries(false);
+    assertFalse(opts.lazilyDecodeSearchEntries());
+    assertNotNull(opts.toString());
+  }
+
+
+
+  /**
+   * Tests the ability to get and set the properties that control which
+   * attributes should have their values streamed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStreamedAttributes()
+         throws Exception
+  {
+    final LDAPConnectionOptions opts = new LDAPConnectionOptions();
+
+    assertNotNull(opts.getStreamedAttributes());
+    assertTrue(opts.getStreamedAttributes().isEmpty());
+    assertEquals(opts.getStreamedAttributeValueMaxMemorySize(), 65_536);
+    assertNull(opts.getStreamedAttributeValueTempDirectory());
+    assertFalse(opts.toString().contains("streamedAttributes"));
+
+    opts.setStreamedAttributes("jpegPhoto", "userCertificate;binary");
+    assertEquals(opts.getStreamedAttributes(),
+         StaticUtils.setOf("jpegphoto", "usercertificate"));
+    assertTrue(opts.toString().contains("streamedAttributes"));
+
+    final LDAPConnectionOptions duplicate = opts.duplicate();
+    assertEquals(duplicate.getStreamedAttributes(),
+         opts.getStreamedAttributes());
+
+    opts.setStreamedAttributes(Arrays.asList("audio"));
+    assertEquals(opts.getStreamedAttributes(), StaticUtils.setOf("audio"));
+
+    opts.setStreamedAttributes((String[]) null);
+    assertTrue(opts.getStreamedAttributes().isEmpty());
+
+    opts.setStreamedAttributes((Collection<String>) null);
+    assertTrue(opts.getStreamedAttributes().isEmpty());
+
+    opts.setStreamedAttributeValueMaxMemorySize(1024);
+    assertEquals(opts.getStreamedAttributeValueMaxMemorySize(), 1024);
+
+    opts.setStreamedAttributeValueMaxMemorySize(-1);
+    assertEquals(opts.getStreamedAttributeValueMaxMemorySize(), 0);
+
+    final File tempDir = createTempDir();
+    opts.setStreamedAttributeValueTempDirectory(tempDir);
+    assertEquals(opts.getStreamedAttributeValueTempDirectory(), tempDir);
+    assertEquals(opts.duplicate().getStreamedAttributeValueTempDirectory(),
+         tempDir);
+
+    opts.setStreamedAttributeValueTempDirectory(null);
+    assertNull(opts.getStreamedAttributeValueTempDirectory());
+  }
+
+
+
   /**
    * Tests the ability to get and set the flag that controls whether to use
    * schema information when reading data from the server.
@@ -38,8 +38,12 @@ package com.unboundid.ldap.sdk;
 
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -52,6 +56,7 @@ import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
 import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
 import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedResult;
 import com.unboundid.ldif.LDIFException;
+import com.unboundid.util.LDAPSDKUsageException;
 import com.unboundid.util.ssl.TrustAllTrustManager;
 import com.unboundid.util.ssl.SSLUtil;
 
@@ -3324,4 +3329,419 @@ public class LDAPConnectionPoolTestCase
     pool.close();
     ds.shutDown(true);
   }
+
+
+
+  /**
+   * Tests the methods used to enable and disable adaptive sizing.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEnableAndDisableAdaptiveSizing()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 1, 5);
+    assertFalse(pool.isAdaptiveSizingEnabled());
+    assertNull(pool.getAdaptiveSizer());
+    assertEquals(pool.getNumPooledConnections(), 1);
+
+    pool.enableAdaptiveSizing(2, 100L, 3);
+    assertTrue(pool.isAdaptiveSizingEnabled());
+
+    final AdaptiveConnectionPoolSizer sizer = pool.getAdaptiveSizer();
+    assertNotNull(sizer);
+    assertEquals(sizer.getMinConnections(), 2);
+    assertEquals(sizer.getTargetWaitTimeMillis(), 100L);
+    assertEquals(sizer.getIdleHealthCheckIntervals(), 3);
+    assertEquals(sizer.getNumConnectionsAdded(), 0L);
+    assertEquals(sizer.getNumConnectionsRetired(), 0L);
+
+    try
+    {
+      pool.enableAdaptiveSizing(6, 100L, 3);
+      fail("Expected an exception with a minimum greater than the maximum");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      pool.enableAdaptiveSizing(1, -1L, 3);
+      fail("Expected an exception with a negative target wait time");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      pool.enableAdaptiveSizing(1, 100L, 0);
+      fail("Expected an exception with zero idle health check intervals");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    assertSame(pool.getAdaptiveSizer(), sizer);
+
+    pool.disableAdaptiveSizing();
+    assertFalse(pool.isAdaptiveSizingEnabled());
+    assertNull(pool.getAdaptiveSizer());
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests that adaptive sizing grows the pool when checkouts take longer than
+   * the target wait time, without exceeding the maximum number of connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAdaptiveSizingGrowsPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 2, 4);
+    pool.enableAdaptiveSizing(1, 0L, 1);
+
+    final AdaptiveConnectionPoolSizer sizer = pool.getAdaptiveSizer();
+    final ArrayList<LDAPConnection> conns = new ArrayList<>(4);
+    for (int i=0; i < 10; i++)
+    {
+      conns.add(pool.getConnection());
+      waitForGrowth(sizer);
+      pool.releaseConnection(conns.remove(0));
+    }
+
+    assertEquals(pool.getNumPooledConnections(), 4);
+    assertEquals(pool.getCurrentAvailableConnections(), 4);
+    assertEquals(sizer.getNumConnectionsAdded(), 2L);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests that adaptive sizing retires idle connections during health
+   * checking, without going below the minimum number of connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAdaptiveSizingRetiresIdleConnections()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 5, 5);
+    pool.enableAdaptiveSizing(2, 60_000L, 1);
+    pool.setHealthCheckIntervalMillis(50L);
+
+    final AdaptiveConnectionPoolSizer sizer = pool.getAdaptiveSizer();
+    final long stopTime = System.currentTimeMillis() + 10_000L;
+    while (((pool.getCurrentAvailableConnections() > 2) ||
+            (pool.getNumPooledConnections() > 2)) &&
+         (System.currentTimeMillis() < stopTime))
+    {
+      Thread.sleep(10L);
+    }
+
+    assertEquals(pool.getCurrentAvailableConnections(), 2);
+    assertEquals(pool.getNumPooledConnections(), 2);
+    assertEquals(sizer.getNumConnectionsRetired(), 3L);
+
+    // Make sure that the pool can still create connections up to its maximum.
+    final ArrayList<LDAPConnection> conns = new ArrayList<>(5);
+    for (int i=0; i < 5; i++)
+    {
+      conns.add(pool.getConnection());
+    }
+
+    for (final LDAPConnection conn : conns)
+    {
+      pool.releaseConnection(conn);
+    }
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests the methods for getting and setting the health check parallelism and
+   * jitter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testHealthCheckParallelismAndJitterSettings()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 1, 1);
+
+    assertEquals(pool.getHealthCheckParallelism(), 1);
+    assertEquals(pool.getHealthCheckJitterMillis(), 0L);
+
+    pool.setHealthCheckParallelism(8);
+    assertEquals(pool.getHealthCheckParallelism(), 8);
+
+    pool.setHealthCheckJitterMillis(5_000L);
+    assertEquals(pool.getHealthCheckJitterMillis(), 5_000L);
+
+    try
+    {
+      pool.setHealthCheckParallelism(0);
+      fail("Expected an exception with a health check parallelism of zero");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      pool.setHealthCheckJitterMillis(-1L);
+      fail("Expected an exception with a negative health check jitter");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    assertEquals(pool.getHealthCheckParallelism(), 8);
+    assertEquals(pool.getHealthCheckJitterMillis(), 5_000L);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests that health checks can examine multiple connections concurrently,
+   * without exceeding the configured parallelism, and that the health check
+   * latency statistics are updated.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testParallelHealthCheck()
+         throws Exception
+  {
+    final AtomicInteger activeChecks = new AtomicInteger(0);
+    final AtomicInteger maxActiveChecks = new AtomicInteger(0);
+    final LDAPConnectionPoolHealthCheck healthCheck =
+         new LDAPConnectionPoolHealthCheck()
+         {
+           @Override()
+           public void ensureConnectionValidForContinuedUse(
+                            final LDAPConnection connection)
+                  throws LDAPException
+           {
+             final int active = activeChecks.incrementAndGet();
+             int max = maxActiveChecks.get();
+             while ((active > max) &&
+                  (! maxActiveChecks.compareAndSet(max, active)))
+             {
+               max = maxActiveChecks.get();
+             }
+
+             try
+             {
+               Thread.sleep(50L);
+             }
+             catch (final InterruptedException e)
+             {
+               Thread.currentThread().interrupt();
+             }
+             finally
+             {
+               activeChecks.decrementAndGet();
+             }
+           }
+         };
+
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 8, 8);
+    pool.setHealthCheckParallelism(4);
+    assertEquals(pool.getConnectionPoolStatistics().
+         getNumHealthCheckedConnections(), 0L);
+
+    final LDAPConnectionPoolHealthCheckResult result =
+         pool.invokeHealthCheck(healthCheck, false, false);
+    assertEquals(result.getNumExamined(), 8);
+    assertEquals(result.getNumDefunct(), 0);
+    assertEquals(pool.getCurrentAvailableConnections(), 8);
+
+    assertTrue(maxActiveChecks.get() > 1);
+    assertTrue(maxActiveChecks.get() <= 4);
+
+    final LDAPConnectionPoolStatistics stats =
+         pool.getConnectionPoolStatistics();
+    assertEquals(stats.getNumHealthCheckedConnections(), 8L);
+    assertTrue(stats.getAverageHealthCheckDurationMillis() >= 40.0d);
+    assertTrue(stats.getMaximumHealthCheckDurationMillis() >=
+         stats.getAverageHealthCheckDurationMillis());
+    assertTrue(stats.toString().contains("numHealthCheckedConnections=8"));
+
+    stats.reset();
+    assertEquals(stats.getNumHealthCheckedConnections(), 0L);
+    assertEquals(stats.getAverageHealthCheckDurationMillis(), 0.0d);
+    assertEquals(stats.getMaximumHealthCheckDurationMillis(), 0.0d);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests that the threads used for parallel health checking are reused across
+   * health check passes and are stopped when the pool is closed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testParallelHealthCheckReusesWorkerThreads()
+         throws Exception
+  {
+    final Set<Thread> checkThreads =
+         Collections.synchronizedSet(new HashSet<Thread>(10));
+    final LDAPConnectionPoolHealthCheck healthCheck =
+         new LDAPConnectionPoolHealthCheck()
+         {
+           @Override()
+           public void ensureConnectionValidForContinuedUse(
+                            final LDAPConnection connection)
+                  throws LDAPException
+           {
+             checkThreads.add(Thread.currentThread());
+             try
+             {
+               Thread.sleep(20L);
+             }
+             catch (final InterruptedException e)
+             {
+               Thread.currentThread().interrupt();
+             }
+           }
+         };
+
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 6, 6);
+    pool.setHealthCheckParallelism(3);
+
+    for (int i=0; i < 3; i++)
+    {
+      final LDAPConnectionPoolHealthCheckResult result =
+           pool.invokeHealthCheck(healthCheck, false, false);
+      assertEquals(result.getNumExamined(), 6);
+    }
+
+    final Set<Thread> workerThreads;
+    synchronized (checkThreads)
+    {
+      workerThreads = new HashSet<>(checkThreads);
+    }
+    workerThreads.remove(Thread.currentThread());
+    assertFalse(workerThreads.isEmpty());
+    assertTrue(workerThreads.size() <= 2,
+         "Expected at most two health check worker threads across all " +
+              "passes, but found " + workerThreads);
+
+    pool.close();
+
+    for (final Thread t : workerThreads)
+    {
+      t.join(10_000L);
+      assertFalse(t.isAlive());
+    }
+  }
+
+
+
+  /**
+   * Tests that background health checks with jitter spread the checks for
+   * individual connections over time.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testJitteredBackgroundHealthCheck()
+         throws Exception
+  {
+    final List<Long> checkTimes =
+         Collections.synchronizedList(new ArrayList<Long>(10));
+    final LDAPConnectionPoolHealthCheck healthCheck =
+         new LDAPConnectionPoolHealthCheck()
+         {
+           @Override()
+           public void ensureConnectionValidForContinuedUse(
+                            final LDAPConnection connection)
+                  throws LDAPException
+           {
+             checkTimes.add(System.nanoTime());
+           }
+         };
+
+    final InMemoryDirectoryServer ds = getTestDS();
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 10, 10);
+    pool.setHealthCheck(healthCheck);
+    pool.setHealthCheckParallelism(2);
+    pool.setHealthCheckJitterMillis(500L);
+    pool.setHealthCheckIntervalMillis(60_000L);
+
+    // Invoke a background health check pass directly so that the test does
+    // not depend on the timing of the health check thread.
+    pool.doHealthCheck();
+    assertEquals(checkTimes.size(), 10);
+    assertEquals(pool.getCurrentAvailableConnections(), 10);
+
+    final long spreadMillis = TimeUnit.NANOSECONDS.toMillis(
+         Collections.max(checkTimes) - Collections.min(checkTimes));
+    assertTrue(spreadMillis >= 50L,
+         "Expected the health checks to be spread over time, but they were " +
+              "all performed within " + spreadMillis + "ms");
+    assertTrue(spreadMillis < 5_000L);
+
+    pool.close();
+  }
+
+
+
+  /**
+   * Waits for any growth currently being performed by the provided adaptive
+   * sizer to complete.
+   *
+   * @param  sizer  The adaptive sizer for which to wait.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void waitForGrowth(
+                           final AdaptiveConnectionPoolSizer sizer)
+          throws Exception
+  {
+    final long stopTime = System.currentTimeMillis() + 10_000L;
+    while (sizer.growthInProgress() && (System.currentTimeMillis() < stopTime))
+    {
+      Thread.sleep(1L);
+    }
+
+    assertFalse(sizer.growthInProgress());
+  }
 }
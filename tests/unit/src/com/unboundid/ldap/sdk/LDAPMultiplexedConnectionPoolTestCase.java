@@ -0,0 +1,544 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedRequest;
+import com.unboundid.ldap.sdk.extensions.WhoAmIExtendedResult;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code LDAPMultiplexedConnectionPool} class.
+ */
+public class LDAPMultiplexedConnectionPoolTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of a pool created from an existing connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCreateWithConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnection c = ds.getConnection();
+    final LDAPMultiplexedConnectionPool p =
+         new LDAPMultiplexedConnectionPool(c, 2, 3);
+
+    assertNull(p.getConnectionPoolName());
+    p.setConnectionPoolName("test");
+    assertEquals(p.getConnectionPoolName(), "test");
+
+    assertEquals(p.getMaxOutstandingOperationsPerConnection(), 3);
+    assertEquals(p.getMaximumAvailableConnections(), 2);
+    assertEquals(p.getCurrentAvailableConnections(), 2);
+    assertEquals(p.getNumOutstandingOperations(), 0);
+    assertEquals(p.getOutstandingOperationsPerConnection().size(), 2);
+
+    assertEquals(p.getMaxWaitTimeMillis(), 0L);
+    p.setMaxWaitTimeMillis(1234L);
+    assertEquals(p.getMaxWaitTimeMillis(), 1234L);
+    p.setMaxWaitTimeMillis(-1L);
+    assertEquals(p.getMaxWaitTimeMillis(), 0L);
+
+    assertNotNull(p.getHealthCheck());
+    p.setHealthCheck(p.getHealthCheck());
+    assertNotNull(p.getServerSet());
+    p.setServerSet(p.getServerSet());
+    p.setHealthCheckIntervalMillis(60_000L);
+    assertEquals(p.getHealthCheckIntervalMillis(), 60_000L);
+
+    assertNotNull(p.getConnectionPoolStatistics());
+    assertNotNull(p.getRootDSE());
+    assertNotNull(p.getEntry("dc=example,dc=com"));
+    assertNotNull(p.toString());
+
+    // The first two checkouts should be spread across both connections, and
+    // the third should share one of them.
+    final LDAPConnection conn1 = p.getConnection();
+    final LDAPConnection conn2 = p.getConnection();
+    assertNotSame(conn1, conn2);
+    final LDAPConnection conn3 = p.getConnection();
+    assertTrue((conn3 == conn1) || (conn3 == conn2));
+    assertEquals(p.getNumOutstandingOperations(), 3);
+
+    p.releaseConnection(conn1);
+    p.releaseConnection(conn2);
+    p.releaseConnection(conn3);
+    p.releaseConnection(null);
+    p.releaseDefunctConnection(null);
+    assertEquals(p.getNumOutstandingOperations(), 0);
+
+    p.doHealthCheck();
+    assertEquals(p.getCurrentAvailableConnections(), 2);
+
+    assertFalse(p.isClosed());
+    p.close();
+    assertTrue(p.isClosed());
+    assertFalse(c.isConnected());
+
+    try
+    {
+      p.getConnection();
+      fail("Expected an exception when trying to get a connection after the " +
+           "pool has been closed.");
+    }
+    catch (final LDAPException le)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when all connections have the maximum number of
+   * outstanding operations.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxOutstandingOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPMultiplexedConnectionPool p = new LDAPMultiplexedConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 2, 2);
+
+    final List<LDAPConnection> conns = new ArrayList<>(4);
+    for (int i=0; i < 4; i++)
+    {
+      conns.add(p.getConnection());
+    }
+
+    assertEquals(p.getNumOutstandingOperations(), 4);
+    assertEquals(p.getCurrentAvailableConnections(), 0);
+
+    try
+    {
+      p.getConnection();
+      fail("Expected an exception when all connections are fully loaded.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+    }
+
+    p.setMaxWaitTimeMillis(10L);
+    try
+    {
+      p.getConnection();
+      fail("Expected an exception when all connections are fully loaded.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.CONNECT_ERROR);
+    }
+
+    // Release a connection from another thread while this thread is waiting.
+    p.setMaxWaitTimeMillis(30_000L);
+    final LDAPConnection toRelease = conns.remove(0);
+    final Thread releaseThread = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          Thread.sleep(100L);
+        }
+        catch (final InterruptedException ie)
+        {
+          Thread.currentThread().interrupt();
+        }
+
+        p.releaseConnection(toRelease);
+      }
+    };
+    releaseThread.start();
+
+    final LDAPConnection waited = p.getConnection();
+    assertSame(waited, toRelease);
+    releaseThread.join();
+    conns.add(waited);
+
+    for (final LDAPConnection conn : conns)
+    {
+      p.releaseConnection(conn);
+    }
+    assertEquals(p.getNumOutstandingOperations(), 0);
+
+    final LDAPConnectionPoolStatistics stats = p.getConnectionPoolStatistics();
+    assertEquals(stats.getNumFailedCheckouts(), 2L);
+    assertEquals(stats.getNumSuccessfulCheckoutsAfterWaiting(), 1L);
+    assertEquals(stats.getNumReleasedValid(), 5L);
+
+    p.close();
+  }
+
+
+
+  /**
+   * Tests that concurrent operations can be processed over the shared
+   * connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPMultiplexedConnectionPool p = new LDAPMultiplexedConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 2, 5);
+    p.setMaxWaitTimeMillis(30_000L);
+
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final List<Thread> threads = new ArrayList<>(10);
+    for (int i=0; i < 10; i++)
+    {
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            for (int j=0; j < 50; j++)
+            {
+              assertNotNull(p.getEntry(
+                   "uid=test.user,ou=People,dc=example,dc=com"));
+            }
+          }
+          catch (final Throwable e)
+          {
+            failure.compareAndSet(null, e);
+          }
+        }
+      };
+      threads.add(t);
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertNull(failure.get());
+    assertEquals(p.getNumOutstandingOperations(), 0);
+    assertEquals(p.getCurrentAvailableConnections(), 2);
+
+    final LDAPConnectionPoolStatistics stats = p.getConnectionPoolStatistics();
+    assertEquals(stats.getNumSuccessfulConnectionAttempts(), 2L);
+    assertEquals(stats.getNumReleasedValid(), 500L);
+
+    p.close();
+  }
+
+
+
+  /**
+   * Tests that binds processed through the pool do not alter the
+   * authentication state of the shared connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBindUsesDedicatedConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addAdditionalBindCredentials("cn=user1", "password1");
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    try
+    {
+      final LDAPMultiplexedConnectionPool p =
+           new LDAPMultiplexedConnectionPool(
+                new SingleServerSet("localhost", ds.getListenPort()), null, 1,
+                10);
+
+      final LDAPConnection before = p.getConnection();
+      p.releaseConnection(before);
+
+      assertEquals(p.bind("cn=user1", "password1").getResultCode(),
+           ResultCode.SUCCESS);
+
+      try
+      {
+        p.bind("cn=user1", "wrong");
+        fail("Expected a bind failure with the wrong password.");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.INVALID_CREDENTIALS);
+      }
+
+      // A bind processed through processRequests should also use a dedicated
+      // connection.
+      final List<LDAPRequest> requests = new ArrayList<>(2);
+      requests.add(new SimpleBindRequest("cn=user1", "password1"));
+      requests.add(new WhoAmIExtendedRequest());
+      final List<LDAPResult> results = p.processRequests(requests, false);
+      assertEquals(results.size(), 2);
+      assertEquals(results.get(0).getResultCode(), ResultCode.SUCCESS);
+      assertEquals(((WhoAmIExtendedResult) results.get(1)).
+           getAuthorizationID(), "dn:cn=user1");
+
+      final LDAPConnection after = p.getConnection();
+      assertSame(after, before);
+
+      final WhoAmIExtendedResult whoAmIResult = (WhoAmIExtendedResult)
+           after.processExtendedOperation(new WhoAmIExtendedRequest());
+      assertEquals(whoAmIResult.getResultCode(), ResultCode.SUCCESS);
+      final String authzID = whoAmIResult.getAuthorizationID();
+      assertTrue((authzID == null) || authzID.isEmpty() ||
+           authzID.equals("dn:"));
+      p.releaseConnection(after);
+
+      assertEquals(p.getNumOutstandingOperations(), 0);
+      assertEquals(p.getConnectionPoolStatistics().
+           getNumConnectionsClosedUnneeded(), 3L);
+
+      p.close();
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when a shared connection is released or replaced as
+   * defunct.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefunctConnections()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPMultiplexedConnectionPool p = new LDAPMultiplexedConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort()), null, 1, 10);
+
+    final LDAPConnection conn1 = p.getConnection();
+    final LDAPConnection conn2 = p.getConnection();
+    assertSame(conn1, conn2);
+    assertEquals(p.getNumOutstandingOperations(), 2);
+
+    final LDAPConnection replacement = p.replaceDefunctConnection(conn1);
+    assertNotSame(replacement, conn1);
+    assertTrue(replacement.isConnected());
+
+    // The old connection should not be closed while another operation is
+    // still outstanding on it, but it should not be used for new operations.
+    assertTrue(conn1.isConnected());
+    assertNotNull(conn2.getEntry("dc=example,dc=com"));
+    final LDAPConnection conn5 = p.getConnection();
+    assertSame(conn5, replacement);
+    p.releaseConnection(conn5);
+
+    // Releasing the last reservation on the old connection should close it.
+    p.releaseConnection(conn2);
+    assertFalse(conn1.isConnected());
+    assertEquals(p.getNumOutstandingOperations(), 1);
+
+    p.releaseDefunctConnection(replacement);
+    assertFalse(replacement.isConnected());
+    assertEquals(p.getNumOutstandingOperations(), 0);
+    assertEquals(p.getCurrentAvailableConnections(), 1);
+
+    final LDAPConnection conn3 = p.getConnection();
+    assertTrue(conn3.isConnected());
+    assertNotSame(conn3, replacement);
+    p.releaseConnection(conn3);
+
+    // A connection closed out from under the pool should be re-established on
+    // the next checkout.
+    conn3.close();
+    final LDAPConnection conn4 = p.getConnection();
+    assertNotSame(conn4, conn3);
+    assertTrue(conn4.isConnected());
+    p.releaseConnection(conn4);
+
+    assertEquals(p.getNumOutstandingOperations(), 0);
+    assertEquals(p.getConnectionPoolStatistics().
+         getNumConnectionsClosedDefunct(), 3L);
+
+    p.close();
+  }
+
+
+
+  /**
+   * Tests that an operation that fails with a result code that does not
+   * indicate a disconnect does not cause other operations in progress on the
+   * same shared connection to fail.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testFailedOperationDoesNotCloseSharedConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor()
+    {
+      @Override()
+      public void processSearchRequest(
+                       final InMemoryInterceptedSearchRequest request)
+             throws LDAPException
+      {
+        if (request.getRequest().getBaseDN().startsWith("cn=busy"))
+        {
+          throw new LDAPException(ResultCode.BUSY, "The server is busy.");
+        }
+      }
+    });
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.add("dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    ds.startListening();
+
+    try
+    {
+      final LDAPMultiplexedConnectionPool p =
+           new LDAPMultiplexedConnectionPool(
+                new SingleServerSet("localhost", ds.getListenPort()), null, 1,
+                10);
+
+      final LDAPConnection held = p.getConnection();
+      try
+      {
+        p.getEntry("cn=busy,dc=example,dc=com");
+        fail("Expected a busy result.");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.BUSY);
+      }
+
+      // The connection that is still in use by another caller must remain
+      // usable until it is released.
+      assertTrue(held.isConnected());
+      assertNotNull(held.getEntry("dc=example,dc=com"));
+
+      // New operations should use a replacement connection.
+      final LDAPConnection next = p.getConnection();
+      assertNotSame(next, held);
+      p.releaseConnection(next);
+
+      p.releaseConnection(held);
+      assertFalse(held.isConnected());
+      assertEquals(p.getNumOutstandingOperations(), 0);
+
+      p.close();
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests that connections operating in synchronous mode are rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSynchronousModeRejected()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSynchronousMode(true);
+
+    final LDAPConnection c = ds.getConnection(options);
+    try
+    {
+      new LDAPMultiplexedConnectionPool(c, 1, 10);
+      fail("Expected an exception for a connection in synchronous mode.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+    assertFalse(c.isConnected());
+
+    try
+    {
+      new LDAPMultiplexedConnectionPool(
+           new SingleServerSet("localhost", ds.getListenPort(), options), null,
+           1, 10);
+      fail("Expected an exception for a connection in synchronous mode.");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+  }
+}
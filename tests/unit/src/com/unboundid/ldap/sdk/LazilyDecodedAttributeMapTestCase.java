@@ -0,0 +1,358 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1Sequence;
+import com.unboundid.asn1.ASN1Set;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.matchingrules.CaseExactStringMatchingRule;
+import com.unboundid.ldap.matchingrules.CaseIgnoreStringMatchingRule;
+import com.unboundid.ldap.sdk.schema.Schema;
+
+
+
+/**
+ * This class provides a set of test cases for the lazily-decoded attribute
+ * map and for lazily-decoded search result entries.
+ */
+public class LazilyDecodedAttributeMapTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a lazily-decoded entry with a variety of attributes.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testLazilyDecodedEntry()
+         throws Exception
+  {
+    final Entry eagerEntry = new Entry(
+         "dn: uid=test.user,ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: person",
+         "objectClass: organizationalPerson",
+         "objectClass: inetOrgPerson",
+         "uid: test.user",
+         "givenName: Test",
+         "sn: User",
+         "cn: Test User",
+         "description:: " + "AAECAwQ=",
+         "emptyAttr:");
+
+    final LazilyDecodedAttributeMap attributeMap =
+         new LazilyDecodedAttributeMap(encode(eagerEntry.getAttributes()),
+              null);
+    assertFalse(attributeMap.isDecoded());
+
+    final SearchResultEntry lazyEntry = new SearchResultEntry(1,
+         new Entry(eagerEntry.getDN(), null, attributeMap));
+    assertEquals(lazyEntry.getDN(), eagerEntry.getDN());
+    assertFalse(attributeMap.isDecoded());
+
+    assertEquals(lazyEntry.getAttributeValue("SN"), "User");
+    assertTrue(attributeMap.isDecoded());
+
+    assertEquals(lazyEntry, eagerEntry);
+    assertEquals(lazyEntry.getAttributes().size(), 7);
+    assertEquals(lazyEntry.getAttributeValueBytes("description"),
+         new byte[] { 0, 1, 2, 3, 4 });
+    assertTrue(lazyEntry.hasAttribute("emptyAttr"));
+    assertEquals(lazyEntry.getAttributeValue("emptyAttr"), "");
+    assertTrue(lazyEntry.hasAttributeValue("objectClass", "PERSON"));
+    assertEquals(lazyEntry.toLDIFString(), eagerEntry.toLDIFString());
+    assertEquals(lazyEntry.duplicate(), eagerEntry);
+  }
+
+
+
+  /**
+   * Tests to ensure that duplicate attributes in the encoded list are merged,
+   * and that the schema is used to select matching rules.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMergeAndSchema()
+         throws Exception
+  {
+    final List<Attribute> attrs = new ArrayList<>(3);
+    attrs.add(new Attribute("description", "a"));
+    attrs.add(new Attribute("uid", "b"));
+    attrs.add(new Attribute("Description", "c"));
+
+    final Schema schema = Schema.getDefaultStandardSchema();
+    final LazilyDecodedAttributeMap attributeMap =
+         new LazilyDecodedAttributeMap(encode(attrs), schema);
+
+    assertEquals(attributeMap.size(), 2);
+    assertEquals(attributeMap.get("description").size(), 2);
+    assertEquals(attributeMap.get("description").getMatchingRule(),
+         CaseIgnoreStringMatchingRule.getInstance());
+
+    final LazilyDecodedAttributeMap noSchemaMap =
+         new LazilyDecodedAttributeMap(encode(attrs), null);
+    assertNotNull(noSchemaMap.get("uid"));
+    assertFalse(noSchemaMap.get("uid").getMatchingRule() instanceof
+         CaseExactStringMatchingRule);
+  }
+
+
+
+  /**
+   * Tests the behavior when the encoded attribute list is empty.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testEmptyAttributeList()
+         throws Exception
+  {
+    final LazilyDecodedAttributeMap attributeMap =
+         new LazilyDecodedAttributeMap(new byte[0], null);
+    assertTrue(attributeMap.isEmpty());
+    assertTrue(attributeMap.isDecoded());
+  }
+
+
+
+  /**
+   * Tests the behavior when cloning a map that has not yet been decoded.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testClone()
+         throws Exception
+  {
+    final List<Attribute> attrs = new ArrayList<>(2);
+    attrs.add(new Attribute("objectClass", "top", "domain"));
+    attrs.add(new Attribute("dc", "example"));
+
+    final LazilyDecodedAttributeMap attributeMap =
+         new LazilyDecodedAttributeMap(encode(attrs), null);
+    assertFalse(attributeMap.isDecoded());
+
+    final LazilyDecodedAttributeMap clone =
+         (LazilyDecodedAttributeMap) attributeMap.clone();
+    assertTrue(attributeMap.isDecoded());
+    assertTrue(clone.isDecoded());
+    assertNotSame(clone, attributeMap);
+    assertEquals(clone, attributeMap);
+    assertEquals(clone.get("dc"), new Attribute("dc", "example"));
+
+    clone.remove("dc");
+    assertEquals(clone.size(), 1);
+    assertEquals(attributeMap.size(), 2);
+  }
+
+
+
+  /**
+   * Tests the behavior when attempting to create a map from malformed data.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMalformedEncodings()
+         throws Exception
+  {
+    final byte[] valid = new Attribute("objectClass", "top", "domain").
+         encode().encode();
+
+    // Every truncated encoding of a single attribute should be rejected.
+    for (int i=1; i < valid.length; i++)
+    {
+      final byte[] truncated = new byte[i];
+      System.arraycopy(valid, 0, truncated, 0, i);
+
+      try
+      {
+        new LazilyDecodedAttributeMap(truncated, null);
+        fail("Expected an exception for an encoding truncated to " + i +
+             " bytes");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.DECODING_ERROR);
+      }
+    }
+
+    // An attribute sequence with extra data after the value set.
+    final byte[] extraData = new ASN1Sequence(
+         new ASN1OctetString("cn"),
+         new ASN1Set(new ASN1OctetString("foo")),
+         new ASN1OctetString("extra")).encode();
+    try
+    {
+      new LazilyDecodedAttributeMap(extraData, null);
+      fail("Expected an exception for extra data in an attribute");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.DECODING_ERROR);
+    }
+
+    // An element with a length that uses too many bytes.
+    try
+    {
+      new LazilyDecodedAttributeMap(
+           new byte[] { 0x30, (byte) 0x85, 0x00, 0x00, 0x00, 0x00, 0x00 },
+           null);
+      fail("Expected an exception for an invalid length");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.DECODING_ERROR);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a lazily-decoded entry can be serialized and
+   * deserialized.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSerialization()
+         throws Exception
+  {
+    final Entry eagerEntry = new Entry(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    final SearchResultEntry lazyEntry = new SearchResultEntry(1,
+         new Entry(eagerEntry.getDN(), null, new LazilyDecodedAttributeMap(
+              encode(eagerEntry.getAttributes()), null)));
+
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream outputStream = new ObjectOutputStream(byteStream))
+    {
+      outputStream.writeObject(lazyEntry);
+    }
+
+    try (ObjectInputStream inputStream = new ObjectInputStream(
+              new ByteArrayInputStream(byteStream.toByteArray())))
+    {
+      final SearchResultEntry decodedEntry =
+           (SearchResultEntry) inputStream.readObject();
+      assertEquals(decodedEntry, eagerEntry);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when retrieving entries over a connection that is
+   * configured to lazily decode search result entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithLazyDecoding()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setLazilyDecodeSearchEntries(true);
+
+    final LDAPConnection lazyConn = ds.getConnection(options);
+    final LDAPConnection eagerConn = ds.getConnection();
+
+    final SearchResult lazyResult = lazyConn.search("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)");
+    final SearchResult eagerResult = eagerConn.search("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)");
+
+    assertEquals(lazyResult.getEntryCount(), 3);
+    assertEquals(lazyResult.getSearchEntries(),
+         eagerResult.getSearchEntries());
+
+    final SearchResultEntry userEntry =
+         lazyConn.getEntry("uid=test.user,ou=People,dc=example,dc=com");
+    assertNotNull(userEntry);
+    assertEquals(userEntry.getAttributeValue("givenName"), "Test");
+
+    options.setUseSynchronousMode(true);
+    final LDAPConnection syncConn = ds.getConnection(options);
+    assertEquals(
+         syncConn.getEntry("uid=test.user,ou=People,dc=example,dc=com"),
+         userEntry);
+
+    syncConn.close();
+    lazyConn.close();
+    eagerConn.close();
+  }
+
+
+
+  /**
+   * Encodes the provided attributes as the value of an attribute list
+   * sequence.
+   *
+   * @param  attributes  The attributes to encode.
+   *
+   * @return  The encoded attribute list.
+   */
+  private static byte[] encode(final Iterable<Attribute> attributes)
+  {
+    final List<ASN1Element> elements = new ArrayList<>(10);
+    for (final Attribute a : attributes)
+    {
+      elements.add(a.encode());
+    }
+
+    return new ASN1Sequence(elements).getValue();
+  }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.protocol.LDAPMessage;
+import com.unboundid.ldap.protocol.ProtocolOp;
+import com.unboundid.ldap.sdk.controls.ManageDsaITRequestControl;
+import com.unboundid.ldap.sdk.controls.SubtreeDeleteRequestControl;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.StaticUtils;
+
+
+
+/**
+ * This class provides a set of test cases for the
+ * {@code PreEncodedRequestTemplate} class.
+ */
+public class PreEncodedRequestTemplateTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests a search request template without a parameter.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithoutParameter()
+         throws Exception
+  {
+    final SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB, "(uid=test.user)", "cn", "sn");
+    searchRequest.addControl(new ManageDsaITRequestControl());
+
+    final PreEncodedRequestTemplate<SearchRequest> template =
+         PreEncodedRequestTemplate.prepare(searchRequest);
+    assertFalse(template.hasParameter());
+    assertNotNull(template.toString());
+
+    // Changes to the original request must not affect the template.
+    searchRequest.setSizeLimit(1);
+    searchRequest.setAttributes("description");
+
+    final SearchRequest r = template.createRequest();
+    assertEquals(r.getFilter().toString(), "(uid=test.user)");
+    assertEquals(r.getSizeLimit(), 0);
+    assertEquals(r.getAttributeList(), Arrays.asList("cn", "sn"));
+    assertEquals(r.getControls().length, 1);
+    assertEncodedIdentically(r, template);
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      assertEquals(conn.search(template.createRequest()).getEntryCount(), 1);
+      assertEquals(conn.search(template.createRequest()).getEntryCount(), 1);
+    }
+
+    try
+    {
+      template.createRequest("test.user");
+      fail("Expected an exception when providing a parameter value for a " +
+           "template without a parameter");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests a search request template with a parameter in an equality filter
+   * nested inside other filter components.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithEqualityParameter()
+         throws Exception
+  {
+    final SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB,
+         "(&(objectClass=person)(!(cn=nobody))(|(uid=PLACEHOLDER)(sn=x)))",
+         "cn");
+    searchRequest.addControl(new ManageDsaITRequestControl());
+
+    final PreEncodedRequestTemplate<SearchRequest> template =
+         PreEncodedRequestTemplate.prepare(searchRequest, "PLACEHOLDER");
+    assertTrue(template.hasParameter());
+    assertNotNull(template.toString());
+
+    SearchRequest r = template.createRequest("test.user");
+    assertEquals(r.getFilter().toString(),
+         "(&(objectClass=person)(!(cn=nobody))(|(uid=test.user)(sn=x)))");
+    assertEncodedIdentically(r, template, "test.user");
+
+    // Use a value long enough to require a multi-byte length.
+    final char[] longValue = new char[70_000];
+    Arrays.fill(longValue, 'x');
+    r = template.createRequest(new String(longValue));
+    assertEncodedIdentically(r, template, new String(longValue));
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      assertEquals(
+           conn.search(template.createRequest("test.user")).getEntryCount(),
+           1);
+      assertEquals(
+           conn.search(template.createRequest("nobody")).getEntryCount(), 0);
+      assertEquals(conn.search(template.createRequest()).getEntryCount(), 0);
+
+      // Altering a request created from the template should cause it to be
+      // encoded in the usual way.
+      r = template.createRequest("nobody");
+      r.setFilter("(uid=test.user)");
+      assertEquals(conn.search(r).getEntryCount(), 1);
+    }
+  }
+
+
+
+  /**
+   * Tests search request templates with parameters in substring and extensible
+   * match filters.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithOtherParameterTypes()
+         throws Exception
+  {
+    final String[][] filters =
+    {
+      new String[] { "(cn=PH*)", "(cn=Test*)" },
+      new String[] { "(cn=a*PH*b)", "(cn=a*Test*b)" },
+      new String[] { "(cn=*PH)", "(cn=*Test)" },
+      new String[] { "(cn:caseIgnoreMatch:=PH)", "(cn:caseIgnoreMatch:=Test)" },
+      new String[] { "(cn>=PH)", "(cn>=Test)" },
+      new String[] { "(!(cn<=PH))", "(!(cn<=Test))" }
+    };
+
+    for (final String[] filterPair : filters)
+    {
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB, filterPair[0]);
+      final PreEncodedRequestTemplate<SearchRequest> template =
+           PreEncodedRequestTemplate.prepare(searchRequest, "PH");
+
+      final SearchRequest r = template.createRequest("Test");
+      assertEquals(r.getFilter(), Filter.create(filterPair[1]));
+      assertEncodedIdentically(r, template, "Test");
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when attempting to prepare search request templates
+   * with invalid placeholders.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithInvalidPlaceholders()
+         throws Exception
+  {
+    final String[][] invalidPairs =
+    {
+      // The placeholder does not appear in the filter.
+      new String[] { "(uid=test.user)", "PH" },
+
+      // The placeholder only appears as an attribute name.
+      new String[] { "(PH=*)", "PH" },
+
+      // The placeholder appears in more than one filter component.
+      new String[] { "(|(uid=PH)(cn=PH))", "PH" },
+
+      // The placeholder appears elsewhere in the encoded request.
+      new String[] { "(description=cn)", "cn" }
+    };
+
+    for (final String[] pair : invalidPairs)
+    {
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB, pair[0], "cn");
+      try
+      {
+        PreEncodedRequestTemplate.prepare(searchRequest, pair[1]);
+        fail("Expected an exception when preparing a template for filter " +
+             pair[0] + " with placeholder " + pair[1]);
+      }
+      catch (final LDAPException e)
+      {
+        assertEquals(e.getResultCode(), ResultCode.PARAM_ERROR);
+      }
+    }
+  }
+
+
+
+  /**
+   * Tests compare request templates.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCompare()
+         throws Exception
+  {
+    final CompareRequest compareRequest = new CompareRequest(
+         "uid=test.user,ou=People,dc=example,dc=com", "givenName", "PH");
+    compareRequest.addControl(new ManageDsaITRequestControl());
+
+    final PreEncodedRequestTemplate<CompareRequest> noParamTemplate =
+         PreEncodedRequestTemplate.prepare(compareRequest);
+    assertFalse(noParamTemplate.hasParameter());
+    assertEncodedIdentically(noParamTemplate.createRequest(), noParamTemplate);
+
+    final PreEncodedRequestTemplate<CompareRequest> template =
+         PreEncodedRequestTemplate.prepare(compareRequest, "PH");
+    assertTrue(template.hasParameter());
+
+    final CompareRequest r = template.createRequest("Test");
+    assertEquals(r.getAssertionValue(), "Test");
+    assertEncodedIdentically(r, template, "Test");
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      assertTrue(conn.compare(template.createRequest("Test")).compareMatched());
+      assertFalse(
+           conn.compare(template.createRequest("Other")).compareMatched());
+      assertFalse(conn.compare(noParamTemplate.createRequest()).
+           compareMatched());
+    }
+
+    try
+    {
+      PreEncodedRequestTemplate.prepare(compareRequest, "Test");
+      fail("Expected an exception for a placeholder that does not match the " +
+           "assertion value");
+    }
+    catch (final LDAPException e)
+    {
+      assertEquals(e.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+
+    try
+    {
+      PreEncodedRequestTemplate.prepare(
+           new CompareRequest("dc=example,dc=com", "PH", "PH"), "PH");
+      fail("Expected an exception for a placeholder that is also the " +
+           "attribute name");
+    }
+    catch (final LDAPException e)
+    {
+      assertEquals(e.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+  }
+
+
+
+  /**
+   * Tests simple bind request templates.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSimpleBind()
+         throws Exception
+  {
+    final String dn = "uid=test.user,ou=People,dc=example,dc=com";
+    final PreEncodedRequestTemplate<SimpleBindRequest> noParamTemplate =
+         PreEncodedRequestTemplate.prepare(
+              new SimpleBindRequest(dn, "password"));
+    assertFalse(noParamTemplate.hasParameter());
+    assertEncodedIdentically(noParamTemplate.createRequest(), noParamTemplate);
+
+    final PreEncodedRequestTemplate<SimpleBindRequest> template =
+         PreEncodedRequestTemplate.prepare(new SimpleBindRequest(dn, "PH"),
+              "PH");
+    assertTrue(template.hasParameter());
+
+    final SimpleBindRequest r = template.createRequest("password");
+    assertEquals(r.getPassword().stringValue(), "password");
+    assertEncodedIdentically(r, template, "password");
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      assertEquals(conn.bind(noParamTemplate.createRequest()).getResultCode(),
+           ResultCode.SUCCESS);
+      assertEquals(conn.bind(template.createRequest("password")).
+           getResultCode(), ResultCode.SUCCESS);
+
+      try
+      {
+        conn.bind(template.createRequest("wrong"));
+        fail("Expected an exception for a bind with the wrong password");
+      }
+      catch (final LDAPException e)
+      {
+        assertEquals(e.getResultCode(), ResultCode.INVALID_CREDENTIALS);
+      }
+    }
+
+    try
+    {
+      PreEncodedRequestTemplate.prepare(new SimpleBindRequest(dn,
+           new PasswordProvider()
+           {
+             private static final long serialVersionUID = 1L;
+
+             @Override()
+             public byte[] getPasswordBytes()
+             {
+               return StaticUtils.getBytes("password");
+             }
+           }));
+      fail("Expected an exception for a bind request with a password " +
+           "provider");
+    }
+    catch (final LDAPException e)
+    {
+      assertEquals(e.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+
+    try
+    {
+      PreEncodedRequestTemplate.prepare(new SimpleBindRequest(dn, "password"),
+           "PH");
+      fail("Expected an exception for a placeholder that does not match the " +
+           "password");
+    }
+    catch (final LDAPException e)
+    {
+      assertEquals(e.getResultCode(), ResultCode.PARAM_ERROR);
+    }
+  }
+
+
+
+  /**
+   * Tests that changing the controls of a request created from a template
+   * causes the request to be encoded in the usual way.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAlteredControls()
+         throws Exception
+  {
+    final PreEncodedRequestTemplate<SearchRequest> template =
+         PreEncodedRequestTemplate.prepare(new SearchRequest(
+              "dc=example,dc=com", SearchScope.SUB, "(uid=test.user)"));
+
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchRequest r = template.createRequest();
+      r.addControl(new SubtreeDeleteRequestControl(true));
+
+      try
+      {
+        conn.search(r);
+        fail("Expected an exception for an unsupported critical control");
+      }
+      catch (final LDAPException e)
+      {
+        assertEquals(e.getResultCode(),
+             ResultCode.UNAVAILABLE_CRITICAL_EXTENSION);
+      }
+    }
+  }
+
+
+
+  /**
+   * Ensures that the request created from a template without a parameter is
+   * encoded in exactly the same way as the request itself would be.
+   *
+   * @param  request   The request created from the template.
+   * @param  template  The template from which the request was created.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertEncodedIdentically(
+                           final LDAPRequest request,
+                           final PreEncodedRequestTemplate<?> template)
+          throws Exception
+  {
+    assertEncodedIdentically(request, template, null);
+  }
+
+
+
+  /**
+   * Ensures that the request created from a template is encoded in exactly
+   * the same way as the request itself would be.
+   *
+   * @param  request         The request created from the template.
+   * @param  template        The template from which the request was created.
+   * @param  parameterValue  The parameter value used to create the request, or
+   *                         {@code null} if there was none.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertEncodedIdentically(
+                           final LDAPRequest request,
+                           final PreEncodedRequestTemplate<?> template,
+                           final String parameterValue)
+          throws Exception
+  {
+    final ProtocolOp requestOp = (ProtocolOp) request;
+
+    final ASN1Buffer expectedBuffer = new ASN1Buffer();
+    new LDAPMessage(123, requestOp, request.getControls()).
+         writeTo(expectedBuffer);
+
+    PreEncodedProtocolOp op = template.getProtocolOp();
+    if (parameterValue != null)
+    {
+      op = op.withParameterValue(StaticUtils.getBytes(parameterValue));
+    }
+
+    final ASN1Buffer preEncodedBuffer = new ASN1Buffer();
+    new LDAPMessage(123, op).writeTo(preEncodedBuffer);
+
+    assertEquals(preEncodedBuffer.toByteArray(), expectedBuffer.toByteArray());
+    assertEquals(op.encodeProtocolOp().encode(),
+         requestOp.encodeProtocolOp().encode());
+  }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.
+            InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+
+
+
+/**
+ * This class provides a set of test cases for the methods used to process
+ * requests in a pipelined manner.
+ */
+public class ProcessRequestsPipelinedTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Retrieves a set of maximum outstanding request counts to use for testing.
+   *
+   * @return  A set of maximum outstanding request counts to use for testing.
+   */
+  @DataProvider(name="maxOutstanding")
+  public Object[][] getMaxOutstanding()
+  {
+    return new Object[][]
+    {
+      new Object[] { 1 },
+      new Object[] { 5 },
+      new Object[] { 1000 }
+    };
+  }
+
+
+
+  /**
+   * Tests the behavior when processing a mix of request types over a single
+   * connection.
+   *
+   * @param  maxOutstanding  The maximum number of outstanding requests.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="maxOutstanding")
+  public void testConnectionMixedRequests(final int maxOutstanding)
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+
+    final List<LDAPRequest> requests = new ArrayList<>(105);
+    for (int i=0; i < 100; i++)
+    {
+      requests.add(new AddRequest(
+           "dn: ou=test " + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: test " + i));
+    }
+
+    requests.add(new AddRequest(
+         "dn: ou=People,dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: organizationalUnit",
+         "ou: People"));
+    requests.add(new ModifyRequest(
+         "dn: uid=test.user,ou=People,dc=example,dc=com",
+         "changetype: modify",
+         "replace: description",
+         "description: foo"));
+    requests.add(new CompareRequest(
+         "uid=test.user,ou=People,dc=example,dc=com", "sn", "User"));
+    requests.add(new SearchRequest("ou=People,dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)"));
+    requests.add(new DeleteRequest("ou=missing,dc=example,dc=com"));
+
+    final List<LDAPResult> results =
+         conn.processRequestsPipelined(requests, maxOutstanding);
+    assertEquals(results.size(), requests.size());
+
+    for (int i=0; i < 100; i++)
+    {
+      assertResultCodeEquals(results.get(i), ResultCode.SUCCESS);
+      assertEquals(results.get(i).getMessageID(),
+           requests.get(i).getLastMessageID());
+    }
+
+    assertResultCodeEquals(results.get(100), ResultCode.ENTRY_ALREADY_EXISTS);
+    assertResultCodeEquals(results.get(101), ResultCode.SUCCESS);
+    assertResultCodeEquals(results.get(102), ResultCode.COMPARE_TRUE);
+
+    assertTrue(results.get(103) instanceof SearchResult);
+    final SearchResult searchResult = (SearchResult) results.get(103);
+    assertResultCodeEquals(searchResult, ResultCode.SUCCESS);
+    assertEquals(searchResult.getEntryCount(), 2);
+    assertNotNull(searchResult.getSearchEntries());
+    assertEquals(searchResult.getSearchEntries().size(), 2);
+
+    assertResultCodeEquals(results.get(104), ResultCode.NO_SUCH_OBJECT);
+
+    assertEntryExists(conn, "ou=test 99,dc=example,dc=com");
+    assertAttributeExists(conn, "uid=test.user,ou=People,dc=example,dc=com",
+         "description");
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when processing a search request that has a search
+   * result listener.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithListener()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+
+    final TestSearchResultListener listener = new TestSearchResultListener();
+    final List<LDAPRequest> requests = Arrays.<LDAPRequest>asList(
+         new SearchRequest(listener, "dc=example,dc=com", SearchScope.SUB,
+              "(objectClass=*)"),
+         new SearchRequest("dc=example,dc=com", SearchScope.BASE,
+              "(objectClass=*)"));
+
+    final List<LDAPResult> results = conn.processRequestsPipelined(requests, 2);
+    assertEquals(results.size(), 2);
+
+    final SearchResult listenerResult = (SearchResult) results.get(0);
+    assertResultCodeEquals(listenerResult, ResultCode.SUCCESS);
+    assertEquals(listenerResult.getEntryCount(), 3);
+    assertNull(listenerResult.getSearchEntries());
+    assertEquals(listener.getNumEntries(), 3);
+
+    final SearchResult collectedResult = (SearchResult) results.get(1);
+    assertResultCodeEquals(collectedResult, ResultCode.SUCCESS);
+    assertEquals(collectedResult.getEntryCount(), 1);
+    assertEquals(collectedResult.getSearchEntries().size(), 1);
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when processing requests over a connection that is not
+   * established.  Each request should have a failure result.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionNotEstablished()
+         throws Exception
+  {
+    final LDAPConnection conn = new LDAPConnection();
+
+    final List<LDAPRequest> requests = Arrays.<LDAPRequest>asList(
+         new DeleteRequest("ou=test,dc=example,dc=com"),
+         new SearchRequest("dc=example,dc=com", SearchScope.BASE,
+              "(objectClass=*)"));
+
+    final List<LDAPResult> results = conn.processRequestsPipelined(requests, 2);
+    assertEquals(results.size(), 2);
+    assertFalse(results.get(0).getResultCode().equals(ResultCode.SUCCESS));
+    assertTrue(results.get(1) instanceof SearchResult);
+    assertFalse(results.get(1).getResultCode().equals(ResultCode.SUCCESS));
+  }
+
+
+
+  /**
+   * Tests the behavior when the list of requests includes a request type that
+   * cannot be pipelined.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testUnsupportedRequestType()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+
+    try
+    {
+      conn.processRequestsPipelined(Arrays.<LDAPRequest>asList(
+           new DeleteRequest("ou=missing,dc=example,dc=com"),
+           new SimpleBindRequest("uid=test.user,ou=People,dc=example,dc=com",
+                "password")),
+           10);
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to pipeline requests over a connection
+   * operating in synchronous mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testSynchronousMode()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSynchronousMode(true);
+
+    final LDAPConnection conn = ds.getConnection(options);
+
+    try
+    {
+      conn.processRequestsPipelined(Arrays.<LDAPRequest>asList(
+           new DeleteRequest("ou=missing,dc=example,dc=com")), 10);
+    }
+    finally
+    {
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when processing requests through a connection pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnectionPool pool = ds.getConnectionPool(1);
+
+    final List<LDAPRequest> requests = new ArrayList<>(50);
+    for (int i=0; i < 50; i++)
+    {
+      requests.add(new CompareRequest(
+           "uid=test.user,ou=People,dc=example,dc=com", "uid",
+           ((i % 2) == 0) ? "test.user" : "other.user"));
+    }
+
+    final List<LDAPResult> results = pool.processRequestsPipelined(requests, 8);
+    assertEquals(results.size(), 50);
+    for (int i=0; i < 50; i++)
+    {
+      if ((i % 2) == 0)
+      {
+        assertResultCodeEquals(results.get(i), ResultCode.COMPARE_TRUE);
+      }
+      else
+      {
+        assertResultCodeEquals(results.get(i), ResultCode.COMPARE_FALSE);
+      }
+    }
+
+    assertEquals(pool.getCurrentAvailableConnections(), 1);
+    assertNotNull(pool.getRootDSE());
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that requests that are still outstanding are abandoned if
+   * the thread is interrupted while waiting for their results.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInterruptAbandonsOutstandingRequests()
+         throws Exception
+  {
+    final CountDownLatch searchReceived = new CountDownLatch(1);
+    final CountDownLatch releaseSearch = new CountDownLatch(1);
+
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor()
+    {
+      @Override()
+      public void processSearchRequest(
+                       final InMemoryInterceptedSearchRequest request)
+      {
+        if (request.getRequest().getBaseDN().equals("cn=slow"))
+        {
+          searchReceived.countDown();
+          try
+          {
+            releaseSearch.await(10L, TimeUnit.SECONDS);
+          }
+          catch (final InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    });
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final List<LDAPRequest> requests = Arrays.<LDAPRequest>asList(
+           new SearchRequest("cn=slow", SearchScope.BASE, "(objectClass=*)"),
+           new SearchRequest("cn=slow", SearchScope.BASE, "(objectClass=*)"));
+
+      final AtomicReference<Exception> caught = new AtomicReference<>();
+      final Thread t = new Thread(new Runnable()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            conn.processRequestsPipelined(requests, 2);
+          }
+          catch (final Exception e)
+          {
+            caught.set(e);
+          }
+        }
+      });
+      t.start();
+
+      assertTrue(searchReceived.await(10L, TimeUnit.SECONDS));
+      t.interrupt();
+      t.join(10_000L);
+      assertFalse(t.isAlive());
+
+      assertNotNull(caught.get());
+      assertTrue(caught.get() instanceof LDAPException);
+      assertEquals(conn.getConnectionStatistics().getNumAbandonRequests(),
+           2L);
+      assertEquals(conn.getActiveOperationCount(), 0);
+
+      releaseSearch.countDown();
+      assertNotNull(conn.getRootDSE());
+    }
+    finally
+    {
+      releaseSearch.countDown();
+      ds.shutDown(true);
+    }
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the response acceptor map.
+ */
+public final class ResponseAcceptorMapTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior for registering, retrieving, and removing
+   * acceptors that fit in the table.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testBasicOperations()
+         throws Exception
+  {
+    final ResponseAcceptorMap map = new ResponseAcceptorMap();
+    assertEquals(map.getTableSize(), ResponseAcceptorMap.DEFAULT_TABLE_SIZE);
+    assertEquals(map.size(), 0);
+    assertNull(map.get(1));
+    assertNull(map.remove(1));
+
+    final DeleteRequest a1 = new DeleteRequest("dc=example,dc=com");
+    final DeleteRequest a2 = new DeleteRequest("dc=example,dc=com");
+
+    assertNull(map.putIfAbsent(1, a1));
+    assertNull(map.putIfAbsent(2, a2));
+    assertEquals(map.size(), 2);
+    assertEquals(map.getOverflowSize(), 0);
+
+    assertSame(map.get(1), a1);
+    assertSame(map.get(2), a2);
+    assertNull(map.get(3));
+
+    // A duplicate registration should not replace the existing acceptor.
+    assertSame(map.putIfAbsent(1, a2), a1);
+    assertSame(map.get(1), a1);
+    assertEquals(map.size(), 2);
+
+    assertSame(map.remove(1), a1);
+    assertNull(map.remove(1));
+    assertNull(map.get(1));
+    assertSame(map.get(2), a2);
+    assertEquals(map.size(), 1);
+
+    // A message ID that maps to the same slot as a removed one should be able
+    // to reuse it.
+    assertNull(map.putIfAbsent(1 + map.getTableSize(), a1));
+    assertSame(map.get(1 + map.getTableSize()), a1);
+    assertNull(map.get(1));
+    assertEquals(map.getOverflowSize(), 0);
+
+    assertSame(map.remove(2), a2);
+    assertSame(map.remove(1 + map.getTableSize()), a1);
+    assertEquals(map.size(), 0);
+  }
+
+
+
+  /**
+   * Tests the behavior when there are more colliding message IDs than can be
+   * held in the table, so that some of them must be placed in the overflow
+   * map.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOverflow()
+         throws Exception
+  {
+    final ResponseAcceptorMap map = new ResponseAcceptorMap(4);
+    assertEquals(map.getTableSize(), 4);
+
+    final DeleteRequest acceptor = new DeleteRequest("dc=example,dc=com");
+    for (int i=1; i <= 20; i++)
+    {
+      assertNull(map.putIfAbsent(i, acceptor));
+    }
+
+    assertEquals(map.size(), 20);
+    assertEquals(map.getOverflowSize(), 16);
+
+    for (int i=1; i <= 20; i++)
+    {
+      assertSame(map.get(i), acceptor);
+      assertSame(map.putIfAbsent(i, acceptor), acceptor);
+    }
+
+    assertNull(map.get(21));
+
+    for (int i=20; i >= 1; i--)
+    {
+      assertSame(map.remove(i), acceptor);
+      assertNull(map.get(i));
+    }
+
+    assertEquals(map.size(), 0);
+    assertEquals(map.getOverflowSize(), 0);
+  }
+
+
+
+  /**
+   * Tests the behavior for message IDs that are not greater than zero, which
+   * must always be held in the overflow map.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNonPositiveMessageIDs()
+         throws Exception
+  {
+    final ResponseAcceptorMap map = new ResponseAcceptorMap();
+    final DeleteRequest acceptor = new DeleteRequest("dc=example,dc=com");
+
+    assertNull(map.putIfAbsent(0, acceptor));
+    assertNull(map.putIfAbsent(-1, acceptor));
+    assertNull(map.putIfAbsent(-2, acceptor));
+    assertEquals(map.size(), 3);
+    assertEquals(map.getOverflowSize(), 3);
+
+    assertSame(map.get(0), acceptor);
+    assertSame(map.get(-1), acceptor);
+    assertSame(map.get(-2), acceptor);
+
+    assertSame(map.remove(-1), acceptor);
+    assertNull(map.get(-1));
+    assertSame(map.get(-2), acceptor);
+    assertEquals(map.size(), 2);
+  }
+
+
+
+  /**
+   * Tests the behavior of the method used to remove all acceptors.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testRemoveAll()
+         throws Exception
+  {
+    final ResponseAcceptorMap map = new ResponseAcceptorMap(8);
+    assertTrue(map.removeAll().isEmpty());
+
+    final Set<ResponseAcceptor> expected = new HashSet<>(50);
+    for (int i=1; i <= 50; i++)
+    {
+      final DeleteRequest acceptor = new DeleteRequest("dc=example,dc=com");
+      expected.add(acceptor);
+      assertNull(map.putIfAbsent(i, acceptor));
+    }
+
+    assertEquals(map.size(), 50);
+    assertTrue(map.getOverflowSize() > 0);
+
+    final List<ResponseAcceptor> removed = map.removeAll();
+    assertEquals(removed.size(), 50);
+    assertTrue(expected.equals(new HashSet<>(removed)));
+
+    assertEquals(map.size(), 0);
+    assertEquals(map.getOverflowSize(), 0);
+    for (int i=1; i <= 50; i++)
+    {
+      assertNull(map.get(i));
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when multiple threads register and remove acceptors
+   * concurrently.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConcurrentAccess()
+         throws Exception
+  {
+    final ResponseAcceptorMap map = new ResponseAcceptorMap(16);
+    final Thread[] threads = new Thread[8];
+    final Throwable[] failures = new Throwable[threads.length];
+    for (int t=0; t < threads.length; t++)
+    {
+      final int threadNum = t;
+      threads[t] = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            final DeleteRequest acceptor =
+                 new DeleteRequest("dc=example,dc=com");
+            for (int i=0; i < 10_000; i++)
+            {
+              final int messageID = (i * threads.length) + threadNum + 1;
+              assertNull(map.putIfAbsent(messageID, acceptor));
+              assertSame(map.get(messageID), acceptor);
+              assertSame(map.remove(messageID), acceptor);
+            }
+          }
+          catch (final Throwable e)
+          {
+            failures[threadNum] = e;
+          }
+        }
+      };
+    }
+
+    for (final Thread thread : threads)
+    {
+      thread.start();
+    }
+
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    for (final Throwable failure : failures)
+    {
+      assertNull(failure);
+    }
+
+    assertEquals(map.size(), 0);
+    assertEquals(map.getOverflowSize(), 0);
+  }
+}
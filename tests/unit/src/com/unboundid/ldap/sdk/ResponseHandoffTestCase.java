@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import org.testng.annotations.Test;
+
+
+
+/**
+ * This class provides a set of test cases for the response handoff.
+ */
+public final class ResponseHandoffTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests that a handoff is reused by the same thread once it has been
+   * released, and that a new one is provided while it is still in use.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAcquireAndRelease()
+         throws Exception
+  {
+    final ResponseHandoff h1 = ResponseHandoff.acquire();
+    final ResponseHandoff h2 = ResponseHandoff.acquire();
+    assertNotSame(h2, h1);
+    h2.release();
+    h1.release();
+
+    final ResponseHandoff h3 = ResponseHandoff.acquire();
+    assertSame(h3, h1);
+    h3.release();
+  }
+
+
+
+  /**
+   * Tests that a handoff only accepts the expected response.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testOffer()
+         throws Exception
+  {
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    try
+    {
+      final LDAPResult result = new LDAPResult(5, ResultCode.SUCCESS);
+
+      // Nothing should be accepted before a message ID is expected.
+      assertFalse(handoff.offer(result));
+
+      handoff.expect(5);
+      assertFalse(handoff.offer(new LDAPResult(4, ResultCode.SUCCESS)));
+      assertTrue(handoff.offer(result));
+      assertFalse(handoff.offer(result));
+      assertSame(handoff.await(1000L), result);
+
+      handoff.expect(6);
+      final ConnectionClosedResponse closedResponse =
+           new ConnectionClosedResponse(ResultCode.SERVER_DOWN, null);
+      assertTrue(handoff.offer(closedResponse));
+      assertSame(handoff.await(0L), closedResponse);
+    }
+    finally
+    {
+      handoff.release();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when waiting for a response that is provided by a
+   * different thread, and when the wait times out.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAwait()
+         throws Exception
+  {
+    final ResponseHandoff handoff = ResponseHandoff.acquire();
+    try
+    {
+      handoff.expect(7);
+      assertNull(handoff.await(10L));
+
+      // A handoff stops expecting a response once a wait has completed, even
+      // if it timed out.
+      assertFalse(handoff.offer(new LDAPResult(7, ResultCode.SUCCESS)));
+      handoff.expect(7);
+
+      final LDAPResult result = new LDAPResult(7, ResultCode.SUCCESS);
+      final Thread thread = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          try
+          {
+            Thread.sleep(50L);
+          }
+          catch (final InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+
+          handoff.offer(result);
+        }
+      };
+
+      thread.start();
+      assertSame(handoff.await(0L), result);
+      thread.join();
+    }
+    finally
+    {
+      handoff.release();
+    }
+  }
+}
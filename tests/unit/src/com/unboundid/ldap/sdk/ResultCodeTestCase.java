@@ -309,6 +309,7 @@ public class ResultCodeTestCase
       new Object[] { ResultCode.MORE_RESULTS_TO_RETURN, true, true },
       new Object[] { ResultCode.CLIENT_LOOP, true, true },
       new Object[] { ResultCode.REFERRAL_LIMIT_EXCEEDED, true, true },
+      new Object[] { ResultCode.CIRCUIT_BREAKER_OPEN, true, true },
       new Object[] { ResultCode.CANCELED, false, true },
       new Object[] { ResultCode.NO_SUCH_OPERATION, false, true },
       new Object[] { ResultCode.TOO_LATE, false, true },
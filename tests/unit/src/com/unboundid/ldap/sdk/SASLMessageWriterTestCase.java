@@ -0,0 +1,326 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import javax.security.sasl.Sasl;
+import javax.security.sasl.SaslClient;
+import javax.security.sasl.SaslException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1Buffer;
+import com.unboundid.asn1.ASN1Element;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.asn1.InternalASN1Helper;
+
+
+
+/**
+ * This class provides a set of test cases for the SASL message writer and for
+ * reading SASL-wrapped data with an ASN.1 stream reader.
+ */
+public final class SASLMessageWriterTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Retrieves a set of test data for the raw send size to use and the size of
+   * the value to write.
+   *
+   * @return  A set of test data.
+   */
+  @DataProvider(name="sizes")
+  public Object[][] getSizes()
+  {
+    return new Object[][]
+    {
+      new Object[] { null, 10 },
+      new Object[] { null, 100_000 },
+      new Object[] { "0", 5_000 },
+      new Object[] { "invalid", 5_000 },
+      new Object[] { "1024", 10 },
+      new Object[] { "1024", 1_017 },
+      new Object[] { "1024", 1_024 },
+      new Object[] { "1024", 100_000 },
+      new Object[] { "7", 1_000 }
+    };
+  }
+
+
+
+  /**
+   * Tests writing wrapped data and reading it back.
+   *
+   * @param  rawSendSize  The raw send size that the SASL client should report.
+   * @param  valueSize    The size of the value to write.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(dataProvider="sizes")
+  public void testWriteAndRead(final String rawSendSize, final int valueSize)
+         throws Exception
+  {
+    final byte[] value = new byte[valueSize];
+    for (int i=0; i < value.length; i++)
+    {
+      value[i] = (byte) i;
+    }
+
+    final TestSaslClient writeClient = new TestSaslClient(rawSendSize);
+    final SASLMessageWriter writer = new SASLMessageWriter(writeClient);
+
+    int expectedMaxRawSendSize = 0;
+    try
+    {
+      expectedMaxRawSendSize = Math.max(0, Integer.parseInt(rawSendSize));
+    }
+    catch (final Exception e)
+    {
+      // This is expected for the null and invalid cases.
+    }
+    assertEquals(writer.getMaxRawSendSize(), expectedMaxRawSendSize);
+
+    final ASN1Buffer buffer = new ASN1Buffer();
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    for (int i=0; i < 3; i++)
+    {
+      buffer.clear();
+      buffer.addOctetString(value);
+      writer.write(buffer, outputStream);
+    }
+
+    final int encodedLength = new ASN1OctetString(value).encode().length;
+    final byte[] wrappedData = outputStream.toByteArray();
+
+    // Make sure that the data was split into packets of the appropriate size.
+    int pos = 0;
+    int numPackets = 0;
+    while (pos < wrappedData.length)
+    {
+      final int packetLength = ((wrappedData[pos] & 0xFF) << 24) |
+           ((wrappedData[pos+1] & 0xFF) << 16) |
+           ((wrappedData[pos+2] & 0xFF) << 8) |
+           (wrappedData[pos+3] & 0xFF);
+      if (expectedMaxRawSendSize > 0)
+      {
+        assertTrue(packetLength <= (expectedMaxRawSendSize + 1));
+      }
+
+      pos += (4 + packetLength);
+      numPackets++;
+    }
+    assertEquals(pos, wrappedData.length);
+
+    if (expectedMaxRawSendSize > 0)
+    {
+      final int packetsPerMessage =
+           (encodedLength + expectedMaxRawSendSize - 1) /
+                expectedMaxRawSendSize;
+      assertEquals(numPackets, (3 * packetsPerMessage));
+    }
+    else
+    {
+      assertEquals(numPackets, 3);
+    }
+
+    // Make sure that the data can be unwrapped and read back.
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(wrappedData), 0);
+    InternalASN1Helper.setSASLClient(reader, new TestSaslClient(null));
+    for (int i=0; i < 3; i++)
+    {
+      final ASN1Element element = reader.readElement();
+      assertNotNull(element);
+      assertTrue(Arrays.equals(element.getValue(), value));
+    }
+
+    assertNull(reader.readElement());
+    reader.close();
+  }
+
+
+
+  /**
+   * This class provides a simple SASL client that transforms the data that it
+   * wraps and includes a sequence number in each packet so that it is possible
+   * to detect packets that are processed out of order.
+   */
+  private static final class TestSaslClient
+          implements SaslClient
+  {
+    // The raw send size to report.
+    private final String rawSendSize;
+
+    // The sequence number for the next packet to wrap.
+    private byte wrapSequence;
+
+    // The sequence number for the next packet to unwrap.
+    private byte unwrapSequence;
+
+
+
+    /**
+     * Creates a new instance of this SASL client.
+     *
+     * @param  rawSendSize  The raw send size to report.
+     */
+    private TestSaslClient(final String rawSendSize)
+    {
+      this.rawSendSize = rawSendSize;
+      wrapSequence = 0;
+      unwrapSequence = 0;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public String getMechanismName()
+    {
+      return "TEST";
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean hasInitialResponse()
+    {
+      return false;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public byte[] evaluateChallenge(final byte[] challenge)
+    {
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public boolean isComplete()
+    {
+      return true;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public byte[] wrap(final byte[] outgoing, final int offset, final int len)
+    {
+      final byte[] b = new byte[len + 1];
+      b[0] = wrapSequence++;
+      for (int i=0; i < len; i++)
+      {
+        b[i+1] = (byte) (outgoing[offset+i] ^ 0x5A);
+      }
+      return b;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public byte[] unwrap(final byte[] incoming, final int offset, final int len)
+           throws SaslException
+    {
+      if (incoming[offset] != unwrapSequence++)
+      {
+        throw new SaslException("Unexpected sequence number");
+      }
+
+      final byte[] b = new byte[len - 1];
+      for (int i=0; i < b.length; i++)
+      {
+        b[i] = (byte) (incoming[offset+i+1] ^ 0x5A);
+      }
+      return b;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public Object getNegotiatedProperty(final String propName)
+    {
+      if (propName.equals(Sasl.RAW_SEND_SIZE))
+      {
+        return rawSendSize;
+      }
+      else if (propName.equals(Sasl.MAX_BUFFER))
+      {
+        return "1024";
+      }
+      return null;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void dispose()
+    {
+      // No implementation required.
+    }
+  }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
+
+
+
+/**
+ * This class provides a set of test cases for the search result entry
+ * publisher.
+ */
+public class SearchResultEntryPublisherTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * The number of entries that will be held in the test server.
+   */
+  private static final int NUM_ENTRIES = 26;
+
+
+
+  // The in-memory directory server used for testing.
+  private InMemoryDirectoryServer ds;
+
+
+
+  /**
+   * Creates and populates the in-memory directory server used for testing.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+         throws Exception
+  {
+    ds = new InMemoryDirectoryServer("dc=example,dc=com");
+    ds.startListening();
+    ds.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+
+    for (int i=1; i < NUM_ENTRIES; i++)
+    {
+      ds.add(
+           "dn: ou=test" + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: test" + i);
+    }
+  }
+
+
+
+  /**
+   * Shuts down the in-memory directory server used for testing.
+   */
+  @AfterClass()
+  public void tearDown()
+  {
+    ds.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the behavior of a publisher that uses the simple paged results
+   * control, ensuring that pages are only requested as entries are demanded.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPagedResults()
+         throws Exception
+  {
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, new SearchRequest(
+                "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)"),
+                true, 5);
+      assertNotNull(publisher.getConnection());
+      assertNotNull(publisher.getSearchRequest());
+      assertTrue(publisher.usePagedResults());
+      assertEquals(publisher.getPageSize(), 5);
+      assertNotNull(publisher.toString());
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+      assertNotNull(subscriber.subscription);
+      assertEquals(conn.getConnectionStatistics().getNumSearchRequests(), 0L);
+
+      subscriber.subscription.request(3L);
+      for (int i=0; i < 3; i++)
+      {
+        assertNotNull(subscriber.entries.poll(10L, TimeUnit.SECONDS));
+      }
+
+      Thread.sleep(100L);
+      assertTrue(subscriber.entries.isEmpty());
+      assertEquals(conn.getConnectionStatistics().getNumSearchRequests(), 1L);
+
+      subscriber.subscription.request(2L);
+      for (int i=0; i < 2; i++)
+      {
+        assertNotNull(subscriber.entries.poll(10L, TimeUnit.SECONDS));
+      }
+
+      Thread.sleep(100L);
+      assertTrue(subscriber.entries.isEmpty());
+      assertEquals(conn.getConnectionStatistics().getNumSearchRequests(), 1L);
+
+      subscriber.subscription.request(Long.MAX_VALUE);
+      subscriber.subscription.request(Long.MAX_VALUE);
+      assertTrue(subscriber.done.await(10L, TimeUnit.SECONDS));
+      assertNull(subscriber.error);
+      assertNotNull(subscriber.result);
+      assertResultCodeEquals(subscriber.result, ResultCode.SUCCESS);
+      assertEquals(subscriber.result.getEntryCount(), NUM_ENTRIES);
+      assertEquals(subscriber.entries.size(), NUM_ENTRIES - 5);
+      assertTrue(conn.getConnectionStatistics().getNumSearchRequests() >= 6L);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of a publisher that does not use paged results and
+   * instead blocks the reader for a dedicated connection when the buffer is
+   * full.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWithoutPagedResults()
+         throws Exception
+  {
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchRequest searchRequest = new SearchRequest(
+           "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)");
+      searchRequest.addControl(new SimplePagedResultsControl(1000));
+
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, searchRequest, false, 2);
+      assertFalse(publisher.usePagedResults());
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+
+      subscriber.subscription.request(1L);
+      assertNotNull(subscriber.entries.poll(10L, TimeUnit.SECONDS));
+
+      // The buffer is now full, but that must not prevent the provided
+      // connection from being used for other operations.
+      assertNotNull(conn.getRootDSE());
+
+      for (int i=1; i < NUM_ENTRIES; i++)
+      {
+        subscriber.subscription.request(1L);
+        assertNotNull(subscriber.entries.poll(10L, TimeUnit.SECONDS));
+      }
+
+      subscriber.subscription.request(1L);
+      assertTrue(subscriber.done.await(10L, TimeUnit.SECONDS));
+      assertNull(subscriber.error);
+      assertEquals(subscriber.result.getEntryCount(), NUM_ENTRIES);
+      assertEquals(conn.getConnectionStatistics().getNumSearchRequests(), 1L);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscription is cancelled before all entries
+   * have been delivered.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCancel()
+         throws Exception
+  {
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, new SearchRequest(
+                "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)"),
+                true, 5);
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+
+      subscriber.subscription.request(5L);
+      for (int i=0; i < 5; i++)
+      {
+        assertNotNull(subscriber.entries.poll(10L, TimeUnit.SECONDS));
+      }
+
+      subscriber.subscription.cancel();
+      subscriber.subscription.cancel();
+      subscriber.subscription.request(100L);
+
+      Thread.sleep(100L);
+      assertTrue(subscriber.entries.isEmpty());
+      assertEquals(subscriber.done.getCount(), 1L);
+      assertNotNull(conn.getRootDSE());
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the subscriber requests an invalid number of
+   * entries.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidDemand()
+         throws Exception
+  {
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, new SearchRequest(
+                "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)"));
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+      subscriber.subscription.request(0L);
+
+      assertTrue(subscriber.done.await(10L, TimeUnit.SECONDS));
+      assertTrue(subscriber.error instanceof IllegalArgumentException);
+      assertNull(subscriber.result);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when the search fails.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchFailure()
+         throws Exception
+  {
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, new SearchRequest(
+                "ou=missing,dc=example,dc=com", SearchScope.SUB,
+                "(objectClass=*)"));
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+      subscriber.subscription.request(10L);
+
+      assertTrue(subscriber.done.await(10L, TimeUnit.SECONDS));
+      assertTrue(subscriber.error instanceof LDAPSearchException);
+      assertEquals(((LDAPSearchException) subscriber.error).getResultCode(),
+           ResultCode.NO_SUCH_OBJECT);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a search request with a listener is rejected.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testRequestWithListener()
+         throws Exception
+  {
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      new SearchResultEntryPublisher(conn, new SearchRequest(
+           new TestSearchResultListener(), "dc=example,dc=com",
+           SearchScope.SUB, "(objectClass=*)"));
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a search request with the simple paged results
+   * control is rejected when paging is to be used.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPException.class })
+  public void testRequestWithPagedResultsControl()
+         throws Exception
+  {
+    final SearchRequest searchRequest = new SearchRequest("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)");
+    searchRequest.addControl(new SimplePagedResultsControl(10));
+
+    try (LDAPConnection conn = ds.getConnection())
+    {
+      new SearchResultEntryPublisher(conn, searchRequest);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a publisher that does not use paged results can be
+   * used with a connection configured to use a shared selector reader, since
+   * the search is processed on a dedicated connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWithoutPagedResultsSelectorReader()
+         throws Exception
+  {
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+
+    try (LDAPConnection conn = ds.getConnection(options))
+    {
+      assertTrue(conn.usesSelectorReader());
+
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, new SearchRequest(
+                "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)"),
+                false, 1);
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+
+      subscriber.subscription.request(1L);
+      assertNotNull(subscriber.entries.poll(10L, TimeUnit.SECONDS));
+      assertNotNull(conn.getRootDSE());
+
+      subscriber.subscription.request(Long.MAX_VALUE);
+      assertTrue(subscriber.done.await(10L, TimeUnit.SECONDS));
+      assertNull(subscriber.error);
+      assertEquals(subscriber.result.getEntryCount(), NUM_ENTRIES);
+      assertEquals(conn.getConnectionStatistics().getNumSearchRequests(), 1L);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a search that does not use paged results fails if
+   * the provided connection is not established.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWithoutPagedResultsNotConnected()
+         throws Exception
+  {
+    try (LDAPConnection conn = new LDAPConnection())
+    {
+      final SearchResultEntryPublisher publisher =
+           new SearchResultEntryPublisher(conn, new SearchRequest(
+                "dc=example,dc=com", SearchScope.SUB, "(objectClass=*)"),
+                false, 10);
+
+      final TestSubscriber subscriber = new TestSubscriber();
+      publisher.subscribe(subscriber);
+      subscriber.subscription.request(10L);
+
+      assertTrue(subscriber.done.await(10L, TimeUnit.SECONDS));
+      assertTrue(subscriber.error instanceof LDAPSearchException);
+      assertEquals(((LDAPSearchException) subscriber.error).getResultCode(),
+           ResultCode.SERVER_DOWN);
+    }
+  }
+
+
+
+  /**
+   * A subscriber that records everything it receives.
+   */
+  private static final class TestSubscriber
+          implements SearchResultEntrySubscriber
+  {
+    // The latch that will be released when the search completes.
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    // The entries that have been received.
+    private final LinkedBlockingQueue<SearchResultEntry> entries =
+         new LinkedBlockingQueue<>();
+
+    // The search result, if the search completed successfully.
+    private volatile SearchResult result;
+
+    // The subscription provided to this subscriber.
+    private volatile SearchResultEntrySubscription subscription;
+
+    // The error, if the search failed.
+    private volatile Throwable error;
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onSubscribe(final SearchResultEntrySubscription subscription)
+    {
+      this.subscription = subscription;
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onNext(final SearchResultEntry entry)
+    {
+      entries.add(entry);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onError(final Throwable error)
+    {
+      this.error = error;
+      done.countDown();
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void onComplete(final SearchResult searchResult)
+    {
+      result = searchResult;
+      done.countDown();
+    }
+  }
+}
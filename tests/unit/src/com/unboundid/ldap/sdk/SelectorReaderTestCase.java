@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.sdk.extensions.StartTLSExtendedRequest;
+import com.unboundid.util.ssl.KeyStoreKeyManager;
+import com.unboundid.util.ssl.SSLUtil;
+import com.unboundid.util.ssl.TrustAllTrustManager;
+
+
+
+/**
+ * This class provides a set of test cases which may be used to test the
+ * behavior of LDAP connections that use a shared selector-based reader rather
+ * than a dedicated reader thread.
+ */
+public class SelectorReaderTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when processing a variety of synchronous operations
+   * over a connection that uses a selector reader.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSynchronousOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+
+    final LDAPConnection conn = ds.getConnection(options);
+    final LDAPConnectionReader reader =
+         conn.getConnectionInternals(true).getConnectionReader();
+    assertTrue(reader.usesSelectorReader());
+    assertNull(reader.getReaderThread());
+
+    assertResultCodeEquals(
+         conn.bind("uid=test.user,ou=People,dc=example,dc=com", "password"),
+         ResultCode.SUCCESS);
+
+    for (int i=0; i < 100; i++)
+    {
+      conn.add(
+           "dn: ou=test " + i + ",dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: organizationalUnit",
+           "ou: test " + i,
+           "description: " + new String(new char[i * 100]).replace('\0', 'x'));
+    }
+
+    final SearchResult searchResult = conn.search("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)");
+    assertEquals(searchResult.getEntryCount(), 103);
+
+    for (int i=0; i < 100; i++)
+    {
+      conn.delete("ou=test " + i + ",dc=example,dc=com");
+    }
+
+    assertEntryMissing(conn, "ou=test 0,dc=example,dc=com");
+
+    assertTrue(reader.usesSelectorReader());
+    assertNull(reader.getReaderThread());
+    conn.close();
+    assertFalse(reader.usesSelectorReader());
+  }
+
+
+
+  /**
+   * Tests the behavior when processing a number of concurrent asynchronous
+   * operations over a connection that uses a selector reader.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testAsynchronousOperations()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+
+    final LDAPConnection conn = ds.getConnection(options);
+    assertTrue(conn.getConnectionInternals(true).getConnectionReader().
+         usesSelectorReader());
+
+    final List<AsyncRequestID> requestIDs = new ArrayList<>(50);
+    for (int i=0; i < 50; i++)
+    {
+      requestIDs.add(conn.asyncCompare(new CompareRequest(
+           "uid=test.user,ou=People,dc=example,dc=com", "sn", "User"),
+           null));
+    }
+
+    for (final AsyncRequestID requestID : requestIDs)
+    {
+      assertResultCodeEquals(requestID.get(), ResultCode.COMPARE_TRUE);
+    }
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when multiple connections share the selector reader
+   * threads through a connection pool.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionPool()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+
+    final LDAPConnectionPool pool = new LDAPConnectionPool(
+         new SingleServerSet("localhost", ds.getListenPort(), options), null,
+         10, 10);
+
+    final List<LDAPConnection> connections = new ArrayList<>(10);
+    for (int i=0; i < 10; i++)
+    {
+      final LDAPConnection conn = pool.getConnection();
+      assertTrue(conn.getConnectionInternals(true).getConnectionReader().
+           usesSelectorReader());
+      connections.add(conn);
+    }
+
+    for (final LDAPConnection conn : connections)
+    {
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+      pool.releaseConnection(conn);
+    }
+
+    assertNotNull(pool.getRootDSE());
+    pool.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when using StartTLS over a connection that uses a
+   * selector reader.  The connection should be migrated to a dedicated
+   * reader thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStartTLS()
+         throws Exception
+  {
+    final File resourceDir = new File(System.getProperty("unit.resource.dir"));
+    final File serverKeyStore = new File(resourceDir, "server.keystore");
+    final SSLUtil serverSSLUtil = new SSLUtil(
+         new KeyStoreKeyManager(serverKeyStore, "password".toCharArray(),
+              "JKS", "server-cert"),
+         new TrustAllTrustManager());
+
+    final InMemoryDirectoryServerConfig cfg =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    cfg.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig(
+         "WithStartTLS", null, 0, serverSSLUtil.createSSLSocketFactory()));
+
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(cfg);
+    ds.startListening();
+
+    try
+    {
+      ds.add(
+           "dn: dc=example,dc=com",
+           "objectClass: top",
+           "objectClass: domain",
+           "dc: example");
+
+      final LDAPConnectionOptions options = new LDAPConnectionOptions();
+      options.setUseSelectorReader(true);
+
+      final LDAPConnection conn = new LDAPConnection(options, "localhost",
+           ds.getListenPort("WithStartTLS"));
+      final LDAPConnectionReader reader =
+           conn.getConnectionInternals(true).getConnectionReader();
+      assertTrue(reader.usesSelectorReader());
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+
+      final SSLUtil clientSSLUtil = new SSLUtil(new TrustAllTrustManager());
+      final ExtendedResult startTLSResult = conn.processExtendedOperation(
+           new StartTLSExtendedRequest(
+                clientSSLUtil.createSSLSocketFactory()));
+      assertResultCodeEquals(startTLSResult, ResultCode.SUCCESS);
+
+      assertFalse(reader.usesSelectorReader());
+      assertNotNull(conn.getEntry("dc=example,dc=com"));
+      assertNotNull(reader.getReaderThread());
+
+      conn.close();
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that a connection using a selector reader will detect
+   * when the server closes the connection.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testServerClosesConnection()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = new InMemoryDirectoryServer(
+         new InMemoryDirectoryServerConfig("dc=example,dc=com"));
+    ds.startListening();
+
+    try
+    {
+      final LDAPConnectionOptions options = new LDAPConnectionOptions();
+      options.setUseSelectorReader(true);
+
+      final LDAPConnection conn = ds.getConnection(options);
+      assertTrue(conn.isConnected());
+      assertNotNull(conn.getRootDSE());
+
+      ds.shutDown(true);
+
+      final long stopWaitingTime = System.currentTimeMillis() + 10_000L;
+      while (conn.isConnected() &&
+           (System.currentTimeMillis() < stopWaitingTime))
+      {
+        Thread.sleep(10L);
+      }
+
+      assertFalse(conn.isConnected());
+      assertNotNull(conn.getDisconnectType());
+      conn.close();
+    }
+    finally
+    {
+      ds.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests to ensure that the selector reader option is ignored for
+   * connections operating in synchronous mode.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIgnoredInSynchronousMode()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+    options.setUseSynchronousMode(true);
+
+    final LDAPConnection conn = ds.getConnection(options);
+    assertFalse(conn.getConnectionInternals(true).getConnectionReader().
+         usesSelectorReader());
+    assertNotNull(conn.getEntry("dc=example,dc=com"));
+    conn.close();
+  }
+}
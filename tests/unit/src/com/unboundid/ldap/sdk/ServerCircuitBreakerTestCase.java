@@ -0,0 +1,471 @@
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2013-2025 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2013-2025 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.Collections;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.
+            InMemoryInterceptedCompareRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.ObjectPair;
+
+
+
+/**
+ * This class provides a set of test cases for the server circuit breaker.
+ */
+public final class ServerCircuitBreakerTestCase
+       extends LDAPSDKTestCase
+{
+  // A directory server instance that will reject compare requests with a
+  // result code of busy.
+  private InMemoryDirectoryServer busyDS = null;
+
+  // A directory server instance that will respond normally.
+  private InMemoryDirectoryServer healthyDS = null;
+
+
+
+  /**
+   * Prepares a couple of directory server instances to use in the testing.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @BeforeClass()
+  public void setUp()
+       throws Exception
+  {
+    final InMemoryDirectoryServerConfig busyConfig =
+         new InMemoryDirectoryServerConfig("dc=example,dc=com");
+    busyConfig.addInMemoryOperationInterceptor(
+         new InMemoryOperationInterceptor()
+         {
+           @Override()
+           public void processCompareRequest(
+                            final InMemoryInterceptedCompareRequest request)
+                  throws LDAPException
+           {
+             throw new LDAPException(ResultCode.BUSY);
+           }
+         });
+
+    busyDS = new InMemoryDirectoryServer(busyConfig);
+    busyDS.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    busyDS.startListening();
+
+    healthyDS = new InMemoryDirectoryServer("dc=example,dc=com");
+    healthyDS.add(
+         "dn: dc=example,dc=com",
+         "objectClass: top",
+         "objectClass: domain",
+         "dc: example");
+    healthyDS.startListening();
+  }
+
+
+
+  /**
+   * Cleans up after testing has completed.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @AfterClass()
+  public void cleanUp()
+       throws Exception
+  {
+    busyDS.shutDown(true);
+    healthyDS.shutDown(true);
+  }
+
+
+
+  /**
+   * Tests the behavior of a circuit breaker created with the default settings.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDefaultSettings()
+       throws Exception
+  {
+    final ServerCircuitBreaker cb = new ServerCircuitBreaker();
+
+    assertEquals(cb.getWindowSize(),
+         ServerCircuitBreaker.DEFAULT_WINDOW_SIZE);
+    assertEquals(cb.getFailureRateThreshold(),
+         ServerCircuitBreaker.DEFAULT_FAILURE_RATE_THRESHOLD);
+    assertEquals(cb.getOpenDurationMillis(),
+         ServerCircuitBreaker.DEFAULT_OPEN_DURATION_MILLIS);
+    assertEquals(cb.getHalfOpenMaxRequests(),
+         ServerCircuitBreaker.DEFAULT_HALF_OPEN_MAX_REQUESTS);
+
+    assertNotNull(cb.getFailureResultCodes());
+    assertTrue(cb.getFailureResultCodes().contains(ResultCode.BUSY));
+    assertTrue(cb.getFailureResultCodes().contains(ResultCode.UNAVAILABLE));
+    assertTrue(cb.getFailureResultCodes().contains(ResultCode.TIMEOUT));
+    assertFalse(cb.getFailureResultCodes().contains(ResultCode.SUCCESS));
+    assertFalse(cb.getFailureResultCodes().contains(
+         ResultCode.NO_SUCH_OBJECT));
+
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.CLOSED);
+    assertFalse(cb.isOpen("localhost", 389));
+    assertTrue(cb.getOpenServers().isEmpty());
+    assertTrue(cb.allowRequest("localhost", 389));
+
+    assertNotNull(cb.toString());
+  }
+
+
+
+  /**
+   * Tests to ensure that invalid settings are rejected.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInvalidSettings()
+       throws Exception
+  {
+    try
+    {
+      new ServerCircuitBreaker(0, 0.5d, 1000L, 1);
+      fail("Expected an exception with a window size of zero");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ServerCircuitBreaker(10, 0.0d, 1000L, 1);
+      fail("Expected an exception with a failure rate threshold of zero");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ServerCircuitBreaker(10, 1.5d, 1000L, 1);
+      fail("Expected an exception with a failure rate threshold above one");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ServerCircuitBreaker(10, 0.5d, 0L, 1);
+      fail("Expected an exception with an open duration of zero");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ServerCircuitBreaker(10, 0.5d, 1000L, 0);
+      fail("Expected an exception with no half-open requests");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+
+    try
+    {
+      new ServerCircuitBreaker(10, 0.5d, 1000L, 1,
+           Collections.<ResultCode>emptySet());
+      fail("Expected an exception with no failure result codes");
+    }
+    catch (final LDAPSDKUsageException e)
+    {
+      // This was expected.
+    }
+  }
+
+
+
+  /**
+   * Tests the transitions between the circuit states.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStateTransitions()
+       throws Exception
+  {
+    final ServerCircuitBreaker cb = new ServerCircuitBreaker(4, 0.5d, 50L, 2);
+
+    // Successes alone should never cause a server to be tracked.
+    for (int i=0; i < 10; i++)
+    {
+      cb.recordOutcome("localhost", 389, ResultCode.SUCCESS);
+    }
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.CLOSED);
+
+    // The circuit should not open until the window is full.
+    cb.recordOutcome("localhost", 389, ResultCode.BUSY);
+    cb.recordOutcome("localhost", 389, ResultCode.BUSY);
+    cb.recordOutcome("localhost", 389, ResultCode.SUCCESS);
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.CLOSED);
+    assertTrue(cb.allowRequest("localhost", 389));
+
+    cb.recordOutcome("localhost", 389, ResultCode.NO_SUCH_OBJECT);
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.OPEN);
+    assertTrue(cb.isOpen("localhost", 389));
+    assertFalse(cb.allowRequest("localhost", 389));
+    assertEquals(cb.getOpenServers(),
+         Collections.singleton(new ObjectPair<>("localhost", 389)));
+
+    // Other servers should not be affected.
+    assertEquals(cb.getState("localhost", 636), CircuitBreakerState.CLOSED);
+    assertTrue(cb.allowRequest("localhost", 636));
+
+    // Once the open duration has elapsed, a limited number of trial requests
+    // should be allowed, and the circuit should close once all of them have
+    // succeeded.
+    Thread.sleep(100L);
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.HALF_OPEN);
+    assertFalse(cb.isOpen("localhost", 389));
+    assertTrue(cb.allowRequest("localhost", 389));
+    assertTrue(cb.allowRequest("localhost", 389));
+    assertFalse(cb.allowRequest("localhost", 389));
+
+    cb.recordOutcome("localhost", 389, ResultCode.SUCCESS);
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.HALF_OPEN);
+    cb.recordOutcome("localhost", 389, ResultCode.SUCCESS);
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.CLOSED);
+    assertTrue(cb.allowRequest("localhost", 389));
+
+    // Open the circuit again, and make sure that a failed trial request will
+    // cause it to be reopened.
+    for (int i=0; i < 4; i++)
+    {
+      cb.recordOutcome("localhost", 389, ResultCode.UNAVAILABLE);
+    }
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.OPEN);
+
+    Thread.sleep(100L);
+    assertTrue(cb.allowRequest("localhost", 389));
+    cb.recordOutcome("localhost", 389, ResultCode.TIMEOUT);
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.OPEN);
+    assertFalse(cb.allowRequest("localhost", 389));
+
+    cb.reset();
+    assertEquals(cb.getState("localhost", 389), CircuitBreakerState.CLOSED);
+    assertTrue(cb.getOpenServers().isEmpty());
+  }
+
+
+
+  /**
+   * Tests the behavior of a circuit breaker used with a round-robin server set
+   * when one of the servers is rejecting requests as busy.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWithRoundRobinServerSet()
+       throws Exception
+  {
+    final String[] addresses = { "localhost", "localhost" };
+    final int[] ports =
+    {
+      busyDS.getListenPort(),
+      healthyDS.getListenPort()
+    };
+
+    final RoundRobinServerSet serverSet =
+         new RoundRobinServerSet(addresses, ports);
+    assertNull(serverSet.getCircuitBreaker());
+
+    final ServerCircuitBreaker cb =
+         new ServerCircuitBreaker(4, 0.5d, 60_000L, 1);
+    serverSet.setCircuitBreaker(cb);
+    assertSame(serverSet.getCircuitBreaker(), cb);
+
+    // Get a connection to the busy server.
+    LDAPConnection busyConn = null;
+    for (int i=0; i < 2; i++)
+    {
+      final LDAPConnection conn = serverSet.getConnection();
+      if (conn.getConnectedPort() == busyDS.getListenPort())
+      {
+        busyConn = conn;
+      }
+      else
+      {
+        conn.close();
+      }
+    }
+    assertNotNull(busyConn);
+
+    // Send enough requests to open the circuit for the busy server.
+    for (int i=0; i < 4; i++)
+    {
+      try
+      {
+        busyConn.compare("dc=example,dc=com", "dc", "example");
+        fail("Expected a busy result from the busy server");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.BUSY);
+      }
+    }
+
+    assertTrue(cb.isOpen("localhost", busyDS.getListenPort()));
+    assertFalse(cb.isOpen("localhost", healthyDS.getListenPort()));
+
+    // Subsequent requests should be rejected without being sent.
+    try
+    {
+      busyConn.compare("dc=example,dc=com", "dc", "example");
+      fail("Expected the request to be rejected by the circuit breaker");
+    }
+    catch (final LDAPException le)
+    {
+      assertEquals(le.getResultCode(), ResultCode.CIRCUIT_BREAKER_OPEN);
+    }
+    busyConn.close();
+
+    // The server set should now prefer the healthy server.
+    for (int i=0; i < 4; i++)
+    {
+      final LDAPConnection conn = serverSet.getConnection();
+      assertEquals(conn.getConnectedPort(), healthyDS.getListenPort());
+      assertTrue(conn.compare("dc=example,dc=com", "dc", "example").
+           compareMatched());
+      conn.close();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of a circuit breaker used with a connection pool to
+   * ensure that new connections can still be authenticated and that requests
+   * rejected by the circuit breaker do not cause connections to be replaced.
+   *
+   * @throws Exception If an unexpected problem occurs.
+   */
+  @Test()
+  public void testWithConnectionPool()
+       throws Exception
+  {
+    final ServerCircuitBreaker cb =
+         new ServerCircuitBreaker(4, 0.5d, 60_000L, 1);
+    for (int i=0; i < 4; i++)
+    {
+      cb.recordOutcome("localhost", healthyDS.getListenPort(),
+           ResultCode.UNAVAILABLE);
+    }
+    assertTrue(cb.isOpen("localhost", healthyDS.getListenPort()));
+
+    final SingleServerSet serverSet =
+         new SingleServerSet("localhost", healthyDS.getListenPort());
+    serverSet.setCircuitBreaker(cb);
+
+    final LDAPConnectionPool pool =
+         new LDAPConnectionPool(serverSet, new SimpleBindRequest(), 1);
+    try
+    {
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+
+      try
+      {
+        pool.compare("dc=example,dc=com", "dc", "example");
+        fail("Expected the request to be rejected by the circuit breaker");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.CIRCUIT_BREAKER_OPEN);
+      }
+
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+      assertEquals(pool.getConnectionPoolStatistics().
+           getNumConnectionsClosedDefunct(), 0L);
+
+      cb.reset();
+      assertTrue(pool.compare("dc=example,dc=com", "dc", "example").
+           compareMatched());
+
+      // Once some other request has been sent on the connection, binds are
+      // subject to the circuit breaker as well.
+      for (int i=0; i < 4; i++)
+      {
+        cb.recordOutcome("localhost", healthyDS.getListenPort(),
+             ResultCode.UNAVAILABLE);
+      }
+
+      try
+      {
+        pool.bindAndRevertAuthentication(new SimpleBindRequest());
+        fail("Expected the bind to be rejected by the circuit breaker");
+      }
+      catch (final LDAPException le)
+      {
+        assertEquals(le.getResultCode(), ResultCode.CIRCUIT_BREAKER_OPEN);
+      }
+
+      assertEquals(pool.getCurrentAvailableConnections(), 1);
+      assertEquals(pool.getConnectionPoolStatistics().
+           getNumConnectionsClosedDefunct(), 0L);
+    }
+    finally
+    {
+      pool.close();
+    }
+  }
+}
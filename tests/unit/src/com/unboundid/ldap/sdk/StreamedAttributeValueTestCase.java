@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.asn1.ASN1StreamReader;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+
+
+
+/**
+ * This class provides a set of test cases for streamed attribute values and
+ * for search result entries that include them.
+ */
+public class StreamedAttributeValueTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a streamed attribute value that is held in memory.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testInMemoryValue()
+         throws Exception
+  {
+    final byte[] bytes = { 0x01, 0x02, 0x03, 0x04 };
+    final StreamedAttributeValue value =
+         new StreamedAttributeValue("jpegPhoto", bytes);
+
+    assertEquals(value.getAttributeName(), "jpegPhoto");
+    assertEquals(value.getLength(), 4L);
+    assertFalse(value.isInFile());
+    assertNull(value.getFile());
+    assertTrue(Arrays.equals(readFully(value), bytes));
+    assertNotNull(value.toString());
+
+    value.close();
+  }
+
+
+
+  /**
+   * Tests the behavior when retrieving entries over a connection that is
+   * configured to stream the values of a large attribute.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithStreamedAttribute()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final byte[] largeValue = new byte[100_000];
+    for (int i=0; i < largeValue.length; i++)
+    {
+      largeValue[i] = (byte) (i % 253);
+    }
+    final byte[] smallValue = { 0x01, 0x02, 0x03 };
+
+    final String userDN = "uid=test.user,ou=People,dc=example,dc=com";
+    ds.modify(new ModifyRequest(userDN,
+         new Modification(ModificationType.ADD, "jpegPhoto", largeValue,
+              smallValue)));
+
+    final File tempDir = createTempDir();
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setStreamedAttributes("JPEGPhoto");
+    options.setStreamedAttributeValueMaxMemorySize(1024);
+    options.setStreamedAttributeValueTempDirectory(tempDir);
+
+    final LDAPConnection conn = ds.getConnection(options);
+    final SearchResultEntry entry = conn.getEntry(userDN);
+    assertNotNull(entry);
+
+    assertFalse(entry.hasAttribute("jpegPhoto"));
+    assertEquals(entry.getAttributeValue("givenName"), "Test");
+
+    final List<StreamedAttributeValue> values =
+         entry.getStreamedAttributeValues("jpegPhoto");
+    assertEquals(values.size(), 2);
+    assertEquals(entry.getStreamedAttributeValues().size(), 2);
+    assertTrue(entry.getStreamedAttributeValues("givenName").isEmpty());
+
+    StreamedAttributeValue fileValue = null;
+    StreamedAttributeValue memoryValue = null;
+    for (final StreamedAttributeValue v : values)
+    {
+      if (v.isInFile())
+      {
+        fileValue = v;
+      }
+      else
+      {
+        memoryValue = v;
+      }
+    }
+
+    assertNotNull(fileValue);
+    assertEquals(fileValue.getLength(), (long) largeValue.length);
+    assertEquals(fileValue.getFile().getParentFile(), tempDir);
+    assertTrue(fileValue.getFile().exists());
+    assertTrue(Arrays.equals(readFully(fileValue), largeValue));
+
+    assertNotNull(memoryValue);
+    assertEquals(memoryValue.getLength(), (long) smallValue.length);
+    assertTrue(Arrays.equals(readFully(memoryValue), smallValue));
+
+    final File file = fileValue.getFile();
+    entry.closeStreamedAttributeValues();
+    assertFalse(file.exists());
+
+    final SearchResultEntry plainEntry = ds.getConnection().getEntry(userDN);
+    assertTrue(plainEntry.hasAttribute("jpegPhoto"));
+    assertTrue(plainEntry.getStreamedAttributeValues().isEmpty());
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that a connection configured to stream attribute values
+   * uses a dedicated reader thread even if it is also configured to use a
+   * shared selector reader.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStreamedAttributesDisableSelectorReader()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setUseSelectorReader(true);
+
+    final LDAPConnection selectorConn = ds.getConnection(options);
+    assertTrue(selectorConn.usesSelectorReader());
+    selectorConn.close();
+
+    options.setStreamedAttributes("jpegPhoto");
+    final LDAPConnection streamingConn = ds.getConnection(options);
+    assertFalse(streamingConn.usesSelectorReader());
+    assertNotNull(streamingConn.getRootDSE());
+    streamingConn.close();
+  }
+
+
+
+  /**
+   * Tests to ensure that the streamed values of an entry that is discarded
+   * because there is no longer anything waiting for it are closed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testDiscardedEntryValuesClosed()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final LDAPConnection conn = ds.getConnection();
+
+    final ASN1StreamReader reader = new ASN1StreamReader(
+         new ByteArrayInputStream(
+              new ASN1OctetString(new byte[2048]).encode()));
+    final StreamedAttributeValue value = StreamedAttributeValue.readFrom(
+         reader, "jpegPhoto", 1024, createTempDir());
+    assertTrue(value.isInFile());
+
+    final File file = value.getFile();
+    assertTrue(file.exists());
+
+    final SearchResultEntry entry = new SearchResultEntry(12345,
+         new Entry("dc=example,dc=com"), Collections.singletonList(value));
+    conn.getConnectionInternals(true).getConnectionReader().processResponse(
+         entry);
+    assertFalse(file.exists());
+
+    conn.close();
+  }
+
+
+
+  /**
+   * Reads the full contents of the provided streamed attribute value.
+   *
+   * @param  value  The value to read.
+   *
+   * @return  The bytes of the value.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static byte[] readFully(final StreamedAttributeValue value)
+          throws Exception
+  {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (InputStream inputStream = value.getInputStream())
+    {
+      final byte[] buffer = new byte[8192];
+      while (true)
+      {
+        final int bytesRead = inputStream.read(buffer);
+        if (bytesRead < 0)
+        {
+          break;
+        }
+
+        outputStream.write(buffer, 0, bytesRead);
+      }
+    }
+
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.ldap.sdk;
+
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.util.LDAPSDKUsageException;
+import com.unboundid.util.ObjectPair;
+
+
+
+/**
+ * This class provides a set of test cases for the striped connection queue.
+ */
+public class StripedConnectionQueueTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of the queue with a single stripe.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSingleStripe()
+         throws Exception
+  {
+    final StripedConnectionQueue queue = new StripedConnectionQueue(2, 1);
+    assertEquals(queue.getNumStripes(), 1);
+    assertEquals(queue.size(), 0);
+    assertEquals(queue.remainingCapacity(), 2);
+    assertNull(queue.poll());
+    assertNull(queue.pollOldest());
+
+    final LDAPConnection c1 = new LDAPConnection();
+    final LDAPConnection c2 = new LDAPConnection();
+    final LDAPConnection c3 = new LDAPConnection();
+
+    assertTrue(queue.offer(c1));
+    assertTrue(queue.offer(c2));
+    assertFalse(queue.offer(c3));
+    assertEquals(queue.size(), 2);
+    assertEquals(queue.remainingCapacity(), 0);
+
+    final HashSet<LDAPConnection> iterated = new HashSet<>(2);
+    for (final LDAPConnection c : queue)
+    {
+      iterated.add(c);
+    }
+    assertEquals(iterated.size(), 2);
+    assertTrue(iterated.containsAll(Arrays.asList(c1, c2)));
+
+    // Regular checkouts should be last-in-first-out.
+    assertSame(queue.poll(), c2);
+    assertTrue(queue.offer(c2));
+    assertSame(queue.poll(), c2);
+    assertSame(queue.poll(), c1);
+    assertNull(queue.poll());
+    assertEquals(queue.size(), 0);
+  }
+
+
+
+  /**
+   * Tests that repeatedly retrieving and releasing the oldest connection
+   * will cycle through all of the available connections.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPollOldestCyclesThroughConnections()
+         throws Exception
+  {
+    final StripedConnectionQueue queue = new StripedConnectionQueue(10, 8);
+    assertEquals(queue.getNumStripes(), 8);
+
+    final List<LDAPConnection> connections = new ArrayList<>(5);
+    for (int i=0; i < 5; i++)
+    {
+      final LDAPConnection c = new LDAPConnection();
+      connections.add(c);
+      assertTrue(queue.offer(c));
+      Thread.sleep(1L);
+    }
+
+    final HashSet<LDAPConnection> examined = new HashSet<>(5);
+    for (int i=0; i < 5; i++)
+    {
+      final LDAPConnection c = queue.pollOldest();
+      assertSame(c, connections.get(i));
+      assertTrue(examined.add(c));
+      assertTrue(queue.offer(c));
+    }
+
+    assertTrue(examined.contains(queue.pollOldest()));
+
+    final ArrayList<LDAPConnection> drained = new ArrayList<>(5);
+    assertEquals(queue.drainTo(drained), 4);
+    assertEquals(queue.size(), 0);
+  }
+
+
+
+  /**
+   * Tests that a thread can take connections released by other threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStealFromOtherStripes()
+         throws Exception
+  {
+    final StripedConnectionQueue queue = new StripedConnectionQueue(100, 64);
+    assertEquals(queue.getNumStripes(), 64);
+
+    final List<Thread> threads = new ArrayList<>(10);
+    for (int i=0; i < 10; i++)
+    {
+      final Thread t = new Thread()
+      {
+        @Override()
+        public void run()
+        {
+          queue.offer(new LDAPConnection());
+        }
+      };
+      threads.add(t);
+      t.start();
+    }
+
+    for (final Thread t : threads)
+    {
+      t.join();
+    }
+
+    assertEquals(queue.size(), 10);
+    for (int i=0; i < 10; i++)
+    {
+      assertNotNull(queue.poll());
+    }
+    assertNull(queue.poll());
+    assertEquals(queue.size(), 0);
+  }
+
+
+
+  /**
+   * Tests the behavior when retrieving connections established to a specific
+   * server.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPollForServer()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds1 = getTestDS();
+    final InMemoryDirectoryServer ds2 =
+         new InMemoryDirectoryServer("dc=example,dc=com");
+    ds2.startListening();
+
+    final int port1 = ds1.getListenPort();
+    final int port2 = ds2.getListenPort();
+    final List<LDAPConnection> connections = new ArrayList<>(6);
+    try
+    {
+      final StripedConnectionQueue queue = new StripedConnectionQueue(10, 4);
+      assertNull(queue.poll("localhost", port1));
+      assertTrue(queue.getServers().isEmpty());
+
+      for (int i=0; i < 3; i++)
+      {
+        final LDAPConnection c1 = new LDAPConnection("localhost", port1);
+        final LDAPConnection c2 = new LDAPConnection("localhost", port2);
+        connections.add(c1);
+        connections.add(c2);
+        assertTrue(queue.offer(c1));
+        assertTrue(queue.offer(c2));
+      }
+
+      assertEquals(queue.size(), 6);
+      assertEquals(queue.getServers(),
+           Arrays.asList(new ObjectPair<>("localhost", port1),
+                new ObjectPair<>("localhost", port2)));
+      assertNull(queue.poll("localhost", 1));
+
+      // The most recently released connection to the server should be
+      // returned.
+      final LDAPConnection conn = queue.poll("localhost", port1);
+      assertSame(conn, connections.get(4));
+      assertTrue(queue.offer(conn));
+      assertSame(queue.poll("localhost", port1), conn);
+
+      for (int i=0; i < 2; i++)
+      {
+        final LDAPConnection c = queue.poll("localhost", port1);
+        assertNotNull(c);
+        assertEquals(c.getConnectedPort(), port1);
+      }
+      assertNull(queue.poll("localhost", port1));
+      assertEquals(queue.size(), 3);
+
+      // The most recently released connection to any server should be
+      // returned when no server is specified.
+      assertTrue(queue.offer(conn));
+      assertSame(queue.poll(), conn);
+
+      final HashSet<LDAPConnection> remaining = new HashSet<>(3);
+      for (final LDAPConnection c : queue)
+      {
+        assertEquals(c.getConnectedPort(), port2);
+        remaining.add(c);
+      }
+      assertEquals(remaining.size(), 3);
+
+      assertSame(queue.pollOldest(), connections.get(1));
+      assertNotNull(queue.poll());
+      assertNotNull(queue.poll("localhost", port2));
+      assertNull(queue.poll("localhost", port2));
+      assertNull(queue.poll());
+      assertEquals(queue.size(), 0);
+    }
+    finally
+    {
+      for (final LDAPConnection c : connections)
+      {
+        c.close();
+      }
+
+      ds2.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior when waiting for a connection to become available.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testPollWithTimeout()
+         throws Exception
+  {
+    final StripedConnectionQueue queue = new StripedConnectionQueue(1);
+
+    final long startTime = System.currentTimeMillis();
+    assertNull(queue.poll(50L, TimeUnit.MILLISECONDS));
+    assertTrue((System.currentTimeMillis() - startTime) >= 45L);
+
+    final LDAPConnection conn = new LDAPConnection();
+    final AtomicReference<LDAPConnection> ref = new AtomicReference<>();
+    final Thread waiter = new Thread()
+    {
+      @Override()
+      public void run()
+      {
+        try
+        {
+          ref.set(queue.poll(60L, TimeUnit.SECONDS));
+        }
+        catch (final InterruptedException e)
+        {
+          // This will cause the test to fail.
+        }
+      }
+    };
+    waiter.start();
+
+    Thread.sleep(100L);
+    assertTrue(queue.offer(conn));
+    waiter.join(30_000L);
+
+    assertFalse(waiter.isAlive());
+    assertSame(ref.get(), conn);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a queue with an invalid capacity.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidCapacity()
+         throws Exception
+  {
+    new StripedConnectionQueue(0);
+  }
+}
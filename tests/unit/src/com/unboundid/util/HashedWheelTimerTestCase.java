@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+
+
+
+/**
+ * This class provides a set of test cases for the hashed wheel timer.
+ */
+public final class HashedWheelTimerTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior of a task that is executed once.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testScheduleOnce()
+         throws Exception
+  {
+    final HashedWheelTimer timer = new HashedWheelTimer("testScheduleOnce", 5L,
+         5);
+    try
+    {
+      assertEquals(timer.getTickDurationMillis(), 5L);
+      assertEquals(timer.getWheelSize(), 8);
+      assertFalse(timer.isStopped());
+
+      final TestTask task = new TestTask(1);
+      final long scheduleTime = System.nanoTime();
+      timer.schedule(task, 50L);
+      assertEquals(timer.getNumScheduled(), 1L);
+      assertEquals(timer.getNumPending(), 1L);
+
+      assertTrue(task.latch.await(10L, TimeUnit.SECONDS));
+      assertTrue((task.firstRunTime - scheduleTime) >=
+           TimeUnit.MILLISECONDS.toNanos(50L));
+
+      Thread.sleep(50L);
+      assertEquals(task.numRuns.get(), 1);
+      assertEquals(timer.getNumExecuted(), 1L);
+      assertEquals(timer.getNumPending(), 0L);
+      assertFalse(task.cancel());
+      assertFalse(task.isCancelled());
+      assertNotNull(timer.toString());
+
+      try
+      {
+        timer.schedule(task, 10L);
+        fail("Expected an exception when rescheduling a task");
+      }
+      catch (final IllegalStateException e)
+      {
+        // This was expected.
+      }
+    }
+    finally
+    {
+      timer.stop();
+    }
+  }
+
+
+
+  /**
+   * Tests that tasks whose delays span several rotations of the wheel are
+   * executed in the right order and never before their delay has elapsed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMultipleRotations()
+         throws Exception
+  {
+    final HashedWheelTimer timer = new HashedWheelTimer(
+         "testMultipleRotations", 2L, 4);
+    try
+    {
+      final List<TestTask> tasks = new ArrayList<>(20);
+      final List<Long> scheduleTimes = new ArrayList<>(20);
+      for (int i=0; i < 20; i++)
+      {
+        final TestTask task = new TestTask(1);
+        tasks.add(task);
+        scheduleTimes.add(System.nanoTime());
+        timer.schedule(task, (i * 5L));
+      }
+
+      for (int i=0; i < 20; i++)
+      {
+        final TestTask task = tasks.get(i);
+        assertTrue(task.latch.await(10L, TimeUnit.SECONDS));
+        assertTrue((task.firstRunTime - scheduleTimes.get(i)) >=
+             TimeUnit.MILLISECONDS.toNanos(i * 5L));
+      }
+
+      assertEquals(timer.getNumExecuted(), 20L);
+    }
+    finally
+    {
+      timer.stop();
+    }
+  }
+
+
+
+  /**
+   * Tests the ability to cancel a task before it is executed.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testCancel()
+         throws Exception
+  {
+    final HashedWheelTimer timer = new HashedWheelTimer("testCancel", 5L, 8);
+    try
+    {
+      final TestTask cancelledTask = new TestTask(1);
+      assertFalse(cancelledTask.cancel());
+      timer.schedule(cancelledTask, 50L);
+
+      final TestTask otherTask = new TestTask(1);
+      timer.schedule(otherTask, 100L);
+
+      assertTrue(cancelledTask.cancel());
+      assertTrue(cancelledTask.isCancelled());
+      assertFalse(cancelledTask.cancel());
+      assertEquals(timer.getNumCancelled(), 1L);
+      assertEquals(timer.getNumPending(), 1L);
+
+      assertTrue(otherTask.latch.await(10L, TimeUnit.SECONDS));
+      assertEquals(cancelledTask.numRuns.get(), 0);
+      assertEquals(timer.getNumExecuted(), 1L);
+      assertEquals(timer.getNumPending(), 0L);
+
+      try
+      {
+        timer.schedule(cancelledTask, 10L);
+        fail("Expected an exception when scheduling a cancelled task");
+      }
+      catch (final IllegalStateException e)
+      {
+        // This was expected.
+      }
+    }
+    finally
+    {
+      timer.stop();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of a periodic task, including one that throws an
+   * exception.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testScheduleAtFixedRate()
+         throws Exception
+  {
+    final HashedWheelTimer timer = new HashedWheelTimer(
+         "testScheduleAtFixedRate", 5L, 16);
+    try
+    {
+      final TestTask task = new TestTask(3);
+      task.throwException = true;
+      timer.scheduleAtFixedRate(task, 10L, 10L);
+
+      assertTrue(task.latch.await(10L, TimeUnit.SECONDS));
+      assertTrue(task.cancel());
+      assertTrue(task.isCancelled());
+
+      final int numRuns = task.numRuns.get();
+      Thread.sleep(100L);
+      assertTrue(task.numRuns.get() <= (numRuns + 1));
+      assertEquals(timer.getNumPending(), 0L);
+    }
+    finally
+    {
+      timer.stop();
+    }
+  }
+
+
+
+  /**
+   * Tests the behavior of the timer after it has been stopped, and ensures
+   * that the shared timer cannot be stopped.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStop()
+         throws Exception
+  {
+    final HashedWheelTimer timer = new HashedWheelTimer("testStop", 10L, 8);
+    timer.stop();
+    assertTrue(timer.isStopped());
+
+    try
+    {
+      timer.schedule(new TestTask(1), 10L);
+      fail("Expected an exception when scheduling with a stopped timer");
+    }
+    catch (final IllegalStateException e)
+    {
+      // This was expected.
+    }
+
+    final HashedWheelTimer sharedTimer = HashedWheelTimer.getSharedTimer();
+    assertSame(HashedWheelTimer.getSharedTimer(), sharedTimer);
+    sharedTimer.stop();
+    assertFalse(sharedTimer.isStopped());
+
+    final TestTask task = new TestTask(1);
+    sharedTimer.schedule(task, 1L);
+    assertTrue(task.latch.await(10L, TimeUnit.SECONDS));
+  }
+
+
+
+  /**
+   * A task that records when it is executed.
+   */
+  private static final class TestTask
+          extends HashedWheelTimerTask
+  {
+    // A counter for the number of times the task has run.
+    private final AtomicInteger numRuns = new AtomicInteger(0);
+
+    // A latch that will be released after the expected number of runs.
+    private final CountDownLatch latch;
+
+    // Indicates whether the task should throw an exception.
+    private volatile boolean throwException = false;
+
+    // The time that the task first ran.
+    private volatile long firstRunTime = 0L;
+
+
+
+    /**
+     * Creates a new test task.
+     *
+     * @param  expectedRuns  The number of runs after which to release the
+     *                       latch.
+     */
+    private TestTask(final int expectedRuns)
+    {
+      latch = new CountDownLatch(expectedRuns);
+    }
+
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override()
+    public void run()
+    {
+      if (numRuns.getAndIncrement() == 0)
+      {
+        firstRunTime = System.nanoTime();
+      }
+
+      latch.countDown();
+
+      if (throwException)
+      {
+        throw new RuntimeException("Test exception");
+      }
+    }
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.SearchResult;
+import com.unboundid.ldap.sdk.SearchResultEntry;
+import com.unboundid.ldap.sdk.SearchScope;
+
+
+
+/**
+ * This class provides a set of test cases for the {@code StringInternTable}
+ * class.
+ */
+public class StringInternTableTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the basic behavior of a string intern table.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testIntern()
+         throws Exception
+  {
+    final StringInternTable table = new StringInternTable();
+    assertEquals(table.getMaxSize(), StringInternTable.DEFAULT_MAX_SIZE);
+    assertEquals(table.size(), 0);
+    assertEquals(table.getHitCount(), 0L);
+    assertEquals(table.getMissCount(), 0L);
+    assertEquals(table.getHitRatio(), 0.0d);
+    assertNotNull(table.toString());
+
+    assertNull(table.intern(null));
+    assertEquals(table.getMissCount(), 0L);
+
+    final String first = new String("objectClass");
+    final String second = new String("objectClass");
+    assertNotSame(first, second);
+
+    assertSame(table.intern(first), first);
+    assertSame(table.intern(second), first);
+    assertEquals(table.size(), 1);
+    assertEquals(table.getHitCount(), 1L);
+    assertEquals(table.getMissCount(), 1L);
+    assertEquals(table.getHitRatio(), 0.5d);
+
+    table.clear();
+    assertEquals(table.size(), 0);
+    assertEquals(table.getHitCount(), 0L);
+    assertEquals(table.getMissCount(), 0L);
+    assertSame(table.intern(second), second);
+  }
+
+
+
+  /**
+   * Tests the behavior of a string intern table once it has reached its
+   * maximum size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testMaxSize()
+         throws Exception
+  {
+    final StringInternTable table = new StringInternTable(2);
+    assertEquals(table.getMaxSize(), 2);
+
+    table.intern("a");
+    table.intern("b");
+    assertEquals(table.size(), 2);
+
+    final String c1 = new String("c");
+    final String c2 = new String("c");
+    assertSame(table.intern(c1), c1);
+    assertSame(table.intern(c2), c2);
+    assertEquals(table.size(), 2);
+    assertEquals(table.getMissCount(), 4L);
+
+    assertEquals(table.intern(new String("a")), "a");
+    assertEquals(table.getHitCount(), 1L);
+  }
+
+
+
+  /**
+   * Tests the behavior when trying to create a table with an invalid maximum
+   * size.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test(expectedExceptions = { LDAPSDKUsageException.class })
+  public void testInvalidMaxSize()
+         throws Exception
+  {
+    new StringInternTable(0);
+  }
+
+
+
+  /**
+   * Tests that attribute names are shared across search result entries read
+   * over a connection that is configured with a string intern table.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testSearchWithInternTable()
+         throws Exception
+  {
+    final InMemoryDirectoryServer ds = getTestDS(true, true);
+    final StringInternTable table = new StringInternTable();
+
+    final LDAPConnectionOptions options = new LDAPConnectionOptions();
+    options.setStringInternTable(table);
+    assertSame(options.getStringInternTable(), table);
+    assertTrue(options.toString().contains("stringInternTableMaxSize"));
+
+    final LDAPConnection eagerConn = ds.getConnection(options);
+    assertSearchSharesNames(eagerConn);
+    eagerConn.close();
+
+    options.setLazilyDecodeSearchEntries(true);
+    final LDAPConnection lazyConn = ds.getConnection(options);
+    assertSearchSharesNames(lazyConn);
+    lazyConn.close();
+
+    options.setLazilyDecodeSearchEntries(false);
+    options.setStreamedAttributes("jpegPhoto");
+    final LDAPConnection streamingConn = ds.getConnection(options);
+    assertSearchSharesNames(streamingConn);
+    streamingConn.close();
+
+    assertTrue(table.getHitCount() > 0L);
+    assertTrue(table.getHitRatio() > 0.0d);
+
+    final LDAPConnection plainConn = ds.getConnection();
+    final SearchResult plainResult = plainConn.search("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)");
+    assertEquals(plainResult.getEntryCount(), 3);
+    plainConn.close();
+  }
+
+
+
+  /**
+   * Performs a search over the provided connection and ensures that the
+   * {@code objectClass} attribute name of every entry is the same instance.
+   *
+   * @param  conn  The connection to use for the search.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  private static void assertSearchSharesNames(final LDAPConnection conn)
+          throws Exception
+  {
+    final SearchResult result = conn.search("dc=example,dc=com",
+         SearchScope.SUB, "(objectClass=*)");
+    assertEquals(result.getEntryCount(), 3);
+
+    String objectClassName = null;
+    for (final SearchResultEntry e : result.getSearchEntries())
+    {
+      final String name = e.getObjectClassAttribute().getName();
+      if (objectClassName == null)
+      {
+        objectClassName = name;
+      }
+      else
+      {
+        assertSame(name, objectClassName);
+      }
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 Ping Identity Corporation
+ * All Rights Reserved.
+ */
+/*
+ * Copyright 2026 Ping Identity Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/*
+ * Copyright (C) 2026 Ping Identity Corporation
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPLv2 only)
+ * or the terms of the GNU Lesser General Public License (LGPLv2.1 only)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, see <http://www.gnu.org/licenses>.
+ */
+package com.unboundid.util;
+
+
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import com.unboundid.ldap.listener.CannedResponseRequestHandler;
+import com.unboundid.ldap.listener.LDAPListener;
+import com.unboundid.ldap.listener.LDAPListenerConfig;
+import com.unboundid.ldap.sdk.DeleteRequest;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionOptions;
+import com.unboundid.ldap.sdk.LDAPSDKTestCase;
+import com.unboundid.ldap.sdk.ResultCode;
+
+
+
+/**
+ * This class provides a set of test cases for the virtual thread support
+ * class.  The tests are written so that they will pass regardless of whether
+ * the JVM used to run them supports virtual threads.
+ */
+public final class VirtualThreadSupportTestCase
+       extends LDAPSDKTestCase
+{
+  /**
+   * Tests the behavior when creating threads with the newThread method.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testNewThread()
+         throws Exception
+  {
+    assertFalse(VirtualThreadSupport.useVirtualThreadsByDefault());
+    assertFalse(VirtualThreadSupport.isVirtual(Thread.currentThread()));
+
+    final Thread platformThread = VirtualThreadSupport.newThread(
+         new TestRunnable(), "Platform Thread", true, null, false);
+    assertEquals(platformThread.getName(), "Platform Thread");
+    assertTrue(platformThread.isDaemon());
+    assertFalse(VirtualThreadSupport.isVirtual(platformThread));
+
+    final TestRunnable runnable = new TestRunnable();
+    final Thread virtualThread = VirtualThreadSupport.newThread(runnable,
+         "Virtual Thread", false, null, true);
+    assertEquals(virtualThread.getName(), "Virtual Thread");
+    assertEquals(VirtualThreadSupport.isVirtual(virtualThread),
+         VirtualThreadSupport.isSupported());
+    assertFalse(virtualThread.isAlive());
+
+    virtualThread.start();
+    assertTrue(runnable.latch.await(10L, TimeUnit.SECONDS));
+    assertEquals(runnable.runningThread.get(), virtualThread);
+    virtualThread.join(10_000L);
+  }
+
+
+
+  /**
+   * Tests the behavior when using the start method to start a thread.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testStart()
+         throws Exception
+  {
+    final TestThread platformThread = new TestThread();
+    assertSame(VirtualThreadSupport.start(platformThread, false),
+         platformThread);
+    assertTrue(platformThread.latch.await(10L, TimeUnit.SECONDS));
+    assertSame(platformThread.runningThread.get(), platformThread);
+    platformThread.join(10_000L);
+
+    final TestThread t = new TestThread();
+    final Thread startedThread = VirtualThreadSupport.start(t, true);
+    assertTrue(t.latch.await(10L, TimeUnit.SECONDS));
+    assertSame(t.runningThread.get(), startedThread);
+    assertEquals(startedThread.getName(), t.getName());
+
+    if (VirtualThreadSupport.isSupported())
+    {
+      assertNotSame(startedThread, t);
+      assertTrue(VirtualThreadSupport.isVirtual(startedThread));
+    }
+    else
+    {
+      assertSame(startedThread, t);
+    }
+
+    startedThread.join(10_000L);
+  }
+
+
+
+  /**
+   * Tests the LDAP SDK thread factory with virtual threads requested.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testThreadFactory()
+         throws Exception
+  {
+    final LDAPSDKThreadFactory defaultFactory =
+         new LDAPSDKThreadFactory("Default", true);
+    final Thread defaultThread = defaultFactory.newThread(new TestRunnable());
+    assertEquals(defaultThread.getName(), "Default 1");
+    assertTrue(defaultThread.isDaemon());
+    assertFalse(VirtualThreadSupport.isVirtual(defaultThread));
+
+    final LDAPSDKThreadFactory virtualFactory =
+         new LDAPSDKThreadFactory("Virtual", false, null, true);
+    final Thread virtualThread = virtualFactory.newThread(new TestRunnable());
+    assertEquals(virtualThread.getName(), "Virtual 1");
+    assertEquals(VirtualThreadSupport.isVirtual(virtualThread),
+         VirtualThreadSupport.isSupported());
+  }
+
+
+
+  /**
+   * Tests the use of a connection and a listener configured to use virtual
+   * threads.
+   *
+   * @throws  Exception  If an unexpected problem occurs.
+   */
+  @Test()
+  public void testConnectionAndListenerWithVirtualThreads()
+         throws Exception
+  {
+    final LDAPListenerConfig listenerConfig =
+         new LDAPListenerConfig(0, new CannedResponseRequestHandler());
+    listenerConfig.setUseVirtualThreads(true);
+
+    final LDAPListener listener = new LDAPListener(listenerConfig);
+    listener.startListening();
+
+    try
+    {
+      final LDAPConnectionOptions options = new LDAPConnectionOptions();
+      options.setUseVirtualThreads(true);
+
+      try (LDAPConnection conn = new LDAPConnection(options, "localhost",
+                listener.getListenPort()))
+      {
+        for (int i=0; i < 5; i++)
+        {
+          assertResultCodeEquals(
+               conn.delete(new DeleteRequest("dc=example,dc=com")),
+               ResultCode.SUCCESS);
+        }
+      }
+    }
+    finally
+    {
+      listener.shutDown(true);
+    }
+  }
+
+
+
+  /**
+   * A runnable that records the thread used to invoke it.
+   */
+  private static final class TestRunnable
+          implements Runnable
+  {
+    // The thread that invoked this runnable.
+    private final AtomicReference<Thread> runningThread =
+         new AtomicReference<>();
+
+    // A latch that will be released when this runnable is invoked.
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+
+
+    /**
+     * Records the current thread and releases the latch.
+     */
+    @Override()
+    public void run()
+    {
+      runningThread.set(Thread.currentThread());
+      latch.countDown();
+    }
+  }
+
+
+
+  /**
+   * A thread that records the thread used to invoke its run method.
+   */
+  private static final class TestThread
+          extends Thread
+  {
+    // The thread that invoked this thread's run method.
+    private final AtomicReference<Thread> runningThread =
+         new AtomicReference<>();
+
+    // A latch that will be released when this thread's run method is invoked.
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+
+
+    /**
+     * Creates a new instance of this test thread.
+     */
+    private TestThread()
+    {
+      setName("VirtualThreadSupportTestCase Test Thread");
+      setDaemon(true);
+    }
+
+
+
+    /**
+     * Records the current thread and releases the latch.
+     */
+    @Override()
+    public void run()
+    {
+      runningThread.set(Thread.currentThread());
+      latch.countDown();
+    }
+  }
+}